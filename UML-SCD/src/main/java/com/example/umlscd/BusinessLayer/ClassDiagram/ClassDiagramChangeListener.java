@@ -0,0 +1,53 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+/**
+ * <h1>Class Diagram Change Listener</h1>
+ *
+ * <p>The {@code ClassDiagramChangeListener} interface is implemented by components that keep state derived from a
+ * class diagram up to date. Listeners are registered with the {@link ClassDiagramChangeTracker}, which forwards every
+ * model mutation reported to it, so they see exactly the changes that the incremental save mode persists.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Receiving created, modified and removed elements.</li>
+ *     <li>Receiving created, modified and removed relationships.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public interface ClassDiagramChangeListener {
+
+    /**
+     * Called when an element has been created or modified.
+     *
+     * @param element The class or interface that changed.
+     */
+    void elementChanged(UMLElementBoxInterface element);
+
+    /**
+     * Called when an element has been removed from the diagram.
+     *
+     * @param name The name of the removed class or interface.
+     */
+    void elementRemoved(String name);
+
+    /**
+     * Called when a relationship has been created or modified.
+     *
+     * @param relationship The relationship that changed.
+     */
+    void relationshipChanged(UMLRelationship relationship);
+
+    /**
+     * Called when a relationship has been removed from the diagram.
+     *
+     * @param key The identity key the removed relationship had.
+     */
+    void relationshipRemoved(String key);
+}
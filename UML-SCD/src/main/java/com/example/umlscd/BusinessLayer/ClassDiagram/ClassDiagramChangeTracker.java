@@ -0,0 +1,222 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h1>Class Diagram Change Tracker</h1>
+ *
+ * <p>The {@code ClassDiagramChangeTracker} records which classes, interfaces and relationships of a class diagram
+ * have been created, modified or removed since the diagram was last persisted. The {@code ClassDiagramManager}
+ * reports every model mutation to its tracker, which allows the incremental save mode to write only the changed
+ * records instead of the complete diagram. The mutations are also forwarded to registered
+ * {@link ClassDiagramChangeListener}s, such as the {@link ClassDiagramSlicer}, which keep derived state current.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Tracking changed and removed elements by name.</li>
+ *     <li>Tracking changed and removed relationships by their identity key.</li>
+ *     <li>Treating a rename as the removal of the old record and the creation of a new one.</li>
+ *     <li>Resetting the tracked state once the changes have been persisted.</li>
+ *     <li>Forwarding every change to registered listeners.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassDiagramChangeTracker {
+
+    /**
+     * Elements (classes or interfaces) created or modified since the last save, keyed by name.
+     */
+    private final Map<String, UMLElementBoxInterface> changedElements = new LinkedHashMap<>();
+
+    /**
+     * Names of elements removed since the last save.
+     */
+    private final Set<String> removedElements = new LinkedHashSet<>();
+
+    /**
+     * Relationships created or modified since the last save, keyed by identity key.
+     */
+    private final Map<String, UMLRelationship> changedRelationships = new LinkedHashMap<>();
+
+    /**
+     * Identity keys of relationships removed since the last save.
+     */
+    private final Set<String> removedRelationships = new LinkedHashSet<>();
+
+    /**
+     * The listeners receiving every reported change.
+     */
+    private final List<ClassDiagramChangeListener> listeners = new ArrayList<>();
+
+    /**
+     * Registers a listener receiving every change reported from now on.
+     *
+     * @param listener The listener to add.
+     */
+    public void addListener(ClassDiagramChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeListener(ClassDiagramChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Marks an element as created or modified.
+     *
+     * @param element The class or interface that changed.
+     */
+    public void markElementChanged(UMLElementBoxInterface element) {
+        if (element == null || element.getName() == null) {
+            return;
+        }
+        removedElements.remove(element.getName());
+        changedElements.put(element.getName(), element);
+        listeners.forEach(listener -> listener.elementChanged(element));
+    }
+
+    /**
+     * Marks an element as removed from the diagram.
+     *
+     * @param name The name of the removed class or interface.
+     */
+    public void markElementRemoved(String name) {
+        if (name == null) {
+            return;
+        }
+        changedElements.remove(name);
+        removedElements.add(name);
+        listeners.forEach(listener -> listener.elementRemoved(name));
+    }
+
+    /**
+     * Marks an element as edited, possibly under a new name.
+     *
+     * <p>If the name differs from {@code oldName}, the record stored under the old name is scheduled for removal.</p>
+     *
+     * @param oldName The name the element had before the edit.
+     * @param element The edited class or interface.
+     */
+    public void markElementRenamed(String oldName, UMLElementBoxInterface element) {
+        if (element == null) {
+            return;
+        }
+        if (oldName != null && !oldName.equals(element.getName())) {
+            markElementRemoved(oldName);
+        }
+        markElementChanged(element);
+    }
+
+    /**
+     * Marks a relationship as created or modified.
+     *
+     * @param relationship The relationship that changed.
+     */
+    public void markRelationshipChanged(UMLRelationship relationship) {
+        if (relationship == null) {
+            return;
+        }
+        String key = relationship.identityKey();
+        removedRelationships.remove(key);
+        changedRelationships.put(key, relationship);
+        listeners.forEach(listener -> listener.relationshipChanged(relationship));
+    }
+
+    /**
+     * Marks a relationship as removed, using its identity key as it was last persisted.
+     *
+     * @param key The identity key of the removed relationship.
+     */
+    public void markRelationshipRemoved(String key) {
+        if (key == null) {
+            return;
+        }
+        changedRelationships.remove(key);
+        removedRelationships.add(key);
+        listeners.forEach(listener -> listener.relationshipRemoved(key));
+    }
+
+    /**
+     * Retrieves the elements created or modified since the last save.
+     *
+     * @return An unmodifiable view of the changed elements, keyed by name.
+     */
+    public Map<String, UMLElementBoxInterface> getChangedElements() {
+        return Collections.unmodifiableMap(changedElements);
+    }
+
+    /**
+     * Retrieves the names of elements removed since the last save.
+     *
+     * @return An unmodifiable view of the removed element names.
+     */
+    public Set<String> getRemovedElements() {
+        return Collections.unmodifiableSet(removedElements);
+    }
+
+    /**
+     * Retrieves the relationships created or modified since the last save.
+     *
+     * @return An unmodifiable view of the changed relationships, keyed by identity key.
+     */
+    public Map<String, UMLRelationship> getChangedRelationships() {
+        return Collections.unmodifiableMap(changedRelationships);
+    }
+
+    /**
+     * Retrieves the identity keys of relationships removed since the last save.
+     *
+     * @return An unmodifiable view of the removed relationship keys.
+     */
+    public Set<String> getRemovedRelationships() {
+        return Collections.unmodifiableSet(removedRelationships);
+    }
+
+    /**
+     * Checks whether any change has been recorded since the last save.
+     *
+     * @return {@code true} if there are unsaved changes; {@code false} otherwise.
+     */
+    public boolean isDirty() {
+        return !changedElements.isEmpty() || !removedElements.isEmpty()
+                || !changedRelationships.isEmpty() || !removedRelationships.isEmpty();
+    }
+
+    /**
+     * Retrieves the number of records that an incremental save would write.
+     *
+     * @return The total number of tracked changes.
+     */
+    public int size() {
+        return changedElements.size() + removedElements.size()
+                + changedRelationships.size() + removedRelationships.size();
+    }
+
+    /**
+     * Forgets all tracked changes, typically after they have been persisted. Registered listeners are kept.
+     */
+    public void clear() {
+        changedElements.clear();
+        removedElements.clear();
+        changedRelationships.clear();
+        removedRelationships.clear();
+    }
+}
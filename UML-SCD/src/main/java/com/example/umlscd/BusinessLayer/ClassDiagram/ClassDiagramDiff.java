@@ -0,0 +1,327 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff.Change;
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff.ChangeType;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <h1>Class Diagram Diff</h1>
+ *
+ * <p>The {@code ClassDiagramDiff} class compares two versions of a class diagram structurally and reports the added,
+ * removed, renamed and moved classes and interfaces, their changed attributes, methods and packages, and the added,
+ * removed and changed relationships, as a {@link DiagramDiff}.</p>
+ *
+ * <p>Elements are identified by their name and kind. Elements left over on both sides are then paired as renames when
+ * their content (package and members) is identical, and finally when they are at the same position, which covers an
+ * element renamed and edited in place. Relationships are identified by type, name and endpoints, with the endpoints
+ * of renamed elements translated to their new names. Every step looks elements and relationships up in hash tables,
+ * so the comparison runs in time linear to the size of the diagrams and their members.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Matching elements by name, content and position.</li>
+ *     <li>Reporting element changes with their old and new values.</li>
+ *     <li>Reporting relationship changes across renames.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassDiagramDiff {
+
+    /**
+     * Prevents instantiation; the diff is a set of static operations.
+     */
+    private ClassDiagramDiff() {
+    }
+
+    /**
+     * Compares two versions of a class diagram.
+     *
+     * @param before The earlier version.
+     * @param after  The later version.
+     * @return The changes from the earlier to the later version.
+     */
+    public static DiagramDiff compare(ClassDiagramD before, ClassDiagramD after) {
+        List<UMLElementBoxInterface> beforeElements = elementsOf(before);
+        List<UMLElementBoxInterface> afterElements = elementsOf(after);
+
+        // Pair the elements, by name first and then the leftovers by content and by position
+        Map<UMLElementBoxInterface, UMLElementBoxInterface> matches = new IdentityHashMap<>();
+        Set<UMLElementBoxInterface> matchedBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, UMLElementBoxInterface> beforeByName = new HashMap<>();
+        beforeElements.forEach(element -> beforeByName.putIfAbsent(nameKey(element), element));
+        for (UMLElementBoxInterface element : afterElements) {
+            UMLElementBoxInterface previous = beforeByName.get(nameKey(element));
+            if (previous != null && matchedBefore.add(previous)) {
+                matches.put(element, previous);
+            }
+        }
+        matchLeftovers(beforeElements, afterElements, matches, matchedBefore, ClassDiagramDiff::contentKey);
+        matchLeftovers(beforeElements, afterElements, matches, matchedBefore, ClassDiagramDiff::positionKey);
+
+        List<Change> changes = new ArrayList<>();
+        for (UMLElementBoxInterface element : afterElements) {
+            UMLElementBoxInterface previous = matches.get(element);
+            if (previous == null) {
+                changes.add(new Change(ChangeType.ADDED, element.getName(), ""));
+            } else {
+                compareElements(previous, element, changes);
+            }
+        }
+        Map<String, String> newNames = new HashMap<>();
+        for (UMLElementBoxInterface element : beforeElements) {
+            if (!matchedBefore.contains(element)) {
+                changes.add(new Change(ChangeType.REMOVED, element.getName(), ""));
+                // Relationships of removed elements never match those of a new element with the same name
+                newNames.put(element.getName(), "\0" + element.getName());
+            }
+        }
+        matches.forEach((element, previous) -> newNames.put(previous.getName(), element.getName()));
+
+        compareRelationships(before.getRelationships(), after.getRelationships(), newNames, changes);
+        return new DiagramDiff(changes);
+    }
+
+    /**
+     * Pairs the elements not matched yet on both sides that have the same key.
+     *
+     * @param beforeElements The elements of the earlier version.
+     * @param afterElements  The elements of the later version.
+     * @param matches        The pairs found so far, keyed by the later element; new pairs are added.
+     * @param matchedBefore  The earlier elements paired so far; new ones are added.
+     * @param key            Computes the key of an element.
+     */
+    private static void matchLeftovers(List<UMLElementBoxInterface> beforeElements,
+                                       List<UMLElementBoxInterface> afterElements,
+                                       Map<UMLElementBoxInterface, UMLElementBoxInterface> matches,
+                                       Set<UMLElementBoxInterface> matchedBefore,
+                                       Function<UMLElementBoxInterface, String> key) {
+        Map<String, Deque<UMLElementBoxInterface>> candidates = new HashMap<>();
+        for (UMLElementBoxInterface element : beforeElements) {
+            if (!matchedBefore.contains(element)) {
+                candidates.computeIfAbsent(key.apply(element), k -> new ArrayDeque<>()).add(element);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        for (UMLElementBoxInterface element : afterElements) {
+            if (!matches.containsKey(element)) {
+                Deque<UMLElementBoxInterface> sameKey = candidates.get(key.apply(element));
+                if (sameKey != null && !sameKey.isEmpty()) {
+                    UMLElementBoxInterface previous = sameKey.poll();
+                    matches.put(element, previous);
+                    matchedBefore.add(previous);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports the changes between two versions of an element.
+     *
+     * @param before  The earlier version.
+     * @param after   The later version.
+     * @param changes The list receiving the changes.
+     */
+    private static void compareElements(UMLElementBoxInterface before, UMLElementBoxInterface after,
+                                        List<Change> changes) {
+        String name = after.getName();
+        if (!before.getName().equals(name)) {
+            changes.add(new Change(ChangeType.RENAMED, name, before.getName() + " -> " + name));
+        }
+        if (before.getX() != after.getX() || before.getY() != after.getY()) {
+            changes.add(new Change(ChangeType.MOVED, name,
+                    DiagramDiff.describeMove(before.getX(), before.getY(), after.getX(), after.getY())));
+        }
+        List<String> attributesBefore = attributesOf(before);
+        List<String> attributesAfter = attributesOf(after);
+        if (!attributesBefore.equals(attributesAfter)) {
+            changes.add(new Change(ChangeType.ATTRIBUTES_CHANGED, name,
+                    memberChanges(attributesBefore, attributesAfter)));
+        }
+        List<String> methodsBefore = methodsOf(before);
+        List<String> methodsAfter = methodsOf(after);
+        if (!methodsBefore.equals(methodsAfter)) {
+            changes.add(new Change(ChangeType.METHODS_CHANGED, name, memberChanges(methodsBefore, methodsAfter)));
+        }
+        if (!Objects.equals(packageOf(before), packageOf(after))) {
+            changes.add(new Change(ChangeType.PACKAGE_CHANGED, name,
+                    "'" + packageOf(before) + "' -> '" + packageOf(after) + "'"));
+        }
+    }
+
+    /**
+     * Reports the added, removed and changed relationships.
+     *
+     * @param before   The relationships of the earlier version.
+     * @param after    The relationships of the later version.
+     * @param newNames The names of earlier elements in the later version.
+     * @param changes  The list receiving the changes.
+     */
+    private static void compareRelationships(List<UMLRelationship> before, List<UMLRelationship> after,
+                                             Map<String, String> newNames, List<Change> changes) {
+        Map<String, UMLRelationship> beforeByKey = new LinkedHashMap<>();
+        for (UMLRelationship relationship : before) {
+            String key = relationship.getType() + "|"
+                    + newNames.getOrDefault(relationship.getStartElementName(), relationship.getStartElementName())
+                    + "|" + newNames.getOrDefault(relationship.getEndElementName(), relationship.getEndElementName())
+                    + "|" + relationship.getName();
+            beforeByKey.putIfAbsent(key, relationship);
+        }
+        Set<String> afterKeys = new HashSet<>();
+        for (UMLRelationship relationship : after) {
+            String key = relationship.identityKey();
+            if (!afterKeys.add(key)) {
+                continue;
+            }
+            UMLRelationship previous = beforeByKey.get(key);
+            if (previous == null) {
+                changes.add(new Change(ChangeType.RELATIONSHIP_ADDED, key, ""));
+            } else if (!Objects.equals(previous.getStartMultiplicity(), relationship.getStartMultiplicity())
+                    || !Objects.equals(previous.getEndMultiplicity(), relationship.getEndMultiplicity())) {
+                changes.add(new Change(ChangeType.RELATIONSHIP_CHANGED, key,
+                        previous.getStartMultiplicity() + ".." + previous.getEndMultiplicity() + " -> "
+                                + relationship.getStartMultiplicity() + ".." + relationship.getEndMultiplicity()));
+            }
+        }
+        beforeByKey.forEach((key, relationship) -> {
+            if (!afterKeys.contains(key)) {
+                changes.add(new Change(ChangeType.RELATIONSHIP_REMOVED, relationship.identityKey(), ""));
+            }
+        });
+    }
+
+    /**
+     * Describes the members added to and removed from a list.
+     *
+     * @param before The earlier members.
+     * @param after  The later members.
+     * @return The added and removed members, or {@code "reordered"} if only the order changed.
+     */
+    private static String memberChanges(List<String> before, List<String> after) {
+        Set<String> previous = new HashSet<>(before);
+        Set<String> current = new HashSet<>(after);
+        List<String> added = after.stream().filter(member -> !previous.contains(member)).toList();
+        List<String> removed = before.stream().filter(member -> !current.contains(member)).toList();
+        List<String> parts = new ArrayList<>();
+        if (!added.isEmpty()) {
+            parts.add("added " + added);
+        }
+        if (!removed.isEmpty()) {
+            parts.add("removed " + removed);
+        }
+        return parts.isEmpty() ? "reordered" : String.join(", ", parts);
+    }
+
+    /**
+     * Collects the classes and interfaces of a diagram.
+     *
+     * @param diagram The diagram.
+     * @return The classes followed by the interfaces.
+     */
+    private static List<UMLElementBoxInterface> elementsOf(ClassDiagramD diagram) {
+        List<UMLElementBoxInterface> elements = new ArrayList<>(diagram.getClasses());
+        elements.addAll(diagram.getInterfaces());
+        return elements;
+    }
+
+    /**
+     * Computes the identity of an element: its kind and name.
+     *
+     * @param element The element.
+     * @return The key.
+     */
+    private static String nameKey(UMLElementBoxInterface element) {
+        return kindOf(element) + "|" + element.getName();
+    }
+
+    /**
+     * Computes a key identifying the content of an element: its kind, package and members.
+     *
+     * @param element The element.
+     * @return The key.
+     */
+    private static String contentKey(UMLElementBoxInterface element) {
+        return kindOf(element) + "\n" + packageOf(element) + "\n" + String.join("\n", attributesOf(element))
+                + "\n\n" + String.join("\n", methodsOf(element));
+    }
+
+    /**
+     * Computes a key identifying the position of an element: its kind and coordinates.
+     *
+     * @param element The element.
+     * @return The key.
+     */
+    private static String positionKey(UMLElementBoxInterface element) {
+        return kindOf(element) + "|" + element.getX() + "|" + element.getY();
+    }
+
+    /**
+     * Determines the kind of an element.
+     *
+     * @param element The element.
+     * @return {@code "interface"} for interfaces, otherwise {@code "class"}.
+     */
+    private static String kindOf(UMLElementBoxInterface element) {
+        return element instanceof UMLInterfaceBox ? "interface" : "class";
+    }
+
+    /**
+     * Retrieves the package of an element, treating a missing package as the default package.
+     *
+     * @param element The element.
+     * @return The package name, possibly empty.
+     */
+    private static String packageOf(UMLElementBoxInterface element) {
+        return Objects.requireNonNullElse(element.getPackageName(), "");
+    }
+
+    /**
+     * Retrieves the attributes of an element.
+     *
+     * @param element The element.
+     * @return The attributes of a class; empty for interfaces.
+     */
+    private static List<String> attributesOf(UMLElementBoxInterface element) {
+        return element instanceof UMLClassBox umlClass && umlClass.getAttributes() != null
+                ? umlClass.getAttributes() : List.of();
+    }
+
+    /**
+     * Retrieves the methods of an element.
+     *
+     * @param element The element.
+     * @return The methods; empty if the element has none.
+     */
+    private static List<String> methodsOf(UMLElementBoxInterface element) {
+        List<String> methods = null;
+        if (element instanceof UMLClassBox umlClass) {
+            methods = umlClass.getMethods();
+        } else if (element instanceof UMLInterfaceBox umlInterface) {
+            methods = umlInterface.getMethods();
+        }
+        return methods != null ? methods : List.of();
+    }
+}
@@ -0,0 +1,777 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.BusinessLayer.History.CommandHistory;
+import com.example.umlscd.BusinessLayer.History.DiagramCommand;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <h1>Class Diagram History</h1>
+ *
+ * <p>The {@code ClassDiagramHistory} lets the changes made to a class diagram be undone and redone. It listens to the
+ * diagram's {@link ClassDiagramChangeTracker}, so every mutation the manager already reports, whether it creates,
+ * moves, renames, edits or deletes an element or changes a relationship, is recorded without the editors knowing
+ * about the history.</p>
+ *
+ * <p>The changes reported while handling one user action, such as a rename together with the relationships it
+ * updates, are collected until the deferred task given to the constructor runs, and then recorded as one command.
+ * Commands hold deltas: the properties of an element that changed, as they were before and after, and the
+ * relationships that changed. The current state of every element is kept once, as an immutable copy, and a command is
+ * undone or redone by combining that state with its delta and applying the result to the
+ * {@link DiagramOperationTarget}. Consecutive moves of the same element are merged, so a drag is undone in one step,
+ * and the history is bounded by a memory budget.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Recording the reported changes of each user action as one command.</li>
+ *     <li>Storing only the changed properties of elements.</li>
+ *     <li>Merging the moves of a drag into a single command.</li>
+ *     <li>Undoing and redoing commands through the diagram's operation target.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassDiagramHistory implements ClassDiagramChangeListener {
+
+    /**
+     * The estimated overhead of an object, in bytes.
+     */
+    private static final long OBJECT_BYTES = 16;
+
+    /**
+     * The estimated size of a reference, in bytes.
+     */
+    private static final long REFERENCE_BYTES = 8;
+
+    /**
+     * The diagram commands are undone and redone on.
+     */
+    private final DiagramOperationTarget target;
+
+    /**
+     * Runs a task once the user action being handled is complete.
+     */
+    private final Consumer<Runnable> deferrer;
+
+    /**
+     * The recorded commands.
+     */
+    private final CommandHistory history;
+
+    /**
+     * The current state of every element, keyed by name.
+     */
+    private final Map<String, DiagramOperation> shadows = new HashMap<>();
+
+    /**
+     * A copy of every relationship, keyed by identity key.
+     */
+    private final Map<String, UMLRelationship> relationshipShadows = new HashMap<>();
+
+    /**
+     * The states of the elements changed by the action being collected, as they were before it; {@code null} for
+     * elements that did not exist.
+     */
+    private final Map<String, DiagramOperation> elementsBefore = new LinkedHashMap<>();
+
+    /**
+     * The relationships changed by the action being collected, as they were before it; {@code null} for
+     * relationships that did not exist.
+     */
+    private final Map<String, UMLRelationship> relationshipsBefore = new LinkedHashMap<>();
+
+    /**
+     * Whether a command is being undone or redone, so the changes reported meanwhile are not recorded.
+     */
+    private boolean applying;
+
+    /**
+     * Constructs a history with the default memory budget.
+     *
+     * @param target   The diagram commands are undone and redone on.
+     * @param deferrer Runs a task once the user action being handled is complete, such as
+     *                 {@code Platform::runLater}.
+     */
+    public ClassDiagramHistory(DiagramOperationTarget target, Consumer<Runnable> deferrer) {
+        this(target, deferrer, CommandHistory.DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * Constructs a history.
+     *
+     * @param target      The diagram commands are undone and redone on.
+     * @param deferrer    Runs a task once the user action being handled is complete.
+     * @param budgetBytes The memory budget of the history in bytes.
+     */
+    public ClassDiagramHistory(DiagramOperationTarget target, Consumer<Runnable> deferrer, long budgetBytes) {
+        this.target = target;
+        this.deferrer = deferrer;
+        this.history = new CommandHistory(budgetBytes);
+    }
+
+    /**
+     * Records the new state of an element.
+     *
+     * @param element The class or interface that changed.
+     */
+    @Override
+    public void elementChanged(UMLElementBoxInterface element) {
+        touchElement(element.getName());
+        shadows.put(element.getName(), DiagramOperation.upsertElement(element));
+    }
+
+    /**
+     * Records the removal of an element.
+     *
+     * @param name The name of the removed class or interface.
+     */
+    @Override
+    public void elementRemoved(String name) {
+        touchElement(name);
+        shadows.remove(name);
+    }
+
+    /**
+     * Records the new state of a relationship.
+     *
+     * @param relationship The relationship that changed.
+     */
+    @Override
+    public void relationshipChanged(UMLRelationship relationship) {
+        String key = relationship.identityKey();
+        touchRelationship(key);
+        relationshipShadows.put(key, copy(relationship));
+    }
+
+    /**
+     * Records the removal of a relationship.
+     *
+     * @param key The identity key the removed relationship had.
+     */
+    @Override
+    public void relationshipRemoved(String key) {
+        touchRelationship(key);
+        relationshipShadows.remove(key);
+    }
+
+    /**
+     * Records the changes collected since the last command as a new command. Called by the deferred task, and before
+     * undoing or redoing.
+     */
+    public void seal() {
+        if (elementsBefore.isEmpty() && relationshipsBefore.isEmpty()) {
+            return;
+        }
+        List<ElementChange> elementChanges = collectElementChanges();
+        List<RelationshipChange> relationshipChanges = new ArrayList<>();
+        relationshipsBefore.forEach((key, before) -> {
+            UMLRelationship after = relationshipShadows.get(key);
+            if (!isSameRelationship(before, after)) {
+                relationshipChanges.add(new RelationshipChange(key, before, after));
+            }
+        });
+        elementsBefore.clear();
+        relationshipsBefore.clear();
+        if (!elementChanges.isEmpty() || !relationshipChanges.isEmpty()) {
+            history.record(new Change(elementChanges, relationshipChanges));
+        }
+    }
+
+    /**
+     * Undoes the latest command.
+     *
+     * @return {@code true} if a command was undone.
+     */
+    public boolean undo() {
+        seal();
+        return history.undo();
+    }
+
+    /**
+     * Redoes the latest undone command.
+     *
+     * @return {@code true} if a command was redone.
+     */
+    public boolean redo() {
+        seal();
+        return history.redo();
+    }
+
+    /**
+     * Checks whether a command can be undone.
+     *
+     * @return {@code true} if a change can be undone.
+     */
+    public boolean canUndo() {
+        return history.canUndo() || !elementsBefore.isEmpty() || !relationshipsBefore.isEmpty();
+    }
+
+    /**
+     * Checks whether a command can be redone.
+     *
+     * @return {@code true} if an undone change can be redone.
+     */
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Keeps the next move from being merged with the latest one, when a new drag starts.
+     */
+    public void breakCoalescing() {
+        seal();
+        history.breakCoalescing();
+    }
+
+    /**
+     * Runs changes that are not the user's own, such as operations received from the other participants of a
+     * collaborative editing session, without recording them. The changes collected so far are recorded first, and the
+     * state of the elements is still updated, so later commands hold deltas against what the diagram shows.
+     *
+     * @param changes The changes to apply.
+     */
+    public void runUnrecorded(Runnable changes) {
+        seal();
+        boolean wasApplying = applying;
+        applying = true;
+        try {
+            changes.run();
+        } finally {
+            applying = wasApplying;
+        }
+    }
+
+    /**
+     * Forgets all commands and takes the current state of the elements from a diagram, after a diagram was drawn
+     * without reporting its elements, such as when it is loaded.
+     *
+     * @param diagram The drawn diagram.
+     */
+    public void reset(ClassDiagramD diagram) {
+        shadows.clear();
+        relationshipShadows.clear();
+        elementsBefore.clear();
+        relationshipsBefore.clear();
+        for (UMLClassBox umlClass : diagram.getClasses()) {
+            shadows.put(umlClass.getName(), DiagramOperation.upsertElement(umlClass));
+        }
+        for (UMLInterfaceBox umlInterface : diagram.getInterfaces()) {
+            shadows.put(umlInterface.getName(), DiagramOperation.upsertElement(umlInterface));
+        }
+        for (UMLRelationship relationship : diagram.getRelationships()) {
+            relationshipShadows.put(relationship.identityKey(), copy(relationship));
+        }
+        history.clear();
+    }
+
+    /**
+     * Retrieves the recorded commands, for their counts and memory use.
+     *
+     * @return The command history.
+     */
+    public CommandHistory getCommandHistory() {
+        return history;
+    }
+
+    /**
+     * Remembers the state an element had before the action being collected, the first time the action changes it.
+     *
+     * @param name The name of the element.
+     */
+    private void touchElement(String name) {
+        if (applying || elementsBefore.containsKey(name)) {
+            return;
+        }
+        scheduleSeal();
+        elementsBefore.put(name, shadows.get(name));
+    }
+
+    /**
+     * Remembers the state a relationship had before the action being collected, the first time the action changes
+     * it.
+     *
+     * @param key The identity key of the relationship.
+     */
+    private void touchRelationship(String key) {
+        if (applying || relationshipsBefore.containsKey(key)) {
+            return;
+        }
+        scheduleSeal();
+        relationshipsBefore.put(key, relationshipShadows.get(key));
+    }
+
+    /**
+     * Schedules the recording of the action being collected, when its first change is reported.
+     */
+    private void scheduleSeal() {
+        if (elementsBefore.isEmpty() && relationshipsBefore.isEmpty()) {
+            deferrer.accept(this::seal);
+        }
+    }
+
+    /**
+     * Compares the states of the elements changed by the action being collected with their states before it. An
+     * element removed and another of the same kind created in the same action are recorded as a rename.
+     *
+     * @return The element changes, in the order they are redone.
+     */
+    private List<ElementChange> collectElementChanges() {
+        List<ElementChange> changes = new ArrayList<>();
+        List<DiagramOperation> removed = new ArrayList<>();
+        List<DiagramOperation> created = new ArrayList<>();
+        elementsBefore.forEach((name, before) -> {
+            DiagramOperation after = shadows.get(name);
+            if (before == null && after != null) {
+                created.add(after);
+            } else if (after == null && before != null) {
+                removed.add(before);
+            } else if (before != null && !isSameElement(before, after)) {
+                changes.add(ElementChange.edit(before, after));
+            }
+        });
+        for (DiagramOperation before : removed) {
+            DiagramOperation renamed = created.stream()
+                    .filter(after -> Objects.equals(after.getKind(), before.getKind()))
+                    .findFirst()
+                    .orElse(null);
+            if (renamed != null) {
+                created.remove(renamed);
+                changes.add(ElementChange.edit(before, renamed));
+            } else {
+                changes.add(new ElementChange(before.getName(), null, before.getKind(), Properties.of(before), null));
+            }
+        }
+        for (DiagramOperation after : created) {
+            changes.add(new ElementChange(null, after.getName(), after.getKind(), null, Properties.of(after)));
+        }
+        return changes;
+    }
+
+    /**
+     * Changes an element from one state to another on the target.
+     *
+     * @param fromName The name the element has, or {@code null} to create it.
+     * @param toName   The name the element gets, or {@code null} to remove it.
+     * @param kind     The kind of the element.
+     * @param to       The properties that change; all properties when the element is created.
+     */
+    private void changeElement(String fromName, String toName, String kind, Properties to) {
+        if (toName == null) {
+            target.removeElement(fromName);
+            return;
+        }
+        if (toName.equals(fromName) && to.isPositionOnly()) {
+            target.moveElement(toName, to.x(), to.y());
+            return;
+        }
+        DiagramOperation state = to.applyTo(toName, kind, fromName == null ? null : shadows.get(fromName));
+        if (fromName != null && !fromName.equals(toName)) {
+            target.removeElement(fromName);
+        }
+        target.applyElement(state);
+    }
+
+    /**
+     * Changes a relationship to a state on the target.
+     *
+     * @param key The identity key of the relationship.
+     * @param to  The relationship, or {@code null} to remove it.
+     */
+    private void changeRelationship(String key, UMLRelationship to) {
+        if (to == null) {
+            target.removeRelationship(key);
+        } else {
+            target.applyRelationship(copy(to));
+        }
+    }
+
+    /**
+     * Checks whether two states of an element are equal.
+     *
+     * @param before The earlier state.
+     * @param after  The later state.
+     * @return {@code true} if content and position are equal.
+     */
+    private static boolean isSameElement(DiagramOperation before, DiagramOperation after) {
+        return before.hasSameContent(after) && before.getX() == after.getX() && before.getY() == after.getY();
+    }
+
+    /**
+     * Checks whether two states of a relationship are equal.
+     *
+     * @param before The earlier state, or {@code null} if it did not exist.
+     * @param after  The later state, or {@code null} if it does not exist.
+     * @return {@code true} if both are absent, or both have the same multiplicities.
+     */
+    private static boolean isSameRelationship(UMLRelationship before, UMLRelationship after) {
+        if (before == null || after == null) {
+            return before == after;
+        }
+        return Objects.equals(before.getStartMultiplicity(), after.getStartMultiplicity())
+                && Objects.equals(before.getEndMultiplicity(), after.getEndMultiplicity());
+    }
+
+    /**
+     * Copies a relationship.
+     *
+     * @param relationship The relationship.
+     * @return A copy without a visual representation.
+     */
+    private static UMLRelationship copy(UMLRelationship relationship) {
+        return new UMLRelationship(relationship.getType(), relationship.getStartElementName(),
+                relationship.getEndElementName(), relationship.getName(), relationship.getStartMultiplicity(),
+                relationship.getEndMultiplicity());
+    }
+
+    /**
+     * Estimates the memory held by a string.
+     *
+     * @param text The string, or {@code null}.
+     * @return The approximate size in bytes.
+     */
+    private static long sizeOf(String text) {
+        return text == null ? REFERENCE_BYTES : REFERENCE_BYTES + OBJECT_BYTES * 2 + text.length();
+    }
+
+    /**
+     * Estimates the memory held by a list of strings.
+     *
+     * @param texts The list, or {@code null}.
+     * @return The approximate size in bytes.
+     */
+    private static long sizeOf(List<String> texts) {
+        if (texts == null) {
+            return REFERENCE_BYTES;
+        }
+        long size = REFERENCE_BYTES + OBJECT_BYTES * 2;
+        for (String text : texts) {
+            size += sizeOf(text);
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the memory held by a relationship.
+     *
+     * @param relationship The relationship, or {@code null}.
+     * @return The approximate size in bytes.
+     */
+    private static long sizeOf(UMLRelationship relationship) {
+        if (relationship == null) {
+            return REFERENCE_BYTES;
+        }
+        return REFERENCE_BYTES + OBJECT_BYTES + sizeOf(relationship.getType())
+                + sizeOf(relationship.getStartElementName()) + sizeOf(relationship.getEndElementName())
+                + sizeOf(relationship.getName()) + sizeOf(relationship.getStartMultiplicity())
+                + sizeOf(relationship.getEndMultiplicity());
+    }
+
+    /**
+     * Some properties of an element; the properties a change leaves alone are {@code null}.
+     *
+     * @param x           The X-coordinate, set together with the Y-coordinate.
+     * @param y           The Y-coordinate.
+     * @param attributes  The attributes of a class.
+     * @param methods     The methods.
+     * @param packageSet  Whether the package is set.
+     * @param packageName The package, which may be {@code null} even when it is set.
+     */
+    private record Properties(Double x, Double y, List<String> attributes, List<String> methods, boolean packageSet,
+                              String packageName) {
+
+        /**
+         * Takes all properties of an element state.
+         *
+         * @param state The state.
+         * @return The properties.
+         */
+        static Properties of(DiagramOperation state) {
+            return new Properties(state.getX(), state.getY(), state.getAttributes(), state.getMethods(), true,
+                    state.getPackageName());
+        }
+
+        /**
+         * Takes the properties of an element state that differ from another state.
+         *
+         * @param state The state to take the properties from.
+         * @param other The state to compare with.
+         * @return The differing properties.
+         */
+        static Properties differing(DiagramOperation state, DiagramOperation other) {
+            boolean moved = state.getX() != other.getX() || state.getY() != other.getY();
+            boolean packageChanged = !Objects.equals(state.getPackageName(), other.getPackageName());
+            return new Properties(moved ? state.getX() : null, moved ? state.getY() : null,
+                    Objects.equals(state.getAttributes(), other.getAttributes()) ? null : state.getAttributes(),
+                    Objects.equals(state.getMethods(), other.getMethods()) ? null : state.getMethods(),
+                    packageChanged, packageChanged ? state.getPackageName() : null);
+        }
+
+        /**
+         * Checks whether only the position is set.
+         *
+         * @return {@code true} if the properties describe a move.
+         */
+        boolean isPositionOnly() {
+            return x != null && attributes == null && methods == null && !packageSet;
+        }
+
+        /**
+         * Builds the state of an element with these properties.
+         *
+         * @param name The name of the element.
+         * @param kind The kind of the element.
+         * @param base The state providing the properties that are not set, or {@code null} if all are set.
+         * @return The state.
+         */
+        DiagramOperation applyTo(String name, String kind, DiagramOperation base) {
+            UMLElementBoxInterface element;
+            if (base != null) {
+                element = base.toElement();
+            } else if (DiagramOperation.INTERFACE.equals(kind)) {
+                element = new UMLInterfaceBox();
+            } else {
+                element = new UMLClassBox(name, 0, 0, new ArrayList<>(), new ArrayList<>());
+            }
+            element.setName(name);
+            if (x != null) {
+                element.setX(x);
+                element.setY(y);
+            }
+            if (attributes != null && element instanceof UMLClassBox umlClass) {
+                umlClass.setAttributes(new ArrayList<>(attributes));
+            }
+            if (methods != null) {
+                if (element instanceof UMLClassBox umlClass) {
+                    umlClass.setMethods(new ArrayList<>(methods));
+                } else if (element instanceof UMLInterfaceBox umlInterface) {
+                    umlInterface.setMethods(new ArrayList<>(methods));
+                }
+            }
+            if (packageSet) {
+                element.setPackageName(packageName);
+            }
+            return DiagramOperation.upsertElement(element);
+        }
+
+        /**
+         * Estimates the memory held by the properties.
+         *
+         * @return The approximate size in bytes.
+         */
+        long estimateSize() {
+            return REFERENCE_BYTES + OBJECT_BYTES + (x != null ? 2 * (REFERENCE_BYTES + OBJECT_BYTES) : 0)
+                    + sizeOf(attributes) + sizeOf(methods) + sizeOf(packageName);
+        }
+    }
+
+    /**
+     * The change of one element.
+     *
+     * @param oldName The name the element had, or {@code null} if it was created.
+     * @param newName The name the element got, or {@code null} if it was removed.
+     * @param kind    The kind of the element.
+     * @param before  The properties that changed, as they were; all of them if the element was removed.
+     * @param after   The properties that changed, as they became; all of them if the element was created.
+     */
+    private record ElementChange(String oldName, String newName, String kind, Properties before, Properties after) {
+
+        /**
+         * Creates the change between two states of an existing element.
+         *
+         * @param before The earlier state.
+         * @param after  The later state.
+         * @return The change, holding only the properties that differ.
+         */
+        static ElementChange edit(DiagramOperation before, DiagramOperation after) {
+            return new ElementChange(before.getName(), after.getName(), after.getKind(),
+                    Properties.differing(before, after), Properties.differing(after, before));
+        }
+
+        /**
+         * Checks whether the change only moves the element.
+         *
+         * @return {@code true} if the element kept its name and only its position changed.
+         */
+        boolean isMove() {
+            return oldName != null && oldName.equals(newName) && after.isPositionOnly();
+        }
+
+        /**
+         * Estimates the memory held by the change.
+         *
+         * @return The approximate size in bytes.
+         */
+        long estimateSize() {
+            return OBJECT_BYTES + sizeOf(oldName) + sizeOf(newName) + REFERENCE_BYTES
+                    + (before == null ? REFERENCE_BYTES : before.estimateSize())
+                    + (after == null ? REFERENCE_BYTES : after.estimateSize());
+        }
+    }
+
+    /**
+     * The change of one relationship.
+     *
+     * @param key    The identity key of the relationship.
+     * @param before The relationship as it was, or {@code null} if it was created.
+     * @param after  The relationship as it became, or {@code null} if it was removed.
+     */
+    private record RelationshipChange(String key, UMLRelationship before, UMLRelationship after) {
+
+        /**
+         * Estimates the memory held by the change.
+         *
+         * @return The approximate size in bytes.
+         */
+        long estimateSize() {
+            return OBJECT_BYTES + sizeOf(key) + sizeOf(before) + sizeOf(after);
+        }
+    }
+
+    /**
+     * The changes made by one user action.
+     *
+     * <p>Relationships are removed before the elements change, since removing an element removes its relationships
+     * as well, and created after them, since a relationship needs both of its elements.</p>
+     */
+    private final class Change implements DiagramCommand {
+
+        /**
+         * The element changes, in the order they are redone.
+         */
+        private final List<ElementChange> elementChanges;
+
+        /**
+         * The relationship changes.
+         */
+        private final List<RelationshipChange> relationshipChanges;
+
+        /**
+         * The estimated memory held by the command.
+         */
+        private final long size;
+
+        /**
+         * Constructs a command.
+         *
+         * @param elementChanges      The element changes, in the order they are redone.
+         * @param relationshipChanges The relationship changes.
+         */
+        Change(List<ElementChange> elementChanges, List<RelationshipChange> relationshipChanges) {
+            this.elementChanges = elementChanges;
+            this.relationshipChanges = relationshipChanges;
+            long estimate = OBJECT_BYTES * 4;
+            for (ElementChange change : elementChanges) {
+                estimate += REFERENCE_BYTES + change.estimateSize();
+            }
+            for (RelationshipChange change : relationshipChanges) {
+                estimate += REFERENCE_BYTES + change.estimateSize();
+            }
+            this.size = estimate;
+        }
+
+        /**
+         * Redoes the changes.
+         */
+        @Override
+        public void apply() {
+            applying = true;
+            try {
+                for (RelationshipChange change : relationshipChanges) {
+                    if (change.after() == null) {
+                        changeRelationship(change.key(), null);
+                    }
+                }
+                for (ElementChange change : elementChanges) {
+                    changeElement(change.oldName(), change.newName(), change.kind(), change.after());
+                }
+                for (RelationshipChange change : relationshipChanges) {
+                    if (change.after() != null) {
+                        changeRelationship(change.key(), change.after());
+                    }
+                }
+            } finally {
+                applying = false;
+            }
+        }
+
+        /**
+         * Undoes the changes.
+         */
+        @Override
+        public void revert() {
+            applying = true;
+            try {
+                for (RelationshipChange change : relationshipChanges) {
+                    if (change.before() == null) {
+                        changeRelationship(change.key(), null);
+                    }
+                }
+                for (int i = elementChanges.size() - 1; i >= 0; i--) {
+                    ElementChange change = elementChanges.get(i);
+                    changeElement(change.newName(), change.oldName(), change.kind(), change.before());
+                }
+                for (RelationshipChange change : relationshipChanges) {
+                    if (change.before() != null) {
+                        changeRelationship(change.key(), change.before());
+                    }
+                }
+            } finally {
+                applying = false;
+            }
+        }
+
+        /**
+         * Estimates the memory held by the command.
+         *
+         * @return The approximate size in bytes.
+         */
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+
+        /**
+         * Merges two consecutive moves of the same element into one move.
+         *
+         * @param next The later command.
+         * @return The merged move, or {@code null} if either command does more than moving that element.
+         */
+        @Override
+        public DiagramCommand coalesce(DiagramCommand next) {
+            if (!(next instanceof Change later) || !isMove() || !later.isMove()) {
+                return null;
+            }
+            ElementChange first = elementChanges.get(0);
+            ElementChange last = later.elementChanges.get(0);
+            if (!first.newName().equals(last.oldName())) {
+                return null;
+            }
+            return new Change(List.of(new ElementChange(first.oldName(), last.newName(), first.kind(),
+                    first.before(), last.after())), List.of());
+        }
+
+        /**
+         * Checks whether the command only moves one element.
+         *
+         * @return {@code true} if the command is a move.
+         */
+        private boolean isMove() {
+            return relationshipChanges.isEmpty() && elementChanges.size() == 1 && elementChanges.get(0).isMove();
+        }
+    }
+}
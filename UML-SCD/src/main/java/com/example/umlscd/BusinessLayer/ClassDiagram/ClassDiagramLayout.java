@@ -0,0 +1,172 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>Class Diagram Layout</h1>
+ *
+ * <p>The {@code ClassDiagramLayout} class arranges the classes and interfaces of a class diagram automatically. The
+ * elements are placed in layers by their depth in the inheritance hierarchy, supertypes above their subtypes, and
+ * each layer is ordered after the layer above it, so that subtypes appear below their supertypes. Long layers wrap
+ * onto several rows.</p>
+ *
+ * <p>The layout only changes the coordinates of the elements and needs no user interface, so it is used both by the
+ * command line and by the slices of the {@link ClassDiagramSlicer}.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Computing the inheritance depth of every element, tolerating cycles.</li>
+ *     <li>Placing layers of elements on a grid.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassDiagramLayout {
+
+    /**
+     * The relationship type linking a subtype to its supertype.
+     */
+    private static final String INHERITANCE = "Inheritance";
+
+    /**
+     * The horizontal distance between the boxes of a layer.
+     */
+    static final double COLUMN_WIDTH = 260;
+
+    /**
+     * The vertical distance between the rows of boxes.
+     */
+    static final double ROW_HEIGHT = 220;
+
+    /**
+     * The minimum number of boxes in a row before it wraps.
+     */
+    private static final int MIN_COLUMNS = 4;
+
+    /**
+     * Prevents instantiation; the layout is a set of static operations.
+     */
+    private ClassDiagramLayout() {
+    }
+
+    /**
+     * Arranges the elements of a diagram in inheritance layers.
+     *
+     * @param diagram The diagram whose element coordinates are replaced.
+     */
+    public static void layOut(ClassDiagramD diagram) {
+        Map<String, UMLElementBoxInterface> elements = new LinkedHashMap<>();
+        diagram.getClasses().forEach(element -> elements.put(element.getName(), element));
+        diagram.getInterfaces().forEach(element -> elements.put(element.getName(), element));
+
+        Map<String, List<String>> supertypes = new HashMap<>();
+        for (UMLRelationship relationship : diagram.getRelationships()) {
+            if (INHERITANCE.equals(relationship.getType())
+                    && elements.containsKey(relationship.getStartElementName())
+                    && elements.containsKey(relationship.getEndElementName())) {
+                supertypes.computeIfAbsent(relationship.getStartElementName(), name -> new ArrayList<>())
+                        .add(relationship.getEndElementName());
+            }
+        }
+
+        Map<String, Integer> depths = new HashMap<>();
+        List<List<UMLElementBoxInterface>> layers = new ArrayList<>();
+        for (String name : elements.keySet()) {
+            int depth = depth(name, supertypes, depths);
+            while (layers.size() <= depth) {
+                layers.add(new ArrayList<>());
+            }
+        }
+
+        // Order every layer by the position of the first supertype in the layer above
+        Map<String, Integer> positions = new HashMap<>();
+        for (int depth = 0; depth < layers.size(); depth++) {
+            List<UMLElementBoxInterface> layer = layers.get(depth);
+            for (UMLElementBoxInterface element : elements.values()) {
+                if (depths.get(element.getName()) == depth) {
+                    layer.add(element);
+                }
+            }
+            if (depth > 0) {
+                layer.sort((a, b) -> Integer.compare(parentPosition(a, supertypes, positions),
+                        parentPosition(b, supertypes, positions)));
+            }
+            for (int i = 0; i < layer.size(); i++) {
+                positions.put(layer.get(i).getName(), i);
+            }
+        }
+        placeLayers(layers, elements.size());
+    }
+
+    /**
+     * Places layers of elements below each other, wrapping every layer after the same number of columns.
+     *
+     * @param layers        The elements, grouped into layers, in display order.
+     * @param totalElements The number of elements of all layers, which determines the number of columns.
+     */
+    static void placeLayers(List<? extends List<? extends UMLElementBoxInterface>> layers, int totalElements) {
+        int columns = Math.max(MIN_COLUMNS, (int) Math.ceil(Math.sqrt(totalElements)));
+        int row = 0;
+        for (List<? extends UMLElementBoxInterface> layer : layers) {
+            for (int index = 0; index < layer.size(); index++) {
+                layer.get(index).setX((index % columns) * COLUMN_WIDTH);
+                layer.get(index).setY((row + index / columns) * ROW_HEIGHT);
+            }
+            row += (layer.size() + columns - 1) / columns;
+        }
+    }
+
+    /**
+     * Computes the inheritance depth of an element: zero for elements without supertypes, otherwise one more than
+     * the depth of its deepest supertype. A supertype reached again through a cycle counts as a root.
+     *
+     * @param name       The name of the element.
+     * @param supertypes The supertypes of each element.
+     * @param depths     The depths computed so far; an element being computed is marked with {@code -1}.
+     * @return The depth of the element.
+     */
+    private static int depth(String name, Map<String, List<String>> supertypes, Map<String, Integer> depths) {
+        Integer known = depths.get(name);
+        if (known != null) {
+            return Math.max(known, 0);
+        }
+        depths.put(name, -1);
+        int depth = 0;
+        for (String supertype : supertypes.getOrDefault(name, List.of())) {
+            Integer state = depths.get(supertype);
+            if (state == null || state >= 0) {
+                depth = Math.max(depth, depth(supertype, supertypes, depths) + 1);
+            }
+        }
+        depths.put(name, depth);
+        return depth;
+    }
+
+    /**
+     * Determines the position of the first placed supertype of an element, used to order a layer.
+     *
+     * @param element    The element.
+     * @param supertypes The supertypes of each element.
+     * @param positions  The positions of the elements placed so far within their layers.
+     * @return The smallest position of a placed supertype, or {@link Integer#MAX_VALUE} if none is placed.
+     */
+    private static int parentPosition(UMLElementBoxInterface element, Map<String, List<String>> supertypes,
+                                      Map<String, Integer> positions) {
+        int position = Integer.MAX_VALUE;
+        for (String supertype : supertypes.getOrDefault(element.getName(), List.of())) {
+            position = Math.min(position, positions.getOrDefault(supertype, Integer.MAX_VALUE));
+        }
+        return position;
+    }
+}
@@ -2,22 +2,31 @@ package com.example.umlscd.BusinessLayer.ClassDiagram;
 
 import com.example.umlscd.Models.ClassDiagram.*;
 import com.example.umlscd.PresentationLayer.ClassDiagram.ClassDiagramUI;
+import com.example.umlscd.DataAccessLayer.Collaboration.CollaborationClient;
+import com.example.umlscd.DataAccessLayer.Collaboration.CollaborationServer;
+import com.example.umlscd.DataAccessLayer.ImageProcessing.TiledImageExporter;
+import com.example.umlscd.DataAccessLayer.RecentFiles.RecentDiagramFiles;
+import com.example.umlscd.DataAccessLayer.Rendering.PdfDiagramExporter;
+import com.example.umlscd.DataAccessLayer.Rendering.SvgDiagramExporter;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramCrdtSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramDeltaSerializer;
 import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
-import javafx.embed.swing.SwingFXUtils;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Snapshots.ClassDiagramSnapshotStore;
+import com.example.umlscd.DataAccessLayer.Snapshots.SnapshotManifest;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
-import javafx.scene.SnapshotParameters;
 import javafx.scene.control.*;
-import javafx.scene.image.WritableImage;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +44,10 @@ import java.util.stream.Collectors;
  *     <li>Handling serialization and deserialization of the class diagram to and from JSON files.</li>
  *     <li>Enabling and disabling drag functionality for moving diagram elements.</li>
  *     <li>Highlighting elements during user interactions for better visual feedback.</li>
+ *     <li>Showing slices of large diagrams while keeping the complete model for saving.</li>
+ *     <li>Editing the diagram together with other participants of a collaboration session.</li>
+ *     <li>Highlighting the changes made since a saved file or snapshot.</li>
+ *     <li>Undoing and redoing the changes made to the diagram.</li>
  * </ul>
  * </p>
  *
@@ -43,7 +56,7 @@ import java.util.stream.Collectors;
  * <p><b>Version:</b> 1.0</p>
  * <p><b>Since:</b> 2024-12-03</p>
  */
-public class ClassDiagramManager {
+public class ClassDiagramManager implements DiagramOperationTarget {
     /**
      * A list of all drawable elements (e.g., classes, interfaces) present in the diagram.
      */
@@ -64,6 +77,94 @@ public class ClassDiagramManager {
      */
     private final ClassDiagramSerializer serializer;
 
+    /**
+     * Serializer for the incremental (delta) save format.
+     */
+    private final ClassDiagramDeltaSerializer deltaSerializer;
+
+    /**
+     * Serializer for the CRDT sidecar that lets offline copies of a saved diagram be merged.
+     */
+    private final ClassDiagramCrdtSerializer crdtSerializer = new ClassDiagramCrdtSerializer();
+
+    /**
+     * Tracks the elements and relationships changed since the diagram was last saved or loaded.
+     */
+    private final ClassDiagramChangeTracker changeTracker = new ClassDiagramChangeTracker();
+
+    /**
+     * Records the changes reported to the change tracker, so that they can be undone and redone.
+     */
+    private final ClassDiagramHistory history = new ClassDiagramHistory(this, Platform::runLater);
+
+    /**
+     * The delta file whose content matches the diagram as of the last save or load, or {@code null} if none.
+     */
+    private File deltaBaseFile;
+
+    /**
+     * Local store holding the deduplicated version history of the diagrams.
+     */
+    private final ClassDiagramSnapshotStore snapshotStore;
+
+    /**
+     * The list of recently used diagram files offered on the welcome page.
+     */
+    private final RecentDiagramFiles recentFiles;
+
+    /**
+     * The name under which snapshots of the current diagram are grouped, derived from the file it was last saved to
+     * or loaded from.
+     */
+    private String diagramName = "Untitled";
+
+    /**
+     * The number of elements above which an imported diagram is shown one package at a time.
+     */
+    static final int LARGE_DIAGRAM_ELEMENTS = 300;
+
+    /**
+     * The slicer holding the complete model while slices of it are shown, or {@code null} if the drawing pane shows
+     * the complete diagram and no slice has been requested.
+     */
+    private ClassDiagramSlicer slicer;
+
+    /**
+     * The slice shown on the drawing pane, or {@code null} if the complete diagram is shown.
+     */
+    private DiagramSlice currentSlice;
+
+    /**
+     * The collaboration session the diagram takes part in, or {@code null} if it is edited alone.
+     */
+    private CollaborationSession collaborationSession;
+
+    /**
+     * The connection to the collaboration server, or {@code null} if the diagram is edited alone.
+     */
+    private CollaborationClient collaborationClient;
+
+    /**
+     * The collaboration server hosted by this manager, or {@code null} if none is hosted.
+     */
+    private CollaborationServer collaborationServer;
+
+    /**
+     * Whether the relationships are being redrawn, during which the recreated relationships are not reported as
+     * changed.
+     */
+    private boolean redrawingRelationships;
+
+    /**
+     * The outlines drawn on the drawing pane for elements removed since the compared version.
+     */
+    private final List<Node> changeOverlay = new ArrayList<>();
+
+    /**
+     * The elements highlighted because they changed since the compared version.
+     */
+    private final List<VBox> highlightedChanges = new ArrayList<>();
+
     /**
      * Reference to the UI controller associated with this manager.
      */
@@ -111,6 +212,19 @@ public class ClassDiagramManager {
         this.relationsManager = null; // Initialize as null; set appropriately during tool selection
         this.classDiagram = new ClassDiagramD();
         this.serializer = new ClassDiagramSerializer();
+        this.deltaSerializer = new ClassDiagramDeltaSerializer();
+        this.snapshotStore = new ClassDiagramSnapshotStore(ClassDiagramSnapshotStore.DEFAULT_ROOT);
+        this.recentFiles = new RecentDiagramFiles(RecentDiagramFiles.DEFAULT_FILE);
+        changeTracker.addListener(history);
+    }
+
+    /**
+     * Retrieves the tracker holding the changes made since the diagram was last saved or loaded.
+     *
+     * @return The {@code ClassDiagramChangeTracker} of this manager.
+     */
+    public ClassDiagramChangeTracker getChangeTracker() {
+        return changeTracker;
     }
 
     /**
@@ -151,6 +265,8 @@ public class ClassDiagramManager {
         classDiagram.getInterfaces().clear();
         classDiagram.getRelationships().clear();
         elements.clear();
+        changeOverlay.clear();
+        highlightedChanges.clear();
     }
 
     /**
@@ -192,6 +308,8 @@ public class ClassDiagramManager {
         // Update the ClassDiagram model
         UMLClassBox umlClassBox = new UMLClassBox(name, layoutX, layoutY, classBox);
         classDiagram.getClasses().add(umlClassBox);
+        classBoxMap.put(name, umlClassBox);
+        changeTracker.markElementChanged(umlClassBox);
 
         // Trigger Object Explorer update
         if (objectExplorerUpdateCallback != null) objectExplorerUpdateCallback.run();
@@ -240,6 +358,8 @@ public class ClassDiagramManager {
         // Update the ClassDiagram model
         UMLInterfaceBox umlInterfaceBox = new UMLInterfaceBox(name, layoutX, layoutY, interfaceBox);
         classDiagram.getInterfaces().add(umlInterfaceBox);
+        classBoxMap.put(name, umlInterfaceBox);
+        changeTracker.markElementChanged(umlInterfaceBox);
 
         // Trigger Object Explorer update
         if (objectExplorerUpdateCallback != null) objectExplorerUpdateCallback.run();
@@ -291,15 +411,78 @@ public class ClassDiagramManager {
      * Saves the current UML diagram to a JSON file.
      *
      * <p>This method delegates the serialization process to the {@code ClassDiagramSerializer} and
-     * provides user feedback upon successful or failed operations.</p>
+     * provides user feedback upon successful or failed operations. Files with the compressed diagram
+     * extension are written in the compressed format. If the file has a CRDT sidecar, the changes are also
+     * recorded in it, so that copies of it edited elsewhere can later be merged; a failure to do so is reported
+     * separately, as the diagram itself is saved.</p>
      *
      * @param file The {@code File} object representing the destination JSON file.
      */
     public void saveDiagram(File file) {
         try {
-            serializer.serialize(classDiagram, file);
+            if (BlockDeflateCodec.hasCompressedExtension(file)) {
+                serializer.serializeCompressed(getModelDiagram(), file);
+            } else {
+                serializer.serialize(getModelDiagram(), file);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            uiController.showErrorAlert("Failed to save diagram.");
+            return;
+        }
+        diagramName = diagramNameOf(file);
+        rememberRecentFile(file);
+        System.out.println("Diagram saved successfully to " + file.getAbsolutePath());
+        if (updateCrdtSidecar(file)) {
+            uiController.showInformationAlert("Diagram saved successfully to " + file.getAbsolutePath());
+        } else {
+            uiController.showErrorAlert("Diagram saved to " + file.getAbsolutePath() + ", but its CRDT sidecar could "
+                    + "not be updated, so merging other copies of it may lose the latest changes.");
+        }
+    }
+
+    /**
+     * Records the changes of a saved diagram in its CRDT sidecar, if it has one.
+     *
+     * @param file The saved diagram file.
+     * @return {@code false} if the file has a sidecar that could not be updated.
+     */
+    private boolean updateCrdtSidecar(File file) {
+        if (!ClassDiagramCrdtSerializer.hasSidecar(file)) {
+            return true;
+        }
+        try {
+            String site = ClassDiagramCrdtSerializer.siteOf(file, ClassDiagramCrdtSerializer.DEFAULT_SITE_FILE);
+            crdtSerializer.update(getModelDiagram(), file, site);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Failed to update the CRDT sidecar: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Saves the current UML diagram incrementally to a delta file.
+     *
+     * <p>If the file was the target of the previous save or load, only the elements and relationships changed since
+     * then are appended to it; otherwise (or when the file is due for compaction) the complete diagram is written.
+     * The change tracker is reset once the changes have been persisted.</p>
+     *
+     * @param file The {@code File} object representing the destination delta file.
+     */
+    public void saveDiagramIncremental(File file) {
+        try {
+            if (file.equals(deltaBaseFile)) {
+                deltaSerializer.appendDelta(getModelDiagram(), changeTracker, file);
+            } else {
+                deltaSerializer.writeSnapshot(getModelDiagram(), file);
+            }
+            deltaBaseFile = file;
+            diagramName = diagramNameOf(file);
+            rememberRecentFile(file);
+            changeTracker.clear();
             uiController.showInformationAlert("Diagram saved successfully to " + file.getAbsolutePath());
-            System.out.println("Diagram saved successfully to " + file.getAbsolutePath());
+            System.out.println("Diagram saved incrementally to " + file.getAbsolutePath());
         } catch (IOException e) {
             e.printStackTrace();
             uiController.showErrorAlert("Failed to save diagram.");
@@ -317,16 +500,28 @@ public class ClassDiagramManager {
     public void loadDiagram(File file) {
         try {
             System.out.println("Loading diagram from file: " + file.getAbsolutePath());
-            ClassDiagramD loadedDiagram = serializer.deserialize(file);
+            boolean isDeltaFile = ClassDiagramDeltaSerializer.isDeltaFile(file);
+            ClassDiagramD loadedDiagram = isDeltaFile ? deltaSerializer.load(file) : serializer.deserialize(file);
             if (loadedDiagram == null) {
                 throw new IOException("Deserialized diagram is null.");
             }
             System.out.println("Diagram deserialized successfully.");
+            stopSlicing();
             this.classDiagram = loadedDiagram;
+            diagramName = diagramNameOf(file);
+            rememberRecentFile(file);
 
             // Log restore process
             System.out.println("Restoring diagram...");
             serializer.restoreDiagram(loadedDiagram, this);
+            resetHistory();
+            if (isDeltaFile) {
+                // The file now matches the model; forget the changes reported while restoring it
+                deltaBaseFile = file;
+                Platform.runLater(changeTracker::clear);
+            } else {
+                deltaBaseFile = null;
+            }
             uiController.showInformationAlert("Diagram loaded successfully from " + file.getAbsolutePath());
             System.out.println("Diagram loaded successfully from " + file.getAbsolutePath());
         } catch (IOException e) {
@@ -335,6 +530,219 @@ public class ClassDiagramManager {
         }
     }
 
+    /**
+     * Stores the current diagram as a new version in the local snapshot store.
+     *
+     * <p>Only the records that no earlier version contains are written, so snapshots are cheap to take. If nothing
+     * changed since the latest snapshot of the diagram, that snapshot is reused.</p>
+     *
+     * @param label A short description of the version.
+     * @return The manifest of the stored version, or {@code null} if the snapshot failed.
+     */
+    public SnapshotManifest saveSnapshot(String label) {
+        try {
+            SnapshotManifest manifest = snapshotStore.commit(getModelDiagram(), diagramName, label);
+            uiController.showInformationAlert("Snapshot saved: " + manifest);
+            System.out.println("Snapshot saved as version " + manifest.getId());
+            return manifest;
+        } catch (IOException e) {
+            e.printStackTrace();
+            uiController.showErrorAlert("Failed to save snapshot.");
+            return null;
+        }
+    }
+
+    /**
+     * Lists the stored snapshots of the current diagram, oldest first.
+     *
+     * @return The manifests of the snapshots; empty if none exist or the store cannot be read.
+     */
+    public List<SnapshotManifest> listSnapshots() {
+        try {
+            return snapshotStore.listVersions(diagramName);
+        } catch (IOException e) {
+            e.printStackTrace();
+            uiController.showErrorAlert("Failed to read snapshot history.");
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Replaces the current diagram by a stored snapshot.
+     *
+     * <p>The drawing pane is cleared and the snapshot's elements are recreated. Since the diagram no longer matches
+     * any incremental save file, the next incremental save writes the complete diagram.</p>
+     *
+     * @param versionId The identifier of the snapshot to restore.
+     */
+    public void restoreSnapshot(String versionId) {
+        try {
+            ClassDiagramD snapshot = snapshotStore.checkout(versionId);
+            stopSlicing();
+            clearDiagram();
+            classBoxMap.clear();
+            serializer.restoreDiagram(snapshot, this);
+            resetHistory();
+            deltaBaseFile = null;
+            Platform.runLater(() -> {
+                if (objectExplorerUpdateCallback != null) {
+                    objectExplorerUpdateCallback.run();
+                }
+            });
+            System.out.println("Snapshot " + versionId + " restored.");
+        } catch (IOException e) {
+            e.printStackTrace();
+            uiController.showErrorAlert("Failed to restore snapshot.");
+        }
+    }
+
+    /**
+     * Replaces the current diagram by one imported from existing code.
+     *
+     * <p>The drawing pane is cleared and the imported elements are created. Diagrams with more than
+     * {@value #LARGE_DIAGRAM_ELEMENTS} elements are not drawn whole: the elements of their first package are shown
+     * instead, and other slices can be chosen with {@link #showSlice(DiagramSlice)}. The imported diagram is not
+     * backed by any file yet, so it is named after its source and the next incremental save writes the complete
+     * diagram.</p>
+     *
+     * @param imported The imported diagram.
+     * @param name     The name of the diagram, used for its snapshots.
+     * @return The slice shown, or {@code null} if the complete diagram is shown.
+     */
+    public DiagramSlice showImportedDiagram(ClassDiagramD imported, String name) {
+        stopSlicing();
+        deltaBaseFile = null;
+        diagramName = name;
+        ClassDiagramSlicer importedSlicer = new ClassDiagramSlicer(imported);
+        if (importedSlicer.getElementCount() > LARGE_DIAGRAM_ELEMENTS && !importedSlicer.getPackages().isEmpty()) {
+            startSlicing(importedSlicer);
+            showSlice(DiagramSlice.packageSubset(importedSlicer.getPackages().first()));
+        } else {
+            showDiagram(imported);
+        }
+        System.out.println("Imported diagram " + name + " shown.");
+        return currentSlice;
+    }
+
+    /**
+     * Shows a slice of the diagram instead of the complete diagram.
+     *
+     * <p>The complete model is kept by a {@link ClassDiagramSlicer}, which is created from the current diagram the
+     * first time a slice is requested. The drawing pane is cleared and only the elements of the slice and the
+     * relationships between them are drawn. Edits made to the slice are applied to the complete model, which is what
+     * saving and snapshots write.</p>
+     *
+     * @param slice The slice to show.
+     */
+    public void showSlice(DiagramSlice slice) {
+        ClassDiagramD sliceDiagram = getSlicer().slice(slice);
+        currentSlice = slice;
+        showDiagram(sliceDiagram);
+        System.out.println("Showing " + slice + ": " + (sliceDiagram.getClasses().size()
+                + sliceDiagram.getInterfaces().size()) + " elements.");
+    }
+
+    /**
+     * Shows the complete diagram again after slices of it have been shown.
+     */
+    public void showWholeDiagram() {
+        if (slicer == null) {
+            return;
+        }
+        currentSlice = null;
+        showDiagram(slicer.getModel());
+    }
+
+    /**
+     * Retrieves the slice shown on the drawing pane.
+     *
+     * @return The slice, or {@code null} if the complete diagram is shown.
+     */
+    public DiagramSlice getCurrentSlice() {
+        return currentSlice;
+    }
+
+    /**
+     * Retrieves the slicer holding the complete model, creating it from the current diagram if needed.
+     *
+     * @return The slicer of the diagram.
+     */
+    public ClassDiagramSlicer getSlicer() {
+        if (slicer == null) {
+            startSlicing(new ClassDiagramSlicer(classDiagram));
+        }
+        return slicer;
+    }
+
+    /**
+     * Retrieves the complete diagram, which differs from the drawn one while a slice is shown. Whatever covers the
+     * whole model, such as saving or generating code, should use it rather than {@link #getClassDiagram()}.
+     *
+     * @return The complete diagram.
+     */
+    public ClassDiagramD getModelDiagram() {
+        return slicer != null ? slicer.getModel() : classDiagram;
+    }
+
+    /**
+     * Makes a slicer the holder of the complete model and subscribes it to the reported changes.
+     *
+     * @param newSlicer The slicer.
+     */
+    private void startSlicing(ClassDiagramSlicer newSlicer) {
+        stopSlicing();
+        slicer = newSlicer;
+        changeTracker.addListener(slicer);
+    }
+
+    /**
+     * Discards the slicer, once the drawing pane shows a complete diagram that replaces the model.
+     */
+    private void stopSlicing() {
+        if (slicer != null) {
+            changeTracker.removeListener(slicer);
+        }
+        slicer = null;
+        currentSlice = null;
+    }
+
+    /**
+     * Replaces the elements drawn on the drawing pane.
+     *
+     * @param diagram The diagram to draw.
+     */
+    private void showDiagram(ClassDiagramD diagram) {
+        clearDiagram();
+        classBoxMap.clear();
+        serializer.restoreDiagram(diagram, this);
+        resetHistory();
+        Platform.runLater(() -> {
+            if (objectExplorerUpdateCallback != null) {
+                objectExplorerUpdateCallback.run();
+            }
+        });
+    }
+
+    /**
+     * Forgets the undo history once the diagram being restored is drawn, since the restored elements are not
+     * reported as changed.
+     */
+    private void resetHistory() {
+        Platform.runLater(() -> history.reset(classDiagram));
+    }
+
+    /**
+     * Derives the snapshot group name of a diagram from its file name.
+     *
+     * @param file The file the diagram was saved to or loaded from.
+     * @return The file name without its extension.
+     */
+    private static String diagramNameOf(File file) {
+        String name = file.getName();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
     /**
      * Handles tool selection and adds corresponding UML elements to the diagram.
      *
@@ -779,7 +1187,11 @@ public class ClassDiagramManager {
      */
     public void setDraggable(VBox pane, boolean enable) {
         if (enable) {
-            pane.setOnMousePressed(event -> pane.setUserData(new double[]{event.getSceneX(), event.getSceneY(), pane.getLayoutX(), pane.getLayoutY()}));
+            pane.setOnMousePressed(event -> {
+                // A new drag is undone separately from the previous one
+                history.breakCoalescing();
+                pane.setUserData(new double[]{event.getSceneX(), event.getSceneY(), pane.getLayoutX(), pane.getLayoutY()});
+            });
             pane.setOnMouseDragged(event -> {
                 double[] data = (double[]) pane.getUserData();
                 double offsetX = event.getSceneX() - data[0];
@@ -811,6 +1223,7 @@ public class ClassDiagramManager {
             if (umlClass.getVisualRepresentation() == pane) {
                 umlClass.setX(newX);
                 umlClass.setY(newY);
+                changeTracker.markElementChanged(umlClass);
                 return;
             }
         }
@@ -818,6 +1231,7 @@ public class ClassDiagramManager {
             if (umlInterface.getVisualRepresentation() == pane) {
                 umlInterface.setX(newX);
                 umlInterface.setY(newY);
+                changeTracker.markElementChanged(umlInterface);
                 return;
             }
         }
@@ -1060,6 +1474,7 @@ public class ClassDiagramManager {
         // Update the ClassDiagram model
         UMLInterfaceBox umlInterfaceBox = new UMLInterfaceBox(name, layoutX, layoutY, interfaceBox);
         umlInterfaceBox.setVisualRepresentation(interfaceBox);
+        umlInterfaceBox.setMethods(methods);
         classDiagram.getInterfaces().add(umlInterfaceBox);
 
         // Add to the mapping
@@ -1086,7 +1501,24 @@ public class ClassDiagramManager {
      * @param relationshipBox The {@code UMLRelationshipBox} instance representing the relationship.
      */
     public void addRelationshipBox(UMLRelationshipBox relationshipBox) {
-        classDiagram.getRelationships().add(relationshipBox.getUmlRelationship());
+        UMLRelationship relationship = relationshipBox.getUmlRelationship();
+        classDiagram.getRelationships().add(relationship);
+        if (!redrawingRelationships) {
+            changeTracker.markRelationshipChanged(relationship);
+        }
+    }
+
+    /**
+     * Records that a class or interface has been edited through one of the editors.
+     *
+     * <p>This keeps the change tracker up to date for incremental saving. If the element was renamed, the record
+     * stored under its old name is scheduled for removal.</p>
+     *
+     * @param oldName The name of the element before the edit.
+     * @param element The edited class or interface.
+     */
+    public void markElementEdited(String oldName, UMLElementBoxInterface element) {
+        changeTracker.markElementRenamed(oldName, element);
     }
 
     /**
@@ -1100,6 +1532,7 @@ public class ClassDiagramManager {
      */
     public void updateRelationshipsForRenamedClass(String oldName, String newName) {
         for (UMLRelationship relationship : classDiagram.getRelationships()) {
+            String oldKey = relationship.identityKey();
             boolean updated = false;
             if (relationship.getStartElementName().equals(oldName)) {
                 relationship.setStartElementName(newName);
@@ -1110,6 +1543,8 @@ public class ClassDiagramManager {
                 updated = true;
             }
             if (updated) {
+                changeTracker.markRelationshipRemoved(oldKey);
+                changeTracker.markRelationshipChanged(relationship);
                 // Optionally, update the visual representation if necessary
                 // For example, find the corresponding UMLRelationshipBox and update labels
                 // This depends on your implementation
@@ -1140,15 +1575,103 @@ public class ClassDiagramManager {
     }
 
     /**
-     * Exports the current class diagram as an image file.
-     *
-     * <p>This method captures a snapshot of the drawing pane, converts it to a {@code BufferedImage},
-     * and writes it to the specified file in the appropriate image format (PNG or JPEG).</p>
+     * Exports the current class diagram as an image file at screen resolution.
      *
      * @param file The {@code File} object representing the destination image file.
      * @throws IOException If an error occurs during writing the image.
+     * @see #exportAsImage(File, double)
      */
     public void exportAsImage(File file) throws IOException {
+        exportAsImage(file, 1.0);
+    }
+
+    /**
+     * Exports the current class diagram as an image file at the specified scale.
+     *
+     * <p>This method renders the drawing pane tile by tile with a {@code TiledImageExporter}, so diagrams larger
+     * than the graphics card's texture limit and resolutions above screen resolution can be exported. PNG images
+     * are streamed to the file while they are rendered; JPEG images are assembled first. The whole content of the
+     * pane is exported, including elements that have been moved outside its visible area.</p>
+     *
+     * @param file  The {@code File} object representing the destination image file.
+     * @param scale The scale factor; for example {@code 2} exports at twice the screen resolution.
+     * @throws IOException If an error occurs during writing the image.
+     */
+    public void exportAsImage(File file, double scale) throws IOException {
+        new TiledImageExporter().export(prepareDrawingPaneForExport(), scale, withImageExtension(file));
+    }
+
+    /**
+     * Exports the current class diagram as an image file in the background.
+     *
+     * <p>Only the snapshots of the drawing pane are taken on the JavaFX application thread; reading their pixels and
+     * encoding the PNG or JPEG image run on a worker thread, so the user interface stays responsive while large
+     * diagrams are exported. This method must be called on the JavaFX application thread, and the returned future
+     * completes on the worker thread.</p>
+     *
+     * @param file  The {@code File} object representing the destination image file.
+     * @param scale The scale factor; for example {@code 2} exports at twice the screen resolution.
+     * @return A future completing with the written image file, or exceptionally if the export failed.
+     * @throws IllegalStateException If the drawing pane is not initialized.
+     */
+    public CompletableFuture<File> exportAsImageAsync(File file, double scale) {
+        return new TiledImageExporter().exportAsync(prepareDrawingPaneForExport(), scale, withImageExtension(file));
+    }
+
+    /**
+     * Records a file as recently used, so that the welcome page offers it again.
+     *
+     * <p>A failure to update the list of recent files is reported but never fails the save or load itself.</p>
+     *
+     * @param file The file that was saved or loaded.
+     */
+    private void rememberRecentFile(File file) {
+        try {
+            recentFiles.record(file);
+        } catch (IOException e) {
+            System.err.println("Failed to update the recent files: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Exports the current class diagram as an SVG document.
+     *
+     * <p>The document is generated from the diagram model by the {@code SvgDiagramExporter} rather than from a
+     * snapshot of the drawing pane, so it stays small and sharp at any zoom level regardless of the diagram's size.</p>
+     *
+     * @param file The destination file; {@code .svg} is appended if it has another extension.
+     * @throws IOException If an error occurs during writing the document.
+     */
+    public void exportAsSvg(File file) throws IOException {
+        if (!SvgDiagramExporter.hasSvgExtension(file)) {
+            file = new File(file.getAbsolutePath() + SvgDiagramExporter.FILE_EXTENSION);
+        }
+        new SvgDiagramExporter().export(classDiagram, file);
+    }
+
+    /**
+     * Exports the current class diagram as a PDF document.
+     *
+     * <p>The document is generated from the diagram model by the {@code PdfDiagramExporter}. Diagrams larger than a
+     * page are split across overlapping A4 pages that can be printed and assembled.</p>
+     *
+     * @param file The destination file; {@code .pdf} is appended if it has another extension.
+     * @throws IOException If an error occurs during writing the document.
+     */
+    public void exportAsPdf(File file) throws IOException {
+        if (!PdfDiagramExporter.hasPdfExtension(file)) {
+            file = new File(file.getAbsolutePath() + PdfDiagramExporter.FILE_EXTENSION);
+        }
+        new PdfDiagramExporter().export(classDiagram, file);
+    }
+
+    /**
+     * Retrieves the drawing pane and brings its CSS and layout up to date so that snapshots are accurate.
+     *
+     * @return The drawing pane to export.
+     * @throws IllegalStateException If the drawing pane is not initialized.
+     */
+    private Pane prepareDrawingPaneForExport() {
         // Retrieve the drawing pane from the UI controller
         Pane drawingPane = uiController.getDrawingPane();
 
@@ -1160,33 +1683,22 @@ public class ClassDiagramManager {
         // Apply CSS and layout to ensure the snapshot is accurate
         drawingPane.applyCss();
         drawingPane.layout();
+        return drawingPane;
+    }
 
-        // Create a WritableImage with the size of the drawing pane
-        WritableImage image = new WritableImage((int) drawingPane.getWidth(), (int) drawingPane.getHeight());
-
-        // Take a snapshot of the drawing pane
-        SnapshotParameters params = new SnapshotParameters();
-        image = drawingPane.snapshot(params, image);
-
-        // Convert WritableImage to BufferedImage
-        BufferedImage bufferedImage = SwingFXUtils.fromFXImage(image, null);
-
-        // Determine the image format based on the file extension
+    /**
+     * Appends the PNG extension to a file whose extension is not a supported image format.
+     *
+     * @param file The requested destination file.
+     * @return The file to write the image to.
+     */
+    private static File withImageExtension(File file) {
         String fileName = file.getName().toLowerCase();
-        String format;
-        if (fileName.endsWith(".png")) {
-            format = "png";
-        } else if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) {
-            format = "jpg";
-        } else {
+        if (!fileName.endsWith(".png") && !fileName.endsWith(".jpg") && !fileName.endsWith(".jpeg")) {
             // Default to PNG if the extension is unrecognized
-            format = "png";
-            // Append the default extension
-            file = new File(file.getAbsolutePath() + ".png");
+            return new File(file.getAbsolutePath() + ".png");
         }
-
-        // Write the BufferedImage to the file
-        ImageIO.write(bufferedImage, format, file);
+        return file;
     }
 
     /**
@@ -1199,52 +1711,401 @@ public class ClassDiagramManager {
      * @param selectedElement The {@link VBox} containing the element to delete, with its name in a label.
      */
     public void deleteSelectedElement(VBox selectedElement) {
-        if (selectedElement == null) {
+        if (selectedElement == null || selectedElement.getChildren().isEmpty()) {
             return; // No element selected
         }
 
-        // Identify the element type and name
-        String elementName;
-        boolean isClass = false;
-        boolean isInterface = false;
-
-        if (selectedElement.getChildren().get(0) instanceof Label) {
-            Label nameLabel = (Label) selectedElement.getChildren().get(0);
+        // Interfaces show their stereotype above the name
+        String elementName = null;
+        if (selectedElement.getChildren().get(0) instanceof Label nameLabel) {
             elementName = nameLabel.getText();
+            if (elementName.contains("<<Interface>>") && selectedElement.getChildren().size() > 1
+                    && selectedElement.getChildren().get(1) instanceof Label interfaceNameLabel) {
+                elementName = interfaceNameLabel.getText();
+            }
+        }
+
+        if (elementName == null) {
+            return; // Unable to determine element type or name
+        }
+        removeElement(elementName);
+    }
+
+    /**
+     * Removes a class or interface from the UI and data model, together with its relationships.
+     *
+     * <p>Triggers an object explorer update callback, if provided.</p>
+     *
+     * @param name The name of the element.
+     */
+    @Override
+    public void removeElement(String name) {
+        UMLElementBoxInterface element = classBoxMap.remove(name);
+        if (element == null) {
+            return;
+        }
+        VBox box = element.getVisualRepresentation();
+        uiController.getDrawingPane().getChildren().remove(box);
+        elements.remove(box);
+        classDiagram.getClasses().removeIf(c -> c.getName().equals(name));
+        classDiagram.getInterfaces().removeIf(i -> i.getName().equals(name));
+        changeTracker.markElementRemoved(name);
+
+        // Remove related relationships
+        deleteRelatedRelationships(name);
+    }
 
-            if (elementName.contains("<<Interface>>")) {
-                isInterface = true;
+    /**
+     * Creates a class or interface, or replaces the content and position of an existing one, as described by an
+     * operation received from another participant of the collaboration session.
+     *
+     * @param operation An {@link DiagramOperation.Type#UPSERT_ELEMENT} operation.
+     */
+    @Override
+    public void applyElement(DiagramOperation operation) {
+        String name = operation.getName();
+        boolean isInterface = DiagramOperation.INTERFACE.equals(operation.getKind());
+        List<String> attributes = new ArrayList<>(Objects.requireNonNullElse(operation.getAttributes(), List.of()));
+        List<String> methods = new ArrayList<>(Objects.requireNonNullElse(operation.getMethods(), List.of()));
+        UMLElementBoxInterface element = classBoxMap.get(name);
+        if (element != null && (element instanceof UMLInterfaceBox) != isInterface) {
+            removeElement(name);
+            element = null;
+        }
+        if (element == null) {
+            if (isInterface) {
+                reCreateInterfaceBox(name, operation.getX(), operation.getY(), methods);
             } else {
-                isClass = true;
+                reCreateClassBox(name, operation.getX(), operation.getY(), attributes, methods);
             }
+            element = classBoxMap.get(name);
         } else {
-            elementName = null;
+            if (element instanceof UMLClassBox umlClass) {
+                umlClass.setAttributes(attributes);
+                umlClass.setMethods(methods);
+            } else if (element instanceof UMLInterfaceBox umlInterface) {
+                umlInterface.setMethods(methods);
+            }
+            setPosition(element, operation.getX(), operation.getY());
         }
+        element.setPackageName(operation.getPackageName());
+        changeTracker.markElementChanged(element);
+        if (objectExplorerUpdateCallback != null) objectExplorerUpdateCallback.run();
+    }
 
-        if (elementName == null) {
-            return; // Unable to determine element type or name
+    /**
+     * Moves a class or interface to a position received from another participant of the collaboration session.
+     *
+     * @param name The name of the element.
+     * @param x    The new X-coordinate.
+     * @param y    The new Y-coordinate.
+     */
+    @Override
+    public void moveElement(String name, double x, double y) {
+        UMLElementBoxInterface element = classBoxMap.get(name);
+        if (element != null) {
+            setPosition(element, x, y);
+            changeTracker.markElementChanged(element);
         }
+    }
 
-        // Remove the element from the UI
-        uiController.getDrawingPane().getChildren().remove(selectedElement);
-        elements.remove(selectedElement);
+    /**
+     * Creates a relationship received from another participant of the collaboration session, replacing the one with
+     * the same identity key.
+     *
+     * @param relationship The relationship.
+     */
+    @Override
+    public void applyRelationship(UMLRelationship relationship) {
+        String key = relationship.identityKey();
+        if (classDiagram.getRelationships().removeIf(existing -> existing.identityKey().equals(key))) {
+            redrawRelationships();
+        }
+        createRelationshipFromSerialization(relationship);
+    }
 
-        if (isClass) {
-            // Remove the class from the data structure
-            classDiagram.getClasses().removeIf(c -> c.getName().equals(elementName));
-        } else if (isInterface) {
-            // Remove the interface from the data structure
-            classDiagram.getInterfaces().removeIf(i -> i.getName().equals(elementName));
+    /**
+     * Removes a relationship as requested by another participant of the collaboration session.
+     *
+     * @param key The identity key of the relationship.
+     */
+    @Override
+    public void removeRelationship(String key) {
+        if (classDiagram.getRelationships().removeIf(relationship -> relationship.identityKey().equals(key))) {
+            changeTracker.markRelationshipRemoved(key);
+            redrawRelationships();
         }
+    }
 
-        // Remove related relationships
-        deleteRelatedRelationships(elementName);
+    /**
+     * Checks whether a class or interface exists.
+     *
+     * @param name The name of the element.
+     * @return {@code true} if the diagram contains an element with this name.
+     */
+    @Override
+    public boolean containsElement(String name) {
+        return classBoxMap.containsKey(name);
+    }
+
+    /**
+     * Applies changes received from other participants without recording them in the undo history.
+     *
+     * @param changes The changes.
+     */
+    @Override
+    public void applyRemote(Runnable changes) {
+        history.runUnrecorded(changes);
+    }
 
-        // Optionally, show confirmation
-        //showDeletionConfirmation(elementName);
+    /**
+     * Undoes the latest change made to the diagram, such as creating, moving, renaming, editing or deleting an
+     * element or changing a relationship. The moves of a drag are undone together.
+     *
+     * @return {@code true} if a change was undone.
+     */
+    public boolean undo() {
+        return refreshAfter(history.undo());
+    }
 
-        // Trigger Object Explorer update
-        if (objectExplorerUpdateCallback != null) objectExplorerUpdateCallback.run();
+    /**
+     * Redoes the latest undone change.
+     *
+     * @return {@code true} if a change was redone.
+     */
+    public boolean redo() {
+        return refreshAfter(history.redo());
+    }
+
+    /**
+     * Retrieves the history of the changes made to the drawn diagram.
+     *
+     * @return The {@code ClassDiagramHistory} of this manager.
+     */
+    public ClassDiagramHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Updates the object explorer after a change was undone or redone.
+     *
+     * @param changed Whether a change was undone or redone.
+     * @return {@code changed}.
+     */
+    private boolean refreshAfter(boolean changed) {
+        if (changed && objectExplorerUpdateCallback != null) {
+            objectExplorerUpdateCallback.run();
+        }
+        return changed;
+    }
+
+    /**
+     * Starts editing the diagram together with other participants.
+     *
+     * <p>The complete diagram is shown, since operations always refer to the complete model, and its elements and
+     * relationships are published to the session, where they are merged with the diagrams of the other
+     * participants. From then on, local changes are sent every {@link CollaborationSession#DEFAULT_TICK} and remote
+     * changes are applied in place on the JavaFX application thread.</p>
+     *
+     * @param host        The host of the collaboration server, or the address to bind to when hosting.
+     * @param port        The port of the collaboration server; {@code 0} selects a free port when hosting.
+     * @param hostSession {@code true} to start a collaboration server; {@code false} to join an existing one.
+     * @return The port of the collaboration server.
+     * @throws IOException If the server cannot be started or reached.
+     */
+    public int startCollaboration(String host, int port, boolean hostSession) throws IOException {
+        stopCollaboration();
+        showWholeDiagram();
+        stopSlicing();
+        try {
+            if (hostSession) {
+                collaborationServer = new CollaborationServer(new InetSocketAddress(host, port));
+                collaborationServer.start();
+                port = collaborationServer.getPort();
+            }
+            CollaborationSession session = new CollaborationSession(this, operations -> {
+                CollaborationClient client = collaborationClient;
+                if (client != null) {
+                    client.send(operations);
+                }
+            }, Platform::runLater, UUID.randomUUID().toString());
+            collaborationSession = session;
+            collaborationClient = CollaborationClient.connect(host, port, session::receive);
+            changeTracker.addListener(session);
+            session.publish(classDiagram);
+            System.out.println("Collaborating through " + host + ":" + port);
+            return port;
+        } catch (IOException e) {
+            stopCollaboration();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops taking part in the collaboration session, sending the changes not sent yet. A hosted server is stopped,
+     * which disconnects the other participants.
+     */
+    public void stopCollaboration() {
+        if (collaborationSession != null) {
+            changeTracker.removeListener(collaborationSession);
+            collaborationSession.close();
+            collaborationSession = null;
+        }
+        if (collaborationClient != null) {
+            collaborationClient.close();
+            collaborationClient = null;
+        }
+        if (collaborationServer != null) {
+            collaborationServer.close();
+            collaborationServer = null;
+        }
+    }
+
+    /**
+     * Checks whether the diagram takes part in a collaboration session.
+     *
+     * @return {@code true} if a session is active.
+     */
+    public boolean isCollaborating() {
+        return collaborationSession != null;
+    }
+
+    /**
+     * Compares the diagram with a saved diagram file and highlights the changes made since.
+     *
+     * @param file A plain, compressed or incrementally saved class diagram file.
+     * @return The changes from the file to the current diagram.
+     * @throws IOException If the file cannot be read or is not a class diagram.
+     */
+    public DiagramDiff compareWithFile(File file) throws IOException {
+        ClassDiagramD before = ClassDiagramDeltaSerializer.isDeltaFile(file)
+                ? deltaSerializer.load(file) : serializer.deserialize(file);
+        return showChanges(before);
+    }
+
+    /**
+     * Compares the diagram with a stored snapshot and highlights the changes made since.
+     *
+     * @param versionId The identifier of the snapshot.
+     * @return The changes from the snapshot to the current diagram.
+     * @throws IOException If the snapshot cannot be read.
+     */
+    public DiagramDiff compareWithSnapshot(String versionId) throws IOException {
+        return showChanges(snapshotStore.checkout(versionId));
+    }
+
+    /**
+     * Highlights the changes made since an earlier version of the diagram, replacing any highlighted before.
+     *
+     * <p>Added elements get a green border, renamed ones a blue border and otherwise changed ones an orange border.
+     * Removed elements are outlined with a dashed red border at their earlier position. While a slice is shown, only
+     * the drawn elements are highlighted.</p>
+     *
+     * @param before The earlier version.
+     * @return The changes from the earlier version to the current diagram.
+     */
+    public DiagramDiff showChanges(ClassDiagramD before) {
+        hideChanges();
+        DiagramDiff diff = ClassDiagramDiff.compare(before, getModelDiagram());
+        Map<String, UMLElementBoxInterface> earlier = new HashMap<>();
+        before.getClasses().forEach(element -> earlier.put(element.getName(), element));
+        before.getInterfaces().forEach(element -> earlier.put(element.getName(), element));
+
+        diff.getElementChanges().forEach((name, types) -> {
+            if (types.contains(DiagramDiff.ChangeType.REMOVED)) {
+                UMLElementBoxInterface element = earlier.get(name);
+                if (element != null) {
+                    changeOverlay.add(removedOutline(element));
+                }
+            }
+            UMLElementBoxInterface element = classBoxMap.get(name);
+            if (element == null || element.getVisualRepresentation() == null
+                    || (types.size() == 1 && types.contains(DiagramDiff.ChangeType.REMOVED))) {
+                return;
+            }
+            String color = types.contains(DiagramDiff.ChangeType.ADDED) ? "green"
+                    : types.contains(DiagramDiff.ChangeType.RENAMED) ? "royalblue" : "darkorange";
+            VBox box = element.getVisualRepresentation();
+            box.setStyle("-fx-border-color: " + color + "; -fx-border-width: 3; -fx-background-color: white;");
+            highlightedChanges.add(box);
+        });
+        uiController.getDrawingPane().getChildren().addAll(changeOverlay);
+        return diff;
+    }
+
+    /**
+     * Removes the highlighting of the changes, if any are shown.
+     */
+    public void hideChanges() {
+        uiController.getDrawingPane().getChildren().removeAll(changeOverlay);
+        changeOverlay.clear();
+        highlightedChanges.forEach(box -> box.setStyle("-fx-border-color: black; -fx-background-color: white;"));
+        highlightedChanges.clear();
+    }
+
+    /**
+     * Checks whether the changes since an earlier version are highlighted.
+     *
+     * @return {@code true} if changes are shown.
+     */
+    public boolean isShowingChanges() {
+        return !changeOverlay.isEmpty() || !highlightedChanges.isEmpty();
+    }
+
+    /**
+     * Creates the outline of a removed element at its earlier position. The outline does not react to the mouse, so
+     * it never hides the elements drawn below it.
+     *
+     * @param element The removed element.
+     * @return The outline.
+     */
+    private static Node removedOutline(UMLElementBoxInterface element) {
+        Label name = new Label(element.getName());
+        name.setStyle("-fx-font-weight: bold; -fx-text-fill: firebrick; -fx-padding: 5;");
+        VBox outline = new VBox(name);
+        outline.setStyle("-fx-border-color: firebrick; -fx-border-width: 2; -fx-border-style: dashed;"
+                + " -fx-background-color: rgba(178, 34, 34, 0.08);");
+        outline.setMinWidth(120);
+        outline.setLayoutX(element.getX());
+        outline.setLayoutY(element.getY());
+        outline.setMouseTransparent(true);
+        return outline;
+    }
+
+    /**
+     * Moves the visual representation and the model of an element.
+     *
+     * @param element The element.
+     * @param x       The new X-coordinate.
+     * @param y       The new Y-coordinate.
+     */
+    private static void setPosition(UMLElementBoxInterface element, double x, double y) {
+        element.setX(x);
+        element.setY(y);
+        if (element.getVisualRepresentation() != null) {
+            element.getVisualRepresentation().setLayoutX(x);
+            element.getVisualRepresentation().setLayoutY(y);
+        }
+    }
+
+    /**
+     * Redraws the relationships of the model, after some of them were removed. The shapes of a relationship are not
+     * kept together, so the relationship layer is removed from the drawing pane as a whole and drawn again; the
+     * elements stay as they are, and the outlines of a shown comparison are put back on top.
+     */
+    private void redrawRelationships() {
+        Set<Node> elementNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        elementNodes.addAll(elements);
+        uiController.getDrawingPane().getChildren().removeIf(node -> !elementNodes.contains(node));
+        List<UMLRelationship> relationships = new ArrayList<>(classDiagram.getRelationships());
+        classDiagram.getRelationships().clear();
+        redrawingRelationships = true;
+        try {
+            relationships.forEach(this::createRelationshipFromSerialization);
+        } finally {
+            redrawingRelationships = false;
+        }
+        uiController.getDrawingPane().getChildren().addAll(changeOverlay);
     }
 
     /**
@@ -1261,15 +2122,12 @@ public class ClassDiagramManager {
                 .filter(rel -> rel.getStartElementName().equals(elementName) || rel.getEndElementName().equals(elementName))
                 .collect(Collectors.toList());
 
-        // Remove relationships from UI and data model
-        for (UMLRelationship relationship : relationshipsToRemove) {
-            String relationshipVisual = relationship.getType(); // Assuming `getType()` provides the visual representation
-            if (relationshipVisual != null) {
-                uiController.getDrawingPane().getChildren().remove(relationshipVisual);
-            }
-        }
-
+        // Remove relationships from data model and redraw the remaining ones
         classDiagram.getRelationships().removeAll(relationshipsToRemove);
+        relationshipsToRemove.forEach(relationship -> changeTracker.markRelationshipRemoved(relationship.identityKey()));
+        if (!relationshipsToRemove.isEmpty()) {
+            redrawRelationships();
+        }
         // Trigger Object Explorer update
         if (objectExplorerUpdateCallback != null) objectExplorerUpdateCallback.run();
     }
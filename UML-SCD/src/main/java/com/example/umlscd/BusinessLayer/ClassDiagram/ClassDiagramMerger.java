@@ -0,0 +1,544 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramJsonIndex;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramJsonIndex.Entry;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramJsonIndex.Section;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramStreamWriter;
+import com.example.umlscd.Models.ClassDiagram.UMLAttribute;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLMemberParser;
+import com.example.umlscd.Models.ClassDiagram.UMLMethod;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <h1>Class Diagram Merger</h1>
+ *
+ * <p>The {@code ClassDiagramMerger} class merges two versions of a class diagram file that were changed
+ * independently from a common ancestor, such as two branches in version control. Changes made on only one side are
+ * taken over automatically; an element changed on both sides is merged property by property, and the members of
+ * classes and interfaces line by line. Only changes that really contradict each other are reported as conflicts,
+ * and are resolved in favour of "ours" so that the result is always a valid diagram.</p>
+ *
+ * <p>As in the {@link ClassDiagramDiff}, elements are identified by their names and relationships by their
+ * identity keys; a renamed element is a removal and an addition. The three files are indexed with a
+ * {@link ClassDiagramJsonIndex} and the result is written with a {@link ClassDiagramStreamWriter}, so unchanged
+ * elements are compared by hash and copied without being parsed, and only elements changed on both sides are loaded
+ * as objects.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Three-way merging of classes, interfaces and relationships.</li>
+ *     <li>Merging the properties and members of elements changed on both sides.</li>
+ *     <li>Reporting conflicts, including relationships left without one of their elements.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassDiagramMerger {
+
+    /**
+     * A change made on both sides that could not be merged.
+     */
+    public static final class Conflict {
+
+        /**
+         * The name of the element or the identity key of the relationship.
+         */
+        private final String subject;
+
+        /**
+         * A description of the contradicting changes.
+         */
+        private final String description;
+
+        /**
+         * Constructs a conflict.
+         *
+         * @param subject     The element name or relationship key.
+         * @param description A description of the contradicting changes.
+         */
+        public Conflict(String subject, String description) {
+            this.subject = subject;
+            this.description = description;
+        }
+
+        /**
+         * Retrieves the conflicting element or relationship.
+         *
+         * @return The element name or relationship key.
+         */
+        public String getSubject() {
+            return subject;
+        }
+
+        /**
+         * Retrieves the description of the contradicting changes.
+         *
+         * @return The description.
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Formats the conflict as a single line.
+         *
+         * @return The subject and description of the conflict.
+         */
+        @Override
+        public String toString() {
+            return "CONFLICT " + subject + ": " + description;
+        }
+    }
+
+    /**
+     * The outcome of a merge.
+     */
+    public static final class Result {
+
+        /**
+         * The conflicts, in the order of the merged diagram.
+         */
+        private final List<Conflict> conflicts;
+
+        /**
+         * The number of elements taken over or merged from "theirs".
+         */
+        private final int mergedChanges;
+
+        /**
+         * Constructs a result.
+         *
+         * @param conflicts     The conflicts.
+         * @param mergedChanges The number of elements taken over or merged from "theirs".
+         */
+        public Result(List<Conflict> conflicts, int mergedChanges) {
+            this.conflicts = List.copyOf(conflicts);
+            this.mergedChanges = mergedChanges;
+        }
+
+        /**
+         * Retrieves the conflicts.
+         *
+         * @return An unmodifiable list of the conflicts.
+         */
+        public List<Conflict> getConflicts() {
+            return conflicts;
+        }
+
+        /**
+         * Checks whether the merge had conflicts.
+         *
+         * @return {@code true} if at least one conflict was resolved in favour of "ours".
+         */
+        public boolean hasConflicts() {
+            return !conflicts.isEmpty();
+        }
+
+        /**
+         * Retrieves the number of elements taken over or merged from "theirs".
+         *
+         * @return The number of merged changes.
+         */
+        public int getMergedChanges() {
+            return mergedChanges;
+        }
+    }
+
+    /**
+     * The indexed common ancestor.
+     */
+    private final ClassDiagramJsonIndex base;
+
+    /**
+     * The indexed version that wins conflicts.
+     */
+    private final ClassDiagramJsonIndex ours;
+
+    /**
+     * The indexed version merged into "ours".
+     */
+    private final ClassDiagramJsonIndex theirs;
+
+    /**
+     * The conflicts found so far.
+     */
+    private final List<Conflict> conflicts = new ArrayList<>();
+
+    /**
+     * The names of the classes and interfaces written so far.
+     */
+    private final Set<String> writtenElements = new HashSet<>();
+
+    /**
+     * The number of elements taken over or merged from "theirs" so far.
+     */
+    private int mergedChanges;
+
+    /**
+     * Constructs a merger of indexed files.
+     *
+     * @param base   The common ancestor.
+     * @param ours   The version that wins conflicts.
+     * @param theirs The version merged into "ours".
+     */
+    private ClassDiagramMerger(ClassDiagramJsonIndex base, ClassDiagramJsonIndex ours, ClassDiagramJsonIndex theirs) {
+        this.base = base;
+        this.ours = ours;
+        this.theirs = theirs;
+    }
+
+    /**
+     * Merges two versions of a class diagram file and writes the result.
+     *
+     * <p>The output may be one of the input files; it is only replaced once the merge is complete.</p>
+     *
+     * @param base   The common ancestor; an empty file if there is none.
+     * @param ours   The version that wins conflicts.
+     * @param theirs The version merged into "ours".
+     * @param output The file receiving the merged diagram; compressed if it has the compressed extension.
+     * @return The outcome of the merge.
+     * @throws IOException If a file cannot be read or written, or is not a class diagram.
+     */
+    public static Result merge(File base, File ours, File theirs, File output) throws IOException {
+        return merge(ClassDiagramJsonIndex.read(base), ClassDiagramJsonIndex.read(ours),
+                ClassDiagramJsonIndex.read(theirs), output);
+    }
+
+    /**
+     * Merges two indexed versions of a class diagram and writes the result.
+     *
+     * @param base   The common ancestor.
+     * @param ours   The version that wins conflicts.
+     * @param theirs The version merged into "ours".
+     * @param output The file receiving the merged diagram; compressed if it has the compressed extension.
+     * @return The outcome of the merge.
+     * @throws IOException If the output cannot be written.
+     */
+    public static Result merge(ClassDiagramJsonIndex base, ClassDiagramJsonIndex ours, ClassDiagramJsonIndex theirs,
+                               File output) throws IOException {
+        ClassDiagramMerger merger = new ClassDiagramMerger(base, ours, theirs);
+        try (ClassDiagramStreamWriter writer = new ClassDiagramStreamWriter(output)) {
+            for (Section section : Section.values()) {
+                writer.startSection(section);
+                merger.mergeSection(section, writer);
+            }
+            writer.commit();
+        }
+        return new Result(merger.conflicts, merger.mergedChanges);
+    }
+
+    /**
+     * Merges the elements of a section: those of "ours" in their order, followed by those added in "theirs".
+     *
+     * @param section The section.
+     * @param writer  The writer receiving the merged elements.
+     * @throws IOException If an element cannot be read or written.
+     */
+    private void mergeSection(Section section, ClassDiagramStreamWriter writer) throws IOException {
+        Map<String, Entry> baseEntries = base.entries(section);
+        Map<String, Entry> ourEntries = ours.entries(section);
+        Map<String, Entry> theirEntries = theirs.entries(section);
+        for (Entry ourEntry : ourEntries.values()) {
+            Entry baseEntry = baseEntries.get(ourEntry.key());
+            Entry theirEntry = theirEntries.get(ourEntry.key());
+            if (theirEntry != null) {
+                mergeElement(section, baseEntry, ourEntry, theirEntry, writer);
+            } else if (baseEntry == null) {
+                emit(section, ours, ourEntry, writer);
+            } else if (baseEntry.hash() == ourEntry.hash()) {
+                mergedChanges++;
+            } else {
+                conflicts.add(new Conflict(ourEntry.key(), "changed in ours, removed in theirs"));
+                emit(section, ours, ourEntry, writer);
+            }
+        }
+        for (Entry theirEntry : theirEntries.values()) {
+            if (ourEntries.containsKey(theirEntry.key())) {
+                continue;
+            }
+            Entry baseEntry = baseEntries.get(theirEntry.key());
+            if (baseEntry == null) {
+                mergedChanges++;
+                emit(section, theirs, theirEntry, writer);
+            } else if (baseEntry.hash() != theirEntry.hash()) {
+                conflicts.add(new Conflict(theirEntry.key(), "removed in ours, changed in theirs"));
+            }
+        }
+    }
+
+    /**
+     * Merges an element present in both versions.
+     *
+     * @param section    The section of the element.
+     * @param baseEntry  The element in the common ancestor, or {@code null} if it was added on both sides.
+     * @param ourEntry   The element in "ours".
+     * @param theirEntry The element in "theirs".
+     * @param writer     The writer receiving the merged element.
+     * @throws IOException If the element cannot be read or written.
+     */
+    private void mergeElement(Section section, Entry baseEntry, Entry ourEntry, Entry theirEntry,
+                              ClassDiagramStreamWriter writer) throws IOException {
+        if (ourEntry.hash() == theirEntry.hash() || baseEntry != null && baseEntry.hash() == theirEntry.hash()) {
+            emit(section, ours, ourEntry, writer);
+            return;
+        }
+        mergedChanges++;
+        if (baseEntry != null && baseEntry.hash() == ourEntry.hash()) {
+            emit(section, theirs, theirEntry, writer);
+            return;
+        }
+        String subject = ourEntry.key();
+        switch (section) {
+            case CLASSES -> {
+                UMLClassBox merged = ours.element(ourEntry, UMLClassBox.class);
+                UMLClassBox baseClass = baseEntry == null ? null : base.element(baseEntry, UMLClassBox.class);
+                UMLClassBox theirClass = theirs.element(theirEntry, UMLClassBox.class);
+                mergePosition(subject, baseClass, merged, theirClass);
+                merged.setAttributes(mergeMembers(subject, "attributes",
+                        baseClass == null ? null : baseClass.getAttributes(), merged.getAttributes(),
+                        theirClass.getAttributes(), ClassDiagramMerger::attributeIdentity));
+                merged.setMethods(mergeMembers(subject, "methods", baseClass == null ? null : baseClass.getMethods(),
+                        merged.getMethods(), theirClass.getMethods(), ClassDiagramMerger::methodIdentity));
+                merged.setPackageName(mergeValue(subject, "package",
+                        baseClass == null ? null : baseClass.getPackageName(), merged.getPackageName(),
+                        theirClass.getPackageName()));
+                writtenElements.add(merged.getName());
+                writer.write(merged);
+            }
+            case INTERFACES -> {
+                UMLInterfaceBox merged = ours.element(ourEntry, UMLInterfaceBox.class);
+                UMLInterfaceBox baseInterface = baseEntry == null ? null
+                        : base.element(baseEntry, UMLInterfaceBox.class);
+                UMLInterfaceBox theirInterface = theirs.element(theirEntry, UMLInterfaceBox.class);
+                mergePosition(subject, baseInterface, merged, theirInterface);
+                merged.setMethods(mergeMembers(subject, "methods",
+                        baseInterface == null ? null : baseInterface.getMethods(), merged.getMethods(),
+                        theirInterface.getMethods(), ClassDiagramMerger::methodIdentity));
+                merged.setPackageName(mergeValue(subject, "package",
+                        baseInterface == null ? null : baseInterface.getPackageName(), merged.getPackageName(),
+                        theirInterface.getPackageName()));
+                writtenElements.add(merged.getName());
+                writer.write(merged);
+            }
+            case RELATIONSHIPS -> {
+                UMLRelationship merged = ours.element(ourEntry, UMLRelationship.class);
+                UMLRelationship baseRelationship = baseEntry == null ? null
+                        : base.element(baseEntry, UMLRelationship.class);
+                UMLRelationship theirRelationship = theirs.element(theirEntry, UMLRelationship.class);
+                merged.setStartMultiplicity(mergeValue(subject, "start multiplicity",
+                        baseRelationship == null ? null : baseRelationship.getStartMultiplicity(),
+                        merged.getStartMultiplicity(), theirRelationship.getStartMultiplicity()));
+                merged.setEndMultiplicity(mergeValue(subject, "end multiplicity",
+                        baseRelationship == null ? null : baseRelationship.getEndMultiplicity(),
+                        merged.getEndMultiplicity(), theirRelationship.getEndMultiplicity()));
+                checkEndpoints(ourEntry);
+                writer.write(merged);
+            }
+        }
+    }
+
+    /**
+     * Copies an element unchanged to the result.
+     *
+     * @param section The section of the element.
+     * @param index   The index holding the element.
+     * @param entry   The element.
+     * @param writer  The writer receiving the element.
+     * @throws IOException If the element cannot be copied.
+     */
+    private void emit(Section section, ClassDiagramJsonIndex index, Entry entry, ClassDiagramStreamWriter writer)
+            throws IOException {
+        if (section == Section.RELATIONSHIPS) {
+            checkEndpoints(entry);
+        } else {
+            writtenElements.add(entry.key());
+        }
+        writer.copy(index, entry);
+    }
+
+    /**
+     * Reports a relationship whose elements are missing from the result, for example because one side renamed an
+     * element that the other side connected.
+     *
+     * @param entry The relationship.
+     */
+    private void checkEndpoints(Entry entry) {
+        for (String endpoint : new LinkedHashSet<>(entry.endpoints())) {
+            if (!writtenElements.contains(endpoint)) {
+                conflicts.add(new Conflict(entry.key(), "connects '" + endpoint + "', which is not in the result"));
+            }
+        }
+    }
+
+    /**
+     * Merges the position of a class or interface changed on both sides; the coordinates are merged together, so
+     * that the result is a position one of the sides chose.
+     *
+     * @param subject The name of the element.
+     * @param base    The element in the common ancestor, or {@code null}.
+     * @param merged  The element of "ours", receiving the merged position.
+     * @param theirs  The element in "theirs".
+     */
+    private void mergePosition(String subject, UMLElementBoxInterface base, UMLElementBoxInterface merged,
+                               UMLElementBoxInterface theirs) {
+        List<Double> position = mergeValue(subject, "position",
+                base == null ? null : List.of(base.getX(), base.getY()), List.of(merged.getX(), merged.getY()),
+                List.of(theirs.getX(), theirs.getY()));
+        merged.setX(position.get(0));
+        merged.setY(position.get(1));
+    }
+
+    /**
+     * Merges a property changed on one or both sides.
+     *
+     * @param subject The element name or relationship key.
+     * @param name    The name of the property, for the conflict report.
+     * @param base    The value in the common ancestor, or {@code null}.
+     * @param ours    The value in "ours".
+     * @param theirs  The value in "theirs".
+     * @param <T>     The type of the property.
+     * @return The merged value; "ours" if both sides changed it differently.
+     */
+    private <T> T mergeValue(String subject, String name, T base, T ours, T theirs) {
+        if (Objects.equals(ours, theirs) || Objects.equals(base, theirs)) {
+            return ours;
+        }
+        if (Objects.equals(base, ours)) {
+            return theirs;
+        }
+        conflicts.add(new Conflict(subject, name + " changed on both sides: " + describe(ours) + " vs "
+                + describe(theirs)));
+        return ours;
+    }
+
+    /**
+     * Merges the members of a class or interface line by line.
+     *
+     * <p>Members removed or added on one side are removed or added in the result. A member changed on both sides, as
+     * recognised by its identity, is a conflict unless both sides changed it the same way.</p>
+     *
+     * @param subject  The name of the element.
+     * @param name     The name of the member list, for the conflict report.
+     * @param base     The members in the common ancestor, or {@code null} if the element was added on both sides.
+     * @param ours     The members in "ours".
+     * @param theirs   The members in "theirs".
+     * @param identity Computes the identity of a member, such as the name of an attribute.
+     * @return The merged members, in the order of "ours" followed by those added in "theirs".
+     */
+    private List<String> mergeMembers(String subject, String name, List<String> base, List<String> ours,
+                                      List<String> theirs, Function<String, String> identity) {
+        if (base == null || ours == null || theirs == null || ours.equals(theirs) || base.equals(theirs)
+                || base.equals(ours)) {
+            return mergeValue(subject, name, base, ours, theirs);
+        }
+        Set<String> baseSet = new HashSet<>(base);
+        Set<String> ourSet = new HashSet<>(ours);
+        Set<String> theirSet = new HashSet<>(theirs);
+        Map<String, Set<String>> ourChanges = changesByIdentity(baseSet, ourSet, identity);
+        Map<String, Set<String>> theirChanges = changesByIdentity(baseSet, theirSet, identity);
+        Set<String> conflicting = new LinkedHashSet<>();
+        ourChanges.forEach((member, added) -> {
+            Set<String> theirAdded = theirChanges.get(member);
+            if (theirAdded != null && !theirAdded.equals(added)) {
+                conflicting.add(member);
+            }
+        });
+        for (String member : conflicting) {
+            conflicts.add(new Conflict(subject, name + " '" + member + "' changed on both sides: "
+                    + ourChanges.get(member) + " vs " + theirChanges.get(member)));
+        }
+
+        List<String> merged = new ArrayList<>();
+        for (String member : ours) {
+            if (!baseSet.contains(member) || theirSet.contains(member)
+                    || conflicting.contains(identity.apply(member))) {
+                merged.add(member);
+            }
+        }
+        for (String member : theirs) {
+            if (!baseSet.contains(member) && !ourSet.contains(member)
+                    && !conflicting.contains(identity.apply(member))) {
+                merged.add(member);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Groups the members one side added or removed by their identities.
+     *
+     * @param base     The members in the common ancestor.
+     * @param side     The members on the side.
+     * @param identity Computes the identity of a member.
+     * @return The members the side added, keyed by the identities of all added and removed members.
+     */
+    private static Map<String, Set<String>> changesByIdentity(Set<String> base, Set<String> side,
+                                                              Function<String, String> identity) {
+        Map<String, Set<String>> changes = new HashMap<>();
+        for (String member : base) {
+            if (!side.contains(member)) {
+                changes.computeIfAbsent(identity.apply(member), key -> new LinkedHashSet<>());
+            }
+        }
+        for (String member : side) {
+            if (!base.contains(member)) {
+                changes.computeIfAbsent(identity.apply(member), key -> new LinkedHashSet<>()).add(member);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Computes the identity of an attribute: its name.
+     *
+     * @param text The attribute as written in the diagram.
+     * @return The name, or the whole text if it has none.
+     */
+    private static String attributeIdentity(String text) {
+        UMLAttribute attribute = UMLMemberParser.parseAttribute(text);
+        return attribute.getName().isEmpty() ? text : attribute.getName();
+    }
+
+    /**
+     * Computes the identity of a method: its name and parameters, so that overloads are told apart.
+     *
+     * @param text The method as written in the diagram.
+     * @return The signature, or the whole text if the method has no name.
+     */
+    private static String methodIdentity(String text) {
+        UMLMethod method = UMLMemberParser.parseMethod(text);
+        return method.getName().isEmpty() ? text : method.getName() + "(" + method.getParameterText() + ")";
+    }
+
+    /**
+     * Describes a property value for the conflict report.
+     *
+     * @param value The value.
+     * @return The value, with positions written as coordinates.
+     */
+    private static String describe(Object value) {
+        if (value instanceof List<?> list && list.size() == 2 && list.get(0) instanceof Double x
+                && list.get(1) instanceof Double y) {
+            return DiagramDiff.describePosition(x, y);
+        }
+        return value == null ? "none" : "'" + value + "'";
+    }
+}
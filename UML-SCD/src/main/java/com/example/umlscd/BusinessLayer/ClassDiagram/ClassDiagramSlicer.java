@@ -0,0 +1,414 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * <h1>Class Diagram Slicer</h1>
+ *
+ * <p>The {@code ClassDiagramSlicer} class computes {@link DiagramSlice}s of a class diagram, so that the editor can
+ * show a readable part of a model imported from a large code base instead of all of it. The slicer indexes the
+ * elements and relationships of the diagram once, keeping for every element the relationships attached to it, and
+ * then computes each slice on first request by walking this adjacency structure from the focus element.</p>
+ *
+ * <p>Computed slices are cached, least recently used first out. The slicer listens to the changes reported to the
+ * {@link ClassDiagramChangeTracker} and updates its index incrementally. A change only evicts the cached slices it can
+ * affect: those containing a changed element or an endpoint of a changed relationship, and the package slices
+ * covering the package of a changed element. All other slices stay valid.</p>
+ *
+ * <p>The elements of a slice are copies laid out in layers by their distance from the focus with the
+ * {@link ClassDiagramLayout}, so that the slice can be shown without disturbing the layout of the complete
+ * model.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Indexing the adjacency of the elements of a diagram.</li>
+ *     <li>Computing neighbourhood, inheritance subtree and package slices on demand.</li>
+ *     <li>Caching slices and invalidating them incrementally as the model changes.</li>
+ *     <li>Providing the complete, up-to-date model.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassDiagramSlicer implements ClassDiagramChangeListener {
+
+    /**
+     * The relationship type linking a subtype to its supertype.
+     */
+    private static final String INHERITANCE = "Inheritance";
+
+    /**
+     * The maximum number of slices kept in the cache.
+     */
+    static final int MAX_CACHED_SLICES = 32;
+
+    /**
+     * The elements of the model, keyed by name, in model order.
+     */
+    private final Map<String, UMLElementBoxInterface> elements = new LinkedHashMap<>();
+
+    /**
+     * The relationships of the model, keyed by identity key, in model order.
+     */
+    private final Map<String, Edge> relationships = new LinkedHashMap<>();
+
+    /**
+     * The identity keys of the relationships attached to each element, keyed by element name.
+     */
+    private final Map<String, Set<String>> incident = new HashMap<>();
+
+    /**
+     * The computed slices, in access order.
+     */
+    private final Map<DiagramSlice, CachedSlice> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DiagramSlice, CachedSlice> eldest) {
+            return size() > MAX_CACHED_SLICES;
+        }
+    };
+
+    /**
+     * Constructs a slicer over a diagram. The diagram itself is not modified; later changes reach the slicer through
+     * the {@link ClassDiagramChangeListener} methods.
+     *
+     * @param diagram The complete diagram.
+     */
+    public ClassDiagramSlicer(ClassDiagramD diagram) {
+        diagram.getClasses().forEach(element -> elements.put(element.getName(), element));
+        diagram.getInterfaces().forEach(element -> elements.put(element.getName(), element));
+        diagram.getRelationships().forEach(this::link);
+    }
+
+    /**
+     * Retrieves a slice of the model, computing it if it is not cached.
+     *
+     * @param slice The slice to show.
+     * @return A diagram holding copies of the elements of the slice and the relationships between them. It is shared
+     * with later calls until the slice is invalidated and must not be modified.
+     */
+    public synchronized ClassDiagramD slice(DiagramSlice slice) {
+        CachedSlice cached = cache.get(slice);
+        if (cached == null) {
+            List<List<String>> layers = switch (slice.getKind()) {
+                case NEIGHBOURHOOD -> walk(slice.getFocus(), slice.getHops(), false);
+                case INHERITANCE_SUBTREE -> walk(slice.getFocus(), Integer.MAX_VALUE, true);
+                case PACKAGE -> List.of(elements.values().stream()
+                        .filter(element -> slice.coversPackage(element.getPackageName()))
+                        .map(UMLElementBoxInterface::getName)
+                        .toList());
+            };
+            cached = build(slice, layers);
+            cache.put(slice, cached);
+        }
+        return cached.diagram();
+    }
+
+    /**
+     * Checks whether a slice is currently cached.
+     *
+     * @param slice The slice.
+     * @return {@code true} if the slice would be returned without computing it.
+     */
+    public synchronized boolean isCached(DiagramSlice slice) {
+        return cache.containsKey(slice);
+    }
+
+    /**
+     * Builds a diagram holding the complete, current model.
+     *
+     * @return A new diagram sharing the elements and relationships of the model.
+     */
+    public synchronized ClassDiagramD getModel() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        for (UMLElementBoxInterface element : elements.values()) {
+            if (element instanceof UMLClassBox umlClass) {
+                diagram.getClasses().add(umlClass);
+            } else if (element instanceof UMLInterfaceBox umlInterface) {
+                diagram.getInterfaces().add(umlInterface);
+            }
+        }
+        relationships.values().forEach(edge -> diagram.getRelationships().add(edge.relationship()));
+        return diagram;
+    }
+
+    /**
+     * Retrieves the number of elements of the model.
+     *
+     * @return The number of classes and interfaces.
+     */
+    public synchronized int getElementCount() {
+        return elements.size();
+    }
+
+    /**
+     * Checks whether the model holds an element.
+     *
+     * @param name The name of the class or interface.
+     * @return {@code true} if the element exists.
+     */
+    public synchronized boolean containsElement(String name) {
+        return elements.containsKey(name);
+    }
+
+    /**
+     * Retrieves the packages of the elements of the model.
+     *
+     * @return The sorted package names, without the empty name of unknown packages.
+     */
+    public synchronized SortedSet<String> getPackages() {
+        SortedSet<String> packages = new TreeSet<>();
+        for (UMLElementBoxInterface element : elements.values()) {
+            String packageName = element.getPackageName();
+            if (packageName != null && !packageName.isEmpty()) {
+                packages.add(packageName);
+            }
+        }
+        return packages;
+    }
+
+    /**
+     * Updates the index for a created or modified element.
+     *
+     * @param element The class or interface that changed.
+     */
+    @Override
+    public synchronized void elementChanged(UMLElementBoxInterface element) {
+        UMLElementBoxInterface previous = elements.put(element.getName(), element);
+        if (previous != null && !Objects.equals(previous.getPackageName(), element.getPackageName())) {
+            invalidate(element.getName(), previous.getPackageName());
+        }
+        invalidate(element.getName(), element.getPackageName());
+    }
+
+    /**
+     * Updates the index for a removed element. Its relationships are removed when their removal is reported.
+     *
+     * @param name The name of the removed class or interface.
+     */
+    @Override
+    public synchronized void elementRemoved(String name) {
+        UMLElementBoxInterface previous = elements.remove(name);
+        if (previous != null) {
+            invalidate(name, previous.getPackageName());
+        }
+    }
+
+    /**
+     * Updates the index for a created or modified relationship. Reporting a relationship again without changes, as
+     * happens when a slice is drawn, keeps the cached slices.
+     *
+     * @param relationship The relationship that changed.
+     */
+    @Override
+    public synchronized void relationshipChanged(UMLRelationship relationship) {
+        Edge previous = relationships.get(relationship.identityKey());
+        if (previous != null && Objects.equals(previous.startMultiplicity(), relationship.getStartMultiplicity())
+                && Objects.equals(previous.endMultiplicity(), relationship.getEndMultiplicity())) {
+            return;
+        }
+        if (previous != null) {
+            unlink(relationship.identityKey());
+        }
+        link(relationship);
+        invalidate(relationship.getStartElementName(), null);
+        invalidate(relationship.getEndElementName(), null);
+    }
+
+    /**
+     * Updates the index for a removed relationship.
+     *
+     * @param key The identity key the removed relationship had.
+     */
+    @Override
+    public synchronized void relationshipRemoved(String key) {
+        Edge previous = unlink(key);
+        if (previous != null) {
+            invalidate(previous.start(), null);
+            invalidate(previous.end(), null);
+        }
+    }
+
+    /**
+     * Adds a relationship to the index.
+     *
+     * @param relationship The relationship.
+     */
+    private void link(UMLRelationship relationship) {
+        String key = relationship.identityKey();
+        Edge edge = new Edge(relationship, relationship.getType(), relationship.getStartElementName(),
+                relationship.getEndElementName(), relationship.getStartMultiplicity(),
+                relationship.getEndMultiplicity());
+        relationships.put(key, edge);
+        incident.computeIfAbsent(edge.start(), name -> new LinkedHashSet<>()).add(key);
+        incident.computeIfAbsent(edge.end(), name -> new LinkedHashSet<>()).add(key);
+    }
+
+    /**
+     * Removes a relationship from the index.
+     *
+     * @param key The identity key of the relationship.
+     * @return The removed relationship, or {@code null} if it was not indexed.
+     */
+    private Edge unlink(String key) {
+        Edge edge = relationships.remove(key);
+        if (edge != null) {
+            for (String name : List.of(edge.start(), edge.end())) {
+                Set<String> keys = incident.get(name);
+                if (keys != null) {
+                    keys.remove(key);
+                    if (keys.isEmpty()) {
+                        incident.remove(name);
+                    }
+                }
+            }
+        }
+        return edge;
+    }
+
+    /**
+     * Evicts the cached slices that a change of an element can affect.
+     *
+     * @param name        The name of the element.
+     * @param packageName The package of the element, or {@code null} to skip package slices.
+     */
+    private void invalidate(String name, String packageName) {
+        cache.entrySet().removeIf(entry -> entry.getValue().members().contains(name)
+                || (packageName != null && entry.getKey().coversPackage(packageName)));
+    }
+
+    /**
+     * Walks the adjacency structure breadth first from an element.
+     *
+     * @param focus        The name of the element to start from.
+     * @param maxDistance  The maximum number of relationships to follow.
+     * @param subtypesOnly {@code true} to follow inheritance relationships from supertype to subtype only;
+     *                     {@code false} to follow all relationships in both directions.
+     * @return The names of the elements reached, grouped by their distance from the focus.
+     */
+    private List<List<String>> walk(String focus, int maxDistance, boolean subtypesOnly) {
+        List<List<String>> layers = new ArrayList<>();
+        if (!elements.containsKey(focus)) {
+            return layers;
+        }
+        Set<String> visited = new LinkedHashSet<>();
+        visited.add(focus);
+        List<String> layer = List.of(focus);
+        for (int distance = 0; !layer.isEmpty(); distance++) {
+            layers.add(layer);
+            if (distance == maxDistance) {
+                break;
+            }
+            List<String> next = new ArrayList<>();
+            for (String name : layer) {
+                for (String key : incident.getOrDefault(name, Set.of())) {
+                    Edge edge = relationships.get(key);
+                    String neighbour;
+                    if (subtypesOnly) {
+                        neighbour = INHERITANCE.equals(edge.type()) && edge.end().equals(name) ? edge.start() : null;
+                    } else {
+                        neighbour = edge.start().equals(name) ? edge.end() : edge.start();
+                    }
+                    if (neighbour != null && elements.containsKey(neighbour) && visited.add(neighbour)) {
+                        next.add(neighbour);
+                    }
+                }
+            }
+            layer = next;
+        }
+        return layers;
+    }
+
+    /**
+     * Builds the diagram of a slice from its members.
+     *
+     * @param slice  The slice.
+     * @param layers The names of the members, grouped into layers placed below each other.
+     * @return The cached slice.
+     */
+    private CachedSlice build(DiagramSlice slice, List<List<String>> layers) {
+        Set<String> members = new LinkedHashSet<>();
+        layers.forEach(members::addAll);
+
+        ClassDiagramD diagram = new ClassDiagramD();
+        List<List<UMLElementBoxInterface>> copies = new ArrayList<>();
+        for (List<String> layer : layers) {
+            List<UMLElementBoxInterface> layerCopies = new ArrayList<>();
+            for (String name : layer) {
+                UMLElementBoxInterface element = elements.get(name);
+                if (element instanceof UMLClassBox umlClass) {
+                    UMLClassBox copy = new UMLClassBox(umlClass.getName(), 0, 0,
+                            new ArrayList<>(umlClass.getAttributes()), new ArrayList<>(umlClass.getMethods()));
+                    copy.setPackageName(umlClass.getPackageName());
+                    diagram.getClasses().add(copy);
+                    layerCopies.add(copy);
+                } else if (element instanceof UMLInterfaceBox umlInterface) {
+                    UMLInterfaceBox copy = new UMLInterfaceBox();
+                    copy.setName(umlInterface.getName());
+                    copy.setMethods(new ArrayList<>(umlInterface.getMethods()));
+                    copy.setPackageName(umlInterface.getPackageName());
+                    diagram.getInterfaces().add(copy);
+                    layerCopies.add(copy);
+                }
+            }
+            copies.add(layerCopies);
+        }
+        ClassDiagramLayout.placeLayers(copies, members.size());
+
+        Set<String> keys = new LinkedHashSet<>();
+        members.forEach(name -> keys.addAll(incident.getOrDefault(name, Set.of())));
+        for (String key : keys) {
+            Edge edge = relationships.get(key);
+            if (members.contains(edge.start()) && members.contains(edge.end())) {
+                diagram.getRelationships().add(new UMLRelationship(edge.type(), edge.start(), edge.end(),
+                        edge.relationship().getName(), edge.startMultiplicity(), edge.endMultiplicity()));
+            }
+        }
+
+        if (slice.getKind() != DiagramSlice.Kind.PACKAGE) {
+            // Keep a missing focus, so that the slice is recomputed once the element is created
+            members.add(slice.getFocus());
+        }
+        return new CachedSlice(members, diagram);
+    }
+
+    /**
+     * A relationship of the index, with the values it had when it was reported, so that it can be unlinked even after
+     * the relationship object has been modified.
+     *
+     * @param relationship      The relationship.
+     * @param type              The type of the relationship.
+     * @param start             The name of the start element.
+     * @param end               The name of the end element.
+     * @param startMultiplicity The multiplicity at the start element.
+     * @param endMultiplicity   The multiplicity at the end element.
+     */
+    private record Edge(UMLRelationship relationship, String type, String start, String end,
+                        String startMultiplicity, String endMultiplicity) {
+    }
+
+    /**
+     * A computed slice.
+     *
+     * @param members The names of the elements the slice depends on.
+     * @param diagram The diagram of the slice.
+     */
+    private record CachedSlice(Set<String> members, ClassDiagramD diagram) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h1>Class Diagram Validator</h1>
+ *
+ * <p>The {@code ClassDiagramValidator} class checks a class diagram for inconsistencies that the editor does not
+ * prevent in hand-edited or generated files: missing or duplicate element names, relationships of unknown types or
+ * between elements that do not exist, duplicate relationships, classes extending several classes, interfaces
+ * extending classes, and cycles in the inheritance hierarchy.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Checking the names of classes and interfaces.</li>
+ *     <li>Checking the types and endpoints of relationships.</li>
+ *     <li>Checking the inheritance hierarchy.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassDiagramValidator {
+
+    /**
+     * The relationship types the editor can draw.
+     */
+    private static final Set<String> RELATIONSHIP_TYPES =
+            Set.of("Association", "Aggregation", "Composition", "Inheritance");
+
+    /**
+     * Prevents instantiation; the validator is a set of static operations.
+     */
+    private ClassDiagramValidator() {
+    }
+
+    /**
+     * Checks a class diagram.
+     *
+     * @param diagram The diagram to check.
+     * @return A description of every problem found, in diagram order; empty if the diagram is consistent.
+     */
+    public static List<String> validate(ClassDiagramD diagram) {
+        List<String> problems = new ArrayList<>();
+        Map<String, UMLElementBoxInterface> elements = new LinkedHashMap<>();
+        List<UMLElementBoxInterface> all = new ArrayList<>(diagram.getClasses());
+        all.addAll(diagram.getInterfaces());
+        for (UMLElementBoxInterface element : all) {
+            String name = element.getName();
+            if (name == null || name.isBlank()) {
+                problems.add("A " + kind(element) + " has no name");
+            } else if (elements.putIfAbsent(name, element) != null) {
+                problems.add("Duplicate element name: " + name);
+            }
+        }
+
+        Set<String> keys = new HashSet<>();
+        Map<String, List<String>> supertypes = new HashMap<>();
+        for (UMLRelationship relationship : diagram.getRelationships()) {
+            String description = relationship.getType() + " " + relationship.getStartElementName() + " -> "
+                    + relationship.getEndElementName();
+            if (!RELATIONSHIP_TYPES.contains(relationship.getType())) {
+                problems.add("Unknown relationship type: " + description);
+                continue;
+            }
+            UMLElementBoxInterface start = elements.get(relationship.getStartElementName());
+            UMLElementBoxInterface end = elements.get(relationship.getEndElementName());
+            if (start == null || end == null) {
+                problems.add("Relationship to a missing element: " + description);
+                continue;
+            }
+            if (!keys.add(relationship.identityKey())) {
+                problems.add("Duplicate relationship: " + description);
+            }
+            if ("Inheritance".equals(relationship.getType())) {
+                if (start instanceof UMLInterfaceBox && end instanceof UMLClassBox) {
+                    problems.add("Interface extends a class: " + description);
+                }
+                supertypes.computeIfAbsent(start.getName(), name -> new ArrayList<>()).add(end.getName());
+            }
+        }
+
+        for (UMLElementBoxInterface element : elements.values()) {
+            long superclasses = supertypes.getOrDefault(element.getName(), List.of()).stream()
+                    .filter(name -> elements.get(name) instanceof UMLClassBox)
+                    .distinct()
+                    .count();
+            if (element instanceof UMLClassBox && superclasses > 1) {
+                problems.add("Class extends more than one class: " + element.getName());
+            }
+        }
+
+        Set<String> finished = new HashSet<>();
+        for (UMLElementBoxInterface element : all) {
+            String cycle = findCycle(element.getName(), supertypes, new ArrayList<>(), finished);
+            if (cycle != null) {
+                problems.add("Inheritance cycle: " + cycle);
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Searches the inheritance hierarchy above an element for a cycle not reported yet.
+     *
+     * @param name       The name of the element.
+     * @param supertypes The supertypes of each element.
+     * @param path       The elements on the path from the start of the search, excluding {@code name}.
+     * @param finished   The elements whose supertypes have been searched completely.
+     * @return The cycle as {@code A -> B -> A}, or {@code null} if none is found.
+     */
+    private static String findCycle(String name, Map<String, List<String>> supertypes, List<String> path,
+                                    Set<String> finished) {
+        int index = path.indexOf(name);
+        if (index >= 0) {
+            List<String> cycle = new ArrayList<>(path.subList(index, path.size()));
+            cycle.add(name);
+            return String.join(" -> ", cycle);
+        }
+        if (name == null || finished.contains(name)) {
+            return null;
+        }
+        path.add(name);
+        String cycle = null;
+        for (String supertype : supertypes.getOrDefault(name, List.of())) {
+            cycle = findCycle(supertype, supertypes, path, finished);
+            if (cycle != null) {
+                break;
+            }
+        }
+        path.remove(path.size() - 1);
+        finished.add(name);
+        return cycle;
+    }
+
+    /**
+     * Describes the kind of an element for messages.
+     *
+     * @param element The element.
+     * @return {@code "class"} or {@code "interface"}.
+     */
+    private static String kind(UMLElementBoxInterface element) {
+        return element instanceof UMLInterfaceBox ? "interface" : "class";
+    }
+}
@@ -223,6 +223,7 @@ public class ClassEditorManager {
 
             // Update relationships in the ClassDiagramManager
             classDiagramManager.updateRelationshipsForRenamedClass(oldName, newName);
+            classDiagramManager.markElementEdited(oldName, umlClassBox);
         }
     }
 
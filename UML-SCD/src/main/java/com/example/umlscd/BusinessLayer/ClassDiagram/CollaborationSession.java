@@ -0,0 +1,348 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <h1>Collaboration Session</h1>
+ *
+ * <p>The {@code CollaborationSession} connects a class diagram to the other participants of a collaborative editing
+ * session. It listens to the diagram's {@link ClassDiagramChangeTracker}, so every mutation the manager already
+ * reports for incremental saving is turned into a {@link DiagramOperation}: edits of an element whose content did not
+ * change become moves, and everything else is sent as it is.</p>
+ *
+ * <p>Local operations are not sent one by one. They are collected per register until the next tick and then sent as
+ * one batch, and a newer operation replaces a pending one for the same register: dragging an element across the
+ * diagram sends at most one position per tick instead of one per mouse event.</p>
+ *
+ * <p>Received batches are merged by an {@link OperationMerger} and the surviving operations are applied to the
+ * {@link DiagramOperationTarget} on its own thread. A relationship between elements that have not arrived yet is
+ * held back until they do.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Translating reported changes into operations.</li>
+ *     <li>Coalescing and batching local operations per tick.</li>
+ *     <li>Merging and applying remote operations without echoing them.</li>
+ *     <li>Publishing the complete diagram when joining a session.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class CollaborationSession implements ClassDiagramChangeListener, Closeable {
+
+    /**
+     * The default interval at which pending local operations are sent.
+     */
+    public static final Duration DEFAULT_TICK = Duration.ofMillis(50);
+
+    /**
+     * The diagram remote operations are applied to.
+     */
+    private final DiagramOperationTarget target;
+
+    /**
+     * Receives the batches of local operations to send.
+     */
+    private final Consumer<List<DiagramOperation>> outbox;
+
+    /**
+     * Runs the application of remote operations, typically on the JavaFX application thread.
+     */
+    private final Executor applyExecutor;
+
+    /**
+     * Stamps local operations and merges remote ones.
+     */
+    private final OperationMerger merger;
+
+    /**
+     * The local operations not sent yet, keyed by register.
+     */
+    private final Map<String, DiagramOperation> pending = new LinkedHashMap<>();
+
+    /**
+     * The last known content of every element, used to recognize moves.
+     */
+    private final Map<String, DiagramOperation> shadows = new HashMap<>();
+
+    /**
+     * Remote relationships waiting for their elements, keyed by identity key.
+     */
+    private final Map<String, UMLRelationship> parked = new LinkedHashMap<>();
+
+    /**
+     * Sends the pending operations every tick, or {@code null} if batches are only sent by {@link #flush()}.
+     */
+    private final ScheduledExecutorService ticker;
+
+    /**
+     * Whether remote operations are being applied, during which reported changes are not sent.
+     */
+    private boolean applying;
+
+    /**
+     * Constructs a session sending its pending operations every {@link #DEFAULT_TICK}.
+     *
+     * @param target        The diagram remote operations are applied to.
+     * @param outbox        Receives the batches of local operations to send.
+     * @param applyExecutor Runs the application of remote operations.
+     * @param site          The identifier of the local site, unique within the session.
+     */
+    public CollaborationSession(DiagramOperationTarget target, Consumer<List<DiagramOperation>> outbox,
+                                Executor applyExecutor, String site) {
+        this(target, outbox, applyExecutor, site, DEFAULT_TICK);
+    }
+
+    /**
+     * Constructs a session.
+     *
+     * @param target        The diagram remote operations are applied to.
+     * @param outbox        Receives the batches of local operations to send.
+     * @param applyExecutor Runs the application of remote operations.
+     * @param site          The identifier of the local site, unique within the session.
+     * @param tick          The interval at which pending local operations are sent, or {@code null} to send them
+     *                      only when {@link #flush()} is called.
+     */
+    public CollaborationSession(DiagramOperationTarget target, Consumer<List<DiagramOperation>> outbox,
+                                Executor applyExecutor, String site, Duration tick) {
+        this.target = target;
+        this.outbox = outbox;
+        this.applyExecutor = applyExecutor;
+        this.merger = new OperationMerger(site);
+        if (tick == null) {
+            this.ticker = null;
+        } else {
+            this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "collaboration-tick");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ticker.scheduleWithFixedDelay(this::flush, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Queues the complete diagram for sending, so that the other participants receive the elements and relationships
+     * the local site had before joining.
+     *
+     * @param diagram The diagram.
+     */
+    public void publish(ClassDiagramD diagram) {
+        diagram.getClasses().forEach(this::elementChanged);
+        diagram.getInterfaces().forEach(this::elementChanged);
+        diagram.getRelationships().forEach(this::relationshipChanged);
+    }
+
+    /**
+     * Turns a created, edited or moved element into an operation.
+     *
+     * @param element The class or interface that changed.
+     */
+    @Override
+    public void elementChanged(UMLElementBoxInterface element) {
+        if (applying) {
+            return;
+        }
+        DiagramOperation upsert = DiagramOperation.upsertElement(element);
+        DiagramOperation shadow = shadows.put(element.getName(), upsert);
+        if (shadow != null && shadow.hasSameContent(upsert)) {
+            queue(DiagramOperation.moveElement(element.getName(), element.getX(), element.getY()));
+        } else {
+            queue(upsert);
+        }
+    }
+
+    /**
+     * Turns a removed element into an operation.
+     *
+     * @param name The name of the removed class or interface.
+     */
+    @Override
+    public void elementRemoved(String name) {
+        if (applying) {
+            return;
+        }
+        shadows.remove(name);
+        queue(DiagramOperation.removeElement(name));
+    }
+
+    /**
+     * Turns a created or modified relationship into an operation.
+     *
+     * @param relationship The relationship that changed.
+     */
+    @Override
+    public void relationshipChanged(UMLRelationship relationship) {
+        if (!applying) {
+            queue(DiagramOperation.upsertRelationship(relationship));
+        }
+    }
+
+    /**
+     * Turns a removed relationship into an operation.
+     *
+     * @param key The identity key the removed relationship had.
+     */
+    @Override
+    public void relationshipRemoved(String key) {
+        if (!applying) {
+            queue(DiagramOperation.removeRelationship(key));
+        }
+    }
+
+    /**
+     * Sends the pending local operations as one batch.
+     */
+    public void flush() {
+        List<DiagramOperation> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        outbox.accept(batch);
+    }
+
+    /**
+     * Schedules a batch received from another participant to be merged and applied.
+     *
+     * @param operations The remote operations.
+     */
+    public void receive(List<DiagramOperation> operations) {
+        applyExecutor.execute(() -> apply(operations));
+    }
+
+    /**
+     * Retrieves the merger of the session.
+     *
+     * @return The merger.
+     */
+    public OperationMerger getMerger() {
+        return merger;
+    }
+
+    /**
+     * Stops the ticker after sending the pending operations.
+     */
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        flush();
+    }
+
+    /**
+     * Stamps a local operation and adds it to the pending batch, replacing a pending operation for its register.
+     *
+     * @param operation The local operation.
+     */
+    private void queue(DiagramOperation operation) {
+        synchronized (pending) {
+            merger.stamp(operation);
+            pending.put(operation.getRegister(), operation);
+        }
+    }
+
+    /**
+     * Merges remote operations and applies those that survive.
+     *
+     * @param operations The remote operations.
+     */
+    private void apply(List<DiagramOperation> operations) {
+        applying = true;
+        try {
+            target.applyRemote(() -> {
+                for (DiagramOperation operation : operations) {
+                    DiagramOperation effect = merger.merge(operation);
+                    if (effect != null) {
+                        applyEffect(effect);
+                    }
+                }
+            });
+        } finally {
+            applying = false;
+        }
+    }
+
+    /**
+     * Applies a merged operation to the target.
+     *
+     * @param operation The operation.
+     */
+    private void applyEffect(DiagramOperation operation) {
+        String name = operation.getName();
+        switch (operation.getType()) {
+            case UPSERT_ELEMENT -> {
+                target.applyElement(operation);
+                shadows.put(name, operation);
+                applyParked();
+            }
+            case MOVE_ELEMENT -> target.moveElement(name, operation.getX(), operation.getY());
+            case REMOVE_ELEMENT -> {
+                target.removeElement(name);
+                shadows.remove(name);
+            }
+            case UPSERT_RELATIONSHIP -> {
+                UMLRelationship relationship = operation.getRelationship();
+                if (hasElements(relationship)) {
+                    parked.remove(name);
+                    target.applyRelationship(relationship);
+                } else {
+                    parked.put(name, relationship);
+                }
+            }
+            case REMOVE_RELATIONSHIP -> {
+                parked.remove(name);
+                target.removeRelationship(name);
+            }
+        }
+    }
+
+    /**
+     * Applies the held back relationships whose elements have arrived.
+     */
+    private void applyParked() {
+        Iterator<UMLRelationship> iterator = parked.values().iterator();
+        while (iterator.hasNext()) {
+            UMLRelationship relationship = iterator.next();
+            if (hasElements(relationship)) {
+                iterator.remove();
+                target.applyRelationship(relationship);
+            }
+        }
+    }
+
+    /**
+     * Checks whether both elements of a relationship exist in the target.
+     *
+     * @param relationship The relationship.
+     * @return {@code true} if the relationship can be drawn.
+     */
+    private boolean hasElements(UMLRelationship relationship) {
+        return target.containsElement(relationship.getStartElementName())
+                && target.containsElement(relationship.getEndElementName());
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>Diagram Diff</h1>
+ *
+ * <p>The {@code DiagramDiff} class is the result of comparing two versions of a diagram with
+ * {@link ClassDiagramDiff} or {@code UseCaseDiagramDiff}. It lists the structural changes from the earlier to the
+ * later version, element changes first and relationship changes last, so that a reviewer sees what changed instead of
+ * comparing two images.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Listing the changes in a stable order.</li>
+ *     <li>Grouping the changes by element, for highlighting them in a diagram.</li>
+ *     <li>Summarizing the number of changes of every type.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class DiagramDiff {
+
+    /**
+     * The types of change.
+     */
+    public enum ChangeType {
+        /** An element exists only in the later version. */
+        ADDED,
+        /** An element exists only in the earlier version. */
+        REMOVED,
+        /** An element has a new name; its subject is the new name. */
+        RENAMED,
+        /** An element has a new position. */
+        MOVED,
+        /** The attributes of a class changed. */
+        ATTRIBUTES_CHANGED,
+        /** The methods of a class or interface changed. */
+        METHODS_CHANGED,
+        /** The package of an element changed. */
+        PACKAGE_CHANGED,
+        /** A relationship exists only in the later version. */
+        RELATIONSHIP_ADDED,
+        /** A relationship exists only in the earlier version. */
+        RELATIONSHIP_REMOVED,
+        /** The multiplicities of a relationship changed. */
+        RELATIONSHIP_CHANGED;
+
+        /**
+         * Checks whether the change concerns a relationship rather than an element.
+         *
+         * @return {@code true} for relationship changes.
+         */
+        public boolean isRelationshipChange() {
+            return this == RELATIONSHIP_ADDED || this == RELATIONSHIP_REMOVED || this == RELATIONSHIP_CHANGED;
+        }
+    }
+
+    /**
+     * A single change.
+     */
+    public static final class Change {
+
+        /**
+         * The type of the change.
+         */
+        private final ChangeType type;
+
+        /**
+         * The name of the element in the later version (the earlier one if it was removed), or the identity key of
+         * the relationship.
+         */
+        private final String subject;
+
+        /**
+         * A description of the old and new values, or an empty string if the type says everything.
+         */
+        private final String detail;
+
+        /**
+         * Constructs a change.
+         *
+         * @param type    The type of the change.
+         * @param subject The element name or relationship key.
+         * @param detail  A description of the old and new values, or an empty string.
+         */
+        public Change(ChangeType type, String subject, String detail) {
+            this.type = type;
+            this.subject = subject;
+            this.detail = detail;
+        }
+
+        /**
+         * Retrieves the type of the change.
+         *
+         * @return The type.
+         */
+        public ChangeType getType() {
+            return type;
+        }
+
+        /**
+         * Retrieves the changed element or relationship.
+         *
+         * @return The element name or relationship key.
+         */
+        public String getSubject() {
+            return subject;
+        }
+
+        /**
+         * Retrieves the description of the old and new values.
+         *
+         * @return The description, or an empty string.
+         */
+        public String getDetail() {
+            return detail;
+        }
+
+        /**
+         * Formats the change as a single line.
+         *
+         * @return The type, subject and detail of the change.
+         */
+        @Override
+        public String toString() {
+            return type + " " + subject + (detail.isEmpty() ? "" : ": " + detail);
+        }
+    }
+
+    /**
+     * The changes, element changes first.
+     */
+    private final List<Change> changes;
+
+    /**
+     * Constructs a diff from a list of changes.
+     *
+     * @param changes The changes, element changes first.
+     */
+    public DiagramDiff(List<Change> changes) {
+        this.changes = List.copyOf(changes);
+    }
+
+    /**
+     * Retrieves the changes.
+     *
+     * @return An unmodifiable list of the changes, element changes first.
+     */
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Checks whether the two versions are structurally equal.
+     *
+     * @return {@code true} if there are no changes.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Groups the element changes by the element they concern.
+     *
+     * @return The types of change of every changed element, keyed by its name, in the order of the changes.
+     */
+    public Map<String, Set<ChangeType>> getElementChanges() {
+        Map<String, Set<ChangeType>> byElement = new LinkedHashMap<>();
+        for (Change change : changes) {
+            if (!change.type.isRelationshipChange()) {
+                byElement.computeIfAbsent(change.subject, name -> EnumSet.noneOf(ChangeType.class)).add(change.type);
+            }
+        }
+        return Collections.unmodifiableMap(byElement);
+    }
+
+    /**
+     * Summarizes the changes.
+     *
+     * @return The number of changes of every type that occurs, such as {@code "2 ADDED, 1 MOVED"}, or
+     * {@code "no changes"}.
+     */
+    public String summary() {
+        if (changes.isEmpty()) {
+            return "no changes";
+        }
+        Map<ChangeType, Long> counts = changes.stream()
+                .collect(Collectors.groupingBy(Change::getType, () -> new EnumMap<>(ChangeType.class),
+                        Collectors.counting()));
+        return counts.entrySet().stream().map(count -> count.getValue() + " " + count.getKey())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Describes a move, for the detail of a {@link ChangeType#MOVED} change.
+     *
+     * @param fromX The earlier X-coordinate.
+     * @param fromY The earlier Y-coordinate.
+     * @param toX   The later X-coordinate.
+     * @param toY   The later Y-coordinate.
+     * @return The positions as {@code (x, y) -> (x, y)}, without fractions for whole numbers.
+     */
+    public static String describeMove(double fromX, double fromY, double toX, double toY) {
+        return describePosition(fromX, fromY) + " -> " + describePosition(toX, toY);
+    }
+
+    /**
+     * Describes a position.
+     *
+     * @param x The X-coordinate.
+     * @param y The Y-coordinate.
+     * @return The position as {@code (x, y)}, without fractions for whole numbers.
+     */
+    public static String describePosition(double x, double y) {
+        return "(" + number(x) + ", " + number(y) + ")";
+    }
+
+    /**
+     * Formats a coordinate.
+     *
+     * @param value The coordinate.
+     * @return The coordinate, without a fraction if it is a whole number.
+     */
+    private static String number(double value) {
+        return value == Math.rint(value) && !Double.isInfinite(value) ? Long.toString((long) value)
+                : Double.toString(value);
+    }
+
+    /**
+     * Formats the diff with one change per line.
+     *
+     * @return The changes, one per line.
+     */
+    @Override
+    public String toString() {
+        return changes.stream().map(Change::toString).collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+/**
+ * <h1>Diagram Operation Target</h1>
+ *
+ * <p>The {@code DiagramOperationTarget} interface is implemented by the diagrams that operations received from the
+ * other participants of a collaborative editing session are applied to. The {@code ClassDiagramManager} implements
+ * it by updating the affected elements and relationships in place, so remote edits never reload the diagram. The
+ * {@link ClassDiagramHistory} undoes and redoes changes through it as well.</p>
+ *
+ * <p>Implementations report the changes they apply to their change tracker as usual; the {@link CollaborationSession}
+ * recognizes them as its own and does not send them back, and applies them through {@link #applyRemote(Runnable)} so
+ * that the target can keep them out of its undo history.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Creating, editing, moving and removing elements.</li>
+ *     <li>Creating, replacing and removing relationships.</li>
+ *     <li>Telling remote changes apart from the user's own.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public interface DiagramOperationTarget {
+
+    /**
+     * Creates an element or replaces its content and position.
+     *
+     * @param operation An {@link DiagramOperation.Type#UPSERT_ELEMENT} operation.
+     */
+    void applyElement(DiagramOperation operation);
+
+    /**
+     * Moves an element; unknown elements are ignored.
+     *
+     * @param name The name of the element.
+     * @param x    The new X-coordinate.
+     * @param y    The new Y-coordinate.
+     */
+    void moveElement(String name, double x, double y);
+
+    /**
+     * Removes an element and the relationships attached to it; unknown elements are ignored.
+     *
+     * @param name The name of the element.
+     */
+    void removeElement(String name);
+
+    /**
+     * Creates a relationship, replacing one with the same identity key.
+     *
+     * @param relationship The relationship; both of its elements exist.
+     */
+    void applyRelationship(UMLRelationship relationship);
+
+    /**
+     * Removes a relationship; unknown relationships are ignored.
+     *
+     * @param key The identity key of the relationship.
+     */
+    void removeRelationship(String key);
+
+    /**
+     * Checks whether an element exists.
+     *
+     * @param name The name of the element.
+     * @return {@code true} if the diagram contains a class or interface with this name.
+     */
+    boolean containsElement(String name);
+
+    /**
+     * Applies changes received from other participants. The default implementation simply runs them; targets with an
+     * undo history run them without recording, so undoing never reverts another participant's edit.
+     *
+     * @param changes The changes, made through the other methods of this interface.
+     */
+    default void applyRemote(Runnable changes) {
+        changes.run();
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import java.util.Objects;
+
+/**
+ * <h1>Diagram Slice</h1>
+ *
+ * <p>The {@code DiagramSlice} class describes a part of a class diagram that is shown on its own, so that models
+ * imported from large code bases remain readable. A slice is either the neighbourhood of an element, holding every
+ * element reachable through at most a given number of relationships, the inheritance subtree of an element, holding
+ * the element and all its direct and indirect subtypes, or the elements of a package and its sub-packages.</p>
+ *
+ * <p>Slices are immutable values and are used as keys of the slice cache of the {@link ClassDiagramSlicer}.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Describing neighbourhood, inheritance subtree and package slices.</li>
+ *     <li>Comparing slices by value.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class DiagramSlice {
+
+    /**
+     * The kinds of slices.
+     */
+    public enum Kind {
+        /**
+         * The elements within a number of relationships of the focus element.
+         */
+        NEIGHBOURHOOD,
+        /**
+         * The focus element and its direct and indirect subtypes.
+         */
+        INHERITANCE_SUBTREE,
+        /**
+         * The elements of the focus package and its sub-packages.
+         */
+        PACKAGE
+    }
+
+    /**
+     * The kind of the slice.
+     */
+    private final Kind kind;
+
+    /**
+     * The name of the focus element, or the package name for package slices.
+     */
+    private final String focus;
+
+    /**
+     * The maximum number of relationships between the focus and the elements of a neighbourhood slice; zero for
+     * other slices.
+     */
+    private final int hops;
+
+    /**
+     * Constructs a slice.
+     *
+     * @param kind  The kind of the slice.
+     * @param focus The name of the focus element or package.
+     * @param hops  The maximum distance from the focus element.
+     */
+    private DiagramSlice(Kind kind, String focus, int hops) {
+        this.kind = kind;
+        this.focus = Objects.requireNonNull(focus, "focus");
+        this.hops = hops;
+    }
+
+    /**
+     * Creates the slice holding the elements connected to an element through at most {@code hops} relationships,
+     * in either direction.
+     *
+     * @param elementName The name of the focus element.
+     * @param hops        The maximum number of relationships; zero gives the focus element alone.
+     * @return The slice.
+     * @throws IllegalArgumentException If {@code hops} is negative.
+     */
+    public static DiagramSlice neighbourhood(String elementName, int hops) {
+        if (hops < 0) {
+            throw new IllegalArgumentException("The number of hops must not be negative: " + hops);
+        }
+        return new DiagramSlice(Kind.NEIGHBOURHOOD, elementName, hops);
+    }
+
+    /**
+     * Creates the slice holding an element and all the classes and interfaces that directly or indirectly inherit
+     * from it.
+     *
+     * @param elementName The name of the root element.
+     * @return The slice.
+     */
+    public static DiagramSlice inheritanceSubtree(String elementName) {
+        return new DiagramSlice(Kind.INHERITANCE_SUBTREE, elementName, 0);
+    }
+
+    /**
+     * Creates the slice holding the elements of a package and its sub-packages. The empty name selects the elements
+     * without a known package.
+     *
+     * @param packageName The package name.
+     * @return The slice.
+     */
+    public static DiagramSlice packageSubset(String packageName) {
+        return new DiagramSlice(Kind.PACKAGE, packageName, 0);
+    }
+
+    /**
+     * Retrieves the kind of the slice.
+     *
+     * @return The kind.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the name of the focus element, or the package name for package slices.
+     *
+     * @return The focus.
+     */
+    public String getFocus() {
+        return focus;
+    }
+
+    /**
+     * Retrieves the maximum distance of a neighbourhood slice.
+     *
+     * @return The number of hops; zero for other slices.
+     */
+    public int getHops() {
+        return hops;
+    }
+
+    /**
+     * Checks whether an element of the given package belongs to this slice because of its package.
+     *
+     * @param packageName The package of the element, or {@code null} if it is not known.
+     * @return {@code true} if this is a package slice covering the package.
+     */
+    boolean coversPackage(String packageName) {
+        if (kind != Kind.PACKAGE) {
+            return false;
+        }
+        String name = packageName == null ? "" : packageName;
+        if (focus.isEmpty()) {
+            return name.isEmpty();
+        }
+        return name.equals(focus) || name.startsWith(focus + ".");
+    }
+
+    /**
+     * Compares this slice to another object.
+     *
+     * @param o The object to compare with.
+     * @return {@code true} if the object is a slice of the same kind, focus and distance.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DiagramSlice other)) {
+            return false;
+        }
+        return kind == other.kind && hops == other.hops && focus.equals(other.focus);
+    }
+
+    /**
+     * Computes the hash code of this slice.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, focus, hops);
+    }
+
+    /**
+     * Describes the slice for display.
+     *
+     * @return A short description of the slice.
+     */
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case NEIGHBOURHOOD -> focus + " and its neighbours within " + hops + (hops == 1 ? " hop" : " hops");
+            case INHERITANCE_SUBTREE -> focus + " and its subtypes";
+            case PACKAGE -> focus.isEmpty() ? "Default package" : "Package " + focus;
+        };
+    }
+}
@@ -186,6 +186,7 @@ public class InterfaceEditorManager {
 
             // Update relationships in the ClassDiagramManager
             classDiagramManager.updateRelationshipsForRenamedClass(oldName, newName);
+            classDiagramManager.markElementEdited(oldName, umlInterfaceBox);
         }
     }
 
@@ -0,0 +1,136 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <h1>Operation Merger</h1>
+ *
+ * <p>The {@code OperationMerger} decides how the operations of a collaborative editing session are applied so that
+ * every participant ends up with the same diagram, whatever order the operations arrive in. Each element has a
+ * content register, written by edits and removals, and a position register, written by edits and moves; each
+ * relationship has a register of its own. Every register keeps the operation with the newest stamp and ignores older
+ * ones (last writer wins), and stamps come from a Lamport clock that is advanced past every operation received, so an
+ * edit made after seeing another always wins over it.</p>
+ *
+ * <p>Removals are kept as tombstones in their register, so that an edit delayed in transit cannot bring back an
+ * element that was removed after it. The merger only keeps the newest operation per register, so its size is bounded
+ * by the number of elements and relationships ever edited, not by the length of the session.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Stamping local operations.</li>
+ *     <li>Deciding whether a remote operation is applied, and with which position.</li>
+ *     <li>Maintaining the Lamport clock of the local site.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class OperationMerger {
+
+    /**
+     * The identifier of the local site.
+     */
+    private final String site;
+
+    /**
+     * The newest operation written to each register, keyed by {@link DiagramOperation#getRegister()}.
+     */
+    private final Map<String, DiagramOperation> registers = new HashMap<>();
+
+    /**
+     * The Lamport clock of the local site.
+     */
+    private long clock;
+
+    /**
+     * Constructs a merger for a site.
+     *
+     * @param site The identifier of the local site; identifiers must differ between the participants.
+     */
+    public OperationMerger(String site) {
+        this.site = site;
+    }
+
+    /**
+     * Stamps an operation made locally and records it as the newest write of its registers.
+     *
+     * @param operation The local operation.
+     * @return The stamped operation.
+     */
+    public synchronized DiagramOperation stamp(DiagramOperation operation) {
+        operation.stamp(site, ++clock);
+        record(operation);
+        return operation;
+    }
+
+    /**
+     * Merges an operation received from another site.
+     *
+     * @param operation The remote operation.
+     * @return The operation to apply to the local diagram, or {@code null} if a newer operation already wrote its
+     * register. An element edit whose position was overwritten by a newer move is returned with the newer position.
+     */
+    public synchronized DiagramOperation merge(DiagramOperation operation) {
+        clock = Math.max(clock, operation.getClock());
+        String register = operation.getRegister();
+        if (!operation.isNewerThan(registers.get(register))) {
+            return null;
+        }
+        registers.put(register, operation);
+        if (operation.getType() == DiagramOperation.Type.UPSERT_ELEMENT) {
+            String positionRegister = positionRegister(operation.getName());
+            DiagramOperation position = registers.get(positionRegister);
+            if (!operation.isNewerThan(position)) {
+                return operation.withPosition(position.getX(), position.getY());
+            }
+            registers.put(positionRegister, operation);
+        }
+        return operation;
+    }
+
+    /**
+     * Retrieves the current value of the Lamport clock.
+     *
+     * @return The clock value.
+     */
+    public synchronized long getClock() {
+        return clock;
+    }
+
+    /**
+     * Retrieves the identifier of the local site.
+     *
+     * @return The site identifier.
+     */
+    public String getSite() {
+        return site;
+    }
+
+    /**
+     * Records an operation as the newest write of its registers.
+     *
+     * @param operation The operation.
+     */
+    private void record(DiagramOperation operation) {
+        registers.put(operation.getRegister(), operation);
+        if (operation.getType() == DiagramOperation.Type.UPSERT_ELEMENT) {
+            registers.put(positionRegister(operation.getName()), operation);
+        }
+    }
+
+    /**
+     * Computes the position register of an element.
+     *
+     * @param name The name of the element.
+     * @return The register key.
+     */
+    private static String positionRegister(String name) {
+        return DiagramOperation.moveElement(name, 0, 0).getRegister();
+    }
+}
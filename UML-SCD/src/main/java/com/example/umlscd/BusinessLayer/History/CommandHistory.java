@@ -0,0 +1,233 @@
+package com.example.umlscd.BusinessLayer.History;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <h1>Command History</h1>
+ *
+ * <p>The {@code CommandHistory} class keeps the commands made on a diagram so that they can be undone and redone. A
+ * command recorded right after another may be merged with it, until the merging is interrupted, so that the many
+ * small changes of a gesture such as a drag are undone in one step.</p>
+ *
+ * <p>The history is bounded by a memory budget rather than by a number of commands: when the estimated size of the
+ * kept commands exceeds the budget, the oldest commands are forgotten. The latest command is always kept.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Executing and recording commands.</li>
+ *     <li>Undoing and redoing commands.</li>
+ *     <li>Merging consecutive commands.</li>
+ *     <li>Forgetting the oldest commands beyond the memory budget.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class CommandHistory {
+
+    /**
+     * The default memory budget of a history: 8 MB.
+     */
+    public static final long DEFAULT_BUDGET_BYTES = 8L * 1024 * 1024;
+
+    /**
+     * The commands that can be undone, latest first.
+     */
+    private final Deque<DiagramCommand> undoStack = new ArrayDeque<>();
+
+    /**
+     * The commands that can be redone, latest undone first.
+     */
+    private final Deque<DiagramCommand> redoStack = new ArrayDeque<>();
+
+    /**
+     * The memory budget in bytes.
+     */
+    private final long budgetBytes;
+
+    /**
+     * The estimated size of the kept commands in bytes.
+     */
+    private long usedBytes;
+
+    /**
+     * Whether the next recorded command may be merged with the latest one.
+     */
+    private boolean coalescing;
+
+    /**
+     * Constructs an empty history with the default memory budget.
+     */
+    public CommandHistory() {
+        this(DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * Constructs an empty history.
+     *
+     * @param budgetBytes The memory budget in bytes.
+     */
+    public CommandHistory(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Makes a command's change and records it.
+     *
+     * @param command The command.
+     */
+    public void execute(DiagramCommand command) {
+        command.apply();
+        record(command);
+    }
+
+    /**
+     * Records a command whose change was already made. The commands that could be redone are forgotten.
+     *
+     * @param command The command.
+     */
+    public void record(DiagramCommand command) {
+        forget(redoStack);
+        DiagramCommand latest = undoStack.peekFirst();
+        DiagramCommand merged = coalescing && latest != null ? latest.coalesce(command) : null;
+        if (merged != null) {
+            usedBytes -= undoStack.removeFirst().estimateSize();
+            command = merged;
+        }
+        undoStack.addFirst(command);
+        usedBytes += command.estimateSize();
+        coalescing = true;
+        while (usedBytes > budgetBytes && undoStack.size() > 1) {
+            usedBytes -= undoStack.removeLast().estimateSize();
+        }
+    }
+
+    /**
+     * Prevents the next recorded command from being merged with the latest one, typically when a new gesture starts.
+     */
+    public void breakCoalescing() {
+        coalescing = false;
+    }
+
+    /**
+     * Takes back the latest command.
+     *
+     * @return {@code true} if a command was undone.
+     */
+    public boolean undo() {
+        return move(undoStack, redoStack, false);
+    }
+
+    /**
+     * Makes the latest undone command again.
+     *
+     * @return {@code true} if a command was redone.
+     */
+    public boolean redo() {
+        return move(redoStack, undoStack, true);
+    }
+
+    /**
+     * Checks whether a command can be undone.
+     *
+     * @return {@code true} if the history holds a command to undo.
+     */
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    /**
+     * Checks whether a command can be redone.
+     *
+     * @return {@code true} if the history holds an undone command.
+     */
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Counts the commands that can be undone.
+     *
+     * @return The number of commands.
+     */
+    public int getUndoCount() {
+        return undoStack.size();
+    }
+
+    /**
+     * Counts the commands that can be redone.
+     *
+     * @return The number of commands.
+     */
+    public int getRedoCount() {
+        return redoStack.size();
+    }
+
+    /**
+     * Retrieves the estimated size of the kept commands.
+     *
+     * @return The size in bytes.
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Retrieves the memory budget.
+     *
+     * @return The budget in bytes.
+     */
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Forgets all commands, typically when another diagram is opened.
+     */
+    public void clear() {
+        forget(undoStack);
+        forget(redoStack);
+        coalescing = false;
+    }
+
+    /**
+     * Undoes or redoes the latest command of a stack and moves it to the other stack.
+     *
+     * @param from  The stack to take the command from.
+     * @param to    The stack to move the command to.
+     * @param apply {@code true} to make the change again, {@code false} to take it back.
+     * @return {@code true} if the stack held a command.
+     */
+    private boolean move(Deque<DiagramCommand> from, Deque<DiagramCommand> to, boolean apply) {
+        coalescing = false;
+        DiagramCommand command = from.pollFirst();
+        if (command == null) {
+            return false;
+        }
+        if (apply) {
+            command.apply();
+        } else {
+            command.revert();
+        }
+        to.addFirst(command);
+        return true;
+    }
+
+    /**
+     * Forgets the commands of a stack.
+     *
+     * @param stack The stack.
+     */
+    private void forget(Deque<DiagramCommand> stack) {
+        for (DiagramCommand command : stack) {
+            usedBytes -= command.estimateSize();
+        }
+        stack.clear();
+    }
+}
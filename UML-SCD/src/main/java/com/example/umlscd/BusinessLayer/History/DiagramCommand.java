@@ -0,0 +1,50 @@
+package com.example.umlscd.BusinessLayer.History;
+
+/**
+ * <h1>Diagram Command</h1>
+ *
+ * <p>The {@code DiagramCommand} interface is implemented by the reversible changes kept by a {@link CommandHistory}.
+ * A command holds only what it needs to make its change and to take it back, such as the properties of an element
+ * that changed, never a copy of the whole diagram, so that long histories of huge diagrams stay small.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Making and taking back a change.</li>
+ *     <li>Estimating the memory a command holds.</li>
+ *     <li>Merging consecutive changes, such as the steps of a drag, into one command.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public interface DiagramCommand {
+
+    /**
+     * Makes the change, again after it was taken back.
+     */
+    void apply();
+
+    /**
+     * Takes the change back.
+     */
+    void revert();
+
+    /**
+     * Estimates the memory held by the command.
+     *
+     * @return The approximate size in bytes.
+     */
+    long estimateSize();
+
+    /**
+     * Merges a command made right after this one into a single command.
+     *
+     * @param next The later command.
+     * @return A command making both changes, or {@code null} if the commands are kept apart.
+     */
+    default DiagramCommand coalesce(DiagramCommand next) {
+        return null;
+    }
+}
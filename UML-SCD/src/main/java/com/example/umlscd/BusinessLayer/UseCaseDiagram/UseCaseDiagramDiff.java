@@ -0,0 +1,200 @@
+package com.example.umlscd.BusinessLayer.UseCaseDiagram;
+
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff;
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff.Change;
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff.ChangeType;
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <h1>Use Case Diagram Diff</h1>
+ *
+ * <p>The {@code UseCaseDiagramDiff} class compares two versions of a use case diagram structurally and reports the
+ * added, removed, renamed and moved actors and use cases and the added and removed associations, as a
+ * {@link DiagramDiff}.</p>
+ *
+ * <p>Objects are identified by their type and name; objects left over on both sides are paired as renames when they
+ * have the same type and position. Associations are identified by their type and endpoints, with the endpoints of
+ * renamed objects translated to their new names. Every step looks objects up in hash tables, so the comparison runs
+ * in time linear to the size of the diagrams.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Matching objects by name and position.</li>
+ *     <li>Reporting object and association changes.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class UseCaseDiagramDiff {
+
+    /**
+     * Prevents instantiation; the diff is a set of static operations.
+     */
+    private UseCaseDiagramDiff() {
+    }
+
+    /**
+     * Compares two versions of a use case diagram.
+     *
+     * @param before The earlier version.
+     * @param after  The later version.
+     * @return The changes from the earlier to the later version.
+     */
+    public static DiagramDiff compare(UseCaseDiagramManager before, UseCaseDiagramManager after) {
+        Map<UseCaseDiagramObject, UseCaseDiagramObject> matches = new IdentityHashMap<>();
+        Set<UseCaseDiagramObject> matchedBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        match(before.getObjects(), after.getObjects(), matches, matchedBefore, UseCaseDiagramDiff::nameKey);
+        match(before.getObjects(), after.getObjects(), matches, matchedBefore, UseCaseDiagramDiff::positionKey);
+
+        List<Change> changes = new ArrayList<>();
+        for (UseCaseDiagramObject object : after.getObjects()) {
+            UseCaseDiagramObject previous = matches.get(object);
+            if (previous == null) {
+                changes.add(new Change(ChangeType.ADDED, object.getName(), object.getType()));
+                continue;
+            }
+            if (!previous.getName().equals(object.getName())) {
+                changes.add(new Change(ChangeType.RENAMED, object.getName(),
+                        previous.getName() + " -> " + object.getName()));
+            }
+            if (previous.getX() != object.getX() || previous.getY() != object.getY()) {
+                changes.add(new Change(ChangeType.MOVED, object.getName(),
+                        DiagramDiff.describeMove(previous.getX(), previous.getY(), object.getX(), object.getY())));
+            }
+        }
+        // Endpoints of earlier associations are translated to the keys of the objects in the later version. They are
+        // looked up by key rather than identity, since deserialized associations hold copies of their endpoints.
+        Map<String, String> newKeys = new HashMap<>();
+        for (UseCaseDiagramObject object : before.getObjects()) {
+            if (!matchedBefore.contains(object)) {
+                changes.add(new Change(ChangeType.REMOVED, object.getName(), object.getType()));
+                newKeys.put(nameKey(object), "\0" + nameKey(object));
+            }
+        }
+        matches.forEach((object, previous) -> newKeys.put(nameKey(previous), nameKey(object)));
+
+        Map<String, Association> beforeByKey = new LinkedHashMap<>();
+        before.getAssociations().forEach(association ->
+                beforeByKey.putIfAbsent(key(association, newKeys), association));
+        Set<String> afterKeys = new HashSet<>();
+        for (Association association : after.getAssociations()) {
+            String key = key(association, Map.of());
+            if (afterKeys.add(key) && !beforeByKey.containsKey(key)) {
+                changes.add(new Change(ChangeType.RELATIONSHIP_ADDED, describe(association), ""));
+            }
+        }
+        beforeByKey.forEach((key, association) -> {
+            if (!afterKeys.contains(key)) {
+                changes.add(new Change(ChangeType.RELATIONSHIP_REMOVED, describe(association), ""));
+            }
+        });
+        return new DiagramDiff(changes);
+    }
+
+    /**
+     * Pairs the objects not matched yet on both sides that have the same key.
+     *
+     * @param before        The objects of the earlier version.
+     * @param after         The objects of the later version.
+     * @param matches       The pairs found so far, keyed by the later object; new pairs are added.
+     * @param matchedBefore The earlier objects paired so far; new ones are added.
+     * @param key           Computes the key of an object.
+     */
+    private static void match(List<UseCaseDiagramObject> before, List<UseCaseDiagramObject> after,
+                              Map<UseCaseDiagramObject, UseCaseDiagramObject> matches,
+                              Set<UseCaseDiagramObject> matchedBefore,
+                              Function<UseCaseDiagramObject, String> key) {
+        Map<String, Deque<UseCaseDiagramObject>> candidates = new HashMap<>();
+        for (UseCaseDiagramObject object : before) {
+            if (!matchedBefore.contains(object)) {
+                candidates.computeIfAbsent(key.apply(object), k -> new ArrayDeque<>()).add(object);
+            }
+        }
+        for (UseCaseDiagramObject object : after) {
+            if (!matches.containsKey(object)) {
+                Deque<UseCaseDiagramObject> sameKey = candidates.get(key.apply(object));
+                if (sameKey != null && !sameKey.isEmpty()) {
+                    UseCaseDiagramObject previous = sameKey.poll();
+                    matches.put(object, previous);
+                    matchedBefore.add(previous);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the key of an association from the keys of its endpoints.
+     *
+     * @param association The association.
+     * @param newKeys     The keys of the endpoints in the later version, keyed by their own keys; endpoints not
+     *                    listed keep their keys.
+     * @return The key.
+     */
+    private static String key(Association association, Map<String, String> newKeys) {
+        return association.getType() + "|" + endpointKey(association.getObj1(), newKeys) + "|"
+                + endpointKey(association.getObj2(), newKeys);
+    }
+
+    /**
+     * Retrieves the key of an association endpoint in the later version.
+     *
+     * @param object  The endpoint, possibly {@code null}.
+     * @param newKeys The keys of the endpoints in the later version, keyed by their own keys.
+     * @return The key of the endpoint.
+     */
+    private static String endpointKey(UseCaseDiagramObject object, Map<String, String> newKeys) {
+        if (object == null) {
+            return "?";
+        }
+        String key = nameKey(object);
+        return newKeys.getOrDefault(key, key);
+    }
+
+    /**
+     * Describes an association for the report.
+     *
+     * @param association The association.
+     * @return The type and endpoint names of the association.
+     */
+    private static String describe(Association association) {
+        return association.getType() + "|" + (association.getObj1() == null ? "?" : association.getObj1().getName())
+                + "|" + (association.getObj2() == null ? "?" : association.getObj2().getName());
+    }
+
+    /**
+     * Computes the identity of an object: its type and name.
+     *
+     * @param object The object.
+     * @return The key.
+     */
+    private static String nameKey(UseCaseDiagramObject object) {
+        return object.getType() + "|" + object.getName();
+    }
+
+    /**
+     * Computes a key identifying the position of an object: its type and coordinates.
+     *
+     * @param object The object.
+     * @return The key.
+     */
+    private static String positionKey(UseCaseDiagramObject object) {
+        return object.getType() + "|" + object.getX() + "|" + object.getY();
+    }
+}
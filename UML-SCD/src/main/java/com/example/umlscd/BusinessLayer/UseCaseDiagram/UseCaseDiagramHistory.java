@@ -0,0 +1,526 @@
+package com.example.umlscd.BusinessLayer.UseCaseDiagram;
+
+import com.example.umlscd.BusinessLayer.History.CommandHistory;
+import com.example.umlscd.BusinessLayer.History.DiagramCommand;
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h1>Use Case Diagram History</h1>
+ *
+ * <p>The {@code UseCaseDiagramHistory} makes the changes to a use case diagram as commands, so that they can be
+ * undone and redone. The editor calls it instead of changing the lists of objects and associations itself.</p>
+ *
+ * <p>Commands refer to the diagram's own objects and associations and hold only what they change: the position
+ * before and after a move, the names before and after a rename, or the place in the lists of what was added or
+ * removed. Consecutive moves of the same object are merged until {@link #breakCoalescing()} is called, so a drag is
+ * undone in one step, and the history is bounded by a memory budget.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Adding, moving, renaming and removing actors and use cases.</li>
+ *     <li>Adding and removing associations.</li>
+ *     <li>Undoing and redoing these changes.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class UseCaseDiagramHistory {
+
+    /**
+     * The estimated memory held by a command besides its names, in bytes.
+     */
+    private static final long COMMAND_BYTES = 64;
+
+    /**
+     * The objects of the diagram.
+     */
+    private final List<UseCaseDiagramObject> objects;
+
+    /**
+     * The associations of the diagram.
+     */
+    private final List<Association> associations;
+
+    /**
+     * The recorded commands.
+     */
+    private final CommandHistory history;
+
+    /**
+     * Constructs a history with the default memory budget.
+     *
+     * @param objects      The objects of the diagram, changed by the commands.
+     * @param associations The associations of the diagram, changed by the commands.
+     */
+    public UseCaseDiagramHistory(List<UseCaseDiagramObject> objects, List<Association> associations) {
+        this(objects, associations, CommandHistory.DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * Constructs a history.
+     *
+     * @param objects      The objects of the diagram, changed by the commands.
+     * @param associations The associations of the diagram, changed by the commands.
+     * @param budgetBytes  The memory budget of the history in bytes.
+     */
+    public UseCaseDiagramHistory(List<UseCaseDiagramObject> objects, List<Association> associations,
+                                 long budgetBytes) {
+        this.objects = objects;
+        this.associations = associations;
+        this.history = new CommandHistory(budgetBytes);
+    }
+
+    /**
+     * Adds an actor or use case to the diagram.
+     *
+     * @param object The object.
+     */
+    public void addObject(UseCaseDiagramObject object) {
+        history.execute(new ObjectPresence(object, objects.size(), List.of(), List.of(), true));
+    }
+
+    /**
+     * Removes an actor or use case from the diagram, together with its associations.
+     *
+     * @param object The object; unknown objects are ignored.
+     */
+    public void removeObject(UseCaseDiagramObject object) {
+        int index = indexOf(objects, object);
+        if (index < 0) {
+            return;
+        }
+        List<Association> attached = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < associations.size(); i++) {
+            Association association = associations.get(i);
+            if (association.getObj1() == object || association.getObj2() == object) {
+                attached.add(association);
+                indexes.add(i);
+            }
+        }
+        history.execute(new ObjectPresence(object, index, attached, indexes, false));
+    }
+
+    /**
+     * Moves an actor or use case. Consecutive moves of the same object are undone together.
+     *
+     * @param object The object.
+     * @param x      The new X-coordinate.
+     * @param y      The new Y-coordinate.
+     */
+    public void moveObject(UseCaseDiagramObject object, double x, double y) {
+        if (object.getX() != x || object.getY() != y) {
+            history.execute(new Move(object, object.getX(), object.getY(), x, y));
+        }
+    }
+
+    /**
+     * Renames an actor or use case.
+     *
+     * @param object The object.
+     * @param name   The new name.
+     */
+    public void renameObject(UseCaseDiagramObject object, String name) {
+        if (!name.equals(object.getName())) {
+            history.execute(new Rename(object, object.getName(), name));
+        }
+    }
+
+    /**
+     * Adds an association to the diagram.
+     *
+     * @param association The association.
+     */
+    public void addAssociation(Association association) {
+        history.execute(new AssociationPresence(association, associations.size(), true));
+    }
+
+    /**
+     * Removes an association from the diagram.
+     *
+     * @param association The association; unknown associations are ignored.
+     */
+    public void removeAssociation(Association association) {
+        int index = indexOf(associations, association);
+        if (index >= 0) {
+            history.execute(new AssociationPresence(association, index, false));
+        }
+    }
+
+    /**
+     * Undoes the latest change.
+     *
+     * @return {@code true} if a change was undone.
+     */
+    public boolean undo() {
+        return history.undo();
+    }
+
+    /**
+     * Redoes the latest undone change.
+     *
+     * @return {@code true} if a change was redone.
+     */
+    public boolean redo() {
+        return history.redo();
+    }
+
+    /**
+     * Checks whether a change can be undone.
+     *
+     * @return {@code true} if a change can be undone.
+     */
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Checks whether a change can be redone.
+     *
+     * @return {@code true} if an undone change can be redone.
+     */
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Keeps the next move from being merged with the latest one, when a new drag starts.
+     */
+    public void breakCoalescing() {
+        history.breakCoalescing();
+    }
+
+    /**
+     * Forgets all changes, when the diagram's content is replaced.
+     */
+    public void clear() {
+        history.clear();
+    }
+
+    /**
+     * Retrieves the recorded commands, for their counts and memory use.
+     *
+     * @return The command history.
+     */
+    public CommandHistory getCommandHistory() {
+        return history;
+    }
+
+    /**
+     * Finds an element of a list by identity, since objects and associations do not define equality.
+     *
+     * @param list    The list.
+     * @param element The element.
+     * @param <T>     The element type.
+     * @return The index of the element, or {@code -1} if the list does not hold it.
+     */
+    private static <T> int indexOf(List<T> list, T element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes an element from a list by identity.
+     *
+     * @param list    The list.
+     * @param element The element.
+     * @param <T>     The element type.
+     */
+    private static <T> void removeByIdentity(List<T> list, T element) {
+        int index = indexOf(list, element);
+        if (index >= 0) {
+            list.remove(index);
+        }
+    }
+
+    /**
+     * Inserts an element into a list at an index, or at its end if the list became shorter.
+     *
+     * @param list    The list.
+     * @param index   The index.
+     * @param element The element.
+     * @param <T>     The element type.
+     */
+    private static <T> void insert(List<T> list, int index, T element) {
+        list.add(Math.min(index, list.size()), element);
+    }
+
+    /**
+     * Estimates the memory held by a name.
+     *
+     * @param name The name, or {@code null}.
+     * @return The approximate size in bytes.
+     */
+    private static long sizeOf(String name) {
+        return name == null ? 0 : 40 + name.length();
+    }
+
+    /**
+     * The addition or removal of an object, with the associations removed along with it.
+     */
+    private final class ObjectPresence implements DiagramCommand {
+
+        /**
+         * The object.
+         */
+        private final UseCaseDiagramObject object;
+
+        /**
+         * The index of the object in the list of objects.
+         */
+        private final int index;
+
+        /**
+         * The associations removed with the object, in list order.
+         */
+        private final List<Association> attached;
+
+        /**
+         * The indexes the removed associations had in the list of associations, ascending.
+         */
+        private final List<Integer> indexes;
+
+        /**
+         * {@code true} for an addition, {@code false} for a removal.
+         */
+        private final boolean adding;
+
+        /**
+         * Constructs the command.
+         *
+         * @param object   The object.
+         * @param index    The index of the object in the list of objects.
+         * @param attached The associations removed with the object.
+         * @param indexes  The indexes the removed associations had, ascending.
+         * @param adding   {@code true} for an addition, {@code false} for a removal.
+         */
+        ObjectPresence(UseCaseDiagramObject object, int index, List<Association> attached, List<Integer> indexes,
+                       boolean adding) {
+            this.object = object;
+            this.index = index;
+            this.attached = attached;
+            this.indexes = indexes;
+            this.adding = adding;
+        }
+
+        /**
+         * Adds or removes the object.
+         */
+        @Override
+        public void apply() {
+            setPresent(adding);
+        }
+
+        /**
+         * Takes the addition or removal back.
+         */
+        @Override
+        public void revert() {
+            setPresent(!adding);
+        }
+
+        /**
+         * Estimates the memory held by the command.
+         *
+         * @return The approximate size in bytes.
+         */
+        @Override
+        public long estimateSize() {
+            return COMMAND_BYTES + 24L * attached.size();
+        }
+
+        /**
+         * Puts the object, and its removed associations, into the diagram or takes them out.
+         *
+         * @param present Whether the object is in the diagram afterwards.
+         */
+        private void setPresent(boolean present) {
+            if (present) {
+                insert(objects, index, object);
+                for (int i = 0; i < attached.size(); i++) {
+                    insert(associations, indexes.get(i), attached.get(i));
+                }
+            } else {
+                for (Association association : attached) {
+                    removeByIdentity(associations, association);
+                }
+                removeByIdentity(objects, object);
+            }
+        }
+    }
+
+    /**
+     * The move of an object.
+     *
+     * @param object The object.
+     * @param fromX  The X-coordinate before the move.
+     * @param fromY  The Y-coordinate before the move.
+     * @param toX    The X-coordinate after the move.
+     * @param toY    The Y-coordinate after the move.
+     */
+    private record Move(UseCaseDiagramObject object, double fromX, double fromY, double toX, double toY)
+            implements DiagramCommand {
+
+        /**
+         * Moves the object to the new position.
+         */
+        @Override
+        public void apply() {
+            object.setX(toX);
+            object.setY(toY);
+        }
+
+        /**
+         * Moves the object back.
+         */
+        @Override
+        public void revert() {
+            object.setX(fromX);
+            object.setY(fromY);
+        }
+
+        /**
+         * Estimates the memory held by the command.
+         *
+         * @return The approximate size in bytes.
+         */
+        @Override
+        public long estimateSize() {
+            return COMMAND_BYTES;
+        }
+
+        /**
+         * Merges consecutive moves of the same object.
+         *
+         * @param next The later command.
+         * @return A move from this move's start to the later move's end, or {@code null} for other commands.
+         */
+        @Override
+        public DiagramCommand coalesce(DiagramCommand next) {
+            if (next instanceof Move later && later.object == object) {
+                return new Move(object, fromX, fromY, later.toX, later.toY);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The rename of an object.
+     *
+     * @param object  The object.
+     * @param oldName The name before the rename.
+     * @param newName The name after the rename.
+     */
+    private record Rename(UseCaseDiagramObject object, String oldName, String newName) implements DiagramCommand {
+
+        /**
+         * Gives the object the new name.
+         */
+        @Override
+        public void apply() {
+            object.setName(newName);
+        }
+
+        /**
+         * Gives the object its old name back.
+         */
+        @Override
+        public void revert() {
+            object.setName(oldName);
+        }
+
+        /**
+         * Estimates the memory held by the command.
+         *
+         * @return The approximate size in bytes.
+         */
+        @Override
+        public long estimateSize() {
+            return COMMAND_BYTES + sizeOf(oldName) + sizeOf(newName);
+        }
+    }
+
+    /**
+     * The addition or removal of an association.
+     */
+    private final class AssociationPresence implements DiagramCommand {
+
+        /**
+         * The association.
+         */
+        private final Association association;
+
+        /**
+         * The index of the association in the list of associations.
+         */
+        private final int index;
+
+        /**
+         * {@code true} for an addition, {@code false} for a removal.
+         */
+        private final boolean adding;
+
+        /**
+         * Constructs the command.
+         *
+         * @param association The association.
+         * @param index       The index of the association in the list of associations.
+         * @param adding      {@code true} for an addition, {@code false} for a removal.
+         */
+        AssociationPresence(Association association, int index, boolean adding) {
+            this.association = association;
+            this.index = index;
+            this.adding = adding;
+        }
+
+        /**
+         * Adds or removes the association.
+         */
+        @Override
+        public void apply() {
+            setPresent(adding);
+        }
+
+        /**
+         * Takes the addition or removal back.
+         */
+        @Override
+        public void revert() {
+            setPresent(!adding);
+        }
+
+        /**
+         * Estimates the memory held by the command.
+         *
+         * @return The approximate size in bytes.
+         */
+        @Override
+        public long estimateSize() {
+            return COMMAND_BYTES;
+        }
+
+        /**
+         * Puts the association into the diagram or takes it out.
+         *
+         * @param present Whether the association is in the diagram afterwards.
+         */
+        private void setPresent(boolean present) {
+            if (present) {
+                insert(associations, index, association);
+            } else {
+                removeByIdentity(associations, association);
+            }
+        }
+    }
+}
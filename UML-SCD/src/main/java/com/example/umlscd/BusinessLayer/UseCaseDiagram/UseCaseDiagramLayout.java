@@ -0,0 +1,120 @@
+package com.example.umlscd.BusinessLayer.UseCaseDiagram;
+
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h1>Use Case Diagram Layout</h1>
+ *
+ * <p>The {@code UseCaseDiagramLayout} class arranges the actors and use cases of a use case diagram automatically.
+ * Actors are stacked in a column to the left of the system boundary and use cases are placed on a grid inside it.
+ * The copies of the objects held by the associations are moved as well, so that the associations are drawn between
+ * the new positions.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Placing actors outside and use cases inside the system boundary.</li>
+ *     <li>Keeping the endpoints of associations in step with their objects.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class UseCaseDiagramLayout {
+
+    /**
+     * The X-coordinate of the column of actors, left of the system boundary.
+     */
+    static final double ACTOR_X = 50;
+
+    /**
+     * The Y-coordinate of the first actor.
+     */
+    static final double ACTOR_TOP = 80;
+
+    /**
+     * The vertical distance between actors.
+     */
+    static final double ACTOR_SPACING = 130;
+
+    /**
+     * The X-coordinate of the first column of use cases, inside the system boundary.
+     */
+    static final double USE_CASE_LEFT = 190;
+
+    /**
+     * The Y-coordinate of the first row of use cases, below the name of the system boundary.
+     */
+    static final double USE_CASE_TOP = 120;
+
+    /**
+     * The horizontal distance between use cases.
+     */
+    static final double USE_CASE_COLUMN_WIDTH = 160;
+
+    /**
+     * The vertical distance between use cases.
+     */
+    static final double USE_CASE_ROW_HEIGHT = 90;
+
+    /**
+     * Prevents instantiation; the layout is a set of static operations.
+     */
+    private UseCaseDiagramLayout() {
+    }
+
+    /**
+     * Arranges the objects of a use case diagram.
+     *
+     * @param diagram The diagram whose object coordinates are replaced.
+     */
+    public static void layOut(UseCaseDiagramManager diagram) {
+        List<UseCaseDiagramObject> useCases = new ArrayList<>();
+        int actors = 0;
+        for (UseCaseDiagramObject object : diagram.getObjects()) {
+            if ("actor".equals(object.getType())) {
+                object.setX(ACTOR_X);
+                object.setY(ACTOR_TOP + actors++ * ACTOR_SPACING);
+            } else {
+                useCases.add(object);
+            }
+        }
+
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(useCases.size())));
+        for (int index = 0; index < useCases.size(); index++) {
+            useCases.get(index).setX(USE_CASE_LEFT + (index % columns) * USE_CASE_COLUMN_WIDTH);
+            useCases.get(index).setY(USE_CASE_TOP + (index / columns) * USE_CASE_ROW_HEIGHT);
+        }
+
+        for (Association association : diagram.getAssociations()) {
+            moveLikeObject(association.getObj1(), diagram);
+            moveLikeObject(association.getObj2(), diagram);
+        }
+    }
+
+    /**
+     * Moves the copy of an object held by an association to the position of the object of the same type and name.
+     *
+     * @param endpoint The copy held by the association.
+     * @param diagram  The diagram holding the objects.
+     */
+    private static void moveLikeObject(UseCaseDiagramObject endpoint, UseCaseDiagramManager diagram) {
+        if (endpoint == null) {
+            return;
+        }
+        for (UseCaseDiagramObject object : diagram.getObjects()) {
+            if (object != endpoint && Objects.equals(object.getType(), endpoint.getType())
+                    && Objects.equals(object.getName(), endpoint.getName())) {
+                endpoint.setX(object.getX());
+                endpoint.setY(object.getY());
+                return;
+            }
+        }
+    }
+}
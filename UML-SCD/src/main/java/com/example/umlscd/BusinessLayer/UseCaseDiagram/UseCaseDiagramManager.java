@@ -1,5 +1,7 @@
 package com.example.umlscd.BusinessLayer.UseCaseDiagram;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -7,6 +9,8 @@ import java.util.ArrayList;
 import com.example.umlscd.Models.UseCaseDiagram.Association;
 import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
 import com.example.umlscd.DataAccessLayer.ImageProcessing.ExportImageService;
+import com.example.umlscd.DataAccessLayer.Rendering.PdfDiagramExporter;
+import com.example.umlscd.DataAccessLayer.Rendering.SvgDiagramExporter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -160,4 +164,30 @@ public class UseCaseDiagramManager implements Serializable {
         ExportImageService exportService = new ExportImageService();
         exportService.exportToImage(canvas); // Pass the current manager and canvas to the service
     }
-}
\ No newline at end of file
+
+    /**
+     * Exports the current use case diagram as an SVG document.
+     *
+     * <p>The document is generated from the diagram's objects and associations by the {@code SvgDiagramExporter},
+     * without drawing on a canvas, so it can also be produced without a user interface.</p>
+     *
+     * @param file The destination file.
+     * @throws IOException If an error occurs during writing the document.
+     */
+    public void exportDiagramToSvg(File file) throws IOException {
+        new SvgDiagramExporter().export(this, file);
+    }
+
+    /**
+     * Exports the current use case diagram as a PDF document.
+     *
+     * <p>The document is generated from the diagram's objects and associations by the {@code PdfDiagramExporter};
+     * diagrams larger than a page are split across overlapping pages.</p>
+     *
+     * @param file The destination file.
+     * @throws IOException If an error occurs during writing the document.
+     */
+    public void exportDiagramToPdf(File file) throws IOException {
+        new PdfDiagramExporter().export(this, file);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.umlscd.BusinessLayer.UseCaseDiagram;
+
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h1>Use Case Diagram Validator</h1>
+ *
+ * <p>The {@code UseCaseDiagramValidator} class checks a use case diagram for inconsistencies: objects of unknown
+ * types or without names, actors or use cases sharing a name, associations of unknown types or between objects that
+ * are not part of the diagram, and include or extend relationships that do not connect two use cases.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Checking the types and names of actors and use cases.</li>
+ *     <li>Checking the types and endpoints of associations.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class UseCaseDiagramValidator {
+
+    /**
+     * The object types the editor can draw.
+     */
+    private static final Set<String> OBJECT_TYPES = Set.of("actor", "usecase");
+
+    /**
+     * The association types the editor can draw.
+     */
+    private static final Set<String> ASSOCIATION_TYPES = Set.of("association", "include", "extend");
+
+    /**
+     * Prevents instantiation; the validator is a set of static operations.
+     */
+    private UseCaseDiagramValidator() {
+    }
+
+    /**
+     * Checks a use case diagram.
+     *
+     * @param diagram The diagram to check.
+     * @return A description of every problem found, in diagram order; empty if the diagram is consistent.
+     */
+    public static List<String> validate(UseCaseDiagramManager diagram) {
+        List<String> problems = new ArrayList<>();
+        Set<String> objects = new HashSet<>();
+        for (UseCaseDiagramObject object : diagram.getObjects()) {
+            if (!OBJECT_TYPES.contains(object.getType())) {
+                problems.add("Unknown object type: " + object.getType() + " " + object.getName());
+            } else if (object.getName() == null || object.getName().isBlank()) {
+                problems.add("An " + object.getType() + " has no name");
+            } else if (!objects.add(key(object))) {
+                problems.add("Duplicate " + object.getType() + " name: " + object.getName());
+            }
+        }
+
+        for (Association association : diagram.getAssociations()) {
+            UseCaseDiagramObject obj1 = association.getObj1();
+            UseCaseDiagramObject obj2 = association.getObj2();
+            String description = association.getType() + " " + name(obj1) + " -> " + name(obj2);
+            if (!ASSOCIATION_TYPES.contains(association.getType())) {
+                problems.add("Unknown association type: " + description);
+            } else if (obj1 == null || obj2 == null || !objects.contains(key(obj1)) || !objects.contains(key(obj2))) {
+                problems.add("Association to a missing object: " + description);
+            } else if (!"association".equals(association.getType())
+                    && !("usecase".equals(obj1.getType()) && "usecase".equals(obj2.getType()))) {
+                problems.add("Include and extend must connect two use cases: " + description);
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Builds the key identifying an object within its diagram.
+     *
+     * @param object The object.
+     * @return The type and name of the object.
+     */
+    private static String key(UseCaseDiagramObject object) {
+        return object.getType() + "|" + object.getName();
+    }
+
+    /**
+     * Describes an association endpoint for messages.
+     *
+     * @param object The endpoint, possibly {@code null}.
+     * @return The name of the object, or {@code "?"} if it is missing.
+     */
+    private static String name(UseCaseDiagramObject object) {
+        return object == null ? "?" : object.getName();
+    }
+}
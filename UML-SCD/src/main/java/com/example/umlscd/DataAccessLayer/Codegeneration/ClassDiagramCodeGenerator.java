@@ -1,14 +1,32 @@
 package com.example.umlscd.DataAccessLayer.Codegeneration;
 
 import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLAttribute;
 import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
 import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLMemberParser;
+import com.example.umlscd.Models.ClassDiagram.UMLMethod;
+import com.example.umlscd.Models.ClassDiagram.UMLParameter;
 import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
 
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * <h1>Class Diagram Code Generator</h1>
@@ -21,6 +39,10 @@ import java.util.List;
  * and generates code that accurately reflects the diagram's structure. It handles code generation for both
  * classes and interfaces, along with their relationships and method definitions, based on the information in the diagram.</p>
  *
+ * <p>The code can either be collected in a single text file, or written as a source tree with one {@code .java} file
+ * per class and interface. Source trees are generated in parallel, each type on its own fork/join task, and can be
+ * updated incrementally so that only the files of changed types are rewritten.</p>
+ *
  * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
  *
  * <p><b>Version:</b> 1.0</p>
@@ -38,11 +60,12 @@ public class ClassDiagramCodeGenerator {
      * @param outputFile The file where the generated Java code will be saved.
      */
     public void generateCodeFiles(ClassDiagramD diagram, String outputFile) {
+        Set<String> interfaceNames = interfaceNames(diagram);
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
             // Iterate through each class and handle relationships, attributes, and methods
             for (UMLClassBox umlClass : diagram.getClasses()) {
                 // Generate the class code with relationships first
-                writer.write(generateClassWithRelationships(umlClass, diagram.getRelationships(),diagram));
+                writer.write(generateClassWithRelationships(umlClass, diagram.getRelationships(), interfaceNames));
                 writer.newLine();
 
                 // Now add attributes and methods (to be done after relationships are handled)
@@ -64,6 +87,396 @@ public class ClassDiagramCodeGenerator {
         }
     }
 
+    /**
+     * Generates one Java source file per class and interface of the diagram, using the common fork/join pool.
+     *
+     * @param diagram         The UML class diagram containing the classes and interfaces.
+     * @param outputDirectory The root directory of the source tree.
+     * @param packageName     The package of the generated types, or an empty string for the default package.
+     * @return The generated source files.
+     * @throws IOException If a source file cannot be written or two types share the same name.
+     * @see #generateSourceTree(ClassDiagramD, Path, String, ForkJoinPool)
+     */
+    public List<Path> generateSourceTree(ClassDiagramD diagram, Path outputDirectory, String packageName) throws IOException {
+        return generateSourceTree(diagram, outputDirectory, packageName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates one Java source file per class and interface of the diagram.
+     *
+     * <p>The files are placed in the directory of the package below the output directory, for example
+     * {@code com/example/model/Order.java}. The source of every type is built and written by its own fork/join task,
+     * so large diagrams use all the workers of the pool. Relationships are grouped by their source element once, so
+     * the work per type does not grow with the size of the diagram.</p>
+     *
+     * @param diagram         The UML class diagram containing the classes and interfaces.
+     * @param outputDirectory The root directory of the source tree.
+     * @param packageName     The package of the generated types, or an empty string for the default package.
+     * @param pool            The pool running the generation tasks.
+     * @return The generated source files, classes first, in diagram order.
+     * @throws IOException If a source file cannot be written or two types share the same name.
+     */
+    public List<Path> generateSourceTree(ClassDiagramD diagram, Path outputDirectory, String packageName,
+                                         ForkJoinPool pool) throws IOException {
+        return invokeAll(sourceFileTasks(diagram, outputDirectory, packageName, null), pool);
+    }
+
+    /**
+     * Brings a previously generated source tree up to date with the diagram, using the common fork/join pool.
+     *
+     * @param diagram         The UML class diagram containing the classes and interfaces.
+     * @param outputDirectory The root directory of the source tree.
+     * @param packageName     The package of the generated types, or an empty string for the default package.
+     * @return The files that were written, left unchanged and deleted.
+     * @throws IOException If a source file or the manifest cannot be written or two types share the same name.
+     * @see #updateSourceTree(ClassDiagramD, Path, String, ForkJoinPool)
+     */
+    public SourceTreeUpdate updateSourceTree(ClassDiagramD diagram, Path outputDirectory, String packageName)
+            throws IOException {
+        return updateSourceTree(diagram, outputDirectory, packageName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Brings a previously generated source tree up to date with the diagram.
+     *
+     * <p>Each type is fingerprinted from everything its source is generated from: its name, attributes and methods,
+     * the relationships starting at it, whether their targets are interfaces, and the package. The fingerprints of
+     * the generated files are kept in a {@link CodeGenerationManifest} in the output directory. Only files whose
+     * fingerprint changed, or which no longer exist, are generated and written again; files generated for types
+     * that were removed from the diagram are deleted. Files that were never generated are left alone.</p>
+     *
+     * @param diagram         The UML class diagram containing the classes and interfaces.
+     * @param outputDirectory The root directory of the source tree.
+     * @param packageName     The package of the generated types, or an empty string for the default package.
+     * @param pool            The pool running the generation tasks.
+     * @return The files that were written, left unchanged and deleted.
+     * @throws IOException If a source file or the manifest cannot be written or two types share the same name.
+     */
+    public SourceTreeUpdate updateSourceTree(ClassDiagramD diagram, Path outputDirectory, String packageName,
+                                             ForkJoinPool pool) throws IOException {
+        CodeGenerationManifest manifest =
+                new CodeGenerationManifest(outputDirectory.resolve(CodeGenerationManifest.FILE_NAME));
+        List<SourceFileTask> tasks = sourceFileTasks(diagram, outputDirectory, packageName, manifest);
+
+        List<Path> results;
+        try {
+            results = invokeAll(tasks, pool);
+        } catch (IOException | RuntimeException e) {
+            // Keep the fingerprints of the files that were written before the failure
+            manifest.save();
+            throw e;
+        }
+        List<Path> generated = results.stream().filter(Objects::nonNull).toList();
+        int unchanged = results.size() - generated.size();
+
+        Set<String> current = tasks.stream().map(task -> task.key).collect(Collectors.toSet());
+        Path root = outputDirectory.normalize();
+        List<Path> deleted = new ArrayList<>();
+        for (String stale : manifest.files()) {
+            if (current.contains(stale)) {
+                continue;
+            }
+            Path file = root.resolve(stale).normalize();
+            if (file.startsWith(root) && Files.deleteIfExists(file)) {
+                deleted.add(file);
+                deleteEmptyDirectories(file.getParent(), root);
+            }
+            manifest.forget(stale);
+        }
+        manifest.save();
+        return new SourceTreeUpdate(generated, unchanged, deleted);
+    }
+
+    /**
+     * Creates the tasks generating the source files of every type in the diagram.
+     *
+     * @param diagram         The UML class diagram containing the classes and interfaces.
+     * @param outputDirectory The root directory of the source tree.
+     * @param packageName     The package of the generated types, or an empty string for the default package.
+     * @param manifest        The manifest used to skip unchanged types, or {@code null} to generate every type.
+     * @return The tasks, classes first, in diagram order.
+     * @throws IOException If the package directory cannot be created or the names are unusable.
+     */
+    private List<SourceFileTask> sourceFileTasks(ClassDiagramD diagram, Path outputDirectory, String packageName,
+                                                 CodeGenerationManifest manifest) throws IOException {
+        Path packageDirectory = packageDirectory(outputDirectory, packageName);
+        String packageDeclaration = packageName.isEmpty() ? "" : "package " + packageName + ";\n";
+        String keyPrefix = packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+
+        List<String> names = checkTypeNames(diagram);
+        Files.createDirectories(packageDirectory);
+
+        Set<String> interfaceNames = interfaceNames(diagram);
+        Map<String, List<UMLRelationship>> relationshipsBySource = diagram.getRelationships().stream()
+                .collect(Collectors.groupingBy(UMLRelationship::getStartElementName));
+
+        List<SourceFileTask> tasks = new ArrayList<>(names.size());
+        for (UMLClassBox umlClass : diagram.getClasses()) {
+            String fileName = umlClass.getName() + ".java";
+            List<UMLRelationship> relationships = relationshipsBySource.getOrDefault(umlClass.getName(), List.of());
+            tasks.add(new SourceFileTask(packageDirectory.resolve(fileName), keyPrefix + fileName, manifest,
+                    () -> {
+                        List<String> parts = new ArrayList<>(List.of("class", packageName, umlClass.getName()));
+                        parts.addAll(umlClass.getAttributes());
+                        parts.add("");
+                        parts.addAll(umlClass.getMethods());
+                        for (UMLRelationship relationship : relationships) {
+                            parts.add(relationship.getType());
+                            parts.add(relationship.getEndElementName());
+                            parts.add(String.valueOf(interfaceNames.contains(relationship.getEndElementName())));
+                        }
+                        return CodeGenerationManifest.fingerprint(parts);
+                    },
+                    () -> packageDeclaration
+                            + generateClassWithRelationships(umlClass, relationships, interfaceNames)
+                            + "\n" + generateAttributesAndMethods(umlClass) + "\n\n}\n"));
+        }
+        for (UMLInterfaceBox umlInterface : diagram.getInterfaces()) {
+            String fileName = umlInterface.getName() + ".java";
+            tasks.add(new SourceFileTask(packageDirectory.resolve(fileName), keyPrefix + fileName, manifest,
+                    () -> {
+                        List<String> parts = new ArrayList<>(List.of("interface", packageName, umlInterface.getName()));
+                        parts.addAll(umlInterface.getMethods());
+                        return CodeGenerationManifest.fingerprint(parts);
+                    },
+                    () -> packageDeclaration + generateInterfaceCode(umlInterface) + "\n"));
+        }
+        return tasks;
+    }
+
+    /**
+     * Checks that every type of the diagram can be generated into a file of its own.
+     *
+     * @param diagram The UML class diagram.
+     * @return The names of the classes and then the interfaces, in diagram order.
+     * @throws IOException If a name is empty, contains a path separator or is used by two types.
+     */
+    static List<String> checkTypeNames(ClassDiagramD diagram) throws IOException {
+        // Every type gets its own file, so names must be unique and usable as file names
+        Set<String> typeNames = new HashSet<>();
+        List<String> names = new ArrayList<>();
+        diagram.getClasses().forEach(umlClass -> names.add(umlClass.getName()));
+        diagram.getInterfaces().forEach(umlInterface -> names.add(umlInterface.getName()));
+        for (String name : names) {
+            if (name == null || name.isBlank() || name.contains("/") || name.contains("\\")) {
+                throw new IOException("Invalid type name: " + name);
+            }
+            if (!typeNames.add(name)) {
+                throw new IOException("Duplicate type name: " + name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Runs source file tasks on a pool and waits for all of them.
+     *
+     * @param tasks The tasks to run.
+     * @param pool  The pool running the tasks.
+     * @return The result of each task, in task order.
+     * @throws IOException If a source file cannot be written.
+     */
+    private static List<Path> invokeAll(List<SourceFileTask> tasks, ForkJoinPool pool) throws IOException {
+        // Fork the file tasks from inside the pool so that they are spread over its workers
+        try {
+            return pool.invoke(new RecursiveTask<List<Path>>() {
+                @Override
+                protected List<Path> compute() {
+                    // Skipped types yield null, which toList() accepts
+                    return ForkJoinTask.invokeAll(tasks).stream().map(ForkJoinTask::join).toList();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Deletes a directory and its parents as long as they are empty, stopping at the root of the source tree.
+     *
+     * @param directory The directory to start with.
+     * @param root      The root of the source tree, which is never deleted.
+     * @throws IOException If an empty directory cannot be deleted.
+     */
+    private static void deleteEmptyDirectories(Path directory, Path root) throws IOException {
+        while (directory != null && directory.startsWith(root) && !directory.equals(root)) {
+            try (var entries = Files.list(directory)) {
+                if (entries.findAny().isPresent()) {
+                    return;
+                }
+            }
+            Files.delete(directory);
+            directory = directory.getParent();
+        }
+    }
+
+    /**
+     * Resolves the directory of a package below the root of a source tree.
+     *
+     * @param outputDirectory The root directory of the source tree.
+     * @param packageName     The package name, or an empty string for the default package.
+     * @return The directory of the package.
+     * @throws IOException If the package name is not a dotted sequence of identifiers.
+     */
+    static Path packageDirectory(Path outputDirectory, String packageName) throws IOException {
+        if (packageName.isEmpty()) {
+            return outputDirectory;
+        }
+        Path directory = outputDirectory;
+        for (String segment : packageName.split("\\.", -1)) {
+            if (segment.isEmpty() || !Character.isJavaIdentifierStart(segment.charAt(0))
+                    || !segment.chars().allMatch(Character::isJavaIdentifierPart)) {
+                throw new IOException("Invalid package name: " + packageName);
+            }
+            directory = directory.resolve(segment);
+        }
+        return directory;
+    }
+
+    /**
+     * Collects the names of the interfaces of a diagram.
+     *
+     * @param diagram The UML class diagram.
+     * @return The interface names.
+     */
+    static Set<String> interfaceNames(ClassDiagramD diagram) {
+        return diagram.getInterfaces().stream().map(UMLInterfaceBox::getName).collect(Collectors.toSet());
+    }
+
+    /**
+     * A fork/join task building the source of one type and writing it to its file.
+     */
+    private static final class SourceFileTask extends RecursiveTask<Path> {
+
+        /**
+         * The file the source is written to.
+         */
+        private final Path file;
+
+        /**
+         * The path of the file relative to the root of the source tree, with {@code /} separators.
+         */
+        private final String key;
+
+        /**
+         * The manifest used to skip unchanged types, or {@code null} to always write the file.
+         */
+        private final CodeGenerationManifest manifest;
+
+        /**
+         * Computes the fingerprint of the type.
+         */
+        private final Supplier<String> fingerprint;
+
+        /**
+         * Builds the source of the type.
+         */
+        private final Supplier<String> source;
+
+        /**
+         * Constructs a task writing one source file.
+         *
+         * @param file        The file the source is written to.
+         * @param key         The path of the file relative to the root of the source tree.
+         * @param manifest    The manifest used to skip unchanged types, or {@code null} to always write the file.
+         * @param fingerprint Computes the fingerprint of the type.
+         * @param source      Builds the source of the type.
+         */
+        SourceFileTask(Path file, String key, CodeGenerationManifest manifest, Supplier<String> fingerprint,
+                       Supplier<String> source) {
+            this.file = file;
+            this.key = key;
+            this.manifest = manifest;
+            this.fingerprint = fingerprint;
+            this.source = source;
+        }
+
+        /**
+         * Builds the source and writes it to the file, unless the manifest shows it is up to date.
+         *
+         * @return The written file, or {@code null} if the file was up to date.
+         */
+        @Override
+        protected Path compute() {
+            String current = manifest == null ? null : fingerprint.get();
+            if (manifest != null && manifest.isUpToDate(key, current, file)) {
+                return null;
+            }
+            try {
+                Files.writeString(file, source.get(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write " + file, e);
+            }
+            if (manifest != null) {
+                manifest.record(key, current);
+            }
+            return file;
+        }
+    }
+
+    /**
+     * <h1>Source Tree Update</h1>
+     *
+     * <p>The outcome of bringing a generated source tree up to date with a diagram.</p>
+     */
+    public static final class SourceTreeUpdate {
+
+        /**
+         * The files that were generated and written.
+         */
+        private final List<Path> generated;
+
+        /**
+         * The number of files that were already up to date.
+         */
+        private final int unchanged;
+
+        /**
+         * The files that were deleted because their types were removed.
+         */
+        private final List<Path> deleted;
+
+        /**
+         * Constructs the outcome of an update.
+         *
+         * @param generated The files that were generated and written.
+         * @param unchanged The number of files that were already up to date.
+         * @param deleted   The files that were deleted because their types were removed.
+         */
+        SourceTreeUpdate(List<Path> generated, int unchanged, List<Path> deleted) {
+            this.generated = List.copyOf(generated);
+            this.unchanged = unchanged;
+            this.deleted = List.copyOf(deleted);
+        }
+
+        /**
+         * Retrieves the files that were generated and written.
+         *
+         * @return The written files, classes first, in diagram order.
+         */
+        public List<Path> getGenerated() {
+            return generated;
+        }
+
+        /**
+         * Retrieves the number of files that were already up to date.
+         *
+         * @return The number of unchanged files.
+         */
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        /**
+         * Retrieves the files that were deleted because their types were removed from the diagram.
+         *
+         * @return The deleted files.
+         */
+        public List<Path> getDeleted() {
+            return deleted;
+        }
+    }
+
     /**
      * Generates Java code for a class, including its inheritance, associations, aggregations, and compositions.
      *
@@ -72,10 +485,10 @@ public class ClassDiagramCodeGenerator {
      *
      * @param umlClass    The UML class box representing the class to generate code for.
      * @param relationships The list of relationships related to the UML diagram.
-     * @param diagram     The UML diagram containing all classes and relationships.
+     * @param interfaceNames The names of the interfaces in the UML diagram.
      * @return The Java code for the class with relationships included.
      */
-    private String generateClassWithRelationships(UMLClassBox umlClass, List<UMLRelationship> relationships, ClassDiagramD diagram) {
+    private String generateClassWithRelationships(UMLClassBox umlClass, List<UMLRelationship> relationships, Set<String> interfaceNames) {
         StringBuilder classCode = new StringBuilder();
         classCode.append("\npublic class ").append(umlClass.getName());
 
@@ -88,8 +501,7 @@ public class ClassDiagramCodeGenerator {
                 String parentName = relationship.getEndElementName();
 
                 // Check if the parent is an interface
-                boolean isInterface = diagram.getInterfaces().stream()
-                        .anyMatch(umlInterface -> umlInterface.getName().equals(parentName));
+                boolean isInterface = interfaceNames.contains(parentName);
 
                 if (isInterface) {
                     classCode.append(" implements ").append(parentName);
@@ -127,9 +539,8 @@ public class ClassDiagramCodeGenerator {
     /**
      * Generates the Java code for the attributes and methods of a given UML class.
      *
-     * <p>This method processes the attributes and methods of the provided UML class,
-     * formatting them according to Java syntax. It handles visibility, parameterization,
-     * and method signatures, generating appropriate code for each attribute and method.</p>
+     * <p>This method uses the parsed attributes and methods of the provided UML class, formatting them according
+     * to Java syntax. Attributes without a type are declared as {@code Object}.</p>
      *
      * @param umlClass The UML class box containing the attributes and methods.
      * @return The Java code representing the attributes and methods of the class.
@@ -138,106 +549,50 @@ public class ClassDiagramCodeGenerator {
         StringBuilder classBody = new StringBuilder();
 
         // Handle attributes (fields)
-        for (String attribute : umlClass.getAttributes()) {
-            // Extract visibility and type from the attribute string (e.g., "+ name: String")
-            String visibility = attribute.substring(0, 1);  // "+" for public, "-" for private, "#" for protected
-            String[] parts = attribute.substring(1).split(":");
-            String attributeName = parts[0].trim();
-            String attributeType = parts[1].trim();
-
-            // Add the attribute with its visibility, type, and name
-            classBody.append("\n    ").append(getVisibility(visibility))
-                    .append(" ").append(attributeType).append(" ").append(attributeName).append(";");
+        for (UMLAttribute attribute : umlClass.getParsedAttributes()) {
+            String attributeType = attribute.getType().isEmpty() ? "Object" : attribute.getType();
+            classBody.append("\n    ").append(UMLMemberParser.visibilityKeyword(attribute.getVisibility()))
+                    .append(" ").append(attributeType).append(" ").append(attribute.getName()).append(";");
         }
 
         // Handle methods
-        for (String method : umlClass.getMethods()) {
-            // Extract method visibility and signature (e.g., "+ save():void")
-            String visibility = method.substring(0, 1);  // "+" for public, "-" for private, "#" for protected
-            String methodSignature = method.substring(1);  // Remove visibility symbol
-
-            String returnType = ""; // To store return type
-            String methodName = ""; // To store method name
-            String methodParams = ""; // To store method parameters
-
-            // Case 1: Method with parameters
-            if (methodSignature.contains("(")) {
-                // Split before the parentheses to get the method name
-                methodName = methodSignature.substring(0, methodSignature.indexOf("(")).trim();
-                // Extract parameters
-                methodParams = methodSignature.substring(methodSignature.indexOf("(") + 1, methodSignature.indexOf(")")).trim();
-                // Extract return type (after the closing parenthesis)
-                returnType = methodSignature.substring(methodSignature.indexOf(")") + 2).trim();
-            } else {
-                // Case 2: Method without parameters (like + save():void)
-                String[] methodParts = methodSignature.split(":");
-                returnType = methodParts[2].trim(); // Extract return type
-                methodName = methodParts[0].trim(); // Extract method name
-            }
-
-            // Format parameters correctly if there are any
-            StringBuilder formattedParams = new StringBuilder();
-            if (!methodParams.isEmpty()) {
-                String[] params = methodParams.split(",");  // Split parameters by commas
-                for (String param : params) {
-                    String[] paramParts = param.trim().split(":");  // Split parameter into type and name
-
-                    if (paramParts.length == 2) {
-                        formattedParams.append(paramParts[1].trim()).append(" ").append(paramParts[0].trim()).append(", ");
-                    }
-                }
-                // Remove trailing comma and space if present
-                if (formattedParams.length() > 0) {
-                    formattedParams.setLength(formattedParams.length() - 2);
-                }
-            }
-
-            // Handle methods with empty parentheses (no parameters)
-            if (methodParams.isEmpty()) {
-                classBody.append("\n\n    ").append(getVisibility(visibility))
-                        .append(" ").append(returnType).append(" ").append(methodName).append("() {")
-                        .append("\n        // TODO: Implement method")
-                        .append("\n    }");
-            } else {
-                // Handle methods with parameters (correctly format the parameters)
-                classBody.append("\n\n    ").append(getVisibility(visibility))
-                        .append(" ").append(returnType).append(" ").append(methodName).append("(")
-                        .append(formattedParams).append(") {")
-                        .append("\n        // TODO: Implement method")
-                        .append("\n    }");
-            }
-        }
-
+        appendMethods(classBody, umlClass.getParsedMethods());
         return classBody.toString();
     }
 
     /**
-     * Convert visibility symbols to Java visibility keywords.
+     * Appends the Java code of methods, each with a placeholder body.
      *
-     * <p>Function to return the converted visibility for code.<p/>
+     * <p>Parameters are declared as {@code type name}; parameters without a type are left out.</p>
      *
-     * @param visibility The visibility symbol ('+', '-', '#')
-     * @return The corresponding Java visibility keyword.
+     * @param code    The code to append to.
+     * @param methods The parsed methods.
      */
-    private String getVisibility(String visibility) {
-        switch (visibility) {
-            case "+":
-                return "public";
-            case "-":
-                return "private";
-            case "#":
-                return "protected";
-            default:
-                return "";
+    private void appendMethods(StringBuilder code, List<UMLMethod> methods) {
+        for (UMLMethod method : methods) {
+            StringBuilder formattedParams = new StringBuilder();
+            for (UMLParameter parameter : method.getParameters()) {
+                if (!parameter.getName().isEmpty() && !parameter.getType().isEmpty()) {
+                    if (formattedParams.length() > 0) {
+                        formattedParams.append(", ");
+                    }
+                    formattedParams.append(parameter.getType()).append(" ").append(parameter.getName());
+                }
+            }
+
+            code.append("\n\n    ").append(UMLMemberParser.visibilityKeyword(method.getVisibility()))
+                    .append(" ").append(method.getReturnType()).append(" ").append(method.getName()).append("(")
+                    .append(formattedParams).append(") {")
+                    .append("\n        // TODO: Implement method")
+                    .append("\n    }");
         }
     }
 
     /**
      * Generates the Java code for a given UML interface, including its methods.
      *
-     * <p>This method processes the methods of the provided UML interface, formatting them
-     * according to Java syntax. It handles method visibility, parameters, and return types
-     * to generate the appropriate code.</p>
+     * <p>This method uses the parsed methods of the provided UML interface, formatting them according to Java
+     * syntax, including their visibility, parameters and return types.</p>
      *
      * @param umlInterface The UML interface box containing the methods.
      * @return The Java code representing the interface, including its methods.
@@ -248,65 +603,8 @@ public class ClassDiagramCodeGenerator {
         // Start the interface definition
         interfaceCode.append("\npublic interface ").append(umlInterface.getName()).append(" {");
 
-
         // Handle methods
-        for (String method : umlInterface.getMethods()) {
-            // Extract method visibility and signature (e.g., "+ save():void")
-            String visibility = method.substring(0, 1);  // "+" for public, "-" for private, "#" for protected
-            String methodSignature = method.substring(1);  // Remove visibility symbol
-
-            String returnType = ""; // To store return type
-            String methodName = ""; // To store method name
-            String methodParams = ""; // To store method parameters
-
-            // Case 1: Method with parameters
-            if (methodSignature.contains("(")) {
-                // Split before the parentheses to get the method name
-                methodName = methodSignature.substring(0, methodSignature.indexOf("(")).trim();
-                // Extract parameters
-                methodParams = methodSignature.substring(methodSignature.indexOf("(") + 1, methodSignature.indexOf(")")).trim();
-                // Extract return type (after the closing parenthesis)
-                returnType = methodSignature.substring(methodSignature.indexOf(")") + 2).trim();
-            } else {
-                // Case 2: Method without parameters (like + save():void)
-                String[] methodParts = methodSignature.split(":");
-                returnType = methodParts[2].trim(); // Extract return type
-                methodName = methodParts[0].trim(); // Extract method name
-            }
-
-            // Format parameters correctly if there are any
-            StringBuilder formattedParams = new StringBuilder();
-            if (!methodParams.isEmpty()) {
-                String[] params = methodParams.split(",");  // Split parameters by commas
-                for (String param : params) {
-                    String[] paramParts = param.trim().split(":");  // Split parameter into type and name
-
-                    if (paramParts.length == 2) {
-                        formattedParams.append(paramParts[1].trim()).append(" ").append(paramParts[0].trim()).append(", ");
-                    }
-                }
-                // Remove trailing comma and space if present
-                if (formattedParams.length() > 0) {
-                    formattedParams.setLength(formattedParams.length() - 2);
-                }
-            }
-
-            // Handle methods with empty parentheses (no parameters)
-            if (methodParams.isEmpty()) {
-                interfaceCode.append("\n\n    ").append(getVisibility(visibility))
-                        .append(" ").append(returnType).append(" ").append(methodName).append("() {")
-                        .append("\n        // TODO: Implement method")
-                        .append("\n    }");
-            } else {
-                // Handle methods with parameters (correctly format the parameters)
-                interfaceCode.append("\n\n    ").append(getVisibility(visibility))
-                        .append(" ").append(returnType).append(" ").append(methodName).append("(")
-                        .append(formattedParams).append(") {")
-                        .append("\n        // TODO: Implement method")
-                        .append("\n    }");
-            }
-
-        }
+        appendMethods(interfaceCode, umlInterface.getParsedMethods());
         interfaceCode.append("\n}");
         return interfaceCode.toString();
     }
@@ -0,0 +1,187 @@
+package com.example.umlscd.DataAccessLayer.Codegeneration;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>Code Generation Manifest</h1>
+ *
+ * <p>The {@code CodeGenerationManifest} remembers which source files were generated from which version of their
+ * types, so that regenerating a source tree only rewrites the files of types that changed. For every generated file
+ * it records a fingerprint: the SHA-256 hash of everything the file's source is generated from. A file is up to
+ * date when its fingerprint is unchanged and the file still exists.</p>
+ *
+ * <p>The manifest is a JSON file in the root of the source tree, mapping the relative paths of the generated files
+ * to their fingerprints. It can be queried and updated from many threads at once and is saved atomically.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Loading and atomically saving the manifest file.</li>
+ *     <li>Computing fingerprints from the parts a type is generated from.</li>
+ *     <li>Checking whether a source file needs to be generated again.</li>
+ *     <li>Listing, recording and forgetting generated files.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class CodeGenerationManifest {
+
+    /**
+     * The name of the manifest file within the root of the source tree.
+     */
+    public static final String FILE_NAME = ".codegen-manifest.json";
+
+    /**
+     * The version of the generated code; changing it invalidates every recorded fingerprint.
+     */
+    static final String GENERATOR_VERSION = "1";
+
+    /**
+     * The file the manifest is stored in.
+     */
+    private final Path file;
+
+    /**
+     * The fingerprint of each generated file, keyed by the file's relative path.
+     */
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a manifest stored in the specified file, loading its entries if the file exists.
+     *
+     * @param file The manifest file.
+     * @throws IOException If the existing manifest cannot be read.
+     */
+    public CodeGenerationManifest(Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            Map<String, String> stored = JsonMapperRegistry.mapper()
+                    .readValue(file.toFile(), new TypeReference<Map<String, String>>() {});
+            fingerprints.putAll(stored);
+        }
+    }
+
+    /**
+     * Computes the fingerprint of a type from the parts its source is generated from.
+     *
+     * <p>Every part is length-prefixed, so that moving text from one part to the next changes the fingerprint.</p>
+     *
+     * @param parts The parts, such as the name, attributes, methods and relationships of the type.
+     * @return The hexadecimal SHA-256 fingerprint.
+     */
+    public static String fingerprint(List<String> parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, GENERATOR_VERSION);
+            for (String part : parts) {
+                update(digest, part == null ? "" : part);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Adds one length-prefixed part to a digest.
+     *
+     * @param digest The digest.
+     * @param part   The part to add.
+     */
+    private static void update(MessageDigest digest, String part) {
+        byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    /**
+     * Checks whether a source file has already been generated from the same version of its type.
+     *
+     * @param key         The relative path of the source file.
+     * @param fingerprint The current fingerprint of the type.
+     * @param output      The source file.
+     * @return {@code true} if the fingerprint is unchanged and the file exists.
+     */
+    public boolean isUpToDate(String key, String fingerprint, Path output) {
+        return fingerprint.equals(fingerprints.get(key)) && Files.isRegularFile(output);
+    }
+
+    /**
+     * Records that a source file has been generated.
+     *
+     * @param key         The relative path of the source file.
+     * @param fingerprint The fingerprint of the type the file was generated from.
+     */
+    public void record(String key, String fingerprint) {
+        fingerprints.put(key, fingerprint);
+    }
+
+    /**
+     * Forgets a source file, so that it is generated again next time.
+     *
+     * @param key The relative path of the source file.
+     */
+    public void forget(String key) {
+        fingerprints.remove(key);
+    }
+
+    /**
+     * Lists the recorded source files.
+     *
+     * @return A sorted copy of the relative paths of the recorded files.
+     */
+    public Set<String> files() {
+        return new TreeSet<>(fingerprints.keySet());
+    }
+
+    /**
+     * Retrieves the number of recorded source files.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return fingerprints.size();
+    }
+
+    /**
+     * Saves the manifest, replacing the previous file atomically.
+     *
+     * @throws IOException If the manifest cannot be written.
+     */
+    public void save() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, FILE_NAME, ".tmp");
+        try {
+            JsonMapperRegistry.canonicalMapper().writerWithDefaultPrettyPrinter()
+                    .writeValue(temporary.toFile(), new TreeMap<>(fingerprints));
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.example.umlscd.DataAccessLayer.Codegeneration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <h1>Code Template</h1>
+ *
+ * <p>The {@code CodeTemplate} class is a compiled source code template. Templates are plain text with tags in
+ * double braces, and are compiled once into a tree of nodes that can then be rendered any number of times, from any
+ * number of threads, against a model of nested maps and lists. Rendering only walks the tree; nothing is parsed
+ * again.</p>
+ *
+ * <p>The supported tags are:</p>
+ * <ul>
+ *     <li>{@code {{name}}} and {@code {{name|filter|...}}}: the value of a variable, passed through filters.</li>
+ *     <li>{@code {{#each name}}...{{/each}}}: the body once for every element of a list.</li>
+ *     <li>{@code {{#sep}}...{{/sep}}}: inside {@code each}, the body for every element but the last.</li>
+ *     <li>{@code {{#if name}}...{{else}}...{{/if}}}: the first body if the variable is set, otherwise the second.</li>
+ *     <li>{@code {{! comment}}}: nothing.</li>
+ * </ul>
+ *
+ * <p>Variables are looked up in the current list element first and then in the enclosing elements. A variable is
+ * set if it is {@code true}, a non-empty string or a non-empty collection. A block tag alone on its line removes the
+ * whole line, so that templates can be laid out like the code they generate. Filters are resolved when the template
+ * is compiled; unknown filters and unbalanced blocks are reported as {@link IllegalArgumentException}s.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Compiling templates with built-in and caller-supplied filters.</li>
+ *     <li>Rendering templates into pooled, per-thread string builders.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class CodeTemplate {
+
+    /**
+     * Matches a tag.
+     */
+    private static final Pattern TAG = Pattern.compile("\\{\\{(.*?)}}", Pattern.DOTALL);
+
+    /**
+     * Matches a line holding nothing but a block tag, including the line break.
+     */
+    private static final Pattern STANDALONE = Pattern.compile(
+            "^[ \\t]*(\\{\\{(?:[#/!][^}]*|else)}})[ \\t]*(?:\\r?\\n|\\z)", Pattern.MULTILINE);
+
+    /**
+     * The filters available to every template.
+     */
+    private static final Map<String, Function<String, String>> BUILT_IN_FILTERS = Map.of(
+            "upper", String::toUpperCase,
+            "lower", String::toLowerCase,
+            "capitalize", value -> value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1),
+            "decapitalize", value -> value.isEmpty() ? value : Character.toLowerCase(value.charAt(0)) + value.substring(1));
+
+    /**
+     * Builders larger than this are not kept in the pool, so one huge type does not pin its memory.
+     */
+    private static final int MAX_POOLED_CAPACITY = 1 << 20;
+
+    /**
+     * The per-thread builder reused by {@link #render(Map)}.
+     */
+    private static final ThreadLocal<StringBuilder> BUILDERS = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    /**
+     * The top-level nodes of the template.
+     */
+    private final List<Node> nodes;
+
+    /**
+     * Constructs a compiled template.
+     *
+     * @param nodes The top-level nodes.
+     */
+    private CodeTemplate(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Compiles a template with the built-in filters only.
+     *
+     * @param source The template text.
+     * @return The compiled template.
+     * @throws IllegalArgumentException If the template is malformed.
+     */
+    public static CodeTemplate compile(String source) {
+        return compile(source, Map.of());
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param source  The template text.
+     * @param filters Additional filters by name; they take precedence over built-in filters of the same name.
+     * @return The compiled template.
+     * @throws IllegalArgumentException If the template is malformed or uses an unknown filter.
+     */
+    public static CodeTemplate compile(String source, Map<String, Function<String, String>> filters) {
+        Map<String, Function<String, String>> available = new HashMap<>(BUILT_IN_FILTERS);
+        available.putAll(filters);
+        String text = STANDALONE.matcher(source).replaceAll(match -> Matcher.quoteReplacement(match.group(1)));
+
+        Deque<Block> open = new ArrayDeque<>();
+        Block root = new Block("", "");
+        open.push(root);
+        Matcher tag = TAG.matcher(text);
+        int position = 0;
+        while (tag.find()) {
+            if (tag.start() > position) {
+                open.peek().add(new TextNode(text.substring(position, tag.start())));
+            }
+            position = tag.end();
+            String content = tag.group(1).trim();
+            if (content.startsWith("!")) {
+                continue;
+            }
+            if (content.startsWith("#")) {
+                String[] parts = content.substring(1).trim().split("\\s+", 2);
+                String argument = parts.length > 1 ? parts[1].trim() : "";
+                switch (parts[0]) {
+                    case "each", "if" -> {
+                        if (argument.isEmpty()) {
+                            throw new IllegalArgumentException("Missing variable in {{" + content + "}}");
+                        }
+                    }
+                    case "sep" -> {
+                        if (open.stream().noneMatch(block -> block.kind.equals("each"))) {
+                            throw new IllegalArgumentException("{{#sep}} outside of {{#each}}");
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unknown block {{" + content + "}}");
+                }
+                open.push(new Block(parts[0], argument));
+            } else if (content.startsWith("/")) {
+                String kind = content.substring(1).trim();
+                Block block = open.peek();
+                if (block == root || !block.kind.equals(kind)) {
+                    throw new IllegalArgumentException("Unexpected {{" + content + "}}"
+                            + (block == root ? "" : ", expected {{/" + block.kind + "}}"));
+                }
+                open.pop();
+                open.peek().add(block.toNode());
+            } else if (content.equals("else")) {
+                Block block = open.peek();
+                if (!block.kind.equals("if") || block.otherwise != null) {
+                    throw new IllegalArgumentException("Unexpected {{else}}");
+                }
+                block.otherwise = new ArrayList<>();
+            } else {
+                open.peek().add(variable(content, available));
+            }
+        }
+        if (position < text.length()) {
+            open.peek().add(new TextNode(text.substring(position)));
+        }
+        if (open.peek() != root) {
+            throw new IllegalArgumentException("Unclosed {{#" + open.peek().kind + "}}");
+        }
+        return new CodeTemplate(List.copyOf(root.body));
+    }
+
+    /**
+     * Compiles a variable tag with its filters.
+     *
+     * @param content The content of the tag.
+     * @param filters The available filters.
+     * @return The variable node.
+     */
+    private static Node variable(String content, Map<String, Function<String, String>> filters) {
+        String[] parts = content.split("\\|");
+        Function<String, String> chain = Function.identity();
+        for (int i = 1; i < parts.length; i++) {
+            Function<String, String> filter = filters.get(parts[i].trim());
+            if (filter == null) {
+                throw new IllegalArgumentException("Unknown filter '" + parts[i].trim() + "' in {{" + content + "}}");
+            }
+            chain = chain.andThen(filter);
+        }
+        return new VariableNode(parts[0].trim(), parts.length > 1 ? chain : null);
+    }
+
+    /**
+     * Renders the template into a pooled builder of the calling thread.
+     *
+     * @param model The values of the top-level variables.
+     * @return The rendered text.
+     */
+    public String render(Map<String, ?> model) {
+        StringBuilder out = BUILDERS.get();
+        out.setLength(0);
+        render(model, out);
+        String result = out.toString();
+        if (out.capacity() > MAX_POOLED_CAPACITY) {
+            BUILDERS.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Renders the template, appending to a builder.
+     *
+     * @param model The values of the top-level variables.
+     * @param out   The builder to append to.
+     */
+    public void render(Map<String, ?> model, StringBuilder out) {
+        renderAll(nodes, new Scope(model, null, false), out);
+    }
+
+    /**
+     * Renders a list of nodes.
+     *
+     * @param nodes The nodes.
+     * @param scope The current scope.
+     * @param out   The builder to append to.
+     */
+    private static void renderAll(List<Node> nodes, Scope scope, StringBuilder out) {
+        for (Node node : nodes) {
+            node.render(scope, out);
+        }
+    }
+
+    /**
+     * Checks whether a value counts as set for {@code if} blocks.
+     *
+     * @param value The value.
+     * @return {@code true} for {@code true}, non-empty strings and non-empty collections.
+     */
+    private static boolean isSet(Object value) {
+        if (value instanceof Boolean flag) {
+            return flag;
+        }
+        if (value instanceof Collection<?> collection) {
+            return !collection.isEmpty();
+        }
+        return value != null && !value.toString().isEmpty();
+    }
+
+    /**
+     * A node of the compiled template.
+     */
+    private interface Node {
+
+        /**
+         * Renders the node.
+         *
+         * @param scope The current scope.
+         * @param out   The builder to append to.
+         */
+        void render(Scope scope, StringBuilder out);
+    }
+
+    /**
+     * The variables visible while rendering: those of the current list element, then those of enclosing elements.
+     */
+    private static final class Scope {
+
+        /**
+         * The variables of this level.
+         */
+        private final Map<String, ?> values;
+
+        /**
+         * The enclosing scope, or {@code null} at the top level.
+         */
+        private final Scope parent;
+
+        /**
+         * Whether this scope is the last element of the list being iterated.
+         */
+        private final boolean last;
+
+        /**
+         * Constructs a scope.
+         *
+         * @param values The variables of this level.
+         * @param parent The enclosing scope, or {@code null} at the top level.
+         * @param last   Whether this scope is the last element of the list being iterated.
+         */
+        Scope(Map<String, ?> values, Scope parent, boolean last) {
+            this.values = values;
+            this.parent = parent;
+            this.last = last;
+        }
+
+        /**
+         * Looks up a variable.
+         *
+         * @param name The variable name.
+         * @return The value of the innermost variable with that name, or {@code null} if there is none.
+         */
+        Object lookup(String name) {
+            for (Scope scope = this; scope != null; scope = scope.parent) {
+                Object value = scope.values.get(name);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A block being compiled.
+     */
+    private static final class Block {
+
+        /**
+         * The kind of block: {@code each}, {@code if} or {@code sep}; empty for the template itself.
+         */
+        private final String kind;
+
+        /**
+         * The variable the block refers to.
+         */
+        private final String argument;
+
+        /**
+         * The nodes of the block, or of the first branch of an {@code if} block.
+         */
+        private final List<Node> body = new ArrayList<>();
+
+        /**
+         * The nodes of the {@code else} branch, or {@code null} until {@code else} is seen.
+         */
+        private List<Node> otherwise;
+
+        /**
+         * Constructs a block.
+         *
+         * @param kind     The kind of block.
+         * @param argument The variable the block refers to.
+         */
+        Block(String kind, String argument) {
+            this.kind = kind;
+            this.argument = argument;
+        }
+
+        /**
+         * Adds a node to the current branch.
+         *
+         * @param node The node.
+         */
+        void add(Node node) {
+            (otherwise != null ? otherwise : body).add(node);
+        }
+
+        /**
+         * Turns the finished block into a node.
+         *
+         * @return The node.
+         */
+        Node toNode() {
+            List<Node> nodes = List.copyOf(body);
+            return switch (kind) {
+                case "each" -> new EachNode(argument, nodes);
+                case "if" -> new IfNode(argument, nodes, otherwise == null ? List.of() : List.copyOf(otherwise));
+                default -> new SeparatorNode(nodes);
+            };
+        }
+    }
+
+    /**
+     * Literal text.
+     *
+     * @param text The text.
+     */
+    private record TextNode(String text) implements Node {
+
+        /**
+         * Appends the text.
+         */
+        @Override
+        public void render(Scope scope, StringBuilder out) {
+            out.append(text);
+        }
+    }
+
+    /**
+     * The value of a variable.
+     *
+     * @param name   The variable name.
+     * @param filter The filters applied to the value, or {@code null} if there are none.
+     */
+    private record VariableNode(String name, Function<String, String> filter) implements Node {
+
+        /**
+         * Appends the filtered value; unknown variables render as empty text.
+         */
+        @Override
+        public void render(Scope scope, StringBuilder out) {
+            Object value = scope.lookup(name);
+            String text = value == null ? "" : value.toString();
+            out.append(filter == null ? text : filter.apply(text));
+        }
+    }
+
+    /**
+     * A block repeated for every element of a list.
+     *
+     * @param name The list variable.
+     * @param body The nodes repeated for every element.
+     */
+    private record EachNode(String name, List<Node> body) implements Node {
+
+        /**
+         * Renders the body for every element; map elements open a new scope.
+         */
+        @Override
+        public void render(Scope scope, StringBuilder out) {
+            if (!(scope.lookup(name) instanceof List<?> elements)) {
+                return;
+            }
+            for (int i = 0; i < elements.size(); i++) {
+                Object element = elements.get(i);
+                Map<String, ?> values = element instanceof Map<?, ?> map ? castValues(map) : Map.of("this", element);
+                renderAll(body, new Scope(values, scope, i == elements.size() - 1), out);
+            }
+        }
+
+        /**
+         * Treats a list element as a variable map.
+         *
+         * @param map The list element.
+         * @return The same map, typed as variables.
+         */
+        @SuppressWarnings("unchecked")
+        private static Map<String, ?> castValues(Map<?, ?> map) {
+            return (Map<String, ?>) map;
+        }
+    }
+
+    /**
+     * A block rendered for every list element but the last.
+     *
+     * @param body The nodes of the block.
+     */
+    private record SeparatorNode(List<Node> body) implements Node {
+
+        /**
+         * Renders the body unless the current element is the last.
+         */
+        @Override
+        public void render(Scope scope, StringBuilder out) {
+            if (!scope.last) {
+                renderAll(body, scope, out);
+            }
+        }
+    }
+
+    /**
+     * A conditional block.
+     *
+     * @param name      The variable tested.
+     * @param body      The nodes rendered if the variable is set.
+     * @param otherwise The nodes rendered otherwise.
+     */
+    private record IfNode(String name, List<Node> body, List<Node> otherwise) implements Node {
+
+        /**
+         * Renders one of the branches.
+         */
+        @Override
+        public void render(Scope scope, StringBuilder out) {
+            renderAll(isSet(scope.lookup(name)) ? body : otherwise, scope, out);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.umlscd.DataAccessLayer.Codegeneration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <h1>Target Language</h1>
+ *
+ * <p>The {@code TargetLanguage} enum lists the languages that source code can be generated in by the
+ * {@link TemplateCodeGenerator}. Each language has a template, stored as a resource next to this class, and the
+ * filters its template uses to translate the Java-style types and visibilities of the diagram, such as
+ * {@code mapType} and {@code modifier}.</p>
+ *
+ * <p>The template of a language is compiled the first time it is needed and then shared by every generation run.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Providing the compiled template of each language.</li>
+ *     <li>Naming the directory and file extension of the generated files.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public enum TargetLanguage {
+
+    /**
+     * Java classes and interfaces.
+     */
+    JAVA("Java", "java", ".java", true, Map.of(
+            "mapType", typeMapper(Map.of(), "Object"),
+            "modifier", modifier(Map.of()))),
+
+    /**
+     * Kotlin classes and interfaces.
+     */
+    KOTLIN("Kotlin", "kotlin", ".kt", true, Map.of(
+            "mapType", typeMapper(Map.of(
+                    "int", "Int", "long", "Long", "short", "Short", "byte", "Byte", "double", "Double",
+                    "float", "Float", "boolean", "Boolean", "char", "Char", "void", "Unit", "Object", "Any"), "Any"),
+            "modifier", modifier(Map.of("", "internal")))),
+
+    /**
+     * TypeScript classes and interfaces.
+     */
+    TYPESCRIPT("TypeScript", "typescript", ".ts", false, Map.of(
+            "mapType", typeMapper(Map.of(
+                    "int", "number", "long", "number", "short", "number", "byte", "number", "double", "number",
+                    "float", "number", "boolean", "boolean", "char", "string", "String", "string",
+                    "Object", "unknown"), "unknown"),
+            "modifier", modifier(Map.of("public", "")))),
+
+    /**
+     * C++ class declarations, one header per type.
+     */
+    CPP_HEADER("C++ header", "cpp", ".hpp", false, Map.of(
+            "mapType", typeMapper(Map.of("boolean", "bool", "String", "std::string", "byte", "signed char",
+                    "Object", "void*"), "void*"),
+            "access", value -> value.isEmpty() ? "public" : value,
+            "namespace", value -> value.replace(".", "::")));
+
+    /**
+     * The name of the language shown to users.
+     */
+    private final String displayName;
+
+    /**
+     * The directory below the output directory that receives the files of this language.
+     */
+    private final String directory;
+
+    /**
+     * The extension of the generated files, including the dot.
+     */
+    private final String extension;
+
+    /**
+     * Whether the files are placed in the directory of their package, as Java and Kotlin expect.
+     */
+    private final boolean packageDirectories;
+
+    /**
+     * The filters available to the template of this language.
+     */
+    private final Map<String, Function<String, String>> filters;
+
+    /**
+     * The compiled template, or {@code null} until it is first needed.
+     */
+    private volatile CodeTemplate template;
+
+    /**
+     * Constructs a target language.
+     *
+     * @param displayName        The name of the language shown to users.
+     * @param directory          The directory receiving the files of this language.
+     * @param extension          The extension of the generated files, including the dot.
+     * @param packageDirectories Whether the files are placed in the directory of their package.
+     * @param filters            The filters available to the template.
+     */
+    TargetLanguage(String displayName, String directory, String extension, boolean packageDirectories,
+                   Map<String, Function<String, String>> filters) {
+        this.displayName = displayName;
+        this.directory = directory;
+        this.extension = extension;
+        this.packageDirectories = packageDirectories;
+        this.filters = filters;
+    }
+
+    /**
+     * Creates a filter translating Java types into the types of a language.
+     *
+     * @param types    The translated types by Java type; types not listed are kept as they are.
+     * @param fallback The type used where the diagram gives none.
+     * @return The filter.
+     */
+    private static Function<String, String> typeMapper(Map<String, String> types, String fallback) {
+        return type -> type.isEmpty() ? fallback : types.getOrDefault(type, type);
+    }
+
+    /**
+     * Creates a filter turning a Java visibility keyword into a modifier followed by a space.
+     *
+     * @param keywords The modifiers by Java keyword, where package visibility is the empty keyword; keywords not
+     *                 listed are kept as they are.
+     * @return The filter, which yields an empty string where no modifier is needed.
+     */
+    private static Function<String, String> modifier(Map<String, String> keywords) {
+        return keyword -> {
+            String modifier = keywords.getOrDefault(keyword, keyword);
+            return modifier.isEmpty() ? "" : modifier + " ";
+        };
+    }
+
+    /**
+     * Retrieves the compiled template of this language, compiling it on first use.
+     *
+     * @return The template.
+     * @throws UncheckedIOException If the template resource cannot be read.
+     */
+    public CodeTemplate template() {
+        CodeTemplate compiled = template;
+        if (compiled == null) {
+            synchronized (this) {
+                compiled = template;
+                if (compiled == null) {
+                    compiled = CodeTemplate.compile(readTemplate(), filters);
+                    template = compiled;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Reads the template resource of this language.
+     *
+     * @return The template text.
+     */
+    private String readTemplate() {
+        String resource = directory + ".tmpl";
+        try (InputStream in = TargetLanguage.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Missing template " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the " + displayName + " template", e);
+        }
+    }
+
+    /**
+     * Retrieves the name of the language shown to users.
+     *
+     * @return The display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retrieves the directory below the output directory that receives the files of this language.
+     *
+     * @return The directory name.
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieves the extension of the generated files.
+     *
+     * @return The extension, including the dot.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Checks whether the files are placed in the directory of their package.
+     *
+     * @return {@code true} for languages whose files are organized by package.
+     */
+    public boolean usesPackageDirectories() {
+        return packageDirectories;
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.umlscd.DataAccessLayer.Codegeneration;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLAttribute;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLMemberParser;
+import com.example.umlscd.Models.ClassDiagram.UMLMethod;
+import com.example.umlscd.Models.ClassDiagram.UMLParameter;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>Template Code Generator</h1>
+ *
+ * <p>The {@code TemplateCodeGenerator} class generates source code for a UML class diagram in one or more
+ * {@link TargetLanguage}s in a single pass. Every class and interface is turned into a template model once, and that
+ * model is rendered with the precompiled template of each requested language, so adding a language costs only its
+ * rendering. Each type is handled by its own fork/join task, like the Java source trees of the
+ * {@link ClassDiagramCodeGenerator}.</p>
+ *
+ * <p>The model of a type holds the variables {@code package}, {@code name}, {@code isInterface}, {@code superclass},
+ * {@code interfaces} and {@code supertypes} (each with a {@code name}; supertypes also with {@code isClass}),
+ * {@code associations} (with {@code kind}, {@code type} and {@code name}), {@code imports} (the other types of the
+ * diagram it refers to through its supertypes and associations, each once with a {@code name}), {@code attributes}
+ * (with {@code visibility}, {@code name} and {@code type}) and {@code methods} (with {@code visibility}, {@code name},
+ * {@code returnType} and {@code parameters}, each with {@code name} and {@code type}). Visibilities are Java
+ * keywords and types are written as in the diagram; the templates translate them with their language's filters.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Building the template model of each type.</li>
+ *     <li>Generating the files of several languages at once, one directory per language.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class TemplateCodeGenerator {
+
+    /**
+     * Generates the source files of every type in the given languages, using the common fork/join pool.
+     *
+     * @param diagram         The UML class diagram containing the classes and interfaces.
+     * @param outputDirectory The directory receiving one subdirectory per language.
+     * @param packageName     The package of the generated types, or an empty string for the default package.
+     * @param languages       The languages to generate.
+     * @return The generated files.
+     * @throws IOException If a file cannot be written or the type or package names are unusable.
+     * @see #generate(ClassDiagramD, Path, String, Set, ForkJoinPool)
+     */
+    public List<Path> generate(ClassDiagramD diagram, Path outputDirectory, String packageName,
+                               Set<TargetLanguage> languages) throws IOException {
+        return generate(diagram, outputDirectory, packageName, languages, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates the source files of every type in the given languages.
+     *
+     * <p>The files of each language are placed in its own directory below the output directory, for example
+     * {@code kotlin/com/example/model/Order.kt} or {@code cpp/Order.hpp}.</p>
+     *
+     * @param diagram         The UML class diagram containing the classes and interfaces.
+     * @param outputDirectory The directory receiving one subdirectory per language.
+     * @param packageName     The package of the generated types, or an empty string for the default package.
+     * @param languages       The languages to generate.
+     * @param pool            The pool running the generation tasks.
+     * @return The generated files, type by type in diagram order (classes first), in language order per type.
+     * @throws IOException If a file cannot be written or the type or package names are unusable.
+     */
+    public List<Path> generate(ClassDiagramD diagram, Path outputDirectory, String packageName,
+                               Set<TargetLanguage> languages, ForkJoinPool pool) throws IOException {
+        if (languages.isEmpty()) {
+            return List.of();
+        }
+        ClassDiagramCodeGenerator.checkTypeNames(diagram);
+        Map<TargetLanguage, Path> directories = new EnumMap<>(TargetLanguage.class);
+        for (TargetLanguage language : EnumSet.copyOf(languages)) {
+            Path languageDirectory = outputDirectory.resolve(language.getDirectory());
+            Path packageDirectory = ClassDiagramCodeGenerator.packageDirectory(languageDirectory, packageName);
+            Path directory = language.usesPackageDirectories() ? packageDirectory : languageDirectory;
+            Files.createDirectories(directory);
+            // Compile the templates up front rather than in the first tasks
+            language.template();
+            directories.put(language, directory);
+        }
+
+        Set<String> interfaceNames = ClassDiagramCodeGenerator.interfaceNames(diagram);
+        Map<String, List<UMLRelationship>> relationshipsBySource = diagram.getRelationships().stream()
+                .collect(Collectors.groupingBy(UMLRelationship::getStartElementName));
+
+        List<TypeTask> tasks = new ArrayList<>();
+        for (UMLClassBox umlClass : diagram.getClasses()) {
+            tasks.add(new TypeTask(umlClass.getName(), directories, () -> classModel(umlClass,
+                    relationshipsBySource.getOrDefault(umlClass.getName(), List.of()), interfaceNames, packageName)));
+        }
+        for (UMLInterfaceBox umlInterface : diagram.getInterfaces()) {
+            tasks.add(new TypeTask(umlInterface.getName(), directories, () -> interfaceModel(umlInterface,
+                    relationshipsBySource.getOrDefault(umlInterface.getName(), List.of()), packageName)));
+        }
+
+        try {
+            return pool.invoke(new RecursiveTask<List<Path>>() {
+                @Override
+                protected List<Path> compute() {
+                    return ForkJoinTask.invokeAll(tasks).stream().flatMap(task -> task.join().stream()).toList();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Builds the template model of a class.
+     *
+     * @param umlClass       The class.
+     * @param relationships  The relationships starting at the class.
+     * @param interfaceNames The names of the interfaces in the diagram.
+     * @param packageName    The package of the generated types.
+     * @return The model.
+     */
+    static Map<String, Object> classModel(UMLClassBox umlClass, List<UMLRelationship> relationships,
+                                          Set<String> interfaceNames, String packageName) {
+        String superclass = "";
+        List<Map<String, Object>> interfaces = new ArrayList<>();
+        List<Map<String, Object>> supertypes = new ArrayList<>();
+        List<Map<String, Object>> associations = new ArrayList<>();
+        Set<String> fieldNames = new HashSet<>();
+        for (UMLRelationship relationship : relationships) {
+            String target = relationship.getEndElementName();
+            String type = relationship.getType();
+            if (target == null || target.isEmpty() || type == null) {
+                continue;
+            }
+            if (type.equalsIgnoreCase("Inheritance")) {
+                boolean isInterface = interfaceNames.contains(target);
+                if (isInterface) {
+                    interfaces.add(Map.of("name", target));
+                } else if (superclass.isEmpty()) {
+                    superclass = target;
+                }
+                supertypes.add(Map.of("name", target, "isClass", !isInterface));
+            } else if (type.equalsIgnoreCase("Association") || type.equalsIgnoreCase("Aggregation")
+                    || type.equalsIgnoreCase("Composition")) {
+                String fieldName = Character.toLowerCase(target.charAt(0)) + target.substring(1);
+                for (int i = 2; !fieldNames.add(fieldName); i++) {
+                    fieldName = Character.toLowerCase(target.charAt(0)) + target.substring(1) + i;
+                }
+                associations.add(Map.of("kind", type.toLowerCase(), "type", target, "name", fieldName));
+            }
+        }
+
+        List<Map<String, Object>> attributes = new ArrayList<>();
+        for (UMLAttribute attribute : umlClass.getParsedAttributes()) {
+            attributes.add(Map.of(
+                    "visibility", UMLMemberParser.visibilityKeyword(attribute.getVisibility()),
+                    "name", attribute.getName(),
+                    "type", attribute.getType()));
+        }
+
+        Map<String, Object> model = typeModel(umlClass.getName(), false, packageName, umlClass.getParsedMethods());
+        model.put("superclass", superclass);
+        model.put("interfaces", interfaces);
+        model.put("supertypes", supertypes);
+        model.put("associations", associations);
+        model.put("imports", imports(umlClass.getName(), supertypes, associations));
+        model.put("attributes", attributes);
+        return model;
+    }
+
+    /**
+     * Builds the template model of an interface.
+     *
+     * @param umlInterface  The interface.
+     * @param relationships The relationships starting at the interface; inheritance marks extended interfaces.
+     * @param packageName   The package of the generated types.
+     * @return The model.
+     */
+    static Map<String, Object> interfaceModel(UMLInterfaceBox umlInterface, List<UMLRelationship> relationships,
+                                              String packageName) {
+        List<Map<String, Object>> interfaces = new ArrayList<>();
+        List<Map<String, Object>> supertypes = new ArrayList<>();
+        for (UMLRelationship relationship : relationships) {
+            String target = relationship.getEndElementName();
+            String type = relationship.getType();
+            if (target == null || target.isEmpty() || type == null) {
+                continue;
+            }
+            if (type.equalsIgnoreCase("Inheritance")) {
+                interfaces.add(Map.of("name", target));
+                supertypes.add(Map.of("name", target, "isClass", false));
+            }
+        }
+
+        Map<String, Object> model = typeModel(umlInterface.getName(), true, packageName,
+                umlInterface.getParsedMethods());
+        model.put("superclass", "");
+        model.put("interfaces", interfaces);
+        model.put("supertypes", supertypes);
+        model.put("associations", List.of());
+        model.put("imports", imports(umlInterface.getName(), supertypes, List.of()));
+        model.put("attributes", List.of());
+        return model;
+    }
+
+    /**
+     * Lists the other types a type refers to through its supertypes and associations, for the languages that import
+     * them.
+     *
+     * @param name         The name of the type.
+     * @param supertypes   The supertype models of the type.
+     * @param associations The association models of the type.
+     * @return One model with a {@code name} per referenced type, supertypes first.
+     */
+    private static List<Map<String, Object>> imports(String name, List<Map<String, Object>> supertypes,
+                                                     List<Map<String, Object>> associations) {
+        Set<String> names = new LinkedHashSet<>();
+        supertypes.forEach(supertype -> names.add((String) supertype.get("name")));
+        associations.forEach(association -> names.add((String) association.get("type")));
+        names.remove(name);
+        return names.stream().map(type -> Map.<String, Object>of("name", type)).toList();
+    }
+
+    /**
+     * Builds the part of a template model shared by classes and interfaces.
+     *
+     * @param name        The name of the type.
+     * @param isInterface Whether the type is an interface.
+     * @param packageName The package of the generated types.
+     * @param methods     The methods of the type.
+     * @return The model, still modifiable.
+     */
+    private static Map<String, Object> typeModel(String name, boolean isInterface, String packageName,
+                                                 List<UMLMethod> methods) {
+        List<Map<String, Object>> methodModels = new ArrayList<>();
+        for (UMLMethod method : methods) {
+            List<Map<String, Object>> parameters = new ArrayList<>();
+            for (UMLParameter parameter : method.getParameters()) {
+                parameters.add(Map.of("name", parameter.getName(), "type", parameter.getType()));
+            }
+            methodModels.add(Map.of(
+                    "visibility", UMLMemberParser.visibilityKeyword(method.getVisibility()),
+                    "name", method.getName(),
+                    "returnType", method.getReturnType(),
+                    "parameters", parameters));
+        }
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("package", packageName);
+        model.put("name", name);
+        model.put("isInterface", isInterface);
+        model.put("methods", methodModels);
+        return model;
+    }
+
+    /**
+     * A fork/join task building the model of one type and writing its file in every language.
+     */
+    private static final class TypeTask extends RecursiveTask<List<Path>> {
+
+        /**
+         * The name of the type, which is also the base name of its files.
+         */
+        private final String name;
+
+        /**
+         * The directory of each language's files.
+         */
+        private final Map<TargetLanguage, Path> directories;
+
+        /**
+         * Builds the model of the type; called once, on the worker running the task.
+         */
+        private final Supplier<Map<String, Object>> model;
+
+        /**
+         * Constructs a task.
+         *
+         * @param name        The name of the type.
+         * @param directories The directory of each language's files.
+         * @param model       Builds the model of the type.
+         */
+        TypeTask(String name, Map<TargetLanguage, Path> directories,
+                 Supplier<Map<String, Object>> model) {
+            this.name = name;
+            this.directories = directories;
+            this.model = model;
+        }
+
+        /**
+         * Renders and writes the files of the type.
+         *
+         * @return The written files, in language order.
+         * @throws UncheckedIOException If a file cannot be written.
+         */
+        @Override
+        protected List<Path> compute() {
+            Map<String, Object> values = model.get();
+            List<Path> files = new ArrayList<>(directories.size());
+            for (Map.Entry<TargetLanguage, Path> entry : directories.entrySet()) {
+                TargetLanguage language = entry.getKey();
+                Path file = entry.getValue().resolve(name + language.getExtension());
+                try {
+                    Files.writeString(file, language.template().render(values), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write " + file, e);
+                }
+                files.add(file);
+            }
+            return files;
+        }
+    }
+}
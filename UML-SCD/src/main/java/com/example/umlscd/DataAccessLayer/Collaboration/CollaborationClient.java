@@ -0,0 +1,145 @@
+package com.example.umlscd.DataAccessLayer.Collaboration;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * <h1>Collaboration Client</h1>
+ *
+ * <p>The {@code CollaborationClient} is the connection of a participant to a {@link CollaborationServer}. It sends
+ * batches of local operations as single lines of JSON and hands every batch received from the server, starting with
+ * the compacted log of the session, to a listener on a virtual reader thread.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Connecting to a collaboration server.</li>
+ *     <li>Sending batches of operations.</li>
+ *     <li>Receiving the batches of the other participants.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class CollaborationClient implements Closeable {
+
+    /**
+     * The socket connected to the server.
+     */
+    private final Socket socket;
+
+    /**
+     * The writer sending lines to the server.
+     */
+    private final BufferedWriter out;
+
+    /**
+     * The thread reading batches from the server.
+     */
+    private final Thread reader;
+
+    /**
+     * Connects to a server and starts reading.
+     *
+     * @param socket   The socket connected to the server.
+     * @param listener Receives the batches of the other participants.
+     * @throws IOException If the socket cannot be used.
+     */
+    private CollaborationClient(Socket socket, Consumer<List<DiagramOperation>> listener) throws IOException {
+        this.socket = socket;
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.reader = Thread.ofVirtual().name("collaboration-client").start(() -> read(in, listener));
+    }
+
+    /**
+     * Connects to a collaboration server.
+     *
+     * @param host     The host of the server.
+     * @param port     The port of the server.
+     * @param listener Receives the batches of the other participants, on the reader thread.
+     * @return The connected client.
+     * @throws IOException If the server cannot be reached.
+     */
+    public static CollaborationClient connect(String host, int port, Consumer<List<DiagramOperation>> listener)
+            throws IOException {
+        Socket socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        return new CollaborationClient(socket, listener);
+    }
+
+    /**
+     * Sends a batch of operations to the other participants.
+     *
+     * @param operations The operations.
+     * @throws UncheckedIOException If the connection is lost.
+     */
+    public synchronized void send(List<DiagramOperation> operations) {
+        try {
+            out.write(JsonMapperRegistry.writer(DiagramOperation[].class)
+                    .writeValueAsString(operations.toArray(new DiagramOperation[0])));
+            out.newLine();
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks whether the connection to the server is open.
+     *
+     * @return {@code true} if batches are still being received.
+     */
+    public boolean isConnected() {
+        return reader.isAlive();
+    }
+
+    /**
+     * Disconnects from the server.
+     */
+    @Override
+    public void close() {
+        try {
+            socket.close();
+            reader.join();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads batches from the server until the connection is closed.
+     *
+     * @param in       The reader of the connection.
+     * @param listener Receives the batches.
+     */
+    private static void read(BufferedReader in, Consumer<List<DiagramOperation>> listener) {
+        try (in) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) {
+                    DiagramOperation[] batch = JsonMapperRegistry.reader(DiagramOperation[].class).readValue(line);
+                    listener.accept(Arrays.asList(batch));
+                }
+            }
+        } catch (IOException e) {
+            // Disconnected
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.umlscd.DataAccessLayer.Collaboration;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * <h1>Collaboration Server</h1>
+ *
+ * <p>The {@code CollaborationServer} relays the operations of a collaborative editing session between its
+ * participants. It is started by the participant hosting the session and accepts plain socket connections, each
+ * served by its own virtual thread. Every line a participant sends is a JSON array of {@link DiagramOperation}s and is
+ * forwarded unchanged to all other participants.</p>
+ *
+ * <p>The server also keeps the operation log of the session, compacted to the newest operation per register, and
+ * sends it to every participant as its first line. A participant joining late therefore receives the current diagram
+ * in one batch, whose size depends on the size of the diagram rather than on the length of the session.</p>
+ *
+ * <p>Every participant has its own queue of outgoing lines, written by its own virtual thread, so a participant that
+ * reads slowly only delays itself. A participant falling more than {@value #MAX_QUEUED_LINES} lines behind is
+ * disconnected, and can join again to receive the compacted log.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Accepting participants and sending them the compacted log.</li>
+ *     <li>Relaying batches of operations to the other participants.</li>
+ *     <li>Compacting the operation log.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class CollaborationServer implements Closeable {
+
+    /**
+     * The reader parsing batches of operations.
+     */
+    private static final ObjectReader BATCH_READER = JsonMapperRegistry.reader(DiagramOperation[].class);
+
+    /**
+     * The largest number of lines queued for a participant before it is disconnected.
+     */
+    static final int MAX_QUEUED_LINES = 10_000;
+
+    /**
+     * The socket accepting participants.
+     */
+    private final ServerSocket serverSocket;
+
+    /**
+     * The connected participants.
+     */
+    private final List<Participant> participants = new ArrayList<>();
+
+    /**
+     * The newest operation per register, in the order the registers were first written.
+     */
+    private final Map<String, DiagramOperation> log = new LinkedHashMap<>();
+
+    /**
+     * The thread accepting participants.
+     */
+    private Thread acceptor;
+
+    /**
+     * Constructs a server bound to an address; it does not accept participants until {@link #start()} is called.
+     *
+     * @param address The address to bind to; port {@code 0} selects a free port.
+     * @throws IOException If the address cannot be bound.
+     */
+    public CollaborationServer(InetSocketAddress address) throws IOException {
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+    }
+
+    /**
+     * Starts accepting participants.
+     */
+    public void start() {
+        acceptor = Thread.ofVirtual().name("collaboration-server").start(this::accept);
+    }
+
+    /**
+     * Retrieves the port the server is bound to.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Retrieves the number of connected participants.
+     *
+     * @return The number of participants.
+     */
+    public synchronized int getParticipantCount() {
+        return participants.size();
+    }
+
+    /**
+     * Retrieves the number of operations in the compacted log.
+     *
+     * @return The number of operations.
+     */
+    public synchronized int getLogSize() {
+        return log.size();
+    }
+
+    /**
+     * Stops accepting participants and disconnects the connected ones.
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        List<Participant> connected;
+        synchronized (this) {
+            connected = new ArrayList<>(participants);
+            participants.clear();
+        }
+        connected.forEach(Participant::close);
+        if (acceptor != null) {
+            try {
+                acceptor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Accepts participants until the server socket is closed.
+     */
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().name("collaboration-participant").start(() -> serve(socket));
+            } catch (IOException e) {
+                // Closed while waiting for participants
+            }
+        }
+    }
+
+    /**
+     * Serves a participant: sends the compacted log, then relays every batch it sends.
+     *
+     * @param socket The socket of the participant.
+     */
+    private void serve(Socket socket) {
+        Participant participant;
+        try {
+            participant = new Participant(socket);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        try (BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            synchronized (this) {
+                if (!log.isEmpty()) {
+                    participant.send(JsonMapperRegistry.writer(DiagramOperation[].class)
+                            .writeValueAsString(log.values().toArray(new DiagramOperation[0])));
+                }
+                participants.add(participant);
+            }
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) {
+                    relay(participant, line);
+                }
+            }
+        } catch (IOException e) {
+            // The participant disconnected or sent something that is not a batch of operations
+        } finally {
+            synchronized (this) {
+                participants.remove(participant);
+            }
+            participant.close();
+        }
+    }
+
+    /**
+     * Compacts a batch into the log and queues it for the other participants. The whole batch is validated before
+     * the log is changed, so an invalid batch leaves no trace.
+     *
+     * @param sender The participant that sent the batch.
+     * @param line   The batch as sent.
+     * @throws IOException If the line is not a batch of complete operations.
+     */
+    private void relay(Participant sender, String line) throws IOException {
+        DiagramOperation[] batch = BATCH_READER.readValue(line);
+        for (DiagramOperation operation : batch) {
+            if (operation == null || operation.getType() == null || operation.getName() == null) {
+                throw new IOException("Incomplete operation: " + operation);
+            }
+        }
+        synchronized (this) {
+            for (DiagramOperation operation : batch) {
+                if (operation.isNewerThan(log.get(operation.getRegister()))) {
+                    log.put(operation.getRegister(), operation);
+                }
+            }
+            for (Participant participant : participants) {
+                if (participant != sender) {
+                    participant.send(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * A connected participant.
+     */
+    private static final class Participant {
+
+        /**
+         * The socket of the participant.
+         */
+        private final Socket socket;
+
+        /**
+         * The writer sending lines to the participant.
+         */
+        private final BufferedWriter out;
+
+        /**
+         * The lines waiting to be written to the participant.
+         */
+        private final BlockingQueue<String> outbox = new LinkedBlockingQueue<>(MAX_QUEUED_LINES);
+
+        /**
+         * The thread writing the queued lines.
+         */
+        private final Thread writer;
+
+        /**
+         * Constructs a participant and starts writing the lines queued for it.
+         *
+         * @param socket The socket of the participant.
+         * @throws IOException If the socket cannot be written.
+         */
+        Participant(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            this.writer = Thread.ofVirtual().name("collaboration-writer").unstarted(this::write);
+            writer.start();
+        }
+
+        /**
+         * Queues a line without blocking, disconnecting the participant if it has fallen too far behind.
+         *
+         * @param line The line.
+         */
+        void send(String line) {
+            if (!outbox.offer(line)) {
+                close();
+            }
+        }
+
+        /**
+         * Writes the queued lines until the participant is disconnected, flushing whenever the queue runs empty.
+         */
+        private void write() {
+            try {
+                while (true) {
+                    out.write(outbox.take());
+                    out.newLine();
+                    if (outbox.isEmpty()) {
+                        out.flush();
+                    }
+                }
+            } catch (InterruptedException | IOException e) {
+                // Disconnected
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Disconnects the participant and stops its writer.
+         */
+        void close() {
+            writer.interrupt();
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Already disconnected
+            }
+        }
+    }
+}
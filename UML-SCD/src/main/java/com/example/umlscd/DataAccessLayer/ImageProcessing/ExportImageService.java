@@ -3,12 +3,9 @@ package com.example.umlscd.DataAccessLayer.ImageProcessing;
 import javafx.stage.FileChooser;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.image.WritableImage;
-import javafx.embed.swing.SwingFXUtils;
 
-import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <h1>Export Image Service</h1>
@@ -20,7 +17,8 @@ import javax.imageio.ImageIO;
  *
  * <p>This class handles the conversion of JavaFX {@code Canvas} content into a format suitable for image files,
  * ensuring compatibility and high-quality output. It also manages exceptions related to file operations,
- * providing user feedback in case of errors.</p>
+ * providing user feedback in case of errors. Only the snapshot is taken on the JavaFX application thread; the
+ * pixels are encoded by the {@code ImageEncoder} on a worker thread.</p>
  *
  * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
  *
@@ -33,9 +31,9 @@ public class ExportImageService {
      * Exports the content of the provided {@code Canvas} to an image file in PNG format.
      *
      * <p>This method opens a file chooser dialog to allow the user to select the destination file path and name.
-     * It captures the current state of the canvas, converts it into a {@code BufferedImage}, and writes it
+     * It captures the current state of the canvas and hands the snapshot to a worker thread, which writes it
      * to the selected file. If the user cancels the file selection, the method exits gracefully.
-     * Any {@code IOException} encountered during the process is caught and logged.</p>
+     * Any error encountered while writing is caught and logged.</p>
      *
      * @param canvas The {@code Canvas} whose content is to be exported as an image.
      */
@@ -49,23 +47,35 @@ public class ExportImageService {
 
         if (file != null) {
             // If the user selected a file, export the diagram to the chosen file
-            try {
-                // Create a writable image from the canvas content
-                WritableImage writableImage = canvas.snapshot(null, null);
-
-                // Convert WritableImage to BufferedImage
-                BufferedImage bufferedImage = SwingFXUtils.fromFXImage(writableImage, null);
-
-                // Save the image to the user-selected file location (with PNG format)
-                ImageIO.write(bufferedImage, "PNG", file);
-
-                System.out.println("Diagram exported to: " + file.getAbsolutePath());
-            } catch (IOException e) {
-                e.printStackTrace();
-                System.out.println("Error exporting diagram to image: " + e.getMessage());
-            }
+            exportToImage(canvas, file).whenComplete((written, error) -> {
+                if (error == null) {
+                    System.out.println("Diagram exported to: " + written.getAbsolutePath());
+                } else {
+                    error.printStackTrace();
+                    System.out.println("Error exporting diagram to image: " + error.getMessage());
+                }
+            });
         } else {
             System.out.println("No file selected.");
         }
     }
+
+    /**
+     * Exports the content of the provided {@code Canvas} to the specified image file.
+     *
+     * <p>The snapshot is taken immediately, so this method must be called on the JavaFX application thread. Reading
+     * the snapshot's pixels and encoding the image happen on a worker thread; the format is chosen by the file
+     * extension, defaulting to PNG.</p>
+     *
+     * @param canvas The {@code Canvas} whose content is to be exported as an image.
+     * @param file   The destination file.
+     * @return A future completing with the written file on the worker thread, or exceptionally if writing failed.
+     */
+    public CompletableFuture<File> exportToImage(Canvas canvas, File file) {
+        // Create a writable image from the canvas content
+        WritableImage writableImage = canvas.snapshot(null, null);
+
+        // Encode the snapshot away from the JavaFX application thread
+        return ImageEncoder.encodeAsync(writableImage, file, 0);
+    }
 }
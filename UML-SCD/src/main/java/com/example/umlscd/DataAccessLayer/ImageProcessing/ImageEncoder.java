@@ -0,0 +1,164 @@
+package com.example.umlscd.DataAccessLayer.ImageProcessing;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <h1>Image Encoder</h1>
+ *
+ * <p>The {@code ImageEncoder} turns captured JavaFX images into PNG or JPEG files away from the JavaFX application
+ * thread. Only the snapshot itself has to be taken on the FX thread; the pixels are then read with a
+ * {@code PixelReader} straight into {@code int} buffers on a worker thread and encoded from there, without the
+ * intermediate {@code BufferedImage} conversion of {@code SwingFXUtils}. This keeps the user interface responsive while
+ * large diagrams are being written.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Providing the shared worker pool on which images are encoded.</li>
+ *     <li>Streaming PNG images strip by strip through the {@code StreamingPngWriter}.</li>
+ *     <li>Encoding JPEG images from pixels written directly into the raster of a {@code BufferedImage}.</li>
+ *     <li>Choosing the image format from the file extension.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ImageEncoder {
+
+    /**
+     * The number of rows converted at once when streaming a PNG image.
+     */
+    private static final int STRIP_ROWS = 256;
+
+    /**
+     * Shared pool of daemon threads on which images are converted and encoded.
+     */
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "image-encoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Prevents instantiation; the encoder only has static members.
+     */
+    private ImageEncoder() {}
+
+    /**
+     * Retrieves the worker pool on which images are encoded.
+     *
+     * @return The shared encoder pool.
+     */
+    public static ExecutorService workers() {
+        return WORKERS;
+    }
+
+    /**
+     * Checks whether a file should be written as a JPEG image.
+     *
+     * @param file The destination file.
+     * @return {@code true} for {@code .jpg} and {@code .jpeg} files; {@code false} for everything else (PNG).
+     */
+    public static boolean isJpeg(File file) {
+        String name = file.getName().toLowerCase();
+        return name.endsWith(".jpg") || name.endsWith(".jpeg");
+    }
+
+    /**
+     * Encodes an image to a file on the worker pool.
+     *
+     * <p>The image must not be modified until the returned future completes.</p>
+     *
+     * @param image The captured image, typically the result of a snapshot.
+     * @param file  The destination file; its extension selects the format.
+     * @param dpi   The resolution to record in PNG images; {@code 0} to omit it.
+     * @return A future completing with the written file, or exceptionally if encoding failed.
+     */
+    public static CompletableFuture<File> encodeAsync(Image image, File file, double dpi) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                encode(image, file, dpi);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WORKERS);
+    }
+
+    /**
+     * Encodes an image to a file on the calling thread.
+     *
+     * @param image The captured image.
+     * @param file  The destination file; its extension selects the format.
+     * @param dpi   The resolution to record in PNG images; {@code 0} to omit it.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void encode(Image image, File file, double dpi) throws IOException {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        PixelReader reader = image.getPixelReader();
+        if (reader == null) {
+            throw new IOException("The image has no readable pixels");
+        }
+
+        if (isJpeg(file)) {
+            BufferedImage rgb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            int[] pixels = ((DataBufferInt) rgb.getRaster().getDataBuffer()).getData();
+            reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+            flattenOnWhite(pixels);
+            if (!ImageIO.write(rgb, "jpg", file)) {
+                throw new IOException("No JPEG encoder available");
+            }
+            return;
+        }
+
+        int stripRows = Math.max(1, Math.min(STRIP_ROWS, height));
+        int[] strip = new int[width * stripRows];
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+             StreamingPngWriter png = new StreamingPngWriter(out, width, height, dpi)) {
+            for (int y = 0; y < height; y += stripRows) {
+                int rows = Math.min(stripRows, height - y);
+                reader.getPixels(0, y, width, rows, PixelFormat.getIntArgbInstance(), strip, 0, width);
+                for (int row = 0; row < rows; row++) {
+                    png.writeRow(strip, row * width);
+                }
+            }
+        }
+    }
+
+    /**
+     * Composites translucent pixels over white, since JPEG images have no alpha channel.
+     *
+     * @param pixels The pixels in {@code 0xAARRGGBB} format, modified in place.
+     */
+    static void flattenOnWhite(int[] pixels) {
+        for (int i = 0; i < pixels.length; i++) {
+            int pixel = pixels[i];
+            int alpha = pixel >>> 24;
+            if (alpha == 0xFF) {
+                continue;
+            }
+            int inverse = 0xFF - alpha;
+            int red = (((pixel >> 16) & 0xFF) * alpha + 0xFF * inverse) / 0xFF;
+            int green = (((pixel >> 8) & 0xFF) * alpha + 0xFF * inverse) / 0xFF;
+            int blue = ((pixel & 0xFF) * alpha + 0xFF * inverse) / 0xFF;
+            pixels[i] = 0xFF000000 | red << 16 | green << 8 | blue;
+        }
+    }
+}
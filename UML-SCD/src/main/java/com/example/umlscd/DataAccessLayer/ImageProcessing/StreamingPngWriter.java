@@ -0,0 +1,267 @@
+package com.example.umlscd.DataAccessLayer.ImageProcessing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * <h1>Streaming PNG Writer</h1>
+ *
+ * <p>The {@code StreamingPngWriter} encodes a PNG image row by row. Unlike {@code ImageIO}, which needs the complete
+ * image in memory, it only keeps one encoded row and a small compression buffer, so images of any size can be written
+ * while their pixels are still being produced (for example tile by tile from a diagram snapshot).</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Writing 8-bit RGBA images from ARGB pixel rows.</li>
+ *     <li>Applying the PNG "Sub" filter to each row for better compression.</li>
+ *     <li>Emitting the image data as a sequence of bounded {@code IDAT} chunks.</li>
+ *     <li>Recording the image resolution in a {@code pHYs} chunk.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class StreamingPngWriter implements Closeable {
+
+    /**
+     * The eight-byte PNG file signature.
+     */
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /**
+     * The maximum payload of a single {@code IDAT} chunk.
+     */
+    private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * The stream receiving the encoded image.
+     */
+    private final DataOutputStream out;
+
+    /**
+     * The width of the image in pixels.
+     */
+    private final int width;
+
+    /**
+     * The height of the image in pixels.
+     */
+    private final int height;
+
+    /**
+     * The deflater compressing the filtered rows.
+     */
+    private final Deflater deflater;
+
+    /**
+     * The stream collecting compressed data into {@code IDAT} chunks.
+     */
+    private final IdatOutputStream idatSink;
+
+    /**
+     * The compressing stream that forwards its output to {@link #idatSink}.
+     */
+    private final DeflaterOutputStream idat;
+
+    /**
+     * Buffer holding the filter type byte and the filtered bytes of the current row.
+     */
+    private final byte[] rowBuffer;
+
+    /**
+     * The number of rows written so far.
+     */
+    private int rowsWritten;
+
+    /**
+     * Whether the image has been completed.
+     */
+    private boolean closed;
+
+    /**
+     * Constructs a writer and emits the PNG header.
+     *
+     * @param out    The stream receiving the image; it is not closed by this writer.
+     * @param width  The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     * @param dpi    The resolution to record in the image, in dots per inch; {@code 0} to omit it.
+     * @throws IOException If the header cannot be written.
+     */
+    public StreamingPngWriter(OutputStream out, int width, int height, double dpi) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Image size must be positive: " + width + "x" + height);
+        }
+        if ((long) width * 4 + 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Image is too wide: " + width);
+        }
+        this.out = new DataOutputStream(out);
+        this.width = width;
+        this.height = height;
+        this.rowBuffer = new byte[width * 4 + 1];
+
+        this.out.write(SIGNATURE);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+        DataOutputStream ihdr = new DataOutputStream(header);
+        ihdr.writeInt(width);
+        ihdr.writeInt(height);
+        ihdr.writeByte(8);  // bit depth
+        ihdr.writeByte(6);  // color type: RGBA
+        ihdr.writeByte(0);  // compression: deflate
+        ihdr.writeByte(0);  // filter method: adaptive
+        ihdr.writeByte(0);  // interlace: none
+        writeChunk("IHDR", header.toByteArray(), header.size());
+
+        if (dpi > 0) {
+            int pixelsPerMeter = (int) Math.round(dpi / 0.0254);
+            ByteArrayOutputStream physical = new ByteArrayOutputStream(9);
+            DataOutputStream phys = new DataOutputStream(physical);
+            phys.writeInt(pixelsPerMeter);
+            phys.writeInt(pixelsPerMeter);
+            phys.writeByte(1); // unit: meter
+            writeChunk("pHYs", physical.toByteArray(), physical.size());
+        }
+
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        this.idatSink = new IdatOutputStream();
+        this.idat = new DeflaterOutputStream(idatSink, deflater, 8192);
+    }
+
+    /**
+     * Encodes the next row of the image.
+     *
+     * @param argb   The pixels, in {@code 0xAARRGGBB} format.
+     * @param offset The index of the row's first pixel in {@code argb}.
+     * @throws IOException If the row cannot be written or all rows have already been written.
+     */
+    public void writeRow(int[] argb, int offset) throws IOException {
+        if (closed || rowsWritten >= height) {
+            throw new IOException("All " + height + " rows have already been written");
+        }
+        rowBuffer[0] = 1; // filter type: Sub
+        int previous = 0;
+        for (int x = 0, i = 1; x < width; x++, i += 4) {
+            int pixel = argb[offset + x];
+            rowBuffer[i] = (byte) ((pixel >> 16) - (previous >> 16));
+            rowBuffer[i + 1] = (byte) ((pixel >> 8) - (previous >> 8));
+            rowBuffer[i + 2] = (byte) (pixel - previous);
+            rowBuffer[i + 3] = (byte) ((pixel >>> 24) - (previous >>> 24));
+            previous = pixel;
+        }
+        idat.write(rowBuffer);
+        rowsWritten++;
+    }
+
+    /**
+     * Retrieves the number of rows written so far.
+     *
+     * @return The number of encoded rows.
+     */
+    public int getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Completes the image by flushing the compressed data and writing the end chunk.
+     *
+     * <p>The underlying stream is flushed but not closed.</p>
+     *
+     * @throws IOException If the image is incomplete or cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            idat.finish();
+            idatSink.flushChunk();
+        } finally {
+            deflater.end();
+        }
+        writeChunk("IEND", new byte[0], 0);
+        out.flush();
+        if (rowsWritten != height) {
+            throw new IOException("Image incomplete: " + rowsWritten + " of " + height + " rows written");
+        }
+    }
+
+    /**
+     * Writes a complete chunk: length, type, data and CRC.
+     *
+     * @param type   The four-letter chunk type.
+     * @param data   The chunk data.
+     * @param length The number of bytes of {@code data} to write.
+     * @throws IOException If the chunk cannot be written.
+     */
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Output stream buffering compressed bytes and emitting them as {@code IDAT} chunks of bounded size.
+     */
+    private final class IdatOutputStream extends OutputStream {
+
+        /**
+         * The pending chunk payload.
+         */
+        private final byte[] buffer = new byte[MAX_CHUNK_SIZE];
+
+        /**
+         * The number of pending bytes.
+         */
+        private int count;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                flushChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (count == buffer.length) {
+                    flushChunk();
+                }
+                int n = Math.min(length, buffer.length - count);
+                System.arraycopy(data, offset, buffer, count, n);
+                count += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        /**
+         * Emits the pending bytes as one {@code IDAT} chunk.
+         *
+         * @throws IOException If the chunk cannot be written.
+         */
+        private void flushChunk() throws IOException {
+            if (count > 0) {
+                writeChunk("IDAT", buffer, count);
+                count = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.example.umlscd.DataAccessLayer.ImageProcessing;
+
+import javafx.application.Platform;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * <h1>Tiled Image Exporter</h1>
+ *
+ * <p>The {@code TiledImageExporter} exports diagrams that are too large to be captured by a single snapshot. Instead of
+ * rendering the whole diagram into one {@code WritableImage} (which is limited by the maximum texture size of the
+ * graphics card and needs memory for the complete image), it renders the diagram region by region at the requested
+ * scale, assembles the regions into horizontal strips and streams each finished strip to a
+ * {@code StreamingPngWriter}. Peak memory is therefore bounded by the size of one strip, regardless of the size of the
+ * exported image.</p>
+ *
+ * <p>Images are limited to {@link #MAX_IMAGE_DIMENSION} pixels per side and to a fixed pixel budget, so an element
+ * placed far from the rest of the diagram fails the export with an {@code IOException} instead of exhausting the
+ * heap or overflowing pixel offsets.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Exporting a JavaFX node as a PNG image at any scale, recording the matching resolution.</li>
+ *     <li>Exporting as JPEG by assembling tiles into an image, which still avoids the texture size limit.</li>
+ *     <li>Exporting in the background, taking only the snapshots on the JavaFX application thread.</li>
+ *     <li>Determining the region covered by a diagram, including elements placed outside the visible pane.</li>
+ *     <li>Encoding images from any {@code TileSource}, independently of JavaFX.</li>
+ *     <li>Rejecting images beyond the size limits before any pixel is allocated.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class TiledImageExporter {
+
+    /**
+     * The resolution of a diagram rendered at scale 1.
+     */
+    public static final double SCREEN_DPI = 96;
+
+    /**
+     * The largest width or height of an exported image, which is also the limit of the JPEG format.
+     */
+    public static final int MAX_IMAGE_DIMENSION = 65_535;
+
+    /**
+     * The largest number of pixels of a PNG image, which is streamed and only buffers one strip (256 megapixels).
+     */
+    public static final long MAX_STREAMED_PIXELS = 1L << 28;
+
+    /**
+     * The largest number of pixels of an image assembled in memory, such as a JPEG image (64 megapixels, 256 MB).
+     */
+    public static final long MAX_ASSEMBLED_PIXELS = 1L << 26;
+
+    /**
+     * Provides the pixels of a rectangular region of the image being exported.
+     */
+    @FunctionalInterface
+    public interface TileSource {
+
+        /**
+         * Copies the pixels of a region into the destination buffer.
+         *
+         * @param x              The left edge of the region in image pixels.
+         * @param y              The top edge of the region in image pixels.
+         * @param width          The width of the region.
+         * @param height         The height of the region.
+         * @param pixels         The destination buffer, receiving pixels in {@code 0xAARRGGBB} format.
+         * @param offset         The index in {@code pixels} of the region's top-left pixel.
+         * @param scanlineStride The distance in {@code pixels} between two rows of the region.
+         * @throws IOException If the region cannot be rendered.
+         */
+        void readTile(int x, int y, int width, int height, int[] pixels, int offset, int scanlineStride) throws IOException;
+    }
+
+    /**
+     * The edge length of a rendered tile, kept below common maximum texture sizes.
+     */
+    private final int tileSize;
+
+    /**
+     * The maximum number of pixels buffered for one strip.
+     */
+    private final int maxStripPixels;
+
+    /**
+     * Constructs an exporter using 2048-pixel tiles and strips of at most four million pixels (16 MB).
+     */
+    public TiledImageExporter() {
+        this(2048, 4 * 1024 * 1024);
+    }
+
+    /**
+     * Constructs an exporter with the specified tile size and strip budget.
+     *
+     * @param tileSize       The edge length of a rendered tile in pixels.
+     * @param maxStripPixels The maximum number of pixels buffered for one strip.
+     */
+    public TiledImageExporter(int tileSize, int maxStripPixels) {
+        if (tileSize <= 0 || maxStripPixels <= 0) {
+            throw new IllegalArgumentException("Tile size and strip budget must be positive");
+        }
+        this.tileSize = tileSize;
+        this.maxStripPixels = maxStripPixels;
+    }
+
+    /**
+     * Exports a node to an image file at the specified scale.
+     *
+     * <p>The format is chosen by the file extension: {@code .jpg} and {@code .jpeg} produce a JPEG image, anything
+     * else a PNG image. This method takes snapshots and must be called on the JavaFX application thread.</p>
+     *
+     * @param node  The node to export, typically the diagram's drawing pane.
+     * @param scale The scale factor; {@code 2} doubles the resolution of the image.
+     * @param file  The destination file.
+     * @throws IOException If the image cannot be written.
+     */
+    public void export(Node node, double scale, File file) throws IOException {
+        Bounds region = contentBounds(node);
+        write(snapshotSource(node, region, scale), region, scale, file);
+    }
+
+    /**
+     * Exports a node to an image file in the background.
+     *
+     * <p>The export runs on the {@link ImageEncoder} workers. Each tile is snapshotted on the JavaFX application
+     * thread, which is only occupied for the snapshot itself; reading the pixels, assembling the strips and encoding
+     * the image all happen on the worker. This method must be called on the JavaFX application thread, and the node
+     * should not be modified until the returned future completes.</p>
+     *
+     * @param node  The node to export, typically the diagram's drawing pane.
+     * @param scale The scale factor; {@code 2} doubles the resolution of the image.
+     * @param file  The destination file; its extension selects the format as for {@link #export}.
+     * @return A future completing with the written file, or exceptionally if the export failed.
+     */
+    public CompletableFuture<File> exportAsync(Node node, double scale, File file) {
+        Bounds region = contentBounds(node);
+        TileSource source = fxThreadSnapshotSource(node, region, scale);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                write(source, region, scale, file);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ImageEncoder.workers());
+    }
+
+    /**
+     * Encodes the tiles of a source covering a scaled region to a PNG or JPEG file.
+     *
+     * @param source The source of the image's pixels.
+     * @param region The exported region, before scaling.
+     * @param scale  The scale factor.
+     * @param file   The destination file; its extension selects the format.
+     * @throws IOException If a tile cannot be rendered or the image cannot be written.
+     */
+    private void write(TileSource source, Bounds region, double scale, File file) throws IOException {
+        int width = Math.max(1, (int) Math.ceil(region.getWidth() * scale));
+        int height = Math.max(1, (int) Math.ceil(region.getHeight() * scale));
+
+        if (ImageEncoder.isJpeg(file)) {
+            if (!ImageIO.write(render(source, width, height), "jpg", file)) {
+                throw new IOException("No JPEG encoder available");
+            }
+            return;
+        }
+        requireWithinBudget(width, height, MAX_STREAMED_PIXELS);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+            writePng(source, width, height, SCREEN_DPI * scale, out);
+        }
+    }
+
+    /**
+     * Encodes a PNG image strip by strip from the tiles of a source.
+     *
+     * @param source The source of the image's pixels.
+     * @param width  The width of the image.
+     * @param height The height of the image.
+     * @param dpi    The resolution to record in the image.
+     * @param out    The stream receiving the image; it is not closed.
+     * @throws IOException If the image exceeds the size limits, a tile cannot be rendered or the image cannot be
+     *                     written.
+     */
+    public void writePng(TileSource source, int width, int height, double dpi, OutputStream out) throws IOException {
+        requireWithinBudget(width, height, MAX_STREAMED_PIXELS);
+        int stripHeight = Math.max(1, Math.min(tileSize, maxStripPixels / width));
+        int[] strip = new int[width * stripHeight];
+        try (StreamingPngWriter png = new StreamingPngWriter(out, width, height, dpi)) {
+            for (int y = 0; y < height; y += stripHeight) {
+                int rows = Math.min(stripHeight, height - y);
+                for (int x = 0; x < width; x += tileSize) {
+                    source.readTile(x, y, Math.min(tileSize, width - x), rows, strip, x, width);
+                }
+                for (int row = 0; row < rows; row++) {
+                    png.writeRow(strip, row * width);
+                }
+            }
+        }
+    }
+
+    /**
+     * Assembles the tiles of a source into an opaque image, for encoders that need the complete image.
+     *
+     * <p>Tiles are read straight into the raster of the image, without an intermediate buffer.</p>
+     *
+     * @param source The source of the image's pixels.
+     * @param width  The width of the image.
+     * @param height The height of the image.
+     * @return The assembled image.
+     * @throws IOException If the image exceeds the size limits or a tile cannot be rendered.
+     */
+    public BufferedImage render(TileSource source, int width, int height) throws IOException {
+        requireWithinBudget(width, height, MAX_ASSEMBLED_PIXELS);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        for (int y = 0; y < height; y += tileSize) {
+            int rows = Math.min(tileSize, height - y);
+            for (int x = 0; x < width; x += tileSize) {
+                source.readTile(x, y, Math.min(tileSize, width - x), rows, pixels, y * width + x, width);
+            }
+        }
+        ImageEncoder.flattenOnWhite(pixels);
+        return image;
+    }
+
+    /**
+     * Checks whether an image of the given size stays within the size limits and a pixel budget.
+     *
+     * <p>The size may be fractional or beyond the range of {@code int}, so callers can check a scaled region before
+     * converting it to pixels.</p>
+     *
+     * @param width     The width of the image in pixels.
+     * @param height    The height of the image in pixels.
+     * @param maxPixels The pixel budget, usually {@link #MAX_STREAMED_PIXELS} or {@link #MAX_ASSEMBLED_PIXELS}.
+     * @return {@code true} if neither side exceeds {@link #MAX_IMAGE_DIMENSION} and the image has at most
+     * {@code maxPixels} pixels.
+     */
+    public static boolean isWithinBudget(double width, double height, long maxPixels) {
+        double columns = Math.max(1, Math.ceil(width));
+        double rows = Math.max(1, Math.ceil(height));
+        return columns <= MAX_IMAGE_DIMENSION && rows <= MAX_IMAGE_DIMENSION && columns * rows <= maxPixels;
+    }
+
+    /**
+     * Rejects an image that exceeds the size limits or a pixel budget.
+     *
+     * @param width     The width of the image in pixels.
+     * @param height    The height of the image in pixels.
+     * @param maxPixels The pixel budget.
+     * @throws IOException If the image is larger than allowed by {@link #isWithinBudget}.
+     */
+    public static void requireWithinBudget(int width, int height, long maxPixels) throws IOException {
+        if (!isWithinBudget(width, height, maxPixels)) {
+            throw new IOException("An image of " + width + "x" + height + " pixels exceeds the export limit of "
+                    + MAX_IMAGE_DIMENSION + " pixels per side and " + maxPixels + " pixels in total");
+        }
+    }
+
+    /**
+     * Creates a tile source that renders regions of a node with JavaFX snapshots.
+     *
+     * <p>Each tile is rendered through a viewport into the scaled node, so no snapshot is ever larger than one tile.
+     * The returned source must be used on the JavaFX application thread.</p>
+     *
+     * @param node   The node to render.
+     * @param region The region to export, in the coordinate space of the node's parent.
+     * @param scale  The scale factor.
+     * @return A tile source producing the pixels of the scaled region.
+     */
+    public static TileSource snapshotSource(Node node, Bounds region, double scale) {
+        SnapshotParameters params = new SnapshotParameters();
+        params.setTransform(Transform.scale(scale, scale));
+        params.setFill(Color.WHITE);
+        double originX = region.getMinX() * scale;
+        double originY = region.getMinY() * scale;
+        WritableImage[] reusable = new WritableImage[1];
+
+        return (x, y, width, height, pixels, offset, scanlineStride) -> {
+            WritableImage tile = reusable[0];
+            if (tile == null || tile.getWidth() != width || tile.getHeight() != height) {
+                tile = new WritableImage(width, height);
+            }
+            params.setViewport(new Rectangle2D(originX + x, originY + y, width, height));
+            tile = node.snapshot(params, tile);
+            reusable[0] = tile;
+            tile.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(),
+                    pixels, offset, scanlineStride);
+        };
+    }
+
+    /**
+     * Creates a tile source for use off the JavaFX application thread.
+     *
+     * <p>Each tile is snapshotted on the JavaFX application thread while the calling worker waits; the pixels are
+     * then read from the snapshot on the worker, so the application thread does no conversion work.</p>
+     *
+     * @param node   The node to render.
+     * @param region The region to export, in the coordinate space of the node's parent.
+     * @param scale  The scale factor.
+     * @return A tile source producing the pixels of the scaled region, which must not be used on the JavaFX
+     * application thread.
+     */
+    public static TileSource fxThreadSnapshotSource(Node node, Bounds region, double scale) {
+        SnapshotParameters params = new SnapshotParameters();
+        params.setTransform(Transform.scale(scale, scale));
+        params.setFill(Color.WHITE);
+        double originX = region.getMinX() * scale;
+        double originY = region.getMinY() * scale;
+
+        return (x, y, width, height, pixels, offset, scanlineStride) -> {
+            if (Platform.isFxApplicationThread()) {
+                throw new IllegalStateException("Background exports must not read tiles on the JavaFX thread");
+            }
+            CompletableFuture<WritableImage> snapshot = new CompletableFuture<>();
+            Platform.runLater(() -> {
+                try {
+                    params.setViewport(new Rectangle2D(originX + x, originY + y, width, height));
+                    snapshot.complete(node.snapshot(params, null));
+                } catch (Throwable t) {
+                    snapshot.completeExceptionally(t);
+                }
+            });
+            WritableImage tile;
+            try {
+                tile = snapshot.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a snapshot");
+            } catch (ExecutionException e) {
+                throw new IOException("Snapshot failed", e.getCause());
+            }
+            tile.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(),
+                    pixels, offset, scanlineStride);
+        };
+    }
+
+    /**
+     * Determines the region covered by a node and all of its children, in the coordinate space of the node's parent.
+     *
+     * <p>Elements dragged beyond the edge of a pane are part of the diagram but not of the pane's own bounds, so the
+     * bounds of the children are included as well.</p>
+     *
+     * @param node The node whose content bounds are computed.
+     * @return The bounds of the node's content.
+     */
+    public static Bounds contentBounds(Node node) {
+        Bounds local = node.getLayoutBounds();
+        double minX = local.getMinX();
+        double minY = local.getMinY();
+        double maxX = local.getMaxX();
+        double maxY = local.getMaxY();
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                if (!child.isVisible()) {
+                    continue;
+                }
+                Bounds childBounds = child.getBoundsInParent();
+                minX = Math.min(minX, childBounds.getMinX());
+                minY = Math.min(minY, childBounds.getMinY());
+                maxX = Math.max(maxX, childBounds.getMaxX());
+                maxY = Math.max(maxY, childBounds.getMaxY());
+            }
+        }
+        return node.localToParent(new BoundingBox(minX, minY, maxX - minX, maxY - minY));
+    }
+}
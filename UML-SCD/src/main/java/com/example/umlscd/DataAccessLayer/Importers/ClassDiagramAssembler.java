@@ -0,0 +1,227 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <h1>Class Diagram Assembler</h1>
+ *
+ * <p>The {@code ClassDiagramAssembler} class merges the {@link ImportedType}s read by an importer into a
+ * {@link ClassDiagramD}. Each type becomes a {@link UMLClassBox} or {@link UMLInterfaceBox}, laid out on a grid,
+ * and the references between the imported types become relationships: inheritance for superclasses and interfaces,
+ * and an association named after the field for every field whose type mentions another imported type. References
+ * to types that were not imported, such as library types, are left out.</p>
+ *
+ * <p>Types are named by their name within their package. If two packages declare a type of the same name, the one
+ * whose qualified name comes first alphabetically keeps the short name and the others are named by their fully
+ * qualified name, so that every box has a unique name. References are resolved against the package of the referring
+ * type first. Assembling sorts the types, so the result does not depend on the order in which they were read.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Creating class and interface boxes with unique names, recording their packages.</li>
+ *     <li>Resolving supertypes and field types into relationships.</li>
+ *     <li>Laying out the boxes on a grid.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassDiagramAssembler {
+
+    /**
+     * The horizontal distance between the boxes of the grid.
+     */
+    static final double COLUMN_WIDTH = 260;
+
+    /**
+     * The vertical distance between the boxes of the grid.
+     */
+    static final double ROW_HEIGHT = 220;
+
+    /**
+     * Matches a possibly qualified type name within a type as written in the code.
+     */
+    private static final Pattern TYPE_NAME =
+            Pattern.compile("[\\p{L}_$][\\p{L}\\p{N}_$]*(?:\\.[\\p{L}_$][\\p{L}\\p{N}_$]*)*");
+
+    /**
+     * Prevents instantiation; the assembler only has static methods.
+     */
+    private ClassDiagramAssembler() {
+    }
+
+    /**
+     * Merges imported types into a new class diagram.
+     *
+     * @param importedTypes The imported types, in any order.
+     * @return The diagram.
+     */
+    public static ClassDiagramD assemble(Collection<ImportedType> importedTypes) {
+        List<ImportedType> types = new ArrayList<>(importedTypes);
+        types.sort(Comparator.comparing(ImportedType::getQualifiedName));
+
+        // Give every type a unique box name and index the names for resolving references
+        Map<ImportedType, String> boxNames = new LinkedHashMap<>();
+        Map<String, String> byQualifiedName = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        for (ImportedType type : types) {
+            if (byQualifiedName.containsKey(type.getQualifiedName())) {
+                continue;
+            }
+            String boxName = names.contains(type.getName()) ? type.getQualifiedName() : type.getName();
+            names.add(boxName);
+            boxNames.put(type, boxName);
+            byQualifiedName.put(type.getQualifiedName(), boxName);
+        }
+
+        ClassDiagramD diagram = new ClassDiagramD();
+        List<UMLClassBox> classes = new ArrayList<>();
+        List<UMLInterfaceBox> interfaces = new ArrayList<>();
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(boxNames.size())));
+        int index = 0;
+        for (Map.Entry<ImportedType, String> entry : boxNames.entrySet()) {
+            ImportedType type = entry.getKey();
+            double x = (index % columns) * COLUMN_WIDTH;
+            double y = (index / columns) * ROW_HEIGHT;
+            index++;
+            if (type.isInterface()) {
+                UMLInterfaceBox box = new UMLInterfaceBox();
+                box.setName(entry.getValue());
+                box.setX(x);
+                box.setY(y);
+                box.setMethods(new ArrayList<>(type.getMethods()));
+                box.setPackageName(type.getPackageName());
+                interfaces.add(box);
+            } else {
+                UMLClassBox box = new UMLClassBox(entry.getValue(), x, y,
+                        new ArrayList<>(type.getAttributes()), new ArrayList<>(type.getMethods()));
+                box.setPackageName(type.getPackageName());
+                classes.add(box);
+            }
+        }
+
+        List<UMLRelationship> relationships = new ArrayList<>();
+        Set<String> relationshipKeys = new HashSet<>();
+        for (Map.Entry<ImportedType, String> entry : boxNames.entrySet()) {
+            ImportedType type = entry.getKey();
+            String source = entry.getValue();
+            List<String> supertypes = new ArrayList<>(type.getInterfaces());
+            if (!type.getSuperclass().isEmpty()) {
+                supertypes.add(0, type.getSuperclass());
+            }
+            for (String supertype : supertypes) {
+                String target = resolve(rawType(supertype), type.getPackageName(), byQualifiedName, names);
+                if (target != null && !target.equals(source)) {
+                    add(relationships, relationshipKeys,
+                            new UMLRelationship("Inheritance", source, target, "Inheritance", "", ""));
+                }
+            }
+            if (type.isInterface()) {
+                continue;
+            }
+            for (Map.Entry<String, String> field : type.getFieldTypes().entrySet()) {
+                String fieldType = field.getValue();
+                int typeArguments = fieldType.indexOf('<');
+                Matcher matcher = TYPE_NAME.matcher(fieldType);
+                while (matcher.find()) {
+                    String target = resolve(matcher.group(), type.getPackageName(), byQualifiedName, names);
+                    if (target == null || target.equals(source)) {
+                        continue;
+                    }
+                    boolean many = fieldType.endsWith("]") || fieldType.endsWith("...")
+                            || (typeArguments >= 0 && matcher.start() > typeArguments);
+                    add(relationships, relationshipKeys,
+                            new UMLRelationship("Association", source, target, field.getKey(), "1", many ? "*" : "1"));
+                }
+            }
+        }
+
+        diagram.setClasses(classes);
+        diagram.setInterfaces(interfaces);
+        diagram.setRelationships(relationships);
+        return diagram;
+    }
+
+    /**
+     * Adds a relationship unless an identical one was already added.
+     *
+     * @param relationships The relationships of the diagram.
+     * @param keys          The identity keys of the relationships added so far.
+     * @param relationship  The relationship to add.
+     */
+    private static void add(List<UMLRelationship> relationships, Set<String> keys, UMLRelationship relationship) {
+        if (keys.add(relationship.identityKey())) {
+            relationships.add(relationship);
+        }
+    }
+
+    /**
+     * Removes the type arguments and array brackets from a type as written in the code.
+     *
+     * @param type The type.
+     * @return The raw type name.
+     */
+    static String rawType(String type) {
+        int end = type.length();
+        for (int i = 0; i < type.length(); i++) {
+            char c = type.charAt(i);
+            if (c == '<' || c == '[' || Character.isWhitespace(c)) {
+                end = i;
+                break;
+            }
+        }
+        return type.substring(0, end);
+    }
+
+    /**
+     * Resolves a type name as written in the code to the name of its box.
+     *
+     * @param reference       The possibly qualified type name.
+     * @param packageName     The package of the referring type, searched first.
+     * @param byQualifiedName The box names by fully qualified type name.
+     * @param names           The box names.
+     * @return The name of the box, or {@code null} if the type was not imported.
+     */
+    private static String resolve(String reference, String packageName, Map<String, String> byQualifiedName,
+                                  Set<String> names) {
+        if (reference.isEmpty()) {
+            return null;
+        }
+        String samePackage = byQualifiedName.get(packageName.isEmpty() ? reference : packageName + "." + reference);
+        if (samePackage != null) {
+            return samePackage;
+        }
+        String qualified = byQualifiedName.get(reference);
+        if (qualified != null) {
+            return qualified;
+        }
+        if (names.contains(reference)) {
+            return reference;
+        }
+        // Try ever shorter suffixes, so that both "Outer.Inner" and an unknown package prefix resolve
+        for (int dot = reference.indexOf('.'); dot >= 0; dot = reference.indexOf('.', dot + 1)) {
+            String suffix = reference.substring(dot + 1);
+            if (names.contains(suffix)) {
+                return suffix;
+            }
+        }
+        return null;
+    }
+}
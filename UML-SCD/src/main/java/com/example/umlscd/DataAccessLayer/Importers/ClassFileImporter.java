@@ -0,0 +1,154 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * <h1>Class File Importer</h1>
+ *
+ * <p>The {@code ClassFileImporter} class creates a class diagram from compiled code, for libraries whose sources
+ * are not available. It reads the {@code .class} entries of a JAR file through the zip file system of
+ * {@link FileSystems#newFileSystem(Path)}, or the class files below a directory, and parses every class file with
+ * the {@link ClassFileParser} on its own fork/join task. The types are then merged into one diagram by the
+ * {@link ClassDiagramAssembler}, exactly like imported sources.</p>
+ *
+ * <p>Entries below {@code META-INF}, which hold the versioned classes of multi-release JARs, are ignored, as are
+ * module and package descriptors. Class files that cannot be parsed are reported and skipped, so that one damaged
+ * entry does not prevent diagramming the rest of a library.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Importing the classes of a JAR file or a class directory.</li>
+ *     <li>Parsing the class files in parallel.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassFileImporter {
+
+    /**
+     * Creates a class diagram from the classes of a JAR file, using the common fork/join pool.
+     *
+     * @param jarFile The JAR file.
+     * @return The diagram of the classes.
+     * @throws IOException If the JAR file cannot be read.
+     * @see #importJar(Path, ForkJoinPool)
+     */
+    public ClassDiagramD importJar(Path jarFile) throws IOException {
+        return importJar(jarFile, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a class diagram from the classes of a JAR file.
+     *
+     * @param jarFile The JAR file.
+     * @param pool    The pool running the parsing tasks.
+     * @return The diagram of the classes.
+     * @throws IOException If the JAR file cannot be read.
+     */
+    public ClassDiagramD importJar(Path jarFile, ForkJoinPool pool) throws IOException {
+        try (FileSystem jar = FileSystems.newFileSystem(jarFile)) {
+            return importClassFiles(jar.getPath("/"), pool);
+        }
+    }
+
+    /**
+     * Creates a class diagram from the class files below a directory, which may also be the root of a zip file
+     * system.
+     *
+     * @param classDirectory The root of the class files.
+     * @param pool           The pool running the parsing tasks.
+     * @return The diagram of the classes.
+     * @throws IOException If the directory or a class file cannot be read.
+     */
+    public ClassDiagramD importClassFiles(Path classDirectory, ForkJoinPool pool) throws IOException {
+        List<ClassFileTask> tasks;
+        try (Stream<Path> files = Files.walk(classDirectory)) {
+            tasks = files.filter(file -> isClassFile(classDirectory.relativize(file)))
+                    .sorted()
+                    .map(ClassFileTask::new)
+                    .toList();
+        }
+
+        try {
+            List<ImportedType> types = pool.invoke(new RecursiveTask<List<ImportedType>>() {
+                @Override
+                protected List<ImportedType> compute() {
+                    return ForkJoinTask.invokeAll(tasks).stream()
+                            .map(ForkJoinTask::join)
+                            .filter(Objects::nonNull)
+                            .toList();
+                }
+            });
+            return ClassDiagramAssembler.assemble(types);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Checks whether a file is a class file that can declare a diagram type.
+     *
+     * @param relativePath The path of the file relative to the root of the class files.
+     * @return {@code true} for class files outside {@code META-INF}, other than module and package descriptors.
+     */
+    private static boolean isClassFile(Path relativePath) {
+        String name = relativePath.getFileName() == null ? "" : relativePath.getFileName().toString();
+        return name.endsWith(".class") && !name.equals("module-info.class") && !name.equals("package-info.class")
+                && !relativePath.startsWith("META-INF");
+    }
+
+    /**
+     * A fork/join task reading and parsing one class file.
+     */
+    private static final class ClassFileTask extends RecursiveTask<ImportedType> {
+
+        /**
+         * The class file.
+         */
+        private final Path file;
+
+        /**
+         * Constructs a task.
+         *
+         * @param file The class file.
+         */
+        ClassFileTask(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Reads and parses the class file.
+         *
+         * @return The declared type, or {@code null} if the class is left out or cannot be parsed.
+         * @throws UncheckedIOException If the file cannot be read.
+         */
+        @Override
+        protected ImportedType compute() {
+            try {
+                return ClassFileParser.parse(ByteBuffer.wrap(Files.readAllBytes(file)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + file, e);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Skipping " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,565 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>Class File Parser</h1>
+ *
+ * <p>The {@code ClassFileParser} class reads the parts of a compiled {@code .class} file that a class diagram shows
+ * into an {@link ImportedType}: the constant pool, the access flags, the superclass and interface tables, and the
+ * fields and methods with their descriptors. Where the class was compiled with generic signatures or parameter
+ * names, the {@code Signature} and {@code MethodParameters} attributes are used, so that members read like
+ * {@code "-items : List<Item>"} and {@code "+add(item: Item): void"}; otherwise parameters are named
+ * {@code arg0}, {@code arg1} and so on. Code attributes are skipped without being looked at.</p>
+ *
+ * <p>Members are written with simple type names, while field types keep their qualified names so that the
+ * {@link ClassDiagramAssembler} can resolve them exactly. Synthetic and bridge members, static initializers,
+ * constructors, module descriptors and anonymous or local classes are left out.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Reading the constant pool, decoding its strings only when they are needed.</li>
+ *     <li>Translating field, method and generic signatures into Java types.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassFileParser {
+
+    /**
+     * The magic number starting every class file.
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * The access flag of public classes and members.
+     */
+    private static final int ACC_PUBLIC = 0x0001;
+
+    /**
+     * The access flag of private members.
+     */
+    private static final int ACC_PRIVATE = 0x0002;
+
+    /**
+     * The access flag of protected members.
+     */
+    private static final int ACC_PROTECTED = 0x0004;
+
+    /**
+     * The access flag of bridge methods generated by the compiler.
+     */
+    private static final int ACC_BRIDGE = 0x0040;
+
+    /**
+     * The access flag of methods whose last parameter is a variable argument list.
+     */
+    private static final int ACC_VARARGS = 0x0080;
+
+    /**
+     * The access flag of interfaces.
+     */
+    private static final int ACC_INTERFACE = 0x0200;
+
+    /**
+     * The access flag of classes and members generated by the compiler.
+     */
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    /**
+     * The access flag of module descriptors.
+     */
+    private static final int ACC_MODULE = 0x8000;
+
+    /**
+     * The constant pool tag of UTF-8 strings.
+     */
+    private static final int CONSTANT_UTF8 = 1;
+
+    /**
+     * The constant pool tag of class references.
+     */
+    private static final int CONSTANT_CLASS = 7;
+
+    /**
+     * The class file being read.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The offset of each constant pool entry's data, after its tag, by constant pool index.
+     */
+    private int[] offsets;
+
+    /**
+     * The tag of each constant pool entry, by constant pool index.
+     */
+    private byte[] tags;
+
+    /**
+     * Constructs a parser.
+     *
+     * @param buffer The class file, positioned at its start.
+     */
+    private ClassFileParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads a class file.
+     *
+     * @param classFile The content of the class file.
+     * @return The type declared by the file, or {@code null} for module descriptors and synthetic, anonymous and
+     * local classes.
+     * @throws IllegalArgumentException If the content is not a valid class file.
+     */
+    public static ImportedType parse(ByteBuffer classFile) {
+        try {
+            return new ClassFileParser(classFile.slice()).parseClass();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Truncated or corrupt class file", e);
+        }
+    }
+
+    /**
+     * Reads the class.
+     *
+     * @return The type, or {@code null} if it is left out.
+     */
+    private ImportedType parseClass() {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        buffer.getShort();
+        buffer.getShort();
+        readConstantPool();
+
+        int access = u2();
+        String binaryName = className(u2());
+        int superIndex = u2();
+        if ((access & (ACC_MODULE | ACC_SYNTHETIC)) != 0 || isAnonymousOrLocal(binaryName)) {
+            return null;
+        }
+        String superclass = superIndex == 0 ? "" : javaName(className(superIndex), true);
+        if (superclass.equals("java.lang.Object")) {
+            superclass = "";
+        }
+        List<String> interfaces = new ArrayList<>();
+        for (int i = u2(); i > 0; i--) {
+            interfaces.add(javaName(className(u2()), true));
+        }
+
+        boolean isInterface = (access & ACC_INTERFACE) != 0;
+        List<String> attributes = new ArrayList<>();
+        Map<String, String> fieldTypes = new LinkedHashMap<>();
+        for (int i = u2(); i > 0; i--) {
+            int fieldAccess = u2();
+            String name = utf8(u2());
+            String descriptor = utf8(u2());
+            String signature = readMemberAttributes(null);
+            if ((fieldAccess & ACC_SYNTHETIC) != 0 || isInterface) {
+                continue;
+            }
+            String source = signature != null ? signature : descriptor;
+            attributes.add(visibility(fieldAccess) + name + " : " + new SignatureReader(source, false).type());
+            fieldTypes.put(name, new SignatureReader(source, true).type());
+        }
+
+        List<String> methods = new ArrayList<>();
+        for (int i = u2(); i > 0; i--) {
+            int methodAccess = u2();
+            String name = utf8(u2());
+            String descriptor = utf8(u2());
+            List<String> parameterNames = new ArrayList<>();
+            String signature = readMemberAttributes(parameterNames);
+            if ((methodAccess & (ACC_SYNTHETIC | ACC_BRIDGE)) != 0 || name.startsWith("<")) {
+                continue;
+            }
+            String text = methodText(signature, descriptor, parameterNames);
+            int brackets = text.lastIndexOf("[]): ");
+            if ((methodAccess & ACC_VARARGS) != 0 && brackets >= 0) {
+                text = text.substring(0, brackets) + "..." + text.substring(brackets + 2);
+            }
+            methods.add(visibility(methodAccess) + name + text);
+        }
+
+        int slash = binaryName.lastIndexOf('/');
+        String packageName = slash < 0 ? "" : binaryName.substring(0, slash).replace('/', '.');
+        String name = binaryName.substring(slash + 1).replace('$', '.');
+        return new ImportedType(packageName, name, isInterface, superclass, interfaces, attributes, methods,
+                fieldTypes);
+    }
+
+    /**
+     * Reads the constant pool, recording where each entry starts without decoding it.
+     */
+    private void readConstantPool() {
+        int count = u2();
+        offsets = new int[count];
+        tags = new byte[count];
+        for (int index = 1; index < count; index++) {
+            byte tag = buffer.get();
+            tags[index] = tag;
+            offsets[index] = buffer.position();
+            int length = switch (tag) {
+                case CONSTANT_UTF8 -> 2 + Short.toUnsignedInt(buffer.getShort(buffer.position()));
+                case 7, 8, 16, 19, 20 -> 2;
+                case 15 -> 3;
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> 4;
+                case 5, 6 -> 8;
+                default -> throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+            };
+            buffer.position(buffer.position() + length);
+            if (tag == 5 || tag == 6) {
+                // Long and double constants take two entries
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Reads the attributes of a field or method, keeping the signature and the parameter names.
+     *
+     * @param parameterNames Receives the parameter names of a method, or {@code null} for a field.
+     * @return The generic signature, or {@code null} if the member has none.
+     */
+    private String readMemberAttributes(List<String> parameterNames) {
+        String signature = null;
+        for (int i = u2(); i > 0; i--) {
+            String attribute = utf8(u2());
+            int length = buffer.getInt();
+            int end = buffer.position() + length;
+            if (attribute.equals("Signature")) {
+                signature = utf8(u2());
+            } else if (attribute.equals("MethodParameters") && parameterNames != null) {
+                for (int count = Byte.toUnsignedInt(buffer.get()); count > 0; count--) {
+                    int nameIndex = u2();
+                    u2();
+                    parameterNames.add(nameIndex == 0 ? "" : utf8(nameIndex));
+                }
+            }
+            buffer.position(end);
+        }
+        return signature;
+    }
+
+    /**
+     * Formats the parameters and return type of a method.
+     *
+     * @param signature      The generic signature, or {@code null} if there is none.
+     * @param descriptor     The descriptor, which may list more parameters than the signature.
+     * @param parameterNames The parameter names from the {@code MethodParameters} attribute, possibly empty.
+     * @return The parameter list and return type in the notation of the class editor.
+     */
+    private static String methodText(String signature, String descriptor, List<String> parameterNames) {
+        SignatureReader reader = new SignatureReader(signature != null ? signature : descriptor, false);
+        reader.skipTypeParameters();
+        List<String> types = reader.parameterTypes();
+        String returnType = reader.type();
+        if (parameterNames.size() > types.size() && signature != null) {
+            // Signatures omit synthetic parameters that the descriptor and MethodParameters list
+            return methodText(null, descriptor, parameterNames);
+        }
+
+        // Implicit leading parameters such as the outer instance have no place in the signature
+        int offset = Math.max(0, parameterNames.size() - types.size());
+        StringBuilder text = new StringBuilder("(");
+        for (int i = 0; i < types.size(); i++) {
+            String name = offset + i < parameterNames.size() ? parameterNames.get(offset + i) : "";
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(name.isEmpty() ? "arg" + i : name).append(": ").append(types.get(i));
+        }
+        return text.append("): ").append(returnType).toString();
+    }
+
+    /**
+     * Translates access flags into a visibility symbol.
+     *
+     * @param access The access flags.
+     * @return {@code +}, {@code -}, {@code #} or {@code ~}.
+     */
+    private static String visibility(int access) {
+        if ((access & ACC_PUBLIC) != 0) {
+            return "+";
+        }
+        if ((access & ACC_PRIVATE) != 0) {
+            return "-";
+        }
+        return (access & ACC_PROTECTED) != 0 ? "#" : "~";
+    }
+
+    /**
+     * Checks whether a class is anonymous or local, which the compiler names with a number after a dollar sign.
+     *
+     * @param binaryName The binary name of the class.
+     * @return {@code true} for anonymous and local classes.
+     */
+    private static boolean isAnonymousOrLocal(String binaryName) {
+        for (int dollar = binaryName.indexOf('$'); dollar >= 0; dollar = binaryName.indexOf('$', dollar + 1)) {
+            if (dollar + 1 < binaryName.length() && Character.isDigit(binaryName.charAt(dollar + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Translates an internal class name into a Java type name.
+     *
+     * @param internalName The class name with slashes, such as {@code java/util/Map$Entry}.
+     * @param qualified    Whether to keep the package.
+     * @return The type name, such as {@code java.util.Map.Entry} or {@code Map.Entry}.
+     */
+    static String javaName(String internalName, boolean qualified) {
+        String name = qualified ? internalName : internalName.substring(internalName.lastIndexOf('/') + 1);
+        return name.replace('/', '.').replace('$', '.');
+    }
+
+    /**
+     * Reads the name of a class constant.
+     *
+     * @param index The constant pool index of the class constant.
+     * @return The internal class name.
+     */
+    private String className(int index) {
+        if (tags[index] != CONSTANT_CLASS) {
+            throw new IllegalArgumentException("Constant " + index + " is not a class");
+        }
+        return utf8(Short.toUnsignedInt(buffer.getShort(offsets[index])));
+    }
+
+    /**
+     * Decodes a string constant, which is stored in the modified UTF-8 encoding of class files.
+     *
+     * @param index The constant pool index of the string.
+     * @return The string.
+     */
+    private String utf8(int index) {
+        if (tags[index] != CONSTANT_UTF8) {
+            throw new IllegalArgumentException("Constant " + index + " is not a string");
+        }
+        int offset = offsets[index];
+        int length = Short.toUnsignedInt(buffer.getShort(offset));
+        char[] chars = new char[length];
+        int count = 0;
+        for (int i = offset + 2; i < offset + 2 + length; ) {
+            int b = buffer.get(i++) & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (buffer.get(i++) & 0x3F));
+            } else {
+                chars[count++] = (char) (((b & 0x0F) << 12) | ((buffer.get(i++) & 0x3F) << 6)
+                        | (buffer.get(i++) & 0x3F));
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Reads an unsigned two-byte value.
+     *
+     * @return The value.
+     */
+    private int u2() {
+        return Short.toUnsignedInt(buffer.getShort());
+    }
+
+    /**
+     * Translates field descriptors and generic signatures into Java types.
+     */
+    private static final class SignatureReader {
+
+        /**
+         * The descriptor or signature being read.
+         */
+        private final String text;
+
+        /**
+         * Whether class names keep their package.
+         */
+        private final boolean qualified;
+
+        /**
+         * The index of the next character.
+         */
+        private int position;
+
+        /**
+         * Constructs a reader.
+         *
+         * @param text      The descriptor or signature.
+         * @param qualified Whether class names keep their package.
+         */
+        SignatureReader(String text, boolean qualified) {
+            this.text = text;
+            this.qualified = qualified;
+        }
+
+        /**
+         * Skips the type parameters at the start of a method signature, if there are any.
+         */
+        void skipTypeParameters() {
+            if (peek() != '<') {
+                return;
+            }
+            position++;
+            while (position < text.length() && peek() != '>') {
+                position = text.indexOf(':', position);
+                if (position < 0) {
+                    throw new IllegalArgumentException("Malformed signature " + text);
+                }
+                // The class bound may be empty; interface bounds follow with a colon each
+                position++;
+                if (peek() != ':') {
+                    type();
+                }
+                while (peek() == ':') {
+                    position++;
+                    type();
+                }
+            }
+            position++;
+        }
+
+        /**
+         * Reads the parameter list of a method descriptor or signature.
+         *
+         * @return The parameter types.
+         */
+        List<String> parameterTypes() {
+            List<String> types = new ArrayList<>();
+            if (peek() != '(') {
+                throw new IllegalArgumentException("Malformed method descriptor " + text);
+            }
+            position++;
+            while (peek() != ')') {
+                types.add(type());
+            }
+            position++;
+            return types;
+        }
+
+        /**
+         * Reads one type.
+         *
+         * @return The Java type.
+         */
+        String type() {
+            char c = text.charAt(position++);
+            switch (c) {
+                case 'B':
+                    return "byte";
+                case 'C':
+                    return "char";
+                case 'D':
+                    return "double";
+                case 'F':
+                    return "float";
+                case 'I':
+                    return "int";
+                case 'J':
+                    return "long";
+                case 'S':
+                    return "short";
+                case 'Z':
+                    return "boolean";
+                case 'V':
+                    return "void";
+                case '[':
+                    return type() + "[]";
+                case 'T': {
+                    int end = text.indexOf(';', position);
+                    String variable = text.substring(position, end);
+                    position = end + 1;
+                    return variable;
+                }
+                case 'L':
+                    return classType();
+                default:
+                    throw new IllegalArgumentException("Malformed signature " + text);
+            }
+        }
+
+        /**
+         * Reads a class type after its {@code L}, including type arguments and nested classes.
+         *
+         * @return The Java type.
+         */
+        private String classType() {
+            StringBuilder type = new StringBuilder();
+            int start = position;
+            while (true) {
+                char c = text.charAt(position);
+                if (c == ';' || c == '<' || c == '.') {
+                    String internalName = text.substring(start, position);
+                    if (type.isEmpty()) {
+                        type.append(javaName(internalName, qualified));
+                    } else {
+                        type.append('.').append(internalName.replace('$', '.'));
+                    }
+                    if (c == '<') {
+                        type.append(typeArguments());
+                        c = text.charAt(position);
+                    }
+                    position++;
+                    if (c == ';') {
+                        return type.toString();
+                    }
+                    start = position;
+                } else {
+                    position++;
+                }
+            }
+        }
+
+        /**
+         * Reads type arguments, starting at their opening bracket.
+         *
+         * @return The type arguments, including the brackets.
+         */
+        private String typeArguments() {
+            StringBuilder arguments = new StringBuilder("<");
+            position++;
+            while (peek() != '>') {
+                if (arguments.length() > 1) {
+                    arguments.append(", ");
+                }
+                char c = peek();
+                if (c == '*') {
+                    position++;
+                    arguments.append('?');
+                } else if (c == '+') {
+                    position++;
+                    arguments.append("? extends ").append(type());
+                } else if (c == '-') {
+                    position++;
+                    arguments.append("? super ").append(type());
+                } else {
+                    arguments.append(type());
+                }
+            }
+            position++;
+            return arguments.append('>').toString();
+        }
+
+        /**
+         * Retrieves the next character without consuming it.
+         *
+         * @return The character, or {@code 0} at the end of the text.
+         */
+        private char peek() {
+            return position < text.length() ? text.charAt(position) : 0;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>Imported Type</h1>
+ *
+ * <p>The {@code ImportedType} class describes one class or interface read from existing code, before it is placed
+ * in a diagram. Importers produce one {@code ImportedType} per type declaration, independently of each other, and
+ * the {@link ClassDiagramAssembler} merges them into a class diagram once all of them are known.</p>
+ *
+ * <p>Members are kept in the notation of the class editor, such as {@code "-name : String"} and
+ * {@code "+save(id: int): void"}. Supertypes and field types are kept as written in the code, possibly qualified,
+ * so that the assembler can resolve them against the other imported types.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Providing the package, name and kind of the type.</li>
+ *     <li>Providing its supertypes, members and field types.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ImportedType {
+
+    /**
+     * The package of the type, or an empty string for the default package.
+     */
+    private final String packageName;
+
+    /**
+     * The name of the type within its package; nested types are written as {@code Outer.Inner}.
+     */
+    private final String name;
+
+    /**
+     * Whether the type is an interface (including annotation types).
+     */
+    private final boolean isInterface;
+
+    /**
+     * The superclass as written in the code, or an empty string if there is none.
+     */
+    private final String superclass;
+
+    /**
+     * The implemented or extended interfaces as written in the code.
+     */
+    private final List<String> interfaces;
+
+    /**
+     * The attributes in the notation of the class editor.
+     */
+    private final List<String> attributes;
+
+    /**
+     * The methods in the notation of the class editor.
+     */
+    private final List<String> methods;
+
+    /**
+     * The type of each field as written in the code, by field name, in declaration order.
+     */
+    private final Map<String, String> fieldTypes;
+
+    /**
+     * Constructs an imported type.
+     *
+     * @param packageName The package of the type, or an empty string for the default package.
+     * @param name        The name of the type within its package.
+     * @param isInterface Whether the type is an interface.
+     * @param superclass  The superclass as written in the code, or an empty string if there is none.
+     * @param interfaces  The implemented or extended interfaces.
+     * @param attributes  The attributes in the notation of the class editor.
+     * @param methods     The methods in the notation of the class editor.
+     * @param fieldTypes  The type of each field by field name, in declaration order.
+     */
+    public ImportedType(String packageName, String name, boolean isInterface, String superclass,
+                        List<String> interfaces, List<String> attributes, List<String> methods,
+                        Map<String, String> fieldTypes) {
+        this.packageName = packageName;
+        this.name = name;
+        this.isInterface = isInterface;
+        this.superclass = superclass;
+        this.interfaces = List.copyOf(interfaces);
+        this.attributes = List.copyOf(attributes);
+        this.methods = List.copyOf(methods);
+        this.fieldTypes = Collections.unmodifiableMap(new LinkedHashMap<>(fieldTypes));
+    }
+
+    /**
+     * Retrieves the package of the type.
+     *
+     * @return The package, or an empty string for the default package.
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Retrieves the name of the type within its package.
+     *
+     * @return The name; nested types are written as {@code Outer.Inner}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the fully qualified name of the type.
+     *
+     * @return The package and name, separated by a dot.
+     */
+    public String getQualifiedName() {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    /**
+     * Checks whether the type is an interface.
+     *
+     * @return {@code true} for interfaces and annotation types.
+     */
+    public boolean isInterface() {
+        return isInterface;
+    }
+
+    /**
+     * Retrieves the superclass as written in the code.
+     *
+     * @return The superclass, or an empty string if there is none.
+     */
+    public String getSuperclass() {
+        return superclass;
+    }
+
+    /**
+     * Retrieves the implemented or extended interfaces as written in the code.
+     *
+     * @return The interfaces, in declaration order.
+     */
+    public List<String> getInterfaces() {
+        return interfaces;
+    }
+
+    /**
+     * Retrieves the attributes.
+     *
+     * @return The attributes in the notation of the class editor.
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Retrieves the methods.
+     *
+     * @return The methods in the notation of the class editor.
+     */
+    public List<String> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Retrieves the field types.
+     *
+     * @return The type of each field as written in the code, by field name, in declaration order.
+     */
+    public Map<String, String> getFieldTypes() {
+        return fieldTypes;
+    }
+}
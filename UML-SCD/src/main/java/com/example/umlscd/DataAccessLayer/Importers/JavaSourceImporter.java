@@ -0,0 +1,141 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * <h1>Java Source Importer</h1>
+ *
+ * <p>The {@code JavaSourceImporter} class creates a class diagram from an existing Java source tree. Every
+ * {@code .java} file below the chosen directory is read and parsed by the {@link JavaSourceParser} on its own
+ * fork/join task, so large code bases use all the workers of the pool, and the types of all files are then merged
+ * into one diagram by the {@link ClassDiagramAssembler}.</p>
+ *
+ * <p>Files that are not valid UTF-8 are read as ISO-8859-1. {@code module-info.java} and {@code package-info.java}
+ * are ignored, as they declare no types.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Finding the source files of a directory tree.</li>
+ *     <li>Parsing them in parallel and merging the results into a {@link ClassDiagramD}.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class JavaSourceImporter {
+
+    /**
+     * Creates a class diagram from the Java sources below a directory, using the common fork/join pool.
+     *
+     * @param sourceDirectory The root of the source tree.
+     * @return The diagram of the declared types.
+     * @throws IOException If the directory or a source file cannot be read.
+     * @see #importSourceTree(Path, ForkJoinPool)
+     */
+    public ClassDiagramD importSourceTree(Path sourceDirectory) throws IOException {
+        return importSourceTree(sourceDirectory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a class diagram from the Java sources below a directory.
+     *
+     * @param sourceDirectory The root of the source tree.
+     * @param pool            The pool running the parsing tasks.
+     * @return The diagram of the declared types.
+     * @throws IOException If the directory or a source file cannot be read.
+     */
+    public ClassDiagramD importSourceTree(Path sourceDirectory, ForkJoinPool pool) throws IOException {
+        List<SourceFileTask> tasks;
+        try (Stream<Path> files = Files.walk(sourceDirectory)) {
+            tasks = files.filter(JavaSourceImporter::isSourceFile).sorted().map(SourceFileTask::new).toList();
+        }
+
+        try {
+            List<ImportedType> types = pool.invoke(new RecursiveTask<List<ImportedType>>() {
+                @Override
+                protected List<ImportedType> compute() {
+                    return ForkJoinTask.invokeAll(tasks).stream().flatMap(task -> task.join().stream()).toList();
+                }
+            });
+            return ClassDiagramAssembler.assemble(types);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Checks whether a file is a Java source file that can declare types.
+     *
+     * @param file The file.
+     * @return {@code true} for regular {@code .java} files other than module and package descriptors.
+     */
+    private static boolean isSourceFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".java") && !name.equals("module-info.java") && !name.equals("package-info.java")
+                && Files.isRegularFile(file);
+    }
+
+    /**
+     * Reads a source file.
+     *
+     * @param file The source file.
+     * @return The content of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    static String readSource(Path file) throws IOException {
+        try {
+            return Files.readString(file, StandardCharsets.UTF_8);
+        } catch (CharacterCodingException e) {
+            return new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * A fork/join task reading and parsing one source file.
+     */
+    private static final class SourceFileTask extends RecursiveTask<List<ImportedType>> {
+
+        /**
+         * The source file.
+         */
+        private final Path file;
+
+        /**
+         * Constructs a task.
+         *
+         * @param file The source file.
+         */
+        SourceFileTask(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Reads and parses the file.
+         *
+         * @return The types declared in the file.
+         * @throws UncheckedIOException If the file cannot be read.
+         */
+        @Override
+        protected List<ImportedType> compute() {
+            try {
+                return JavaSourceParser.parse(readSource(file));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + file, e);
+            }
+        }
+    }
+}
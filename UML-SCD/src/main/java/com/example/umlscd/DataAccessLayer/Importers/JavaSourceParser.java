@@ -0,0 +1,700 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h1>Java Source Parser</h1>
+ *
+ * <p>The {@code JavaSourceParser} class reads the type declarations of one Java source file into
+ * {@link ImportedType}s. It only looks at what a class diagram shows: the package, the classes, interfaces, enums,
+ * records and annotation types (including nested ones), their supertypes, their fields and their method
+ * signatures. Method bodies, initializers and local classes are skipped without being parsed.</p>
+ *
+ * <p>The parser works on a simple token stream rather than a full grammar, so it is fast and tolerant: it never
+ * throws, and code it does not understand is skipped up to the next member. Comments, string, text block and
+ * character literals are dropped while tokenizing, so braces inside them do not matter. Members are written in the
+ * notation of the class editor, for example {@code "-items : List<Item>"} and {@code "+add(item: Item): void"}.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Tokenizing Java source code.</li>
+ *     <li>Reading type declarations, supertypes, fields and method signatures.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class JavaSourceParser {
+
+    /**
+     * The token standing for a literal, whose value is never needed.
+     */
+    private static final String LITERAL = "\"\"";
+
+    /**
+     * The modifiers that may precede a declaration, other than the visibility keywords.
+     */
+    private static final Set<String> MODIFIERS = Set.of("static", "abstract", "final", "native", "synchronized",
+            "transient", "volatile", "strictfp", "default", "sealed");
+
+    /**
+     * The tokens of the source file.
+     */
+    private final List<String> tokens;
+
+    /**
+     * The index of the next token.
+     */
+    private int position;
+
+    /**
+     * The types read so far.
+     */
+    private final List<ImportedType> types = new ArrayList<>();
+
+    /**
+     * Constructs a parser.
+     *
+     * @param tokens The tokens of the source file.
+     */
+    private JavaSourceParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Reads the type declarations of a source file.
+     *
+     * @param source The content of the source file.
+     * @return The declared types, outer types before their nested types.
+     */
+    public static List<ImportedType> parse(String source) {
+        JavaSourceParser parser = new JavaSourceParser(tokenize(source));
+        parser.parseCompilationUnit();
+        return parser.types;
+    }
+
+    /**
+     * Splits source code into identifiers, literals and single-character symbols, dropping whitespace and comments.
+     *
+     * @param source The source code.
+     * @return The tokens; every literal is replaced by {@link #LITERAL} and {@code ...} is a single token.
+     */
+    static List<String> tokenize(String source) {
+        List<String> tokens = new ArrayList<>(source.length() / 4);
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '/' && i + 1 < length && source.charAt(i + 1) == '/') {
+                int end = source.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (source.startsWith("\"\"\"", i)) {
+                int end = i + 3;
+                while (end < length && !source.startsWith("\"\"\"", end)) {
+                    end += source.charAt(end) == '\\' ? 2 : 1;
+                }
+                tokens.add(LITERAL);
+                i = Math.min(length, end + 3);
+            } else if (c == '"' || c == '\'') {
+                int end = i + 1;
+                while (end < length && source.charAt(end) != c && source.charAt(end) != '\n') {
+                    end += source.charAt(end) == '\\' ? 2 : 1;
+                }
+                tokens.add(LITERAL);
+                i = Math.min(length, end + 1);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int end = i + 1;
+                while (end < length && Character.isJavaIdentifierPart(source.charAt(end))) {
+                    end++;
+                }
+                tokens.add(source.substring(i, end));
+                i = end;
+            } else if (Character.isDigit(c)) {
+                int end = i + 1;
+                while (end < length && (Character.isLetterOrDigit(source.charAt(end)) || source.charAt(end) == '.'
+                        || source.charAt(end) == '_')) {
+                    end++;
+                }
+                tokens.add(LITERAL);
+                i = end;
+            } else if (c == '@') {
+                int end = i + 1;
+                while (end < length && Character.isWhitespace(source.charAt(end))) {
+                    end++;
+                }
+                if (source.startsWith("interface", end)
+                        && (end + 9 == length || !Character.isJavaIdentifierPart(source.charAt(end + 9)))) {
+                    tokens.add("@interface");
+                    i = end + 9;
+                } else {
+                    tokens.add("@");
+                    i++;
+                }
+            } else if (source.startsWith("...", i)) {
+                tokens.add("...");
+                i += 3;
+            } else {
+                tokens.add(String.valueOf(c));
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Reads the package declaration and the top-level types.
+     */
+    private void parseCompilationUnit() {
+        String packageName = "";
+        while (!atEnd()) {
+            if (accept("package")) {
+                packageName = qualifiedName();
+                accept(";");
+            } else if (accept("import")) {
+                skipPast(";");
+            } else {
+                int start = position;
+                modifiers("~");
+                if (isTypeKeyword()) {
+                    parseType(packageName, "");
+                } else if (position == start) {
+                    position++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a type declaration, starting at its keyword, and the members of its body.
+     *
+     * @param packageName The package of the file.
+     * @param outerName   The name of the enclosing type, or an empty string for a top-level type.
+     */
+    private void parseType(String packageName, String outerName) {
+        String keyword = next();
+        boolean isInterface = keyword.equals("interface") || keyword.equals("@interface");
+        String simpleName = next();
+        if (!isIdentifier(simpleName)) {
+            return;
+        }
+        String name = outerName.isEmpty() ? simpleName : outerName + "." + simpleName;
+        if (peek().equals("<")) {
+            skipTypeArguments();
+        }
+
+        List<String> attributes = new ArrayList<>();
+        List<String> methods = new ArrayList<>();
+        Map<String, String> fieldTypes = new LinkedHashMap<>();
+        if (keyword.equals("record") && peek().equals("(")) {
+            for (String[] component : parameters()) {
+                attributes.add("-" + component[0] + " : " + component[1]);
+                fieldTypes.put(component[0], component[1]);
+                methods.add("+" + component[0] + "(): " + component[1]);
+            }
+        }
+
+        String superclass = "";
+        List<String> interfaces = new ArrayList<>();
+        while (!atEnd() && !peek().equals("{")) {
+            if (accept("extends")) {
+                List<String> supertypes = typeList();
+                if (isInterface) {
+                    interfaces.addAll(supertypes);
+                } else if (!supertypes.isEmpty()) {
+                    superclass = ClassDiagramAssembler.rawType(supertypes.get(0));
+                }
+            } else if (accept("implements")) {
+                interfaces.addAll(typeList());
+            } else if (accept("permits")) {
+                typeList();
+            } else if (peek().equals(";") || peek().equals("}")) {
+                // Not a declaration after all
+                return;
+            } else {
+                position++;
+            }
+        }
+        interfaces.replaceAll(ClassDiagramAssembler::rawType);
+        if (!accept("{")) {
+            return;
+        }
+
+        // Reserve the place of the type, so that it comes before its nested types
+        int index = types.size();
+        types.add(null);
+        if (keyword.equals("enum")) {
+            skipEnumConstants();
+        }
+        parseMembers(packageName, name, simpleName, isInterface, attributes, methods, fieldTypes);
+        types.set(index, new ImportedType(packageName, name, isInterface, superclass, interfaces, attributes,
+                methods, fieldTypes));
+    }
+
+    /**
+     * Reads the members of a type body, up to and including its closing brace.
+     *
+     * @param packageName The package of the file.
+     * @param name        The name of the type within its package.
+     * @param simpleName  The simple name of the type, which constructors are named after.
+     * @param isInterface Whether the type is an interface, whose members are public by default.
+     * @param attributes  Receives the attributes.
+     * @param methods     Receives the methods.
+     * @param fieldTypes  Receives the type of each field.
+     */
+    private void parseMembers(String packageName, String name, String simpleName, boolean isInterface,
+                              List<String> attributes, List<String> methods, Map<String, String> fieldTypes) {
+        while (!atEnd() && !accept("}")) {
+            int start = position;
+            if (accept(";")) {
+                continue;
+            }
+            String visibility = modifiers(isInterface ? "+" : "~");
+            if (peek().equals("{")) {
+                // Instance or static initializer
+                skipBalanced("{", "}");
+                continue;
+            }
+            if (isTypeKeyword()) {
+                parseType(packageName, name);
+                continue;
+            }
+            if (peek().equals("<")) {
+                skipTypeArguments();
+            }
+            if (peek().equals(simpleName) && peek(1).equals("(")) {
+                // Constructor
+                position++;
+                parameters();
+                skipMethodRest();
+                continue;
+            }
+
+            String type = type();
+            String memberName = peek();
+            if (type.isEmpty() || !isIdentifier(memberName)) {
+                recover(start);
+                continue;
+            }
+            position++;
+            if (peek().equals("(")) {
+                List<String> parameters = new ArrayList<>();
+                for (String[] parameter : parameters()) {
+                    parameters.add(parameter[0] + ": " + parameter[1]);
+                }
+                methods.add(visibility + memberName + "(" + String.join(", ", parameters) + "): " + type);
+                skipMethodRest();
+                continue;
+            }
+
+            // One or more fields
+            while (true) {
+                String fieldType = type + dimensions();
+                if (!isInterface) {
+                    attributes.add(visibility + memberName + " : " + fieldType);
+                    fieldTypes.put(memberName, fieldType);
+                }
+                if (accept("=")) {
+                    skipInitializer();
+                }
+                if (accept(",") && isIdentifier(peek())) {
+                    memberName = next();
+                    continue;
+                }
+                break;
+            }
+            accept(";");
+        }
+    }
+
+    /**
+     * Skips the constants at the start of an enum body, up to the semicolon ending them.
+     */
+    private void skipEnumConstants() {
+        while (!atEnd() && !peek().equals("}")) {
+            if (accept(";")) {
+                return;
+            }
+            if (peek().equals("(")) {
+                skipBalanced("(", ")");
+            } else if (peek().equals("{")) {
+                skipBalanced("{", "}");
+            } else {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Reads the modifiers and annotations preceding a declaration.
+     *
+     * @param defaultVisibility The visibility symbol used if no visibility keyword is present.
+     * @return The visibility symbol of the declaration.
+     */
+    private String modifiers(String defaultVisibility) {
+        String visibility = defaultVisibility;
+        while (!atEnd()) {
+            String token = peek();
+            if (token.equals("@")) {
+                position++;
+                qualifiedName();
+                if (peek().equals("(")) {
+                    skipBalanced("(", ")");
+                }
+            } else if (token.equals("public")) {
+                visibility = "+";
+                position++;
+            } else if (token.equals("private")) {
+                visibility = "-";
+                position++;
+            } else if (token.equals("protected")) {
+                visibility = "#";
+                position++;
+            } else if (MODIFIERS.contains(token)) {
+                position++;
+            } else if (token.equals("non") && peek(1).equals("-") && peek(2).equals("sealed")) {
+                position += 3;
+            } else {
+                return visibility;
+            }
+        }
+        return visibility;
+    }
+
+    /**
+     * Reads a parenthesized parameter or record component list.
+     *
+     * @return The name and type of each parameter.
+     */
+    private List<String[]> parameters() {
+        List<String[]> parameters = new ArrayList<>();
+        if (!accept("(")) {
+            return parameters;
+        }
+        while (!atEnd() && !accept(")")) {
+            int start = position;
+            modifiers("");
+            String type = type();
+            if (accept("this")) {
+                // Receiver parameter, not a real parameter
+                accept(",");
+                continue;
+            }
+            String name = peek();
+            if (!type.isEmpty() && isIdentifier(name)) {
+                position++;
+                parameters.add(new String[]{name, type + dimensions()});
+            }
+            if (!accept(",") && !peek().equals(")")) {
+                // Something unexpected; skip to the next parameter
+                while (!atEnd() && !peek().equals(",") && !peek().equals(")")) {
+                    if (peek().equals("(")) {
+                        skipBalanced("(", ")");
+                    } else {
+                        position++;
+                    }
+                }
+                accept(",");
+            }
+            if (position == start) {
+                position++;
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Reads a type, including its annotations, type arguments, array brackets and varargs ellipsis.
+     *
+     * @return The type as written, normalized to single spaces, or an empty string if there is no type here.
+     */
+    private String type() {
+        modifiers("");
+        if (!isIdentifier(peek())) {
+            return "";
+        }
+        StringBuilder type = new StringBuilder(qualifiedName());
+        while (peek().equals("<")) {
+            type.append(typeArguments());
+            if (peek().equals(".") && isIdentifier(peek(1))) {
+                position++;
+                type.append('.').append(qualifiedName());
+            }
+        }
+        type.append(dimensions());
+        if (accept("...")) {
+            type.append("...");
+        }
+        return type.toString();
+    }
+
+    /**
+     * Reads a comma-separated list of types.
+     *
+     * @return The types.
+     */
+    private List<String> typeList() {
+        List<String> types = new ArrayList<>();
+        do {
+            String type = type();
+            if (type.isEmpty()) {
+                break;
+            }
+            types.add(type);
+        } while (accept(","));
+        return types;
+    }
+
+    /**
+     * Reads type arguments or parameters in angle brackets.
+     *
+     * @return The text of the type arguments, including the brackets.
+     */
+    private String typeArguments() {
+        StringBuilder text = new StringBuilder();
+        int depth = 0;
+        while (!atEnd()) {
+            String token = next();
+            switch (token) {
+                case "<" -> depth++;
+                case ">" -> depth--;
+                default -> {
+                }
+            }
+            switch (token) {
+                case "," -> text.append(", ");
+                case "extends", "super" -> text.append(' ').append(token).append(' ');
+                case "&" -> text.append(" & ");
+                case "@" -> {
+                    qualifiedName();
+                    continue;
+                }
+                default -> text.append(token);
+            }
+            if (depth == 0 || token.equals(";") || token.equals("{")) {
+                break;
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Skips type arguments or parameters in angle brackets.
+     */
+    private void skipTypeArguments() {
+        typeArguments();
+    }
+
+    /**
+     * Reads array brackets.
+     *
+     * @return One {@code []} per pair of brackets.
+     */
+    private String dimensions() {
+        StringBuilder dimensions = new StringBuilder();
+        while (peek().equals("[") && peek(1).equals("]")) {
+            position += 2;
+            dimensions.append("[]");
+        }
+        return dimensions.toString();
+    }
+
+    /**
+     * Reads a dotted name.
+     *
+     * @return The name, or an empty string if there is no identifier here.
+     */
+    private String qualifiedName() {
+        if (!isIdentifier(peek())) {
+            return "";
+        }
+        StringBuilder name = new StringBuilder(next());
+        while (peek().equals(".") && isIdentifier(peek(1))) {
+            position++;
+            name.append('.').append(next());
+        }
+        return name.toString();
+    }
+
+    /**
+     * Skips what follows the parameters of a method: array brackets, a throws clause, a default value and the body.
+     */
+    private void skipMethodRest() {
+        dimensions();
+        if (accept("throws")) {
+            typeList();
+        }
+        if (peek().equals("{")) {
+            skipBalanced("{", "}");
+        } else {
+            // Abstract method or annotation element, possibly with a default value
+            skipPast(";");
+        }
+    }
+
+    /**
+     * Skips a field initializer, up to the comma starting the next field or the semicolon ending the declaration.
+     */
+    private void skipInitializer() {
+        while (!atEnd()) {
+            String token = peek();
+            switch (token) {
+                case "(" -> skipBalanced("(", ")");
+                case "{" -> skipBalanced("{", "}");
+                case "[" -> skipBalanced("[", "]");
+                case ";", "}" -> {
+                    return;
+                }
+                case "," -> {
+                    // Only a comma followed by "name =", "name," or "name;" starts another field
+                    String following = peek(2);
+                    if (isIdentifier(peek(1)) && (following.equals("=") || following.equals(",")
+                            || following.equals(";") || following.equals("["))) {
+                        return;
+                    }
+                    position++;
+                }
+                default -> position++;
+            }
+        }
+    }
+
+    /**
+     * Skips a declaration that could not be read, up to the end of the member.
+     *
+     * @param start The index of the first token of the declaration.
+     */
+    private void recover(int start) {
+        while (!atEnd() && !peek().equals("}")) {
+            String token = next();
+            if (token.equals(";")) {
+                return;
+            }
+            if (token.equals("{")) {
+                position--;
+                skipBalanced("{", "}");
+                return;
+            }
+            if (token.equals("(")) {
+                position--;
+                skipBalanced("(", ")");
+            }
+        }
+        if (position == start && !atEnd() && !peek().equals("}")) {
+            position++;
+        }
+    }
+
+    /**
+     * Skips a bracketed group, including nested groups of the same kind.
+     *
+     * @param open  The opening bracket, which must be the next token.
+     * @param close The closing bracket.
+     */
+    private void skipBalanced(String open, String close) {
+        int depth = 0;
+        while (!atEnd()) {
+            String token = next();
+            if (token.equals(open)) {
+                depth++;
+            } else if (token.equals(close) && --depth == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Skips tokens up to and including the given one.
+     *
+     * @param token The token to stop after.
+     */
+    private void skipPast(String token) {
+        while (!atEnd() && !next().equals(token)) {
+            // Skip
+        }
+    }
+
+    /**
+     * Checks whether the next tokens start a type declaration.
+     *
+     * @return {@code true} at {@code class}, {@code interface}, {@code enum}, {@code @interface} or a record header.
+     */
+    private boolean isTypeKeyword() {
+        String token = peek();
+        return token.equals("class") || token.equals("interface") || token.equals("enum")
+                || token.equals("@interface")
+                || (token.equals("record") && isIdentifier(peek(1)) && (peek(2).equals("(") || peek(2).equals("<")));
+    }
+
+    /**
+     * Checks whether a token is an identifier.
+     *
+     * @param token The token.
+     * @return {@code true} if the token is a Java identifier.
+     */
+    private static boolean isIdentifier(String token) {
+        return !token.isEmpty() && Character.isJavaIdentifierStart(token.charAt(0)) && !token.equals("@interface");
+    }
+
+    /**
+     * Checks whether all tokens have been read.
+     *
+     * @return {@code true} at the end of the file.
+     */
+    private boolean atEnd() {
+        return position >= tokens.size();
+    }
+
+    /**
+     * Retrieves the next token without consuming it.
+     *
+     * @return The next token, or an empty string at the end of the file.
+     */
+    private String peek() {
+        return peek(0);
+    }
+
+    /**
+     * Retrieves a token ahead without consuming anything.
+     *
+     * @param offset The distance from the next token.
+     * @return The token, or an empty string past the end of the file.
+     */
+    private String peek(int offset) {
+        int index = position + offset;
+        return index < tokens.size() ? tokens.get(index) : "";
+    }
+
+    /**
+     * Consumes the next token.
+     *
+     * @return The token, or an empty string at the end of the file.
+     */
+    private String next() {
+        return atEnd() ? "" : tokens.get(position++);
+    }
+
+    /**
+     * Consumes the next token if it is the given one.
+     *
+     * @param token The expected token.
+     * @return {@code true} if the token was consumed.
+     */
+    private boolean accept(String token) {
+        if (peek().equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.umlscd.DataAccessLayer.RecentFiles;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h1>Recent Diagram Files</h1>
+ *
+ * <p>The {@code RecentDiagramFiles} class remembers the diagram files the user has most recently saved or opened,
+ * so that the welcome page can offer them again. The list is stored as a JSON array of absolute paths, most recent
+ * first, and is capped at a fixed number of entries.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Recording a file as the most recently used one.</li>
+ *     <li>Listing the recent files that still exist.</li>
+ *     <li>Forgetting files that the user no longer wants to see.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class RecentDiagramFiles {
+
+    /**
+     * The default location of the list, next to the other per-user data of the editor.
+     */
+    public static final Path DEFAULT_FILE = Path.of(System.getProperty("user.home"), ".uml-scd", "recent-files.json");
+
+    /**
+     * The default maximum number of remembered files.
+     */
+    public static final int DEFAULT_CAPACITY = 200;
+
+    /**
+     * The file the list is stored in.
+     */
+    private final Path file;
+
+    /**
+     * The maximum number of remembered files.
+     */
+    private final int capacity;
+
+    /**
+     * Constructs a list stored in the specified file with the default capacity.
+     *
+     * @param file The file the list is stored in.
+     */
+    public RecentDiagramFiles(Path file) {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list stored in the specified file.
+     *
+     * @param file     The file the list is stored in.
+     * @param capacity The maximum number of remembered files.
+     */
+    public RecentDiagramFiles(Path file, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.file = file;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a diagram file as the most recently used one.
+     *
+     * @param diagram The diagram file that was saved or opened.
+     * @throws IOException If the list cannot be read or written.
+     */
+    public synchronized void record(File diagram) throws IOException {
+        String path = diagram.getAbsolutePath();
+        List<String> paths = read();
+        paths.remove(path);
+        paths.add(0, path);
+        if (paths.size() > capacity) {
+            paths.subList(capacity, paths.size()).clear();
+        }
+        write(paths);
+    }
+
+    /**
+     * Forgets a diagram file.
+     *
+     * @param diagram The diagram file to forget.
+     * @throws IOException If the list cannot be read or written.
+     */
+    public synchronized void forget(File diagram) throws IOException {
+        List<String> paths = read();
+        if (paths.remove(diagram.getAbsolutePath())) {
+            write(paths);
+        }
+    }
+
+    /**
+     * Lists the recently used diagram files that still exist, most recent first.
+     *
+     * @return The recent files.
+     * @throws IOException If the list cannot be read.
+     */
+    public synchronized List<File> list() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (String path : read()) {
+            File recent = new File(path);
+            if (recent.isFile()) {
+                files.add(recent);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Reads the stored paths.
+     *
+     * @return The stored paths, most recent first; empty if nothing has been stored yet.
+     * @throws IOException If the list cannot be read.
+     */
+    private List<String> read() throws IOException {
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        return JsonMapperRegistry.mapper().readValue(file.toFile(), new TypeReference<ArrayList<String>>() {});
+    }
+
+    /**
+     * Writes the paths, replacing the previous list atomically.
+     *
+     * @param paths The paths to store.
+     * @throws IOException If the list cannot be written.
+     */
+    private void write(List<String> paths) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            JsonMapperRegistry.canonicalMapper().writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), paths);
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
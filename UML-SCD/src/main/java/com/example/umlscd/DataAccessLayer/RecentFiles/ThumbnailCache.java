@@ -0,0 +1,372 @@
+package com.example.umlscd.DataAccessLayer.RecentFiles;
+
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramFileReader;
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramPainter;
+import com.example.umlscd.DataAccessLayer.Rendering.HeadlessDiagramRenderer;
+
+import javax.imageio.ImageIO;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <h1>Thumbnail Cache</h1>
+ *
+ * <p>The {@code ThumbnailCache} provides small preview images of diagram files for the recent-files gallery. A
+ * thumbnail is rendered from the diagram model with the {@code HeadlessDiagramRenderer} the first time it is
+ * requested and stored as a PNG file in a cache directory. The cache key is a hash of the diagram file's path,
+ * modification time and size, so a thumbnail is rendered again exactly when its file has changed.</p>
+ *
+ * <p>Thumbnails are loaded and rendered on a pool of worker threads and returned as futures, so callers never block.
+ * Concurrent requests for the same file share one rendering. The cache directory is kept below a size limit by
+ * deleting the least recently used thumbnails; recency survives restarts through the modification times of the
+ * cached files.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Rendering thumbnails of class and use case diagram files in the background.</li>
+ *     <li>Caching thumbnails on disk, keyed by file path, modification time and size.</li>
+ *     <li>Evicting the least recently used thumbnails beyond a size limit.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ThumbnailCache {
+
+    /**
+     * The default cache directory, next to the other per-user data of the editor.
+     */
+    public static final Path DEFAULT_DIRECTORY = Path.of(System.getProperty("user.home"), ".uml-scd", "thumbnails");
+
+    /**
+     * The default size limit of the cache directory in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    /**
+     * The maximum width of a thumbnail in pixels.
+     */
+    public static final int THUMBNAIL_WIDTH = 240;
+
+    /**
+     * The maximum height of a thumbnail in pixels.
+     */
+    public static final int THUMBNAIL_HEIGHT = 160;
+
+    /**
+     * The file extension of cached thumbnails.
+     */
+    private static final String EXTENSION = ".png";
+
+    /**
+     * The worker threads shared by caches created without an explicit executor.
+     */
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), runnable -> {
+                Thread thread = new Thread(runnable, "thumbnail-renderer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The directory holding the cached thumbnails.
+     */
+    private final Path directory;
+
+    /**
+     * The size limit of the cache directory in bytes.
+     */
+    private final long maxBytes;
+
+    /**
+     * The executor loading and rendering thumbnails.
+     */
+    private final Executor workers;
+
+    /**
+     * The reader loading diagram files.
+     */
+    private final DiagramFileReader reader = new DiagramFileReader();
+
+    /**
+     * The renderer drawing thumbnails.
+     */
+    private final HeadlessDiagramRenderer renderer = new HeadlessDiagramRenderer();
+
+    /**
+     * The size of every cached thumbnail, keyed by cache key, from least to most recently used.
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * The pending requests, keyed by cache key, so that concurrent requests share one rendering.
+     */
+    private final Map<String, CompletableFuture<Path>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The total size of the cached thumbnails in bytes.
+     */
+    private long totalBytes;
+
+    /**
+     * Whether the cache directory has been scanned into {@link #entries}.
+     */
+    private boolean indexed;
+
+    /**
+     * Constructs a cache in the default directory with the default size limit.
+     */
+    public ThumbnailCache() {
+        this(DEFAULT_DIRECTORY, DEFAULT_MAX_BYTES, WORKERS);
+    }
+
+    /**
+     * Constructs a cache.
+     *
+     * @param directory The directory holding the cached thumbnails.
+     * @param maxBytes  The size limit of the directory in bytes.
+     * @param workers   The executor loading and rendering thumbnails.
+     */
+    public ThumbnailCache(Path directory, long maxBytes, Executor workers) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.workers = workers;
+    }
+
+    /**
+     * Requests the thumbnail of a diagram file.
+     *
+     * <p>The file's metadata is read, and the thumbnail loaded or rendered, on the worker threads.</p>
+     *
+     * @param diagram The diagram file.
+     * @return A future completing with the thumbnail's PNG file, or exceptionally if the diagram cannot be read.
+     */
+    public CompletableFuture<Path> thumbnail(File diagram) {
+        return CompletableFuture.supplyAsync(() -> key(diagram), workers).thenCompose(key -> {
+            CompletableFuture<Path> request = new CompletableFuture<>();
+            CompletableFuture<Path> existing = pending.putIfAbsent(key, request);
+            if (existing != null) {
+                return existing;
+            }
+            workers.execute(() -> {
+                try {
+                    Path thumbnail = load(diagram, key);
+                    pending.remove(key, request);
+                    request.complete(thumbnail);
+                } catch (RuntimeException e) {
+                    pending.remove(key, request);
+                    request.completeExceptionally(e);
+                }
+            });
+            return request;
+        });
+    }
+
+    /**
+     * Retrieves the total size of the cached thumbnails.
+     *
+     * @return The size in bytes.
+     */
+    public synchronized long size() {
+        ensureIndexed();
+        return totalBytes;
+    }
+
+    /**
+     * Retrieves the number of cached thumbnails.
+     *
+     * @return The number of thumbnails.
+     */
+    public synchronized int count() {
+        ensureIndexed();
+        return entries.size();
+    }
+
+    /**
+     * Computes the cache key of a diagram file from its path, modification time and size.
+     *
+     * @param diagram The diagram file.
+     * @return The hexadecimal SHA-256 key.
+     * @throws UncheckedIOException If the file does not exist.
+     */
+    static String key(File diagram) {
+        if (!diagram.isFile()) {
+            throw new UncheckedIOException(new IOException("No such diagram file: " + diagram));
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(diagram.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Long.toString(diagram.lastModified()).getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) 0);
+            digest.update(Long.toString(diagram.length()).getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Loads a cached thumbnail, rendering and caching it first if necessary.
+     *
+     * @param diagram The diagram file.
+     * @param key     The cache key of the diagram file.
+     * @return The thumbnail's PNG file.
+     * @throws CompletionException If the diagram cannot be read or the thumbnail cannot be written.
+     */
+    private Path load(File diagram, String key) {
+        Path thumbnail = directory.resolve(key + EXTENSION);
+        synchronized (this) {
+            ensureIndexed();
+            Long cached = entries.get(key);
+            if (cached != null && Files.isRegularFile(thumbnail)) {
+                touch(thumbnail);
+                return thumbnail;
+            }
+            if (cached != null) {
+                // The thumbnail was deleted behind the cache's back
+                entries.remove(key);
+                totalBytes -= cached;
+            }
+        }
+
+        try {
+            long size = render(diagram, thumbnail);
+            synchronized (this) {
+                Long previous = entries.put(key, size);
+                totalBytes += size - (previous == null ? 0 : previous);
+                evict();
+            }
+            return thumbnail;
+        } catch (IOException | RuntimeException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Renders the thumbnail of a diagram file into the cache.
+     *
+     * <p>The image is written to a temporary file first and then moved into place, so readers never see a partial
+     * thumbnail.</p>
+     *
+     * @param diagram   The diagram file.
+     * @param thumbnail The destination of the thumbnail.
+     * @return The size of the thumbnail file in bytes.
+     * @throws IOException If the diagram cannot be read or the thumbnail cannot be written.
+     */
+    private long render(File diagram, Path thumbnail) throws IOException {
+        DiagramPainter painter = reader.read(diagram);
+        Rectangle2D bounds = painter.getBounds();
+        double scale = Math.min(1, Math.min(THUMBNAIL_WIDTH / bounds.getWidth(),
+                THUMBNAIL_HEIGHT / bounds.getHeight()));
+        BufferedImage image = renderer.render(painter, scale);
+
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, thumbnail.getFileName().toString(), ".tmp");
+        try {
+            if (!ImageIO.write(image, "png", temporary.toFile())) {
+                throw new IOException("No PNG encoder available");
+            }
+            try {
+                Files.move(temporary, thumbnail, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, thumbnail, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return Files.size(thumbnail);
+    }
+
+    /**
+     * Deletes the least recently used thumbnails until the cache is within its size limit.
+     *
+     * <p>The most recently used thumbnail is always kept, even if it alone exceeds the limit.</p>
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && entries.size() > 1) {
+            Map.Entry<String, Long> entry = eldest.next();
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey() + EXTENSION));
+            } catch (IOException e) {
+                // A thumbnail that cannot be deleted now is rescanned and evicted again later
+                e.printStackTrace();
+            }
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Scans the cache directory on first use, ordering the thumbnails by their last use.
+     */
+    private void ensureIndexed() {
+        if (indexed) {
+            return;
+        }
+        indexed = true;
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> thumbnails = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            stream.forEach(thumbnails::add);
+            Map<Path, FileTime> lastUse = new LinkedHashMap<>();
+            for (Path thumbnail : thumbnails) {
+                lastUse.put(thumbnail, Files.getLastModifiedTime(thumbnail));
+            }
+            thumbnails.sort(Comparator.comparing(lastUse::get));
+            for (Path thumbnail : thumbnails) {
+                String name = thumbnail.getFileName().toString();
+                long size = Files.size(thumbnail);
+                entries.put(name.substring(0, name.length() - EXTENSION.length()), size);
+                totalBytes += size;
+            }
+        } catch (IOException e) {
+            // An unreadable cache only costs renderings; thumbnails are recreated on demand
+            e.printStackTrace();
+        }
+        evict();
+    }
+
+    /**
+     * Marks a cached thumbnail as used, so that its recency is remembered across restarts.
+     *
+     * @param thumbnail The thumbnail file.
+     */
+    private static void touch(Path thumbnail) {
+        try {
+            Files.setLastModifiedTime(thumbnail, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Recency is only a hint for eviction
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.umlscd.DataAccessLayer.RenderServer;
+
+import com.example.umlscd.DataAccessLayer.ImageProcessing.TiledImageExporter;
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramFileReader;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.awt.geom.Rectangle2D;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <h1>Diagram Render Server</h1>
+ *
+ * <p>The {@code DiagramRenderServer} is an optional embedded HTTP service that renders class and use case diagrams
+ * on demand, for example for the images of wiki pages. It is built on the JDK's {@code HttpServer} and handles every
+ * exchange on its own virtual thread, so slow clients never hold a platform thread; the rendering itself is batched
+ * and cached by a {@link RenderBatcher}.</p>
+ *
+ * <p>The service has two endpoints:</p>
+ * <ul>
+ *     <li>{@code POST /render?format=svg|png&scale=1} with the content of a plain or compressed diagram file as the
+ *     request body answers with the rendered diagram. The response carries the content key as its {@code ETag}, and
+ *     a request repeating it in {@code If-None-Match} is answered with {@code 304 Not Modified} without rendering.
+ *     The {@code X-Render-Cache} header tells whether the result came from the cache. A PNG image larger than
+ *     {@link #MAX_OUTPUT_PIXELS} is answered with {@code 413 Content Too Large} before anything is rendered.</li>
+ *     <li>{@code GET /stats} answers with the cache and batching counters as JSON.</li>
+ * </ul>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Validating render requests and their options, including the size of the image they would produce.</li>
+ *     <li>Answering with rendered diagrams, entity tags and cache information.</li>
+ *     <li>Reporting service statistics.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class DiagramRenderServer implements Closeable {
+
+    /**
+     * The path of the rendering endpoint.
+     */
+    public static final String RENDER_PATH = "/render";
+
+    /**
+     * The path of the statistics endpoint.
+     */
+    public static final String STATS_PATH = "/stats";
+
+    /**
+     * The largest accepted request body, in bytes.
+     */
+    static final int MAX_REQUEST_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * The largest accepted scale factor, bounding the size of rendered images.
+     */
+    static final double MAX_SCALE = 8;
+
+    /**
+     * The largest rendered PNG image, in pixels (32 megapixels). The scale alone does not bound the image, since a
+     * small diagram can place an element far away from the others.
+     */
+    static final long MAX_OUTPUT_PIXELS = 32L * 1024 * 1024;
+
+    /**
+     * The longest time a request waits for its rendering before it is answered with an error.
+     */
+    static final Duration RENDER_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * The underlying HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The executor running one virtual thread per exchange.
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The batcher rendering the diagrams.
+     */
+    private final RenderBatcher batcher;
+
+    /**
+     * The reader measuring the diagrams of PNG requests before they are rendered.
+     */
+    private final DiagramFileReader reader = new DiagramFileReader();
+
+    /**
+     * Constructs a server bound to an address; it does not accept requests until {@link #start()} is called.
+     *
+     * @param address The address to bind to; port {@code 0} selects a free port.
+     * @param batcher The batcher rendering the diagrams; it is closed with the server.
+     * @throws IOException If the address cannot be bound.
+     */
+    public DiagramRenderServer(InetSocketAddress address, RenderBatcher batcher) throws IOException {
+        this.batcher = batcher;
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext(RENDER_PATH, this::handleRender);
+        server.createContext(STATS_PATH, this::handleStats);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Retrieves the port the server is bound to.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, letting exchanges in progress finish for up to a second, and closes the batcher.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+        batcher.close();
+    }
+
+    /**
+     * Handles a rendering request.
+     *
+     * @param exchange The exchange.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleRender(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendText(exchange, 405, "Use POST with a diagram file as the request body");
+                return;
+            }
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            RenderBatcher.Format format;
+            double scale;
+            try {
+                format = RenderBatcher.Format.valueOf(query.getOrDefault("format", "svg").toUpperCase(Locale.ROOT));
+                scale = Double.parseDouble(query.getOrDefault("scale", "1"));
+            } catch (IllegalArgumentException e) {
+                sendText(exchange, 400, "Expected format=svg|png and a numeric scale");
+                return;
+            }
+            if (!(scale > 0 && scale <= MAX_SCALE)) {
+                sendText(exchange, 400, "Scale must be above 0 and at most " + MAX_SCALE);
+                return;
+            }
+            byte[] content;
+            try (InputStream in = exchange.getRequestBody()) {
+                content = in.readNBytes(MAX_REQUEST_BYTES + 1);
+            }
+            if (content.length > MAX_REQUEST_BYTES) {
+                sendText(exchange, 413, "Diagrams are limited to " + MAX_REQUEST_BYTES + " bytes");
+                return;
+            }
+
+            String key = RenderBatcher.key(content, format, scale);
+            String etag = '"' + key + '"';
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.getResponseHeaders().set("ETag", etag);
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            if (format == RenderBatcher.Format.PNG && !batcher.getCache().contains(key)) {
+                // Rendering cannot be interrupted once submitted, so oversized images are refused up front
+                Rectangle2D bounds;
+                try {
+                    bounds = reader.read(content, RenderBatcher.MAX_DIAGRAM_BYTES).getBounds();
+                } catch (IOException e) {
+                    sendText(exchange, 400, "Not a diagram: " + e.getMessage());
+                    return;
+                }
+                if (!TiledImageExporter.isWithinBudget(bounds.getWidth() * scale, bounds.getHeight() * scale,
+                        MAX_OUTPUT_PIXELS)) {
+                    sendText(exchange, 413, "Rendered images are limited to " + MAX_OUTPUT_PIXELS + " pixels and "
+                            + TiledImageExporter.MAX_IMAGE_DIMENSION + " pixels per side");
+                    return;
+                }
+            }
+            RenderBatcher.Result result;
+            try {
+                result = batcher.submit(content, format, scale)
+                        .orTimeout(RENDER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException) {
+                    sendText(exchange, 400, "Not a diagram: " + e.getCause().getMessage());
+                } else if (e.getCause() instanceof TimeoutException) {
+                    sendText(exchange, 503, "The diagram was not rendered within " + RENDER_TIMEOUT.toSeconds()
+                            + " seconds");
+                } else {
+                    sendText(exchange, 503, "The diagram could not be rendered: " + e.getCause());
+                }
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", format.getContentType());
+            exchange.getResponseHeaders().set("ETag", etag);
+            exchange.getResponseHeaders().set("X-Render-Cache", result.cached() ? "HIT" : "MISS");
+            send(exchange, 200, result.content());
+        }
+    }
+
+    /**
+     * Handles a statistics request.
+     *
+     * @param exchange The exchange.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendText(exchange, 405, "Use GET");
+                return;
+            }
+            RenderCache cache = batcher.getCache();
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("cachedResults", (long) cache.size());
+            stats.put("cachedBytes", cache.getBytes());
+            stats.put("cacheHits", cache.getHits());
+            stats.put("cacheMisses", cache.getMisses());
+            stats.put("batches", batcher.getBatchCount());
+            stats.put("renders", batcher.getRenderCount());
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            send(exchange, 200, JsonMapperRegistry.mapper().writeValueAsBytes(stats));
+        }
+    }
+
+    /**
+     * Parses the parameters of a query string.
+     *
+     * @param rawQuery The raw query string, or {@code null}.
+     * @return The decoded parameters; the last value wins for repeated names.
+     */
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Sends a plain text response.
+     *
+     * @param exchange The exchange.
+     * @param status   The status code.
+     * @param message  The message.
+     * @throws IOException If the response cannot be sent.
+     */
+    private static void sendText(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        send(exchange, status, (message + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends a response with a body.
+     *
+     * @param exchange The exchange.
+     * @param status   The status code.
+     * @param body     The body.
+     * @throws IOException If the response cannot be sent.
+     */
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.example.umlscd.DataAccessLayer.RenderServer;
+
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramFileReader;
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramPainter;
+import com.example.umlscd.DataAccessLayer.Rendering.ExportManifest;
+import com.example.umlscd.DataAccessLayer.Rendering.HeadlessDiagramRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h1>Render Batcher</h1>
+ *
+ * <p>The {@code RenderBatcher} renders diagrams submitted concurrently by the request threads of the
+ * {@link DiagramRenderServer}. Requests are served from the {@link RenderCache} when possible; otherwise they are
+ * queued and a dispatcher thread collects them into batches, waiting a short window for more requests to arrive, and
+ * renders every batch on a fork/join pool. Rendering is CPU-bound, so the pool bounds the number of diagrams rendered
+ * at once to the number of processors however many requests are waiting, while the request threads themselves are
+ * cheap virtual threads.</p>
+ *
+ * <p>Requests for the same diagram with the same options share one rendering: a request arriving while an identical
+ * one is queued or being rendered waits for its result instead of being queued again. Results are identified by the
+ * SHA-256 hash of the diagram content and the options, which also serves as the cache key and the HTTP entity tag.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Computing the content key of a request.</li>
+ *     <li>Coalescing identical concurrent requests.</li>
+ *     <li>Rendering queued requests in batches on a bounded pool.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class RenderBatcher implements Closeable {
+
+    /**
+     * The output formats of the service.
+     */
+    public enum Format {
+        /** Scalable vector graphics; the scale is ignored. */
+        SVG("image/svg+xml"),
+        /** Portable network graphics. */
+        PNG("image/png");
+
+        /**
+         * The media type of the format.
+         */
+        private final String contentType;
+
+        /**
+         * Constructs a format.
+         *
+         * @param contentType The media type of the format.
+         */
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * Retrieves the media type of the format.
+         *
+         * @return The media type, such as {@code image/png}.
+         */
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    /**
+     * A rendered diagram.
+     *
+     * @param key     The content key of the request.
+     * @param content The rendered bytes.
+     * @param cached  {@code true} if the result was served from the cache.
+     */
+    public record Result(String key, byte[] content, boolean cached) {
+    }
+
+    /**
+     * The default maximum number of requests rendered in one batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+    /**
+     * The default time the dispatcher waits for more requests before rendering a batch.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5);
+
+    /**
+     * The largest accepted size of a decompressed diagram, in bytes, bounding what a small compressed request can
+     * inflate to.
+     */
+    public static final long MAX_DIAGRAM_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * The reader turning diagram content into painters.
+     */
+    private final DiagramFileReader reader = new DiagramFileReader();
+
+    /**
+     * The renderer producing images and documents.
+     */
+    private final HeadlessDiagramRenderer renderer = new HeadlessDiagramRenderer();
+
+    /**
+     * The cache of rendered results.
+     */
+    private final RenderCache cache;
+
+    /**
+     * The pool rendering the batches.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The maximum number of requests rendered in one batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The time the dispatcher waits for more requests before rendering a batch.
+     */
+    private final Duration window;
+
+    /**
+     * The requests waiting to be rendered.
+     */
+    private final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * The results of the requests queued or being rendered, keyed by content key.
+     */
+    private final ConcurrentMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * The number of batches rendered.
+     */
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * The number of diagrams rendered.
+     */
+    private final AtomicLong renders = new AtomicLong();
+
+    /**
+     * The thread collecting queued requests into batches.
+     */
+    private final Thread dispatcher;
+
+    /**
+     * Whether the batcher has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a batcher rendering on the common pool with the default batch size and window.
+     *
+     * @param cache The cache of rendered results.
+     */
+    public RenderBatcher(RenderCache cache) {
+        this(cache, ForkJoinPool.commonPool(), DEFAULT_MAX_BATCH_SIZE, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Constructs a batcher and starts its dispatcher thread.
+     *
+     * @param cache        The cache of rendered results.
+     * @param pool         The pool rendering the batches.
+     * @param maxBatchSize The maximum number of requests rendered in one batch.
+     * @param window       The time the dispatcher waits for more requests before rendering a batch.
+     * @throws IllegalArgumentException If the batch size is not positive or the window is negative.
+     */
+    public RenderBatcher(RenderCache cache, ForkJoinPool pool, int maxBatchSize, Duration window) {
+        if (maxBatchSize < 1 || window.isNegative()) {
+            throw new IllegalArgumentException("Invalid batch size or window: " + maxBatchSize + ", " + window);
+        }
+        this.cache = cache;
+        this.pool = pool;
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.dispatcher = Thread.ofVirtual().name("render-batcher").start(this::dispatch);
+    }
+
+    /**
+     * Computes the content key of a request.
+     *
+     * @param content The content of the diagram file.
+     * @param format  The output format.
+     * @param scale   The scale factor; ignored for SVG.
+     * @return The hexadecimal SHA-256 key.
+     */
+    public static String key(byte[] content, Format format, double scale) {
+        return ExportManifest.fingerprint(content, format == Format.SVG ? format.name() : format.name() + "@" + scale);
+    }
+
+    /**
+     * Submits a diagram for rendering.
+     *
+     * @param content The content of a plain or compressed diagram file.
+     * @param format  The output format.
+     * @param scale   The scale factor of PNG images.
+     * @return A future completing with the result, or exceptionally with an {@code IOException} if the content is
+     * not a diagram.
+     */
+    public CompletableFuture<Result> submit(byte[] content, Format format, double scale) {
+        String key = key(content, format, scale);
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(new Result(key, cached, true));
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The render service is closed"));
+        }
+        CompletableFuture<byte[]> future = inFlight.computeIfAbsent(key, k -> {
+            Job job = new Job(k, content, format, scale, new CompletableFuture<>());
+            queue.add(job);
+            return job.future();
+        });
+        return future.thenApply(bytes -> new Result(key, bytes, false));
+    }
+
+    /**
+     * Retrieves the cache of rendered results.
+     *
+     * @return The cache.
+     */
+    public RenderCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Retrieves the number of batches rendered so far.
+     *
+     * @return The number of batches.
+     */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /**
+     * Retrieves the number of diagrams rendered so far, excluding requests served from the cache or coalesced with
+     * an identical request.
+     *
+     * @return The number of renderings.
+     */
+    public long getRenderCount() {
+        return renders.get();
+    }
+
+    /**
+     * Stops the dispatcher. Requests still queued fail with an {@code IllegalStateException}; a batch being rendered
+     * is completed first.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Collects queued requests into batches and renders them until the batcher is closed.
+     */
+    private void dispatch() {
+        List<Job> batch = new ArrayList<>();
+        try {
+            while (!closed) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + window.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    Job next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    render(batch);
+                } catch (RuntimeException | Error e) {
+                    // Keep serving later requests; only the requests of this batch fail
+                    fail(batch, e);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Closed while waiting for requests
+        }
+        queue.drainTo(batch);
+        fail(batch, new IllegalStateException("The render service is closed"));
+    }
+
+    /**
+     * Fails the requests that are not completed yet.
+     *
+     * @param jobs  The requests.
+     * @param cause The reason of the failure.
+     */
+    private void fail(List<Job> jobs, Throwable cause) {
+        for (Job job : jobs) {
+            inFlight.remove(job.key(), job.future());
+            job.future().completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Renders a batch of requests in parallel on the pool.
+     *
+     * @param batch The requests.
+     */
+    private void render(List<Job> batch) {
+        batches.incrementAndGet();
+        List<RenderTask> tasks = batch.stream().map(RenderTask::new).toList();
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Renders the diagram of a request.
+     *
+     * @param job The request.
+     * @return The rendered bytes.
+     * @throws IOException If the content is not a diagram, or inflates beyond {@link #MAX_DIAGRAM_BYTES}.
+     */
+    private byte[] render(Job job) throws IOException {
+        DiagramPainter painter = reader.read(job.content(), MAX_DIAGRAM_BYTES);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (job.format() == Format.SVG) {
+            try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                renderer.writeSvg(painter, writer);
+            }
+        } else {
+            renderer.writePng(painter, job.scale(), out);
+        }
+        renders.incrementAndGet();
+        return out.toByteArray();
+    }
+
+    /**
+     * A queued request.
+     *
+     * @param key     The content key of the request.
+     * @param content The content of the diagram file.
+     * @param format  The output format.
+     * @param scale   The scale factor.
+     * @param future  The future receiving the rendered bytes.
+     */
+    private record Job(String key, byte[] content, Format format, double scale, CompletableFuture<byte[]> future) {
+    }
+
+    /**
+     * The task rendering one request of a batch.
+     */
+    private final class RenderTask extends RecursiveAction {
+
+        /**
+         * The request.
+         */
+        private final Job job;
+
+        /**
+         * Constructs a task for a request.
+         *
+         * @param job The request.
+         */
+        RenderTask(Job job) {
+            this.job = job;
+        }
+
+        /**
+         * Renders the request, caches the result and completes the waiting requests. Any failure, including an
+         * {@code Error} such as running out of memory on a huge diagram, fails only this request.
+         */
+        @Override
+        protected void compute() {
+            try {
+                byte[] result = render(job);
+                cache.put(job.key(), result);
+                inFlight.remove(job.key());
+                job.future().complete(result);
+            } catch (Throwable e) {
+                inFlight.remove(job.key());
+                job.future().completeExceptionally(e);
+            }
+        }
+    }
+}
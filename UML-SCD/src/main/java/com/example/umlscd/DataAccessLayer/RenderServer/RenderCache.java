@@ -0,0 +1,154 @@
+package com.example.umlscd.DataAccessLayer.RenderServer;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h1>Render Cache</h1>
+ *
+ * <p>The {@code RenderCache} keeps rendered diagrams in memory, keyed by the content hash of the diagram and the
+ * options it was rendered with, so that a diagram embedded on many wiki pages is only rendered once. Rendered images
+ * vary greatly in size, so the cache is bounded by the total number of bytes it holds rather than by the number of
+ * entries; when a new result does not fit, the least recently used results are evicted first.</p>
+ *
+ * <p>All operations are synchronized, so the cache may be shared by the request threads of the server.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Looking up and storing rendered results by key.</li>
+ *     <li>Evicting the least recently used results beyond a byte budget.</li>
+ *     <li>Counting hits and misses for monitoring.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class RenderCache {
+
+    /**
+     * The maximum total size of the cached results, in bytes.
+     */
+    private final long maxBytes;
+
+    /**
+     * The cached results, in access order.
+     */
+    private final Map<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The total size of the cached results, in bytes.
+     */
+    private long bytes;
+
+    /**
+     * The number of lookups that found a result.
+     */
+    private long hits;
+
+    /**
+     * The number of lookups that found no result.
+     */
+    private long misses;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxBytes The maximum total size of the cached results, in bytes.
+     * @throws IllegalArgumentException If the size is negative.
+     */
+    public RenderCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Looks up a rendered result, marking it as recently used.
+     *
+     * @param key The key of the result.
+     * @return The rendered bytes, or {@code null} if the result is not cached.
+     */
+    public synchronized byte[] get(String key) {
+        byte[] result = entries.get(key);
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
+    }
+
+    /**
+     * Stores a rendered result, evicting the least recently used results until it fits. Results larger than the
+     * whole cache are not stored.
+     *
+     * @param key    The key of the result.
+     * @param result The rendered bytes; they must not be modified afterwards.
+     */
+    public synchronized void put(String key, byte[] result) {
+        if (result.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.remove(key);
+        if (previous != null) {
+            bytes -= previous.length;
+        }
+        Iterator<byte[]> iterator = entries.values().iterator();
+        while (bytes + result.length > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().length;
+            iterator.remove();
+        }
+        entries.put(key, result);
+        bytes += result.length;
+    }
+
+    /**
+     * Checks whether a result is cached, without marking it as used or counting a lookup.
+     *
+     * @param key The key of the result.
+     * @return {@code true} if the result is cached.
+     */
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Retrieves the number of cached results.
+     *
+     * @return The number of results.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieves the total size of the cached results.
+     *
+     * @return The size in bytes.
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieves the number of lookups that found a result.
+     *
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of lookups that found no result.
+     *
+     * @return The number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,436 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>Class Diagram Painter</h1>
+ *
+ * <p>The {@code ClassDiagramPainter} draws a {@link ClassDiagramD} directly from the model, reproducing the look of the
+ * class diagram editor: classes as boxes with name, attribute and method compartments, interfaces with their
+ * stereotype, and relationships as lines between the closest box edges with the UML decoration of their type. Box
+ * sizes are estimated with {@link TextMetrics}, so no JavaFX node is ever created.</p>
+ *
+ * <p>The layout is computed once when the painter is constructed. Painting then visits every element exactly once,
+ * so canvases that stream their output handle diagrams with thousands of elements in a single pass.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Laying out class and interface boxes from their members.</li>
+ *     <li>Drawing associations, aggregations, compositions and inheritance relationships.</li>
+ *     <li>Drawing relationship names and multiplicities.</li>
+ *     <li>Computing the bounds of the whole diagram.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassDiagramPainter implements DiagramPainter {
+
+    /**
+     * The padding inside each compartment, matching the editor's boxes.
+     */
+    private static final double PADDING = 5;
+
+    /**
+     * The minimum width of a box.
+     */
+    private static final double MIN_WIDTH = 80;
+
+    /**
+     * The empty space left around the diagram.
+     */
+    private static final double MARGIN = 20;
+
+    /**
+     * The length of the inheritance triangle, measured along the line.
+     */
+    private static final double TRIANGLE_LENGTH = 15;
+
+    /**
+     * The length of the aggregation and composition diamonds, measured along the line.
+     */
+    private static final double DIAMOND_LENGTH = 20;
+
+    /**
+     * Half the width of the triangles and diamonds.
+     */
+    private static final double DECORATION_HALF_WIDTH = 10;
+
+    /**
+     * The diagram to paint.
+     */
+    private final ClassDiagramD diagram;
+
+    /**
+     * The box of each class and interface, by element name.
+     */
+    private final Map<String, Rectangle2D> boxes = new HashMap<>();
+
+    /**
+     * The bounds of the diagram, including the margin.
+     */
+    private final Rectangle2D bounds;
+
+    /**
+     * Constructs a painter and lays out the diagram.
+     *
+     * @param diagram The class diagram to paint.
+     */
+    public ClassDiagramPainter(ClassDiagramD diagram) {
+        this.diagram = diagram;
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (UMLClassBox classBox : diagram.getClasses()) {
+            Rectangle2D box = new Rectangle2D.Double(classBox.getX(), classBox.getY(),
+                    classWidth(classBox), classHeight(classBox));
+            boxes.put(classBox.getName(), box);
+        }
+        for (UMLInterfaceBox interfaceBox : diagram.getInterfaces()) {
+            Rectangle2D box = new Rectangle2D.Double(interfaceBox.getX(), interfaceBox.getY(),
+                    interfaceWidth(interfaceBox), interfaceHeight(interfaceBox));
+            boxes.put(interfaceBox.getName(), box);
+        }
+        for (Rectangle2D box : boxes.values()) {
+            minX = Math.min(minX, box.getMinX());
+            minY = Math.min(minY, box.getMinY());
+            maxX = Math.max(maxX, box.getMaxX());
+            maxY = Math.max(maxY, box.getMaxY());
+        }
+        if (boxes.isEmpty()) {
+            minX = minY = maxX = maxY = 0;
+        }
+        this.bounds = new Rectangle2D.Double(minX - MARGIN, minY - MARGIN,
+                maxX - minX + 2 * MARGIN, maxY - minY + 2 * MARGIN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Rectangle2D getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Retrieves the laid-out box of a class or interface.
+     *
+     * @param name The name of the element.
+     * @return The box of the element, or {@code null} if the diagram has no element with that name.
+     */
+    public Rectangle2D getBox(String name) {
+        return boxes.get(name);
+    }
+
+    /**
+     * Draws all classes and interfaces, followed by the relationships between them.
+     *
+     * <p>Relationships whose elements are missing from the diagram are skipped.</p>
+     *
+     * @param canvas The canvas to draw onto.
+     * @throws IOException If the canvas cannot be written.
+     */
+    @Override
+    public void paint(DiagramCanvas canvas) throws IOException {
+        for (UMLClassBox classBox : diagram.getClasses()) {
+            paintClass(canvas, classBox);
+        }
+        for (UMLInterfaceBox interfaceBox : diagram.getInterfaces()) {
+            paintInterface(canvas, interfaceBox);
+        }
+        for (UMLRelationship relationship : diagram.getRelationships()) {
+            Rectangle2D start = boxes.get(relationship.getStartElementName());
+            Rectangle2D end = boxes.get(relationship.getEndElementName());
+            if (start != null && end != null && start != end) {
+                paintRelationship(canvas, relationship, start, end);
+            }
+        }
+    }
+
+    /**
+     * Draws a class box with its name, attribute and method compartments.
+     *
+     * @param canvas   The canvas to draw onto.
+     * @param classBox The class to draw.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private void paintClass(DiagramCanvas canvas, UMLClassBox classBox) throws IOException {
+        Rectangle2D box = boxes.get(classBox.getName());
+        double x = box.getX();
+        double y = box.getY();
+        double width = box.getWidth();
+        canvas.rect(x, y, width, box.getHeight(), 1);
+
+        double nameHeight = lineHeight(DiagramCanvas.TextStyle.BOLD) + 2 * PADDING;
+        centeredText(canvas, classBox.getName(), x, y + PADDING, width, DiagramCanvas.TextStyle.BOLD);
+        y += nameHeight;
+
+        y = paintCompartment(canvas, classBox.getAttributes(), x, y, width);
+        paintCompartment(canvas, classBox.getMethods(), x, y, width);
+    }
+
+    /**
+     * Draws an interface box with its stereotype, name and method compartment.
+     *
+     * @param canvas       The canvas to draw onto.
+     * @param interfaceBox The interface to draw.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private void paintInterface(DiagramCanvas canvas, UMLInterfaceBox interfaceBox) throws IOException {
+        Rectangle2D box = boxes.get(interfaceBox.getName());
+        double x = box.getX();
+        double y = box.getY();
+        double width = box.getWidth();
+        canvas.rect(x, y, width, box.getHeight(), 1);
+
+        centeredText(canvas, "<<Interface>>", x, y + 1, width, DiagramCanvas.TextStyle.REGULAR);
+        y += lineHeight(DiagramCanvas.TextStyle.REGULAR) + 2;
+        centeredText(canvas, interfaceBox.getName(), x, y + 1, width, DiagramCanvas.TextStyle.BOLD);
+        y += lineHeight(DiagramCanvas.TextStyle.BOLD) + 2;
+
+        paintCompartment(canvas, interfaceBox.getMethods(), x, y, width);
+    }
+
+    /**
+     * Draws a compartment listing attributes or methods.
+     *
+     * @param canvas The canvas to draw onto.
+     * @param lines  The members listed in the compartment.
+     * @param x      The left edge of the compartment.
+     * @param y      The top edge of the compartment.
+     * @param width  The width of the compartment.
+     * @return The top edge of the next compartment.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private double paintCompartment(DiagramCanvas canvas, List<String> lines, double x, double y, double width)
+            throws IOException {
+        canvas.line(x, y, x + width, y, 1, false);
+        double lineHeight = lineHeight(DiagramCanvas.TextStyle.REGULAR);
+        double baseline = y + PADDING + TextMetrics.ascent(DiagramCanvas.TextStyle.REGULAR);
+        for (String line : lines) {
+            canvas.text(line, x + PADDING, baseline, DiagramCanvas.TextStyle.REGULAR);
+            baseline += lineHeight;
+        }
+        return y + compartmentHeight(lines);
+    }
+
+    /**
+     * Draws a relationship between two boxes.
+     *
+     * <p>As in the editor, the line runs between the closest points on the two box outlines, the decoration sits at
+     * the end element, the name is placed at the middle of the line and the multiplicities next to each end.</p>
+     *
+     * @param canvas       The canvas to draw onto.
+     * @param relationship The relationship to draw.
+     * @param start        The box of the start element.
+     * @param end          The box of the end element.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private void paintRelationship(DiagramCanvas canvas, UMLRelationship relationship, Rectangle2D start,
+                                   Rectangle2D end) throws IOException {
+        double[] from = edgePoint(start, end.getCenterX(), end.getCenterY());
+        double[] to = edgePoint(end, start.getCenterX(), start.getCenterY());
+        double dx = to[0] - from[0];
+        double dy = to[1] - from[1];
+        double length = Math.hypot(dx, dy);
+        if (length == 0) {
+            return;
+        }
+        double ux = dx / length;
+        double uy = dy / length;
+        double nx = -uy;
+        double ny = ux;
+
+        String type = relationship.getType() == null ? "" : relationship.getType();
+        double lineEndX = to[0];
+        double lineEndY = to[1];
+        if (type.equalsIgnoreCase("Inheritance")) {
+            double baseX = to[0] - ux * TRIANGLE_LENGTH;
+            double baseY = to[1] - uy * TRIANGLE_LENGTH;
+            canvas.polygon(new double[]{
+                    to[0], to[1],
+                    baseX + nx * DECORATION_HALF_WIDTH, baseY + ny * DECORATION_HALF_WIDTH,
+                    baseX - nx * DECORATION_HALF_WIDTH, baseY - ny * DECORATION_HALF_WIDTH}, false);
+            lineEndX = baseX;
+            lineEndY = baseY;
+        } else if (type.equalsIgnoreCase("Aggregation") || type.equalsIgnoreCase("Composition")) {
+            double midX = to[0] - ux * DIAMOND_LENGTH / 2;
+            double midY = to[1] - uy * DIAMOND_LENGTH / 2;
+            double backX = to[0] - ux * DIAMOND_LENGTH;
+            double backY = to[1] - uy * DIAMOND_LENGTH;
+            canvas.polygon(new double[]{
+                    to[0], to[1],
+                    midX + nx * DECORATION_HALF_WIDTH, midY + ny * DECORATION_HALF_WIDTH,
+                    backX, backY,
+                    midX - nx * DECORATION_HALF_WIDTH, midY - ny * DECORATION_HALF_WIDTH},
+                    type.equalsIgnoreCase("Composition"));
+            lineEndX = backX;
+            lineEndY = backY;
+        }
+        canvas.line(from[0], from[1], lineEndX, lineEndY, 2, false);
+
+        String name = relationship.getName();
+        if (name != null && !name.isEmpty()) {
+            canvas.text(name, (from[0] + to[0]) / 2 - TextMetrics.width(name, DiagramCanvas.TextStyle.ITALIC) / 2,
+                    (from[1] + to[1]) / 2 - 5, DiagramCanvas.TextStyle.ITALIC);
+        }
+        paintMultiplicity(canvas, relationship.getStartMultiplicity(), from, ux, uy, nx, ny);
+        paintMultiplicity(canvas, relationship.getEndMultiplicity(), to, -ux, -uy, nx, ny);
+    }
+
+    /**
+     * Draws a multiplicity next to one end of a relationship line.
+     *
+     * @param canvas       The canvas to draw onto.
+     * @param multiplicity The multiplicity, or {@code null} for none.
+     * @param end          The end point of the line.
+     * @param ux           The X component of the unit vector pointing from this end into the line.
+     * @param uy           The Y component of the unit vector pointing from this end into the line.
+     * @param nx           The X component of the line's normal.
+     * @param ny           The Y component of the line's normal.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private void paintMultiplicity(DiagramCanvas canvas, String multiplicity, double[] end, double ux, double uy,
+                                   double nx, double ny) throws IOException {
+        if (multiplicity == null || multiplicity.isEmpty()) {
+            return;
+        }
+        double x = end[0] + ux * (DIAMOND_LENGTH + 5) + nx * 10;
+        double y = end[1] + uy * (DIAMOND_LENGTH + 5) + ny * 10;
+        canvas.text(multiplicity, x - TextMetrics.width(multiplicity, DiagramCanvas.TextStyle.SMALL) / 2,
+                y + TextMetrics.ascent(DiagramCanvas.TextStyle.SMALL) / 2, DiagramCanvas.TextStyle.SMALL);
+    }
+
+    /**
+     * Draws a line of text centered horizontally in a box.
+     *
+     * @param canvas The canvas to draw onto.
+     * @param text   The text to draw.
+     * @param x      The left edge of the box.
+     * @param top    The top of the line of text.
+     * @param width  The width of the box.
+     * @param style  The style of the text.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private static void centeredText(DiagramCanvas canvas, String text, double x, double top, double width,
+                                     DiagramCanvas.TextStyle style) throws IOException {
+        canvas.text(text, x + (width - TextMetrics.width(text, style)) / 2, top + TextMetrics.ascent(style), style);
+    }
+
+    /**
+     * Finds the point where the line from the center of a box towards a target leaves the box.
+     *
+     * @param box     The box.
+     * @param targetX The X-coordinate of the target.
+     * @param targetY The Y-coordinate of the target.
+     * @return The X and Y coordinates of the point on the box outline.
+     */
+    static double[] edgePoint(Rectangle2D box, double targetX, double targetY) {
+        double centerX = box.getCenterX();
+        double centerY = box.getCenterY();
+        double dx = targetX - centerX;
+        double dy = targetY - centerY;
+        if (dx == 0 && dy == 0) {
+            return new double[]{centerX, centerY};
+        }
+        double scaleX = dx == 0 ? Double.POSITIVE_INFINITY : box.getWidth() / 2 / Math.abs(dx);
+        double scaleY = dy == 0 ? Double.POSITIVE_INFINITY : box.getHeight() / 2 / Math.abs(dy);
+        double scale = Math.min(scaleX, scaleY);
+        return new double[]{centerX + dx * scale, centerY + dy * scale};
+    }
+
+    /**
+     * Computes the width of a class box from its name and members.
+     *
+     * @param classBox The class.
+     * @return The width of the box.
+     */
+    private static double classWidth(UMLClassBox classBox) {
+        double width = TextMetrics.width(classBox.getName(), DiagramCanvas.TextStyle.BOLD);
+        width = Math.max(width, widestLine(classBox.getAttributes()));
+        width = Math.max(width, widestLine(classBox.getMethods()));
+        return Math.max(MIN_WIDTH, width + 2 * PADDING);
+    }
+
+    /**
+     * Computes the height of a class box from its members.
+     *
+     * @param classBox The class.
+     * @return The height of the box.
+     */
+    private static double classHeight(UMLClassBox classBox) {
+        return lineHeight(DiagramCanvas.TextStyle.BOLD) + 2 * PADDING
+                + compartmentHeight(classBox.getAttributes()) + compartmentHeight(classBox.getMethods());
+    }
+
+    /**
+     * Computes the width of an interface box from its stereotype, name and methods.
+     *
+     * @param interfaceBox The interface.
+     * @return The width of the box.
+     */
+    private static double interfaceWidth(UMLInterfaceBox interfaceBox) {
+        double width = TextMetrics.width("<<Interface>>", DiagramCanvas.TextStyle.REGULAR);
+        width = Math.max(width, TextMetrics.width(interfaceBox.getName(), DiagramCanvas.TextStyle.BOLD));
+        width = Math.max(width, widestLine(interfaceBox.getMethods()));
+        return Math.max(MIN_WIDTH, width + 2 * PADDING);
+    }
+
+    /**
+     * Computes the height of an interface box from its methods.
+     *
+     * @param interfaceBox The interface.
+     * @return The height of the box.
+     */
+    private static double interfaceHeight(UMLInterfaceBox interfaceBox) {
+        return lineHeight(DiagramCanvas.TextStyle.REGULAR) + 2 + lineHeight(DiagramCanvas.TextStyle.BOLD) + 2
+                + compartmentHeight(interfaceBox.getMethods());
+    }
+
+    /**
+     * Computes the height of a compartment listing members.
+     *
+     * @param lines The members listed in the compartment.
+     * @return The height of the compartment.
+     */
+    private static double compartmentHeight(List<String> lines) {
+        return 2 * PADDING + lines.size() * lineHeight(DiagramCanvas.TextStyle.REGULAR);
+    }
+
+    /**
+     * Computes the width of the widest member.
+     *
+     * @param lines The members.
+     * @return The estimated width of the widest member.
+     */
+    private static double widestLine(List<String> lines) {
+        double width = 0;
+        for (String line : lines) {
+            width = Math.max(width, TextMetrics.width(line, DiagramCanvas.TextStyle.REGULAR));
+        }
+        return width;
+    }
+
+    /**
+     * Retrieves the line height of a style.
+     *
+     * @param style The text style.
+     * @return The line height in pixels.
+     */
+    private static double lineHeight(DiagramCanvas.TextStyle style) {
+        return TextMetrics.lineHeight(style);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import java.io.IOException;
+
+/**
+ * <h1>Diagram Canvas</h1>
+ *
+ * <p>The {@code DiagramCanvas} interface is the drawing surface used by the diagram painters. It offers the handful of
+ * primitives that class and use case diagrams are made of, so the same painter can produce vector output, raster
+ * output or any other format without depending on the JavaFX scene graph. All shapes are stroked in black; closed
+ * shapes are filled either white or black, so later shapes cover earlier ones as in the editors.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Drawing solid and dashed lines.</li>
+ *     <li>Drawing rectangles, ellipses and polygons.</li>
+ *     <li>Drawing text in the styles used by the diagram editors.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public interface DiagramCanvas {
+
+    /**
+     * The text styles used in diagrams.
+     */
+    enum TextStyle {
+        /** Regular text, such as attributes, methods and use case names. */
+        REGULAR(12, false, false),
+        /** Bold text, used for class and interface names. */
+        BOLD(12, true, false),
+        /** Italic text, used for relationship names. */
+        ITALIC(12, false, true),
+        /** Small text, used for multiplicities. */
+        SMALL(10, false, false);
+
+        /**
+         * The font size in pixels.
+         */
+        private final double size;
+
+        /**
+         * Whether the text is bold.
+         */
+        private final boolean bold;
+
+        /**
+         * Whether the text is italic.
+         */
+        private final boolean italic;
+
+        /**
+         * Constructs a text style.
+         *
+         * @param size   The font size in pixels.
+         * @param bold   Whether the text is bold.
+         * @param italic Whether the text is italic.
+         */
+        TextStyle(double size, boolean bold, boolean italic) {
+            this.size = size;
+            this.bold = bold;
+            this.italic = italic;
+        }
+
+        /**
+         * Retrieves the font size.
+         *
+         * @return The font size in pixels.
+         */
+        public double getSize() {
+            return size;
+        }
+
+        /**
+         * Checks whether the text is bold.
+         *
+         * @return {@code true} if the text is bold.
+         */
+        public boolean isBold() {
+            return bold;
+        }
+
+        /**
+         * Checks whether the text is italic.
+         *
+         * @return {@code true} if the text is italic.
+         */
+        public boolean isItalic() {
+            return italic;
+        }
+    }
+
+    /**
+     * Draws a straight line.
+     *
+     * @param x1     The X-coordinate of the start point.
+     * @param y1     The Y-coordinate of the start point.
+     * @param x2     The X-coordinate of the end point.
+     * @param y2     The Y-coordinate of the end point.
+     * @param width  The stroke width.
+     * @param dashed Whether the line is dashed.
+     * @throws IOException If the canvas cannot be written.
+     */
+    void line(double x1, double y1, double x2, double y2, double width, boolean dashed) throws IOException;
+
+    /**
+     * Draws a white rectangle with a black outline.
+     *
+     * @param x      The X-coordinate of the top-left corner.
+     * @param y      The Y-coordinate of the top-left corner.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @param stroke The stroke width.
+     * @throws IOException If the canvas cannot be written.
+     */
+    void rect(double x, double y, double width, double height, double stroke) throws IOException;
+
+    /**
+     * Draws a white ellipse with a black outline.
+     *
+     * @param centerX The X-coordinate of the center.
+     * @param centerY The Y-coordinate of the center.
+     * @param radiusX The horizontal radius.
+     * @param radiusY The vertical radius.
+     * @param stroke  The stroke width.
+     * @throws IOException If the canvas cannot be written.
+     */
+    void ellipse(double centerX, double centerY, double radiusX, double radiusY, double stroke) throws IOException;
+
+    /**
+     * Draws a closed polygon with a black outline.
+     *
+     * @param points The coordinates of the corners, as alternating X and Y values.
+     * @param filled {@code true} to fill the polygon black; {@code false} to fill it white.
+     * @throws IOException If the canvas cannot be written.
+     */
+    void polygon(double[] points, boolean filled) throws IOException;
+
+    /**
+     * Draws a line of text.
+     *
+     * @param text  The text to draw.
+     * @param x     The X-coordinate of the start of the text.
+     * @param y     The Y-coordinate of the text baseline.
+     * @param style The style of the text.
+     * @throws IOException If the canvas cannot be written.
+     */
+    void text(String text, double x, double y, TextStyle style) throws IOException;
+}
@@ -0,0 +1,160 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramDeltaSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram.UseCaseDiagramSerializer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * <h1>Diagram File Reader</h1>
+ *
+ * <p>The {@code DiagramFileReader} opens a saved diagram file without knowing in advance whether it holds a class
+ * diagram or a use case diagram. The kind of diagram is recognised from the top-level properties of its JSON
+ * content, and the diagram is loaded with the matching serializer and wrapped in a {@link DiagramPainter}, ready to
+ * be rendered. Plain, compressed and incrementally saved files are supported.</p>
+ *
+ * <p>The reader holds no mutable state and may be shared between threads.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Recognising class and use case diagrams from their content.</li>
+ *     <li>Loading any saved diagram file into a painter.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class DiagramFileReader {
+
+    /**
+     * The kinds of diagram files.
+     */
+    public enum Kind {
+        /** A class diagram, saved from the class diagram editor. */
+        CLASS,
+        /** A use case diagram, saved from the use case diagram editor. */
+        USE_CASE
+    }
+
+    /**
+     * The serializer loading class diagrams.
+     */
+    private final ClassDiagramSerializer classDiagramSerializer = new ClassDiagramSerializer();
+
+    /**
+     * The codec used to decompress compressed diagram files.
+     */
+    private final BlockDeflateCodec codec = new BlockDeflateCodec();
+
+    /**
+     * Recognises the kind of diagram stored in a file.
+     *
+     * @param file The diagram file.
+     * @return The kind of diagram.
+     * @throws IOException If the file cannot be read or is not a known kind of diagram.
+     */
+    public Kind detect(File file) throws IOException {
+        if (ClassDiagramDeltaSerializer.isDeltaFile(file)) {
+            return Kind.CLASS;
+        }
+        return detect(json(Files.readAllBytes(file.toPath()), BlockDeflateCodec.MAX_INFLATED_SIZE));
+    }
+
+    /**
+     * Loads a diagram file for painting.
+     *
+     * @param file The diagram file.
+     * @return A painter of the diagram.
+     * @throws IOException If the file cannot be read or is not a known kind of diagram.
+     */
+    public DiagramPainter read(File file) throws IOException {
+        if (ClassDiagramDeltaSerializer.isDeltaFile(file)) {
+            // Delta serializers keep per-file bookkeeping, so each load gets its own
+            return new ClassDiagramPainter(new ClassDiagramDeltaSerializer().load(file));
+        }
+        return read(Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * Loads the content of a plain or compressed diagram file for painting.
+     *
+     * @param content The content of the diagram file.
+     * @return A painter of the diagram.
+     * @throws IOException If the content is not a known kind of diagram.
+     */
+    public DiagramPainter read(byte[] content) throws IOException {
+        return read(content, BlockDeflateCodec.MAX_INFLATED_SIZE);
+    }
+
+    /**
+     * Loads the content of a plain or compressed diagram file for painting, refusing compressed content that would
+     * inflate beyond a size. Untrusted content should be read this way, since a small compressed file can describe a
+     * very large one.
+     *
+     * @param content The content of the diagram file.
+     * @param maxSize The largest accepted size of the decompressed content, in bytes.
+     * @return A painter of the diagram.
+     * @throws IOException If the content is not a known kind of diagram, or inflates beyond the size.
+     */
+    public DiagramPainter read(byte[] content, long maxSize) throws IOException {
+        byte[] json = json(content, maxSize);
+        return switch (detect(json)) {
+            case CLASS -> new ClassDiagramPainter(classDiagramSerializer.deserialize(json));
+            case USE_CASE -> new UseCaseDiagramPainter(UseCaseDiagramSerializer.loadDiagram(json));
+        };
+    }
+
+    /**
+     * Recognises the kind of diagram from the top-level properties of its JSON content.
+     *
+     * <p>Only the top-level property names are examined; nested values are skipped without being parsed into
+     * objects.</p>
+     *
+     * @param json The JSON content of a diagram file.
+     * @return The kind of diagram.
+     * @throws IOException If the content is not JSON or not a known kind of diagram.
+     */
+    public static Kind detect(byte[] json) throws IOException {
+        try (JsonParser parser = JsonMapperRegistry.mapper().getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Not a diagram file");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                switch (parser.getCurrentName()) {
+                    case "classes", "interfaces", "relationships" -> {
+                        return Kind.CLASS;
+                    }
+                    case "objects", "associations", "systemBoundaryName" -> {
+                        return Kind.USE_CASE;
+                    }
+                    default -> {
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        throw new IOException("Unrecognised diagram file");
+    }
+
+    /**
+     * Retrieves the JSON content of a plain or compressed diagram file.
+     *
+     * @param content The content of the file.
+     * @param maxSize The largest accepted size of the decompressed content, in bytes.
+     * @return The content itself, or its decompressed form.
+     * @throws IOException If compressed content is corrupt or inflates beyond the size.
+     */
+    private byte[] json(byte[] content, long maxSize) throws IOException {
+        return BlockDeflateCodec.isCompressed(content) ? codec.decompress(content, maxSize) : content;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+
+/**
+ * <h1>Diagram Painter</h1>
+ *
+ * <p>The {@code DiagramPainter} interface describes an object that draws one diagram onto a {@link DiagramCanvas}.
+ * Painters work from the diagram model alone, so they can run on any thread and without the JavaFX toolkit. The
+ * bounds are known before painting, which lets canvases size their output up front and stream the shapes as they
+ * are drawn.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Reporting the region covered by the diagram.</li>
+ *     <li>Drawing the diagram onto a canvas.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public interface DiagramPainter {
+
+    /**
+     * Retrieves the region covered by the diagram, including a margin.
+     *
+     * @return The bounds of the diagram in diagram coordinates.
+     */
+    Rectangle2D getBounds();
+
+    /**
+     * Draws the diagram.
+     *
+     * @param canvas The canvas to draw onto.
+     * @throws IOException If the canvas cannot be written.
+     */
+    void paint(DiagramCanvas canvas) throws IOException;
+}
@@ -0,0 +1,164 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>Export Manifest</h1>
+ *
+ * <p>The {@code ExportManifest} remembers which diagram files have already been exported, so that repeated batch
+ * exports only render the diagrams that changed. For every input it records a fingerprint: the SHA-256 hash of the
+ * input's content combined with the export options. An input is up to date when its fingerprint is unchanged and
+ * all of its outputs still exist.</p>
+ *
+ * <p>The manifest is a JSON file mapping input paths to fingerprints. It can be queried and updated from many
+ * threads at once and is saved atomically.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Loading and atomically saving the manifest file.</li>
+ *     <li>Computing fingerprints from file content and export options.</li>
+ *     <li>Checking whether an input needs to be exported again.</li>
+ *     <li>Recording and forgetting exported inputs.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ExportManifest {
+
+    /**
+     * The name of the manifest file within the output directory.
+     */
+    public static final String FILE_NAME = ".export-manifest.json";
+
+    /**
+     * The file the manifest is stored in.
+     */
+    private final Path file;
+
+    /**
+     * The fingerprint of each exported input, keyed by the input's relative path.
+     */
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a manifest stored in the specified file, loading its entries if the file exists.
+     *
+     * @param file The manifest file.
+     * @throws IOException If the existing manifest cannot be read.
+     */
+    public ExportManifest(Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            Map<String, String> stored = JsonMapperRegistry.mapper()
+                    .readValue(file.toFile(), new TypeReference<Map<String, String>>() {});
+            fingerprints.putAll(stored);
+        }
+    }
+
+    /**
+     * Computes the fingerprint of an input from its content and the options it is exported with.
+     *
+     * @param content The content of the input file.
+     * @param options A description of the export options, such as formats and scale.
+     * @return The hexadecimal SHA-256 fingerprint.
+     */
+    public static String fingerprint(byte[] content, String options) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content);
+            digest.update((byte) 0);
+            digest.update(options.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Checks whether an input has already been exported with the same content and options.
+     *
+     * @param input       The relative path of the input.
+     * @param fingerprint The current fingerprint of the input.
+     * @param outputs     The files the export produces.
+     * @return {@code true} if the fingerprint is unchanged and every output exists.
+     */
+    public boolean isUpToDate(String input, String fingerprint, Iterable<File> outputs) {
+        if (!fingerprint.equals(fingerprints.get(input))) {
+            return false;
+        }
+        for (File output : outputs) {
+            if (!output.isFile()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that an input has been exported.
+     *
+     * @param input       The relative path of the input.
+     * @param fingerprint The fingerprint the input was exported with.
+     */
+    public void record(String input, String fingerprint) {
+        fingerprints.put(input, fingerprint);
+    }
+
+    /**
+     * Forgets an input, so that it is exported again next time.
+     *
+     * @param input The relative path of the input.
+     */
+    public void forget(String input) {
+        fingerprints.remove(input);
+    }
+
+    /**
+     * Retrieves the number of recorded inputs.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return fingerprints.size();
+    }
+
+    /**
+     * Saves the manifest, replacing the previous file atomically.
+     *
+     * @throws IOException If the manifest cannot be written.
+     */
+    public void save() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, FILE_NAME, ".tmp");
+        try {
+            JsonMapperRegistry.canonicalMapper().writerWithDefaultPrettyPrinter()
+                    .writeValue(temporary.toFile(), new TreeMap<>(fingerprints));
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Stroke;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <h1>Graphics2D Canvas</h1>
+ *
+ * <p>The {@code Graphics2DCanvas} draws diagrams with Java 2D onto any {@code Graphics2D}, typically that of an
+ * offscreen {@code BufferedImage}. Java 2D works without a display and without the JavaFX toolkit, and every image
+ * has its own graphics context, so many diagrams can be rendered in parallel on worker threads.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Drawing the diagram primitives with antialiasing.</li>
+ *     <li>Mapping the diagram text styles to sans serif fonts.</li>
+ *     <li>Reusing strokes and fonts across all shapes of a diagram.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class Graphics2DCanvas implements DiagramCanvas {
+
+    /**
+     * The graphics context receiving the drawing.
+     */
+    private final Graphics2D graphics;
+
+    /**
+     * The font of each text style.
+     */
+    private final Map<TextStyle, Font> fonts = new EnumMap<>(TextStyle.class);
+
+    /**
+     * Constructs a canvas drawing onto a graphics context.
+     *
+     * <p>Antialiasing is enabled on the context; its transform and clip are left untouched.</p>
+     *
+     * @param graphics The graphics context to draw onto.
+     */
+    public Graphics2DCanvas(Graphics2D graphics) {
+        this.graphics = graphics;
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        for (TextStyle style : TextStyle.values()) {
+            int fontStyle = (style.isBold() ? Font.BOLD : Font.PLAIN) | (style.isItalic() ? Font.ITALIC : Font.PLAIN);
+            fonts.put(style, new Font(Font.SANS_SERIF, fontStyle, 1).deriveFont((float) style.getSize()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void line(double x1, double y1, double x2, double y2, double width, boolean dashed) {
+        graphics.setColor(Color.BLACK);
+        graphics.setStroke(stroke(width, dashed));
+        graphics.draw(new Line2D.Double(x1, y1, x2, y2));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rect(double x, double y, double width, double height, double stroke) {
+        Rectangle2D shape = new Rectangle2D.Double(x, y, width, height);
+        graphics.setColor(Color.WHITE);
+        graphics.fill(shape);
+        graphics.setColor(Color.BLACK);
+        graphics.setStroke(stroke(stroke, false));
+        graphics.draw(shape);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ellipse(double centerX, double centerY, double radiusX, double radiusY, double stroke) {
+        Ellipse2D shape = new Ellipse2D.Double(centerX - radiusX, centerY - radiusY, 2 * radiusX, 2 * radiusY);
+        graphics.setColor(Color.WHITE);
+        graphics.fill(shape);
+        graphics.setColor(Color.BLACK);
+        graphics.setStroke(stroke(stroke, false));
+        graphics.draw(shape);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void polygon(double[] points, boolean filled) {
+        Path2D.Double shape = new Path2D.Double();
+        shape.moveTo(points[0], points[1]);
+        for (int i = 2; i < points.length; i += 2) {
+            shape.lineTo(points[i], points[i + 1]);
+        }
+        shape.closePath();
+        graphics.setColor(filled ? Color.BLACK : Color.WHITE);
+        graphics.fill(shape);
+        graphics.setColor(Color.BLACK);
+        graphics.setStroke(stroke(1, false));
+        graphics.draw(shape);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void text(String text, double x, double y, TextStyle style) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        graphics.setColor(Color.BLACK);
+        graphics.setFont(fonts.get(style));
+        graphics.drawString(text, (float) x, (float) y);
+    }
+
+    /**
+     * Creates the stroke for a line width and dash pattern.
+     *
+     * @param width  The stroke width.
+     * @param dashed Whether the stroke is dashed.
+     * @return The stroke.
+     */
+    private static Stroke stroke(double width, boolean dashed) {
+        if (dashed) {
+            return new BasicStroke((float) width, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10,
+                    new float[]{10, 10}, 0);
+        }
+        return new BasicStroke((float) width);
+    }
+}
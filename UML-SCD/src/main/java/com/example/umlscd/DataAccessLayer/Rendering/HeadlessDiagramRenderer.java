@@ -0,0 +1,233 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.DataAccessLayer.ImageProcessing.ImageEncoder;
+import com.example.umlscd.DataAccessLayer.ImageProcessing.TiledImageExporter;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+
+/**
+ * <h1>Headless Diagram Renderer</h1>
+ *
+ * <p>The {@code HeadlessDiagramRenderer} renders class and use case diagrams without a {@code Stage}, a file chooser
+ * or the JavaFX toolkit. Diagrams are drawn from their model by a {@link DiagramPainter}, onto offscreen Java 2D
+ * images for PNG and JPEG output, onto an {@link SvgCanvas} for SVG output or onto {@link PdfCanvas} pages for PDF
+ * output. It is intended for server-side and build-time exports, where thousands of diagrams are rendered on worker
+ * threads.</p>
+ *
+ * <p>PNG images are rendered tile by tile and streamed through the {@code TiledImageExporter}, so memory use stays
+ * bounded for diagrams of any size. The renderer holds no mutable state and may be shared between threads.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Rendering a diagram into a {@code BufferedImage} at any scale.</li>
+ *     <li>Exporting diagrams as PNG, JPEG, SVG or PDF files, chosen by the file extension.</li>
+ *     <li>Providing diagram tiles to the streaming PNG encoder.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class HeadlessDiagramRenderer {
+
+    /**
+     * The exporter that assembles tiles into PNG and JPEG images.
+     */
+    private final TiledImageExporter tiledExporter;
+
+    /**
+     * Constructs a renderer with the default tile size.
+     */
+    public HeadlessDiagramRenderer() {
+        this(new TiledImageExporter());
+    }
+
+    /**
+     * Constructs a renderer that assembles images with the specified exporter.
+     *
+     * @param tiledExporter The exporter that assembles tiles into images.
+     */
+    public HeadlessDiagramRenderer(TiledImageExporter tiledExporter) {
+        this.tiledExporter = tiledExporter;
+    }
+
+    /**
+     * Exports a class diagram to an image file.
+     *
+     * @param diagram The class diagram to render.
+     * @param scale   The scale factor of raster images and PDF documents; SVG documents ignore it.
+     * @param file    The destination file; {@code .svg}, {@code .pdf}, {@code .jpg} and {@code .jpeg} select those
+     *                formats, anything else produces a PNG image.
+     * @throws IOException If the file cannot be written.
+     */
+    public void export(ClassDiagramD diagram, double scale, File file) throws IOException {
+        export(new ClassDiagramPainter(diagram), scale, file);
+    }
+
+    /**
+     * Exports a use case diagram to an image file.
+     *
+     * @param diagram The use case diagram to render.
+     * @param scale   The scale factor of raster images and PDF documents; SVG documents ignore it.
+     * @param file    The destination file; {@code .svg}, {@code .pdf}, {@code .jpg} and {@code .jpeg} select those
+     *                formats, anything else produces a PNG image.
+     * @throws IOException If the file cannot be written.
+     */
+    public void export(UseCaseDiagramManager diagram, double scale, File file) throws IOException {
+        export(new UseCaseDiagramPainter(diagram), scale, file);
+    }
+
+    /**
+     * Exports a painted diagram to an image file.
+     *
+     * @param painter The painter of the diagram.
+     * @param scale   The scale factor of raster images and PDF documents.
+     * @param file    The destination file; its extension selects the format.
+     * @throws IOException If the file cannot be written.
+     */
+    public void export(DiagramPainter painter, double scale, File file) throws IOException {
+        if (SvgDiagramExporter.hasSvgExtension(file)) {
+            new SvgDiagramExporter().export(painter, file);
+            return;
+        }
+        if (PdfDiagramExporter.hasPdfExtension(file)) {
+            new PdfDiagramExporter(PdfDiagramExporter.A4_WIDTH, PdfDiagramExporter.A4_HEIGHT, scale)
+                    .export(painter, file);
+            return;
+        }
+
+        if (ImageEncoder.isJpeg(file)) {
+            BufferedImage image = tiledExporter.render(tileSource(painter, scale),
+                    pixelSize(painter.getBounds().getWidth(), scale),
+                    pixelSize(painter.getBounds().getHeight(), scale));
+            if (!ImageIO.write(image, "jpg", file)) {
+                throw new IOException("No JPEG encoder available");
+            }
+            return;
+        }
+        TiledImageExporter.requireWithinBudget(pixelSize(painter.getBounds().getWidth(), scale),
+                pixelSize(painter.getBounds().getHeight(), scale), TiledImageExporter.MAX_STREAMED_PIXELS);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+            writePng(painter, scale, out);
+        }
+    }
+
+    /**
+     * Streams a painted diagram as a PNG image, tile by tile.
+     *
+     * @param painter The painter of the diagram.
+     * @param scale   The scale factor; {@code 1} renders one pixel per diagram unit.
+     * @param out     The stream receiving the image; it is not closed.
+     * @throws IOException If the image cannot be written.
+     */
+    public void writePng(DiagramPainter painter, double scale, OutputStream out) throws IOException {
+        tiledExporter.writePng(tileSource(painter, scale), pixelSize(painter.getBounds().getWidth(), scale),
+                pixelSize(painter.getBounds().getHeight(), scale), TiledImageExporter.SCREEN_DPI * scale, out);
+    }
+
+    /**
+     * Writes a painted diagram as an SVG document.
+     *
+     * @param painter The painter of the diagram.
+     * @param out     The writer receiving the document; it is flushed but not closed.
+     * @throws IOException If the document cannot be written.
+     */
+    public void writeSvg(DiagramPainter painter, Writer out) throws IOException {
+        new SvgDiagramExporter().export(painter, out);
+    }
+
+    /**
+     * Renders a painted diagram into a single opaque image.
+     *
+     * @param painter The painter of the diagram.
+     * @param scale   The scale factor; {@code 1} renders one pixel per diagram unit.
+     * @return The rendered image.
+     * @throws IOException If the image exceeds the export size limits or the diagram cannot be painted.
+     */
+    public BufferedImage render(DiagramPainter painter, double scale) throws IOException {
+        Rectangle2D bounds = painter.getBounds();
+        int width = pixelSize(bounds.getWidth(), scale);
+        int height = pixelSize(bounds.getHeight(), scale);
+        TiledImageExporter.requireWithinBudget(width, height, TiledImageExporter.MAX_ASSEMBLED_PIXELS);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        paintRegion(painter, scale, image, 0, 0);
+        return image;
+    }
+
+    /**
+     * Creates a tile source that renders regions of a painted diagram with Java 2D.
+     *
+     * <p>Each tile is painted into its own small image with the diagram shifted so that only the tile's region is
+     * rasterised. The returned source reuses its tile image and must only be used by one thread at a time.</p>
+     *
+     * @param painter The painter of the diagram.
+     * @param scale   The scale factor.
+     * @return A tile source producing the pixels of the scaled diagram.
+     */
+    public TiledImageExporter.TileSource tileSource(DiagramPainter painter, double scale) {
+        BufferedImage[] reusable = new BufferedImage[1];
+        return (x, y, width, height, pixels, offset, scanlineStride) -> {
+            BufferedImage tile = reusable[0];
+            if (tile == null || tile.getWidth() != width || tile.getHeight() != height) {
+                tile = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                reusable[0] = tile;
+            }
+            paintRegion(painter, scale, tile, x, y);
+            int[] tilePixels = ((DataBufferInt) tile.getRaster().getDataBuffer()).getData();
+            for (int row = 0; row < height; row++) {
+                System.arraycopy(tilePixels, row * width, pixels, offset + row * scanlineStride, width);
+            }
+        };
+    }
+
+    /**
+     * Paints the region of a scaled diagram that starts at the given pixel onto an image.
+     *
+     * @param painter The painter of the diagram.
+     * @param scale   The scale factor.
+     * @param image   The image receiving the region; its size determines the size of the region.
+     * @param x       The left edge of the region in image pixels.
+     * @param y       The top edge of the region in image pixels.
+     * @throws IOException If the diagram cannot be painted.
+     */
+    private static void paintRegion(DiagramPainter painter, double scale, BufferedImage image, int x, int y)
+            throws IOException {
+        Rectangle2D bounds = painter.getBounds();
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.translate(-x, -y);
+            graphics.scale(scale, scale);
+            graphics.translate(-bounds.getX(), -bounds.getY());
+            painter.paint(new Graphics2DCanvas(graphics));
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Computes the number of pixels covering a length at a scale.
+     *
+     * @param length The length in diagram units.
+     * @param scale  The scale factor.
+     * @return The number of pixels, at least one.
+     */
+    private static int pixelSize(double length, double scale) {
+        return Math.max(1, (int) Math.ceil(length * scale));
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import java.awt.geom.Rectangle2D;
+
+/**
+ * <h1>PDF Canvas</h1>
+ *
+ * <p>The {@code PdfCanvas} translates the diagram primitives into PDF content stream operators. It draws in the
+ * coordinate system of the diagram, with the y axis pointing down; the page's content stream is expected to map it
+ * onto the page before painting. Shapes that lie entirely outside the visible region are skipped, so a page of a
+ * large, tiled diagram only contains the content that appears on it.</p>
+ *
+ * <p>The canvas tracks the current line width, dash pattern and fill colour and only writes operators that change
+ * them, which keeps the content streams short.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Writing lines, rectangles, ellipses and polygons as PDF path operators.</li>
+ *     <li>Writing text with the standard Helvetica fonts.</li>
+ *     <li>Skipping shapes outside the visible region.</li>
+ *     <li>Escaping text for PDF string literals.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class PdfCanvas implements DiagramCanvas {
+
+    /**
+     * The control point distance of a cubic Bezier curve approximating a quarter ellipse.
+     */
+    private static final double KAPPA = 0.5522847498;
+
+    /**
+     * The distance by which shapes may extend beyond their geometry, for example through wide strokes.
+     */
+    private static final double BLEED = 4;
+
+    /**
+     * The content stream receiving the operators.
+     */
+    private final StringBuilder content;
+
+    /**
+     * The region of the diagram that appears on the page.
+     */
+    private final Rectangle2D visible;
+
+    /**
+     * The current line width.
+     */
+    private double lineWidth = 1;
+
+    /**
+     * Whether the current line is dashed.
+     */
+    private boolean dashed;
+
+    /**
+     * The current fill colour as a grey level, {@code 0} for black and {@code 1} for white.
+     */
+    private int fillGray;
+
+    /**
+     * Constructs a canvas that appends operators to a content stream.
+     *
+     * @param content The content stream receiving the operators.
+     * @param visible The region of the diagram that appears on the page; shapes outside it are skipped.
+     */
+    public PdfCanvas(StringBuilder content, Rectangle2D visible) {
+        this.content = content;
+        this.visible = visible;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void line(double x1, double y1, double x2, double y2, double width, boolean dashed) {
+        if (!isVisible(Math.min(x1, x2), Math.min(y1, y2), Math.abs(x2 - x1), Math.abs(y2 - y1))) {
+            return;
+        }
+        stroke(width, dashed);
+        point(x1, y1).append("m ");
+        point(x2, y2).append("l S\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rect(double x, double y, double width, double height, double stroke) {
+        if (!isVisible(x, y, width, height)) {
+            return;
+        }
+        stroke(stroke, false);
+        fill(1);
+        point(x, y);
+        point(width, height).append("re B\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ellipse(double centerX, double centerY, double radiusX, double radiusY, double stroke) {
+        if (!isVisible(centerX - radiusX, centerY - radiusY, 2 * radiusX, 2 * radiusY)) {
+            return;
+        }
+        stroke(stroke, false);
+        fill(1);
+        double kx = radiusX * KAPPA;
+        double ky = radiusY * KAPPA;
+        point(centerX + radiusX, centerY).append("m ");
+        curve(centerX + radiusX, centerY + ky, centerX + kx, centerY + radiusY, centerX, centerY + radiusY);
+        curve(centerX - kx, centerY + radiusY, centerX - radiusX, centerY + ky, centerX - radiusX, centerY);
+        curve(centerX - radiusX, centerY - ky, centerX - kx, centerY - radiusY, centerX, centerY - radiusY);
+        curve(centerX + kx, centerY - radiusY, centerX + radiusX, centerY - ky, centerX + radiusX, centerY);
+        content.append("B\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void polygon(double[] points, boolean filled) {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < points.length; i += 2) {
+            minX = Math.min(minX, points[i]);
+            maxX = Math.max(maxX, points[i]);
+            minY = Math.min(minY, points[i + 1]);
+            maxY = Math.max(maxY, points[i + 1]);
+        }
+        if (!isVisible(minX, minY, maxX - minX, maxY - minY)) {
+            return;
+        }
+        stroke(1, false);
+        fill(filled ? 0 : 1);
+        point(points[0], points[1]).append("m ");
+        for (int i = 2; i < points.length; i += 2) {
+            point(points[i], points[i + 1]).append("l ");
+        }
+        content.append("b\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void text(String text, double x, double y, TextStyle style) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        double ascent = TextMetrics.ascent(style);
+        if (!isVisible(x, y - ascent, TextMetrics.width(text, style), ascent + style.getSize() * 0.3)) {
+            return;
+        }
+        fill(0);
+        // The text matrix flips the y axis back, so glyphs are upright on the page
+        content.append("BT /").append(fontName(style)).append(' ')
+                .append(SvgCanvas.format(style.getSize())).append(" Tf 1 0 0 -1 ");
+        point(x, y).append("Tm (").append(escape(text)).append(") Tj ET\n");
+    }
+
+    /**
+     * Retrieves the name of the font resource used for a text style.
+     *
+     * @param style The text style.
+     * @return {@code F2} for bold, {@code F3} for italic and {@code F1} for regular text.
+     */
+    static String fontName(TextStyle style) {
+        if (style.isBold()) {
+            return "F2";
+        }
+        return style.isItalic() ? "F3" : "F1";
+    }
+
+    /**
+     * Escapes text for a PDF string literal in the WinAnsi encoding of the standard fonts.
+     *
+     * <p>Backslashes and parentheses are escaped, and characters the encoding cannot represent are replaced with
+     * question marks.</p>
+     *
+     * @param text The text to escape.
+     * @return The escaped text, containing only characters up to {@code U+00FF}.
+     */
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' || c == '(' || c == ')') {
+                escaped.append('\\').append(c);
+            } else if ((c >= 0x20 && c < 0x7F) || (c >= 0xA0 && c <= 0xFF)) {
+                escaped.append(c);
+            } else {
+                escaped.append('?');
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Checks whether a shape's bounding box overlaps the visible region.
+     *
+     * @param x      The left edge of the bounding box.
+     * @param y      The top edge of the bounding box.
+     * @param width  The width of the bounding box.
+     * @param height The height of the bounding box.
+     * @return {@code true} if the shape may appear on the page.
+     */
+    private boolean isVisible(double x, double y, double width, double height) {
+        return x - BLEED <= visible.getMaxX() && x + width + BLEED >= visible.getMinX()
+                && y - BLEED <= visible.getMaxY() && y + height + BLEED >= visible.getMinY();
+    }
+
+    /**
+     * Sets the line width and dash pattern if they differ from the current ones.
+     *
+     * @param width  The line width.
+     * @param dashed Whether the line is dashed.
+     */
+    private void stroke(double width, boolean dashed) {
+        if (width != lineWidth) {
+            content.append(SvgCanvas.format(width)).append(" w\n");
+            lineWidth = width;
+        }
+        if (dashed != this.dashed) {
+            content.append(dashed ? "[10 10] 0 d\n" : "[] 0 d\n");
+            this.dashed = dashed;
+        }
+    }
+
+    /**
+     * Sets the fill colour if it differs from the current one.
+     *
+     * @param gray The grey level, {@code 0} for black and {@code 1} for white.
+     */
+    private void fill(int gray) {
+        if (gray != fillGray) {
+            content.append(gray).append(" g\n");
+            fillGray = gray;
+        }
+    }
+
+    /**
+     * Appends a cubic Bezier curve segment.
+     *
+     * @param x1 The x-coordinate of the first control point.
+     * @param y1 The y-coordinate of the first control point.
+     * @param x2 The x-coordinate of the second control point.
+     * @param y2 The y-coordinate of the second control point.
+     * @param x3 The x-coordinate of the end point.
+     * @param y3 The y-coordinate of the end point.
+     */
+    private void curve(double x1, double y1, double x2, double y2, double x3, double y3) {
+        point(x1, y1);
+        point(x2, y2);
+        point(x3, y3).append("c ");
+    }
+
+    /**
+     * Appends a pair of coordinates, each followed by a space.
+     *
+     * @param x The first coordinate.
+     * @param y The second coordinate.
+     * @return The content stream, for chaining.
+     */
+    private StringBuilder point(double x, double y) {
+        return content.append(SvgCanvas.format(x)).append(' ').append(SvgCanvas.format(y)).append(' ');
+    }
+}
@@ -0,0 +1,347 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+
+import java.awt.geom.Rectangle2D;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * <h1>PDF Diagram Exporter</h1>
+ *
+ * <p>The {@code PdfDiagramExporter} exports class and use case diagrams as PDF documents with vector content
+ * generated from the diagram model. Diagrams that do not fit on one page are split into a grid of pages that overlap
+ * slightly; marks in the page margins show where the neighbouring page continues, and each page is labelled with its
+ * row and column so that the printed pages can be assembled into a poster.</p>
+ *
+ * <p>Pages are written one at a time: each page's content is painted, compressed and written to the file before
+ * the next page is started, and only the byte offsets of the written objects are kept. Memory use therefore depends
+ * on the size of a page, not on the size of the diagram. The page orientation follows the diagram's aspect ratio.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Exporting class and use case diagrams as PDF to a stream or a file.</li>
+ *     <li>Splitting large diagrams across overlapping pages.</li>
+ *     <li>Drawing overlap marks and page labels in the margins.</li>
+ *     <li>Writing pages incrementally with compressed content streams.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class PdfDiagramExporter {
+
+    /**
+     * The file extension of PDF documents.
+     */
+    public static final String FILE_EXTENSION = ".pdf";
+
+    /**
+     * The width of an A4 page in points.
+     */
+    public static final double A4_WIDTH = 595.28;
+
+    /**
+     * The height of an A4 page in points.
+     */
+    public static final double A4_HEIGHT = 841.89;
+
+    /**
+     * The width of the page margins in points.
+     */
+    static final double MARGIN = 36;
+
+    /**
+     * The width of the strip shared by neighbouring pages, in points.
+     */
+    static final double OVERLAP = 18;
+
+    /**
+     * The length of the overlap marks in points.
+     */
+    private static final double MARK_LENGTH = 12;
+
+    /**
+     * The width of the shorter side of the pages, in points.
+     */
+    private final double pageShortSide;
+
+    /**
+     * The width of the longer side of the pages, in points.
+     */
+    private final double pageLongSide;
+
+    /**
+     * The number of points per diagram unit.
+     */
+    private final double scale;
+
+    /**
+     * Constructs an exporter printing diagrams at their natural size on A4 pages.
+     */
+    public PdfDiagramExporter() {
+        this(A4_WIDTH, A4_HEIGHT, 1);
+    }
+
+    /**
+     * Constructs an exporter with the specified paper size and scale.
+     *
+     * @param pageWidth  The width of the paper in points; the orientation is chosen per diagram.
+     * @param pageHeight The height of the paper in points.
+     * @param scale      The number of points per diagram unit; larger scales spread a diagram over more pages.
+     * @throws IllegalArgumentException If the paper leaves no room inside the margins or the scale is not positive.
+     */
+    public PdfDiagramExporter(double pageWidth, double pageHeight, double scale) {
+        if (Math.min(pageWidth, pageHeight) <= 2 * (MARGIN + OVERLAP) || scale <= 0) {
+            throw new IllegalArgumentException("Invalid page size or scale");
+        }
+        this.pageShortSide = Math.min(pageWidth, pageHeight);
+        this.pageLongSide = Math.max(pageWidth, pageHeight);
+        this.scale = scale;
+    }
+
+    /**
+     * Exports a class diagram as PDF to a stream.
+     *
+     * @param diagram The class diagram to export.
+     * @param out     The stream receiving the document; it is flushed but not closed.
+     * @throws IOException If the document cannot be written.
+     */
+    public void export(ClassDiagramD diagram, OutputStream out) throws IOException {
+        export(new ClassDiagramPainter(diagram), out);
+    }
+
+    /**
+     * Exports a use case diagram as PDF to a stream.
+     *
+     * @param diagram The use case diagram to export.
+     * @param out     The stream receiving the document; it is flushed but not closed.
+     * @throws IOException If the document cannot be written.
+     */
+    public void export(UseCaseDiagramManager diagram, OutputStream out) throws IOException {
+        export(new UseCaseDiagramPainter(diagram), out);
+    }
+
+    /**
+     * Exports a class diagram as a PDF file.
+     *
+     * @param diagram The class diagram to export.
+     * @param file    The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void export(ClassDiagramD diagram, File file) throws IOException {
+        export(new ClassDiagramPainter(diagram), file);
+    }
+
+    /**
+     * Exports a use case diagram as a PDF file.
+     *
+     * @param diagram The use case diagram to export.
+     * @param file    The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void export(UseCaseDiagramManager diagram, File file) throws IOException {
+        export(new UseCaseDiagramPainter(diagram), file);
+    }
+
+    /**
+     * Paints a diagram into a PDF file.
+     *
+     * @param painter The painter of the diagram.
+     * @param file    The destination file.
+     * @return The number of pages written.
+     * @throws IOException If the file cannot be written.
+     */
+    int export(DiagramPainter painter, File file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+            return export(painter, out);
+        }
+    }
+
+    /**
+     * Paints a diagram into a PDF document, one page at a time.
+     *
+     * @param painter The painter of the diagram.
+     * @param out     The stream receiving the document.
+     * @return The number of pages written.
+     * @throws IOException If the document cannot be written.
+     */
+    int export(DiagramPainter painter, OutputStream out) throws IOException {
+        Rectangle2D bounds = painter.getBounds();
+        boolean landscape = bounds.getWidth() > bounds.getHeight();
+        double pageWidth = landscape ? pageLongSide : pageShortSide;
+        double pageHeight = landscape ? pageShortSide : pageLongSide;
+
+        // Page content areas in diagram units; neighbouring pages share a strip of the overlap's width
+        double tileWidth = (pageWidth - 2 * MARGIN) / scale;
+        double tileHeight = (pageHeight - 2 * MARGIN) / scale;
+        double overlap = OVERLAP / scale;
+        int columns = pageCount(bounds.getWidth(), tileWidth, overlap);
+        int rows = pageCount(bounds.getHeight(), tileHeight, overlap);
+
+        PdfDocumentWriter writer = new PdfDocumentWriter(out);
+        int catalog = writer.reserve();
+        int pageTree = writer.reserve();
+        int resources = writer.reserve();
+        int regularFont = writer.reserve();
+        int boldFont = writer.reserve();
+        int italicFont = writer.reserve();
+        writer.writeObject(regularFont, font("Helvetica"));
+        writer.writeObject(boldFont, font("Helvetica-Bold"));
+        writer.writeObject(italicFont, font("Helvetica-Oblique"));
+        writer.writeObject(resources, "<< /Font << /F1 " + regularFont + " 0 R /F2 " + boldFont
+                + " 0 R /F3 " + italicFont + " 0 R >> >>");
+
+        String mediaBox = "[0 0 " + SvgCanvas.format(pageWidth) + " " + SvgCanvas.format(pageHeight) + "]";
+        List<Integer> pages = new ArrayList<>(rows * columns);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                Rectangle2D region = new Rectangle2D.Double(
+                        bounds.getX() + column * (tileWidth - overlap), bounds.getY() + row * (tileHeight - overlap),
+                        tileWidth, tileHeight);
+                StringBuilder content = new StringBuilder(4096);
+                paintTile(painter, region, pageWidth, pageHeight, content);
+                if (rows * columns > 1) {
+                    paintMarks(row, column, rows, columns, pageWidth, pageHeight, content);
+                }
+
+                int contents = writer.reserve();
+                int page = writer.reserve();
+                writer.writeStream(contents, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+                writer.writeObject(page, "<< /Type /Page /Parent " + pageTree + " 0 R /MediaBox " + mediaBox
+                        + " /Resources " + resources + " 0 R /Contents " + contents + " 0 R >>");
+                pages.add(page);
+            }
+        }
+
+        StringJoiner kids = new StringJoiner(" ", "[", "]");
+        pages.forEach(page -> kids.add(page + " 0 R"));
+        writer.writeObject(pageTree, "<< /Type /Pages /Kids " + kids + " /Count " + pages.size() + " >>");
+        writer.writeObject(catalog, "<< /Type /Catalog /Pages " + pageTree + " 0 R >>");
+        writer.finish(catalog);
+        return pages.size();
+    }
+
+    /**
+     * Paints the region of a diagram that appears on one page.
+     *
+     * <p>The diagram is clipped to the page's content area and mapped onto it with the y axis pointing down, as in
+     * the diagram's own coordinate system.</p>
+     *
+     * @param painter    The painter of the diagram.
+     * @param region     The region of the diagram shown on the page.
+     * @param pageWidth  The width of the page in points.
+     * @param pageHeight The height of the page in points.
+     * @param content    The page's content stream.
+     * @throws IOException If the diagram cannot be painted.
+     */
+    private void paintTile(DiagramPainter painter, Rectangle2D region, double pageWidth, double pageHeight,
+                           StringBuilder content) throws IOException {
+        content.append("q ").append(SvgCanvas.format(MARGIN)).append(' ').append(SvgCanvas.format(MARGIN)).append(' ')
+                .append(SvgCanvas.format(pageWidth - 2 * MARGIN)).append(' ')
+                .append(SvgCanvas.format(pageHeight - 2 * MARGIN)).append(" re W n\n");
+        content.append(SvgCanvas.format(scale)).append(" 0 0 ").append(SvgCanvas.format(-scale)).append(' ')
+                .append(SvgCanvas.format(MARGIN - scale * region.getX())).append(' ')
+                .append(SvgCanvas.format(pageHeight - MARGIN + scale * region.getY())).append(" cm\n");
+        painter.paint(new PdfCanvas(content, region));
+        content.append("Q\n");
+    }
+
+    /**
+     * Draws the overlap marks and the page label in the margins of a page.
+     *
+     * <p>A mark on each side that has a neighbouring page shows where the neighbour's content area begins, which
+     * is where the pages are cut and joined.</p>
+     *
+     * @param row        The row of the page, starting at zero.
+     * @param column     The column of the page, starting at zero.
+     * @param rows       The number of rows of pages.
+     * @param columns    The number of columns of pages.
+     * @param pageWidth  The width of the page in points.
+     * @param pageHeight The height of the page in points.
+     * @param content    The page's content stream.
+     */
+    private static void paintMarks(int row, int column, int rows, int columns, double pageWidth, double pageHeight,
+                                   StringBuilder content) {
+        content.append("q 1 0 0 -1 0 ").append(SvgCanvas.format(pageHeight)).append(" cm\n");
+        PdfCanvas canvas = new PdfCanvas(content, new Rectangle2D.Double(0, 0, pageWidth, pageHeight));
+        double left = MARGIN;
+        double top = MARGIN;
+        double right = pageWidth - MARGIN;
+        double bottom = pageHeight - MARGIN;
+
+        List<Double> verticalMarks = new ArrayList<>(2);
+        if (column > 0) {
+            verticalMarks.add(left + OVERLAP);
+        }
+        if (column < columns - 1) {
+            verticalMarks.add(right - OVERLAP);
+        }
+        for (double x : verticalMarks) {
+            canvas.line(x, top - MARK_LENGTH, x, top - 2, 0.5, false);
+            canvas.line(x, bottom + 2, x, bottom + MARK_LENGTH, 0.5, false);
+        }
+
+        List<Double> horizontalMarks = new ArrayList<>(2);
+        if (row > 0) {
+            horizontalMarks.add(top + OVERLAP);
+        }
+        if (row < rows - 1) {
+            horizontalMarks.add(bottom - OVERLAP);
+        }
+        for (double y : horizontalMarks) {
+            canvas.line(left - MARK_LENGTH, y, left - 2, y, 0.5, false);
+            canvas.line(right + 2, y, right + MARK_LENGTH, y, 0.5, false);
+        }
+
+        int number = row * columns + column + 1;
+        canvas.text("Page " + number + " of " + rows * columns + " (row " + (row + 1) + ", column " + (column + 1)
+                + ")", left, pageHeight - MARGIN / 2 + 3, DiagramCanvas.TextStyle.SMALL);
+        content.append("Q\n");
+    }
+
+    /**
+     * Computes the number of overlapping pages needed to cover a length.
+     *
+     * @param length  The length to cover, in diagram units.
+     * @param tile    The length covered by one page.
+     * @param overlap The length shared by neighbouring pages.
+     * @return The number of pages, at least one.
+     */
+    private static int pageCount(double length, double tile, double overlap) {
+        if (length <= tile) {
+            return 1;
+        }
+        return (int) Math.ceil((length - overlap) / (tile - overlap));
+    }
+
+    /**
+     * Creates the dictionary of one of the standard fonts, which every PDF reader provides.
+     *
+     * @param baseFont The name of the standard font.
+     * @return The font dictionary.
+     */
+    private static String font(String baseFont) {
+        return "<< /Type /Font /Subtype /Type1 /BaseFont /" + baseFont + " /Encoding /WinAnsiEncoding >>";
+    }
+
+    /**
+     * Checks whether a file has the PDF extension.
+     *
+     * @param file The file to check.
+     * @return {@code true} if the file name ends with {@code .pdf}, ignoring case.
+     */
+    public static boolean hasPdfExtension(File file) {
+        return file.getName().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+}
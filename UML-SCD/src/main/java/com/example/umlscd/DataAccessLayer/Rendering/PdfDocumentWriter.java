@@ -0,0 +1,171 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * <h1>PDF Document Writer</h1>
+ *
+ * <p>The {@code PdfDocumentWriter} writes the low-level structure of a PDF document: numbered objects, compressed
+ * streams, the cross-reference table and the trailer. Objects are written to the output as soon as they are
+ * complete and only their byte offsets are kept, so a document of any number of pages is produced with constant
+ * memory. Object numbers may be reserved before the object itself is written, which lets pages refer to a page tree
+ * that is only written once all pages are known.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Writing the document header.</li>
+ *     <li>Reserving object numbers and writing dictionary and stream objects.</li>
+ *     <li>Compressing streams with the Flate filter.</li>
+ *     <li>Writing the cross-reference table and trailer.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+class PdfDocumentWriter {
+
+    /**
+     * The stream receiving the document.
+     */
+    private final OutputStream out;
+
+    /**
+     * The byte offset of each object, indexed by object number minus one; {@code -1} for reserved objects.
+     */
+    private final List<Long> offsets = new ArrayList<>();
+
+    /**
+     * The number of bytes written so far.
+     */
+    private long position;
+
+    /**
+     * Constructs a writer and writes the document header.
+     *
+     * @param out The stream receiving the document; it is flushed but not closed by this writer.
+     * @throws IOException If the header cannot be written.
+     */
+    PdfDocumentWriter(OutputStream out) throws IOException {
+        this.out = out;
+        // The binary comment marks the file as binary for transfer tools
+        write("%PDF-1.4\n%\u00e2\u00e3\u00cf\u00d3\n");
+    }
+
+    /**
+     * Reserves the number of an object that will be written later.
+     *
+     * @return The object number.
+     */
+    int reserve() {
+        offsets.add(-1L);
+        return offsets.size();
+    }
+
+    /**
+     * Writes a dictionary object.
+     *
+     * @param number     The reserved object number.
+     * @param dictionary The object's dictionary, including the enclosing {@code << >>}.
+     * @throws IOException If the object cannot be written.
+     */
+    void writeObject(int number, String dictionary) throws IOException {
+        begin(number);
+        write(dictionary);
+        write("\nendobj\n");
+    }
+
+    /**
+     * Writes a stream object, compressing its data with the Flate filter.
+     *
+     * @param number The reserved object number.
+     * @param data   The uncompressed stream data.
+     * @throws IOException If the object cannot be written.
+     */
+    void writeStream(int number, byte[] data) throws IOException {
+        byte[] compressed = deflate(data);
+        begin(number);
+        write("<< /Length " + compressed.length + " /Filter /FlateDecode >>\nstream\n");
+        out.write(compressed);
+        position += compressed.length;
+        write("\nendstream\nendobj\n");
+    }
+
+    /**
+     * Completes the document with the cross-reference table and trailer.
+     *
+     * @param root The object number of the document catalog.
+     * @throws IOException If an object was reserved but never written, or the document cannot be written.
+     */
+    void finish(int root) throws IOException {
+        long xref = position;
+        StringBuilder table = new StringBuilder(20 * (offsets.size() + 1) + 64);
+        table.append("xref\n0 ").append(offsets.size() + 1).append("\n0000000000 65535 f \n");
+        for (int i = 0; i < offsets.size(); i++) {
+            long offset = offsets.get(i);
+            if (offset < 0) {
+                throw new IOException("PDF object " + (i + 1) + " was never written");
+            }
+            table.append(String.format("%010d 00000 n \n", offset));
+        }
+        table.append("trailer\n<< /Size ").append(offsets.size() + 1).append(" /Root ").append(root)
+                .append(" 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+        write(table.toString());
+        out.flush();
+    }
+
+    /**
+     * Records the offset of an object and writes its header.
+     *
+     * @param number The reserved object number.
+     * @throws IOException If the header cannot be written.
+     */
+    private void begin(int number) throws IOException {
+        if (offsets.get(number - 1) >= 0) {
+            throw new IllegalStateException("PDF object " + number + " was already written");
+        }
+        offsets.set(number - 1, position);
+        write(number + " 0 obj\n");
+    }
+
+    /**
+     * Writes text as single-byte characters and advances the position.
+     *
+     * @param text The text, limited to characters up to {@code U+00FF}.
+     * @throws IOException If the text cannot be written.
+     */
+    private void write(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        out.write(bytes);
+        position += bytes.length;
+    }
+
+    /**
+     * Compresses data with the Flate filter.
+     *
+     * @param data The data to compress.
+     * @return The compressed data in zlib format.
+     */
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
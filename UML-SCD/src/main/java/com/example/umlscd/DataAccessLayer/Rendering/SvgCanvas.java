@@ -0,0 +1,268 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import java.awt.geom.Rectangle2D;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * <h1>SVG Canvas</h1>
+ *
+ * <p>The {@code SvgCanvas} writes every shape drawn on it straight to a {@code Writer} as an SVG element. Nothing is
+ * retained between calls, so memory use does not depend on the size of the diagram, and the resulting document is
+ * resolution independent. Shared presentation attributes are declared once in a style sheet and coordinates are
+ * rounded to two decimals, which keeps the files small.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Writing the SVG header, sized to the bounds of the diagram.</li>
+ *     <li>Streaming lines, rectangles, ellipses, polygons and text as SVG elements.</li>
+ *     <li>Escaping text so that any element name produces a well-formed document.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class SvgCanvas implements DiagramCanvas, Closeable {
+
+    /**
+     * The style sheet declaring the presentation shared by all elements.
+     */
+    private static final String STYLE = "line,rect,ellipse,polygon{stroke:#000}"
+            + "rect,ellipse,polygon{fill:#fff}"
+            + ".f{fill:#000}"
+            + ".d{stroke-dasharray:10 10}"
+            + "text{font-family:sans-serif;font-size:12px;fill:#000}"
+            + ".b{font-weight:bold}"
+            + ".i{font-style:italic}"
+            + ".s{font-size:10px}";
+
+    /**
+     * The writer receiving the document.
+     */
+    private final Writer out;
+
+    /**
+     * Whether the document has been completed.
+     */
+    private boolean closed;
+
+    /**
+     * Constructs a canvas and writes the document header.
+     *
+     * @param out    The writer receiving the document; it is flushed but not closed by this canvas.
+     * @param bounds The region of the diagram covered by the document.
+     * @throws IOException If the header cannot be written.
+     */
+    public SvgCanvas(Writer out, Rectangle2D bounds) throws IOException {
+        this.out = out;
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+        number(bounds.getWidth());
+        out.write("\" height=\"");
+        number(bounds.getHeight());
+        out.write("\" viewBox=\"");
+        number(bounds.getX());
+        out.write(' ');
+        number(bounds.getY());
+        out.write(' ');
+        number(bounds.getWidth());
+        out.write(' ');
+        number(bounds.getHeight());
+        out.write("\">\n<style>");
+        out.write(STYLE);
+        out.write("</style>\n<rect x=\"");
+        number(bounds.getX());
+        out.write("\" y=\"");
+        number(bounds.getY());
+        out.write("\" width=\"100%\" height=\"100%\" style=\"stroke:none\"/>\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void line(double x1, double y1, double x2, double y2, double width, boolean dashed) throws IOException {
+        out.write("<line");
+        if (dashed) {
+            out.write(" class=\"d\"");
+        }
+        attribute("x1", x1);
+        attribute("y1", y1);
+        attribute("x2", x2);
+        attribute("y2", y2);
+        strokeWidth(width);
+        out.write("/>\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rect(double x, double y, double width, double height, double stroke) throws IOException {
+        out.write("<rect");
+        attribute("x", x);
+        attribute("y", y);
+        attribute("width", width);
+        attribute("height", height);
+        strokeWidth(stroke);
+        out.write("/>\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ellipse(double centerX, double centerY, double radiusX, double radiusY, double stroke)
+            throws IOException {
+        out.write("<ellipse");
+        attribute("cx", centerX);
+        attribute("cy", centerY);
+        attribute("rx", radiusX);
+        attribute("ry", radiusY);
+        strokeWidth(stroke);
+        out.write("/>\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void polygon(double[] points, boolean filled) throws IOException {
+        out.write(filled ? "<polygon class=\"f\" points=\"" : "<polygon points=\"");
+        for (int i = 0; i < points.length; i += 2) {
+            if (i > 0) {
+                out.write(' ');
+            }
+            number(points[i]);
+            out.write(',');
+            number(points[i + 1]);
+        }
+        out.write("\"/>\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void text(String text, double x, double y, TextStyle style) throws IOException {
+        out.write("<text");
+        switch (style) {
+            case BOLD -> out.write(" class=\"b\"");
+            case ITALIC -> out.write(" class=\"i\"");
+            case SMALL -> out.write(" class=\"s\"");
+            default -> { }
+        }
+        attribute("x", x);
+        attribute("y", y);
+        out.write('>');
+        escape(text == null ? "" : text);
+        out.write("</text>\n");
+    }
+
+    /**
+     * Completes the document and flushes the writer.
+     *
+     * @throws IOException If the document cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        out.write("</svg>\n");
+        out.flush();
+    }
+
+    /**
+     * Writes a numeric attribute.
+     *
+     * @param name  The name of the attribute.
+     * @param value The value of the attribute.
+     * @throws IOException If the attribute cannot be written.
+     */
+    private void attribute(String name, double value) throws IOException {
+        out.write(' ');
+        out.write(name);
+        out.write("=\"");
+        number(value);
+        out.write('"');
+    }
+
+    /**
+     * Writes a stroke width attribute unless it is the default width of 1.
+     *
+     * @param width The stroke width.
+     * @throws IOException If the attribute cannot be written.
+     */
+    private void strokeWidth(double width) throws IOException {
+        if (width != 1) {
+            attribute("stroke-width", width);
+        }
+    }
+
+    /**
+     * Writes a number rounded to two decimals, without a trailing fraction for whole numbers.
+     *
+     * @param value The number to write.
+     * @throws IOException If the number cannot be written.
+     */
+    private void number(double value) throws IOException {
+        out.write(format(value));
+    }
+
+    /**
+     * Formats a number rounded to two decimals, without a trailing fraction for whole numbers.
+     *
+     * @param value The number to format.
+     * @return The formatted number.
+     */
+    static String format(double value) {
+        long hundredths = Math.round(value * 100);
+        if (hundredths % 100 == 0) {
+            return Long.toString(hundredths / 100);
+        }
+        StringBuilder builder = new StringBuilder(12);
+        if (hundredths < 0) {
+            builder.append('-');
+            hundredths = -hundredths;
+        }
+        builder.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            builder.append('0').append(fraction);
+        } else if (fraction % 10 == 0) {
+            builder.append(fraction / 10);
+        } else {
+            builder.append(fraction);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes text with the XML special characters escaped.
+     *
+     * @param text The text to write.
+     * @throws IOException If the text cannot be written.
+     */
+    private void escape(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.write("&lt;");
+                case '>' -> out.write("&gt;");
+                case '&' -> out.write("&amp;");
+                case '"' -> out.write("&quot;");
+                default -> {
+                    // Control characters other than tabs are not allowed in XML 1.0
+                    if (c >= 0x20 || c == '\t') {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+    }
+}
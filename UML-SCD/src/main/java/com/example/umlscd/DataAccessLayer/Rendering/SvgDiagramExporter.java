@@ -0,0 +1,117 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * <h1>SVG Diagram Exporter</h1>
+ *
+ * <p>The {@code SvgDiagramExporter} exports class and use case diagrams as SVG documents generated from the diagram
+ * model. Unlike raster exports it never touches the scene graph: a {@link DiagramPainter} walks the model and
+ * streams each element through an {@link SvgCanvas}. Exports are therefore small, fast and independent of the screen
+ * resolution, and can run on any thread without the JavaFX toolkit.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Exporting class diagrams as SVG to a writer or a file.</li>
+ *     <li>Exporting use case diagrams as SVG to a writer or a file.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class SvgDiagramExporter {
+
+    /**
+     * The file extension of SVG documents.
+     */
+    public static final String FILE_EXTENSION = ".svg";
+
+    /**
+     * Exports a class diagram as SVG to a writer.
+     *
+     * @param diagram The class diagram to export.
+     * @param out     The writer receiving the document; it is flushed but not closed.
+     * @throws IOException If the document cannot be written.
+     */
+    public void export(ClassDiagramD diagram, Writer out) throws IOException {
+        export(new ClassDiagramPainter(diagram), out);
+    }
+
+    /**
+     * Exports a use case diagram as SVG to a writer.
+     *
+     * @param diagram The use case diagram to export.
+     * @param out     The writer receiving the document; it is flushed but not closed.
+     * @throws IOException If the document cannot be written.
+     */
+    public void export(UseCaseDiagramManager diagram, Writer out) throws IOException {
+        export(new UseCaseDiagramPainter(diagram), out);
+    }
+
+    /**
+     * Exports a class diagram as an SVG file.
+     *
+     * @param diagram The class diagram to export.
+     * @param file    The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void export(ClassDiagramD diagram, File file) throws IOException {
+        export(new ClassDiagramPainter(diagram), file);
+    }
+
+    /**
+     * Exports a use case diagram as an SVG file.
+     *
+     * @param diagram The use case diagram to export.
+     * @param file    The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void export(UseCaseDiagramManager diagram, File file) throws IOException {
+        export(new UseCaseDiagramPainter(diagram), file);
+    }
+
+    /**
+     * Paints a diagram onto an SVG canvas writing to a file.
+     *
+     * @param painter The painter of the diagram.
+     * @param file    The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    void export(DiagramPainter painter, File file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            export(painter, out);
+        }
+    }
+
+    /**
+     * Paints a diagram onto an SVG canvas writing to a writer.
+     *
+     * @param painter The painter of the diagram.
+     * @param out     The writer receiving the document.
+     * @throws IOException If the document cannot be written.
+     */
+    void export(DiagramPainter painter, Writer out) throws IOException {
+        try (SvgCanvas canvas = new SvgCanvas(out, painter.getBounds())) {
+            painter.paint(canvas);
+        }
+    }
+
+    /**
+     * Checks whether a file has the SVG extension.
+     *
+     * @param file The file to check.
+     * @return {@code true} if the file name ends with {@code .svg}, ignoring case.
+     */
+    public static boolean hasSvgExtension(File file) {
+        return file.getName().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+}
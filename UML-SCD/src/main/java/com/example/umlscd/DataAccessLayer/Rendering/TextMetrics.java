@@ -0,0 +1,72 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+/**
+ * <h1>Text Metrics</h1>
+ *
+ * <p>The {@code TextMetrics} class estimates the size of text without measuring it with a font. Diagrams rendered
+ * from the model have to size class boxes before any text is drawn, and measuring with JavaFX or AWT fonts would tie
+ * the layout to a toolkit and to the fonts installed on the machine. The estimate uses the average advance of a sans
+ * serif font, which keeps layouts identical on every machine and for every output format.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Estimating the width of a line of text in a given style.</li>
+ *     <li>Providing the line height and baseline offset of a style.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class TextMetrics {
+
+    /**
+     * The average advance of a regular character, relative to the font size.
+     */
+    private static final double REGULAR_ADVANCE = 0.58;
+
+    /**
+     * The average advance of a bold character, relative to the font size.
+     */
+    private static final double BOLD_ADVANCE = 0.63;
+
+    /**
+     * Prevents instantiation; the class only has static members.
+     */
+    private TextMetrics() {}
+
+    /**
+     * Estimates the width of a line of text.
+     *
+     * @param text  The text; {@code null} is treated as empty.
+     * @param style The style in which the text is drawn.
+     * @return The estimated width in pixels.
+     */
+    public static double width(String text, DiagramCanvas.TextStyle style) {
+        if (text == null) {
+            return 0;
+        }
+        return text.length() * style.getSize() * (style.isBold() ? BOLD_ADVANCE : REGULAR_ADVANCE);
+    }
+
+    /**
+     * Retrieves the height of a line of text, including line spacing.
+     *
+     * @param style The style in which the text is drawn.
+     * @return The line height in pixels.
+     */
+    public static double lineHeight(DiagramCanvas.TextStyle style) {
+        return Math.ceil(style.getSize() * 1.35);
+    }
+
+    /**
+     * Retrieves the distance from the top of a line to its baseline.
+     *
+     * @param style The style in which the text is drawn.
+     * @return The baseline offset in pixels.
+     */
+    public static double ascent(DiagramCanvas.TextStyle style) {
+        return Math.ceil(style.getSize() * 1.05);
+    }
+}
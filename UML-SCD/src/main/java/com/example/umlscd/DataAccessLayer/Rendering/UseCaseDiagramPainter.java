@@ -0,0 +1,206 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+
+/**
+ * <h1>Use Case Diagram Painter</h1>
+ *
+ * <p>The {@code UseCaseDiagramPainter} draws the objects and associations held by a {@link UseCaseDiagramManager}
+ * directly from the model, reproducing the drawing of the use case editor's canvas: the system boundary with its
+ * name, actors as stick figures, use cases as ellipses, and associations, includes and extends between the edges of
+ * the objects. The drawing area starts with the editor's canvas size and grows when objects lie beyond it.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Drawing the system boundary, actors and use cases.</li>
+ *     <li>Drawing plain associations and dashed include and extend relationships with arrowheads.</li>
+ *     <li>Computing the size of the drawing area from the diagram's content.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class UseCaseDiagramPainter implements DiagramPainter {
+
+    /**
+     * The width of the editor's canvas.
+     */
+    private static final double DEFAULT_WIDTH = 800;
+
+    /**
+     * The height of the editor's canvas.
+     */
+    private static final double DEFAULT_HEIGHT = 600;
+
+    /**
+     * The horizontal distance between the canvas edge and the system boundary.
+     */
+    private static final double BOUNDARY_INSET_X = 100;
+
+    /**
+     * The vertical distance between the canvas edge and the system boundary.
+     */
+    private static final double BOUNDARY_INSET_Y = 50;
+
+    /**
+     * The stroke width used for all shapes, as in the editor.
+     */
+    private static final double STROKE = 2;
+
+    /**
+     * The diagram to paint.
+     */
+    private final UseCaseDiagramManager diagram;
+
+    /**
+     * The bounds of the drawing area.
+     */
+    private final Rectangle2D bounds;
+
+    /**
+     * Constructs a painter for a use case diagram.
+     *
+     * @param diagram The use case diagram to paint.
+     */
+    public UseCaseDiagramPainter(UseCaseDiagramManager diagram) {
+        this.diagram = diagram;
+
+        double maxX = 0;
+        double maxY = 0;
+        for (UseCaseDiagramObject object : diagram.getObjects()) {
+            boolean actor = "actor".equals(object.getType());
+            double halfWidth = actor
+                    ? Math.max(15, TextMetrics.width(object.getName(), DiagramCanvas.TextStyle.REGULAR) / 2)
+                    : 50;
+            maxX = Math.max(maxX, object.getX() + halfWidth);
+            maxY = Math.max(maxY, object.getY() + (actor ? 95 : 25));
+        }
+        this.bounds = new Rectangle2D.Double(0, 0,
+                Math.max(DEFAULT_WIDTH, maxX + BOUNDARY_INSET_X + 20),
+                Math.max(DEFAULT_HEIGHT, maxY + BOUNDARY_INSET_Y + 20));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Rectangle2D getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Draws the system boundary, all objects and then all associations, in the editor's order.
+     *
+     * @param canvas The canvas to draw onto.
+     * @throws IOException If the canvas cannot be written.
+     */
+    @Override
+    public void paint(DiagramCanvas canvas) throws IOException {
+        double width = bounds.getWidth();
+        double height = bounds.getHeight();
+        canvas.rect(BOUNDARY_INSET_X, BOUNDARY_INSET_Y, width - 2 * BOUNDARY_INSET_X,
+                height - 2 * BOUNDARY_INSET_Y, STROKE);
+        String boundaryName = diagram.getSystemBoundaryName() == null ? "System" : diagram.getSystemBoundaryName();
+        canvas.text(boundaryName, (width - TextMetrics.width(boundaryName, DiagramCanvas.TextStyle.REGULAR)) / 2,
+                BOUNDARY_INSET_Y + 20, DiagramCanvas.TextStyle.REGULAR);
+
+        for (UseCaseDiagramObject object : diagram.getObjects()) {
+            paintObject(canvas, object);
+        }
+        for (Association association : diagram.getAssociations()) {
+            if (association.getObj1() != null && association.getObj2() != null) {
+                paintAssociation(canvas, association);
+            }
+        }
+    }
+
+    /**
+     * Draws an actor or a use case.
+     *
+     * @param canvas The canvas to draw onto.
+     * @param object The object to draw.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private void paintObject(DiagramCanvas canvas, UseCaseDiagramObject object) throws IOException {
+        double x = object.getX();
+        double y = object.getY();
+        String name = object.getName() == null ? "" : object.getName();
+        double nameWidth = TextMetrics.width(name, DiagramCanvas.TextStyle.REGULAR);
+
+        if ("actor".equals(object.getType())) {
+            canvas.ellipse(x, y, 15, 15, STROKE);                    // Head
+            canvas.line(x, y + 15, x, y + 50, STROKE, false);        // Body
+            canvas.line(x, y + 25, x - 15, y + 40, STROKE, false);   // Left arm
+            canvas.line(x, y + 25, x + 15, y + 40, STROKE, false);   // Right arm
+            canvas.line(x, y + 50, x - 10, y + 70, STROKE, false);   // Left leg
+            canvas.line(x, y + 50, x + 10, y + 70, STROKE, false);   // Right leg
+            canvas.text(name, x - nameWidth / 2, y + 90, DiagramCanvas.TextStyle.REGULAR);
+        } else if ("usecase".equals(object.getType())) {
+            canvas.ellipse(x, y, 50, 25, STROKE);
+            canvas.text(name, x - nameWidth / 2, y + 4, DiagramCanvas.TextStyle.REGULAR);
+        }
+    }
+
+    /**
+     * Draws an association between the edges of its two objects.
+     *
+     * <p>Include and extend relationships are dashed, labelled with their stereotype and end in an open
+     * arrowhead.</p>
+     *
+     * @param canvas      The canvas to draw onto.
+     * @param association The association to draw.
+     * @throws IOException If the canvas cannot be written.
+     */
+    private void paintAssociation(DiagramCanvas canvas, Association association) throws IOException {
+        UseCaseDiagramObject obj1 = association.getObj1();
+        UseCaseDiagramObject obj2 = association.getObj2();
+        double[] start = edgePoint(obj1, obj2.getX(), obj2.getY());
+        double[] end = edgePoint(obj2, obj1.getX(), obj1.getY());
+        String type = association.getType();
+
+        if ("include".equals(type) || "extend".equals(type)) {
+            canvas.line(start[0], start[1], end[0], end[1], STROKE, true);
+            String label = "include".equals(type) ? "<<include>>" : "<<extend>>";
+            canvas.text(label, (start[0] + end[0]) / 2, (start[1] + end[1]) / 2 - 10, DiagramCanvas.TextStyle.REGULAR);
+
+            double angle = Math.atan2(end[1] - start[1], end[0] - start[0]);
+            double arrowheadLength = 10;
+            double arrowAngle = Math.PI / 6;
+            canvas.line(end[0], end[1], end[0] - arrowheadLength * Math.cos(angle + arrowAngle),
+                    end[1] - arrowheadLength * Math.sin(angle + arrowAngle), STROKE, false);
+            canvas.line(end[0], end[1], end[0] - arrowheadLength * Math.cos(angle - arrowAngle),
+                    end[1] - arrowheadLength * Math.sin(angle - arrowAngle), STROKE, false);
+        } else {
+            canvas.line(start[0], start[1], end[0], end[1], STROKE, false);
+        }
+    }
+
+    /**
+     * Determines the point on an object's outline in the direction of another point.
+     *
+     * @param object The object.
+     * @param x      The X-coordinate of the other point.
+     * @param y      The Y-coordinate of the other point.
+     * @return The X and Y coordinates of the edge point.
+     */
+    static double[] edgePoint(UseCaseDiagramObject object, double x, double y) {
+        double objX = object.getX();
+        double objY = object.getY();
+        double angle = Math.atan2(y - objY, x - objX);
+
+        if ("actor".equals(object.getType())) {
+            return new double[]{objX + 50 * Math.cos(angle), objY + 50 * Math.sin(angle)};
+        }
+        if ("usecase".equals(object.getType())) {
+            return new double[]{objX + 50 * Math.cos(angle), objY + 25 * Math.sin(angle)};
+        }
+        return new double[]{objX, objY};
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramCrdt;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * <h1>Class Diagram CRDT Serializer</h1>
+ *
+ * <p>The {@code ClassDiagramCrdtSerializer} persists the {@link ClassDiagramCrdt} of a saved class diagram in a
+ * sidecar file next to it, named after the diagram file with the {@value #SIDECAR_EXTENSION} extension appended. The
+ * diagram file itself is left exactly as the {@code ClassDiagramSerializer} writes it, so copies without the sidecar
+ * keep working and simply start their history on the next save.</p>
+ *
+ * <p>Sidecars are opt-in: the editor only keeps a sidecar up to date once the diagram has one, such as the output of
+ * the {@code crdt-merge} command. Changes are recorded under a site identifier that stays the same for a diagram file
+ * across editing sessions, so the version vector of a sidecar does not grow with every save. It is derived from an
+ * identifier of the installation, created once in {@link #DEFAULT_SITE_FILE}, and the location of the diagram file,
+ * so copies of a diagram edited on the same machine are still told apart.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Locating the sidecar of a diagram file.</li>
+ *     <li>Loading the representation, or an empty one if the diagram has no sidecar yet.</li>
+ *     <li>Atomically saving the representation.</li>
+ *     <li>Recording the changes of a saved diagram in its sidecar.</li>
+ *     <li>Deriving a stable site identifier for a diagram file.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassDiagramCrdtSerializer {
+
+    /**
+     * The extension appended to the name of a diagram file to name its sidecar.
+     */
+    public static final String SIDECAR_EXTENSION = ".crdt";
+
+    /**
+     * The default file holding the identifier of the installation.
+     */
+    public static final Path DEFAULT_SITE_FILE = Path.of(System.getProperty("user.home"), ".uml-scd", "crdt-site");
+
+    /**
+     * The shared reader for the representation, obtained from the {@code JsonMapperRegistry}.
+     */
+    private final ObjectReader reader = JsonMapperRegistry.reader(ClassDiagramCrdt.class);
+
+    /**
+     * The shared writer producing compact JSON output for the representation.
+     */
+    private final ObjectWriter writer = JsonMapperRegistry.writer(ClassDiagramCrdt.class);
+
+    /**
+     * Locates the sidecar of a diagram file.
+     *
+     * @param diagramFile The diagram file.
+     * @return The sidecar file, which may not exist.
+     */
+    public static File sidecarOf(File diagramFile) {
+        return new File(diagramFile.getPath() + SIDECAR_EXTENSION);
+    }
+
+    /**
+     * Checks whether a diagram file has a sidecar, and thus whether its changes should be recorded.
+     *
+     * @param diagramFile The diagram file.
+     * @return {@code true} if the sidecar exists.
+     */
+    public static boolean hasSidecar(File diagramFile) {
+        return sidecarOf(diagramFile).isFile();
+    }
+
+    /**
+     * Derives the identifier under which this installation records the changes of a diagram file. It is the same
+     * for the same file every time, and differs between files and between installations.
+     *
+     * @param diagramFile The diagram file.
+     * @param siteFile    The file holding the identifier of the installation; it is created if it does not exist.
+     * @return The site identifier.
+     * @throws IOException If the identifier of the installation cannot be read or created.
+     */
+    public static String siteOf(File diagramFile, Path siteFile) throws IOException {
+        String installation = installationId(siteFile);
+        return UUID.nameUUIDFromBytes((installation + '\n' + diagramFile.getAbsolutePath())
+                .getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Reads the identifier of the installation, creating it the first time.
+     *
+     * @param siteFile The file holding the identifier.
+     * @return The identifier.
+     * @throws IOException If the file cannot be read or written.
+     */
+    private static String installationId(Path siteFile) throws IOException {
+        if (Files.isRegularFile(siteFile)) {
+            String id = Files.readString(siteFile, StandardCharsets.UTF_8).trim();
+            if (!id.isEmpty()) {
+                return id;
+            }
+        }
+        String id = UUID.randomUUID().toString();
+        Path target = siteFile.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temp, id, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return id;
+    }
+
+    /**
+     * Loads the representation of a diagram file.
+     *
+     * @param diagramFile The diagram file.
+     * @return The representation stored in the sidecar, or an empty one if there is no sidecar.
+     * @throws IOException If the sidecar cannot be read or is not valid.
+     */
+    public ClassDiagramCrdt load(File diagramFile) throws IOException {
+        File sidecar = sidecarOf(diagramFile);
+        return sidecar.isFile() ? reader.readValue(sidecar) : new ClassDiagramCrdt();
+    }
+
+    /**
+     * Saves the representation of a diagram file to its sidecar, replacing the previous one atomically.
+     *
+     * @param crdt        The representation.
+     * @param diagramFile The diagram file.
+     * @throws IOException If the sidecar cannot be written.
+     */
+    public void save(ClassDiagramCrdt crdt, File diagramFile) throws IOException {
+        Path target = sidecarOf(diagramFile).toPath().toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            writer.writeValue(temp.toFile(), crdt);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Records the changes of a saved diagram in its sidecar.
+     *
+     * @param diagram     The diagram as saved.
+     * @param diagramFile The diagram file.
+     * @param site        The identifier of the copy that saved it.
+     * @return The updated representation.
+     * @throws IOException If the sidecar cannot be read or written.
+     */
+    public ClassDiagramCrdt update(ClassDiagramD diagram, File diagramFile, String site) throws IOException {
+        ClassDiagramCrdt crdt = load(diagramFile);
+        if (crdt.update(diagram, site) > 0 || !sidecarOf(diagramFile).isFile()) {
+            save(crdt, diagramFile);
+        }
+        return crdt;
+    }
+}
@@ -0,0 +1,535 @@
+package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
+
+import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramChangeTracker;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h1>Class Diagram Delta Serializer</h1>
+ *
+ * <p>The {@code ClassDiagramDeltaSerializer} persists class diagrams in a segment-structured, append-only file so that
+ * saving a diagram costs time proportional to the edit rather than to the size of the diagram. Each save appends one
+ * segment containing only the records reported as dirty by a {@code ClassDiagramChangeTracker}; loading replays the
+ * committed segments in order.</p>
+ *
+ * <p>The file is line oriented. The first line is a format header, followed by segments of the form:</p>
+ * <pre>
+ * {"segment":3,"records":2}
+ * {"op":"put","kind":"class","key":"Person","value":{...}}
+ * {"op":"del","kind":"relationship","key":"Association|Person|Car|drives"}
+ * {"commit":3}
+ * </pre>
+ *
+ * <p>Relationships that share an identity key (for example two unnamed associations between the same classes) form
+ * a group. Each put record carries the position of the relationship within its group, and a delete record removes
+ * the whole group, so a segment touching a group rewrites all of its current members.</p>
+ *
+ * <p>A segment without its commit line (for example after a crash in the middle of a save) is ignored on load, and
+ * the next save truncates the file to the end of the last committed segment before appending, so later segments never
+ * follow a torn line.
+ * Once a file has accumulated too many segments, or its records greatly outnumber the live records of the diagram,
+ * the next save compacts it by atomically rewriting the whole diagram as a single segment.</p>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassDiagramDeltaSerializer {
+
+    /**
+     * The file extension used for incrementally saved class diagrams.
+     */
+    public static final String FILE_EXTENSION = ".umld";
+
+    /**
+     * The format identifier written on the first line of every delta file.
+     */
+    private static final String FORMAT_NAME = "uml-scd-delta";
+
+    /**
+     * The default number of segments after which a file is compacted.
+     */
+    private static final int DEFAULT_MAX_SEGMENTS = 32;
+
+    /**
+     * The default ratio of stored records to live records after which a file is compacted.
+     */
+    private static final int DEFAULT_COMPACTION_RATIO = 4;
+
+    /**
+     * Bookkeeping about a delta file that this serializer has written or read.
+     */
+    private static final class SegmentStats {
+        private int segments;
+        private long records;
+        private long committedBytes;
+    }
+
+    /**
+     * The shared {@code ObjectMapper} used to encode records. Records are written on a single line each.
+     */
+    private final ObjectMapper objectMapper = JsonMapperRegistry.mapper();
+
+    /**
+     * Segment statistics for every file known to this serializer, keyed by absolute path.
+     */
+    private final Map<Path, SegmentStats> statsByFile = new HashMap<>();
+
+    /**
+     * The number of segments after which a file is compacted.
+     */
+    private final int maxSegments;
+
+    /**
+     * The ratio of stored records to live records after which a file is compacted.
+     */
+    private final int compactionRatio;
+
+    /**
+     * Constructs a {@code ClassDiagramDeltaSerializer} with the default compaction policy.
+     */
+    public ClassDiagramDeltaSerializer() {
+        this(DEFAULT_MAX_SEGMENTS, DEFAULT_COMPACTION_RATIO);
+    }
+
+    /**
+     * Constructs a {@code ClassDiagramDeltaSerializer} with a custom compaction policy.
+     *
+     * @param maxSegments     The number of segments after which a file is compacted.
+     * @param compactionRatio The ratio of stored to live records after which a file is compacted.
+     */
+    public ClassDiagramDeltaSerializer(int maxSegments, int compactionRatio) {
+        if (maxSegments < 1 || compactionRatio < 1) {
+            throw new IllegalArgumentException("Compaction thresholds must be positive.");
+        }
+        this.maxSegments = maxSegments;
+        this.compactionRatio = compactionRatio;
+    }
+
+    /**
+     * Checks whether the given file name designates an incrementally saved diagram.
+     *
+     * @param file The file to check.
+     * @return {@code true} if the file has the {@value #FILE_EXTENSION} extension.
+     */
+    public static boolean hasDeltaExtension(File file) {
+        return file != null && file.getName().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Checks whether the given file starts with the delta format header.
+     *
+     * @param file The file to inspect.
+     * @return {@code true} if the file is a delta file; {@code false} if it is not or cannot be read.
+     */
+    public static boolean isDeltaFile(File file) {
+        if (file == null || !file.isFile()) {
+            return false;
+        }
+        byte[] expected = ("{\"format\":\"" + FORMAT_NAME + "\"").getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            byte[] head = in.readNBytes(expected.length);
+            return Arrays.equals(head, expected);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the complete diagram as a single compacted segment, replacing any previous content of the file.
+     *
+     * <p>The new content is written to a temporary file first and then moved over the target, so a failure
+     * never leaves a half-written diagram behind.</p>
+     *
+     * @param diagram The diagram to write.
+     * @param file    The destination file.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    public void writeSnapshot(ClassDiagramD diagram, File file) throws IOException {
+        List<ObjectNode> records = new ArrayList<>();
+        for (UMLClassBox umlClass : diagram.getClasses()) {
+            records.add(putElement(umlClass));
+        }
+        for (UMLInterfaceBox umlInterface : diagram.getInterfaces()) {
+            records.add(putElement(umlInterface));
+        }
+        Map<String, Integer> groupSizes = new HashMap<>();
+        for (UMLRelationship relationship : diagram.getRelationships()) {
+            records.add(putRelationship(relationship, groupSizes));
+        }
+
+        Path target = file.toPath().toAbsolutePath();
+        Path parent = target.getParent() != null ? target.getParent() : Path.of(".");
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("{\"format\":\"" + FORMAT_NAME + "\",\"version\":1}");
+                writer.newLine();
+                writeSegment(writer, 0, records);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        SegmentStats stats = new SegmentStats();
+        stats.segments = 1;
+        stats.records = records.size();
+        stats.committedBytes = Files.size(target);
+        statsByFile.put(target, stats);
+    }
+
+    /**
+     * Appends the tracked changes of the diagram to the file as a new segment.
+     *
+     * <p>If the file is unknown to this serializer, or the compaction thresholds are exceeded, the diagram is
+     * written as a compacted snapshot instead. Anything after the last committed segment, such as a segment torn by
+     * a crash, is truncated before the new segment is appended.</p>
+     *
+     * @param diagram The diagram whose changes are saved.
+     * @param changes The changes recorded since the file was last written or read.
+     * @param file    The destination delta file.
+     * @return {@code true} if the file was compacted; {@code false} if a delta segment was appended.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    public boolean appendDelta(ClassDiagramD diagram, ClassDiagramChangeTracker changes, File file) throws IOException {
+        Path target = file.toPath().toAbsolutePath();
+        SegmentStats stats = statsByFile.get(target);
+        long liveRecords = (long) diagram.getClasses().size() + diagram.getInterfaces().size()
+                + diagram.getRelationships().size();
+
+        if (stats == null || !Files.isRegularFile(target) || Files.size(target) < stats.committedBytes
+                || stats.segments >= maxSegments
+                || stats.records + changes.size() > compactionRatio * Math.max(liveRecords, 1)) {
+            writeSnapshot(diagram, file);
+            return true;
+        }
+        if (!changes.isDirty()) {
+            return false;
+        }
+
+        List<ObjectNode> records = new ArrayList<>(changes.size());
+        for (String name : changes.getRemovedElements()) {
+            records.add(delete("element", name));
+        }
+        for (UMLElementBoxInterface element : changes.getChangedElements().values()) {
+            records.add(putElement(element));
+        }
+        Set<String> touchedGroups = new LinkedHashSet<>(changes.getRemovedRelationships());
+        touchedGroups.addAll(changes.getChangedRelationships().keySet());
+        for (String key : touchedGroups) {
+            records.add(delete("relationship", key));
+        }
+        if (!touchedGroups.isEmpty()) {
+            // Rewrite the remaining members of every touched group, since the delete record drops the whole group
+            Map<String, Integer> groupSizes = new HashMap<>();
+            for (UMLRelationship relationship : diagram.getRelationships()) {
+                if (touchedGroups.contains(relationship.identityKey())) {
+                    records.add(putRelationship(relationship, groupSizes));
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            // Drop a torn or uncommitted tail, which would otherwise hide every segment appended after it
+            channel.truncate(stats.committedBytes);
+            channel.position(stats.committedBytes);
+            BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            writeSegment(writer, stats.segments, records);
+            stats.committedBytes = channel.position();
+        }
+        stats.segments++;
+        stats.records += records.size();
+        return false;
+    }
+
+    /**
+     * Reads a delta file by replaying all committed segments.
+     *
+     * @param file The delta file to read.
+     * @return The reconstructed {@code ClassDiagramD}.
+     * @throws IOException If the file cannot be read or is not a delta file.
+     */
+    public ClassDiagramD load(File file) throws IOException {
+        Path target = file.toPath().toAbsolutePath();
+        Map<String, UMLClassBox> classes = new LinkedHashMap<>();
+        Map<String, UMLInterfaceBox> interfaces = new LinkedHashMap<>();
+        Map<String, List<UMLRelationship>> relationships = new LinkedHashMap<>();
+        SegmentStats stats = new SegmentStats();
+
+        try (CountingLineReader reader = new CountingLineReader(Files.newInputStream(target))) {
+            String header = reader.readLine();
+            if (header == null || !FORMAT_NAME.equals(objectMapper.readTree(header).path("format").asText())) {
+                throw new IOException("Not a delta diagram file: " + file);
+            }
+            stats.committedBytes = reader.getPosition();
+
+            List<JsonNode> pending = new ArrayList<>();
+            long pendingSegment = -1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(line);
+                } catch (IOException e) {
+                    // Torn write; its segment is uncommitted, but a later segment header may follow it
+                    pending.clear();
+                    pendingSegment = -1;
+                    continue;
+                }
+                if (node.has("segment")) {
+                    pending.clear();
+                    pendingSegment = node.get("segment").asLong();
+                } else if (node.has("commit")) {
+                    if (node.get("commit").asLong() == pendingSegment && reader.isLineTerminated()) {
+                        for (JsonNode record : pending) {
+                            apply(record, classes, interfaces, relationships);
+                        }
+                        stats.segments++;
+                        stats.records += pending.size();
+                        stats.committedBytes = reader.getPosition();
+                    }
+                    pending.clear();
+                    pendingSegment = -1;
+                } else if (pendingSegment >= 0) {
+                    pending.add(node);
+                }
+            }
+        }
+
+        statsByFile.put(target, stats);
+
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.setClasses(new ArrayList<>(classes.values()));
+        diagram.setInterfaces(new ArrayList<>(interfaces.values()));
+        List<UMLRelationship> loadedRelationships = new ArrayList<>();
+        for (List<UMLRelationship> group : relationships.values()) {
+            loadedRelationships.addAll(group);
+        }
+        diagram.setRelationships(loadedRelationships);
+        return diagram;
+    }
+
+    /**
+     * Applies a single record to the diagram being reconstructed.
+     */
+    private void apply(JsonNode record, Map<String, UMLClassBox> classes, Map<String, UMLInterfaceBox> interfaces,
+                       Map<String, List<UMLRelationship>> relationships) throws IOException {
+        String op = record.path("op").asText();
+        String kind = record.path("kind").asText();
+        String key = record.path("key").asText();
+
+        if ("del".equals(op)) {
+            if ("relationship".equals(kind)) {
+                relationships.remove(key);
+            } else {
+                classes.remove(key);
+                interfaces.remove(key);
+            }
+            return;
+        }
+
+        JsonNode value = record.get("value");
+        switch (kind) {
+            case "class":
+                interfaces.remove(key);
+                classes.put(key, JsonMapperRegistry.reader(UMLClassBox.class).readValue(value));
+                break;
+            case "interface":
+                classes.remove(key);
+                interfaces.put(key, JsonMapperRegistry.reader(UMLInterfaceBox.class).readValue(value));
+                break;
+            case "relationship":
+                List<UMLRelationship> group = relationships.computeIfAbsent(key, k -> new ArrayList<>());
+                int index = record.path("index").asInt(0);
+                if (index < 0 || index > group.size()) {
+                    throw new IOException("Invalid relationship index " + index + " for " + key);
+                }
+                UMLRelationship relationship = JsonMapperRegistry.reader(UMLRelationship.class).readValue(value);
+                if (index == group.size()) {
+                    group.add(relationship);
+                } else {
+                    group.set(index, relationship);
+                }
+                break;
+            default:
+                System.err.println("Skipping unknown delta record kind: " + kind);
+        }
+    }
+
+    /**
+     * Writes a complete segment, including its header and commit line, and flushes it.
+     */
+    private void writeSegment(BufferedWriter writer, int segment, List<ObjectNode> records) throws IOException {
+        writer.write("{\"segment\":" + segment + ",\"records\":" + records.size() + "}");
+        writer.newLine();
+        for (ObjectNode record : records) {
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.newLine();
+        }
+        writer.write("{\"commit\":" + segment + "}");
+        writer.newLine();
+        writer.flush();
+    }
+
+    /**
+     * Reads the lines of a delta file while counting the bytes consumed, so that the end of the last committed
+     * segment is known. Lines may end with {@code \n} or {@code \r\n}.
+     */
+    private static final class CountingLineReader implements Closeable {
+
+        /**
+         * The buffered content of the file.
+         */
+        private final InputStream in;
+
+        /**
+         * The bytes of the line being read.
+         */
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        /**
+         * The number of bytes consumed so far.
+         */
+        private long position;
+
+        /**
+         * Whether the last line read ended with a line break, rather than with the end of the file.
+         */
+        private boolean lineTerminated;
+
+        /**
+         * Constructs a reader.
+         *
+         * @param in The content of the file; it is closed with the reader.
+         */
+        CountingLineReader(InputStream in) {
+            this.in = new BufferedInputStream(in);
+        }
+
+        /**
+         * Reads the next line.
+         *
+         * @return The line without its line break, or {@code null} at the end of the file.
+         * @throws IOException If the file cannot be read.
+         */
+        String readLine() throws IOException {
+            line.reset();
+            lineTerminated = false;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b == '\n') {
+                    lineTerminated = true;
+                    break;
+                }
+                line.write(b);
+            }
+            if (!lineTerminated && line.size() == 0) {
+                return null;
+            }
+            String text = line.toString(StandardCharsets.UTF_8);
+            return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+        }
+
+        /**
+         * Checks whether the last line read ended with a line break.
+         *
+         * @return {@code false} if the file ended in the middle of the line.
+         */
+        boolean isLineTerminated() {
+            return lineTerminated;
+        }
+
+        /**
+         * Retrieves the number of bytes consumed, which is the offset just after the last line read.
+         *
+         * @return The offset.
+         */
+        long getPosition() {
+            return position;
+        }
+
+        /**
+         * Closes the file.
+         *
+         * @throws IOException If the file cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Builds a put record for a class or interface.
+     */
+    private ObjectNode putElement(UMLElementBoxInterface element) {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("op", "put");
+        record.put("kind", element instanceof UMLInterfaceBox ? "interface" : "class");
+        record.put("key", element.getName());
+        record.set("value", objectMapper.valueToTree(element));
+        return record;
+    }
+
+    /**
+     * Builds a put record for a relationship, positioned after the members of its group already written.
+     */
+    private ObjectNode putRelationship(UMLRelationship relationship, Map<String, Integer> groupSizes) {
+        String key = relationship.identityKey();
+        int index = groupSizes.merge(key, 1, Integer::sum) - 1;
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("op", "put");
+        record.put("kind", "relationship");
+        record.put("key", key);
+        record.put("index", index);
+        record.set("value", objectMapper.valueToTree(relationship));
+        return record;
+    }
+
+    /**
+     * Builds a delete (tombstone) record.
+     */
+    private ObjectNode delete(String kind, String key) {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("op", "del");
+        record.put("kind", kind);
+        record.put("key", key);
+        return record;
+    }
+}
@@ -0,0 +1,372 @@
+package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>Class Diagram JSON Index</h1>
+ *
+ * <p>The {@code ClassDiagramJsonIndex} class indexes the elements of a class diagram file without building its object
+ * graph. The JSON content is read once with a streaming parser; for every class, interface and relationship the index
+ * records its identity, the location of its JSON in the content and a hash of its tokens. Elements are compared by
+ * their hashes, and only the elements that are actually needed are parsed into model objects or copied to a
+ * {@link ClassDiagramStreamWriter}, straight from the content.</p>
+ *
+ * <p>Classes and interfaces are identified by their names and relationships by their
+ * {@linkplain UMLRelationship#identityKey() identity keys}. Since the hash covers the tokens rather than the bytes,
+ * differences in indentation do not count as changes.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Indexing plain, compressed and incrementally saved class diagram files in a single pass.</li>
+ *     <li>Parsing single elements on demand.</li>
+ *     <li>Copying single elements to another file without parsing them into objects.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassDiagramJsonIndex {
+
+    /**
+     * The element lists of a class diagram file, in the order they are written.
+     */
+    public enum Section {
+        /** The classes. */
+        CLASSES("classes", UMLClassBox.class),
+        /** The interfaces. */
+        INTERFACES("interfaces", UMLInterfaceBox.class),
+        /** The relationships. */
+        RELATIONSHIPS("relationships", UMLRelationship.class);
+
+        /**
+         * The JSON property holding the list.
+         */
+        private final String property;
+
+        /**
+         * The model type of the elements.
+         */
+        private final Class<?> elementType;
+
+        /**
+         * Constructs a section.
+         *
+         * @param property    The JSON property holding the list.
+         * @param elementType The model type of the elements.
+         */
+        Section(String property, Class<?> elementType) {
+            this.property = property;
+            this.elementType = elementType;
+        }
+
+        /**
+         * Retrieves the JSON property holding the list.
+         *
+         * @return The property name.
+         */
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * Retrieves the model type of the elements.
+         *
+         * @return The element type.
+         */
+        public Class<?> getElementType() {
+            return elementType;
+        }
+
+        /**
+         * Finds the section stored in a JSON property.
+         *
+         * @param property The property name.
+         * @return The section, or {@code null} if the property holds no element list.
+         */
+        private static Section of(String property) {
+            for (Section section : values()) {
+                if (section.property.equals(property)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * An indexed element.
+     *
+     * @param key       The identity of the element: the name of a class or interface, or the identity key of a
+     *                  relationship.
+     * @param endpoints The names of the elements a relationship connects; empty for classes and interfaces.
+     * @param offset    The offset of the element's JSON object in the content.
+     * @param length    The length of the element's JSON object in bytes.
+     * @param hash      A hash of the element's tokens; equal elements have equal hashes.
+     */
+    public record Entry(String key, List<String> endpoints, int offset, int length, long hash) {
+    }
+
+    /**
+     * The offset basis of the 64-bit FNV-1a hash.
+     */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    /**
+     * The prime of the 64-bit FNV-1a hash.
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * The JSON content.
+     */
+    private final byte[] json;
+
+    /**
+     * The indexed elements of every section, keyed by their identities, in the order of the file.
+     */
+    private final Map<Section, Map<String, Entry>> entries = new EnumMap<>(Section.class);
+
+    /**
+     * Indexes JSON content.
+     *
+     * @param json The JSON content of a class diagram.
+     * @throws IOException If the content is not a class diagram.
+     */
+    private ClassDiagramJsonIndex(byte[] json) throws IOException {
+        this.json = json;
+        for (Section section : Section.values()) {
+            entries.put(section, new LinkedHashMap<>());
+        }
+        index();
+    }
+
+    /**
+     * Indexes a class diagram file.
+     *
+     * <p>An empty file is indexed as an empty diagram, as version control systems pass one for the common ancestor
+     * of files added on both sides.</p>
+     *
+     * @param file A plain, compressed or incrementally saved class diagram file.
+     * @return The index.
+     * @throws IOException If the file cannot be read or is not a class diagram.
+     */
+    public static ClassDiagramJsonIndex read(File file) throws IOException {
+        if (ClassDiagramDeltaSerializer.isDeltaFile(file)) {
+            ClassDiagramD diagram = new ClassDiagramDeltaSerializer().load(file);
+            return new ClassDiagramJsonIndex(JsonMapperRegistry.writer(ClassDiagramD.class).writeValueAsBytes(diagram));
+        }
+        return of(Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * Indexes the content of a class diagram file.
+     *
+     * @param content The content of a plain or compressed class diagram file.
+     * @return The index.
+     * @throws IOException If the content is not a class diagram.
+     */
+    public static ClassDiagramJsonIndex of(byte[] content) throws IOException {
+        return new ClassDiagramJsonIndex(BlockDeflateCodec.isCompressed(content)
+                ? new BlockDeflateCodec().decompress(content)
+                : content);
+    }
+
+    /**
+     * Retrieves the indexed elements of a section.
+     *
+     * @param section The section.
+     * @return An unmodifiable map of the elements, keyed by their identities, in the order of the file.
+     */
+    public Map<String, Entry> entries(Section section) {
+        return Collections.unmodifiableMap(entries.get(section));
+    }
+
+    /**
+     * Counts the indexed elements.
+     *
+     * @return The number of classes, interfaces and relationships.
+     */
+    public int size() {
+        return entries.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Parses an indexed element into a model object.
+     *
+     * @param entry The element.
+     * @param type  The model type of its section.
+     * @param <T>   The model type.
+     * @return The element.
+     * @throws IOException If the element cannot be parsed.
+     */
+    public <T> T element(Entry entry, Class<T> type) throws IOException {
+        return JsonMapperRegistry.reader(type).readValue(json, entry.offset(), entry.length());
+    }
+
+    /**
+     * Copies an indexed element token by token to a generator.
+     *
+     * @param entry     The element.
+     * @param generator The generator, positioned where a value may be written.
+     * @throws IOException If the element cannot be copied.
+     */
+    public void copy(Entry entry, JsonGenerator generator) throws IOException {
+        try (JsonParser parser = JsonMapperRegistry.mapper().getFactory()
+                .createParser(json, entry.offset(), entry.length())) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+    }
+
+    /**
+     * Reads the content and indexes the elements of every section.
+     *
+     * @throws IOException If the content is not a class diagram.
+     */
+    private void index() throws IOException {
+        try (JsonParser parser = JsonMapperRegistry.mapper().getFactory().createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Not a class diagram file");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String property = parser.getCurrentName();
+                Section section = Section.of(property);
+                if (property.equals("objects") || property.equals("associations")) {
+                    throw new IOException("Not a class diagram file");
+                }
+                if (parser.nextToken() != JsonToken.START_ARRAY || section == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    add(section, indexElement(parser, section));
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the element at the current position of a parser.
+     *
+     * @param parser  The parser, positioned at the start of the element's object.
+     * @param section The section of the element.
+     * @return The element, positioned after the end of the element's object.
+     * @throws IOException If the element is malformed.
+     */
+    private static Entry indexElement(JsonParser parser, Section section) throws IOException {
+        int offset = (int) parser.getTokenLocation().getByteOffset();
+        // The identity fields as Java would concatenate them, with "null" for missing ones
+        String type = null;
+        String start = null;
+        String end = null;
+        String name = null;
+        String field = null;
+        long hash = FNV_OFFSET;
+        int depth = 0;
+        JsonToken token = parser.currentToken();
+        while (true) {
+            hash = mix(hash, token.ordinal());
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> depth++;
+                case END_OBJECT, END_ARRAY -> depth--;
+                case FIELD_NAME -> {
+                    String fieldName = parser.getCurrentName();
+                    hash = mix(hash, fieldName);
+                    if (depth == 1) {
+                        field = fieldName;
+                    }
+                }
+                default -> {
+                    String text = parser.getText();
+                    hash = mix(hash, text);
+                    if (depth == 1 && field != null) {
+                        switch (field) {
+                            case "type" -> type = text;
+                            case "startElementName" -> start = text;
+                            case "endElementName" -> end = text;
+                            case "name" -> name = text;
+                            default -> {
+                            }
+                        }
+                    }
+                }
+            }
+            if (depth == 0) {
+                break;
+            }
+            token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("Unexpected end of class diagram file");
+            }
+        }
+        int length = (int) parser.getCurrentLocation().getByteOffset() - offset;
+        return section == Section.RELATIONSHIPS
+                ? new Entry(type + "|" + start + "|" + end + "|" + name, List.of(String.valueOf(start),
+                        String.valueOf(end)), offset, length, hash)
+                : new Entry(String.valueOf(name), List.of(), offset, length, hash);
+    }
+
+    /**
+     * Adds an element to the index of its section; repeated identities are numbered, so that no element is lost.
+     *
+     * @param section The section.
+     * @param entry   The element.
+     */
+    private void add(Section section, Entry entry) {
+        Map<String, Entry> sectionEntries = entries.get(section);
+        String key = entry.key();
+        for (int occurrence = 2; sectionEntries.containsKey(key); occurrence++) {
+            key = entry.key() + "#" + occurrence;
+        }
+        sectionEntries.put(key, key.equals(entry.key()) ? entry
+                : new Entry(key, entry.endpoints(), entry.offset(), entry.length(), entry.hash()));
+    }
+
+    /**
+     * Mixes a number into a hash.
+     *
+     * @param hash  The hash.
+     * @param value The number.
+     * @return The new hash.
+     */
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    /**
+     * Mixes a text into a hash, followed by a separator.
+     *
+     * @param hash The hash.
+     * @param text The text.
+     * @return The new hash.
+     */
+    private static long mix(long hash, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash, 0x10000);
+    }
+}
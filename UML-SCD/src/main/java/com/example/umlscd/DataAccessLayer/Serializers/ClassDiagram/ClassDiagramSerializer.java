@@ -1,12 +1,15 @@
 package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
 
 import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramManager;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
 import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
 import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
 import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
 import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import javafx.application.Platform;
 import java.io.File;
 import java.io.IOException;
@@ -25,6 +28,7 @@ import java.util.List;
  * <p>Key functionalities include:</p>
  * <ul>
  *     <li>Serializing the {@code ClassDiagramD} object to a JSON file.</li>
+ *     <li>Optionally compressing the JSON output, and detecting compressed files on load.</li>
  *     <li>Deserializing a JSON file back into a {@code ClassDiagramD} object.</li>
  *     <li>Restoring the diagram in the UI based on the deserialized data.</li>
  *     <li>Ensuring thread safety by performing UI updates on the JavaFX application thread.</li>
@@ -38,21 +42,35 @@ import java.util.List;
 public class ClassDiagramSerializer {
 
     /**
-     * The {@code ObjectMapper} instance from the Jackson library used for JSON processing.
-     *
-     * <p>This mapper is configured to produce indented (pretty-printed) JSON output for better readability.</p>
+     * The shared reader for class diagrams, obtained from the {@code JsonMapperRegistry}.
+     */
+    private final ObjectReader reader;
+
+    /**
+     * The shared writer producing indented (pretty-printed) JSON output for better readability.
      */
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter prettyWriter;
 
     /**
-     * Constructs a {@code ClassDiagramSerializer} with a configured {@code ObjectMapper}.
+     * The shared writer producing compact JSON output, used for compressed files.
+     */
+    private final ObjectWriter compactWriter;
+
+    /**
+     * The codec used to write and read compressed diagram files.
+     */
+    private final BlockDeflateCodec codec = new BlockDeflateCodec();
+
+    /**
+     * Constructs a {@code ClassDiagramSerializer} using the pre-configured readers and writers of the
+     * {@code JsonMapperRegistry}.
      *
-     * <p>The {@code ObjectMapper} is set to enable {@code SerializationFeature.INDENT_OUTPUT} to produce
-     * nicely formatted JSON output.</p>
+     * <p>The pretty-printing writer produces nicely formatted JSON output.</p>
      */
     public ClassDiagramSerializer() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.reader = JsonMapperRegistry.reader(ClassDiagramD.class);
+        this.prettyWriter = JsonMapperRegistry.prettyWriter(ClassDiagramD.class);
+        this.compactWriter = JsonMapperRegistry.writer(ClassDiagramD.class);
     }
 
     /**
@@ -66,22 +84,38 @@ public class ClassDiagramSerializer {
      * @throws IOException If an I/O error occurs during serialization.
      */
     public void serialize(ClassDiagramD diagram, File file) throws IOException {
-        objectMapper.writeValue(file, diagram);
+        prettyWriter.writeValue(file, diagram);
+    }
+
+    /**
+     * Serializes the {@code ClassDiagramD} object to a compressed JSON file.
+     *
+     * <p>The JSON is written without indentation and compressed block-wise by the {@code BlockDeflateCodec}.
+     * Compressed files are recognized automatically by {@link #deserialize(File)}.</p>
+     *
+     * @param diagram The {@code ClassDiagramD} instance to serialize.
+     * @param file    The {@code File} object representing the destination file.
+     * @throws IOException If an I/O error occurs during serialization or compression.
+     */
+    public void serializeCompressed(ClassDiagramD diagram, File file) throws IOException {
+        codec.write(compactWriter.writeValueAsBytes(diagram), file);
     }
 
     /**
      * Deserializes a JSON file into a {@code ClassDiagramD} object.
      *
      * <p>This method reads the JSON content from the specified file and converts it back into a
-     * {@code ClassDiagramD} instance. It throws an {@code IOException} if an I/O error occurs during
-     * the process.</p>
+     * {@code ClassDiagramD} instance. Both plain and compressed files are accepted. It throws an
+     * {@code IOException} if an I/O error occurs during the process.</p>
      *
      * @param file The {@code File} object representing the source JSON file.
      * @return The deserialized {@code ClassDiagramD} instance.
      * @throws IOException If an I/O error occurs during deserialization.
      */
     public ClassDiagramD deserialize(File file) throws IOException {
-        ClassDiagramD diagram = objectMapper.readValue(file, ClassDiagramD.class);
+        ClassDiagramD diagram = BlockDeflateCodec.isCompressed(file)
+                ? reader.readValue(codec.readAllBytes(file))
+                : reader.readValue(file);
         System.out.println("Deserialized diagram: ");
         System.out.println("Classes: " + diagram.getClasses());
         System.out.println("Interfaces: " + diagram.getInterfaces());
@@ -89,6 +123,20 @@ public class ClassDiagramSerializer {
         return diagram;
     }
 
+    /**
+     * Deserializes the content of a diagram file that has already been read into memory.
+     *
+     * <p>Both plain and compressed content are accepted. This variant suits callers that also need the raw bytes,
+     * for example to hash them, and does not log the loaded elements.</p>
+     *
+     * @param data The content of a plain or compressed class diagram file.
+     * @return The deserialized {@code ClassDiagramD} instance.
+     * @throws IOException If the content is not a valid class diagram.
+     */
+    public ClassDiagramD deserialize(byte[] data) throws IOException {
+        return reader.readValue(BlockDeflateCodec.isCompressed(data) ? codec.decompress(data) : data);
+    }
+
     /**
      * Restores the diagram in the UI based on the deserialized data.
      *
@@ -134,6 +182,7 @@ public class ClassDiagramSerializer {
                     umlClass.getAttributes(),
                     umlClass.getMethods()
             );
+            restorePackage(manager, umlClass);
         }
 
         // Debugging: Print the classBoxMap contents
@@ -157,12 +206,26 @@ public class ClassDiagramSerializer {
         for (UMLInterfaceBox umlInterface : interfaceBoxesCopy) {
             System.out.println("Restoring interface: " + umlInterface.getName());
             manager.reCreateInterfaceBox(umlInterface.getName(), umlInterface.getX(), umlInterface.getY(), umlInterface.getMethods());
+            restorePackage(manager, umlInterface);
         }
 
         // Debugging: Print the classBoxMap contents
         System.out.println("classBoxMap after restoring interfaces: " + manager.getClassBoxMap().keySet());
     }
 
+    /**
+     * Copies the package of a saved element to the element recreated from it.
+     *
+     * @param manager The {@code ClassDiagramManager} holding the recreated element.
+     * @param saved   The saved class or interface.
+     */
+    private void restorePackage(ClassDiagramManager manager, UMLElementBoxInterface saved) {
+        UMLElementBoxInterface restored = manager.getClassBoxMap().get(saved.getName());
+        if (restored != null) {
+            restored.setPackageName(saved.getPackageName());
+        }
+    }
+
     /**
      * Restores the UML relationships in the UI based on the provided list.
      *
@@ -0,0 +1,220 @@
+package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
+
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramJsonIndex.Entry;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramJsonIndex.Section;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * <h1>Class Diagram Stream Writer</h1>
+ *
+ * <p>The {@code ClassDiagramStreamWriter} class writes a class diagram file element by element, so that a diagram
+ * assembled from other files never has to exist as a whole in memory. Elements are either copied from a
+ * {@link ClassDiagramJsonIndex} or written from model objects, section by section. The result has the same layout as
+ * a file saved by the {@link ClassDiagramSerializer}.</p>
+ *
+ * <p>Plain files are written to a temporary file that replaces the target when the diagram is committed, so the
+ * target may be one of the files being read, and closing the writer without committing leaves the target untouched.
+ * Files with the compressed extension are compressed when the diagram is committed.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Writing the sections of a class diagram in order.</li>
+ *     <li>Copying indexed elements and writing model objects.</li>
+ *     <li>Replacing the target file only once the diagram is complete.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class ClassDiagramStreamWriter implements Closeable {
+
+    /**
+     * The writer of model objects; it does not flush the output after every element.
+     */
+    private static final ObjectWriter ELEMENT_WRITER = JsonMapperRegistry.mapper().writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    /**
+     * The file being written.
+     */
+    private final File target;
+
+    /**
+     * The temporary file receiving plain JSON, or {@code null} for compressed output.
+     */
+    private final Path temp;
+
+    /**
+     * The buffer receiving JSON to be compressed, or {@code null} for plain output.
+     */
+    private final ByteArrayOutputStream buffer;
+
+    /**
+     * The generator writing the JSON.
+     */
+    private final JsonGenerator generator;
+
+    /**
+     * The section being written, or {@code null} before the first one.
+     */
+    private Section section;
+
+    /**
+     * Whether the diagram was committed or discarded.
+     */
+    private boolean closed;
+
+    /**
+     * Starts writing a class diagram file.
+     *
+     * @param target The file to write; plain JSON, or compressed if it has the compressed extension.
+     * @throws IOException If the file cannot be created.
+     */
+    public ClassDiagramStreamWriter(File target) throws IOException {
+        this.target = target;
+        OutputStream out;
+        if (BlockDeflateCodec.hasCompressedExtension(target)) {
+            temp = null;
+            buffer = new ByteArrayOutputStream();
+            out = buffer;
+        } else {
+            Path path = target.toPath().toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            buffer = null;
+            out = Files.newOutputStream(temp);
+        }
+        generator = JsonMapperRegistry.mapper().getFactory().createGenerator(out);
+        if (buffer == null) {
+            generator.useDefaultPrettyPrinter();
+        }
+        generator.writeStartObject();
+    }
+
+    /**
+     * Starts a section; the sections that were skipped are written empty.
+     *
+     * @param next The section, which must come after the current one.
+     * @throws IOException If the JSON cannot be written.
+     * @throws IllegalStateException If the section was already written.
+     */
+    public void startSection(Section next) throws IOException {
+        if (section != null && next.ordinal() <= section.ordinal()) {
+            throw new IllegalStateException("Section " + next + " must be written before " + section);
+        }
+        int from = section == null ? 0 : section.ordinal() + 1;
+        if (section != null) {
+            generator.writeEndArray();
+        }
+        for (Section skipped : Section.values()) {
+            if (skipped.ordinal() >= from && skipped.ordinal() < next.ordinal()) {
+                generator.writeArrayFieldStart(skipped.getProperty());
+                generator.writeEndArray();
+            }
+        }
+        generator.writeArrayFieldStart(next.getProperty());
+        section = next;
+    }
+
+    /**
+     * Copies an indexed element into the current section.
+     *
+     * @param index The index holding the element.
+     * @param entry The element.
+     * @throws IOException If the element cannot be copied.
+     */
+    public void copy(ClassDiagramJsonIndex index, Entry entry) throws IOException {
+        requireSection();
+        index.copy(entry, generator);
+    }
+
+    /**
+     * Writes a model object into the current section.
+     *
+     * @param element The class, interface or relationship.
+     * @throws IOException If the element cannot be written.
+     */
+    public void write(Object element) throws IOException {
+        requireSection();
+        ELEMENT_WRITER.writeValue(generator, element);
+    }
+
+    /**
+     * Completes the diagram and replaces the target file with it.
+     *
+     * @throws IOException If the file cannot be written.
+     * @throws IllegalStateException If the writer was already closed.
+     */
+    public void commit() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer already closed");
+        }
+        try {
+            if (section != Section.RELATIONSHIPS) {
+                startSection(Section.RELATIONSHIPS);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.close();
+            if (buffer != null) {
+                new BlockDeflateCodec().write(buffer.toByteArray(), target);
+            } else {
+                Path destination = target.toPath().toAbsolutePath();
+                try {
+                    Files.move(temp, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, destination, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Discards the diagram unless it was committed; the target file is left untouched.
+     *
+     * @throws IOException If the temporary file cannot be deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            generator.close();
+        } finally {
+            if (temp != null) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Checks that a section was started.
+     *
+     * @throws IllegalStateException If no section was started.
+     */
+    private void requireSection() {
+        if (section == null) {
+            throw new IllegalStateException("No section started");
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.example.umlscd.DataAccessLayer.Serializers.Compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * <h1>Block Deflate Codec</h1>
+ *
+ * <p>The {@code BlockDeflateCodec} compresses serialized diagrams for storage on slow drives. The input is split into
+ * fixed-size blocks that are deflated independently of each other, which allows all blocks of a file to be compressed
+ * and inflated in parallel on a thread pool. Compressed files start with a magic number, so that the serializers can
+ * detect them on load and accept both plain and compressed files transparently.</p>
+ *
+ * <p>A compressed file has the following layout (all integers big-endian):</p>
+ * <pre>
+ * "UMLZ" | version (1 byte) | block size (int) | block count (int)
+ * for each block: raw length (int) | CRC-32 of raw bytes (int) | compressed length (int) | deflated bytes
+ * </pre>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Compressing and inflating byte arrays block by block in parallel.</li>
+ *     <li>Verifying each inflated block against its checksum.</li>
+ *     <li>Writing compressed files atomically and reading plain or compressed files transparently.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class BlockDeflateCodec {
+
+    /**
+     * The file extension used for compressed diagram files.
+     */
+    public static final String FILE_EXTENSION = ".jsonz";
+
+    /**
+     * The magic number at the start of every compressed file.
+     */
+    private static final byte[] MAGIC = {'U', 'M', 'L', 'Z'};
+
+    /**
+     * The version of the compressed file layout.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The default size of an uncompressed block in bytes.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+
+    /**
+     * The largest size of inflated content, bounded by the largest array the VM can allocate.
+     */
+    public static final long MAX_INFLATED_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The length of a block header: raw length, checksum and compressed length.
+     */
+    private static final int BLOCK_HEADER_LENGTH = 12;
+
+    /**
+     * Shared pool of daemon threads used by codecs that are not given an executor.
+     */
+    private static final ExecutorService SHARED_POOL = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "block-deflate");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The size of an uncompressed block in bytes.
+     */
+    private final int blockSize;
+
+    /**
+     * The deflate compression level (0-9).
+     */
+    private final int level;
+
+    /**
+     * The executor on which blocks are compressed and inflated.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a codec with the default block size and compression level, running on the shared thread pool.
+     */
+    public BlockDeflateCodec() {
+        this(DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION, SHARED_POOL);
+    }
+
+    /**
+     * Constructs a codec with the specified settings.
+     *
+     * @param blockSize The size of an uncompressed block in bytes.
+     * @param level     The deflate compression level (0-9), or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @param executor  The executor on which blocks are processed.
+     */
+    public BlockDeflateCodec(int blockSize, int level, ExecutorService executor) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.level = level;
+        this.executor = executor;
+    }
+
+    /**
+     * Checks whether a file name carries the compressed diagram extension.
+     *
+     * @param file The file to check.
+     * @return {@code true} if the file name ends with {@link #FILE_EXTENSION}; {@code false} otherwise.
+     */
+    public static boolean hasCompressedExtension(File file) {
+        return file.getName().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Checks whether the specified bytes start with the compressed file magic number.
+     *
+     * @param data The bytes to check.
+     * @return {@code true} if the bytes are in the compressed format; {@code false} otherwise.
+     */
+    public static boolean isCompressed(byte[] data) {
+        return data.length >= MAGIC.length && Arrays.equals(data, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    /**
+     * Checks whether the specified file is in the compressed format, regardless of its name.
+     *
+     * @param file The file to check.
+     * @return {@code true} if the file starts with the magic number; {@code false} otherwise.
+     * @throws IOException If the file cannot be read.
+     */
+    public static boolean isCompressed(File file) throws IOException {
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            return isCompressed(in.readNBytes(MAGIC.length));
+        }
+    }
+
+    /**
+     * Compresses the specified bytes, deflating all blocks in parallel.
+     *
+     * @param data The uncompressed bytes.
+     * @return The compressed representation, including the header.
+     * @throws IOException If a block cannot be compressed.
+     */
+    public byte[] compress(byte[] data) throws IOException {
+        List<Future<byte[]>> blocks = new ArrayList<>();
+        for (int offset = 0; offset < data.length; offset += blockSize) {
+            int start = offset;
+            int length = Math.min(blockSize, data.length - offset);
+            blocks.add(executor.submit(() -> deflateBlock(data, start, length)));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(blockSize);
+            out.writeInt(blocks.size());
+            for (int i = 0; i < blocks.size(); i++) {
+                int length = Math.min(blockSize, data.length - i * blockSize);
+                CRC32 crc = new CRC32();
+                crc.update(data, i * blockSize, length);
+                byte[] deflated = await(blocks.get(i));
+                out.writeInt(length);
+                out.writeInt((int) crc.getValue());
+                out.writeInt(deflated.length);
+                out.write(deflated);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores the bytes compressed by {@link #compress(byte[])}, inflating all blocks in parallel.
+     *
+     * @param compressed The compressed representation, including the header.
+     * @return The original bytes.
+     * @throws IOException If the data is not in the compressed format, is truncated or fails its checksum.
+     */
+    public byte[] decompress(byte[] compressed) throws IOException {
+        return decompress(compressed, MAX_INFLATED_SIZE);
+    }
+
+    /**
+     * Restores the bytes compressed by {@link #compress(byte[])}, refusing content that would inflate beyond a limit.
+     *
+     * <p>The header fields are untrusted: all block headers are read and checked against the remaining input, the
+     * block size and the limit before any memory is allocated for the inflated content or any block is inflated.</p>
+     *
+     * @param compressed The compressed representation, including the header.
+     * @param maxSize    The largest accepted size of the inflated content in bytes.
+     * @return The original bytes.
+     * @throws IOException If the data is not in the compressed format, is truncated, fails its checksum or would
+     *                     inflate beyond {@code maxSize}.
+     */
+    public byte[] decompress(byte[] compressed, long maxSize) throws IOException {
+        if (!isCompressed(compressed)) {
+            throw new IOException("Not a compressed diagram file");
+        }
+        ByteArrayInputStream bytes = new ByteArrayInputStream(compressed, MAGIC.length,
+                compressed.length - MAGIC.length);
+        DataInputStream in = new DataInputStream(bytes);
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported compressed diagram version: " + version);
+        }
+        int writerBlockSize = in.readInt();
+        int count = in.readInt();
+        if (writerBlockSize <= 0 || count < 0 || count > bytes.available() / BLOCK_HEADER_LENGTH) {
+            throw new IOException("Damaged compressed diagram header");
+        }
+
+        // Read and check every block header before allocating or inflating anything
+        int[] rawLengths = new int[count];
+        int[] checksums = new int[count];
+        int[] offsets = new int[count];
+        int[] deflatedLengths = new int[count];
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            rawLengths[i] = in.readInt();
+            checksums[i] = in.readInt();
+            deflatedLengths[i] = in.readInt();
+            if (rawLengths[i] < 0 || rawLengths[i] > writerBlockSize || deflatedLengths[i] < 0
+                    || deflatedLengths[i] > bytes.available()) {
+                throw new IOException("Damaged compressed block header " + i);
+            }
+            offsets[i] = compressed.length - bytes.available();
+            in.skipNBytes(deflatedLengths[i]);
+            total += rawLengths[i];
+            if (total > Math.min(maxSize, MAX_INFLATED_SIZE)) {
+                throw new IOException("Compressed diagram is too large");
+            }
+        }
+
+        List<Future<byte[]>> blocks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = offsets[i];
+            int deflatedLength = deflatedLengths[i];
+            int rawLength = rawLengths[i];
+            blocks.add(executor.submit(() -> inflateBlock(compressed, offset, deflatedLength, rawLength)));
+        }
+        byte[] data = new byte[(int) total];
+        int offset = 0;
+        try {
+            for (int i = 0; i < count; i++) {
+                byte[] block = await(blocks.get(i));
+                CRC32 crc = new CRC32();
+                crc.update(block);
+                if ((int) crc.getValue() != checksums[i]) {
+                    throw new IOException("Checksum mismatch in block " + i);
+                }
+                System.arraycopy(block, 0, data, offset, block.length);
+                offset += block.length;
+            }
+        } finally {
+            // Blocks still pending after a failure are not needed anymore
+            blocks.forEach(block -> block.cancel(true));
+        }
+        return data;
+    }
+
+    /**
+     * Compresses the specified bytes and writes them to a file through a temporary file and an atomic move.
+     *
+     * @param data The uncompressed bytes.
+     * @param file The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(byte[] data, File file) throws IOException {
+        byte[] compressed = compress(data);
+        Path target = file.toPath().toAbsolutePath();
+        Path parent = target.getParent() != null ? target.getParent() : Path.of(".");
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, compressed);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a file, inflating its content if it is in the compressed format.
+     *
+     * @param file The file to read.
+     * @return The uncompressed content of the file.
+     * @throws IOException If the file cannot be read or its compressed content is damaged.
+     */
+    public byte[] readAllBytes(File file) throws IOException {
+        byte[] data = Files.readAllBytes(file.toPath());
+        return isCompressed(data) ? decompress(data) : data;
+    }
+
+    /**
+     * Deflates one block. Each block uses its own {@code Deflater}, so blocks can be processed concurrently.
+     *
+     * @param data   The uncompressed bytes.
+     * @param offset The start of the block.
+     * @param length The length of the block.
+     * @return The deflated block.
+     */
+    private byte[] deflateBlock(byte[] data, int offset, int length) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(data, offset, length);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Inflates one block.
+     *
+     * @param compressed The compressed representation holding the block.
+     * @param offset     The start of the deflated block.
+     * @param length     The length of the deflated block.
+     * @param rawLength  The expected length of the inflated block.
+     * @return The inflated block.
+     * @throws IOException If the block is damaged.
+     */
+    private static byte[] inflateBlock(byte[] compressed, int offset, int length, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed, offset, length);
+            byte[] block = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(block, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new IOException("Truncated compressed block");
+            }
+            return block;
+        } catch (DataFormatException e) {
+            throw new IOException("Damaged compressed block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Waits for a block task and unwraps its failure.
+     *
+     * @param future The pending block.
+     * @return The processed block.
+     * @throws IOException If the task failed or the thread was interrupted.
+     */
+    private static byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing compressed blocks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to process compressed block", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.umlscd.DataAccessLayer.Serializers.Json;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <h1>JSON Mapper Registry</h1>
+ *
+ * <p>The {@code JsonMapperRegistry} is the single place where the application's Jackson configuration lives. All
+ * serializers obtain their {@code ObjectReader} and {@code ObjectWriter} instances from it instead of creating their own
+ * {@code ObjectMapper}s. Readers and writers are immutable and thread-safe, so one instance per model type is built,
+ * cached and shared; building them eagerly resolves the (de)serializers of the root type, which is why the registered
+ * model types are warmed up when the registry is first used rather than on the first save or load.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Providing the shared {@code ObjectMapper} for tree-model operations.</li>
+ *     <li>Providing a canonical mapper whose output is byte-for-byte reproducible, for content hashing.</li>
+ *     <li>Caching compact and pretty-printing writers and readers per model type.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class JsonMapperRegistry {
+
+    /**
+     * The shared mapper with the application's default settings.
+     */
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * Mapper producing compact output with properties and map entries in a fixed order, so that equal values always
+     * serialize to equal bytes.
+     */
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    /**
+     * Cached readers, keyed by model type.
+     */
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    /**
+     * Cached compact writers, keyed by model type.
+     */
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    /**
+     * Cached pretty-printing writers, keyed by model type.
+     */
+    private static final ConcurrentMap<Class<?>, ObjectWriter> PRETTY_WRITERS = new ConcurrentHashMap<>();
+
+    /**
+     * The model types persisted by the application, warmed up when the registry is initialized.
+     */
+    private static final List<Class<?>> MODEL_TYPES = List.of(
+            ClassDiagramD.class, UMLClassBox.class, UMLInterfaceBox.class, UMLRelationship.class,
+            UseCaseDiagramManager.class);
+
+    static {
+        for (Class<?> type : MODEL_TYPES) {
+            reader(type);
+            writer(type);
+            prettyWriter(type);
+        }
+    }
+
+    /**
+     * Prevents instantiation; the registry only has static members.
+     */
+    private JsonMapperRegistry() {}
+
+    /**
+     * Retrieves the shared mapper, for tree-model operations that readers and writers do not cover.
+     *
+     * <p>The mapper must not be reconfigured by callers.</p>
+     *
+     * @return The shared {@code ObjectMapper}.
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Retrieves the canonical mapper, whose output is suitable for content hashing.
+     *
+     * <p>The mapper must not be reconfigured by callers.</p>
+     *
+     * @return The canonical {@code ObjectMapper}.
+     */
+    public static ObjectMapper canonicalMapper() {
+        return CANONICAL_MAPPER;
+    }
+
+    /**
+     * Retrieves the reader for a model type.
+     *
+     * @param type The model type to read.
+     * @return The cached {@code ObjectReader} for the type.
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    /**
+     * Retrieves the compact writer for a model type.
+     *
+     * @param type The model type to write.
+     * @return The cached {@code ObjectWriter} for the type.
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+
+    /**
+     * Retrieves the pretty-printing writer for a model type, used for human-readable diagram files.
+     *
+     * @param type The model type to write.
+     * @return The cached pretty-printing {@code ObjectWriter} for the type.
+     */
+    public static ObjectWriter prettyWriter(Class<?> type) {
+        return PRETTY_WRITERS.computeIfAbsent(type, key -> MAPPER.writerFor(key).withDefaultPrettyPrinter());
+    }
+}
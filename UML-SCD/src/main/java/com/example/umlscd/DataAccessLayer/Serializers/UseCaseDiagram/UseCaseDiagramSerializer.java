@@ -1,7 +1,10 @@
 package com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram;
 
 import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import java.io.File;
 import java.io.IOException;
@@ -16,7 +19,8 @@ import java.io.IOException;
  *
  * <p>By utilizing JSON serialization, this class ensures that the state of a use case diagram, including its
  * objects and associations, can be persisted and retrieved efficiently. The class supports pretty printing to
- * enhance the readability of the generated JSON files.</p>
+ * enhance the readability of the generated JSON files, and an optional compressed variant for storage on slow
+ * drives; compressed files are detected automatically when loading.</p>
  *
  * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
  *
@@ -26,11 +30,26 @@ import java.io.IOException;
 public class UseCaseDiagramSerializer {
 
     /**
-     * The {@code ObjectMapper} instance used for JSON serialization and deserialization.
+     * The shared reader for use case diagrams, obtained from the {@code JsonMapperRegistry}.
      *
-     * <p>This object is thread-safe after configuration and can be used to perform multiple operations.</p>
+     * <p>Readers are immutable and thread-safe, so a single instance serves all load operations.</p>
      */
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectReader reader = JsonMapperRegistry.reader(UseCaseDiagramManager.class);
+
+    /**
+     * The shared pretty-printing writer, built once instead of on every save.
+     */
+    private static final ObjectWriter prettyWriter = JsonMapperRegistry.prettyWriter(UseCaseDiagramManager.class);
+
+    /**
+     * The shared compact writer, used for compressed files.
+     */
+    private static final ObjectWriter compactWriter = JsonMapperRegistry.writer(UseCaseDiagramManager.class);
+
+    /**
+     * The codec used to write and read compressed diagram files.
+     */
+    private static final BlockDeflateCodec codec = new BlockDeflateCodec();
 
     /**
      * Saves the provided {@code UseCaseDiagramManager} instance to a JSON file at the specified file path.
@@ -51,7 +70,21 @@ public class UseCaseDiagramSerializer {
      */
     public static void saveDiagram(UseCaseDiagramManager diagramManager, String filePath) throws IOException {
         // Use pretty print to format the JSON output
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filePath), diagramManager);
+        prettyWriter.writeValue(new File(filePath), diagramManager);
+    }
+
+    /**
+     * Saves the provided {@code UseCaseDiagramManager} instance to a compressed JSON file at the specified file path.
+     *
+     * <p>The JSON is written without pretty printing and compressed block-wise by the {@code BlockDeflateCodec}.
+     * The resulting file can be read back with {@link #loadDiagram(String)}.</p>
+     *
+     * @param diagramManager The {@code UseCaseDiagramManager} instance to be serialized and saved.
+     * @param filePath       The file path where the compressed diagram will be saved.
+     * @throws IOException If an I/O error occurs during serialization or compression.
+     */
+    public static void saveDiagramCompressed(UseCaseDiagramManager diagramManager, String filePath) throws IOException {
+        codec.write(compactWriter.writeValueAsBytes(diagramManager), new File(filePath));
     }
 
     /**
@@ -59,7 +92,8 @@ public class UseCaseDiagramSerializer {
      *
      * <p>This method reads the JSON file, deserializes its content, and reconstructs the {@code UseCaseDiagramManager}
      * object, including all its contained objects and associations. It ensures that the diagram's state is accurately
-     * restored from the JSON representation.</p>
+     * restored from the JSON representation. Files written by {@link #saveDiagramCompressed} are recognized and
+     * inflated transparently.</p>
      *
      * <p><b>Example Usage:</b></p>
      * <pre>
@@ -75,6 +109,24 @@ public class UseCaseDiagramSerializer {
      */
     public static UseCaseDiagramManager loadDiagram(String filePath) throws IOException {
         // Deserialize the JSON file back into the UseCaseDiagramManager object
-        return objectMapper.readValue(new File(filePath), UseCaseDiagramManager.class);
+        File file = new File(filePath);
+        if (BlockDeflateCodec.isCompressed(file)) {
+            return reader.readValue(codec.readAllBytes(file));
+        }
+        return reader.readValue(file);
+    }
+
+    /**
+     * Loads a {@code UseCaseDiagramManager} from the content of a diagram file that has already been read into
+     * memory.
+     *
+     * <p>Both plain and compressed content are accepted.</p>
+     *
+     * @param data The content of a plain or compressed use case diagram file.
+     * @return The reconstructed {@code UseCaseDiagramManager} instance.
+     * @throws IOException If the content is not a valid use case diagram.
+     */
+    public static UseCaseDiagramManager loadDiagram(byte[] data) throws IOException {
+        return reader.readValue(BlockDeflateCodec.isCompressed(data) ? codec.decompress(data) : data);
     }
 }
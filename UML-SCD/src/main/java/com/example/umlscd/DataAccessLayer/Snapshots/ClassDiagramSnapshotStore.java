@@ -0,0 +1,398 @@
+package com.example.umlscd.DataAccessLayer.Snapshots;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * <h1>Class Diagram Snapshot Store</h1>
+ *
+ * <p>The {@code ClassDiagramSnapshotStore} keeps the version history of class diagrams in a local, content-addressed
+ * directory. Every class, interface and relationship record is written in a canonical JSON form and stored once under
+ * the SHA-256 hash of its bytes; a version is a small {@code SnapshotManifest} listing the hashes of its records.
+ * Taking a snapshot therefore only writes the records that no earlier version contains, and many versions of the same
+ * diagram cost little more disk space than one.</p>
+ *
+ * <p>The store is laid out as follows:</p>
+ * <pre>
+ * root/objects/3f/a91c...   one canonical JSON record per file, named by its hash
+ * root/versions/&lt;id&gt;.json  one manifest per version
+ * </pre>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Committing a diagram as a new version, skipping records that are already stored.</li>
+ *     <li>Checking out any version, with recently read records served from memory for fast switching.</li>
+ *     <li>Listing the versions of a diagram in creation order.</li>
+ *     <li>Deleting versions and collecting records that no version references anymore.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class ClassDiagramSnapshotStore {
+
+    /**
+     * The default location of the snapshot store in the user's home directory.
+     */
+    public static final Path DEFAULT_ROOT = Path.of(System.getProperty("user.home"), ".uml-scd", "snapshots");
+
+    /**
+     * The number of records kept in the in-memory cache by default.
+     */
+    private static final int DEFAULT_CACHE_SIZE = 4096;
+
+    /**
+     * Accepted format of version identifiers, which also keeps identifiers from escaping the versions directory.
+     */
+    private static final Pattern VERSION_ID = Pattern.compile("[0-9]+-[0-9a-f]+");
+
+    /**
+     * The directory holding the content-addressed records.
+     */
+    private final Path objectsDir;
+
+    /**
+     * The directory holding the version manifests.
+     */
+    private final Path versionsDir;
+
+    /**
+     * Mapper producing the canonical record encoding, so that equal records always hash to the same value.
+     */
+    private final ObjectMapper canonicalMapper = JsonMapperRegistry.canonicalMapper();
+
+    /**
+     * Least recently used cache of record bytes, keyed by hash. Records are immutable, so the cache never needs
+     * to be invalidated.
+     */
+    private final Map<String, byte[]> objectCache;
+
+    /**
+     * Constructs a store rooted at the specified directory with the default cache size.
+     *
+     * @param root The directory of the store; it is created on the first commit.
+     */
+    public ClassDiagramSnapshotStore(Path root) {
+        this(root, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a store rooted at the specified directory.
+     *
+     * @param root      The directory of the store; it is created on the first commit.
+     * @param cacheSize The maximum number of records kept in memory.
+     */
+    public ClassDiagramSnapshotStore(Path root, int cacheSize) {
+        this.objectsDir = root.resolve("objects");
+        this.versionsDir = root.resolve("versions");
+        this.objectCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Stores the current state of a diagram as a new version.
+     *
+     * <p>Only records not yet present in the store are written. If the content is identical to the latest version
+     * of the same diagram, that version is returned and nothing is written.</p>
+     *
+     * @param diagram     The diagram to store.
+     * @param diagramName The name under which the versions of the diagram are grouped.
+     * @param label       A short description of the version; may be {@code null}.
+     * @return The manifest of the stored (or reused) version.
+     * @throws IOException If the store cannot be written.
+     */
+    public synchronized SnapshotManifest commit(ClassDiagramD diagram, String diagramName, String label) throws IOException {
+        Files.createDirectories(objectsDir);
+        Files.createDirectories(versionsDir);
+
+        SnapshotManifest manifest = new SnapshotManifest();
+        manifest.setDiagramName(diagramName);
+        manifest.setLabel(label);
+        for (UMLClassBox umlClass : diagram.getClasses()) {
+            manifest.getClasses().add(putObject(umlClass));
+        }
+        for (UMLInterfaceBox umlInterface : diagram.getInterfaces()) {
+            manifest.getInterfaces().add(putObject(umlInterface));
+        }
+        for (UMLRelationship relationship : diagram.getRelationships()) {
+            manifest.getRelationships().add(putObject(relationship));
+        }
+
+        List<SnapshotManifest> history = listVersions(diagramName);
+        SnapshotManifest latest = history.isEmpty() ? null : history.get(history.size() - 1);
+        if (manifest.hasSameContent(latest)) {
+            return latest;
+        }
+
+        manifest.setParentId(latest != null ? latest.getId() : null);
+        manifest.setCreatedAt(System.currentTimeMillis());
+        String contentHash = hash(canonicalMapper.writeValueAsBytes(manifest));
+        manifest.setId(String.format("%013d-%s", manifest.getCreatedAt(), contentHash.substring(0, 12)));
+        writeAtomically(versionsDir.resolve(manifest.getId() + ".json"), canonicalMapper.writeValueAsBytes(manifest));
+        return manifest;
+    }
+
+    /**
+     * Rebuilds the diagram stored as the specified version.
+     *
+     * @param versionId The identifier of the version.
+     * @return A new {@code ClassDiagramD} holding fresh copies of the version's records.
+     * @throws IOException If the version or one of its records cannot be read.
+     */
+    public ClassDiagramD checkout(String versionId) throws IOException {
+        SnapshotManifest manifest = readManifest(versionId);
+        ClassDiagramD diagram = new ClassDiagramD();
+        for (String hash : manifest.getClasses()) {
+            diagram.getClasses().add(canonicalMapper.readValue(getObject(hash), UMLClassBox.class));
+        }
+        for (String hash : manifest.getInterfaces()) {
+            diagram.getInterfaces().add(canonicalMapper.readValue(getObject(hash), UMLInterfaceBox.class));
+        }
+        for (String hash : manifest.getRelationships()) {
+            diagram.getRelationships().add(canonicalMapper.readValue(getObject(hash), UMLRelationship.class));
+        }
+        return diagram;
+    }
+
+    /**
+     * Reads the manifest of a version.
+     *
+     * @param versionId The identifier of the version.
+     * @return The manifest of the version.
+     * @throws IOException If the identifier is malformed or the version does not exist.
+     */
+    public SnapshotManifest readManifest(String versionId) throws IOException {
+        return canonicalMapper.readValue(Files.readAllBytes(versionPath(versionId)), SnapshotManifest.class);
+    }
+
+    /**
+     * Lists the stored versions of a diagram, oldest first.
+     *
+     * @param diagramName The name of the diagram, or {@code null} to list the versions of all diagrams.
+     * @return The manifests of the matching versions in creation order.
+     * @throws IOException If the versions directory cannot be read.
+     */
+    public List<SnapshotManifest> listVersions(String diagramName) throws IOException {
+        List<SnapshotManifest> versions = new ArrayList<>();
+        if (!Files.isDirectory(versionsDir)) {
+            return versions;
+        }
+        try (Stream<Path> files = Files.list(versionsDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!file.getFileName().toString().endsWith(".json")) {
+                    continue;
+                }
+                SnapshotManifest manifest = canonicalMapper.readValue(Files.readAllBytes(file), SnapshotManifest.class);
+                if (diagramName == null || diagramName.equals(manifest.getDiagramName())) {
+                    versions.add(manifest);
+                }
+            }
+        }
+        versions.sort(Comparator.comparingLong(SnapshotManifest::getCreatedAt).thenComparing(SnapshotManifest::getId));
+        return versions;
+    }
+
+    /**
+     * Deletes a version. Its records stay in the store until {@link #collectGarbage()} is run.
+     *
+     * @param versionId The identifier of the version.
+     * @return {@code true} if the version existed; {@code false} otherwise.
+     * @throws IOException If the manifest cannot be deleted.
+     */
+    public synchronized boolean deleteVersion(String versionId) throws IOException {
+        return Files.deleteIfExists(versionPath(versionId));
+    }
+
+    /**
+     * Removes every record that is not referenced by any remaining version.
+     *
+     * @return The number of records removed.
+     * @throws IOException If the store cannot be read or a record cannot be deleted.
+     */
+    public synchronized int collectGarbage() throws IOException {
+        if (!Files.isDirectory(objectsDir)) {
+            return 0;
+        }
+        Set<String> live = new HashSet<>();
+        for (SnapshotManifest manifest : listVersions(null)) {
+            live.addAll(manifest.getClasses());
+            live.addAll(manifest.getInterfaces());
+            live.addAll(manifest.getRelationships());
+        }
+
+        int removed = 0;
+        for (String hash : listObjects()) {
+            if (!live.contains(hash)) {
+                Files.deleteIfExists(objectPath(hash));
+                objectCache.remove(hash);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Counts the records currently held in the store.
+     *
+     * @return The number of distinct records.
+     * @throws IOException If the objects directory cannot be read.
+     */
+    public int countObjects() throws IOException {
+        return Files.isDirectory(objectsDir) ? listObjects().size() : 0;
+    }
+
+    /**
+     * Stores a record unless a record with the same content is already present.
+     *
+     * @param record The class, interface or relationship to store.
+     * @return The hash of the record.
+     * @throws IOException If the record cannot be written.
+     */
+    private String putObject(Object record) throws IOException {
+        byte[] bytes = canonicalMapper.writeValueAsBytes(record);
+        String hash = hash(bytes);
+        synchronized (objectCache) {
+            if (objectCache.containsKey(hash)) {
+                return hash;
+            }
+        }
+        Path path = objectPath(hash);
+        if (!Files.exists(path)) {
+            Files.createDirectories(path.getParent());
+            writeAtomically(path, bytes);
+        }
+        synchronized (objectCache) {
+            objectCache.put(hash, bytes);
+        }
+        return hash;
+    }
+
+    /**
+     * Reads a record, from memory when it has been used recently.
+     *
+     * @param hash The hash of the record.
+     * @return The canonical JSON bytes of the record.
+     * @throws IOException If the record is missing or its content does not match its hash.
+     */
+    private byte[] getObject(String hash) throws IOException {
+        synchronized (objectCache) {
+            byte[] cached = objectCache.get(hash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        byte[] bytes = Files.readAllBytes(objectPath(hash));
+        if (!hash.equals(hash(bytes))) {
+            throw new IOException("Corrupt snapshot record: " + hash);
+        }
+        synchronized (objectCache) {
+            objectCache.put(hash, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Lists the hashes of all stored records.
+     *
+     * @return The record hashes.
+     * @throws IOException If the objects directory cannot be read.
+     */
+    private List<String> listObjects() throws IOException {
+        List<String> hashes = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(objectsDir, 2)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+                    .forEach(file -> hashes.add(file.getParent().getFileName().toString() + file.getFileName()));
+        }
+        return hashes;
+    }
+
+    /**
+     * Resolves the file of a record; the first two hex digits of the hash form a fan-out directory.
+     *
+     * @param hash The hash of the record.
+     * @return The path of the record file.
+     */
+    private Path objectPath(String hash) {
+        return objectsDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2));
+    }
+
+    /**
+     * Resolves the manifest file of a version after validating its identifier.
+     *
+     * @param versionId The identifier of the version.
+     * @return The path of the manifest file.
+     * @throws IOException If the identifier is malformed.
+     */
+    private Path versionPath(String versionId) throws IOException {
+        if (versionId == null || !VERSION_ID.matcher(versionId).matches()) {
+            throw new IOException("Invalid snapshot version: " + versionId);
+        }
+        return versionsDir.resolve(versionId + ".json");
+    }
+
+    /**
+     * Writes a file through a temporary sibling and an atomic move, so that readers never see partial content.
+     *
+     * @param target The file to write.
+     * @param bytes  The content of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Another writer stored the same content first
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Computes the hex encoded SHA-256 hash of the specified bytes.
+     *
+     * @param bytes The bytes to hash.
+     * @return The lowercase hex digest.
+     */
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.umlscd.DataAccessLayer.Snapshots;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * <h1>Snapshot Manifest</h1>
+ *
+ * <p>The {@code SnapshotManifest} class describes one stored version of a class diagram. It does not contain the
+ * diagram itself; instead it lists the content hashes of the class, interface and relationship records that make up
+ * the version. The records are kept once in the object area of the {@code ClassDiagramSnapshotStore}, so two versions
+ * that share most of their records share most of their storage.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Identifying a version and the diagram it belongs to.</li>
+ *     <li>Recording a user supplied label, the creation time and the previous version of the same diagram.</li>
+ *     <li>Listing the record hashes of the classes, interfaces and relationships in diagram order.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class SnapshotManifest {
+
+    /**
+     * The identifier of the version, unique within the store.
+     */
+    @JsonProperty("id")
+    private String id;
+
+    /**
+     * The name of the diagram this version belongs to.
+     */
+    @JsonProperty("diagram")
+    private String diagramName;
+
+    /**
+     * A short description of the version supplied by the user.
+     */
+    @JsonProperty("label")
+    private String label;
+
+    /**
+     * The creation time of the version in milliseconds since the epoch.
+     */
+    @JsonProperty("createdAt")
+    private long createdAt;
+
+    /**
+     * The identifier of the previous version of the same diagram, or {@code null} for the first version.
+     */
+    @JsonProperty("parent")
+    private String parentId;
+
+    /**
+     * The record hashes of the classes in this version.
+     */
+    @JsonProperty("classes")
+    private List<String> classes = new ArrayList<>();
+
+    /**
+     * The record hashes of the interfaces in this version.
+     */
+    @JsonProperty("interfaces")
+    private List<String> interfaces = new ArrayList<>();
+
+    /**
+     * The record hashes of the relationships in this version.
+     */
+    @JsonProperty("relationships")
+    private List<String> relationships = new ArrayList<>();
+
+    /**
+     * Default constructor for Jackson deserialization.
+     */
+    public SnapshotManifest() {}
+
+    /**
+     * Retrieves the identifier of the version.
+     *
+     * @return The version identifier.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the identifier of the version.
+     *
+     * @param id The version identifier.
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the name of the diagram this version belongs to.
+     *
+     * @return The diagram name.
+     */
+    public String getDiagramName() {
+        return diagramName;
+    }
+
+    /**
+     * Sets the name of the diagram this version belongs to.
+     *
+     * @param diagramName The diagram name.
+     */
+    public void setDiagramName(String diagramName) {
+        this.diagramName = diagramName;
+    }
+
+    /**
+     * Retrieves the label of the version.
+     *
+     * @return The user supplied label.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Sets the label of the version.
+     *
+     * @param label The user supplied label.
+     */
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Retrieves the creation time of the version.
+     *
+     * @return The creation time in milliseconds since the epoch.
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets the creation time of the version.
+     *
+     * @param createdAt The creation time in milliseconds since the epoch.
+     */
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Retrieves the identifier of the previous version of the same diagram.
+     *
+     * @return The parent version identifier, or {@code null} for the first version.
+     */
+    public String getParentId() {
+        return parentId;
+    }
+
+    /**
+     * Sets the identifier of the previous version of the same diagram.
+     *
+     * @param parentId The parent version identifier.
+     */
+    public void setParentId(String parentId) {
+        this.parentId = parentId;
+    }
+
+    /**
+     * Retrieves the record hashes of the classes in this version.
+     *
+     * @return The class record hashes.
+     */
+    public List<String> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Retrieves the record hashes of the interfaces in this version.
+     *
+     * @return The interface record hashes.
+     */
+    public List<String> getInterfaces() {
+        return interfaces;
+    }
+
+    /**
+     * Retrieves the record hashes of the relationships in this version.
+     *
+     * @return The relationship record hashes.
+     */
+    public List<String> getRelationships() {
+        return relationships;
+    }
+
+    /**
+     * Checks whether this version references exactly the same records as another version.
+     *
+     * @param other The version to compare with.
+     * @return {@code true} if both versions describe the same diagram content; {@code false} otherwise.
+     */
+    public boolean hasSameContent(SnapshotManifest other) {
+        return other != null
+                && classes.equals(other.classes)
+                && interfaces.equals(other.interfaces)
+                && relationships.equals(other.relationships);
+    }
+
+    /**
+     * Provides a readable description of the version, as shown in the snapshot history.
+     *
+     * @return The label followed by the creation time.
+     */
+    @Override
+    public String toString() {
+        String time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(createdAt));
+        return (label == null || label.isBlank() ? id : label) + " (" + time + ")";
+    }
+}
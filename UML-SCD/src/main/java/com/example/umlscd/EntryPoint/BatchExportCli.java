@@ -0,0 +1,411 @@
+package com.example.umlscd.EntryPoint;
+
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramFileReader;
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramPainter;
+import com.example.umlscd.DataAccessLayer.Rendering.ExportManifest;
+import com.example.umlscd.DataAccessLayer.Rendering.HeadlessDiagramRenderer;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * <h1>Batch Export Command-Line Interface</h1>
+ *
+ * <p>The {@code BatchExportCli} class is a second entry point, next to {@link Main}, that exports a whole directory
+ * of diagram files without starting the user interface. It finds every class and use case diagram below an input
+ * directory, loads it with the {@code ClassDiagramSerializer} or {@code UseCaseDiagramSerializer}, and renders it with
+ * the {@code HeadlessDiagramRenderer} into the same relative location below an output directory.</p>
+ *
+ * <p>Diagrams are exported concurrently on a bounded pool of worker threads: when all workers are busy and the queue
+ * is full, the thread walking the directory renders the next diagram itself, so memory use stays flat for any
+ * number of inputs. An {@code ExportManifest} in the output directory records the content hash of every exported
+ * input, and inputs whose content, options and outputs are unchanged are skipped.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>
+ * java -cp ... com.example.umlscd.EntryPoint.BatchExportCli &lt;input-dir&gt; &lt;output-dir&gt;
+ *      [--format png,svg] [--scale 1] [--threads N] [--force]
+ * </pre>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Finding plain and compressed diagram files recursively.</li>
+ *     <li>Recognising class and use case diagrams from their content.</li>
+ *     <li>Rendering each diagram to PNG, JPEG, SVG and PDF files in parallel.</li>
+ *     <li>Skipping unchanged inputs based on their content hash.</li>
+ *     <li>Reporting a summary and returning a non-zero exit code on failures.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class BatchExportCli {
+
+    /**
+     * The usage message printed for invalid arguments.
+     */
+    static final String USAGE = "Usage: BatchExportCli <input-dir> <output-dir> [--format png,svg] [--scale 1] "
+            + "[--threads N] [--force]";
+
+    /**
+     * The directory searched for diagram files.
+     */
+    private final Path inputDir;
+
+    /**
+     * The directory receiving the exported images.
+     */
+    private final Path outputDir;
+
+    /**
+     * The image formats to export, as file extensions without the dot.
+     */
+    private final List<String> formats;
+
+    /**
+     * The scale factor of raster images and PDF documents.
+     */
+    private final double scale;
+
+    /**
+     * The number of worker threads.
+     */
+    private final int threads;
+
+    /**
+     * Whether unchanged inputs are exported again.
+     */
+    private final boolean force;
+
+    /**
+     * The renderer shared by all workers.
+     */
+    private final HeadlessDiagramRenderer renderer = new HeadlessDiagramRenderer();
+
+    /**
+     * The reader loading class and use case diagrams.
+     */
+    private final DiagramFileReader reader = new DiagramFileReader();
+
+    /**
+     * Constructs a batch export.
+     *
+     * @param inputDir  The directory searched for diagram files.
+     * @param outputDir The directory receiving the exported images.
+     * @param formats   The image formats to export: {@code png}, {@code jpg}, {@code svg} or {@code pdf}.
+     * @param scale     The scale factor of raster images and PDF documents.
+     * @param threads   The number of worker threads.
+     * @param force     {@code true} to export unchanged inputs again.
+     */
+    public BatchExportCli(Path inputDir, Path outputDir, List<String> formats, double scale, int threads,
+                          boolean force) {
+        if (formats.isEmpty()) {
+            throw new IllegalArgumentException("At least one format is required");
+        }
+        for (String format : formats) {
+            if (!List.of("png", "jpg", "jpeg", "svg", "pdf").contains(format)) {
+                throw new IllegalArgumentException("Unsupported format: " + format);
+            }
+        }
+        if (scale <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Scale and thread count must be positive");
+        }
+        this.inputDir = inputDir.toAbsolutePath().normalize();
+        this.outputDir = outputDir.toAbsolutePath().normalize();
+        this.formats = List.copyOf(formats);
+        this.scale = scale;
+        this.threads = threads;
+        this.force = force;
+    }
+
+    /**
+     * Runs the batch export from the command line and exits with its status.
+     *
+     * @param args The command-line arguments; see {@link #USAGE}.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Parses the arguments and runs the batch export.
+     *
+     * @param args The command-line arguments.
+     * @param out  The stream receiving the summary.
+     * @param err  The stream receiving errors.
+     * @return {@code 0} if every diagram was exported or skipped, {@code 1} if some failed and {@code 2} for invalid
+     * arguments.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        BatchExportCli cli;
+        try {
+            cli = parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+
+        try {
+            long start = System.nanoTime();
+            Summary summary = cli.export();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            out.printf("Exported %d diagrams, skipped %d unchanged, %d failed in %d ms%n",
+                    summary.getExported(), summary.getSkipped(), summary.getFailed(), millis);
+            summary.getFailures().forEach(err::println);
+            return summary.getFailed() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            err.println("Batch export failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Parses the command-line arguments.
+     *
+     * @param args The command-line arguments.
+     * @return The configured batch export.
+     * @throws IllegalArgumentException If the arguments are invalid.
+     */
+    static BatchExportCli parse(String[] args) {
+        List<String> positional = new ArrayList<>();
+        List<String> formats = List.of("png");
+        double scale = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean force = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--format" -> formats = Arrays.stream(value(args, ++i).split(","))
+                        .map(String::trim).map(String::toLowerCase).filter(f -> !f.isEmpty()).toList();
+                case "--scale" -> scale = number(value(args, ++i));
+                case "--threads" -> threads = (int) number(value(args, ++i));
+                case "--force" -> force = true;
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    positional.add(args[i]);
+                }
+            }
+        }
+        if (positional.size() != 2) {
+            throw new IllegalArgumentException("Expected an input and an output directory");
+        }
+        Path inputDir = Path.of(positional.get(0));
+        if (!Files.isDirectory(inputDir)) {
+            throw new IllegalArgumentException("Not a directory: " + inputDir);
+        }
+        return new BatchExportCli(inputDir, Path.of(positional.get(1)), formats, scale, threads, force);
+    }
+
+    /**
+     * Retrieves the value following an option.
+     *
+     * @param args  The command-line arguments.
+     * @param index The index of the value.
+     * @return The value.
+     * @throws IllegalArgumentException If the option has no value.
+     */
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    /**
+     * Parses a numeric option value.
+     *
+     * @param value The value.
+     * @return The parsed number.
+     * @throws IllegalArgumentException If the value is not a number.
+     */
+    private static double number(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+    }
+
+    /**
+     * Exports every diagram below the input directory.
+     *
+     * <p>The manifest is saved when the export finishes, including the entries of diagrams exported before a
+     * failure.</p>
+     *
+     * @return The number of exported, skipped and failed diagrams.
+     * @throws IOException If the directories cannot be walked or the manifest cannot be read or saved.
+     */
+    public Summary export() throws IOException {
+        Files.createDirectories(outputDir);
+        ExportManifest manifest = new ExportManifest(outputDir.resolve(ExportManifest.FILE_NAME));
+        Summary summary = new Summary();
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "batch-export");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        try (Stream<Path> files = Files.walk(inputDir)) {
+            files.filter(this::isDiagramFile)
+                    .forEach(file -> pool.execute(() -> exportFile(file, manifest, summary)));
+        } finally {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+            } catch (InterruptedException e) {
+                pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            manifest.save();
+        }
+        return summary;
+    }
+
+    /**
+     * Checks whether a path is a diagram file to export.
+     *
+     * <p>Hidden files and files inside the output directory are ignored, so the output may be placed below the
+     * input directory.</p>
+     *
+     * @param path The path to check.
+     * @return {@code true} for plain and compressed JSON files.
+     */
+    private boolean isDiagramFile(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        return Files.isRegularFile(path)
+                && !name.startsWith(".")
+                && !path.toAbsolutePath().normalize().startsWith(outputDir)
+                && (name.endsWith(".json") || name.endsWith(BlockDeflateCodec.FILE_EXTENSION));
+    }
+
+    /**
+     * Exports one diagram file to every requested format, unless it is unchanged since the last export.
+     *
+     * @param file     The diagram file.
+     * @param manifest The manifest of previous exports.
+     * @param summary  The summary receiving the outcome.
+     */
+    private void exportFile(Path file, ExportManifest manifest, Summary summary) {
+        String input = inputDir.relativize(file.toAbsolutePath().normalize()).toString()
+                .replace(File.separatorChar, '/');
+        try {
+            byte[] content = Files.readAllBytes(file);
+            String fingerprint = ExportManifest.fingerprint(content, String.join(",", formats) + "@" + scale);
+            List<File> outputs = outputsFor(input);
+            if (!force && manifest.isUpToDate(input, fingerprint, outputs)) {
+                summary.skipped.incrementAndGet();
+                return;
+            }
+
+            DiagramPainter painter = reader.read(content);
+            for (File output : outputs) {
+                Files.createDirectories(output.toPath().getParent());
+                renderer.export(painter, scale, output);
+            }
+            manifest.record(input, fingerprint);
+            summary.exported.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            manifest.forget(input);
+            summary.failed.incrementAndGet();
+            summary.failures.add(input + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Determines the output files of an input.
+     *
+     * @param input The relative path of the input.
+     * @return One file per requested format, at the input's relative location below the output directory.
+     */
+    private List<File> outputsFor(String input) {
+        int dot = input.lastIndexOf('.');
+        String base = dot > input.lastIndexOf('/') ? input.substring(0, dot) : input;
+        List<File> outputs = new ArrayList<>(formats.size());
+        for (String format : formats) {
+            outputs.add(outputDir.resolve(base + "." + format).toFile());
+        }
+        return outputs;
+    }
+
+    /**
+     * The outcome of a batch export.
+     */
+    public static final class Summary {
+
+        /**
+         * The number of exported diagrams.
+         */
+        private final AtomicInteger exported = new AtomicInteger();
+
+        /**
+         * The number of diagrams skipped because they were unchanged.
+         */
+        private final AtomicInteger skipped = new AtomicInteger();
+
+        /**
+         * The number of diagrams that could not be exported.
+         */
+        private final AtomicInteger failed = new AtomicInteger();
+
+        /**
+         * A description of each failure.
+         */
+        private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Retrieves the number of exported diagrams.
+         *
+         * @return The number of exported diagrams.
+         */
+        public int getExported() {
+            return exported.get();
+        }
+
+        /**
+         * Retrieves the number of diagrams skipped because they were unchanged.
+         *
+         * @return The number of skipped diagrams.
+         */
+        public int getSkipped() {
+            return skipped.get();
+        }
+
+        /**
+         * Retrieves the number of diagrams that could not be exported.
+         *
+         * @return The number of failed diagrams.
+         */
+        public int getFailed() {
+            return failed.get();
+        }
+
+        /**
+         * Retrieves a description of each failure.
+         *
+         * @return The failures, each naming the input and the error.
+         */
+        public List<String> getFailures() {
+            return List.copyOf(failures);
+        }
+    }
+}
@@ -0,0 +1,692 @@
+package com.example.umlscd.EntryPoint;
+
+import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramDiff;
+import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramLayout;
+import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramMerger;
+import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramValidator;
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff;
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramDiff;
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramLayout;
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramValidator;
+import com.example.umlscd.DataAccessLayer.Codegeneration.ClassDiagramCodeGenerator;
+import com.example.umlscd.DataAccessLayer.Codegeneration.TargetLanguage;
+import com.example.umlscd.DataAccessLayer.Codegeneration.TemplateCodeGenerator;
+import com.example.umlscd.DataAccessLayer.RenderServer.DiagramRenderServer;
+import com.example.umlscd.DataAccessLayer.RenderServer.RenderBatcher;
+import com.example.umlscd.DataAccessLayer.RenderServer.RenderCache;
+import com.example.umlscd.DataAccessLayer.Rendering.ClassDiagramPainter;
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramFileReader;
+import com.example.umlscd.DataAccessLayer.Rendering.HeadlessDiagramRenderer;
+import com.example.umlscd.DataAccessLayer.Rendering.UseCaseDiagramPainter;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramCrdtSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramDeltaSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram.UseCaseDiagramSerializer;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramCrdt;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * <h1>Diagram Command-Line Interface</h1>
+ *
+ * <p>The {@code DiagramCli} class is an entry point, next to {@link Main} and {@link BatchExportCli}, that processes
+ * single class and use case diagram files from scripts and continuous integration jobs. It is built on the business
+ * and data access layers only and never starts the JavaFX toolkit, so it runs without a display and starts
+ * quickly.</p>
+ *
+ * <p>Every command reads plain, compressed and, for class diagrams, incrementally saved files, recognising the kind
+ * of diagram from the content. Results are printed one line per file, errors go to the error stream, and the exit
+ * code is {@code 0} on success, {@code 1} if a diagram is invalid or a file cannot be processed, and {@code 2} for
+ * invalid arguments. Like the Unix {@code diff} tool, the {@code diff} command also exits with {@code 1} if the two
+ * versions differ.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>
+ * java -cp ... com.example.umlscd.EntryPoint.DiagramCli &lt;command&gt; ...
+ *   load &lt;file&gt;...                         print the kind and size of diagrams
+ *   validate &lt;file&gt;...                     check diagrams for inconsistencies
+ *   convert &lt;input&gt; &lt;output&gt;              convert between JSON and the compressed format
+ *   diff &lt;before&gt; &lt;after&gt;                 list the structural changes between two versions
+ *   layout &lt;input&gt; &lt;output&gt;               arrange the elements automatically
+ *   export &lt;input&gt; &lt;output&gt; [--scale 1]   render to PNG, JPEG, SVG or PDF
+ *   codegen &lt;input&gt; &lt;output-dir&gt; [--package p] [--language java,kotlin,typescript,cpp]
+ *   serve [--host localhost] [--port 8080] [--cache-mb 64]   run the HTTP rendering service
+ *   crdt-merge &lt;ours&gt; &lt;theirs&gt; &lt;output&gt;   merge two offline copies of a class diagram
+ *   merge &lt;base&gt; &lt;ours&gt; &lt;theirs&gt; [&lt;output&gt;]   three-way merge of class diagrams into ours or output
+ * </pre>
+ *
+ * <p>The {@code merge} command exits with {@code 1} if there were conflicts, which it resolves in favour of "ours",
+ * so it can serve as a git merge driver for class diagram files:</p>
+ * <pre>
+ * # .git/config
+ * [merge "umlscd"]
+ *     name = UML class diagram merge
+ *     driver = java -cp ... com.example.umlscd.EntryPoint.DiagramCli merge %O %A %B
+ * # .gitattributes
+ * diagrams/*.json merge=umlscd
+ * </pre>
+ *
+ * <p>Most of the startup time is spent loading and linking classes of Jackson and the model. When the tool is run
+ * often, for example once per file in a build, launching it from the application JAR with
+ * {@code -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=diagram-cli.jsa -XX:TieredStopAtLevel=1} keeps the loaded
+ * classes in a shared archive after the first run and brings the startup below half a second.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Loading, validating and comparing class and use case diagrams.</li>
+ *     <li>Converting diagrams between plain JSON and the compressed format.</li>
+ *     <li>Laying out, exporting and generating code from diagrams.</li>
+ *     <li>Running the {@link DiagramRenderServer} that renders diagrams over HTTP.</li>
+ *     <li>Merging offline copies of a class diagram through their CRDT sidecars.</li>
+ *     <li>Merging branches of a class diagram as a version control merge driver.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public class DiagramCli {
+
+    /**
+     * The usage message printed for invalid arguments.
+     */
+    static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: DiagramCli <command> ...",
+            "  load <file>...                         print the kind and size of diagrams",
+            "  validate <file>...                     check diagrams for inconsistencies",
+            "  convert <input> <output>               convert between JSON and " + BlockDeflateCodec.FILE_EXTENSION
+                    + " files",
+            "  diff <before> <after>                  list the structural changes between two versions",
+            "  layout <input> <output>                arrange the elements automatically",
+            "  export <input> <output> [--scale 1]    render to .png, .jpg, .svg or .pdf",
+            "  codegen <input> <output-dir> [--package p] [--language java,kotlin,typescript,cpp]",
+            "  serve [--host localhost] [--port 8080] [--cache-mb 64]   run the HTTP rendering service",
+            "  crdt-merge <ours> <theirs> <output>    merge two offline copies of a class diagram",
+            "  merge <base> <ours> <theirs> [<output>]   three-way merge of class diagrams into ours or output");
+
+    /**
+     * The serializer reading and writing class diagrams.
+     */
+    private final ClassDiagramSerializer classDiagramSerializer = new ClassDiagramSerializer();
+
+    /**
+     * The codec decompressing compressed diagram files.
+     */
+    private final BlockDeflateCodec codec = new BlockDeflateCodec();
+
+    /**
+     * The serializer reading and writing the CRDT sidecars of class diagrams.
+     */
+    private final ClassDiagramCrdtSerializer crdtSerializer = new ClassDiagramCrdtSerializer();
+
+    /**
+     * The stream receiving the results.
+     */
+    private final PrintStream out;
+
+    /**
+     * The stream receiving errors.
+     */
+    private final PrintStream err;
+
+    /**
+     * Constructs a command-line interface writing to the given streams.
+     *
+     * @param out The stream receiving the results.
+     * @param err The stream receiving errors.
+     */
+    DiagramCli(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs a command from the command line and exits with its status.
+     *
+     * @param args The command-line arguments; see {@link #USAGE}.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Parses the arguments and runs the command.
+     *
+     * @param args The command-line arguments.
+     * @param out  The stream receiving the results.
+     * @param err  The stream receiving errors.
+     * @return {@code 0} on success, {@code 1} if a diagram is invalid or cannot be processed and {@code 2} for invalid
+     * arguments.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        DiagramCli cli = new DiagramCli(out, err);
+        try {
+            if (args.length == 0) {
+                throw new IllegalArgumentException("Missing command");
+            }
+            Options options = Options.parse(Arrays.copyOfRange(args, 1, args.length));
+            return switch (args[0]) {
+                case "load" -> cli.forEachFile(options.files(1, Integer.MAX_VALUE), cli::load);
+                case "validate" -> cli.forEachFile(options.files(1, Integer.MAX_VALUE), cli::validate);
+                case "convert" -> cli.convert(options.files(2, 2));
+                case "diff" -> cli.diff(options.files(2, 2));
+                case "layout" -> cli.layout(options.files(2, 2));
+                case "export" -> cli.export(options.files(2, 2), options.scale);
+                case "codegen" -> cli.codegen(options.files(2, 2), options.packageName, options.languages);
+                case "serve" -> cli.serve(options.files(0, 0), options);
+                case "crdt-merge" -> cli.crdtMerge(options.files(3, 3));
+                case "merge" -> cli.merge(options.files(3, 4));
+                default -> throw new IllegalArgumentException("Unknown command: " + args[0]);
+            };
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+    }
+
+    /**
+     * A command processing one file.
+     */
+    @FunctionalInterface
+    private interface FileCommand {
+
+        /**
+         * Processes a file.
+         *
+         * @param file The file.
+         * @return {@code true} on success.
+         * @throws IOException If the file cannot be read.
+         */
+        boolean apply(File file) throws IOException;
+    }
+
+    /**
+     * Runs a command on several files, continuing after failures.
+     *
+     * @param files   The files.
+     * @param command The command.
+     * @return {@code 0} if the command succeeded for every file, otherwise {@code 1}.
+     */
+    private int forEachFile(List<File> files, FileCommand command) {
+        int status = 0;
+        for (File file : files) {
+            try {
+                if (!command.apply(file)) {
+                    status = 1;
+                }
+            } catch (IOException | RuntimeException e) {
+                err.println(file + ": " + e.getMessage());
+                status = 1;
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Runs a command on one file.
+     *
+     * @param command The command.
+     * @return {@code 0} on success, otherwise {@code 1}.
+     */
+    private int once(FileCommand command, File input) {
+        return forEachFile(List.of(input), command);
+    }
+
+    /**
+     * Prints the kind and size of a diagram.
+     *
+     * @param file The diagram file.
+     * @return {@code true}.
+     * @throws IOException If the file cannot be read.
+     */
+    private boolean load(File file) throws IOException {
+        Diagram diagram = read(file);
+        if (diagram.classDiagram() != null) {
+            ClassDiagramD d = diagram.classDiagram();
+            out.printf("%s: class diagram, %d classes, %d interfaces, %d relationships%n", file,
+                    d.getClasses().size(), d.getInterfaces().size(), d.getRelationships().size());
+        } else {
+            UseCaseDiagramManager d = diagram.useCaseDiagram();
+            long actors = d.getObjects().stream().filter(o -> "actor".equals(o.getType())).count();
+            out.printf("%s: use case diagram, %d actors, %d use cases, %d associations%n", file,
+                    actors, d.getObjects().size() - actors, d.getAssociations().size());
+        }
+        return true;
+    }
+
+    /**
+     * Checks a diagram and prints its problems.
+     *
+     * @param file The diagram file.
+     * @return {@code true} if the diagram has no problems.
+     * @throws IOException If the file cannot be read.
+     */
+    private boolean validate(File file) throws IOException {
+        Diagram diagram = read(file);
+        List<String> problems = diagram.classDiagram() != null
+                ? ClassDiagramValidator.validate(diagram.classDiagram())
+                : UseCaseDiagramValidator.validate(diagram.useCaseDiagram());
+        if (problems.isEmpty()) {
+            out.println(file + ": valid");
+            return true;
+        }
+        problems.forEach(problem -> out.println(file + ": " + problem));
+        return false;
+    }
+
+    /**
+     * Writes a diagram in the format selected by the extension of the output file.
+     *
+     * @param files The input and output files.
+     * @return The exit code.
+     */
+    private int convert(List<File> files) {
+        return once(input -> {
+            write(read(input), files.get(1));
+            out.println(input + " -> " + files.get(1));
+            return true;
+        }, files.get(0));
+    }
+
+    /**
+     * Prints the structural changes between two versions of a diagram, one per line.
+     *
+     * @param files The earlier and the later version.
+     * @return {@code 0} if the versions are structurally equal, otherwise {@code 1}.
+     */
+    private int diff(List<File> files) {
+        return once(before -> {
+            Diagram earlier = read(before);
+            Diagram later = read(files.get(1));
+            if ((earlier.classDiagram() == null) != (later.classDiagram() == null)) {
+                err.println(before + ", " + files.get(1) + ": cannot compare a class and a use case diagram");
+                return false;
+            }
+            DiagramDiff diff = earlier.classDiagram() != null
+                    ? ClassDiagramDiff.compare(earlier.classDiagram(), later.classDiagram())
+                    : UseCaseDiagramDiff.compare(earlier.useCaseDiagram(), later.useCaseDiagram());
+            diff.getChanges().forEach(out::println);
+            out.println(before + " -> " + files.get(1) + ": " + diff.summary());
+            return diff.isEmpty();
+        }, files.get(0));
+    }
+
+    /**
+     * Arranges the elements of a diagram and writes the result.
+     *
+     * @param files The input and output files.
+     * @return The exit code.
+     */
+    private int layout(List<File> files) {
+        return once(input -> {
+            Diagram diagram = read(input);
+            if (diagram.classDiagram() != null) {
+                ClassDiagramLayout.layOut(diagram.classDiagram());
+            } else {
+                UseCaseDiagramLayout.layOut(diagram.useCaseDiagram());
+            }
+            write(diagram, files.get(1));
+            out.println(input + " -> " + files.get(1));
+            return true;
+        }, files.get(0));
+    }
+
+    /**
+     * Renders a diagram to an image or document.
+     *
+     * @param files The input and output files.
+     * @param scale The scale factor of raster images and PDF documents.
+     * @return The exit code.
+     */
+    private int export(List<File> files, double scale) {
+        return once(input -> {
+            Diagram diagram = read(input);
+            new HeadlessDiagramRenderer().export(diagram.classDiagram() != null
+                    ? new ClassDiagramPainter(diagram.classDiagram())
+                    : new UseCaseDiagramPainter(diagram.useCaseDiagram()), scale, files.get(1));
+            out.println(input + " -> " + files.get(1));
+            return true;
+        }, files.get(0));
+    }
+
+    /**
+     * Generates source code from a class diagram. Without languages, one Java file per type is generated into a
+     * package directory, like the editor's source tree generation; otherwise every language gets its own directory.
+     *
+     * @param files       The input file and the output directory.
+     * @param packageName The package of the generated types.
+     * @param languages   The languages to generate, or an empty set for Java only.
+     * @return The exit code.
+     */
+    private int codegen(List<File> files, String packageName, Set<TargetLanguage> languages) {
+        return once(input -> {
+            ClassDiagramD diagram = read(input).classDiagram();
+            if (diagram == null) {
+                err.println(input + ": code can only be generated from class diagrams");
+                return false;
+            }
+            Path directory = files.get(1).toPath();
+            List<Path> generated = languages.isEmpty()
+                    ? new ClassDiagramCodeGenerator().generateSourceTree(diagram, directory, packageName)
+                    : new TemplateCodeGenerator().generate(diagram, directory, packageName, languages);
+            generated.forEach(out::println);
+            return true;
+        }, files.get(0));
+    }
+
+    /**
+     * Merges two copies of a class diagram through their CRDT sidecars and writes the result with its sidecar.
+     *
+     * <p>Changes made to a copy since its sidecar was last written, or the whole copy if it has no sidecar, are
+     * first recorded in its sidecar's representation. Only the changes of the second copy that the first has not
+     * seen are then merged, so the time depends on the number of changes rather than on the size of the
+     * diagram.</p>
+     *
+     * @param files The two copies and the output file.
+     * @return The exit code.
+     */
+    private int crdtMerge(List<File> files) {
+        return once(ours -> {
+            ClassDiagramCrdt merged = recordedCrdt(ours);
+            ClassDiagramCrdt theirs = recordedCrdt(files.get(1));
+            if (merged == null || theirs == null) {
+                return false;
+            }
+            int changes = merged.merge(theirs.delta(merged.getVersions()));
+            File output = files.get(2);
+            write(new Diagram(merged.toDiagram(), null), output);
+            crdtSerializer.save(merged, output);
+            out.println(ours + " + " + files.get(1) + " -> " + output + " (" + changes + " changes merged)");
+            return true;
+        }, files.get(0));
+    }
+
+    /**
+     * Merges two versions of a class diagram changed independently from a common ancestor, and prints the
+     * conflicts.
+     *
+     * @param files The common ancestor, "ours", "theirs" and optionally the output; by default "ours" is replaced.
+     * @return {@code 0} if the versions merged without conflicts, otherwise {@code 1}.
+     */
+    private int merge(List<File> files) {
+        File output = files.get(files.size() == 4 ? 3 : 1);
+        return once(base -> {
+            ClassDiagramMerger.Result result = ClassDiagramMerger.merge(base, files.get(1), files.get(2), output);
+            result.getConflicts().forEach(out::println);
+            out.println(files.get(1) + " + " + files.get(2) + " -> " + output + " (" + result.getMergedChanges()
+                    + " changes merged, " + result.getConflicts().size() + " conflicts)");
+            return !result.hasConflicts();
+        }, files.get(0));
+    }
+
+    /**
+     * Loads the CRDT sidecar of a class diagram and records the changes made to the diagram since it was written.
+     *
+     * @param file The class diagram file.
+     * @return The up-to-date representation, or {@code null} if the file is not a class diagram.
+     * @throws IOException If the diagram or its sidecar cannot be read.
+     */
+    private ClassDiagramCrdt recordedCrdt(File file) throws IOException {
+        ClassDiagramD diagram = read(file).classDiagram();
+        if (diagram == null) {
+            err.println(file + ": only class diagrams can be merged");
+            return null;
+        }
+        ClassDiagramCrdt crdt = crdtSerializer.load(file);
+        crdt.update(diagram, UUID.randomUUID().toString());
+        return crdt;
+    }
+
+    /**
+     * Runs the HTTP rendering service until the process is terminated.
+     *
+     * @param files   The file arguments, which must be empty.
+     * @param options The address and cache size of the service.
+     * @return The exit code, {@code 1} if the service cannot be started.
+     */
+    private int serve(List<File> files, Options options) {
+        DiagramRenderServer server;
+        try {
+            server = new DiagramRenderServer(new InetSocketAddress(options.host, options.port),
+                    new RenderBatcher(new RenderCache(options.cacheMegabytes * 1024 * 1024)));
+        } catch (IOException e) {
+            err.println("Cannot start the rendering service: " + e.getMessage());
+            return 1;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        out.println("Rendering diagrams on http://" + options.host + ":" + server.getPort()
+                + DiagramRenderServer.RENDER_PATH);
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+
+    /**
+     * Reads a diagram file of either kind.
+     *
+     * @param file The diagram file.
+     * @return The diagram.
+     * @throws IOException If the file cannot be read or is not a diagram.
+     */
+    private Diagram read(File file) throws IOException {
+        if (ClassDiagramDeltaSerializer.isDeltaFile(file)) {
+            return new Diagram(new ClassDiagramDeltaSerializer().load(file), null);
+        }
+        byte[] content = Files.readAllBytes(file.toPath());
+        byte[] json = BlockDeflateCodec.isCompressed(content) ? codec.decompress(content) : content;
+        return switch (DiagramFileReader.detect(json)) {
+            case CLASS -> new Diagram(classDiagramSerializer.deserialize(json), null);
+            case USE_CASE -> new Diagram(null, UseCaseDiagramSerializer.loadDiagram(json));
+        };
+    }
+
+    /**
+     * Writes a diagram, compressed if the file has the compressed diagram extension and as JSON otherwise.
+     *
+     * @param diagram The diagram.
+     * @param file    The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void write(Diagram diagram, File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        boolean compressed = BlockDeflateCodec.hasCompressedExtension(file);
+        if (diagram.classDiagram() != null) {
+            if (compressed) {
+                classDiagramSerializer.serializeCompressed(diagram.classDiagram(), file);
+            } else {
+                classDiagramSerializer.serialize(diagram.classDiagram(), file);
+            }
+        } else if (compressed) {
+            UseCaseDiagramSerializer.saveDiagramCompressed(diagram.useCaseDiagram(), file.getPath());
+        } else {
+            UseCaseDiagramSerializer.saveDiagram(diagram.useCaseDiagram(), file.getPath());
+        }
+    }
+
+    /**
+     * A loaded diagram of either kind.
+     *
+     * @param classDiagram   The class diagram, or {@code null} for a use case diagram.
+     * @param useCaseDiagram The use case diagram, or {@code null} for a class diagram.
+     */
+    private record Diagram(ClassDiagramD classDiagram, UseCaseDiagramManager useCaseDiagram) {
+    }
+
+    /**
+     * The parsed arguments following the command.
+     */
+    private static final class Options {
+
+        /**
+         * The arguments that are not options.
+         */
+        private final List<String> positional = new ArrayList<>();
+
+        /**
+         * The scale factor of exports.
+         */
+        private double scale = 1;
+
+        /**
+         * The package of generated code.
+         */
+        private String packageName = "";
+
+        /**
+         * The languages of generated code; empty for the default Java source tree.
+         */
+        private Set<TargetLanguage> languages = EnumSet.noneOf(TargetLanguage.class);
+
+        /**
+         * The host name the rendering service binds to.
+         */
+        private String host = "localhost";
+
+        /**
+         * The port of the rendering service.
+         */
+        private int port = 8080;
+
+        /**
+         * The size of the rendering service's result cache, in megabytes.
+         */
+        private long cacheMegabytes = 64;
+
+        /**
+         * Parses the arguments following the command.
+         *
+         * @param args The arguments.
+         * @return The options.
+         * @throws IllegalArgumentException If an option is unknown or has an invalid value.
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--scale" -> {
+                        options.scale = number(value(args, ++i));
+                        if (options.scale <= 0) {
+                            throw new IllegalArgumentException("Scale must be positive");
+                        }
+                    }
+                    case "--package" -> options.packageName = value(args, ++i);
+                    case "--host" -> options.host = value(args, ++i);
+                    case "--port" -> {
+                        double port = number(value(args, ++i));
+                        if (port != (int) port || port < 0 || port > 65535) {
+                            throw new IllegalArgumentException("Invalid port: " + args[i]);
+                        }
+                        options.port = (int) port;
+                    }
+                    case "--cache-mb" -> {
+                        double megabytes = number(value(args, ++i));
+                        if (megabytes != (long) megabytes || megabytes < 0) {
+                            throw new IllegalArgumentException("Invalid cache size: " + args[i]);
+                        }
+                        options.cacheMegabytes = (long) megabytes;
+                    }
+                    case "--language" -> {
+                        options.languages = EnumSet.noneOf(TargetLanguage.class);
+                        for (String name : value(args, ++i).split(",")) {
+                            options.languages.add(language(name.trim()));
+                        }
+                    }
+                    default -> {
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option: " + args[i]);
+                        }
+                        options.positional.add(args[i]);
+                    }
+                }
+            }
+            return options;
+        }
+
+        /**
+         * Retrieves the file arguments, checking their number.
+         *
+         * @param min The minimum number of files.
+         * @param max The maximum number of files.
+         * @return The files.
+         * @throws IllegalArgumentException If the number of files is wrong.
+         */
+        List<File> files(int min, int max) {
+            if (positional.size() < min || positional.size() > max) {
+                throw new IllegalArgumentException(min == max
+                        ? "Expected " + min + " file arguments"
+                        : "Expected at least " + min + " file argument");
+            }
+            return positional.stream().map(File::new).toList();
+        }
+
+        /**
+         * Retrieves the value following an option.
+         *
+         * @param args  The arguments.
+         * @param index The index of the value.
+         * @return The value.
+         * @throws IllegalArgumentException If the option has no value.
+         */
+        private static String value(String[] args, int index) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+            }
+            return args[index];
+        }
+
+        /**
+         * Parses a numeric option value.
+         *
+         * @param value The value.
+         * @return The parsed number.
+         * @throws IllegalArgumentException If the value is not a number.
+         */
+        private static double number(String value) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number: " + value);
+            }
+        }
+
+        /**
+         * Finds a target language by its directory name, such as {@code cpp}, or its constant name.
+         *
+         * @param name The name of the language.
+         * @return The language.
+         * @throws IllegalArgumentException If no language has the name.
+         */
+        private static TargetLanguage language(String name) {
+            for (TargetLanguage language : TargetLanguage.values()) {
+                if (language.getDirectory().equalsIgnoreCase(name) || language.name().equalsIgnoreCase(name)) {
+                    return language;
+                }
+            }
+            throw new IllegalArgumentException("Unknown language: " + name);
+        }
+    }
+}
@@ -0,0 +1,1050 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * <h1>Class Diagram CRDT</h1>
+ *
+ * <p>The {@code ClassDiagramCrdt} class is a conflict-free replicated representation of a class diagram. It is kept
+ * next to a saved diagram and records, for every element and relationship, which copy changed what and when, so
+ * that two copies of a diagram edited offline can be merged automatically instead of being reconciled by hand.</p>
+ *
+ * <p>Elements are kept in an observed-remove set keyed by a stable identifier, which survives renames. An element is
+ * present while it has an addition tag that no removal has observed. Every change renews the addition tag of the
+ * copy making it, so an element edited in one copy and removed in the other is kept (changes win). The name, the
+ * position and the content (kind, members and package) of an element are last-writer-wins registers. Relationships
+ * form a second observed-remove set, keyed by their type, name and the identifiers of their elements, with the
+ * multiplicities as a register.</p>
+ *
+ * <p>Every tag and register write carries a {@link Dot}: the identifier of the copy that made it and a Lamport clock
+ * value. A version vector records the newest dot seen from every copy, so {@link #delta(Map)} extracts the changes
+ * another copy has not seen yet, and {@link #merge(ClassDiagramCrdt)} applies them. Both take time linear to the
+ * number of changes, independent of the size of the diagram: an index of the entries changed by every dot, built on
+ * the first extraction and kept up to date afterwards, lets the extraction skip the entries that did not change.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Recording the changes between the representation and an edited diagram.</li>
+ *     <li>Extracting and merging the changes of another copy.</li>
+ *     <li>Producing the merged diagram.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+@JsonPropertyOrder({"clock", "versions", "elements", "relationships"})
+public class ClassDiagramCrdt {
+
+    /**
+     * The Lamport clock of the representation, the largest clock value of any dot it has seen.
+     */
+    @JsonProperty("clock")
+    private long clock;
+
+    /**
+     * The version vector: the largest clock value seen from every copy, keyed by copy identifier.
+     */
+    @JsonProperty("versions")
+    private Map<String, Long> versions = new TreeMap<>();
+
+    /**
+     * The elements, keyed by stable identifier, including removed ones.
+     */
+    @JsonProperty("elements")
+    private Map<String, ElementEntry> elements = new LinkedHashMap<>();
+
+    /**
+     * The relationships, keyed by type, element identifiers and name, including removed ones.
+     */
+    @JsonProperty("relationships")
+    private Map<String, RelationshipEntry> relationships = new LinkedHashMap<>();
+
+    /**
+     * The index of the entries changed by every dot, or {@code null} until the first delta is extracted.
+     */
+    @JsonIgnore
+    private ChangeIndex changeIndex;
+
+    /**
+     * The identifier of a change: the copy that made it and its Lamport clock value. Dots are ordered by clock and
+     * then by copy, which orders the concurrent writes of a register the same way in every copy.
+     */
+    public static final class Dot implements Comparable<Dot> {
+
+        /**
+         * The identifier of the copy that made the change.
+         */
+        private final String site;
+
+        /**
+         * The Lamport clock value of the change.
+         */
+        private final long clock;
+
+        /**
+         * Constructs a dot.
+         *
+         * @param site  The identifier of the copy that made the change; it must not contain {@code @}.
+         * @param clock The Lamport clock value of the change.
+         */
+        public Dot(String site, long clock) {
+            this.site = site;
+            this.clock = clock;
+        }
+
+        /**
+         * Parses a dot from its text form.
+         *
+         * @param text The text form, {@code clock@site}.
+         * @return The dot.
+         * @throws IllegalArgumentException If the text is not a dot.
+         */
+        @JsonCreator
+        public static Dot parse(String text) {
+            int separator = text.indexOf('@');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Not a dot: " + text);
+            }
+            return new Dot(text.substring(separator + 1), Long.parseLong(text.substring(0, separator)));
+        }
+
+        /**
+         * Retrieves the identifier of the copy that made the change.
+         *
+         * @return The copy identifier.
+         */
+        public String getSite() {
+            return site;
+        }
+
+        /**
+         * Retrieves the Lamport clock value of the change.
+         *
+         * @return The clock value.
+         */
+        public long getClock() {
+            return clock;
+        }
+
+        /**
+         * Checks whether the change has not been seen by a copy with the given version vector.
+         *
+         * @param since The version vector.
+         * @return {@code true} if the clock value is above the one recorded for the copy that made the change.
+         */
+        boolean isUnseenBy(Map<String, Long> since) {
+            return clock > since.getOrDefault(site, 0L);
+        }
+
+        /**
+         * Compares dots by clock value and then by copy identifier.
+         *
+         * @param other The other dot.
+         * @return A negative number, zero or a positive number as this dot is older, equal or newer.
+         */
+        @Override
+        public int compareTo(Dot other) {
+            int order = Long.compare(clock, other.clock);
+            return order != 0 ? order : site.compareTo(other.site);
+        }
+
+        /**
+         * Checks whether another object is the same dot.
+         *
+         * @param other The other object.
+         * @return {@code true} if it is a dot of the same copy and clock value.
+         */
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Dot dot && clock == dot.clock && site.equals(dot.site);
+        }
+
+        /**
+         * Computes the hash code of the dot.
+         *
+         * @return The hash code.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(site, clock);
+        }
+
+        /**
+         * Formats the dot as {@code clock@site}, which is also its JSON form.
+         *
+         * @return The text form.
+         */
+        @JsonValue
+        @Override
+        public String toString() {
+            return clock + "@" + site;
+        }
+    }
+
+    /**
+     * The tags of an observed-remove set entry: every addition tag, mapped to the dot of the removal that observed
+     * it, or to {@code null} while it is not removed.
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public abstract static class Entry {
+
+        /**
+         * The addition tags and the removals that observed them, keyed by the text form of the addition dot.
+         */
+        @JsonProperty("tags")
+        @JsonInclude(content = JsonInclude.Include.ALWAYS)
+        private Map<String, Dot> tags = new TreeMap<>();
+
+        /**
+         * Checks whether the entry is present, that is, has an addition tag no removal has observed.
+         *
+         * @return {@code true} if the entry is present.
+         */
+        @JsonIgnore
+        public boolean isLive() {
+            return tags.containsValue(null);
+        }
+
+        /**
+         * Adds an addition tag.
+         *
+         * @param dot The dot of the addition.
+         */
+        void add(Dot dot) {
+            tags.put(dot.toString(), null);
+        }
+
+        /**
+         * Replaces the present addition tags of the copy making a change by a new one, so that the change survives
+         * a concurrent removal that has not seen it.
+         *
+         * @param dot The dot of the change.
+         */
+        void renew(Dot dot) {
+            tags.replaceAll((tag, removal) -> removal == null && Dot.parse(tag).getSite().equals(dot.getSite())
+                    ? dot : removal);
+            add(dot);
+        }
+
+        /**
+         * Removes the entry by observing all of its addition tags.
+         *
+         * @param dot The dot of the removal.
+         */
+        void remove(Dot dot) {
+            tags.replaceAll((tag, removal) -> removal == null ? dot : removal);
+        }
+
+        /**
+         * Merges the tags of another copy of the entry.
+         *
+         * @param other The other copy.
+         * @return {@code true} if the tags changed.
+         */
+        boolean mergeTags(Entry other) {
+            boolean changed = false;
+            for (Map.Entry<String, Dot> tag : other.tags.entrySet()) {
+                Dot removal = tag.getValue();
+                if (!tags.containsKey(tag.getKey())) {
+                    tags.put(tag.getKey(), removal);
+                    changed = true;
+                } else {
+                    Dot current = tags.get(tag.getKey());
+                    if (removal != null && (current == null || removal.compareTo(current) > 0)) {
+                        tags.put(tag.getKey(), removal);
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+        /**
+         * Copies the tags another copy has not seen into a delta entry.
+         *
+         * @param delta The delta entry.
+         * @param since The version vector of the other copy.
+         * @return {@code true} if a tag was copied.
+         */
+        boolean copyUnseenTags(Entry delta, Map<String, Long> since) {
+            tags.forEach((tag, removal) -> {
+                if (Dot.parse(tag).isUnseenBy(since) || (removal != null && removal.isUnseenBy(since))) {
+                    delta.tags.put(tag, removal);
+                }
+            });
+            return !delta.tags.isEmpty();
+        }
+
+        /**
+         * Collects every dot of the entry: those of its tags and of its registers.
+         *
+         * @param dots The collection receiving the dots.
+         */
+        void collectDots(List<Dot> dots) {
+            tags.forEach((tag, removal) -> {
+                dots.add(Dot.parse(tag));
+                if (removal != null) {
+                    dots.add(removal);
+                }
+            });
+        }
+    }
+
+    /**
+     * The state of an element.
+     */
+    @JsonPropertyOrder({"tags", "nameDot", "name", "positionDot", "x", "y", "contentDot", "kind", "attributes",
+            "methods", "package"})
+    public static final class ElementEntry extends Entry {
+
+        /**
+         * The dot of the last write of the name, or {@code null} if a delta does not contain the name.
+         */
+        @JsonProperty("nameDot")
+        private Dot nameDot;
+
+        /**
+         * The name of the element.
+         */
+        @JsonProperty("name")
+        private String name;
+
+        /**
+         * The dot of the last write of the position, or {@code null} if a delta does not contain the position.
+         */
+        @JsonProperty("positionDot")
+        private Dot positionDot;
+
+        /**
+         * The X-coordinate of the element.
+         */
+        @JsonProperty("x")
+        private double x;
+
+        /**
+         * The Y-coordinate of the element.
+         */
+        @JsonProperty("y")
+        private double y;
+
+        /**
+         * The dot of the last write of the content, or {@code null} if a delta does not contain the content.
+         */
+        @JsonProperty("contentDot")
+        private Dot contentDot;
+
+        /**
+         * The kind of the element, {@link DiagramOperation#CLASS} or {@link DiagramOperation#INTERFACE}.
+         */
+        @JsonProperty("kind")
+        private String kind;
+
+        /**
+         * The attributes of a class.
+         */
+        @JsonProperty("attributes")
+        private List<String> attributes = new ArrayList<>();
+
+        /**
+         * The methods of the element.
+         */
+        @JsonProperty("methods")
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * The package of the element.
+         */
+        @JsonProperty("package")
+        private String packageName;
+
+        /**
+         * Retrieves the name of the element.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Checks whether the content of the entry equals that of an element.
+         *
+         * @param content The content of the element.
+         * @return {@code true} if kind, members and package are equal.
+         */
+        private boolean hasContent(ElementEntry content) {
+            return Objects.equals(kind, content.kind) && attributes.equals(content.attributes)
+                    && methods.equals(content.methods) && Objects.equals(packageName, content.packageName);
+        }
+
+        /**
+         * Copies the content of another entry.
+         *
+         * @param content The other entry.
+         * @param dot     The dot of the write.
+         */
+        private void setContent(ElementEntry content, Dot dot) {
+            kind = content.kind;
+            attributes = new ArrayList<>(content.attributes);
+            methods = new ArrayList<>(content.methods);
+            packageName = content.packageName;
+            contentDot = dot;
+        }
+
+        /**
+         * Collects every dot of the element, including those of its name, position and content.
+         *
+         * @param dots The collection receiving the dots.
+         */
+        @Override
+        void collectDots(List<Dot> dots) {
+            super.collectDots(dots);
+            for (Dot dot : new Dot[]{nameDot, positionDot, contentDot}) {
+                if (dot != null) {
+                    dots.add(dot);
+                }
+            }
+        }
+
+        /**
+         * Computes a key identifying the content, used to recognize renamed elements.
+         *
+         * @return The key.
+         */
+        private String contentKey() {
+            return kind + "\n" + packageName + "\n" + String.join("\n", attributes) + "\n\n" + String.join("\n",
+                    methods);
+        }
+    }
+
+    /**
+     * The state of a relationship.
+     */
+    @JsonPropertyOrder({"tags", "type", "start", "end", "name", "multiplicityDot", "startMultiplicity",
+            "endMultiplicity"})
+    public static final class RelationshipEntry extends Entry {
+
+        /**
+         * The type of the relationship.
+         */
+        @JsonProperty("type")
+        private String type;
+
+        /**
+         * The identifier of the start element.
+         */
+        @JsonProperty("start")
+        private String start;
+
+        /**
+         * The identifier of the end element.
+         */
+        @JsonProperty("end")
+        private String end;
+
+        /**
+         * The name of the relationship.
+         */
+        @JsonProperty("name")
+        private String name;
+
+        /**
+         * The dot of the last write of the multiplicities, or {@code null} if a delta does not contain them.
+         */
+        @JsonProperty("multiplicityDot")
+        private Dot multiplicityDot;
+
+        /**
+         * The multiplicity at the start element.
+         */
+        @JsonProperty("startMultiplicity")
+        private String startMultiplicity;
+
+        /**
+         * The multiplicity at the end element.
+         */
+        @JsonProperty("endMultiplicity")
+        private String endMultiplicity;
+
+        /**
+         * Collects every dot of the relationship, including that of its multiplicities.
+         *
+         * @param dots The collection receiving the dots.
+         */
+        @Override
+        void collectDots(List<Dot> dots) {
+            super.collectDots(dots);
+            if (multiplicityDot != null) {
+                dots.add(multiplicityDot);
+            }
+        }
+
+        /**
+         * Creates a delta entry with the identity of this relationship and no tags.
+         *
+         * @return The delta entry.
+         */
+        private RelationshipEntry identityCopy() {
+            RelationshipEntry copy = new RelationshipEntry();
+            copy.type = type;
+            copy.start = start;
+            copy.end = end;
+            copy.name = name;
+            return copy;
+        }
+    }
+
+    /**
+     * The keys of the entries changed by every dot, ordered by copy and clock value, so that the entries another copy
+     * has not seen are found without visiting the others. Dots overwritten by later changes stay in the index and
+     * only cost a visit of their entry; once they outnumber the indexed dots of the state, the index is dropped and
+     * rebuilt by the next extraction.
+     */
+    private static final class ChangeIndex {
+
+        /**
+         * The keys of the elements changed by every dot, by copy identifier and clock value.
+         */
+        private final Map<String, NavigableMap<Long, Set<String>>> elements = new HashMap<>();
+
+        /**
+         * The keys of the relationships changed by every dot, by copy identifier and clock value.
+         */
+        private final Map<String, NavigableMap<Long, Set<String>>> relationships = new HashMap<>();
+
+        /**
+         * The number of indexed pairs of a dot and a key.
+         */
+        private long size;
+
+        /**
+         * The number of pairs beyond which the index holds mostly overwritten dots.
+         */
+        private long limit;
+
+        /**
+         * Indexes the dots of an entry.
+         *
+         * @param index The index of the elements or of the relationships.
+         * @param key   The key of the entry.
+         * @param entry The entry.
+         */
+        void add(Map<String, NavigableMap<Long, Set<String>>> index, String key, Entry entry) {
+            List<Dot> dots = new ArrayList<>();
+            entry.collectDots(dots);
+            for (Dot dot : dots) {
+                if (index.computeIfAbsent(dot.getSite(), site -> new TreeMap<>())
+                        .computeIfAbsent(dot.getClock(), clock -> new HashSet<>()).add(key)) {
+                    size++;
+                }
+            }
+        }
+
+        /**
+         * Finds the entries with a dot a copy has not seen.
+         *
+         * @param index The index of the elements or of the relationships.
+         * @param since The version vector of the other copy.
+         * @return The keys of the entries, in the order of their oldest unseen dot.
+         */
+        static Set<String> unseen(Map<String, NavigableMap<Long, Set<String>>> index, Map<String, Long> since) {
+            List<Map.Entry<Long, Set<String>>> changes = new ArrayList<>();
+            index.forEach((site, clocks) -> changes.addAll(clocks.tailMap(since.getOrDefault(site, 0L), false)
+                    .entrySet()));
+            changes.sort(Map.Entry.comparingByKey());
+            Set<String> keys = new LinkedHashSet<>();
+            changes.forEach(change -> keys.addAll(change.getValue()));
+            return keys;
+        }
+    }
+
+    /**
+     * Records the changes between the representation and an edited diagram as changes made by a copy.
+     *
+     * <p>Elements are matched by name. An element whose name is no longer used is treated as renamed if a new name
+     * has exactly the same content; otherwise it is removed, and new names are added. New elements are identified by
+     * their name unless the identifier is taken, so elements added under the same name in two copies are merged into
+     * one.</p>
+     *
+     * @param diagram The edited diagram.
+     * @param site    The identifier of the copy that edited it; it must be unique among the copies and must not
+     *                contain {@code @}.
+     * @return The number of elements and relationships whose state changed.
+     */
+    public int update(ClassDiagramD diagram, String site) {
+        Map<String, String> liveIds = new HashMap<>();
+        elements.forEach((id, entry) -> {
+            if (entry.isLive()) {
+                liveIds.putIfAbsent(entry.name, id);
+            }
+        });
+        List<UMLElementBoxInterface> edited = new ArrayList<>(diagram.getClasses());
+        edited.addAll(diagram.getInterfaces());
+
+        Map<String, String> idsByName = new HashMap<>();
+        Set<String> matchedIds = new HashSet<>();
+        List<UMLElementBoxInterface> unmatched = new ArrayList<>();
+        for (UMLElementBoxInterface element : edited) {
+            String id = liveIds.get(element.getName());
+            if (id != null && matchedIds.add(id)) {
+                idsByName.put(element.getName(), id);
+            } else {
+                unmatched.add(element);
+            }
+        }
+        Map<String, Deque<String>> renameCandidates = new HashMap<>();
+        liveIds.values().stream().filter(id -> !matchedIds.contains(id)).forEach(id -> renameCandidates
+                .computeIfAbsent(elements.get(id).contentKey(), key -> new ArrayDeque<>()).add(id));
+        for (UMLElementBoxInterface element : unmatched) {
+            Deque<String> candidates = renameCandidates.get(contentOf(element).contentKey());
+            String id = candidates != null && !candidates.isEmpty() ? candidates.poll() : newId(element.getName());
+            idsByName.put(element.getName(), id);
+        }
+
+        int changes = 0;
+        for (UMLElementBoxInterface element : edited) {
+            if (write(idsByName.get(element.getName()), element, site)) {
+                changes++;
+            }
+        }
+        Set<String> keptIds = new HashSet<>(idsByName.values());
+        for (Map.Entry<String, ElementEntry> entry : elements.entrySet()) {
+            if (entry.getValue().isLive() && !keptIds.contains(entry.getKey())) {
+                entry.getValue().remove(next(site));
+                indexElement(entry.getKey(), entry.getValue());
+                changes++;
+            }
+        }
+
+        Set<String> keptRelationships = new HashSet<>();
+        for (UMLRelationship relationship : diagram.getRelationships()) {
+            String start = idsByName.get(relationship.getStartElementName());
+            String end = idsByName.get(relationship.getEndElementName());
+            if (start == null || end == null) {
+                continue;
+            }
+            String key = relationshipKey(relationship.getType(), start, end, relationship.getName());
+            keptRelationships.add(key);
+            if (write(key, relationship, start, end, site)) {
+                changes++;
+            }
+        }
+        for (Map.Entry<String, RelationshipEntry> entry : relationships.entrySet()) {
+            if (entry.getValue().isLive() && !keptRelationships.contains(entry.getKey())) {
+                entry.getValue().remove(next(site));
+                indexRelationship(entry.getKey(), entry.getValue());
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Extracts the changes a copy with the given version vector has not seen.
+     *
+     * <p>Only the entries with an unseen dot are visited, so the time taken is linear to the number of changes once
+     * the change index exists. The first extraction builds the index from the whole state.</p>
+     *
+     * @param since The version vector of the other copy, as returned by {@link #getVersions()}; an empty map
+     *              extracts the complete state.
+     * @return A representation containing only the unseen changes, with the version vector of this one.
+     */
+    public ClassDiagramCrdt delta(Map<String, Long> since) {
+        ClassDiagramCrdt delta = new ClassDiagramCrdt();
+        delta.clock = clock;
+        delta.versions.putAll(versions);
+        ChangeIndex index = changeIndex();
+        for (String id : ChangeIndex.unseen(index.elements, since)) {
+            ElementEntry entry = elements.get(id);
+            ElementEntry copy = new ElementEntry();
+            boolean unseen = entry.copyUnseenTags(copy, since);
+            if (entry.nameDot != null && entry.nameDot.isUnseenBy(since)) {
+                copy.name = entry.name;
+                copy.nameDot = entry.nameDot;
+                unseen = true;
+            }
+            if (entry.positionDot != null && entry.positionDot.isUnseenBy(since)) {
+                copy.x = entry.x;
+                copy.y = entry.y;
+                copy.positionDot = entry.positionDot;
+                unseen = true;
+            }
+            if (entry.contentDot != null && entry.contentDot.isUnseenBy(since)) {
+                copy.setContent(entry, entry.contentDot);
+                unseen = true;
+            }
+            if (unseen) {
+                delta.elements.put(id, copy);
+            }
+        }
+        for (String key : ChangeIndex.unseen(index.relationships, since)) {
+            RelationshipEntry entry = relationships.get(key);
+            RelationshipEntry copy = entry.identityCopy();
+            boolean unseen = entry.copyUnseenTags(copy, since);
+            if (entry.multiplicityDot != null && entry.multiplicityDot.isUnseenBy(since)) {
+                copy.startMultiplicity = entry.startMultiplicity;
+                copy.endMultiplicity = entry.endMultiplicity;
+                copy.multiplicityDot = entry.multiplicityDot;
+                unseen = true;
+            }
+            if (unseen) {
+                delta.relationships.put(key, copy);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Merges the state or a delta of another copy into this representation. The result does not depend on the
+     * order in which copies are merged, and merging the same changes again has no effect.
+     *
+     * @param other The state or delta of the other copy.
+     * @return The number of elements and relationships whose state changed.
+     */
+    public int merge(ClassDiagramCrdt other) {
+        int changes = 0;
+        for (Map.Entry<String, ElementEntry> incoming : other.elements.entrySet()) {
+            ElementEntry theirs = incoming.getValue();
+            ElementEntry ours = elements.computeIfAbsent(incoming.getKey(), id -> new ElementEntry());
+            boolean changed = ours.mergeTags(theirs);
+            if (isNewer(theirs.nameDot, ours.nameDot)) {
+                ours.name = theirs.name;
+                ours.nameDot = theirs.nameDot;
+                changed = true;
+            }
+            if (isNewer(theirs.positionDot, ours.positionDot)) {
+                ours.x = theirs.x;
+                ours.y = theirs.y;
+                ours.positionDot = theirs.positionDot;
+                changed = true;
+            }
+            if (isNewer(theirs.contentDot, ours.contentDot)) {
+                ours.setContent(theirs, theirs.contentDot);
+                changed = true;
+            }
+            if (changed) {
+                indexElement(incoming.getKey(), ours);
+                changes++;
+            }
+        }
+        for (Map.Entry<String, RelationshipEntry> incoming : other.relationships.entrySet()) {
+            RelationshipEntry theirs = incoming.getValue();
+            RelationshipEntry ours = relationships.computeIfAbsent(incoming.getKey(), key -> theirs.identityCopy());
+            boolean changed = ours.mergeTags(theirs);
+            if (isNewer(theirs.multiplicityDot, ours.multiplicityDot)) {
+                ours.startMultiplicity = theirs.startMultiplicity;
+                ours.endMultiplicity = theirs.endMultiplicity;
+                ours.multiplicityDot = theirs.multiplicityDot;
+                changed = true;
+            }
+            if (changed) {
+                indexRelationship(incoming.getKey(), ours);
+                changes++;
+            }
+        }
+        other.versions.forEach((site, seen) -> versions.merge(site, seen, Math::max));
+        clock = Math.max(clock, other.clock);
+        return changes;
+    }
+
+    /**
+     * Produces the diagram the representation describes. Elements that ended up with the same name in different
+     * copies are kept apart by suffixing the later ones with {@code ~2}, {@code ~3} and so on.
+     *
+     * @return A new diagram with the present elements and the relationships between them.
+     */
+    public ClassDiagramD toDiagram() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        Map<String, String> namesById = new HashMap<>();
+        Map<String, Integer> nameCounts = new HashMap<>();
+        elements.entrySet().stream()
+                .filter(entry -> entry.getValue().isLive() && entry.getValue().name != null)
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    ElementEntry state = entry.getValue();
+                    int count = nameCounts.merge(state.name, 1, Integer::sum);
+                    String name = count == 1 ? state.name : state.name + "~" + count;
+                    namesById.put(entry.getKey(), name);
+                    if (DiagramOperation.INTERFACE.equals(state.kind)) {
+                        UMLInterfaceBox umlInterface = new UMLInterfaceBox();
+                        umlInterface.setName(name);
+                        umlInterface.setMethods(new ArrayList<>(state.methods));
+                        umlInterface.setX(state.x);
+                        umlInterface.setY(state.y);
+                        umlInterface.setPackageName(state.packageName);
+                        diagram.getInterfaces().add(umlInterface);
+                    } else {
+                        UMLClassBox umlClass = new UMLClassBox(name, state.x, state.y,
+                                new ArrayList<>(state.attributes), new ArrayList<>(state.methods));
+                        umlClass.setPackageName(state.packageName);
+                        diagram.getClasses().add(umlClass);
+                    }
+                });
+        relationships.values().stream()
+                .filter(entry -> entry.isLive() && namesById.containsKey(entry.start)
+                        && namesById.containsKey(entry.end))
+                .forEach(entry -> diagram.getRelationships().add(new UMLRelationship(entry.type,
+                        namesById.get(entry.start), namesById.get(entry.end), entry.name, entry.startMultiplicity,
+                        entry.endMultiplicity)));
+        return diagram;
+    }
+
+    /**
+     * Retrieves the version vector of the representation.
+     *
+     * @return A copy of the largest clock value seen from every copy.
+     */
+    @JsonIgnore
+    public Map<String, Long> getVersions() {
+        return new TreeMap<>(versions);
+    }
+
+    /**
+     * Retrieves the Lamport clock of the representation.
+     *
+     * @return The clock value.
+     */
+    @JsonIgnore
+    public long getClock() {
+        return clock;
+    }
+
+    /**
+     * Retrieves the number of element and relationship entries, including removed ones.
+     *
+     * @return The number of entries.
+     */
+    @JsonIgnore
+    public int size() {
+        return elements.size() + relationships.size();
+    }
+
+    /**
+     * Records the state of an element.
+     *
+     * @param id      The identifier of the element.
+     * @param element The element as edited.
+     * @param site    The identifier of the copy that edited it.
+     * @return {@code true} if the state changed.
+     */
+    private boolean write(String id, UMLElementBoxInterface element, String site) {
+        ElementEntry entry = elements.computeIfAbsent(id, key -> new ElementEntry());
+        boolean changed = false;
+        if (!element.getName().equals(entry.name)) {
+            entry.name = element.getName();
+            entry.nameDot = next(site);
+            changed = true;
+        }
+        if (entry.positionDot == null || entry.x != element.getX() || entry.y != element.getY()) {
+            entry.x = element.getX();
+            entry.y = element.getY();
+            entry.positionDot = next(site);
+            changed = true;
+        }
+        ElementEntry content = contentOf(element);
+        if (entry.contentDot == null || !entry.hasContent(content)) {
+            entry.setContent(content, next(site));
+            changed = true;
+        }
+        if (!renewTags(entry, changed, site)) {
+            return false;
+        }
+        indexElement(id, entry);
+        return true;
+    }
+
+    /**
+     * Records the state of a relationship.
+     *
+     * @param key          The key of the relationship.
+     * @param relationship The relationship as edited.
+     * @param start        The identifier of the start element.
+     * @param end          The identifier of the end element.
+     * @param site         The identifier of the copy that edited it.
+     * @return {@code true} if the state changed.
+     */
+    private boolean write(String key, UMLRelationship relationship, String start, String end, String site) {
+        RelationshipEntry entry = relationships.computeIfAbsent(key, k -> {
+            RelationshipEntry created = new RelationshipEntry();
+            created.type = relationship.getType();
+            created.start = start;
+            created.end = end;
+            created.name = relationship.getName();
+            return created;
+        });
+        boolean changed = false;
+        if (entry.multiplicityDot == null
+                || !Objects.equals(entry.startMultiplicity, relationship.getStartMultiplicity())
+                || !Objects.equals(entry.endMultiplicity, relationship.getEndMultiplicity())) {
+            entry.startMultiplicity = relationship.getStartMultiplicity();
+            entry.endMultiplicity = relationship.getEndMultiplicity();
+            entry.multiplicityDot = next(site);
+            changed = true;
+        }
+        if (!renewTags(entry, changed, site)) {
+            return false;
+        }
+        indexRelationship(key, entry);
+        return true;
+    }
+
+    /**
+     * Adds an entry that is not present, or renews the addition tag of a changed one.
+     *
+     * @param entry   The entry.
+     * @param changed Whether a register of the entry changed.
+     * @param site    The identifier of the copy making the change.
+     * @return {@code true} if the state of the entry changed.
+     */
+    private boolean renewTags(Entry entry, boolean changed, String site) {
+        if (!entry.isLive()) {
+            entry.add(next(site));
+            return true;
+        }
+        if (changed) {
+            entry.renew(next(site));
+        }
+        return changed;
+    }
+
+    /**
+     * Retrieves the change index, building it from the state if it does not exist.
+     *
+     * @return The change index.
+     */
+    private ChangeIndex changeIndex() {
+        if (changeIndex == null) {
+            ChangeIndex index = new ChangeIndex();
+            elements.forEach((id, entry) -> index.add(index.elements, id, entry));
+            relationships.forEach((key, entry) -> index.add(index.relationships, key, entry));
+            index.limit = 2 * index.size + 1024;
+            changeIndex = index;
+        }
+        return changeIndex;
+    }
+
+    /**
+     * Adds the dots of a changed element to the change index, if it exists.
+     *
+     * @param id    The identifier of the element.
+     * @param entry The state of the element.
+     */
+    private void indexElement(String id, ElementEntry entry) {
+        if (changeIndex != null) {
+            changeIndex.add(changeIndex.elements, id, entry);
+            dropOversizedIndex();
+        }
+    }
+
+    /**
+     * Adds the dots of a changed relationship to the change index, if it exists.
+     *
+     * @param key   The key of the relationship.
+     * @param entry The state of the relationship.
+     */
+    private void indexRelationship(String key, RelationshipEntry entry) {
+        if (changeIndex != null) {
+            changeIndex.add(changeIndex.relationships, key, entry);
+            dropOversizedIndex();
+        }
+    }
+
+    /**
+     * Drops the change index once it holds mostly overwritten dots, so that the next extraction rebuilds it.
+     */
+    private void dropOversizedIndex() {
+        if (changeIndex.size > changeIndex.limit) {
+            changeIndex = null;
+        }
+    }
+
+    /**
+     * Advances the clock for a change made by a copy.
+     *
+     * @param site The identifier of the copy.
+     * @return The dot of the change.
+     */
+    private Dot next(String site) {
+        clock++;
+        versions.merge(site, clock, Math::max);
+        return new Dot(site, clock);
+    }
+
+    /**
+     * Chooses the identifier of a new element. A removed element with the name as identifier is added again, so
+     * that copies re-adding it agree on the identifier.
+     *
+     * @param name The name of the element.
+     * @return The name, or the name with a random suffix if a present element has that identifier.
+     */
+    private String newId(String name) {
+        ElementEntry existing = elements.get(name);
+        return existing != null && existing.isLive() ? name + "#" + UUID.randomUUID() : name;
+    }
+
+    /**
+     * Captures the content of an element.
+     *
+     * @param element The element.
+     * @return An entry holding only the content.
+     */
+    private static ElementEntry contentOf(UMLElementBoxInterface element) {
+        ElementEntry content = new ElementEntry();
+        if (element instanceof UMLClassBox umlClass) {
+            content.kind = DiagramOperation.CLASS;
+            content.attributes = new ArrayList<>(Objects.requireNonNullElse(umlClass.getAttributes(), List.of()));
+            content.methods = new ArrayList<>(Objects.requireNonNullElse(umlClass.getMethods(), List.of()));
+        } else if (element instanceof UMLInterfaceBox umlInterface) {
+            content.kind = DiagramOperation.INTERFACE;
+            content.methods = new ArrayList<>(Objects.requireNonNullElse(umlInterface.getMethods(), List.of()));
+        }
+        content.packageName = element.getPackageName();
+        return content;
+    }
+
+    /**
+     * Builds the key of a relationship.
+     *
+     * @param type  The type of the relationship.
+     * @param start The identifier of the start element.
+     * @param end   The identifier of the end element.
+     * @param name  The name of the relationship.
+     * @return The key.
+     */
+    private static String relationshipKey(String type, String start, String end, String name) {
+        return type + "|" + start + "|" + end + "|" + name;
+    }
+
+    /**
+     * Checks whether a register write is newer than the current one.
+     *
+     * @param incoming The dot of the incoming write, or {@code null} if there is none.
+     * @param current  The dot of the current write, or {@code null} if there is none.
+     * @return {@code true} if the incoming write wins.
+     */
+    private static boolean isNewer(Dot incoming, Dot current) {
+        return incoming != null && (current == null || incoming.compareTo(current) > 0);
+    }
+}
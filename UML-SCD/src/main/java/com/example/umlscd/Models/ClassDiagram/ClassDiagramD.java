@@ -1,6 +1,7 @@
 package com.example.umlscd.Models.ClassDiagram;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.List;
  * <p><b>Version:</b> 1.0</p>
  * <p><b>Since:</b> 2024-12-03</p>
  */
+@JsonPropertyOrder({"classes", "interfaces", "relationships"})
 public class ClassDiagramD {
     /**
      * The list of UML classes present in the diagram.
@@ -0,0 +1,430 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h1>Diagram Operation</h1>
+ *
+ * <p>The {@code DiagramOperation} class describes one mutation of a class diagram in a form that can be sent to the
+ * other participants of a collaborative editing session: creating or editing an element, moving it, removing it, and
+ * creating or removing a relationship. Elements are identified by name and relationships by their identity key, as in
+ * the change tracking of incremental saves.</p>
+ *
+ * <p>Every operation is stamped with the identifier of the site that made it and a Lamport clock value. Stamps are
+ * totally ordered, first by clock and then by site, and the newest stamp wins for each register an operation writes:
+ * the content of an element, its position, or a relationship. Operations writing the same register can therefore be
+ * coalesced into the newest one, which is what keeps a drag down to one position per element and tick.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Creating operations from the model objects they describe.</li>
+ *     <li>Identifying the register an operation writes, for coalescing and conflict resolution.</li>
+ *     <li>Comparing the stamps of operations.</li>
+ *     <li>Converting element operations back into model objects.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+@JsonPropertyOrder({"type", "site", "clock", "name", "kind", "x", "y", "attributes", "methods", "package",
+        "relationship"})
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DiagramOperation {
+
+    /**
+     * The kinds of operations.
+     */
+    public enum Type {
+        /** Creates an element or replaces its content and position. */
+        UPSERT_ELEMENT,
+        /** Moves an element. */
+        MOVE_ELEMENT,
+        /** Removes an element. */
+        REMOVE_ELEMENT,
+        /** Creates or replaces a relationship. */
+        UPSERT_RELATIONSHIP,
+        /** Removes a relationship. */
+        REMOVE_RELATIONSHIP
+    }
+
+    /**
+     * The element kind of classes.
+     */
+    public static final String CLASS = "class";
+
+    /**
+     * The element kind of interfaces.
+     */
+    public static final String INTERFACE = "interface";
+
+    /**
+     * The kind of the operation.
+     */
+    @JsonProperty("type")
+    private Type type;
+
+    /**
+     * The identifier of the site that made the operation.
+     */
+    @JsonProperty("site")
+    private String site;
+
+    /**
+     * The Lamport clock value of the operation.
+     */
+    @JsonProperty("clock")
+    private long clock;
+
+    /**
+     * The name of the element, or the identity key of the relationship.
+     */
+    @JsonProperty("name")
+    private String name;
+
+    /**
+     * The kind of the element, {@link #CLASS} or {@link #INTERFACE}; {@code null} for other operations.
+     */
+    @JsonProperty("kind")
+    private String kind;
+
+    /**
+     * The X-coordinate of the element.
+     */
+    @JsonProperty("x")
+    private Double x;
+
+    /**
+     * The Y-coordinate of the element.
+     */
+    @JsonProperty("y")
+    private Double y;
+
+    /**
+     * The attributes of a class.
+     */
+    @JsonProperty("attributes")
+    private List<String> attributes;
+
+    /**
+     * The methods of the element.
+     */
+    @JsonProperty("methods")
+    private List<String> methods;
+
+    /**
+     * The package of the element.
+     */
+    @JsonProperty("package")
+    private String packageName;
+
+    /**
+     * The created or replaced relationship.
+     */
+    @JsonProperty("relationship")
+    private UMLRelationship relationship;
+
+    /**
+     * Default constructor for Jackson deserialization.
+     */
+    public DiagramOperation() {
+    }
+
+    /**
+     * Constructs an unstamped operation.
+     *
+     * @param type The kind of the operation.
+     * @param name The name of the element, or the identity key of the relationship.
+     */
+    private DiagramOperation(Type type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Creates an operation creating an element or replacing its content and position.
+     *
+     * @param element The class or interface.
+     * @return The operation, holding copies of the member lists.
+     */
+    public static DiagramOperation upsertElement(UMLElementBoxInterface element) {
+        DiagramOperation operation = new DiagramOperation(Type.UPSERT_ELEMENT, element.getName());
+        operation.kind = element instanceof UMLInterfaceBox ? INTERFACE : CLASS;
+        operation.x = element.getX();
+        operation.y = element.getY();
+        if (element instanceof UMLClassBox umlClass) {
+            operation.attributes = new ArrayList<>(umlClass.getAttributes());
+            operation.methods = new ArrayList<>(umlClass.getMethods());
+        } else if (element instanceof UMLInterfaceBox umlInterface) {
+            operation.methods = new ArrayList<>(umlInterface.getMethods());
+        }
+        operation.packageName = element.getPackageName();
+        return operation;
+    }
+
+    /**
+     * Creates an operation moving an element.
+     *
+     * @param name The name of the element.
+     * @param x    The new X-coordinate.
+     * @param y    The new Y-coordinate.
+     * @return The operation.
+     */
+    public static DiagramOperation moveElement(String name, double x, double y) {
+        DiagramOperation operation = new DiagramOperation(Type.MOVE_ELEMENT, name);
+        operation.x = x;
+        operation.y = y;
+        return operation;
+    }
+
+    /**
+     * Creates an operation removing an element.
+     *
+     * @param name The name of the element.
+     * @return The operation.
+     */
+    public static DiagramOperation removeElement(String name) {
+        return new DiagramOperation(Type.REMOVE_ELEMENT, name);
+    }
+
+    /**
+     * Creates an operation creating or replacing a relationship.
+     *
+     * @param relationship The relationship.
+     * @return The operation, holding a copy of the relationship.
+     */
+    public static DiagramOperation upsertRelationship(UMLRelationship relationship) {
+        DiagramOperation operation = new DiagramOperation(Type.UPSERT_RELATIONSHIP, relationship.identityKey());
+        operation.relationship = new UMLRelationship(relationship.getType(), relationship.getStartElementName(),
+                relationship.getEndElementName(), relationship.getName(), relationship.getStartMultiplicity(),
+                relationship.getEndMultiplicity());
+        return operation;
+    }
+
+    /**
+     * Creates an operation removing a relationship.
+     *
+     * @param key The identity key of the relationship.
+     * @return The operation.
+     */
+    public static DiagramOperation removeRelationship(String key) {
+        return new DiagramOperation(Type.REMOVE_RELATIONSHIP, key);
+    }
+
+    /**
+     * Stamps the operation.
+     *
+     * @param site  The identifier of the site making the operation.
+     * @param clock The Lamport clock value of the operation.
+     * @return This operation.
+     */
+    public DiagramOperation stamp(String site, long clock) {
+        this.site = site;
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Identifies the register the operation writes. Element content and removal share a register, positions have
+     * their own, so that moving and editing an element concurrently keeps both changes.
+     *
+     * @return The register key, such as {@code element:Order} or {@code position:Order}.
+     */
+    @JsonIgnore
+    public String getRegister() {
+        return switch (type) {
+            case UPSERT_ELEMENT, REMOVE_ELEMENT -> "element:" + name;
+            case MOVE_ELEMENT -> "position:" + name;
+            case UPSERT_RELATIONSHIP, REMOVE_RELATIONSHIP -> "relationship:" + name;
+        };
+    }
+
+    /**
+     * Checks whether this operation's stamp is newer than another's.
+     *
+     * @param other The other operation, or {@code null}.
+     * @return {@code true} if this operation wins over {@code other}.
+     */
+    public boolean isNewerThan(DiagramOperation other) {
+        if (other == null) {
+            return true;
+        }
+        if (clock != other.clock) {
+            return clock > other.clock;
+        }
+        return String.valueOf(site).compareTo(String.valueOf(other.site)) > 0;
+    }
+
+    /**
+     * Creates a copy of an element operation with a different position, keeping its stamp.
+     *
+     * @param newX The X-coordinate.
+     * @param newY The Y-coordinate.
+     * @return The copy.
+     */
+    public DiagramOperation withPosition(double newX, double newY) {
+        DiagramOperation copy = new DiagramOperation(type, name);
+        copy.site = site;
+        copy.clock = clock;
+        copy.kind = kind;
+        copy.x = newX;
+        copy.y = newY;
+        copy.attributes = attributes;
+        copy.methods = methods;
+        copy.packageName = packageName;
+        copy.relationship = relationship;
+        return copy;
+    }
+
+    /**
+     * Checks whether an element operation describes the same content as another, ignoring position and stamp.
+     *
+     * @param other The other operation.
+     * @return {@code true} if kind, members and package are equal.
+     */
+    public boolean hasSameContent(DiagramOperation other) {
+        return Objects.equals(name, other.name) && Objects.equals(kind, other.kind)
+                && Objects.equals(attributes, other.attributes)
+                && Objects.equals(methods, other.methods)
+                && Objects.equals(packageName, other.packageName);
+    }
+
+    /**
+     * Creates the element described by an {@link Type#UPSERT_ELEMENT} operation.
+     *
+     * @return A new class or interface without a visual representation.
+     */
+    public UMLElementBoxInterface toElement() {
+        UMLElementBoxInterface element;
+        if (INTERFACE.equals(kind)) {
+            UMLInterfaceBox umlInterface = new UMLInterfaceBox();
+            umlInterface.setName(name);
+            umlInterface.setMethods(new ArrayList<>(methods == null ? List.of() : methods));
+            element = umlInterface;
+        } else {
+            element = new UMLClassBox(name, 0, 0, new ArrayList<>(attributes == null ? List.of() : attributes),
+                    new ArrayList<>(methods == null ? List.of() : methods));
+        }
+        element.setX(getX());
+        element.setY(getY());
+        element.setPackageName(packageName);
+        return element;
+    }
+
+    /**
+     * Retrieves the kind of the operation.
+     *
+     * @return The kind.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the identifier of the site that made the operation.
+     *
+     * @return The site identifier, or {@code null} if the operation is not stamped.
+     */
+    public String getSite() {
+        return site;
+    }
+
+    /**
+     * Retrieves the Lamport clock value of the operation.
+     *
+     * @return The clock value.
+     */
+    public long getClock() {
+        return clock;
+    }
+
+    /**
+     * Retrieves the name of the element, or the identity key of the relationship.
+     *
+     * @return The name or key.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the kind of the element.
+     *
+     * @return {@link #CLASS}, {@link #INTERFACE}, or {@code null} for operations without element content.
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the X-coordinate of the element.
+     *
+     * @return The X-coordinate, or {@code 0} if the operation has no position.
+     */
+    public double getX() {
+        return x == null ? 0 : x;
+    }
+
+    /**
+     * Retrieves the Y-coordinate of the element.
+     *
+     * @return The Y-coordinate, or {@code 0} if the operation has no position.
+     */
+    public double getY() {
+        return y == null ? 0 : y;
+    }
+
+    /**
+     * Retrieves the attributes of a class.
+     *
+     * @return The attributes, or {@code null} for other operations.
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Retrieves the methods of the element.
+     *
+     * @return The methods, or {@code null} for operations without element content.
+     */
+    public List<String> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Retrieves the package of the element.
+     *
+     * @return The package, or {@code null} if it is not known.
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Retrieves the relationship of an {@link Type#UPSERT_RELATIONSHIP} operation.
+     *
+     * @return The relationship, or {@code null} for other operations.
+     */
+    public UMLRelationship getRelationship() {
+        return relationship;
+    }
+
+    /**
+     * Describes the operation for logging.
+     *
+     * @return The kind, name and stamp of the operation.
+     */
+    @Override
+    public String toString() {
+        return type + " " + name + " @" + clock + "/" + site;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import java.util.List;
+
+/**
+ * <h1>UML Attribute</h1>
+ *
+ * <p>The {@code UMLAttribute} class represents one attribute of a {@link UMLClassBox}, parsed once from its text
+ * such as {@code "- total : double"} by the {@link UMLMemberParser}. Attributes are immutable.</p>
+ *
+ * <p>Parsing is tolerant: text that does not follow the notation still yields an attribute, with the missing parts
+ * left empty and a description of each problem recorded.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Providing the visibility, name and type of the attribute.</li>
+ *     <li>Reporting the problems found while parsing the attribute.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class UMLAttribute {
+
+    /**
+     * The visibility symbol ({@code +}, {@code -}, {@code #} or {@code ~}), or an empty string if none was given.
+     */
+    private final String visibility;
+
+    /**
+     * The name of the attribute.
+     */
+    private final String name;
+
+    /**
+     * The type of the attribute, or an empty string if none was given.
+     */
+    private final String type;
+
+    /**
+     * The problems found while parsing the attribute.
+     */
+    private final List<String> problems;
+
+    /**
+     * Constructs an attribute.
+     *
+     * @param visibility The visibility symbol, or an empty string if none was given.
+     * @param name       The name of the attribute.
+     * @param type       The type of the attribute, or an empty string if none was given.
+     * @param problems   The problems found while parsing the attribute.
+     */
+    public UMLAttribute(String visibility, String name, String type, List<String> problems) {
+        this.visibility = visibility;
+        this.name = name;
+        this.type = type;
+        this.problems = List.copyOf(problems);
+    }
+
+    /**
+     * Retrieves the visibility symbol of the attribute.
+     *
+     * @return {@code +}, {@code -}, {@code #} or {@code ~}, or an empty string if none was given.
+     */
+    public String getVisibility() {
+        return visibility;
+    }
+
+    /**
+     * Retrieves the name of the attribute.
+     *
+     * @return The attribute name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the type of the attribute.
+     *
+     * @return The attribute type, or an empty string if none was given.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the problems found while parsing the attribute.
+     *
+     * @return The problem descriptions; empty if the attribute is well-formed.
+     */
+    public List<String> getProblems() {
+        return problems;
+    }
+
+    /**
+     * Checks whether the attribute was parsed without problems.
+     *
+     * @return {@code true} if no problems were found.
+     */
+    public boolean isValid() {
+        return problems.isEmpty();
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.umlscd.Models.ClassDiagram;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
@@ -20,6 +22,7 @@ import java.util.List;
  * <p>Key functionalities include:</p>
  * <ul>
  *     <li>Managing the name, position (X and Y coordinates), attributes, and methods of the class.</li>
+ *     <li>Providing the attributes and methods as parsed {@link UMLAttribute} and {@link UMLMethod} objects.</li>
  *     <li>Handling the visual representation of the class as a {@code VBox} in the user interface.</li>
  *     <li>Facilitating synchronization between the model and the view by updating the UI upon changes.</li>
  * </ul>
@@ -29,6 +32,7 @@ import java.util.List;
  * <p><b>Version:</b> 1.0</p>
  * <p><b>Since:</b> 2024-12-03</p>
  */
+@JsonPropertyOrder({"name", "x", "y", "attributes", "methods", "package"})
 public class UMLClassBox implements UMLElementBoxInterface {
 
     /**
@@ -61,6 +65,13 @@ public class UMLClassBox implements UMLElementBoxInterface {
     @JsonProperty("methods")
     private List<String> methods = new ArrayList<>();
 
+    /**
+     * The package declaring the class, or {@code null} if it is not known, as for classes drawn by hand.
+     */
+    @JsonProperty("package")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private String packageName;
+
     /**
      * The visual representation of the UML class as a {@code VBox} in the user interface.
      * This field is ignored during JSON serialization/deserialization.
@@ -68,6 +79,18 @@ public class UMLClassBox implements UMLElementBoxInterface {
     @JsonIgnore
     private VBox visualRepresentation; // Not serializable
 
+    /**
+     * The attributes parsed from {@link #attributes}, or {@code null} until they are first needed.
+     */
+    @JsonIgnore
+    private volatile UMLMemberCache<UMLAttribute> parsedAttributes;
+
+    /**
+     * The methods parsed from {@link #methods}, or {@code null} until they are first needed.
+     */
+    @JsonIgnore
+    private volatile UMLMemberCache<UMLMethod> parsedMethods;
+
     /**
      * Default constructor for Jackson deserialization.
      *
@@ -161,6 +184,56 @@ public class UMLClassBox implements UMLElementBoxInterface {
         return methods;
     }
 
+    /**
+     * Retrieves the package declaring the UML class.
+     *
+     * @return The package name, or {@code null} if it is not known.
+     */
+    @Override
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Sets the package declaring the UML class.
+     *
+     * @param packageName The package name, or {@code null} if it is not known.
+     */
+    @Override
+    public void setPackageName(String packageName) {
+        this.packageName = packageName;
+    }
+
+    /**
+     * Retrieves the attributes of the UML class in parsed form.
+     *
+     * <p>The attribute texts are parsed once and the result is cached until the texts change, so callers such as
+     * the code generator can use the structured attributes without parsing the strings again.</p>
+     *
+     * @return An unmodifiable list of the parsed attributes, in the order of {@link #getAttributes()}.
+     */
+    @JsonIgnore
+    public List<UMLAttribute> getParsedAttributes() {
+        UMLMemberCache<UMLAttribute> cache =
+                UMLMemberCache.of(parsedAttributes, attributes, UMLMemberParser::parseAttribute);
+        parsedAttributes = cache;
+        return cache.getMembers();
+    }
+
+    /**
+     * Retrieves the methods of the UML class in parsed form.
+     *
+     * <p>The method signatures are parsed once and the result is cached until the signatures change.</p>
+     *
+     * @return An unmodifiable list of the parsed methods, in the order of {@link #getMethods()}.
+     */
+    @JsonIgnore
+    public List<UMLMethod> getParsedMethods() {
+        UMLMemberCache<UMLMethod> cache = UMLMemberCache.of(parsedMethods, methods, UMLMemberParser::parseMethod);
+        parsedMethods = cache;
+        return cache.getMembers();
+    }
+
     /**
      * Retrieves the visual representation of the UML class.
      *
@@ -52,6 +52,16 @@ public interface UMLElementBoxInterface {
      */
     double getY();
 
+    /**
+     * Retrieves the package declaring the UML element.
+     *
+     * <p>The package is known for elements imported from existing code and is used to show the elements of one
+     * package at a time. Elements drawn by hand have no package.</p>
+     *
+     * @return The package name, or {@code null} if it is not known.
+     */
+    String getPackageName();
+
     /**
      * Retrieves the visual representation of the UML element.
      *
@@ -90,6 +100,13 @@ public interface UMLElementBoxInterface {
      */
     void setY(double y);
 
+    /**
+     * Sets the package declaring the UML element.
+     *
+     * @param packageName The package name, or {@code null} if it is not known.
+     */
+    void setPackageName(String packageName);
+
     /**
      * Sets the visual representation of the UML element.
      *
@@ -1,7 +1,9 @@
 package com.example.umlscd.Models.ClassDiagram;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
@@ -19,6 +21,7 @@ import java.util.List;
  * <p>Key functionalities include:</p>
  * <ul>
  *     <li>Managing the name, position (X and Y coordinates), and methods of the interface.</li>
+ *     <li>Providing the methods as parsed {@link UMLMethod} objects.</li>
  *     <li>Handling the visual representation of the interface as a {@code VBox} in the user interface.</li>
  *     <li>Facilitating synchronization between the model and the view by updating the UI upon changes.</li>
  * </ul>
@@ -28,6 +31,7 @@ import java.util.List;
  * <p><b>Version:</b> 1.0</p>
  * <p><b>Since:</b> 2024-12-03</p>
  */
+@JsonPropertyOrder({"name", "x", "y", "methods", "package"})
 public class UMLInterfaceBox implements UMLElementBoxInterface {
 
     /**
@@ -54,6 +58,13 @@ public class UMLInterfaceBox implements UMLElementBoxInterface {
     @JsonProperty("methods")
     private List<String> methods = new ArrayList<>();
 
+    /**
+     * The package declaring the interface, or {@code null} if it is not known, as for interfaces drawn by hand.
+     */
+    @JsonProperty("package")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private String packageName;
+
     /**
      * The visual representation of the UML interface as a {@code VBox} in the user interface.
      * This field is ignored during JSON serialization/deserialization.
@@ -61,6 +72,12 @@ public class UMLInterfaceBox implements UMLElementBoxInterface {
     @JsonIgnore
     private VBox visualRepresentation;
 
+    /**
+     * The methods parsed from {@link #methods}, or {@code null} until they are first needed.
+     */
+    @JsonIgnore
+    private volatile UMLMemberCache<UMLMethod> parsedMethods;
+
     /**
      * Default constructor for Jackson deserialization.
      *
@@ -113,6 +130,20 @@ public class UMLInterfaceBox implements UMLElementBoxInterface {
         return y;
     }
 
+    /**
+     * Retrieves the methods of the UML interface in parsed form.
+     *
+     * <p>The method signatures are parsed once and the result is cached until the signatures change.</p>
+     *
+     * @return An unmodifiable list of the parsed methods, in the order of {@link #getMethods()}.
+     */
+    @JsonIgnore
+    public List<UMLMethod> getParsedMethods() {
+        UMLMemberCache<UMLMethod> cache = UMLMemberCache.of(parsedMethods, methods, UMLMemberParser::parseMethod);
+        parsedMethods = cache;
+        return cache.getMembers();
+    }
+
     /**
      * Retrieves the visual representation of the UML interface.
      *
@@ -131,6 +162,26 @@ public class UMLInterfaceBox implements UMLElementBoxInterface {
         return methods;
     }
 
+    /**
+     * Retrieves the package declaring the UML interface.
+     *
+     * @return The package name, or {@code null} if it is not known.
+     */
+    @Override
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Sets the package declaring the UML interface.
+     *
+     * @param packageName The package name, or {@code null} if it is not known.
+     */
+    @Override
+    public void setPackageName(String packageName) {
+        this.packageName = packageName;
+    }
+
     /**
      * Sets the name of the UML class.
      *
@@ -0,0 +1,80 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <h1>UML Member Cache</h1>
+ *
+ * <p>The {@code UMLMemberCache} holds the parsed form of a box's attribute or method list together with a copy of
+ * the text it was parsed from. The box's member lists stay plain strings, as stored in diagram files and edited in
+ * place by callers, so the cache is valid only while its copy still equals the current list. Comparing the strings
+ * is much cheaper than parsing them again.</p>
+ *
+ * <p>Caches are immutable and can be published to other threads through a volatile field.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Parsing a member list once.</li>
+ *     <li>Checking whether the cached members still match the member list.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ *
+ * @param <T> The member type.
+ */
+final class UMLMemberCache<T> {
+
+    /**
+     * A copy of the member texts the members were parsed from.
+     */
+    private final List<String> source;
+
+    /**
+     * The parsed members.
+     */
+    private final List<T> members;
+
+    /**
+     * Constructs a cache.
+     *
+     * @param source  A copy of the member texts.
+     * @param members The parsed members.
+     */
+    private UMLMemberCache(List<String> source, List<T> members) {
+        this.source = source;
+        this.members = members;
+    }
+
+    /**
+     * Retrieves the members parsed from a member list, reusing a cache if it still matches.
+     *
+     * @param cache  The current cache, or {@code null} if the list has not been parsed yet.
+     * @param texts  The current member texts.
+     * @param parser The parser for one member.
+     * @param <T>    The member type.
+     * @return The matching cache, either the given one or a newly parsed one.
+     */
+    static <T> UMLMemberCache<T> of(UMLMemberCache<T> cache, List<String> texts, Function<String, T> parser) {
+        List<String> current = texts == null ? List.of() : texts;
+        if (cache != null && cache.source.equals(current)) {
+            return cache;
+        }
+        List<String> copy = Collections.unmodifiableList(new ArrayList<>(current));
+        return new UMLMemberCache<>(copy, Collections.unmodifiableList(UMLMemberParser.parseAll(copy, parser)));
+    }
+
+    /**
+     * Retrieves the parsed members.
+     *
+     * @return An unmodifiable list of the members, in the order of their texts.
+     */
+    List<T> getMembers() {
+        return members;
+    }
+}
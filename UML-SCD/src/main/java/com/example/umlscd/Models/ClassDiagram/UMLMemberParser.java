@@ -0,0 +1,283 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <h1>UML Member Parser</h1>
+ *
+ * <p>The {@code UMLMemberParser} turns the attribute and method text stored in class and interface boxes into
+ * {@link UMLAttribute}, {@link UMLMethod} and {@link UMLParameter} objects. It understands the notation written by
+ * the editors, such as {@code "-total : double"} and {@code "+save(id: int, name: String): void"}, and also accepts
+ * parameters written the Java way ({@code "int id"}).</p>
+ *
+ * <p>The parser is tolerant: it never throws. Text that does not follow the notation yields a member with the
+ * missing parts left empty, and each problem is recorded on the member so that the editors can report it. Commas
+ * inside generic types such as {@code Map<String, Integer>} do not separate parameters.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Parsing attributes, methods and parameters.</li>
+ *     <li>Parsing whole member lists.</li>
+ *     <li>Listing the problems of the member lines typed in the editors.</li>
+ *     <li>Translating visibility symbols into Java keywords.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class UMLMemberParser {
+
+    /**
+     * The symbols that may start a member to give its visibility.
+     */
+    private static final String VISIBILITY_SYMBOLS = "+-#~";
+
+    /**
+     * Prevents instantiation; the parser only has static methods.
+     */
+    private UMLMemberParser() {
+    }
+
+    /**
+     * Parses an attribute such as {@code "+ name : String"}.
+     *
+     * @param text The attribute text.
+     * @return The attribute; check {@link UMLAttribute#getProblems()} for text that does not follow the notation.
+     */
+    public static UMLAttribute parseAttribute(String text) {
+        List<String> problems = new ArrayList<>();
+        String rest = text == null ? "" : text.trim();
+        String visibility = visibility(rest);
+        rest = rest.substring(visibility.length()).trim();
+
+        String name;
+        String type;
+        int colon = rest.indexOf(':');
+        if (colon < 0) {
+            name = rest;
+            type = "";
+            problems.add("Missing type");
+        } else {
+            name = rest.substring(0, colon).trim();
+            type = rest.substring(colon + 1).trim();
+            if (type.isEmpty()) {
+                problems.add("Missing type");
+            }
+        }
+        if (name.isEmpty()) {
+            problems.add(0, "Missing attribute name");
+        }
+        return new UMLAttribute(visibility, name, type, problems);
+    }
+
+    /**
+     * Parses a method signature such as {@code "+ save(id: int): void"}.
+     *
+     * <p>A missing return type defaults to {@code void} without being reported. Signatures without a parameter list
+     * are accepted in the older {@code "name::type"} form, but reported.</p>
+     *
+     * @param text The method signature.
+     * @return The method; check {@link UMLMethod#getProblems()} for text that does not follow the notation.
+     */
+    public static UMLMethod parseMethod(String text) {
+        List<String> problems = new ArrayList<>();
+        String rest = text == null ? "" : text.trim();
+        String visibility = visibility(rest);
+        rest = rest.substring(visibility.length()).trim();
+
+        String name;
+        String parameterText = "";
+        String returnType;
+        int open = rest.indexOf('(');
+        if (open < 0) {
+            problems.add("Missing parameter list");
+            int colon = rest.indexOf(':');
+            name = colon < 0 ? rest : rest.substring(0, colon).trim();
+            returnType = colon < 0 ? "" : rest.substring(rest.lastIndexOf(':') + 1).trim();
+        } else {
+            name = rest.substring(0, open).trim();
+            int close = closingParenthesis(rest, open);
+            String tail;
+            if (close < 0) {
+                problems.add("Missing ')'");
+                parameterText = rest.substring(open + 1);
+                tail = "";
+            } else {
+                parameterText = rest.substring(open + 1, close);
+                tail = rest.substring(close + 1).trim();
+            }
+            returnType = tail.startsWith(":") ? tail.substring(1).trim() : tail;
+        }
+        if (name.isEmpty()) {
+            problems.add(0, "Missing method name");
+        }
+
+        List<UMLParameter> parameters = new ArrayList<>();
+        for (String parameter : splitParameters(parameterText)) {
+            parameters.add(parseParameter(parameter, problems));
+        }
+        return new UMLMethod(visibility, name, parameters, returnType.isEmpty() ? "void" : returnType, problems);
+    }
+
+    /**
+     * Parses a parameter written as {@code "name: type"} or {@code "type name"}.
+     *
+     * @param text     The parameter text, already trimmed.
+     * @param problems The problems of the enclosing method, to which a missing type is reported.
+     * @return The parameter.
+     */
+    private static UMLParameter parseParameter(String text, List<String> problems) {
+        int colon = text.indexOf(':');
+        if (colon >= 0) {
+            String name = text.substring(0, colon).trim();
+            String type = text.substring(colon + 1).trim();
+            if (name.isEmpty() || type.isEmpty()) {
+                problems.add("Incomplete parameter '" + text + "'");
+            }
+            return new UMLParameter(name, type);
+        }
+        int space = text.lastIndexOf(' ');
+        if (space > 0) {
+            // Java notation: the type comes first
+            return new UMLParameter(text.substring(space + 1), text.substring(0, space).trim());
+        }
+        problems.add("Parameter '" + text + "' has no type");
+        return new UMLParameter(text, "");
+    }
+
+    /**
+     * Parses every entry of a member list.
+     *
+     * @param texts  The member texts.
+     * @param parser The parser for one member.
+     * @param <T>    The member type.
+     * @return The parsed members, in the same order.
+     */
+    public static <T> List<T> parseAll(List<String> texts, Function<String, T> parser) {
+        List<T> members = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            members.add(parser.apply(text));
+        }
+        return members;
+    }
+
+    /**
+     * Lists the problems of every non-empty line of an attribute list, as typed in the editors.
+     *
+     * @param text The attribute lines, one per line.
+     * @return The problems of each line, prefixed with the line.
+     */
+    public static List<String> attributeProblems(String text) {
+        return lineProblems(text, line -> parseAttribute(line).getProblems());
+    }
+
+    /**
+     * Lists the problems of every non-empty line of a method list, as typed in the editors.
+     *
+     * @param text The method lines, one per line.
+     * @return The problems of each line, prefixed with the line.
+     */
+    public static List<String> methodProblems(String text) {
+        return lineProblems(text, line -> parseMethod(line).getProblems());
+    }
+
+    /**
+     * Translates a visibility symbol into the matching Java keyword.
+     *
+     * @param visibility The visibility symbol.
+     * @return {@code public}, {@code private} or {@code protected}; an empty string for package and missing
+     * visibility.
+     */
+    public static String visibilityKeyword(String visibility) {
+        switch (visibility) {
+            case "+":
+                return "public";
+            case "-":
+                return "private";
+            case "#":
+                return "protected";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Collects the problems of every non-empty line of a member list.
+     *
+     * @param text   The member lines, one per line.
+     * @param parser Parses one line and returns its problems.
+     * @return The problems of each line, prefixed with the line.
+     */
+    private static List<String> lineProblems(String text, Function<String, List<String>> parser) {
+        List<String> problems = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (!line.isBlank()) {
+                for (String problem : parser.apply(line)) {
+                    problems.add(line.trim() + ": " + problem);
+                }
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Extracts the visibility symbol at the start of a member.
+     *
+     * @param text The trimmed member text.
+     * @return The visibility symbol, or an empty string if the member does not start with one.
+     */
+    private static String visibility(String text) {
+        return !text.isEmpty() && VISIBILITY_SYMBOLS.indexOf(text.charAt(0)) >= 0 ? text.substring(0, 1) : "";
+    }
+
+    /**
+     * Finds the parenthesis closing a parameter list.
+     *
+     * @param text The signature.
+     * @param open The index of the opening parenthesis.
+     * @return The index of the matching closing parenthesis, or -1 if there is none.
+     */
+    private static int closingParenthesis(String text, int open) {
+        int depth = 0;
+        for (int i = open; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits a parameter list at the commas that are not nested in generic or array brackets.
+     *
+     * @param text The text between the parentheses of a signature.
+     * @return The trimmed, non-empty parameters.
+     */
+    private static List<String> splitParameters(String text) {
+        List<String> parameters = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ',';
+            if (c == '<' || c == '[' || c == '(') {
+                depth++;
+            } else if ((c == '>' || c == ']' || c == ')') && depth > 0) {
+                depth--;
+            } else if (c == ',' && (depth == 0 || i == text.length())) {
+                String parameter = text.substring(start, i).trim();
+                if (!parameter.isEmpty()) {
+                    parameters.add(parameter);
+                }
+                start = i + 1;
+            }
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>UML Method</h1>
+ *
+ * <p>The {@code UMLMethod} class represents one method of a {@link UMLClassBox} or {@link UMLInterfaceBox}, parsed
+ * once from its signature such as {@code "+ save(id: int, name: String): void"} by the {@link UMLMemberParser}.
+ * Methods are immutable.</p>
+ *
+ * <p>Parsing is tolerant: a signature that does not follow the notation still yields a method, with the missing
+ * parts left empty (or {@code void} for the return type) and a description of each problem recorded.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Providing the visibility, name, parameters and return type of the method.</li>
+ *     <li>Formatting the parameter list in the notation used by the editors.</li>
+ *     <li>Reporting the problems found while parsing the signature.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class UMLMethod {
+
+    /**
+     * The visibility symbol ({@code +}, {@code -}, {@code #} or {@code ~}), or an empty string if none was given.
+     */
+    private final String visibility;
+
+    /**
+     * The name of the method.
+     */
+    private final String name;
+
+    /**
+     * The parameters of the method, in declaration order.
+     */
+    private final List<UMLParameter> parameters;
+
+    /**
+     * The return type of the method; {@code void} if none was given.
+     */
+    private final String returnType;
+
+    /**
+     * The problems found while parsing the signature.
+     */
+    private final List<String> problems;
+
+    /**
+     * Constructs a method.
+     *
+     * @param visibility The visibility symbol, or an empty string if none was given.
+     * @param name       The name of the method.
+     * @param parameters The parameters of the method, in declaration order.
+     * @param returnType The return type of the method.
+     * @param problems   The problems found while parsing the signature.
+     */
+    public UMLMethod(String visibility, String name, List<UMLParameter> parameters, String returnType,
+                     List<String> problems) {
+        this.visibility = visibility;
+        this.name = name;
+        this.parameters = List.copyOf(parameters);
+        this.returnType = returnType;
+        this.problems = List.copyOf(problems);
+    }
+
+    /**
+     * Retrieves the visibility symbol of the method.
+     *
+     * @return {@code +}, {@code -}, {@code #} or {@code ~}, or an empty string if none was given.
+     */
+    public String getVisibility() {
+        return visibility;
+    }
+
+    /**
+     * Retrieves the name of the method.
+     *
+     * @return The method name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the parameters of the method.
+     *
+     * @return The parameters, in declaration order.
+     */
+    public List<UMLParameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Formats the parameters as a comma-separated list of {@code name:type} entries, as entered in the editors.
+     *
+     * @return The formatted parameter list; empty if the method has no parameters.
+     */
+    public String getParameterText() {
+        return parameters.stream().map(UMLParameter::toString).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Retrieves the return type of the method.
+     *
+     * @return The return type; {@code void} if none was given.
+     */
+    public String getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * Retrieves the problems found while parsing the signature.
+     *
+     * @return The problem descriptions; empty if the signature is well-formed.
+     */
+    public List<String> getProblems() {
+        return problems;
+    }
+
+    /**
+     * Checks whether the signature was parsed without problems.
+     *
+     * @return {@code true} if no problems were found.
+     */
+    public boolean isValid() {
+        return problems.isEmpty();
+    }
+}
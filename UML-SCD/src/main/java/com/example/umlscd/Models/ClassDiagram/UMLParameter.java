@@ -0,0 +1,70 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+/**
+ * <h1>UML Parameter</h1>
+ *
+ * <p>The {@code UMLParameter} class represents one parameter of a {@link UMLMethod}, parsed from a method signature
+ * such as {@code "+ save(id: int): void"}. Parameters are immutable.</p>
+ *
+ * <p>Key functionalities include:</p>
+ * <ul>
+ *     <li>Providing the name and type of the parameter.</li>
+ *     <li>Formatting the parameter in the notation used by the editors.</li>
+ * </ul>
+ *
+ * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
+ *
+ * <p><b>Version:</b> 1.0</p>
+ * <p><b>Since:</b> 2026-10-19</p>
+ */
+public final class UMLParameter {
+
+    /**
+     * The name of the parameter.
+     */
+    private final String name;
+
+    /**
+     * The type of the parameter, or an empty string if the signature did not specify one.
+     */
+    private final String type;
+
+    /**
+     * Constructs a parameter with the specified name and type.
+     *
+     * @param name The name of the parameter.
+     * @param type The type of the parameter, or an empty string if unknown.
+     */
+    public UMLParameter(String name, String type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * Retrieves the name of the parameter.
+     *
+     * @return The parameter name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the type of the parameter.
+     *
+     * @return The parameter type, or an empty string if the signature did not specify one.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Formats the parameter as {@code name:type}, the notation the editors ask for.
+     *
+     * @return The formatted parameter.
+     */
+    @Override
+    public String toString() {
+        return type.isEmpty() ? name : name + ":" + type;
+    }
+}
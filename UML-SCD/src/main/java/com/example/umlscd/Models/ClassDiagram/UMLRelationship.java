@@ -1,6 +1,7 @@
 package com.example.umlscd.Models.ClassDiagram;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 /**
  * <h1>UML Relationship</h1>
@@ -23,6 +24,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * <p><b>Version:</b> 1.0</p>
  * <p><b>Since:</b> 2024-12-03</p>
  */
+@JsonPropertyOrder({"type", "startElementName", "endElementName", "name", "startMultiplicity", "endMultiplicity"})
 public class UMLRelationship {
 
     /**
@@ -227,6 +229,19 @@ public class UMLRelationship {
         this.endMultiplicity = endMultiplicity;
     }
 
+    /**
+     * Builds the identity key of this relationship.
+     *
+     * <p>Relationships carry no explicit identifier, so they are identified by their type, the two elements
+     * they connect and their name. The key is used wherever a relationship has to be addressed independently
+     * of its position in the diagram's relationship list (e.g. incremental saving).</p>
+     *
+     * @return A {@code String} uniquely identifying the relationship within its diagram.
+     */
+    public String identityKey() {
+        return type + "|" + startElementName + "|" + endElementName + "|" + name;
+    }
+
     /**
      * Provides a string representation of the UML relationship.
      *
@@ -79,7 +79,8 @@ public class UseCaseDiagramObject implements Serializable {
     /**
      * Constructs a {@code UseCaseDiagramObject} with the specified type, position, and name.
      *
-     * <p>This constructor is used during JSON deserialization to initialize the object's state.</p>
+     * <p>This constructor is used during JSON deserialization to initialize the object's state. The name field is
+     * created lazily when it is first shown, so diagrams can be loaded and rendered without the JavaFX toolkit.</p>
      *
      * @param type The type of the diagram object ("actor" or "usecase").
      * @param x    The X-coordinate position on the canvas.
@@ -95,7 +96,6 @@ public class UseCaseDiagramObject implements Serializable {
         this.x = x;
         this.y = y;
         this.name = name;
-        initializeTransientFields();
     }
 
     /**
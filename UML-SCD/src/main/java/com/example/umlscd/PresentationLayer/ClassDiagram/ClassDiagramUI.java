@@ -1,9 +1,22 @@
 package com.example.umlscd.PresentationLayer.ClassDiagram;
 
 import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramManager;
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff;
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramSlice;
 import com.example.umlscd.DataAccessLayer.Codegeneration.ClassDiagramCodeGenerator;
+import com.example.umlscd.DataAccessLayer.Codegeneration.TargetLanguage;
+import com.example.umlscd.DataAccessLayer.Codegeneration.TemplateCodeGenerator;
+import com.example.umlscd.DataAccessLayer.Importers.ClassFileImporter;
+import com.example.umlscd.DataAccessLayer.Importers.JavaSourceImporter;
+import com.example.umlscd.DataAccessLayer.Rendering.PdfDiagramExporter;
+import com.example.umlscd.DataAccessLayer.Rendering.SvgDiagramExporter;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramDeltaSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Snapshots.SnapshotManifest;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
 import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
 import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -11,9 +24,13 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.ChoiceDialog;
 import javafx.scene.control.ListView;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextInputDialog;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
@@ -21,7 +38,16 @@ import java.awt.event.MouseEvent;
 import java.io.File;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <h1>Class Diagram User Interface Controller</h1>
@@ -37,6 +63,7 @@ import java.net.URL;
  *     <li>Loading and displaying existing diagrams</li>
  *     <li>Handling save and load operations for diagrams</li>
  *     <li>Exporting diagrams as image files</li>
+ *     <li>Saving and restoring snapshots of the diagram's history</li>
  *     <li>Managing editors for classes and interfaces</li>
  *     <li>Providing user feedback through alerts</li>
  * </ul>
@@ -85,9 +112,25 @@ public class ClassDiagramUI {
     @FXML
     Button btnLoad;
     @FXML
+    Button btnUndo;
+    @FXML
+    Button btnRedo;
+    @FXML
     Button btnExportImage;
     @FXML
     Button btnCode;
+    @FXML
+    Button btnImport;
+    @FXML
+    Button btnSlice;
+    @FXML
+    Button btnCollaborate;
+    @FXML
+    Button btnCompare;
+    @FXML
+    Button btnSnapshot;
+    @FXML
+    Button btnHistory;
 
     @FXML private Button btnDelete;
     boolean isDeleteModeEnabled = false;
@@ -98,6 +141,93 @@ public class ClassDiagramUI {
     @FXML
     VBox editorsPane;
 
+    /**
+     * The resolutions offered when exporting an image, mapped to their scale factors.
+     */
+    private static final Map<String, Double> EXPORT_SCALES = new LinkedHashMap<>();
+
+    static {
+        EXPORT_SCALES.put("Screen (96 DPI)", 1.0);
+        EXPORT_SCALES.put("High (192 DPI)", 2.0);
+        EXPORT_SCALES.put("Print (300 DPI)", 300 / 96.0);
+        EXPORT_SCALES.put("Poster (600 DPI)", 600 / 96.0);
+    }
+
+    /**
+     * The code generation choice collecting all generated code in a single text file.
+     */
+    private static final String CODE_SINGLE_FILE = "Single text file";
+
+    /**
+     * The code generation choice writing one Java source file per class and interface.
+     */
+    private static final String CODE_SOURCE_TREE = "Source tree (one file per type)";
+
+    /**
+     * The code generation choice writing one source file per type in every supported language.
+     */
+    private static final String CODE_ALL_LANGUAGES = "Source trees (Java, Kotlin, TypeScript, C++)";
+
+    /**
+     * The import choice reading a Java source tree.
+     */
+    private static final String IMPORT_SOURCES = "Java source directory";
+
+    /**
+     * The import choice reading the compiled classes of a JAR file.
+     */
+    private static final String IMPORT_JAR = "JAR file (compiled classes)";
+
+    /**
+     * The slice choice showing the complete diagram.
+     */
+    private static final String SLICE_WHOLE = "Whole diagram";
+
+    /**
+     * The slice choice showing the neighbourhood of an element.
+     */
+    private static final String SLICE_NEIGHBOURHOOD = "Neighbourhood of a class or interface";
+
+    /**
+     * The slice choice showing the inheritance subtree of an element.
+     */
+    private static final String SLICE_SUBTREE = "Inheritance subtree";
+
+    /**
+     * The slice choice showing the elements of a package.
+     */
+    private static final String SLICE_PACKAGE = "Package";
+
+    /**
+     * The collaboration choice starting a session on this computer.
+     */
+    private static final String COLLABORATE_HOST = "Host a session";
+
+    /**
+     * The collaboration choice joining a session hosted elsewhere.
+     */
+    private static final String COLLABORATE_JOIN = "Join a session";
+
+    /**
+     * The collaboration choice leaving the current session.
+     */
+    private static final String COLLABORATE_STOP = "Leave the session";
+
+    /**
+     * The comparison choice reading the earlier version from a saved diagram file.
+     */
+    private static final String COMPARE_FILE = "Saved diagram file";
+
+    /**
+     * The comparison choice reading the earlier version from a stored snapshot.
+     */
+    private static final String COMPARE_SNAPSHOT = "Snapshot";
+
+    /**
+     * The comparison choice removing the highlighting of the changes.
+     */
+    private static final String COMPARE_HIDE = "Hide the changes";
+
     /**
      * The manager responsible for handling class diagram operations.
      */
@@ -135,9 +265,21 @@ public class ClassDiagramUI {
         btnSave.setOnAction(e -> handleSave());
         btnLoad.setOnAction(e -> handleLoad());
 
+        // Setup Undo and Redo handlers
+        btnUndo.setOnAction(e -> classDiagramManager.undo());
+        btnRedo.setOnAction(e -> classDiagramManager.redo());
+
         // Setup Export as Image Handler
         btnExportImage.setOnAction(e -> handleExportAsImage());
         btnCode.setOnAction(e -> handleGenerateCode());
+        btnImport.setOnAction(e -> handleImportCode());
+        btnSlice.setOnAction(e -> handleShowSlice());
+        btnCollaborate.setOnAction(e -> handleCollaborate());
+        btnCompare.setOnAction(e -> handleCompare());
+
+        // Setup snapshot history handlers
+        btnSnapshot.setOnAction(e -> handleSaveSnapshot());
+        btnHistory.setOnAction(e -> handleShowHistory());
         setupDeleteButtonHandler();
 
         // Home button
@@ -401,8 +543,8 @@ public class ClassDiagramUI {
     /**
      * Handles the Export as Image action.
      *
-     * <p>This method opens a file chooser dialog, allowing the user to select the destination file and format.
-     * It then delegates the export process to the {@code ClassDiagramManager} and provides user feedback based
+     * <p>This method opens a file chooser dialog, allowing the user to select the destination file and format,
+     * followed by a choice of the export resolution. It then delegates the export process to the {@code ClassDiagramManager} and provides user feedback based
      * on the success or failure of the operation.</p>
      */
     @FXML
@@ -421,22 +563,61 @@ public class ClassDiagramUI {
         fileChooser.getExtensionFilters().addAll(
                 new FileChooser.ExtensionFilter("PNG Image", "*.png"),
                 new FileChooser.ExtensionFilter("JPEG Image", "*.jpg"),
-                new FileChooser.ExtensionFilter("All Images", "*.png", "*.jpg", "*.jpeg")
+                new FileChooser.ExtensionFilter("SVG Image", "*.svg"),
+                new FileChooser.ExtensionFilter("PDF Document", "*.pdf"),
+                new FileChooser.ExtensionFilter("All Images", "*.png", "*.jpg", "*.jpeg", "*.svg", "*.pdf")
         );
 
         // Show the save dialog
         File file = fileChooser.showSaveDialog(stage);
-        if (file != null) {
+        if (file != null && (PdfDiagramExporter.hasPdfExtension(file)
+                || fileChooser.getSelectedExtensionFilter().getExtensions().equals(List.of("*.pdf")))) {
+            // PDF documents are generated from the model and split into pages when needed
             try {
-                classDiagramManager.exportAsImage(file);
+                classDiagramManager.exportAsPdf(file);
                 showInformationAlert("Diagram exported successfully to " + file.getAbsolutePath());
-            } catch (IllegalStateException e) {
+            } catch (IOException e) {
                 e.printStackTrace();
-                showErrorAlert("Failed to export diagram: " + e.getMessage());
+                showErrorAlert("An error occurred while saving the document.");
+            }
+        } else if (file != null && (SvgDiagramExporter.hasSvgExtension(file)
+                || fileChooser.getSelectedExtensionFilter().getExtensions().equals(List.of("*.svg")))) {
+            // Vector images are generated from the model and need no resolution
+            try {
+                classDiagramManager.exportAsSvg(file);
+                showInformationAlert("Diagram exported successfully to " + file.getAbsolutePath());
             } catch (IOException e) {
                 e.printStackTrace();
                 showErrorAlert("An error occurred while saving the image.");
             }
+        } else if (file != null) {
+            // Ask for the export resolution; large scales are rendered tile by tile
+            ChoiceDialog<String> scaleDialog = new ChoiceDialog<>(EXPORT_SCALES.keySet().iterator().next(), EXPORT_SCALES.keySet());
+            scaleDialog.setTitle("Export Resolution");
+            scaleDialog.setHeaderText(null);
+            scaleDialog.setContentText("Resolution:");
+            Optional<String> scale = scaleDialog.showAndWait();
+            if (scale.isEmpty()) {
+                return;
+            }
+            // Encoding runs in the background; keep the button disabled until the export has finished
+            btnExportImage.setDisable(true);
+            try {
+                classDiagramManager.exportAsImageAsync(file, EXPORT_SCALES.get(scale.get()))
+                        .whenComplete((written, error) -> Platform.runLater(() -> {
+                            btnExportImage.setDisable(false);
+                            if (error == null) {
+                                showInformationAlert("Diagram exported successfully to " + written.getAbsolutePath());
+                            } else {
+                                error.printStackTrace();
+                                showErrorAlert("An error occurred while saving the image.");
+                            }
+                        }));
+            } catch (IllegalStateException e) {
+                btnExportImage.setDisable(false);
+                e.printStackTrace();
+                showErrorAlert("Failed to export diagram: " + e.getMessage());
+            }
         }
     }
 
@@ -457,22 +638,48 @@ public class ClassDiagramUI {
 
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Save UML Diagram");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON Files", "*.json"));
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("JSON Files", "*.json"),
+                new FileChooser.ExtensionFilter("Compressed JSON Files", "*" + BlockDeflateCodec.FILE_EXTENSION),
+                new FileChooser.ExtensionFilter("Incremental Diagram Files", "*" + ClassDiagramDeltaSerializer.FILE_EXTENSION)
+        );
         File file = fileChooser.showSaveDialog(stage);
         if (file != null) {
-            classDiagramManager.saveDiagram(file);
+            // Incremental files only store the changes made since the previous save
+            if (ClassDiagramDeltaSerializer.hasDeltaExtension(file)) {
+                classDiagramManager.saveDiagramIncremental(file);
+            } else {
+                classDiagramManager.saveDiagram(file);
+            }
             showInformationAlert("Diagram saved successfully.");
         }
     }
 
     /**
-     * Handles the action of generating Java code from the current class diagram and saving it to a file.
+     * Handles the action of generating Java code from the current class diagram.
      *
-     * <p>This method opens a file chooser dialog for the user to select a location and name for the
-     * output file. The code is generated based on the current class diagram, and the generated code is
-     * saved to the specified file in text format.</p>
+     * <p>The user chooses between collecting the code in a single text file and generating a source tree with one
+     * {@code .java} file per class and interface. For a single file, a file chooser dialog asks for the location and
+     * name of the output file. For a source tree, a directory chooser asks for the root directory and the package of
+     * the generated types is entered; the files are then generated in the background. Regenerating into the same
+     * directory only rewrites the files of types that changed. The same can be done for every supported language at
+     * once, in which case each language gets its own subdirectory.</p>
      */
     private void handleGenerateCode() {
+        ChoiceDialog<String> modeDialog = new ChoiceDialog<>(CODE_SINGLE_FILE, CODE_SINGLE_FILE, CODE_SOURCE_TREE,
+                CODE_ALL_LANGUAGES);
+        modeDialog.setTitle("Generate Code");
+        modeDialog.setHeaderText(null);
+        modeDialog.setContentText("Output:");
+        Optional<String> mode = modeDialog.showAndWait();
+        if (mode.isEmpty()) {
+            return;
+        }
+        if (!mode.get().equals(CODE_SINGLE_FILE)) {
+            handleGenerateSourceTree(mode.get().equals(CODE_ALL_LANGUAGES));
+            return;
+        }
+
         // Specify the output file location (you can customize this as needed)
         FileChooser fileChooser = new FileChooser();
         fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
@@ -481,9 +688,337 @@ public class ClassDiagramUI {
         if (file != null) {
             // Generate the Java code and save it to the file
             ClassDiagramCodeGenerator codeGenerator = new ClassDiagramCodeGenerator();
-            codeGenerator.generateCodeFiles(classDiagramManager.getClassDiagram(), file.getAbsolutePath());
+            codeGenerator.generateCodeFiles(classDiagramManager.getModelDiagram(), file.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Generates one source file per class and interface into a directory chosen by the user.
+     *
+     * <p>The generation runs in the background so that large diagrams do not block the user interface; the code
+     * button stays disabled until it has finished.</p>
+     *
+     * @param allLanguages Whether to generate every {@link TargetLanguage} rather than updating a Java source tree.
+     */
+    private void handleGenerateSourceTree(boolean allLanguages) {
+        DirectoryChooser directoryChooser = new DirectoryChooser();
+        directoryChooser.setTitle("Source Directory");
+        File directory = directoryChooser.showDialog(primaryStage);
+        if (directory == null) {
+            return;
+        }
+        TextInputDialog packageDialog = new TextInputDialog();
+        packageDialog.setTitle("Generate Code");
+        packageDialog.setHeaderText(null);
+        packageDialog.setContentText("Package (empty for the default package):");
+        Optional<String> packageName = packageDialog.showAndWait();
+        if (packageName.isEmpty()) {
+            return;
+        }
+
+        // Generate the complete model, not the slice shown, from a copy of the element lists so that edits made
+        // meanwhile do not interfere; a slice would make the source tree update delete the files of hidden types
+        ClassDiagramD current = classDiagramManager.getModelDiagram();
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.setClasses(new ArrayList<>(current.getClasses()));
+        diagram.setInterfaces(new ArrayList<>(current.getInterfaces()));
+        diagram.setRelationships(new ArrayList<>(current.getRelationships()));
+        btnCode.setDisable(true);
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                if (allLanguages) {
+                    List<Path> files = new TemplateCodeGenerator().generate(diagram, directory.toPath(),
+                            packageName.get().trim(), EnumSet.allOf(TargetLanguage.class));
+                    return files.size() + " source files generated in " + directory.getAbsolutePath();
+                }
+                ClassDiagramCodeGenerator.SourceTreeUpdate update = new ClassDiagramCodeGenerator()
+                        .updateSourceTree(diagram, directory.toPath(), packageName.get().trim());
+                return update.getGenerated().size() + " source files generated, " + update.getUnchanged()
+                        + " unchanged and " + update.getDeleted().size() + " removed in " + directory.getAbsolutePath();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((message, error) -> Platform.runLater(() -> {
+            btnCode.setDisable(false);
+            if (error == null) {
+                showInformationAlert(message);
+            } else {
+                error.printStackTrace();
+                Throwable cause = error.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : error;
+                showErrorAlert("Failed to generate code: " + cause.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Handles the action of creating a diagram from existing Java code.
+     *
+     * <p>The user chooses between a Java source tree, picked with a directory chooser, and a compiled JAR file,
+     * picked with a file chooser. The code is read in the background, so that large code bases do not block the
+     * user interface, and the resulting diagram then replaces the current one. The import button stays disabled
+     * until the import has finished.</p>
+     */
+    private void handleImportCode() {
+        ChoiceDialog<String> sourceDialog = new ChoiceDialog<>(IMPORT_SOURCES, IMPORT_SOURCES, IMPORT_JAR);
+        sourceDialog.setTitle("Import Code");
+        sourceDialog.setHeaderText(null);
+        sourceDialog.setContentText("Import from:");
+        Optional<String> source = sourceDialog.showAndWait();
+        if (source.isEmpty()) {
+            return;
+        }
+        boolean fromJar = source.get().equals(IMPORT_JAR);
+        File directory;
+        if (fromJar) {
+            FileChooser fileChooser = new FileChooser();
+            fileChooser.setTitle("JAR File");
+            fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JAR Files", "*.jar"));
+            directory = fileChooser.showOpenDialog(primaryStage);
+        } else {
+            DirectoryChooser directoryChooser = new DirectoryChooser();
+            directoryChooser.setTitle("Java Source Directory");
+            directory = directoryChooser.showDialog(primaryStage);
+        }
+        if (directory == null) {
+            return;
+        }
+
+        btnImport.setDisable(true);
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return fromJar
+                        ? new ClassFileImporter().importJar(directory.toPath())
+                        : new JavaSourceImporter().importSourceTree(directory.toPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((diagram, error) -> Platform.runLater(() -> {
+            btnImport.setDisable(false);
+            if (error == null) {
+                String name = directory.getName();
+                DiagramSlice slice = classDiagramManager.showImportedDiagram(diagram,
+                        fromJar && name.endsWith(".jar") ? name.substring(0, name.length() - 4) : name);
+                showInformationAlert(diagram.getClasses().size() + " classes and " + diagram.getInterfaces().size()
+                        + " interfaces imported from " + directory.getAbsolutePath()
+                        + (slice == null ? "" : ". Showing " + slice + "; use Slice View to show other parts."));
+            } else {
+                error.printStackTrace();
+                Throwable cause = error.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : error;
+                showErrorAlert("Failed to import code: " + cause.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Handles the Slice View action.
+     *
+     * <p>The user chooses to show the whole diagram, the neighbourhood of a class or interface up to a number of
+     * relationships away, the inheritance subtree below a class or interface, or the elements of a package. Only the
+     * chosen slice is drawn; the complete model is kept by the {@code ClassDiagramManager}.</p>
+     */
+    private void handleShowSlice() {
+        if (classDiagramManager.isCollaborating()) {
+            showInformationAlert("Slices are not available while collaborating; every participant edits the whole "
+                    + "diagram.");
+            return;
+        }
+        ChoiceDialog<String> kindDialog = new ChoiceDialog<>(SLICE_NEIGHBOURHOOD, SLICE_WHOLE, SLICE_NEIGHBOURHOOD,
+                SLICE_SUBTREE, SLICE_PACKAGE);
+        kindDialog.setTitle("Slice View");
+        kindDialog.setHeaderText(null);
+        kindDialog.setContentText("Show:");
+        Optional<String> kind = kindDialog.showAndWait();
+        if (kind.isEmpty()) {
+            return;
+        }
+
+        DiagramSlice slice;
+        switch (kind.get()) {
+            case SLICE_WHOLE -> {
+                classDiagramManager.showWholeDiagram();
+                return;
+            }
+            case SLICE_PACKAGE -> {
+                List<String> packages = new ArrayList<>(classDiagramManager.getSlicer().getPackages());
+                if (packages.isEmpty()) {
+                    showInformationAlert("The diagram has no packages. Packages are known for imported code.");
+                    return;
+                }
+                ChoiceDialog<String> packageDialog = new ChoiceDialog<>(packages.get(0), packages);
+                packageDialog.setTitle("Slice View");
+                packageDialog.setHeaderText(null);
+                packageDialog.setContentText("Package:");
+                Optional<String> packageName = packageDialog.showAndWait();
+                if (packageName.isEmpty()) {
+                    return;
+                }
+                slice = DiagramSlice.packageSubset(packageName.get());
+            }
+            default -> {
+                TextInputDialog elementDialog = new TextInputDialog();
+                elementDialog.setTitle("Slice View");
+                elementDialog.setHeaderText(null);
+                elementDialog.setContentText("Class or interface name:");
+                Optional<String> elementName = elementDialog.showAndWait().map(String::trim);
+                if (elementName.isEmpty()) {
+                    return;
+                }
+                if (!classDiagramManager.getSlicer().containsElement(elementName.get())) {
+                    showErrorAlert("The diagram has no class or interface named " + elementName.get() + ".");
+                    return;
+                }
+                if (kind.get().equals(SLICE_SUBTREE)) {
+                    slice = DiagramSlice.inheritanceSubtree(elementName.get());
+                } else {
+                    TextInputDialog hopsDialog = new TextInputDialog("1");
+                    hopsDialog.setTitle("Slice View");
+                    hopsDialog.setHeaderText(null);
+                    hopsDialog.setContentText("Number of relationships to follow:");
+                    Optional<String> hops = hopsDialog.showAndWait();
+                    if (hops.isEmpty()) {
+                        return;
+                    }
+                    try {
+                        slice = DiagramSlice.neighbourhood(elementName.get(), Integer.parseInt(hops.get().trim()));
+                    } catch (IllegalArgumentException e) {
+                        showErrorAlert("Invalid number of relationships: " + hops.get());
+                        return;
+                    }
+                }
+            }
         }
+        classDiagramManager.showSlice(slice);
     }
+
+    /**
+     * Handles the Collaborate action.
+     *
+     * <p>The user hosts a collaboration session on a port of this computer, joins a session hosted elsewhere, or
+     * leaves the current session. While collaborating, changes are exchanged with the other participants as they are
+     * made and the diagram of every participant is merged into the shared one when joining.</p>
+     */
+    private void handleCollaborate() {
+        List<String> choices = classDiagramManager.isCollaborating()
+                ? List.of(COLLABORATE_STOP) : List.of(COLLABORATE_HOST, COLLABORATE_JOIN);
+        ChoiceDialog<String> modeDialog = new ChoiceDialog<>(choices.get(0), choices);
+        modeDialog.setTitle("Collaborate");
+        modeDialog.setHeaderText(null);
+        modeDialog.setContentText("Action:");
+        Optional<String> mode = modeDialog.showAndWait();
+        if (mode.isEmpty()) {
+            return;
+        }
+        if (mode.get().equals(COLLABORATE_STOP)) {
+            classDiagramManager.stopCollaboration();
+            showInformationAlert("You left the collaboration session.");
+            return;
+        }
+
+        boolean host = mode.get().equals(COLLABORATE_HOST);
+        TextInputDialog addressDialog = new TextInputDialog(host ? "localhost:0" : "localhost:");
+        addressDialog.setTitle("Collaborate");
+        addressDialog.setHeaderText(null);
+        addressDialog.setContentText(host ? "Listen on (host:port, port 0 picks one):" : "Server (host:port):");
+        Optional<String> address = addressDialog.showAndWait().map(String::trim);
+        if (address.isEmpty()) {
+            return;
+        }
+        int separator = address.get().lastIndexOf(':');
+        try {
+            String hostName = address.get().substring(0, separator);
+            int port = Integer.parseInt(address.get().substring(separator + 1));
+            int boundPort = classDiagramManager.startCollaboration(hostName, port, host);
+            showInformationAlert(host ? "Hosting a collaboration session on port " + boundPort + "."
+                    : "Joined the collaboration session at " + address.get() + ".");
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            showErrorAlert("Expected host:port, got " + address.get());
+        } catch (IOException e) {
+            e.printStackTrace();
+            showErrorAlert("Failed to " + (host ? "host" : "join") + " the session: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handles the Compare action.
+     *
+     * <p>The user compares the diagram with a saved diagram file or a stored snapshot, or hides the changes shown by
+     * the previous comparison. The changes are highlighted on the drawing pane and listed in a dialog.</p>
+     */
+    private void handleCompare() {
+        List<String> choices = classDiagramManager.isShowingChanges()
+                ? List.of(COMPARE_HIDE, COMPARE_FILE, COMPARE_SNAPSHOT) : List.of(COMPARE_FILE, COMPARE_SNAPSHOT);
+        ChoiceDialog<String> sourceDialog = new ChoiceDialog<>(choices.get(0), choices);
+        sourceDialog.setTitle("Compare");
+        sourceDialog.setHeaderText(null);
+        sourceDialog.setContentText("Compare with:");
+        Optional<String> source = sourceDialog.showAndWait();
+        if (source.isEmpty()) {
+            return;
+        }
+        if (source.get().equals(COMPARE_HIDE)) {
+            classDiagramManager.hideChanges();
+            return;
+        }
+        try {
+            DiagramDiff diff;
+            if (source.get().equals(COMPARE_FILE)) {
+                FileChooser fileChooser = new FileChooser();
+                fileChooser.setTitle("Compare with Diagram");
+                fileChooser.getExtensionFilters().addAll(
+                        new FileChooser.ExtensionFilter("JSON Files", "*.json"),
+                        new FileChooser.ExtensionFilter("Compressed JSON Files", "*" + BlockDeflateCodec.FILE_EXTENSION),
+                        new FileChooser.ExtensionFilter("Incremental Diagram Files",
+                                "*" + ClassDiagramDeltaSerializer.FILE_EXTENSION));
+                File file = fileChooser.showOpenDialog(drawingPane.getScene().getWindow());
+                if (file == null) {
+                    return;
+                }
+                diff = classDiagramManager.compareWithFile(file);
+            } else {
+                List<SnapshotManifest> snapshots = classDiagramManager.listSnapshots();
+                if (snapshots.isEmpty()) {
+                    showInformationAlert("No snapshots have been saved for this diagram yet.");
+                    return;
+                }
+                ChoiceDialog<SnapshotManifest> snapshotDialog =
+                        new ChoiceDialog<>(snapshots.get(snapshots.size() - 1), snapshots);
+                snapshotDialog.setTitle("Compare");
+                snapshotDialog.setHeaderText(null);
+                snapshotDialog.setContentText("Compare with snapshot:");
+                Optional<SnapshotManifest> snapshot = snapshotDialog.showAndWait();
+                if (snapshot.isEmpty()) {
+                    return;
+                }
+                diff = classDiagramManager.compareWithSnapshot(snapshot.get().getId());
+            }
+            showChanges(diff);
+        } catch (IOException e) {
+            e.printStackTrace();
+            showErrorAlert("Failed to compare the diagram: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lists the changes found by a comparison.
+     *
+     * @param diff The changes.
+     */
+    private void showChanges(DiagramDiff diff) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Changes");
+        alert.setHeaderText("Changes since the compared version: " + diff.summary());
+        alert.setContentText(diff.isEmpty() ? "The diagrams are structurally equal."
+                : "Added elements are outlined in green, renamed ones in blue, changed ones in orange and removed ones"
+                + " with a dashed red border. Use Compare again to hide them.");
+        if (!diff.isEmpty()) {
+            TextArea list = new TextArea(diff.toString());
+            list.setEditable(false);
+            alert.getDialogPane().setExpandableContent(list);
+            alert.getDialogPane().setExpanded(diff.getChanges().size() <= 20);
+        }
+        alert.showAndWait();
+    }
+
     /**
      * Handles the Load action.
      *
@@ -501,7 +1036,11 @@ public class ClassDiagramUI {
 
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Load UML Diagram");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON Files", "*.json"));
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("JSON Files", "*.json"),
+                new FileChooser.ExtensionFilter("Compressed JSON Files", "*" + BlockDeflateCodec.FILE_EXTENSION),
+                new FileChooser.ExtensionFilter("Incremental Diagram Files", "*" + ClassDiagramDeltaSerializer.FILE_EXTENSION)
+        );
         File file = fileChooser.showOpenDialog(stage);
         if (file != null) {
             classDiagramManager.loadDiagram(file);
@@ -509,6 +1048,51 @@ public class ClassDiagramUI {
         }
     }
 
+    /**
+     * Opens a saved diagram file in this editor.
+     *
+     * <p>This method is used when a diagram is chosen from the recent files on the welcome page, after the editor
+     * has been loaded. The load itself is delegated to the {@code ClassDiagramManager}, which reports the outcome.</p>
+     *
+     * @param file The diagram file to open.
+     */
+    public void openDiagram(File file) {
+        classDiagramManager.loadDiagram(file);
+    }
+
+    /**
+     * Handles the Save Snapshot action.
+     *
+     * <p>This method asks the user for a label and stores the current diagram as a new version in the
+     * snapshot store through the {@code ClassDiagramManager}.</p>
+     */
+    private void handleSaveSnapshot() {
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Save Snapshot");
+        dialog.setHeaderText(null);
+        dialog.setContentText("Snapshot label:");
+        dialog.showAndWait().ifPresent(classDiagramManager::saveSnapshot);
+    }
+
+    /**
+     * Handles the History action.
+     *
+     * <p>This method lists the stored snapshots of the current diagram and restores the one selected by the user.</p>
+     */
+    private void handleShowHistory() {
+        List<SnapshotManifest> snapshots = classDiagramManager.listSnapshots();
+        if (snapshots.isEmpty()) {
+            showInformationAlert("No snapshots have been saved for this diagram yet.");
+            return;
+        }
+
+        ChoiceDialog<SnapshotManifest> dialog = new ChoiceDialog<>(snapshots.get(snapshots.size() - 1), snapshots);
+        dialog.setTitle("Snapshot History");
+        dialog.setHeaderText(null);
+        dialog.setContentText("Restore snapshot:");
+        dialog.showAndWait().ifPresent(snapshot -> classDiagramManager.restoreSnapshot(snapshot.getId()));
+    }
+
     /**
      * Displays an error alert to the user with the specified message.
      *
@@ -599,6 +1183,7 @@ public class ClassDiagramUI {
      * is not found, an error message is displayed.</p>
      */
     private void goToHomePage() {
+        classDiagramManager.stopCollaboration();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/umlscd/welcome.fxml"));
             System.out.println("Loaded welcomepage");
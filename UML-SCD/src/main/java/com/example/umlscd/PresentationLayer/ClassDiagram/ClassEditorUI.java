@@ -2,7 +2,10 @@ package com.example.umlscd.PresentationLayer.ClassDiagram;
 
 import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramManager;
 import com.example.umlscd.BusinessLayer.ClassDiagram.ClassEditorManager;
+import com.example.umlscd.Models.ClassDiagram.UMLAttribute;
 import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLMemberParser;
+import com.example.umlscd.Models.ClassDiagram.UMLMethod;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
@@ -257,14 +260,38 @@ public class ClassEditorUI {
      *
      * <p>This method gathers the updated class name, attributes, and methods from the editor fields
      * and delegates the update process to the {@code ClassEditorManager}. It ensures that the
-     * underlying UML model reflects the latest modifications made by the user.</p>
+     * underlying UML model reflects the latest modifications made by the user. Lines that do not follow the
+     * attribute or method notation are reported in a warning.</p>
      */
     private void applyChanges() {
+        List<String> problems = new ArrayList<>(UMLMemberParser.attributeProblems(attributesArea.getText()));
+        problems.addAll(UMLMemberParser.methodProblems(methodsArea.getText()));
+
         classEditorManager.applyChanges(
                 classNameField.getText(),
                 attributesArea.getText(),
                 methodsArea.getText()
         );
+        warnAboutMemberProblems(problems);
+    }
+
+    /**
+     * Warns about member lines that do not follow the attribute or method notation.
+     *
+     * <p>The changes are applied regardless; the warning lists each problem so that the user can correct it. The
+     * dialog does not block the editor.</p>
+     *
+     * @param problems The problems, each prefixed with the offending line.
+     */
+    private void warnAboutMemberProblems(List<String> problems) {
+        if (problems.isEmpty()) {
+            return;
+        }
+        Alert alert = new Alert(Alert.AlertType.WARNING);
+        alert.setTitle("Check Members");
+        alert.setHeaderText("Some members do not follow the UML notation.");
+        alert.setContentText(String.join("\n", problems));
+        alert.show();
     }
 
     /**
@@ -437,8 +464,9 @@ public class ClassEditorUI {
             oldAttributeField.setText(currentAttribute);
 
             // Set the dropdowns to the current values if attribute exists
-            String visibility = parseVisibility(currentAttribute); // Parse visibility
-            String dataType = parseDataType(currentAttribute); // Parse data type
+            UMLAttribute attribute = UMLMemberParser.parseAttribute(currentAttribute);
+            String visibility = visibilityLabel(attribute.getVisibility());
+            String dataType = attribute.getType().isEmpty() ? "String" : attribute.getType();
 
             // Set the visibility and data type to current values if available
             if (visibility != null && !visibility.isEmpty() && !visibility.equals("Visibility")) {
@@ -495,12 +523,12 @@ public class ClassEditorUI {
                 for (int i = 0; i < lines.length; i++) {
                     if (lines[i].contains(oldAttribute)) {
                         // Parse the current attribute to keep unchanged values
-                        String currentVisibility = parseVisibility(lines[i]);
-                        String currentDataType = parseDataType(lines[i]);
-                        String currentName = parseAttributeName(lines[i]);
+                        UMLAttribute current = UMLMemberParser.parseAttribute(lines[i]);
+                        String currentDataType = current.getType().isEmpty() ? "String" : current.getType();
+                        String currentName = current.getName().isEmpty() ? "attribute" : current.getName();
 
                         // Replace only updated components
-                        String updatedVisibility = visibility != null && !visibility.equals("Visibility") ? parseVisibilitySymbol(visibility) : parseVisibilitySymbol(currentVisibility);
+                        String updatedVisibility = visibility != null && !visibility.equals("Visibility") ? parseVisibilitySymbol(visibility) : parseVisibilitySymbol(visibilityLabel(current.getVisibility()));
                         String updatedDataType = (dataType != null && !dataType.equals("DataType") && !dataType.equals("Custom")) ? dataType : currentDataType;
                         // Ensure name is updated or remains unchanged
                         String updatedName = !newAttribute.trim().isEmpty() ? newAttribute : currentName;
@@ -555,18 +583,17 @@ public class ClassEditorUI {
     }
 
     /**
-     * Parse the visibility modifier from the attribute string.
-     * <p>This method examines the provided attribute string and returns a human-readable visibility string
-     * indicating the attribute's access level (public, private, or protected).</p>
+     * Converts a visibility symbol into the label shown in the visibility dropdowns.
      *
-     * @param attribute The attribute string to parse.
-     * @return The visibility string (e.g., "+ public", "- private", "# protected").
+     * @param symbol The visibility symbol of a parsed member.
+     * @return The visibility label (e.g., "+ public", "- private", "# protected"); public if the member has none.
      */
-    private String parseVisibility(String attribute) {
-        if (attribute.startsWith("+")) return "+ public";
-        if (attribute.startsWith("-")) return "- private";
-        if (attribute.startsWith("#")) return "# protected";
-        return "+ public"; // Default to public
+    private String visibilityLabel(String symbol) {
+        return switch (symbol) {
+            case "-" -> "- private";
+            case "#" -> "# protected";
+            default -> "+ public";
+        };
     }
 
     /**
@@ -586,44 +613,6 @@ public class ClassEditorUI {
         };
     }
 
-    /**
-     * Parse the data type from the attribute string.
-     * <p>This method extracts and returns the data type part from an attribute string,
-     * assuming the format "visibility name : type". If the type is not found, it defaults to "String".</p>
-     *
-     * @param attribute The attribute string (e.g., "+ name : String").
-     * @return The data type (e.g., "String", "int", etc.). Defaults to "String" if no type is found.
-     */
-    private String parseDataType(String attribute) {
-        String[] parts = attribute.split(" : ");
-        return parts.length > 1 ? parts[1].trim() : "String"; // Default to String
-    }
-
-    /**
-     * Parse the attribute name from the attribute string.
-     * <p>This method extracts the attribute name from an attribute string, ignoring the visibility and type.
-     * If the format is incorrect or the name is not found, it defaults to "attribute".</p>
-     *
-     * @param attribute The attribute string (e.g., "+ name : String").
-     * @return The attribute name (e.g., "name"). Defaults to "attribute" if no valid name is found.
-     */
-    private String parseAttributeName(String attribute) {
-        // Split the attribute by the space character
-        String[] parts = attribute.split(" ");
-
-        // Ensure there are at least 2 parts (name and type)
-        if (parts.length >= 2) {
-            // The first part will be the visibility modifier, so remove it
-            String nameWithVisibility = parts[0].trim();
-
-            // Remove the first character (visibility modifier) and return the attribute name
-            return !nameWithVisibility.isEmpty() ? nameWithVisibility.substring(1).trim() : "attribute";
-        }
-
-        // Default case if the format is not as expected
-        return "attribute"; // Default to "attribute"
-    }
-
     /**
      * Show an error dialog with the specified title and content.
      * <p>This method displays an error dialog with the provided title and content text,
@@ -703,10 +692,11 @@ public class ClassEditorUI {
             oldMethodField.setText(currentMethod);
 
             // Set the dropdowns to the current values if method exists
-            String visibility = parseVisibility(currentMethod); // Parse visibility
-            String returnType = parseReturnType(currentMethod); // Parse return type
-            String methodName = parseMethodName(currentMethod); // Parse method name
-            String parameters = parseParameters(currentMethod); // Parse method parameters
+            UMLMethod method = UMLMemberParser.parseMethod(currentMethod);
+            String visibility = visibilityLabel(method.getVisibility());
+            String returnType = method.getReturnType();
+            String methodName = method.getName();
+            String parameters = method.getParameterText();
 
             // Set the visibility and return type to current values if available
             if (visibility != null && !visibility.isEmpty() && !visibility.equals("Visibility")) {
@@ -775,13 +765,13 @@ public class ClassEditorUI {
                 for (int i = 0; i < lines.length; i++) {
                     if (lines[i].contains(oldMethod)) {
                         // Parse the current method to keep unchanged values
-                        String currentVisibility = parseVisibility(lines[i]);
-                        String currentReturnType = parseReturnType(lines[i]);
-                        String currentName = parseMethodName(lines[i]);
-                        String currentParameters = parseParameters(lines[i]);
+                        UMLMethod current = UMLMemberParser.parseMethod(lines[i]);
+                        String currentReturnType = current.getReturnType();
+                        String currentName = current.getName();
+                        String currentParameters = current.getParameterText();
 
                         // Replace only updated components
-                        String updatedVisibility = visibility != null && !visibility.equals("Visibility") ? parseVisibilitySymbol(visibility) : parseVisibilitySymbol(currentVisibility);
+                        String updatedVisibility = visibility != null && !visibility.equals("Visibility") ? parseVisibilitySymbol(visibility) : parseVisibilitySymbol(visibilityLabel(current.getVisibility()));
                         String updatedReturnType = (returnType != null && !returnType.equals("ReturnType") && !returnType.equals("Custom")) ? returnType : currentReturnType;
                         String updatedParameters = !parameters.isEmpty() ? parameters : currentParameters;
                         String updatedName = !newMethod.trim().isEmpty() ? newMethod : currentName;
@@ -833,86 +823,4 @@ public class ClassEditorUI {
         }
     }
 
-    /**
-     * Parse method parameters from the method signature string.
-     * <p>This method extracts the parameters part of the method signature, which is expected to be enclosed in parentheses.
-     * If no parameters are found or if the format is incorrect, it returns an empty string.</p>
-     *
-     * @param method The method signature string, e.g., "public void someMethod(int id, String name)".
-     * @return A string containing the method parameters, e.g., "int id, String name". Returns an empty string if no parameters are found.
-     */
-    private String parseParameters(String method) {
-        // Remove any leading/trailing whitespace
-        method = method.trim();
-
-        // Find the opening and closing parentheses
-        int startIndex = method.indexOf('(');
-        int endIndex = method.indexOf(')');
-
-        // If both parentheses are found, extract the part between them
-        if (startIndex != -1 && endIndex != -1 && startIndex < endIndex) {
-            return method.substring(startIndex + 1, endIndex).trim();
-        }
-
-        // Return empty string if no parameters are found
-        return "";
-    }
-
-    /**
-     * Parse the return type from the method signature string.
-     * <p>This method extracts the return type from the method signature, which is expected to be after the closing parenthesis of the method parameters.
-     * If no valid return type is found, it defaults to "void".</p>
-     *
-     * @param method The method signature string, e.g., "public void someMethod(int id, String name)".
-     * @return A string representing the return type of the method, e.g., "void", "int", "String".
-     */
-    private String parseReturnType(String method) {
-        // Ensure the method is not empty and has valid format
-        if (method == null || method.isEmpty()) {
-            return "void";  // Return default value for empty input
-        }
-
-        int startIndex = method.indexOf('(');
-        int endIndex = method.indexOf(')');
-        if (startIndex != -1 && endIndex != -1 && endIndex < method.length() - 1) {
-            try {
-                String returnType = method.substring(endIndex + 1).trim(); // Extract return type after parentheses
-                if (returnType.startsWith(":")) {
-                    returnType = returnType.substring(1).trim(); // Remove the colon and trim spaces
-                }
-                return returnType.isEmpty() ? "void" : returnType;  // Fallback to "void" if empty
-            } catch (StringIndexOutOfBoundsException e) {
-                // Log or handle the error gracefully
-                System.err.println("Error parsing return type: " + method);
-                return "void";  // Fallback to "void"
-            }
-        }
-        return "void";  // Return default value if the method signature is not in expected format
-    }
-
-    /**
-     * Parse the method name from the method signature string.
-     * <p>This method extracts the name of the method from the method signature string. The method name is expected to appear
-     * before the opening parenthesis `(`.</p>
-     *
-     * @param method The method signature string, e.g., "public void someMethod(int id, String name)".
-     * @return The method name, e.g., "someMethod".
-     */
-    private String parseMethodName(String method) {
-        // Trim leading/trailing whitespaces
-        method = method.trim();
-
-        // Find the position of the opening parenthesis '(' to locate the end of the method name
-        int startIndex = method.indexOf('(');
-
-        // If '(' is found, the method name is everything before it
-        if (startIndex != -1) {
-            return method.substring(1, startIndex).trim();
-        }
-
-        // If '(' is not found, return the method string as is (could be an invalid format or no parameters)
-        return method;
-    }
-
-
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.example.umlscd.PresentationLayer.ClassDiagram;
 import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramManager;
 import com.example.umlscd.BusinessLayer.ClassDiagram.InterfaceEditorManager;
 import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLMemberParser;
+import com.example.umlscd.Models.ClassDiagram.UMLMethod;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
@@ -285,9 +287,8 @@ public class InterfaceEditorUI {
      * <p> This method displays a dialog where the user can enter the old method name they wish to edit,
      * the updated method name, method parameters, visibility modifier, and return type. The dialog pre-fills
      * with the currently selected method from the editor, allowing the user to update individual components.</p>
-     * <p> The method utilizes helper methods such as {@link #parseVisibility(String)}, {@link #parseReturnType(String)},
-     * {@link #parseMethodName(String)}, and {@link #parseParameters(String)} to extract and parse the method details from
-     * the selected method text. </p>
+     * <p> The selected method text is parsed with {@link UMLMemberParser#parseMethod(String)} to extract its
+     * visibility, name, parameters and return type. </p>
      */
     private void editMethod() {
         Dialog<InterfaceEditorUI.MethodsDetails> dialog = new Dialog<>();
@@ -322,10 +323,11 @@ public class InterfaceEditorUI {
             oldMethodField.setText(currentMethod);
 
             // Set the dropdowns to the current values if method exists
-            String visibility = parseVisibility(currentMethod); // Parse visibility
-            String returnType = parseReturnType(currentMethod); // Parse return type
-            String methodName = parseMethodName(currentMethod); // Parse method name
-            String parameters = parseParameters(currentMethod); // Parse method parameters
+            UMLMethod method = UMLMemberParser.parseMethod(currentMethod);
+            String visibility = visibilityLabel(method.getVisibility());
+            String returnType = method.getReturnType();
+            String methodName = method.getName();
+            String parameters = method.getParameterText();
 
             // Set the visibility and return type to current values if available
             if (visibility != null && !visibility.isEmpty() && !visibility.equals("Visibility")) {
@@ -393,13 +395,13 @@ public class InterfaceEditorUI {
                 for (int i = 0; i < lines.length; i++) {
                     if (lines[i].contains(oldMethod)) {
                         // Parse the current method to keep unchanged values
-                        String currentVisibility = parseVisibility(lines[i]);
-                        String currentReturnType = parseReturnType(lines[i]);
-                        String currentName = parseMethodName(lines[i]);
-                        String currentParameters = parseParameters(lines[i]);
+                        UMLMethod current = UMLMemberParser.parseMethod(lines[i]);
+                        String currentReturnType = current.getReturnType();
+                        String currentName = current.getName();
+                        String currentParameters = current.getParameterText();
 
                         // Replace only updated components
-                        String updatedVisibility = visibility != null && !visibility.equals("Visibility") ? parseVisibilitySymbol(visibility) : parseVisibilitySymbol(currentVisibility);
+                        String updatedVisibility = visibility != null && !visibility.equals("Visibility") ? parseVisibilitySymbol(visibility) : parseVisibilitySymbol(visibilityLabel(current.getVisibility()));
                         String updatedReturnType = (returnType != null && !returnType.equals("ReturnType") && !returnType.equals("Custom")) ? returnType : currentReturnType;
                         String updatedParameters = !parameters.isEmpty() ? parameters : currentParameters;
                         String updatedName = !newMethod.trim().isEmpty() ? newMethod : currentName;
@@ -455,20 +457,17 @@ public class InterfaceEditorUI {
     }
 
     /**
-     * Parses the visibility from a method signature string.
-     * <p>
-     * This method examines the beginning of a method string to determine its visibility. It checks for the following symbols:
-     * If no specific visibility is found, it defaults to public visibility.
-     * </p>
+     * Converts a visibility symbol into the label shown in the visibility dropdowns.
      *
-     * @param attribute the method signature string to parse
-     * @return the visibility as a string, e.g., "+ public", "- private", or "# protected"
+     * @param symbol The visibility symbol of a parsed member.
+     * @return The visibility label (e.g., "+ public", "- private", "# protected"); public if the member has none.
      */
-    private String parseVisibility(String attribute) {
-        if (attribute.startsWith("+")) return "+ public";
-        if (attribute.startsWith("-")) return "- private";
-        if (attribute.startsWith("#")) return "# protected";
-        return "+ public"; // Default to public
+    private String visibilityLabel(String symbol) {
+        return switch (symbol) {
+            case "-" -> "- private";
+            case "#" -> "# protected";
+            default -> "+ public";
+        };
     }
 
     /**
@@ -526,107 +525,39 @@ public class InterfaceEditorUI {
     }
 
     /**
-     * Parses method parameters from a method signature string.
-     * <p>
-     * This method extracts the parameters of a method from its signature by finding the portion between the
-     * opening and closing parentheses. If no parameters are found, it returns an empty string.
-     * </p>
+     * Applies the changes made in the editor to the interface model.
      *
-     * @param method the method signature string to parse
-     * @return the method's parameters as a string, or an empty string if no parameters are present
+     * <p>This method collects the methods from the {@code methodsArea}, concatenates their content, and sends the
+     * data to the {@code interfaceEditorManager} to update the interface model with the new methods and name.
+     * Lines that do not follow the method notation are reported in a warning.</p>
      */
-    private String parseParameters(String method) {
-        // Remove any leading/trailing whitespace
-        method = method.trim();
-
-        // Find the opening and closing parentheses
-        int startIndex = method.indexOf('(');
-        int endIndex = method.indexOf(')');
-
-        // If both parentheses are found, extract the part between them
-        if (startIndex != -1 && endIndex != -1 && startIndex < endIndex) {
-            return method.substring(startIndex + 1, endIndex).trim();
-        }
+    private void applyChanges() {
+        List<String> problems = UMLMemberParser.methodProblems(methodsArea.getText());
 
-        // Return empty string if no parameters are found
-        return "";
+        interfaceEditorManager.applyChanges(
+                interfaceNameField.getText(),
+                methodsArea.getText()
+        );
+        warnAboutMemberProblems(problems);
     }
 
-
     /**
-     * Parses the return type from a method signature string.
-     * <p>
-     * This method extracts the return type of a method by looking for the portion of the method signature
-     * that follows the closing parenthesis. If no return type is found or if the input is invalid, it returns "void".
-     * </p>
+     * Warns about member lines that do not follow the method notation.
      *
-     * @param method the method signature string to parse
-     * @return the method's return type as a string, or "void" if no return type is found
-     */
-    private String parseReturnType(String method) {
-        // Ensure the method is not empty and has valid format
-        if (method == null || method.isEmpty()) {
-            return "void";  // Return default value for empty input
-        }
-
-        int startIndex = method.indexOf('(');
-        int endIndex = method.indexOf(')');
-        if (startIndex != -1 && endIndex != -1 && endIndex < method.length() - 1) {
-            try {
-                String returnType = method.substring(endIndex + 1).trim(); // Extract return type after parentheses
-                // If there is a colon, remove it
-                if (returnType.startsWith(":")) {
-                    returnType = returnType.substring(1).trim(); // Remove the colon and trim spaces
-                }
-                return returnType.isEmpty() ? "void" : returnType;
-                // Fallback to "void" if empty
-            } catch (StringIndexOutOfBoundsException e) {
-                // Log or handle the error gracefully
-                System.err.println("Error parsing return type: " + method);
-                return "void";  // Fallback to "void"
-            }
-
-        }
-        return "void";  // Return default value if the method signature is not in expected format
-    }
-
-    /**
-     * Parses the method name from a method signature string.
-     * <p>
-     * This method extracts the method name by finding the portion of the string before the opening parenthesis.
-     * If no parenthesis is found, it returns the entire method string (which may be in an invalid format).
-     * </p>
+     * <p>The changes are applied regardless; the warning lists each problem so that the user can correct it. The
+     * dialog does not block the editor.</p>
      *
-     * @param method the method signature string to parse
-     * @return the method's name as a string
+     * @param problems The problems, each prefixed with the offending line.
      */
-    private String parseMethodName(String method) {
-        // Trim leading/trailing whitespaces
-        method = method.trim();
-
-        // Find the position of the opening parenthesis '(' to locate the end of the method name
-        int startIndex = method.indexOf('(');
-
-        // If '(' is found, the method name is everything before it
-        if (startIndex != -1) {
-            return method.substring(1, startIndex).trim();
+    private void warnAboutMemberProblems(List<String> problems) {
+        if (problems.isEmpty()) {
+            return;
         }
-
-        // If '(' is not found, return the method string as is (could be an invalid format or no parameters)
-        return method;
-    }
-
-    /**
-     * Applies the changes made in the editor to the interface model.
-     *
-     * <p>This method collects the methods from the {@code methodsArea}, concatenates their content, and sends the
-     * data to the {@code interfaceEditorManager} to update the interface model with the new methods and name.</p>
-     */
-    private void applyChanges() {
-        interfaceEditorManager.applyChanges(
-                interfaceNameField.getText(),
-                methodsArea.getText()
-        );
+        Alert alert = new Alert(Alert.AlertType.WARNING);
+        alert.setTitle("Check Members");
+        alert.setHeaderText("Some members do not follow the UML notation.");
+        alert.setContentText(String.join("\n", problems));
+        alert.show();
     }
 
     /**
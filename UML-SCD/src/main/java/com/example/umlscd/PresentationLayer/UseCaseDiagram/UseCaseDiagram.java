@@ -3,8 +3,11 @@ package com.example.umlscd.PresentationLayer.UseCaseDiagram;
 import com.example.umlscd.Models.UseCaseDiagram.Association;
 import com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram.UseCaseDiagramDAO;
 import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramHistory;
 import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
 import com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram.UseCaseDiagramSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.RecentFiles.RecentDiagramFiles;
 import javafx.fxml.FXML;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -83,7 +86,10 @@ public class UseCaseDiagram {
     TreeItem<String> rootItem; // Root item for the explorer
 
     @FXML
-    private Button btnSaveDiagram, btnLoadDiagram, btnSaveJson, btnLoadJson, btnExportImage;
+    private Button btnSaveDiagram, btnLoadDiagram, btnSaveJson, btnLoadJson, btnExportImage, btnExportSvg, btnExportPdf;
+
+    @FXML
+    private Button btnUndo, btnRedo;
 
     ArrayList<UseCaseDiagramObject> objects;
     ArrayList<Association> associations;
@@ -98,6 +104,16 @@ public class UseCaseDiagram {
     private boolean isInEditMode = false; // To track if the user is in edit mode
     String systemBoundaryName = "System";  // Default name for the system boundary
 
+    /**
+     * Makes the changes to the objects and associations, so that they can be undone and redone.
+     */
+    UseCaseDiagramHistory history;
+
+    /**
+     * The list of recently used diagram files offered on the welcome page.
+     */
+    private final RecentDiagramFiles recentFiles = new RecentDiagramFiles(RecentDiagramFiles.DEFAULT_FILE);
+
     /**
      * Initializes the Use Case Diagram editor by setting up UI components, event handlers, and default configurations.
      *
@@ -108,6 +124,7 @@ public class UseCaseDiagram {
     void initialize() {
         objects = new ArrayList<>();
         associations = new ArrayList<>();
+        history = new UseCaseDiagramHistory(objects, associations);
         gc = canvas.getGraphicsContext2D();
 
         // Initialize the object explorer
@@ -175,6 +192,12 @@ public class UseCaseDiagram {
 
         // Set the action for the Export Image button
         btnExportImage.setOnAction(event -> exportDiagramToImage());
+        btnExportSvg.setOnAction(event -> exportDiagramToSvg());
+        btnExportPdf.setOnAction(event -> exportDiagramToPdf());
+
+        // Undo and redo
+        btnUndo.setOnAction(event -> refreshAfter(history.undo()));
+        btnRedo.setOnAction(event -> refreshAfter(history.redo()));
 
         // Set hover effects for association buttons
         btnAssociation.setOnAction(event -> {
@@ -236,7 +259,7 @@ public class UseCaseDiagram {
             actorName = "Actor";
         }
         UseCaseDiagramObject actor = new UseCaseDiagramObject("actor", 150, 100, actorName);
-        objects.add(actor);
+        history.addObject(actor);
 
         // Update the explorer
         TreeItem<String> actorItem = new TreeItem<>(actorName);
@@ -259,7 +282,7 @@ public class UseCaseDiagram {
             useCaseName = "Use Case";
         }
         UseCaseDiagramObject useCase = new UseCaseDiagramObject("usecase", 250, 150, useCaseName);
-        objects.add(useCase);
+        history.addObject(useCase);
 
         // Update the explorer
         TreeItem<String> useCaseItem = new TreeItem<>(useCaseName);
@@ -347,8 +370,7 @@ public class UseCaseDiagram {
         if (isInDeleteMode) {
             UseCaseDiagramObject clickedObject = getObjectAt(event.getX(), event.getY());
             if (clickedObject != null) {
-                objects.remove(clickedObject);
-                associations.removeIf(assoc -> assoc.getObj1() == clickedObject || assoc.getObj2() == clickedObject);
+                history.removeObject(clickedObject);
 
                 // Update the explorer by removing the corresponding TreeItem
                 for (TreeItem<String> child : rootItem.getChildren()) {
@@ -364,7 +386,7 @@ public class UseCaseDiagram {
 
             for (Association assoc : associations) {
                 if (isNearAssociation(assoc, event.getX(), event.getY())) {
-                    associations.remove(assoc);
+                    history.removeAssociation(assoc);
                     redrawCanvas();
                     return;
                 }
@@ -387,6 +409,8 @@ public class UseCaseDiagram {
 
         if (isInDragMode) {
             objectBeingDragged = getObjectAt(event.getX(), event.getY());
+            // A new drag is undone separately from the previous one
+            history.breakCoalescing();
         } else if (btnAssociation.isSelected()){
             UseCaseDiagramObject clickedObject = getObjectAt(event.getX(), event.getY());
             if (clickedObject != null) {
@@ -405,7 +429,7 @@ public class UseCaseDiagram {
                 } else if (selectedObject2 == null && clickedObject != selectedObject1) {
                     selectedObject2 = clickedObject;
                     drawAssociation(selectedObject1, selectedObject2, associationType);
-                    associations.add(new Association(selectedObject1, selectedObject2, associationType));
+                    history.addAssociation(new Association(selectedObject1, selectedObject2, associationType));
                     selectedObject1 = null;
                     selectedObject2 = null;
                     redrawCanvas();
@@ -433,7 +457,7 @@ public class UseCaseDiagram {
                 } else if (selectedObject2 == null && clickedObject != selectedObject1) {
                     selectedObject2 = clickedObject;
                     drawAssociation(selectedObject1, selectedObject2, associationType);
-                    associations.add(new Association(selectedObject1, selectedObject2, associationType));
+                    history.addAssociation(new Association(selectedObject1, selectedObject2, associationType));
                     selectedObject1 = null;
                     selectedObject2 = null;
                     redrawCanvas();
@@ -461,7 +485,7 @@ public class UseCaseDiagram {
                 } else if (selectedObject2 == null && clickedObject != selectedObject1) {
                     selectedObject2 = clickedObject;
                     drawAssociation(selectedObject1, selectedObject2, associationType);
-                    associations.add(new Association(selectedObject1, selectedObject2, associationType));
+                    history.addAssociation(new Association(selectedObject1, selectedObject2, associationType));
                     selectedObject1 = null;
                     selectedObject2 = null;
                     redrawCanvas();
@@ -510,7 +534,7 @@ public class UseCaseDiagram {
             }
 
             // Update the object name
-            selectedObjectExplorer.setName(newName);
+            history.renameObject(selectedObjectExplorer, newName);
             selectedObjectExplorer.hideNameField();  // Hide the name field after updating
             redrawCanvas();  // Redraw the canvas to reflect changes
         }
@@ -526,8 +550,7 @@ public class UseCaseDiagram {
      */
     void onMouseDragged(MouseEvent event) {
         if (isInDragMode && objectBeingDragged != null) {
-            objectBeingDragged.setX(event.getX());
-            objectBeingDragged.setY(event.getY());
+            history.moveObject(objectBeingDragged, event.getX(), event.getY());
             redrawCanvas();
         }
     }
@@ -813,6 +836,7 @@ public class UseCaseDiagram {
             if (manager != null) {
                 objects = manager.getObjects();
                 associations = manager.getAssociations();
+                history = new UseCaseDiagramHistory(objects, associations);
                 systemBoundaryName = manager.getSystemBoundaryName(); // Load the system boundary name
                 redrawCanvas();
 
@@ -835,7 +859,10 @@ public class UseCaseDiagram {
      */
     void saveDiagramToJson() {
         FileChooser fileChooser = new FileChooser();
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON Files", "*.json"));
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("JSON Files", "*.json"),
+                new FileChooser.ExtensionFilter("Compressed JSON Files", "*" + BlockDeflateCodec.FILE_EXTENSION)
+        );
         File file = fileChooser.showSaveDialog(new Stage());
 
         if (file != null) {
@@ -852,8 +879,13 @@ public class UseCaseDiagram {
                 // Set system boundary name if necessary
                 diagramManager.setSystemBoundaryName(systemBoundaryName);
 
-                // Save the diagram manager to a JSON file
-                UseCaseDiagramSerializer.saveDiagram(diagramManager, file.getAbsolutePath());
+                // Save the diagram manager to a JSON file, compressed if the compressed extension was chosen
+                if (BlockDeflateCodec.hasCompressedExtension(file)) {
+                    UseCaseDiagramSerializer.saveDiagramCompressed(diagramManager, file.getAbsolutePath());
+                } else {
+                    UseCaseDiagramSerializer.saveDiagram(diagramManager, file.getAbsolutePath());
+                }
+                rememberRecentFile(file);
             } catch (IOException e) {
                 e.printStackTrace();
                 showAlert("Error", "Failed to save diagram to JSON.");
@@ -870,46 +902,78 @@ public class UseCaseDiagram {
      */
     void loadDiagramFromJson() {
         FileChooser fileChooser = new FileChooser();
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON Files", "*.json"));
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("JSON Files", "*.json"),
+                new FileChooser.ExtensionFilter("Compressed JSON Files", "*" + BlockDeflateCodec.FILE_EXTENSION)
+        );
         File file = fileChooser.showOpenDialog(new Stage());
 
         if (file != null) {
-            try {
-                // Load the diagram manager from the JSON file
-                UseCaseDiagramManager diagramManager = UseCaseDiagramSerializer.loadDiagram(file.getAbsolutePath());
-
-                // Update objects and associations from the loaded diagram
-                objects.clear();
-                associations.clear();
-                objects.addAll(diagramManager.getObjects());
-                associations.addAll(diagramManager.getAssociations());
-
-                // Step 2: Correctly associate the associations
-                for (Association assoc : diagramManager.getAssociations()) {
-                    // Find the objects by their names (or unique identifiers)
-                    UseCaseDiagramObject obj1 = findObjectByName(assoc.getObj1().getName());
-                    UseCaseDiagramObject obj2 = findObjectByName(assoc.getObj2().getName());
-
-                    // Link the association to the correct objects
-                    if (obj1 != null && obj2 != null) {
-                        assoc.setObj1(obj1);
-                        assoc.setObj2(obj2);
-                        associations.add(assoc);
-                    }
+            openDiagram(file);
+        }
+    }
+
+    /**
+     * Opens a use case diagram from a JSON file, restoring objects, associations, and system boundary details.
+     *
+     * <p>This method is used by the load action and when a diagram is chosen from the recent files on the welcome
+     * page. The file is remembered as recently used once it has been loaded.</p>
+     *
+     * @param file The plain or compressed JSON file to open.
+     */
+    public void openDiagram(File file) {
+        try {
+            // Load the diagram manager from the JSON file
+            UseCaseDiagramManager diagramManager = UseCaseDiagramSerializer.loadDiagram(file.getAbsolutePath());
+
+            // Update objects and associations from the loaded diagram
+            objects.clear();
+            associations.clear();
+            objects.addAll(diagramManager.getObjects());
+            associations.addAll(diagramManager.getAssociations());
+
+            // Step 2: Correctly associate the associations
+            for (Association assoc : diagramManager.getAssociations()) {
+                // Find the objects by their names (or unique identifiers)
+                UseCaseDiagramObject obj1 = findObjectByName(assoc.getObj1().getName());
+                UseCaseDiagramObject obj2 = findObjectByName(assoc.getObj2().getName());
+
+                // Link the association to the correct objects
+                if (obj1 != null && obj2 != null) {
+                    assoc.setObj1(obj1);
+                    assoc.setObj2(obj2);
+                    associations.add(assoc);
                 }
+            }
 
-                // Update the system boundary name
-                systemBoundaryName = diagramManager.getSystemBoundaryName();
+            // Update the system boundary name
+            systemBoundaryName = diagramManager.getSystemBoundaryName();
+            history.clear();
 
-                // Redraw the canvas with the loaded data
-                redrawCanvas();
+            // Redraw the canvas with the loaded data
+            redrawCanvas();
 
-                // Update the object explorer after loading the diagram
-                updateObjectExplorer();
-            } catch (IOException e) {
-                e.printStackTrace();
-                showAlert("Error", "Failed to load diagram from JSON.");
-            }
+            // Update the object explorer after loading the diagram
+            updateObjectExplorer();
+            rememberRecentFile(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+            showAlert("Error", "Failed to load diagram from JSON.");
+        }
+    }
+
+    /**
+     * Records a file as recently used, so that the welcome page offers it again.
+     *
+     * <p>A failure to update the list of recent files is reported but never fails the save or load itself.</p>
+     *
+     * @param file The file that was saved or loaded.
+     */
+    private void rememberRecentFile(File file) {
+        try {
+            recentFiles.record(file);
+        } catch (IOException e) {
+            System.err.println("Failed to update the recent files: " + e.getMessage());
         }
     }
 
@@ -945,6 +1009,20 @@ public class UseCaseDiagram {
         alert.showAndWait();
     }
 
+    /**
+     * Updates the object explorer and the canvas after a change was undone or redone.
+     *
+     * @param changed Whether a change was undone or redone.
+     */
+    private void refreshAfter(boolean changed) {
+        if (changed) {
+            selectedObject1 = null;
+            selectedObject2 = null;
+            updateObjectExplorer();
+            redrawCanvas();
+        }
+    }
+
     /**
      * Updates the object explorer tree by clearing the existing tree and adding all the objects (actors, use cases, etc.)
      * within the system boundary.
@@ -990,6 +1068,58 @@ public class UseCaseDiagram {
         manager.exportDiagramToImage(canvas);
     }
 
+    /**
+     * Exports the current use case diagram as an SVG document.
+     *
+     * <p>This method opens a file chooser dialog, populates a {@code UseCaseDiagramManager} with the current
+     * objects, associations and system boundary name, and delegates the export to the manager, which generates the
+     * document from the model instead of the canvas.</p>
+     */
+    private void exportDiagramToSvg() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("SVG Files", "*.svg"));
+        File file = fileChooser.showSaveDialog(new Stage());
+
+        if (file != null) {
+            UseCaseDiagramManager manager = new UseCaseDiagramManager();
+            manager.setObjects(new ArrayList<>(objects));
+            manager.setAssociations(new ArrayList<>(associations));
+            manager.setSystemBoundaryName(systemBoundaryName);
+            try {
+                manager.exportDiagramToSvg(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+                showAlert("Error", "Failed to export diagram to SVG.");
+            }
+        }
+    }
+
+    /**
+     * Exports the current use case diagram as a PDF document.
+     *
+     * <p>This method opens a file chooser dialog, populates a {@code UseCaseDiagramManager} with the current
+     * objects, associations and system boundary name, and delegates the export to the manager, which generates the
+     * pages from the model instead of the canvas.</p>
+     */
+    private void exportDiagramToPdf() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("PDF Files", "*.pdf"));
+        File file = fileChooser.showSaveDialog(new Stage());
+
+        if (file != null) {
+            UseCaseDiagramManager manager = new UseCaseDiagramManager();
+            manager.setObjects(new ArrayList<>(objects));
+            manager.setAssociations(new ArrayList<>(associations));
+            manager.setSystemBoundaryName(systemBoundaryName);
+            try {
+                manager.exportDiagramToPdf(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+                showAlert("Error", "Failed to export diagram to PDF.");
+            }
+        }
+    }
+
     /**
      * Applies a hover effect to a {@code Button} when the mouse enters its area.
      *
@@ -1,14 +1,32 @@
 package com.example.umlscd.PresentationLayer;
 
+import com.example.umlscd.DataAccessLayer.RecentFiles.RecentDiagramFiles;
+import com.example.umlscd.DataAccessLayer.RecentFiles.ThumbnailCache;
+import com.example.umlscd.DataAccessLayer.Rendering.DiagramFileReader;
+import com.example.umlscd.PresentationLayer.ClassDiagram.ClassDiagramUI;
+import com.example.umlscd.PresentationLayer.UseCaseDiagram.UseCaseDiagram;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * <h1>Welcome Page Controller</h1>
  *
@@ -16,6 +34,11 @@ import javafx.scene.Parent;
  * It handles the initialization of UI components, manages user interactions with the "Class Diagram" and
  * "Use Case Diagram" buttons, and facilitates navigation to the respective diagram editing screens.</p>
  *
+ * <p>Below the buttons, a gallery shows the recently used diagram files with a preview of each. The list of files
+ * and the previews are loaded in the background, and previews are only requested for the entries that are visible,
+ * so the page opens immediately however many recent files there are. Double-clicking an entry opens it in the
+ * matching editor.</p>
+ *
  * <p><b>Authors:</b> Ahmad Wyne, Wahaj Asif, Muhammad Muneeb</p>
  *
  * <p><b>Version:</b> 1.0</p>
@@ -32,6 +55,24 @@ public class WelcomePage {
     @FXML
     public ImageView logoImageView;
 
+    @FXML
+    public ListView<File> recentFilesList;
+
+    /**
+     * The cache of diagram previews, shared by every visit to the welcome page.
+     */
+    private static final ThumbnailCache THUMBNAILS = new ThumbnailCache();
+
+    /**
+     * The list of recently used diagram files.
+     */
+    private final RecentDiagramFiles recentFiles = new RecentDiagramFiles(RecentDiagramFiles.DEFAULT_FILE);
+
+    /**
+     * The reader recognising the kind of a recent diagram file.
+     */
+    private final DiagramFileReader diagramFileReader = new DiagramFileReader();
+
     /**
      * Initializes the welcome page by setting up the logo image, adding hover effects to buttons,
      * and defining actions for button clicks.
@@ -55,6 +96,73 @@ public class WelcomePage {
         // Button actions
         btnClassDiagram.setOnAction(event -> loadClassDiagram());
         btnUseCaseDiagram.setOnAction(event -> loadUseCaseDiagram());
+
+        // Recent files gallery; only visible cells request their previews
+        recentFilesList.setCellFactory(list -> new RecentFileCell());
+        recentFilesList.setOnMouseClicked(event -> {
+            File selected = recentFilesList.getSelectionModel().getSelectedItem();
+            if (event.getClickCount() == 2 && selected != null) {
+                openRecentFile(selected);
+            }
+        });
+        CompletableFuture.supplyAsync(this::listRecentFiles)
+                .thenAccept(files -> Platform.runLater(() -> recentFilesList.getItems().setAll(files)));
+    }
+
+    /**
+     * Reads the list of recently used diagram files.
+     *
+     * @return The recent files that still exist, most recent first; empty if the list cannot be read.
+     */
+    private List<File> listRecentFiles() {
+        try {
+            return recentFiles.list();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return List.of();
+        }
+    }
+
+    /**
+     * Opens a recently used diagram file in the editor matching its kind.
+     *
+     * @param file The diagram file to open.
+     */
+    private void openRecentFile(File file) {
+        try {
+            Stage stage = (Stage) recentFilesList.getScene().getWindow();
+            if (diagramFileReader.detect(file) == DiagramFileReader.Kind.CLASS) {
+                FXMLLoader loader = showEditor(stage, "/com/example/umlscd/classDiagram.fxml",
+                        "UML Editor: Class Diagram");
+                ClassDiagramUI editor = loader.getController();
+                editor.openDiagram(file);
+            } else {
+                FXMLLoader loader = showEditor(stage, "/com/example/umlscd/useCaseDiagram.fxml",
+                        "UML Editor: Use Case Diagram");
+                UseCaseDiagram editor = loader.getController();
+                editor.openDiagram(file);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            new Alert(Alert.AlertType.ERROR, "Failed to open " + file.getAbsolutePath()).showAndWait();
+        }
+    }
+
+    /**
+     * Loads an editor and shows it in the specified stage.
+     *
+     * @param stage The stage to show the editor in.
+     * @param fxml  The resource path of the editor's FXML file.
+     * @param title The title of the stage.
+     * @return The loader, giving access to the editor's controller.
+     * @throws IOException If the FXML file cannot be loaded.
+     */
+    private FXMLLoader showEditor(Stage stage, String fxml, String title) throws IOException {
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(fxml));
+        Parent root = loader.load();
+        stage.setScene(new Scene(root, 1366, 768));
+        stage.setTitle(title);
+        return loader;
     }
 
     /**
@@ -177,4 +285,70 @@ public class WelcomePage {
             e.printStackTrace();
         }
     }
+
+    /**
+     * <h1>Recent File Cell</h1>
+     *
+     * <p>A gallery entry showing the preview and name of a recent diagram file. The preview is requested from the
+     * thumbnail cache when the cell is given a file and is only applied if the cell still shows that file once the
+     * preview is ready, since cells are reused while the gallery scrolls.</p>
+     */
+    private static final class RecentFileCell extends ListCell<File> {
+
+        /**
+         * The preview of the diagram.
+         */
+        private final ImageView preview = new ImageView();
+
+        /**
+         * The name of the diagram file.
+         */
+        private final Label name = new Label();
+
+        /**
+         * The layout holding the preview above the name.
+         */
+        private final VBox content = new VBox(6, preview, name);
+
+        /**
+         * Constructs an empty cell.
+         */
+        RecentFileCell() {
+            preview.setFitWidth(ThumbnailCache.THUMBNAIL_WIDTH);
+            preview.setFitHeight(ThumbnailCache.THUMBNAIL_HEIGHT);
+            preview.setPreserveRatio(true);
+            name.setStyle("-fx-font-family: 'Verdana'; -fx-font-size: 12px;");
+            content.setAlignment(Pos.CENTER);
+            content.setPrefWidth(ThumbnailCache.THUMBNAIL_WIDTH + 10);
+        }
+
+        /**
+         * Shows a recent file and requests its preview.
+         *
+         * @param file  The diagram file shown by this cell.
+         * @param empty Whether the cell is empty.
+         */
+        @Override
+        protected void updateItem(File file, boolean empty) {
+            super.updateItem(file, empty);
+            preview.setImage(null);
+            if (empty || file == null) {
+                setGraphic(null);
+                setTooltip(null);
+                return;
+            }
+            name.setText(file.getName());
+            setTooltip(new Tooltip(file.getAbsolutePath()));
+            setGraphic(content);
+            // Files that cannot be previewed simply keep an empty preview
+            THUMBNAILS.thumbnail(file).thenAccept(thumbnail -> {
+                Image image = new Image(thumbnail.toUri().toString(), true);
+                Platform.runLater(() -> {
+                    if (file.equals(getItem())) {
+                        preview.setImage(image);
+                    }
+                });
+            });
+        }
+    }
 }
\ No newline at end of file
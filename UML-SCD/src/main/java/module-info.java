@@ -13,6 +13,7 @@ module com.example.umlscd {
     requires com.fasterxml.jackson.databind;
     requires com.google.gson;
     requires javafx.swing;
+    requires jdk.httpserver;
 
     exports com.example.umlscd.Models.UseCaseDiagram;
     opens com.example.umlscd.Models.UseCaseDiagram to com.fasterxml.jackson.databind, javafx.fxml;
@@ -38,4 +39,22 @@ module com.example.umlscd {
     opens com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram to com.fasterxml.jackson.databind, javafx.fxml;
     exports com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram;
     opens com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.Serializers.Compression;
+    opens com.example.umlscd.DataAccessLayer.Serializers.Compression to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.Serializers.Json;
+    opens com.example.umlscd.DataAccessLayer.Serializers.Json to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.Snapshots;
+    opens com.example.umlscd.DataAccessLayer.Snapshots to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.Rendering;
+    opens com.example.umlscd.DataAccessLayer.Rendering to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.RecentFiles;
+    opens com.example.umlscd.DataAccessLayer.RecentFiles to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.Importers;
+    opens com.example.umlscd.DataAccessLayer.Importers to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.RenderServer;
+    opens com.example.umlscd.DataAccessLayer.RenderServer to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.DataAccessLayer.Collaboration;
+    opens com.example.umlscd.DataAccessLayer.Collaboration to com.fasterxml.jackson.databind, javafx.fxml;
+    exports com.example.umlscd.BusinessLayer.History;
+    opens com.example.umlscd.BusinessLayer.History to com.fasterxml.jackson.databind, javafx.fxml;
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramChangeTracker} class.
+ * <p>
+ * These tests verify that changes, removals and renames of elements and relationships are recorded
+ * consistently, so that an incremental save writes exactly the affected records.
+ * </p>
+ */
+class ClassDiagramChangeTrackerTest {
+
+    private ClassDiagramChangeTracker tracker;
+    private UMLClassBox person;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ClassDiagramChangeTracker();
+        person = new UMLClassBox("Person", 0, 0, new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * Tests that a fresh tracker is clean and a change makes it dirty.
+     */
+    @Test
+    void testMarkElementChanged() {
+        assertFalse(tracker.isDirty());
+
+        tracker.markElementChanged(person);
+
+        assertTrue(tracker.isDirty());
+        assertSame(person, tracker.getChangedElements().get("Person"));
+    }
+
+    /**
+     * Tests that removing a changed element replaces the change by a removal.
+     */
+    @Test
+    void testRemovalSupersedesChange() {
+        tracker.markElementChanged(person);
+        tracker.markElementRemoved("Person");
+
+        assertTrue(tracker.getChangedElements().isEmpty());
+        assertTrue(tracker.getRemovedElements().contains("Person"));
+        assertEquals(1, tracker.size());
+    }
+
+    /**
+     * Tests that a rename removes the old record and changes the new one.
+     */
+    @Test
+    void testRenameRemovesOldName() {
+        person.setName("Customer");
+        tracker.markElementRenamed("Person", person);
+
+        assertTrue(tracker.getRemovedElements().contains("Person"));
+        assertTrue(tracker.getChangedElements().containsKey("Customer"));
+    }
+
+    /**
+     * Tests that relationships are tracked by identity key and that clearing resets the tracker.
+     */
+    @Test
+    void testRelationshipsAndClear() {
+        UMLRelationship relationship = new UMLRelationship("Association", "Person", "Car", "drives", "1", "1");
+        tracker.markRelationshipChanged(relationship);
+        tracker.markRelationshipRemoved("Inheritance|Car|Vehicle|null");
+
+        assertTrue(tracker.getChangedRelationships().containsKey(relationship.identityKey()));
+        assertEquals(2, tracker.size());
+
+        tracker.clear();
+        assertFalse(tracker.isDirty());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff.ChangeType;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramDiff} class.
+ * <p>
+ * These tests compare versions of a small diagram with one kind of change each, and a large diagram with a few
+ * changes, and verify the reported changes and their details.
+ * </p>
+ */
+class ClassDiagramDiffTest {
+
+    private ClassDiagramD before;
+
+    @BeforeEach
+    void setUp() {
+        before = diagram();
+    }
+
+    private static ClassDiagramD diagram() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(classBox("Order", 0, 0, List.of("- id : int"), List.of("+ total() : double")));
+        diagram.getClasses().add(classBox("Customer", 200, 0, List.of("- name : String"), List.of()));
+        UMLInterfaceBox payable = new UMLInterfaceBox();
+        payable.setName("Payable");
+        payable.setMethods(new ArrayList<>(List.of("+ pay() : void")));
+        payable.setX(400);
+        diagram.getInterfaces().add(payable);
+        diagram.getRelationships().add(new UMLRelationship("Association", "Order", "Customer", "placedBy", "*", "1"));
+        diagram.getRelationships().add(new UMLRelationship("Inheritance", "Order", "Payable", "", "", ""));
+        return diagram;
+    }
+
+    private static UMLClassBox classBox(String name, double x, double y, List<String> attributes,
+                                        List<String> methods) {
+        return new UMLClassBox(name, x, y, new ArrayList<>(attributes), new ArrayList<>(methods));
+    }
+
+    private static UMLClassBox find(ClassDiagramD diagram, String name) {
+        return diagram.getClasses().stream().filter(c -> c.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static List<String> lines(DiagramDiff diff) {
+        return diff.getChanges().stream().map(DiagramDiff.Change::toString).toList();
+    }
+
+    /**
+     * Tests that equal diagrams have no changes.
+     */
+    @Test
+    void testEqualDiagramsHaveNoChanges() {
+        DiagramDiff diff = ClassDiagramDiff.compare(before, diagram());
+
+        assertTrue(diff.isEmpty());
+        assertEquals("no changes", diff.summary());
+    }
+
+    /**
+     * Tests that moves and member edits are reported with their old and new values.
+     */
+    @Test
+    void testReportsMovesAndMemberChanges() {
+        ClassDiagramD after = diagram();
+        find(after, "Order").setX(50.5);
+        find(after, "Order").setAttributes(new ArrayList<>(List.of("- id : long", "- date : Date")));
+        find(after, "Customer").setMethods(new ArrayList<>(List.of("+ rename() : void")));
+        find(after, "Customer").setPackageName("crm");
+
+        assertEquals(List.of(
+                "MOVED Order: (0, 0) -> (50.5, 0)",
+                "ATTRIBUTES_CHANGED Order: added [- id : long, - date : Date], removed [- id : int]",
+                "METHODS_CHANGED Customer: added [+ rename() : void]",
+                "PACKAGE_CHANGED Customer: '' -> 'crm'"), lines(ClassDiagramDiff.compare(before, after)));
+    }
+
+    /**
+     * Tests that a renamed element is recognised by its content, and its relationships by their translated ends.
+     */
+    @Test
+    void testRecognisesRenamesByContent() {
+        ClassDiagramD after = diagram();
+        find(after, "Customer").setName("Client");
+        after.getRelationships().get(0).setEndElementName("Client");
+        after.getRelationships().get(0).setEndMultiplicity("0..1");
+
+        assertEquals(List.of(
+                "RENAMED Client: Customer -> Client",
+                "RELATIONSHIP_CHANGED Association|Order|Client|placedBy: *..1 -> *..0..1"),
+                lines(ClassDiagramDiff.compare(before, after)));
+    }
+
+    /**
+     * Tests that an element renamed and edited in place is recognised by its position.
+     */
+    @Test
+    void testRecognisesRenamesByPosition() {
+        ClassDiagramD after = diagram();
+        find(after, "Customer").setName("Client");
+        find(after, "Client").setAttributes(new ArrayList<>(List.of("- email : String")));
+        after.getRelationships().remove(0);
+
+        DiagramDiff diff = ClassDiagramDiff.compare(before, after);
+
+        assertEquals(Set.of(ChangeType.RENAMED, ChangeType.ATTRIBUTES_CHANGED), diff.getElementChanges().get("Client"));
+        assertEquals(List.of(
+                "RENAMED Client: Customer -> Client",
+                "ATTRIBUTES_CHANGED Client: added [- email : String], removed [- name : String]",
+                "RELATIONSHIP_REMOVED Association|Order|Customer|placedBy"), lines(diff));
+    }
+
+    /**
+     * Tests that added and removed elements and relationships are reported, including relationships of removed
+     * elements.
+     */
+    @Test
+    void testReportsAddedAndRemovedElements() {
+        ClassDiagramD after = diagram();
+        after.getInterfaces().clear();
+        after.getRelationships().remove(1);
+        after.getClasses().add(classBox("Invoice", 600, 600, List.of(), List.of()));
+        after.getRelationships().add(new UMLRelationship("Composition", "Order", "Invoice", "invoice", "1", "1"));
+
+        DiagramDiff diff = ClassDiagramDiff.compare(before, after);
+
+        assertEquals(List.of(
+                "ADDED Invoice",
+                "REMOVED Payable",
+                "RELATIONSHIP_ADDED Composition|Order|Invoice|invoice",
+                "RELATIONSHIP_REMOVED Inheritance|Order|Payable|"), lines(diff));
+        assertEquals("1 ADDED, 1 REMOVED, 1 RELATIONSHIP_ADDED, 1 RELATIONSHIP_REMOVED", diff.summary());
+    }
+
+    /**
+     * Tests that a class replacing an interface of the same name is reported as a removal and an addition.
+     */
+    @Test
+    void testKindChangeIsRemovalAndAddition() {
+        ClassDiagramD after = diagram();
+        after.getInterfaces().clear();
+        after.getClasses().add(classBox("Payable", 0, 300, List.of(), List.of()));
+
+        assertEquals(Set.of(ChangeType.ADDED, ChangeType.REMOVED),
+                ClassDiagramDiff.compare(before, after).getElementChanges().get("Payable"));
+    }
+
+    /**
+     * Tests that a diagram of 10,000 elements is compared quickly and only its few changes are reported.
+     */
+    @Test
+    void testLargeDiagramsAreComparedInLinearTime() {
+        ClassDiagramD large = new ClassDiagramD();
+        ClassDiagramD changed = new ClassDiagramD();
+        for (int i = 0; i < 10_000; i++) {
+            List<String> attributes = List.of("- field" + i + " : int");
+            large.getClasses().add(classBox("Type" + i, i, i, attributes, List.of()));
+            changed.getClasses().add(classBox(i == 5000 ? "Renamed" : "Type" + i, i, i == 42 ? -1 : i, attributes,
+                    List.of()));
+            if (i > 0) {
+                UMLRelationship relationship = new UMLRelationship("Association", "Type" + (i - 1), "Type" + i,
+                        "next", "1", "1");
+                large.getRelationships().add(relationship);
+                changed.getRelationships().add(new UMLRelationship("Association",
+                        i - 1 == 5000 ? "Renamed" : "Type" + (i - 1), i == 5000 ? "Renamed" : "Type" + i, "next",
+                        "1", "1"));
+            }
+        }
+
+        DiagramDiff diff = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> ClassDiagramDiff.compare(large, changed));
+
+        assertEquals(List.of("MOVED Type42: (42, 42) -> (42, -1)", "RENAMED Renamed: Type5000 -> Renamed"),
+                lines(diff));
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramHistory} class.
+ * <p>
+ * These tests edit a diagram that reports its changes to the history the way the {@link ClassDiagramManager} reports
+ * them to its change tracker, ending every user action by running the deferred tasks, and verify that creations,
+ * edits, renames, deletions and relationship changes are undone and redone, that a drag is undone in one step, and
+ * that commands hold deltas within the memory budget.
+ * </p>
+ */
+class ClassDiagramHistoryTest {
+
+    private final List<Runnable> deferred = new ArrayList<>();
+
+    private FakeDiagram diagram;
+
+    private ClassDiagramHistory history;
+
+    /**
+     * A diagram reporting its changes the way the manager does.
+     */
+    private static final class FakeDiagram implements DiagramOperationTarget {
+        final Map<String, UMLElementBoxInterface> elements = new LinkedHashMap<>();
+        final Map<String, UMLRelationship> relationships = new LinkedHashMap<>();
+        ClassDiagramChangeListener listener;
+
+        @Override
+        public void applyElement(DiagramOperation operation) {
+            UMLElementBoxInterface element = operation.toElement();
+            elements.put(element.getName(), element);
+            listener.elementChanged(element);
+        }
+
+        @Override
+        public void moveElement(String name, double x, double y) {
+            UMLElementBoxInterface element = elements.get(name);
+            if (element != null) {
+                element.setX(x);
+                element.setY(y);
+                listener.elementChanged(element);
+            }
+        }
+
+        @Override
+        public void removeElement(String name) {
+            if (elements.remove(name) == null) {
+                return;
+            }
+            listener.elementRemoved(name);
+            for (UMLRelationship relationship : new ArrayList<>(relationships.values())) {
+                if (relationship.getStartElementName().equals(name) || relationship.getEndElementName().equals(name)) {
+                    removeRelationship(relationship.identityKey());
+                }
+            }
+        }
+
+        @Override
+        public void applyRelationship(UMLRelationship relationship) {
+            relationships.put(relationship.identityKey(), relationship);
+            listener.relationshipChanged(relationship);
+        }
+
+        @Override
+        public void removeRelationship(String key) {
+            if (relationships.remove(key) != null) {
+                listener.relationshipRemoved(key);
+            }
+        }
+
+        @Override
+        public boolean containsElement(String name) {
+            return elements.containsKey(name);
+        }
+
+        void rename(String oldName, String newName) {
+            UMLElementBoxInterface element = elements.remove(oldName);
+            element.setName(newName);
+            elements.put(newName, element);
+            listener.elementRemoved(oldName);
+            listener.elementChanged(element);
+            for (UMLRelationship relationship : new ArrayList<>(relationships.values())) {
+                String oldKey = relationship.identityKey();
+                if (relationship.getStartElementName().equals(oldName)) {
+                    relationship.setStartElementName(newName);
+                }
+                if (relationship.getEndElementName().equals(oldName)) {
+                    relationship.setEndElementName(newName);
+                }
+                if (!oldKey.equals(relationship.identityKey())) {
+                    relationships.remove(oldKey);
+                    relationships.put(relationship.identityKey(), relationship);
+                    listener.relationshipRemoved(oldKey);
+                    listener.relationshipChanged(relationship);
+                }
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        diagram = new FakeDiagram();
+        history = new ClassDiagramHistory(diagram, deferred::add);
+        diagram.listener = history;
+    }
+
+    private void endAction() {
+        List<Runnable> tasks = new ArrayList<>(deferred);
+        deferred.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static DiagramOperation classState(String name, double x, double y, String... attributes) {
+        return DiagramOperation.upsertElement(new UMLClassBox(name, x, y, new ArrayList<>(List.of(attributes)),
+                new ArrayList<>()));
+    }
+
+    private UMLClassBox element(String name) {
+        return (UMLClassBox) diagram.elements.get(name);
+    }
+
+    /**
+     * Tests that creations, member edits, relationship changes and deletions are undone and redone in order.
+     */
+    @Test
+    void testUndoesAndRedoesEdits() {
+        diagram.applyElement(classState("Order", 0, 0, "- id : int"));
+        endAction();
+        diagram.applyElement(classState("Customer", 200, 0));
+        endAction();
+        diagram.applyRelationship(new UMLRelationship("Association", "Order", "Customer", "placedBy", "*", "1"));
+        endAction();
+        diagram.applyElement(classState("Order", 0, 0, "- id : int", "- date : Date"));
+        endAction();
+        diagram.removeElement("Customer");
+        endAction();
+        assertEquals(5, history.getCommandHistory().getUndoCount());
+
+        assertTrue(history.undo());
+        assertEquals(200, element("Customer").getX());
+        assertEquals("1", diagram.relationships.get("Association|Order|Customer|placedBy").getEndMultiplicity());
+        assertTrue(history.undo());
+        assertEquals(List.of("- id : int"), element("Order").getAttributes());
+        assertTrue(history.undo());
+        assertTrue(diagram.relationships.isEmpty());
+        assertEquals(3, history.getCommandHistory().getRedoCount());
+
+        history.redo();
+        history.redo();
+        history.redo();
+        assertEquals(List.of("Order"), List.copyOf(diagram.elements.keySet()));
+        assertEquals(List.of("- id : int", "- date : Date"), element("Order").getAttributes());
+        assertTrue(diagram.relationships.isEmpty());
+        assertFalse(history.canRedo());
+        endAction();
+        assertEquals(5, history.getCommandHistory().getUndoCount());
+    }
+
+    /**
+     * Tests that the moves of a drag are undone in one step, and that a new drag is undone separately.
+     */
+    @Test
+    void testDragIsUndoneInOneStep() {
+        diagram.applyElement(classState("Order", 0, 0));
+        endAction();
+        history.breakCoalescing();
+        for (int i = 1; i <= 50; i++) {
+            diagram.moveElement("Order", i, i * 2);
+            endAction();
+        }
+        history.breakCoalescing();
+        diagram.moveElement("Order", 300, 300);
+        endAction();
+
+        assertEquals(3, history.getCommandHistory().getUndoCount());
+        history.undo();
+        assertEquals(50, element("Order").getX());
+        history.undo();
+        assertEquals(0, element("Order").getX());
+        assertEquals(0, element("Order").getY());
+        history.redo();
+        assertEquals(100, element("Order").getY());
+    }
+
+    /**
+     * Tests that a rename, with the relationships it updates, is one command keeping the members of the element.
+     */
+    @Test
+    void testRenameIsOneCommand() {
+        diagram.applyElement(classState("Order", 10, 20, "- id : int"));
+        diagram.applyElement(classState("Customer", 200, 0));
+        diagram.applyRelationship(new UMLRelationship("Association", "Order", "Customer", "placedBy", "*", "1"));
+        endAction();
+        diagram.rename("Order", "Purchase");
+        endAction();
+
+        assertEquals(2, history.getCommandHistory().getUndoCount());
+        history.undo();
+        assertEquals(List.of("Customer", "Order"), diagram.elements.keySet().stream().sorted().toList());
+        assertEquals(List.of("- id : int"), element("Order").getAttributes());
+        assertEquals(20, element("Order").getY());
+        assertEquals(List.of("Association|Order|Customer|placedBy"), List.copyOf(diagram.relationships.keySet()));
+        history.redo();
+        assertEquals(List.of("- id : int"), element("Purchase").getAttributes());
+        assertEquals(List.of("Association|Purchase|Customer|placedBy"), List.copyOf(diagram.relationships.keySet()));
+    }
+
+    /**
+     * Tests that moves and member edits of a large element hold only what changed, and that unchanged reports are
+     * not recorded.
+     */
+    @Test
+    void testCommandsHoldDeltas() {
+        String[] attributes = new String[2_000];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = "- field" + i + " : int";
+        }
+        diagram.applyElement(classState("Order", 0, 0, attributes));
+        endAction();
+        long created = history.getCommandHistory().getUsedBytes();
+        for (int i = 1; i <= 100; i++) {
+            history.breakCoalescing();
+            diagram.moveElement("Order", i, 0);
+            endAction();
+        }
+        diagram.moveElement("Order", 100, 0);
+        endAction();
+
+        assertEquals(101, history.getCommandHistory().getUndoCount());
+        long perMove = (history.getCommandHistory().getUsedBytes() - created) / 100;
+        assertTrue(perMove < created / 100, "A move holds " + perMove + " bytes");
+        history.undo();
+        assertEquals(99, element("Order").getX());
+        assertEquals(2_000, element("Order").getAttributes().size());
+    }
+
+    /**
+     * Tests that the history stays within its budget, and that reset forgets the commands and takes the elements
+     * from the drawn diagram.
+     */
+    @Test
+    void testBudgetAndReset() {
+        history = new ClassDiagramHistory(diagram, deferred::add, 4_096);
+        diagram.listener = history;
+        for (int i = 0; i < 100; i++) {
+            diagram.applyElement(classState("Type" + i, i, 0, "- value" + i + " : String"));
+            endAction();
+        }
+        assertTrue(history.getCommandHistory().getUsedBytes() <= 4_096);
+        assertTrue(history.getCommandHistory().getUndoCount() < 100);
+        history.undo();
+        assertFalse(diagram.containsElement("Type99"));
+
+        ClassDiagramD drawn = new ClassDiagramD();
+        drawn.getClasses().add(new UMLClassBox("Order", 5, 5, new ArrayList<>(List.of("- id : int")),
+                new ArrayList<>()));
+        diagram.elements.clear();
+        diagram.elements.put("Order", drawn.getClasses().get(0));
+        history.reset(drawn);
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        diagram.moveElement("Order", 50, 5);
+        endAction();
+        history.undo();
+        assertEquals(5, element("Order").getX());
+        assertEquals(List.of("- id : int"), element("Order").getAttributes());
+    }
+}
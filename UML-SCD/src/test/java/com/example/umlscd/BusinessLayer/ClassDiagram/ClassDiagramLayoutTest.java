@@ -0,0 +1,73 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramLayout} class.
+ * <p>
+ * These tests verify that elements are layered by inheritance depth, that subtypes follow the order of their
+ * supertypes and that inheritance cycles do not prevent a layout.
+ * </p>
+ */
+class ClassDiagramLayoutTest {
+
+    private static UMLClassBox classBox(String name) {
+        return new UMLClassBox(name, 7, 7, new ArrayList<>(), new ArrayList<>());
+    }
+
+    private static UMLClassBox find(ClassDiagramD diagram, String name) {
+        return diagram.getClasses().stream().filter(c -> c.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    /**
+     * Tests that supertypes are placed above their subtypes in supertype order and no two boxes overlap.
+     */
+    @Test
+    void testLayersFollowInheritance() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().addAll(List.of(classBox("Square"), classBox("Animal"), classBox("Shape"),
+                classBox("Dog"), classBox("Puppy")));
+        diagram.getRelationships().addAll(List.of(
+                new UMLRelationship("Inheritance", "Square", "Shape", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "Dog", "Animal", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "Puppy", "Dog", "Inheritance", "", "")));
+
+        ClassDiagramLayout.layOut(diagram);
+
+        assertEquals(0, find(diagram, "Animal").getY());
+        assertEquals(0, find(diagram, "Shape").getY());
+        assertEquals(ClassDiagramLayout.ROW_HEIGHT, find(diagram, "Dog").getY());
+        assertEquals(2 * ClassDiagramLayout.ROW_HEIGHT, find(diagram, "Puppy").getY());
+        assertTrue(find(diagram, "Animal").getX() < find(diagram, "Shape").getX());
+        assertTrue(find(diagram, "Dog").getX() < find(diagram, "Square").getX());
+
+        Set<String> positions = new HashSet<>();
+        diagram.getClasses().forEach(c -> assertTrue(positions.add(c.getX() + "," + c.getY())));
+    }
+
+    /**
+     * Tests that an inheritance cycle is laid out without recursing forever.
+     */
+    @Test
+    void testToleratesCycles() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().addAll(List.of(classBox("A"), classBox("B")));
+        diagram.getRelationships().addAll(List.of(
+                new UMLRelationship("Inheritance", "A", "B", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "B", "A", "Inheritance", "", "")));
+
+        ClassDiagramLayout.layOut(diagram);
+
+        assertNotEquals(find(diagram, "A").getY(), find(diagram, "B").getY());
+    }
+}
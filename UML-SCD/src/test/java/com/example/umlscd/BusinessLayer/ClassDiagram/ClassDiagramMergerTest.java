@@ -0,0 +1,203 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramMerger} class.
+ * <p>
+ * These tests merge two versions of a small diagram changed independently from a common ancestor, and verify that
+ * changes on one side and compatible changes on both sides are merged, that contradicting changes are reported and
+ * resolved in favour of "ours", and that a large diagram is merged quickly.
+ * </p>
+ */
+class ClassDiagramMergerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ClassDiagramSerializer serializer = new ClassDiagramSerializer();
+
+    private static ClassDiagramD diagram() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Order", 0, 0, new ArrayList<>(List.of("- id : int")),
+                new ArrayList<>(List.of("+ total() : double"))));
+        diagram.getClasses().add(new UMLClassBox("Customer", 200, 0, new ArrayList<>(List.of("- name : String")),
+                new ArrayList<>()));
+        diagram.getRelationships().add(new UMLRelationship("Association", "Order", "Customer", "placedBy", "*", "1"));
+        return diagram;
+    }
+
+    private static UMLClassBox find(ClassDiagramD diagram, String name) {
+        return diagram.getClasses().stream().filter(c -> c.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private File save(ClassDiagramD diagram, String name) throws IOException {
+        File file = tempDir.resolve(name).toFile();
+        serializer.serialize(diagram, file);
+        return file;
+    }
+
+    private ClassDiagramMerger.Result merge(ClassDiagramD ours, ClassDiagramD theirs, File output)
+            throws IOException {
+        return ClassDiagramMerger.merge(save(diagram(), "base.json"), save(ours, "ours.json"),
+                save(theirs, "theirs.json"), output);
+    }
+
+    /**
+     * Tests that changes made on one side, and different changes to the same element, are merged without conflicts.
+     */
+    @Test
+    void testMergesIndependentChanges() throws IOException {
+        ClassDiagramD ours = diagram();
+        find(ours, "Order").setX(50);
+        find(ours, "Order").getAttributes().add("- date : Date");
+        find(ours, "Customer").getAttributes().set(0, "- fullName : String");
+        ClassDiagramD theirs = diagram();
+        find(theirs, "Order").getAttributes().set(0, "- id : long");
+        find(theirs, "Order").setPackageName("sales");
+        theirs.getClasses().add(new UMLClassBox("Invoice", 400, 0, new ArrayList<>(), new ArrayList<>()));
+        theirs.getRelationships().get(0).setEndMultiplicity("0..1");
+
+        File output = tempDir.resolve("merged.json").toFile();
+        ClassDiagramMerger.Result result = merge(ours, theirs, output);
+
+        assertFalse(result.hasConflicts(), result.getConflicts().toString());
+        assertEquals(3, result.getMergedChanges());
+        ClassDiagramD merged = serializer.deserialize(output);
+        assertEquals(List.of("Order", "Customer", "Invoice"),
+                merged.getClasses().stream().map(UMLClassBox::getName).toList());
+        UMLClassBox order = find(merged, "Order");
+        assertEquals(50, order.getX());
+        assertEquals(List.of("- date : Date", "- id : long"), order.getAttributes());
+        assertEquals("sales", order.getPackageName());
+        assertEquals(List.of("- fullName : String"), find(merged, "Customer").getAttributes());
+        assertEquals("0..1", merged.getRelationships().get(0).getEndMultiplicity());
+    }
+
+    /**
+     * Tests that contradicting changes are reported and resolved in favour of "ours".
+     */
+    @Test
+    void testReportsConflictsAndKeepsOurs() throws IOException {
+        ClassDiagramD ours = diagram();
+        find(ours, "Order").setX(50);
+        find(ours, "Order").getAttributes().set(0, "- id : long");
+        ours.getRelationships().clear();
+        ours.getClasses().remove(find(ours, "Customer"));
+        ClassDiagramD theirs = diagram();
+        find(theirs, "Order").setX(70);
+        find(theirs, "Order").getAttributes().set(0, "- id : UUID");
+        find(theirs, "Order").getMethods().add("+ cancel() : void");
+        find(theirs, "Customer").setY(90);
+
+        File output = tempDir.resolve("merged.json").toFile();
+        ClassDiagramMerger.Result result = merge(ours, theirs, output);
+
+        assertEquals(List.of(
+                "CONFLICT Order: position changed on both sides: (50, 0) vs (70, 0)",
+                "CONFLICT Order: attributes 'id' changed on both sides: [- id : long] vs [- id : UUID]",
+                "CONFLICT Customer: removed in ours, changed in theirs"),
+                result.getConflicts().stream().map(ClassDiagramMerger.Conflict::toString).toList());
+        ClassDiagramD merged = serializer.deserialize(output);
+        UMLClassBox order = find(merged, "Order");
+        assertEquals(50, order.getX());
+        assertEquals(List.of("- id : long"), order.getAttributes());
+        assertEquals(List.of("+ total() : double", "+ cancel() : void"), order.getMethods());
+        assertEquals(1, merged.getClasses().size());
+        assertTrue(merged.getRelationships().isEmpty());
+    }
+
+    /**
+     * Tests that a relationship added to an element the other side renamed is reported.
+     */
+    @Test
+    void testReportsRelationshipsToRenamedElements() throws IOException {
+        ClassDiagramD ours = diagram();
+        find(ours, "Customer").setName("Client");
+        ours.getRelationships().get(0).setEndElementName("Client");
+        ClassDiagramD theirs = diagram();
+        theirs.getRelationships().add(new UMLRelationship("Aggregation", "Customer", "Order", "orders", "1", "*"));
+
+        ClassDiagramMerger.Result result = merge(ours, theirs, tempDir.resolve("merged.json").toFile());
+
+        assertEquals(List.of("CONFLICT Aggregation|Customer|Order|orders: connects 'Customer', which is not in the "
+                + "result"), result.getConflicts().stream().map(ClassDiagramMerger.Conflict::toString).toList());
+    }
+
+    /**
+     * Tests that the result may replace "ours" or be compressed, and that files added on both sides merge against an
+     * empty ancestor.
+     */
+    @Test
+    void testWritesIntoOursAndCompressedFiles() throws IOException {
+        ClassDiagramD theirs = diagram();
+        theirs.getClasses().add(new UMLClassBox("Invoice", 400, 0, new ArrayList<>(), new ArrayList<>()));
+        File base = tempDir.resolve("base.json").toFile();
+        Files.writeString(base.toPath(), "");
+        File ours = save(diagram(), "ours.json");
+
+        ClassDiagramMerger.Result result = ClassDiagramMerger.merge(base, ours, save(theirs, "theirs.json"), ours);
+
+        assertFalse(result.hasConflicts());
+        assertEquals(3, serializer.deserialize(ours).getClasses().size());
+        File compressed = tempDir.resolve("merged" + BlockDeflateCodec.FILE_EXTENSION).toFile();
+        ClassDiagramMerger.merge(base, ours, tempDir.resolve("theirs.json").toFile(), compressed);
+        assertTrue(BlockDeflateCodec.isCompressed(compressed));
+        assertEquals(3, serializer.deserialize(compressed).getClasses().size());
+    }
+
+    /**
+     * Tests that diagrams of 50,000 classes, changed on both sides, are merged quickly.
+     */
+    @Test
+    void testLargeDiagramsAreMergedQuickly() throws IOException {
+        ClassDiagramD base = new ClassDiagramD();
+        ClassDiagramD ours = new ClassDiagramD();
+        ClassDiagramD theirs = new ClassDiagramD();
+        for (int i = 0; i < 50_000; i++) {
+            for (ClassDiagramD diagram : List.of(base, ours, theirs)) {
+                diagram.getClasses().add(new UMLClassBox("Type" + i, i, i,
+                        new ArrayList<>(List.of("- field" + i + " : int")), new ArrayList<>()));
+            }
+            if (i > 0) {
+                base.getRelationships().add(new UMLRelationship("Association", "Type" + (i - 1), "Type" + i, "next",
+                        "1", "1"));
+            }
+        }
+        ours.setRelationships(new ArrayList<>(base.getRelationships()));
+        theirs.setRelationships(new ArrayList<>(base.getRelationships()));
+        ours.getClasses().get(10).setX(-1);
+        theirs.getClasses().get(10).getMethods().add("+ run() : void");
+        theirs.getClasses().remove(40_000);
+        File baseFile = save(base, "base.json");
+        File oursFile = save(ours, "ours.json");
+        File theirsFile = save(theirs, "theirs.json");
+        File output = tempDir.resolve("merged.json").toFile();
+
+        ClassDiagramMerger.Result result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> ClassDiagramMerger.merge(baseFile, oursFile, theirsFile, output));
+
+        assertEquals(2, result.getMergedChanges());
+        assertEquals(2, result.getConflicts().size());
+        ClassDiagramD merged = serializer.deserialize(output);
+        assertEquals(49_999, merged.getClasses().size());
+        assertEquals(-1, merged.getClasses().get(10).getX());
+        assertEquals(List.of("+ run() : void"), merged.getClasses().get(10).getMethods());
+    }
+}
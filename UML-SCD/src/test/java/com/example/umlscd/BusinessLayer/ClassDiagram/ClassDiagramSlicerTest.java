@@ -0,0 +1,191 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramSlicer} class.
+ * <p>
+ * These tests verify the members of neighbourhood, inheritance subtree and package slices, and that cached slices
+ * are evicted exactly when a change reported to the {@link ClassDiagramChangeTracker} can affect them.
+ * </p>
+ */
+class ClassDiagramSlicerTest {
+
+    private ClassDiagramChangeTracker tracker;
+    private ClassDiagramSlicer slicer;
+
+    /**
+     * Creates a class box of a package.
+     *
+     * @param name        The name of the class.
+     * @param packageName The package of the class.
+     * @return The class box.
+     */
+    private static UMLClassBox classBox(String name, String packageName) {
+        UMLClassBox box = new UMLClassBox(name, 0, 0, new ArrayList<>(), new ArrayList<>());
+        box.setPackageName(packageName);
+        return box;
+    }
+
+    /**
+     * Builds the model {@code Vehicle <- Car <- SportsCar}, {@code Vehicle <- Truck}, {@code Car -> Engine},
+     * {@code Engine -> Piston} and an unrelated {@code Invoice}, spread over three packages.
+     */
+    @BeforeEach
+    void setUp() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        UMLInterfaceBox vehicle = new UMLInterfaceBox();
+        vehicle.setName("Vehicle");
+        vehicle.setPackageName("fleet");
+        diagram.getInterfaces().add(vehicle);
+        diagram.getClasses().addAll(List.of(classBox("Car", "fleet.cars"), classBox("SportsCar", "fleet.cars"),
+                classBox("Truck", "fleet"), classBox("Engine", "parts"), classBox("Piston", "parts"),
+                classBox("Invoice", "billing")));
+        diagram.getRelationships().addAll(List.of(
+                new UMLRelationship("Inheritance", "Car", "Vehicle", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "SportsCar", "Car", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "Truck", "Vehicle", "Inheritance", "", ""),
+                new UMLRelationship("Association", "Car", "Engine", "engine", "1", "1"),
+                new UMLRelationship("Association", "Engine", "Piston", "pistons", "1", "*")));
+
+        tracker = new ClassDiagramChangeTracker();
+        slicer = new ClassDiagramSlicer(diagram);
+        tracker.addListener(slicer);
+    }
+
+    /**
+     * Lists the element names of a slice.
+     *
+     * @param diagram The diagram of the slice.
+     * @return The sorted names of its classes and interfaces.
+     */
+    private static Set<String> names(ClassDiagramD diagram) {
+        return Stream.concat(diagram.getClasses().stream().map(UMLClassBox::getName),
+                        diagram.getInterfaces().stream().map(UMLInterfaceBox::getName))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Tests the members and relationships of the three kinds of slices.
+     */
+    @Test
+    void testSliceMembers() {
+        ClassDiagramD neighbourhood = slicer.slice(DiagramSlice.neighbourhood("Car", 1));
+        assertEquals(Set.of("Car", "Engine", "SportsCar", "Vehicle"), names(neighbourhood));
+        assertEquals(3, neighbourhood.getRelationships().size());
+        assertEquals(Set.of("Car", "Engine", "Piston", "SportsCar", "Truck", "Vehicle"),
+                names(slicer.slice(DiagramSlice.neighbourhood("Car", 2))));
+        assertEquals(Set.of("Car"), names(slicer.slice(DiagramSlice.neighbourhood("Car", 0))));
+
+        assertEquals(Set.of("Car", "SportsCar", "Truck", "Vehicle"),
+                names(slicer.slice(DiagramSlice.inheritanceSubtree("Vehicle"))));
+        assertEquals(Set.of("Car", "SportsCar"), names(slicer.slice(DiagramSlice.inheritanceSubtree("Car"))));
+
+        ClassDiagramD fleet = slicer.slice(DiagramSlice.packageSubset("fleet"));
+        assertEquals(Set.of("Car", "SportsCar", "Truck", "Vehicle"), names(fleet));
+        assertEquals(3, fleet.getRelationships().size());
+        assertEquals(Set.of("Car", "SportsCar"), names(slicer.slice(DiagramSlice.packageSubset("fleet.cars"))));
+        assertEquals(new TreeSet<>(List.of("billing", "fleet", "fleet.cars", "parts")), slicer.getPackages());
+
+        assertTrue(names(slicer.slice(DiagramSlice.neighbourhood("Missing", 3))).isEmpty());
+    }
+
+    /**
+     * Tests that slice elements are copies laid out by distance, leaving the model untouched.
+     */
+    @Test
+    void testSliceElementsAreLaidOutCopies() {
+        ClassDiagramD slice = slicer.slice(DiagramSlice.inheritanceSubtree("Vehicle"));
+
+        UMLInterfaceBox root = slice.getInterfaces().get(0);
+        UMLClassBox sportsCar = slice.getClasses().stream()
+                .filter(c -> c.getName().equals("SportsCar")).findFirst().orElseThrow();
+        assertEquals(0, root.getY());
+        assertTrue(sportsCar.getY() > 0);
+        assertEquals("fleet.cars", sportsCar.getPackageName());
+
+        sportsCar.setX(999);
+        UMLClassBox model = slicer.getModel().getClasses().stream()
+                .filter(c -> c.getName().equals("SportsCar")).findFirst().orElseThrow();
+        assertEquals(0, model.getX());
+    }
+
+    /**
+     * Tests that slices are cached and only the slices affected by a change are evicted.
+     */
+    @Test
+    void testChangesInvalidateAffectedSlices() {
+        DiagramSlice cars = DiagramSlice.neighbourhood("Car", 1);
+        DiagramSlice billing = DiagramSlice.packageSubset("billing");
+        DiagramSlice parts = DiagramSlice.packageSubset("parts");
+        ClassDiagramD carsSlice = slicer.slice(cars);
+        slicer.slice(billing);
+        slicer.slice(parts);
+        assertSame(carsSlice, slicer.slice(cars));
+
+        // A new relationship touching Invoice affects the billing slice only
+        UMLRelationship billed = new UMLRelationship("Association", "Invoice", "Truck", "truck", "1", "1");
+        tracker.markRelationshipChanged(billed);
+        assertFalse(slicer.isCached(billing));
+        assertTrue(slicer.isCached(cars));
+        assertTrue(slicer.isCached(parts));
+
+        // Reporting the same relationship again changes nothing
+        slicer.slice(billing);
+        tracker.markRelationshipChanged(new UMLRelationship("Association", "Invoice", "Truck", "truck", "1", "1"));
+        assertTrue(slicer.isCached(billing));
+
+        // A new element of a package affects the slices of that package
+        tracker.markElementChanged(classBox("Crankshaft", "parts"));
+        assertFalse(slicer.isCached(parts));
+        assertTrue(slicer.isCached(cars));
+        assertEquals(Set.of("Crankshaft", "Engine", "Piston"), names(slicer.slice(parts)));
+
+        // Removing Engine affects every slice it was part of
+        tracker.markElementRemoved("Engine");
+        tracker.markRelationshipRemoved("Association|Car|Engine|engine");
+        assertFalse(slicer.isCached(cars));
+        assertFalse(slicer.isCached(parts));
+        assertTrue(slicer.isCached(billing));
+        assertEquals(Set.of("Car", "SportsCar", "Vehicle"), names(slicer.slice(cars)));
+        assertEquals(7, slicer.getElementCount());
+        assertFalse(slicer.getModel().getRelationships().stream()
+                .anyMatch(r -> r.getEndElementName().equals("Engine") && r.getStartElementName().equals("Car")));
+    }
+
+    /**
+     * Tests that renaming an element through the tracker keeps the slices consistent.
+     */
+    @Test
+    void testRenameUpdatesAdjacency() {
+        DiagramSlice subtree = DiagramSlice.inheritanceSubtree("Vehicle");
+        slicer.slice(subtree);
+
+        UMLRelationship relationship = slicer.getModel().getRelationships().stream()
+                .filter(r -> r.getStartElementName().equals("Truck")).findFirst().orElseThrow();
+        String oldKey = relationship.identityKey();
+        UMLClassBox lorry = classBox("Lorry", "fleet");
+        tracker.markElementRenamed("Truck", lorry);
+        relationship.setStartElementName("Lorry");
+        tracker.markRelationshipRemoved(oldKey);
+        tracker.markRelationshipChanged(relationship);
+
+        assertFalse(slicer.isCached(subtree));
+        assertEquals(Set.of("Car", "Lorry", "SportsCar", "Vehicle"), names(slicer.slice(subtree)));
+        assertFalse(slicer.containsElement("Truck"));
+    }
+}
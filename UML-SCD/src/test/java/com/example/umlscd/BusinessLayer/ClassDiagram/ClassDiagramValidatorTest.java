@@ -0,0 +1,75 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramValidator} class.
+ * <p>
+ * These tests verify that consistent diagrams pass and that every kind of inconsistency is reported.
+ * </p>
+ */
+class ClassDiagramValidatorTest {
+
+    private static UMLClassBox classBox(String name) {
+        return new UMLClassBox(name, 0, 0, new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * Tests that a consistent diagram has no problems.
+     */
+    @Test
+    void testConsistentDiagram() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        UMLInterfaceBox shape = new UMLInterfaceBox();
+        shape.setName("Shape");
+        diagram.getInterfaces().add(shape);
+        diagram.getClasses().addAll(List.of(classBox("Circle"), classBox("Point")));
+        diagram.getRelationships().addAll(List.of(
+                new UMLRelationship("Inheritance", "Circle", "Shape", "Inheritance", "", ""),
+                new UMLRelationship("Composition", "Circle", "Point", "centre", "1", "1")));
+
+        assertTrue(ClassDiagramValidator.validate(diagram).isEmpty());
+    }
+
+    /**
+     * Tests that naming, relationship and hierarchy problems are all reported.
+     */
+    @Test
+    void testReportsProblems() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        UMLInterfaceBox shape = new UMLInterfaceBox();
+        shape.setName("Shape");
+        diagram.getInterfaces().add(shape);
+        diagram.getClasses().addAll(List.of(classBox("A"), classBox("B"), classBox("C"), classBox("A"),
+                classBox(" ")));
+        diagram.getRelationships().addAll(List.of(
+                new UMLRelationship("Dependency", "A", "B", "uses", "", ""),
+                new UMLRelationship("Association", "A", "Missing", "x", "1", "1"),
+                new UMLRelationship("Association", "A", "B", "b", "1", "1"),
+                new UMLRelationship("Association", "A", "B", "b", "1", "1"),
+                new UMLRelationship("Inheritance", "Shape", "C", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "A", "B", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "A", "C", "Inheritance", "", ""),
+                new UMLRelationship("Inheritance", "B", "A", "Inheritance", "", "")));
+
+        List<String> problems = ClassDiagramValidator.validate(diagram);
+        assertEquals(List.of(
+                "Duplicate element name: A",
+                "A class has no name",
+                "Unknown relationship type: Dependency A -> B",
+                "Relationship to a missing element: Association A -> Missing",
+                "Duplicate relationship: Association A -> B",
+                "Interface extends a class: Inheritance Shape -> C",
+                "Class extends more than one class: A",
+                "Inheritance cycle: A -> B -> A"), problems);
+    }
+}
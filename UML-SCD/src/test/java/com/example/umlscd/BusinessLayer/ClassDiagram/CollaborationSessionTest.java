@@ -0,0 +1,301 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLElementBoxInterface;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CollaborationSession} class.
+ * <p>
+ * These tests connect two sessions directly, each editing a headless model, and verify that reported changes become
+ * coalesced batches of operations, that remote operations are applied without being sent back or recorded in the undo
+ * history, and that concurrent edits converge to the same diagram whatever order the batches are delivered in.
+ * </p>
+ */
+class CollaborationSessionTest {
+
+    /**
+     * A headless diagram that reports its changes to a tracker, as the {@code ClassDiagramManager} does.
+     */
+    private static final class ModelTarget implements DiagramOperationTarget {
+
+        private final ClassDiagramChangeTracker tracker = new ClassDiagramChangeTracker();
+        private final Map<String, UMLElementBoxInterface> elements = new TreeMap<>();
+        private final Map<String, UMLRelationship> relationships = new TreeMap<>();
+        private ClassDiagramHistory history;
+
+        /**
+         * Creates or edits a class locally.
+         */
+        UMLClassBox editClass(String name, double x, double y, String... attributes) {
+            UMLClassBox box = new UMLClassBox(name, x, y, new ArrayList<>(List.of(attributes)), new ArrayList<>());
+            elements.put(name, box);
+            tracker.markElementChanged(box);
+            return box;
+        }
+
+        /**
+         * Moves an element locally, as a drag event does.
+         */
+        void drag(String name, double x, double y) {
+            UMLElementBoxInterface element = elements.get(name);
+            element.setX(x);
+            element.setY(y);
+            tracker.markElementChanged(element);
+        }
+
+        /**
+         * Creates an association locally.
+         */
+        void relate(String start, String end) {
+            UMLRelationship relationship = new UMLRelationship("Association", start, end, "uses", "1", "*");
+            relationships.put(relationship.identityKey(), relationship);
+            tracker.markRelationshipChanged(relationship);
+        }
+
+        @Override
+        public void applyElement(DiagramOperation operation) {
+            UMLElementBoxInterface element = operation.toElement();
+            elements.put(element.getName(), element);
+            tracker.markElementChanged(element);
+        }
+
+        @Override
+        public void moveElement(String name, double x, double y) {
+            UMLElementBoxInterface element = elements.get(name);
+            if (element != null) {
+                element.setX(x);
+                element.setY(y);
+                tracker.markElementChanged(element);
+            }
+        }
+
+        @Override
+        public void removeElement(String name) {
+            if (elements.remove(name) != null) {
+                tracker.markElementRemoved(name);
+                relationships.values().removeIf(relationship -> relationship.getStartElementName().equals(name)
+                        || relationship.getEndElementName().equals(name));
+            }
+        }
+
+        @Override
+        public void applyRelationship(UMLRelationship relationship) {
+            relationships.put(relationship.identityKey(), relationship);
+            tracker.markRelationshipChanged(relationship);
+        }
+
+        @Override
+        public void removeRelationship(String key) {
+            if (relationships.remove(key) != null) {
+                tracker.markRelationshipRemoved(key);
+            }
+        }
+
+        @Override
+        public boolean containsElement(String name) {
+            return elements.containsKey(name);
+        }
+
+        @Override
+        public void applyRemote(Runnable changes) {
+            if (history != null) {
+                history.runUnrecorded(changes);
+            } else {
+                changes.run();
+            }
+        }
+
+        /**
+         * Describes the complete state, for comparing participants.
+         */
+        String describe() {
+            StringBuilder text = new StringBuilder();
+            elements.values().forEach(element -> text.append(element.getName()).append('@').append(element.getX())
+                    .append(',').append(element.getY()).append(' ')
+                    .append(DiagramOperation.upsertElement(element).getAttributes()).append('\n'));
+            relationships.keySet().forEach(key -> text.append(key).append('\n'));
+            return text.toString();
+        }
+    }
+
+    private ModelTarget modelA;
+    private ModelTarget modelB;
+    private List<List<DiagramOperation>> sentByA;
+    private List<List<DiagramOperation>> sentByB;
+    private CollaborationSession sessionA;
+    private CollaborationSession sessionB;
+
+    @BeforeEach
+    void setUp() {
+        modelA = new ModelTarget();
+        modelB = new ModelTarget();
+        sentByA = new ArrayList<>();
+        sentByB = new ArrayList<>();
+        sessionA = new CollaborationSession(modelA, sentByA::add, Runnable::run, "a", null);
+        sessionB = new CollaborationSession(modelB, sentByB::add, Runnable::run, "b", null);
+        modelA.tracker.addListener(sessionA);
+        modelB.tracker.addListener(sessionB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionA.close();
+        sessionB.close();
+    }
+
+    /**
+     * Sends the pending operations of both sessions and delivers them, B's batches first if requested.
+     */
+    private void exchange(boolean bFirst) {
+        sessionA.flush();
+        sessionB.flush();
+        List<List<DiagramOperation>> toB = new ArrayList<>(sentByA);
+        List<List<DiagramOperation>> toA = new ArrayList<>(sentByB);
+        sentByA.clear();
+        sentByB.clear();
+        if (bFirst) {
+            toA.forEach(sessionA::receive);
+            toB.forEach(sessionB::receive);
+        } else {
+            toB.forEach(sessionB::receive);
+            toA.forEach(sessionA::receive);
+        }
+    }
+
+    /**
+     * Tests that a drag sends a single move with the last position per tick.
+     */
+    @Test
+    void testDragIsCoalescedToLastPosition() {
+        modelA.editClass("Order", 0, 0);
+        sessionA.flush();
+        sentByA.clear();
+
+        for (int step = 1; step <= 50; step++) {
+            modelA.drag("Order", step * 2, step * 3);
+        }
+        sessionA.flush();
+
+        assertEquals(1, sentByA.size());
+        List<DiagramOperation> batch = sentByA.get(0);
+        assertEquals(1, batch.size());
+        assertEquals(DiagramOperation.Type.MOVE_ELEMENT, batch.get(0).getType());
+        assertEquals(100, batch.get(0).getX());
+        assertEquals(150, batch.get(0).getY());
+    }
+
+    /**
+     * Tests that applying remote operations reports them to the tracker without sending them back.
+     */
+    @Test
+    void testRemoteOperationsAreNotEchoed() {
+        modelA.editClass("Order", 10, 20, "- id : int");
+        exchange(false);
+
+        assertTrue(modelB.containsElement("Order"));
+        assertTrue(modelB.tracker.getChangedElements().containsKey("Order"));
+        sessionB.flush();
+        assertTrue(sentByB.isEmpty());
+    }
+
+    /**
+     * Tests that a relationship arriving before its elements is applied once they arrive.
+     */
+    @Test
+    void testRelationshipWaitsForItsElements() {
+        modelA.editClass("Order", 0, 0);
+        modelA.editClass("Customer", 100, 0);
+        modelA.relate("Order", "Customer");
+        sessionA.flush();
+        List<DiagramOperation> batch = new ArrayList<>(sentByA.get(0));
+        Collections.reverse(batch);
+
+        sessionB.receive(batch);
+
+        assertEquals(modelA.describe(), modelB.describe());
+    }
+
+    /**
+     * Tests that concurrent edits of the same element and a concurrent removal converge in both delivery orders.
+     */
+    @Test
+    void testConcurrentEditsConverge() {
+        modelA.editClass("Order", 0, 0);
+        modelA.editClass("Customer", 100, 0);
+        modelA.relate("Order", "Customer");
+        exchange(false);
+
+        // A edits and moves Order while B moves it and removes Customer
+        modelA.editClass("Order", 0, 0, "- total : double");
+        modelA.drag("Order", 40, 40);
+        modelB.drag("Order", 70, 70);
+        modelB.drag("Order", 80, 80);
+        modelB.removeElement("Customer");
+        exchange(true);
+
+        assertEquals(modelA.describe(), modelB.describe());
+        assertFalse(modelA.containsElement("Customer"));
+        assertTrue(modelA.relationships.isEmpty());
+        assertTrue(modelA.describe().contains("[- total : double]"));
+    }
+
+    /**
+     * Tests that publishing a diagram sends all of its elements and relationships.
+     */
+    @Test
+    void testPublishSendsWholeDiagram() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Order", 5, 5, new ArrayList<>(), new ArrayList<>()));
+        diagram.getClasses().add(new UMLClassBox("Customer", 50, 5, new ArrayList<>(), new ArrayList<>()));
+        diagram.getRelationships().add(new UMLRelationship("Association", "Order", "Customer", "uses", "1", "*"));
+
+        sessionA.publish(diagram);
+        exchange(false);
+
+        assertEquals(2, modelB.elements.size());
+        assertEquals(1, modelB.relationships.size());
+    }
+
+    /**
+     * Tests that remote operations are not recorded in the undo history, so undoing reverts only the local edit.
+     */
+    @Test
+    void testRemoteOperationsAreNotUndone() {
+        List<Runnable> deferred = new ArrayList<>();
+        modelB.history = new ClassDiagramHistory(modelB, deferred::add);
+        modelB.tracker.addListener(modelB.history);
+
+        modelA.editClass("Order", 0, 0);
+        exchange(false);
+        deferred.forEach(Runnable::run);
+        deferred.clear();
+        assertFalse(modelB.history.canUndo());
+
+        modelB.drag("Order", 50, 50);
+        deferred.forEach(Runnable::run);
+        deferred.clear();
+        modelA.editClass("Customer", 200, 0);
+        exchange(false);
+        deferred.forEach(Runnable::run);
+        assertEquals(1, modelB.history.getCommandHistory().getUndoCount());
+
+        assertTrue(modelB.history.undo());
+        assertEquals(0, modelB.elements.get("Order").getX());
+        assertTrue(modelB.containsElement("Customer"));
+        assertFalse(modelB.history.canUndo());
+    }
+}
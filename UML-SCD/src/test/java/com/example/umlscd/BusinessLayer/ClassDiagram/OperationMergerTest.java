@@ -0,0 +1,127 @@
+package com.example.umlscd.BusinessLayer.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link OperationMerger} class.
+ * <p>
+ * These tests verify the last-writer-wins resolution of the content, position and relationship registers and the
+ * Lamport clock that stamps local operations.
+ * </p>
+ */
+class OperationMergerTest {
+
+    private static DiagramOperation upsert(String name, double x, double y) {
+        return DiagramOperation.upsertElement(new UMLClassBox(name, x, y, new ArrayList<>(), new ArrayList<>()));
+    }
+
+    /**
+     * Tests that remote operations advance the clock, so that later local operations win over them.
+     */
+    @Test
+    void testLocalOperationsAfterRemoteOnesWin() {
+        OperationMerger merger = new OperationMerger("a");
+        assertNotNull(merger.merge(upsert("Order", 0, 0).stamp("b", 41)));
+
+        DiagramOperation local = merger.stamp(DiagramOperation.removeElement("Order"));
+
+        assertEquals(42, local.getClock());
+        assertTrue(local.isNewerThan(upsert("Order", 0, 0).stamp("b", 41)));
+    }
+
+    /**
+     * Tests that an operation older than the one its register holds is ignored, in either arrival order.
+     */
+    @Test
+    void testOlderOperationsAreIgnored() {
+        DiagramOperation older = DiagramOperation.moveElement("Order", 10, 10).stamp("a", 1);
+        DiagramOperation newer = DiagramOperation.moveElement("Order", 20, 20).stamp("b", 2);
+
+        OperationMerger first = new OperationMerger("c");
+        assertNotNull(first.merge(older));
+        assertNotNull(first.merge(newer));
+
+        OperationMerger second = new OperationMerger("d");
+        assertNotNull(second.merge(newer));
+        assertNull(second.merge(older));
+    }
+
+    /**
+     * Tests that equal clocks are ordered by site, so that every participant picks the same winner.
+     */
+    @Test
+    void testEqualClocksAreOrderedBySite() {
+        DiagramOperation fromA = DiagramOperation.removeElement("Order").stamp("a", 5);
+        DiagramOperation fromB = upsert("Order", 0, 0).stamp("b", 5);
+
+        assertTrue(fromB.isNewerThan(fromA));
+        assertFalse(fromA.isNewerThan(fromB));
+    }
+
+    /**
+     * Tests that an edit keeps the position of a newer move instead of resetting it.
+     */
+    @Test
+    void testEditKeepsNewerPosition() {
+        OperationMerger merger = new OperationMerger("c");
+        assertNotNull(merger.merge(DiagramOperation.moveElement("Order", 300, 400).stamp("a", 7)));
+
+        DiagramOperation effect = merger.merge(upsert("Order", 0, 0).stamp("b", 3));
+
+        assertNotNull(effect);
+        assertEquals(300, effect.getX());
+        assertEquals(400, effect.getY());
+        assertNull(merger.merge(DiagramOperation.moveElement("Order", 1, 1).stamp("b", 4)));
+    }
+
+    /**
+     * Tests that a removal is kept as a tombstone, so that a delayed older edit does not bring the element back.
+     */
+    @Test
+    void testRemovalIsKeptAsTombstone() {
+        OperationMerger merger = new OperationMerger("c");
+        assertNotNull(merger.merge(DiagramOperation.removeElement("Order").stamp("a", 9)));
+
+        assertNull(merger.merge(upsert("Order", 0, 0).stamp("b", 8)));
+        assertNotNull(merger.merge(upsert("Order", 0, 0).stamp("b", 10)));
+    }
+
+    /**
+     * Tests that every arrival order of the same operations leads to the same surviving operations.
+     */
+    @Test
+    void testArrivalOrderDoesNotMatter() {
+        List<DiagramOperation> operations = List.of(
+                upsert("Order", 0, 0).stamp("a", 1),
+                DiagramOperation.moveElement("Order", 5, 5).stamp("b", 2),
+                upsert("Order", 9, 9).stamp("b", 1),
+                DiagramOperation.removeElement("Order").stamp("a", 3));
+
+        String forward = survivors(operations);
+        List<DiagramOperation> reversed = new ArrayList<>(operations);
+        Collections.reverse(reversed);
+
+        assertEquals(forward, survivors(reversed));
+        assertTrue(forward.endsWith("REMOVE_ELEMENT Order @3/a"));
+    }
+
+    private static String survivors(List<DiagramOperation> operations) {
+        OperationMerger merger = new OperationMerger("z");
+        List<String> applied = new ArrayList<>();
+        for (DiagramOperation operation : operations) {
+            if (merger.merge(operation) != null) {
+                applied.add(operation.toString());
+            }
+        }
+        // The newest operation of the content register is the last one applied to it
+        return applied.stream().filter(text -> !text.startsWith("MOVE")).reduce((a, b) -> b).orElse("");
+    }
+}
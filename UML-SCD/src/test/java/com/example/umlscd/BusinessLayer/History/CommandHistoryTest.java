@@ -0,0 +1,135 @@
+package com.example.umlscd.BusinessLayer.History;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CommandHistory} class.
+ * <p>
+ * These tests record commands that append to and remove from a list, and verify that they are undone and redone in
+ * order, that consecutive commands are merged until the merging is interrupted, and that the oldest commands are
+ * forgotten beyond the memory budget.
+ * </p>
+ */
+class CommandHistoryTest {
+
+    private final List<String> log = new ArrayList<>();
+
+    private DiagramCommand append(String text, long size) {
+        return new DiagramCommand() {
+            @Override
+            public void apply() {
+                log.add(text);
+            }
+
+            @Override
+            public void revert() {
+                log.remove(log.size() - 1);
+            }
+
+            @Override
+            public long estimateSize() {
+                return size;
+            }
+        };
+    }
+
+    private record Counter(List<Integer> values, int from, int to) implements DiagramCommand {
+        @Override
+        public void apply() {
+            values.set(0, to);
+        }
+
+        @Override
+        public void revert() {
+            values.set(0, from);
+        }
+
+        @Override
+        public long estimateSize() {
+            return 10;
+        }
+
+        @Override
+        public DiagramCommand coalesce(DiagramCommand next) {
+            return next instanceof Counter later ? new Counter(values, from, later.to) : null;
+        }
+    }
+
+    /**
+     * Tests that commands are undone and redone in order, and that a new command forgets the undone ones.
+     */
+    @Test
+    void testUndoesAndRedoesInOrder() {
+        CommandHistory history = new CommandHistory();
+        history.execute(append("a", 10));
+        history.execute(append("b", 10));
+
+        assertTrue(history.undo());
+        assertEquals(List.of("a"), log);
+        assertTrue(history.redo());
+        assertEquals(List.of("a", "b"), log);
+        assertFalse(history.redo());
+
+        history.undo();
+        history.execute(append("c", 10));
+        assertEquals(List.of("a", "c"), log);
+        assertFalse(history.canRedo());
+        assertEquals(20, history.getUsedBytes());
+        history.undo();
+        history.undo();
+        assertFalse(history.undo());
+        assertTrue(log.isEmpty());
+    }
+
+    /**
+     * Tests that consecutive commands are merged until the merging is interrupted, and never after an undo.
+     */
+    @Test
+    void testCoalescesUntilInterrupted() {
+        List<Integer> values = new ArrayList<>(List.of(0));
+        CommandHistory history = new CommandHistory();
+        for (int i = 1; i <= 5; i++) {
+            history.execute(new Counter(values, i - 1, i));
+        }
+        history.breakCoalescing();
+        history.execute(new Counter(values, 5, 6));
+
+        assertEquals(2, history.getUndoCount());
+        assertEquals(20, history.getUsedBytes());
+        history.undo();
+        assertEquals(5, values.get(0));
+        history.undo();
+        assertEquals(0, values.get(0));
+
+        history.redo();
+        history.execute(new Counter(values, 5, 7));
+        assertEquals(2, history.getUndoCount());
+    }
+
+    /**
+     * Tests that the oldest commands are forgotten beyond the budget, keeping the latest one even if it is larger.
+     */
+    @Test
+    void testForgetsOldestCommandsBeyondBudget() {
+        CommandHistory history = new CommandHistory(100);
+        for (int i = 0; i < 10; i++) {
+            history.execute(append("x" + i, 30));
+        }
+
+        assertEquals(3, history.getUndoCount());
+        assertEquals(90, history.getUsedBytes());
+        history.execute(append("big", 500));
+        assertEquals(1, history.getUndoCount());
+        assertEquals(500, history.getUsedBytes());
+
+        history.clear();
+        assertEquals(0, history.getUsedBytes());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0));
+    }
+}
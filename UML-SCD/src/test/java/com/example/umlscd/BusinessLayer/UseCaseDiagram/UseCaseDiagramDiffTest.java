@@ -0,0 +1,73 @@
+package com.example.umlscd.BusinessLayer.UseCaseDiagram;
+
+import com.example.umlscd.BusinessLayer.ClassDiagram.DiagramDiff;
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UseCaseDiagramDiff} class.
+ * <p>
+ * These tests compare versions of a use case diagram and verify that objects are matched by name and, when renamed,
+ * by position, and that associations are compared across renames even when they hold copies of their endpoints.
+ * </p>
+ */
+class UseCaseDiagramDiffTest {
+
+    private static UseCaseDiagramManager shop(String checkoutName, double checkoutX, boolean withPay) {
+        UseCaseDiagramManager diagram = new UseCaseDiagramManager();
+        UseCaseDiagramObject customer = new UseCaseDiagramObject("actor", 0, 0, "Customer");
+        UseCaseDiagramObject checkout = new UseCaseDiagramObject("usecase", checkoutX, 100, checkoutName);
+        diagram.addObject(customer);
+        diagram.addObject(checkout);
+        // Endpoint copies, as deserialized diagrams have them
+        diagram.addAssociation(new Association(new UseCaseDiagramObject("actor", 0, 0, "Customer"),
+                new UseCaseDiagramObject("usecase", checkoutX, 100, checkoutName), "association"));
+        if (withPay) {
+            UseCaseDiagramObject pay = new UseCaseDiagramObject("usecase", 300, 100, "Pay");
+            diagram.addObject(pay);
+            diagram.addAssociation(new Association(checkout, pay, "include"));
+        }
+        return diagram;
+    }
+
+    /**
+     * Tests that equal diagrams have no changes.
+     */
+    @Test
+    void testEqualDiagramsHaveNoChanges() {
+        assertTrue(UseCaseDiagramDiff.compare(shop("Checkout", 100, true), shop("Checkout", 100, true)).isEmpty());
+    }
+
+    /**
+     * Tests that a renamed use case is matched by position and keeps its associations.
+     */
+    @Test
+    void testRenamedObjectKeepsAssociations() {
+        DiagramDiff diff = UseCaseDiagramDiff.compare(shop("Checkout", 100, false), shop("Place order", 100, false));
+
+        assertEquals(List.of("RENAMED Place order: Checkout -> Place order"),
+                diff.getChanges().stream().map(DiagramDiff.Change::toString).toList());
+    }
+
+    /**
+     * Tests that moved, added and removed objects and associations are reported.
+     */
+    @Test
+    void testReportsMovesAdditionsAndRemovals() {
+        DiagramDiff added = UseCaseDiagramDiff.compare(shop("Checkout", 100, false), shop("Checkout", 150, true));
+
+        assertEquals(List.of(
+                "MOVED Checkout: (100, 100) -> (150, 100)",
+                "ADDED Pay: usecase",
+                "RELATIONSHIP_ADDED include|Checkout|Pay"),
+                added.getChanges().stream().map(DiagramDiff.Change::toString).toList());
+
+        DiagramDiff removed = UseCaseDiagramDiff.compare(shop("Checkout", 100, true), shop("Checkout", 100, false));
+        assertEquals("1 REMOVED, 1 RELATIONSHIP_REMOVED", removed.summary());
+    }
+}
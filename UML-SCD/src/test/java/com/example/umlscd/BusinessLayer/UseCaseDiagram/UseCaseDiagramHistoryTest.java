@@ -0,0 +1,117 @@
+package com.example.umlscd.BusinessLayer.UseCaseDiagram;
+
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UseCaseDiagramHistory} class.
+ * <p>
+ * These tests change a small use case diagram through the history and verify that additions, removals, renames and
+ * moves are undone and redone, that removed objects and associations return to their places, and that a drag is
+ * undone in one step.
+ * </p>
+ */
+class UseCaseDiagramHistoryTest {
+
+    private final List<UseCaseDiagramObject> objects = new ArrayList<>();
+
+    private final List<Association> associations = new ArrayList<>();
+
+    private final UseCaseDiagramHistory history = new UseCaseDiagramHistory(objects, associations);
+
+    /**
+     * Tests that removing an object removes its associations, and that undoing it restores both in place.
+     */
+    @Test
+    void testUndoesRemovalInPlace() {
+        UseCaseDiagramObject customer = new UseCaseDiagramObject("actor", 100, 100, "Customer");
+        UseCaseDiagramObject order = new UseCaseDiagramObject("usecase", 300, 100, "Place Order");
+        UseCaseDiagramObject pay = new UseCaseDiagramObject("usecase", 300, 200, "Pay");
+        history.addObject(customer);
+        history.addObject(order);
+        history.addObject(pay);
+        Association places = new Association(customer, order, "association");
+        Association includes = new Association(order, pay, "include");
+        Association paying = new Association(customer, pay, "association");
+        history.addAssociation(places);
+        history.addAssociation(includes);
+        history.addAssociation(paying);
+
+        history.removeObject(order);
+        assertEquals(List.of(customer, pay), objects);
+        assertEquals(List.of(paying), associations);
+
+        assertTrue(history.undo());
+        assertEquals(List.of(customer, order, pay), objects);
+        assertEquals(List.of(places, includes, paying), associations);
+        assertTrue(history.redo());
+        assertEquals(List.of(paying), associations);
+        history.undo();
+        history.undo();
+        assertEquals(List.of(places, includes), associations);
+    }
+
+    /**
+     * Tests that renames and association removals are undone and redone, and that unchanged names are not recorded.
+     */
+    @Test
+    void testUndoesRenameAndAssociationRemoval() {
+        UseCaseDiagramObject customer = new UseCaseDiagramObject("actor", 100, 100, "Customer");
+        UseCaseDiagramObject order = new UseCaseDiagramObject("usecase", 300, 100, "Place Order");
+        history.addObject(customer);
+        history.addObject(order);
+        Association places = new Association(customer, order, "association");
+        history.addAssociation(places);
+        history.renameObject(customer, "Client");
+        history.renameObject(customer, "Client");
+        history.removeAssociation(places);
+
+        assertEquals(5, history.getCommandHistory().getUndoCount());
+        history.undo();
+        assertEquals(List.of(places), associations);
+        history.undo();
+        assertEquals("Customer", customer.getName());
+        history.redo();
+        assertEquals("Client", customer.getName());
+        history.undo();
+        history.undo();
+        history.undo();
+        history.undo();
+        assertTrue(objects.isEmpty());
+        assertFalse(history.canUndo());
+    }
+
+    /**
+     * Tests that the moves of a drag are undone in one step, and that a new drag is undone separately.
+     */
+    @Test
+    void testDragIsUndoneInOneStep() {
+        UseCaseDiagramObject customer = new UseCaseDiagramObject("actor", 100, 100, "Customer");
+        history.addObject(customer);
+        history.breakCoalescing();
+        for (int i = 1; i <= 50; i++) {
+            history.moveObject(customer, 100 + i, 100 + i);
+        }
+        history.breakCoalescing();
+        history.moveObject(customer, 400, 400);
+
+        assertEquals(3, history.getCommandHistory().getUndoCount());
+        history.undo();
+        assertEquals(150, customer.getX());
+        history.undo();
+        assertEquals(100, customer.getX());
+        assertEquals(100, customer.getY());
+        history.redo();
+        assertEquals(150, customer.getY());
+
+        history.clear();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.umlscd.BusinessLayer.UseCaseDiagram;
+
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UseCaseDiagramValidator} and {@link UseCaseDiagramLayout} classes.
+ * <p>
+ * These tests verify that inconsistent objects and associations are reported and that the layout moves the
+ * association endpoints along with the objects they connect.
+ * </p>
+ */
+class UseCaseDiagramValidatorTest {
+
+    /**
+     * Tests that a consistent diagram passes and every kind of problem is reported.
+     */
+    @Test
+    void testReportsProblems() {
+        UseCaseDiagramManager diagram = new UseCaseDiagramManager();
+        UseCaseDiagramObject customer = new UseCaseDiagramObject("actor", 0, 0, "Customer");
+        UseCaseDiagramObject checkout = new UseCaseDiagramObject("usecase", 0, 0, "Checkout");
+        UseCaseDiagramObject pay = new UseCaseDiagramObject("usecase", 0, 0, "Pay");
+        List.of(customer, checkout, pay).forEach(diagram::addObject);
+        diagram.addAssociation(new Association(customer, checkout, "association"));
+        diagram.addAssociation(new Association(checkout, pay, "include"));
+        assertTrue(UseCaseDiagramValidator.validate(diagram).isEmpty());
+
+        diagram.addObject(new UseCaseDiagramObject("usecase", 0, 0, "Pay"));
+        diagram.addObject(new UseCaseDiagramObject("system", 0, 0, "Shop"));
+        diagram.addAssociation(new Association(customer, pay, "extend"));
+        diagram.addAssociation(new Association(customer, new UseCaseDiagramObject("usecase", 0, 0, "Ship"),
+                "association"));
+        diagram.addAssociation(new Association(customer, pay, "uses"));
+
+        assertEquals(List.of(
+                "Duplicate usecase name: Pay",
+                "Unknown object type: system Shop",
+                "Include and extend must connect two use cases: extend Customer -> Pay",
+                "Association to a missing object: association Customer -> Ship",
+                "Unknown association type: uses Customer -> Pay"), UseCaseDiagramValidator.validate(diagram));
+    }
+
+    /**
+     * Tests that the layout separates actors from use cases and keeps association endpoints on their objects.
+     */
+    @Test
+    void testLayoutMovesAssociationEndpoints() {
+        UseCaseDiagramManager diagram = new UseCaseDiagramManager();
+        UseCaseDiagramObject customer = new UseCaseDiagramObject("actor", 0, 0, "Customer");
+        UseCaseDiagramObject checkout = new UseCaseDiagramObject("usecase", 0, 0, "Checkout");
+        diagram.addObject(customer);
+        diagram.addObject(checkout);
+        diagram.addAssociation(new Association(new UseCaseDiagramObject("actor", 0, 0, "Customer"),
+                new UseCaseDiagramObject("usecase", 0, 0, "Checkout"), "association"));
+
+        UseCaseDiagramLayout.layOut(diagram);
+
+        assertTrue(customer.getX() < checkout.getX());
+        Association association = diagram.getAssociations().get(0);
+        assertEquals(customer.getX(), association.getObj1().getX());
+        assertEquals(checkout.getY(), association.getObj2().getY());
+    }
+}
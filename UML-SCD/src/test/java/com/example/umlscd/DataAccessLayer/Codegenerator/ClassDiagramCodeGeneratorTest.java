@@ -3,10 +3,19 @@ package com.example.umlscd.DataAccessLayer.Codegenerator;
 import com.example.umlscd.Models.ClassDiagram.*;
 import com.example.umlscd.DataAccessLayer.Codegeneration.ClassDiagramCodeGenerator;
 import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Test class for generating Java code files from a UML class diagram using {@link ClassDiagramCodeGenerator}.
@@ -19,6 +28,9 @@ import java.util.Arrays;
  * and a relationship (`Inheritance` between `Employee` and `Person`). It then calls the code generator
  * to create a Java code file, which is verified for its existence.
  * </p>
+ * <p>
+ * The unit tests verify the generation of source trees with one Java file per class and interface.
+ * </p>
  */
 public class ClassDiagramCodeGeneratorTest {
 
@@ -82,4 +94,136 @@ public class ClassDiagramCodeGeneratorTest {
             System.out.println("Code generation failed!");
         }
     }
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that every class and interface is written to its own file in the package directory.
+     */
+    @Test
+    void testGeneratesOneFilePerType() throws IOException {
+        UMLClassBox person = new UMLClassBox("Person", 0, 0,
+                new ArrayList<>(List.of("+ name: String")), new ArrayList<>(List.of("+ getName(): String")));
+        UMLClassBox employee = new UMLClassBox("Employee", 0, 0, new ArrayList<>(), new ArrayList<>());
+        UMLInterfaceBox actions = new UMLInterfaceBox();
+        actions.setName("EmployeeActions");
+        actions.setMethods(new ArrayList<>(List.of("+ work(): void")));
+        UMLRelationship inheritance = new UMLRelationship();
+        inheritance.setType("Inheritance");
+        inheritance.setStartElementName("Employee");
+        inheritance.setEndElementName("Person");
+
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.setClasses(new ArrayList<>(List.of(person, employee)));
+        diagram.setInterfaces(new ArrayList<>(List.of(actions)));
+        diagram.setRelationships(new ArrayList<>(List.of(inheritance)));
+
+        List<Path> files = new ClassDiagramCodeGenerator().generateSourceTree(diagram, tempDir, "com.example.model");
+
+        Path packageDirectory = tempDir.resolve("com/example/model");
+        assertEquals(List.of(packageDirectory.resolve("Person.java"), packageDirectory.resolve("Employee.java"),
+                packageDirectory.resolve("EmployeeActions.java")), files);
+        String personSource = Files.readString(packageDirectory.resolve("Person.java"));
+        assertTrue(personSource.startsWith("package com.example.model;\n"));
+        assertTrue(personSource.contains("public String name;"));
+        assertTrue(personSource.contains("public String getName() {"));
+        assertTrue(personSource.stripTrailing().endsWith("}"));
+        assertTrue(Files.readString(packageDirectory.resolve("Employee.java"))
+                .contains("public class Employee extends Person {"));
+        assertTrue(Files.readString(packageDirectory.resolve("EmployeeActions.java"))
+                .contains("public interface EmployeeActions {"));
+    }
+
+    /**
+     * Tests that a large diagram is generated completely on a dedicated pool.
+     */
+    @Test
+    void testGeneratesLargeDiagramInParallel() throws IOException {
+        ClassDiagramD diagram = new ClassDiagramD();
+        List<UMLClassBox> classes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            classes.add(new UMLClassBox("Type" + i, 0, 0,
+                    new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ total(): double"))));
+        }
+        diagram.setClasses(classes);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Path> files = new ClassDiagramCodeGenerator().generateSourceTree(diagram, tempDir, "", pool);
+            assertEquals(2000, files.size());
+        } finally {
+            pool.shutdown();
+        }
+        try (var listing = Files.list(tempDir)) {
+            assertEquals(2000, listing.count());
+        }
+        assertTrue(Files.readString(tempDir.resolve("Type1999.java")).startsWith("\npublic class Type1999 {"));
+    }
+
+    /**
+     * Tests that duplicate type names and invalid package names are rejected before anything is written.
+     */
+    @Test
+    void testRejectsInvalidNames() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.setClasses(new ArrayList<>(List.of(
+                new UMLClassBox("Order", 0, 0, new ArrayList<>(), new ArrayList<>()),
+                new UMLClassBox("Order", 0, 0, new ArrayList<>(), new ArrayList<>()))));
+        ClassDiagramCodeGenerator generator = new ClassDiagramCodeGenerator();
+
+        assertThrows(IOException.class, () -> generator.generateSourceTree(diagram, tempDir, "shop"));
+        assertFalse(Files.exists(tempDir.resolve("shop")));
+
+        diagram.getClasses().remove(1);
+        assertThrows(IOException.class, () -> generator.generateSourceTree(diagram, tempDir, "com..shop"));
+        assertThrows(IOException.class, () -> generator.generateSourceTree(diagram, tempDir, "com.1shop"));
+    }
+
+    /**
+     * Tests that updating a source tree only rewrites changed types and deletes the files of removed types.
+     */
+    @Test
+    void testUpdatesOnlyChangedTypes() throws IOException {
+        UMLClassBox order = new UMLClassBox("Order", 0, 0,
+                new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ total(): double")));
+        UMLClassBox customer = new UMLClassBox("Customer", 0, 0, new ArrayList<>(), new ArrayList<>());
+        UMLInterfaceBox payable = new UMLInterfaceBox();
+        payable.setName("Payable");
+        payable.setMethods(new ArrayList<>(List.of("+ pay(): void")));
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.setClasses(new ArrayList<>(List.of(order, customer)));
+        diagram.setInterfaces(new ArrayList<>(List.of(payable)));
+        ClassDiagramCodeGenerator generator = new ClassDiagramCodeGenerator();
+
+        ClassDiagramCodeGenerator.SourceTreeUpdate first = generator.updateSourceTree(diagram, tempDir, "shop");
+        assertEquals(3, first.getGenerated().size());
+        assertEquals(0, first.getUnchanged());
+
+        ClassDiagramCodeGenerator.SourceTreeUpdate second = generator.updateSourceTree(diagram, tempDir, "shop");
+        assertTrue(second.getGenerated().isEmpty());
+        assertEquals(3, second.getUnchanged());
+
+        // Implementing the interface only changes the source of the implementing class
+        UMLRelationship realization = new UMLRelationship();
+        realization.setType("Inheritance");
+        realization.setStartElementName("Order");
+        realization.setEndElementName("Payable");
+        diagram.setRelationships(new ArrayList<>(List.of(realization)));
+        diagram.getClasses().remove(customer);
+        Files.delete(tempDir.resolve("shop/Payable.java"));
+
+        ClassDiagramCodeGenerator.SourceTreeUpdate third = generator.updateSourceTree(diagram, tempDir, "shop");
+        assertEquals(List.of(tempDir.resolve("shop/Order.java"), tempDir.resolve("shop/Payable.java")),
+                third.getGenerated());
+        assertEquals(List.of(tempDir.resolve("shop/Customer.java")), third.getDeleted());
+        assertTrue(Files.readString(tempDir.resolve("shop/Order.java")).contains("class Order implements Payable"));
+
+        // Moving the types to another package removes the old package directory
+        ClassDiagramCodeGenerator.SourceTreeUpdate moved = generator.updateSourceTree(diagram, tempDir, "store");
+        assertEquals(2, moved.getGenerated().size());
+        assertEquals(2, moved.getDeleted().size());
+        assertFalse(Files.exists(tempDir.resolve("shop")));
+        assertTrue(Files.exists(tempDir.resolve("store/Order.java")));
+    }
 }
@@ -0,0 +1,62 @@
+package com.example.umlscd.DataAccessLayer.Codegenerator;
+
+import com.example.umlscd.DataAccessLayer.Codegeneration.CodeGenerationManifest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CodeGenerationManifest}.
+ * <p>
+ * This class verifies that fingerprints distinguish the parts they are computed from and that recorded source files
+ * survive saving and loading the manifest.
+ * </p>
+ */
+class CodeGenerationManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that fingerprints are stable and sensitive to how text is split into parts.
+     */
+    @Test
+    void testFingerprintsDistinguishParts() {
+        String fingerprint = CodeGenerationManifest.fingerprint(List.of("class", "Order", "- id: int"));
+
+        assertEquals(fingerprint, CodeGenerationManifest.fingerprint(List.of("class", "Order", "- id: int")));
+        assertNotEquals(fingerprint, CodeGenerationManifest.fingerprint(List.of("class", "Order- id: int", "")));
+        assertNotEquals(fingerprint, CodeGenerationManifest.fingerprint(List.of("class", "Order", "- id: long")));
+    }
+
+    /**
+     * Tests that recorded files are saved, loaded and checked against their outputs.
+     */
+    @Test
+    void testSavesAndLoadsEntries() throws IOException {
+        Path manifestFile = tempDir.resolve(CodeGenerationManifest.FILE_NAME);
+        Path output = tempDir.resolve("Order.java");
+        Files.writeString(output, "class Order {}");
+
+        CodeGenerationManifest manifest = new CodeGenerationManifest(manifestFile);
+        manifest.record("Order.java", "abc");
+        manifest.record("shop/Customer.java", "def");
+        manifest.save();
+
+        CodeGenerationManifest loaded = new CodeGenerationManifest(manifestFile);
+        assertEquals(Set.of("Order.java", "shop/Customer.java"), loaded.files());
+        assertTrue(loaded.isUpToDate("Order.java", "abc", output));
+        assertFalse(loaded.isUpToDate("Order.java", "xyz", output));
+        assertFalse(loaded.isUpToDate("shop/Customer.java", "def", tempDir.resolve("shop/Customer.java")));
+
+        loaded.forget("Order.java");
+        assertEquals(1, loaded.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.umlscd.DataAccessLayer.Codegenerator;
+
+import com.example.umlscd.DataAccessLayer.Codegeneration.CodeTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CodeTemplate}.
+ * <p>
+ * This class verifies the tags, scoping, filters and line handling of compiled templates, and that malformed
+ * templates are rejected when they are compiled.
+ * </p>
+ */
+class CodeTemplateTest {
+
+    /**
+     * Tests variables, filters, loops with separators and conditionals with enclosing scopes.
+     */
+    @Test
+    void testRendersTags() {
+        CodeTemplate template = CodeTemplate.compile(
+                "{{name|upper}}({{#each params}}{{type|box}} {{name}}{{#sep}}, {{/sep}}{{/each}})"
+                        + "{{#if static}} static{{else}} instance{{/if}}{{! ignored }}",
+                Map.of("box", type -> type.equals("int") ? "Integer" : type));
+
+        Map<String, Object> model = Map.of(
+                "name", "save",
+                "static", false,
+                "params", List.of(Map.of("name", "id", "type", "int"), Map.of("type", "String")));
+
+        // The second parameter has no name of its own, so the enclosing one is used
+        assertEquals("SAVE(Integer id, String save) instance", template.render(model));
+        assertEquals("SAVE() static", template.render(Map.of("name", "save", "static", true, "params", List.of())));
+    }
+
+    /**
+     * Tests that lines holding only a block tag disappear from the output.
+     */
+    @Test
+    void testRemovesStandaloneTagLines() {
+        CodeTemplate template = CodeTemplate.compile("class A {\n    {{#each fields}}\n    int {{this}};\n"
+                + "    {{/each}}\n}\n");
+
+        assertEquals("class A {\n    int x;\n    int y;\n}\n", template.render(Map.of("fields", List.of("x", "y"))));
+        assertEquals("class A {\n}\n", template.render(Map.of()));
+    }
+
+    /**
+     * Tests that malformed templates and unknown filters are rejected.
+     */
+    @Test
+    void testRejectsMalformedTemplates() {
+        assertThrows(IllegalArgumentException.class, () -> CodeTemplate.compile("{{#each items}}x"));
+        assertThrows(IllegalArgumentException.class, () -> CodeTemplate.compile("{{#if a}}x{{/each}}"));
+        assertThrows(IllegalArgumentException.class, () -> CodeTemplate.compile("{{/if}}"));
+        assertThrows(IllegalArgumentException.class, () -> CodeTemplate.compile("{{#sep}},{{/sep}}"));
+        assertThrows(IllegalArgumentException.class, () -> CodeTemplate.compile("{{name|unknown}}"));
+        assertThrows(IllegalArgumentException.class, () -> CodeTemplate.compile("{{#loop items}}{{/loop}}"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.umlscd.DataAccessLayer.Codegenerator;
+
+import com.example.umlscd.DataAccessLayer.Codegeneration.ClassDiagramCodeGenerator;
+import com.example.umlscd.DataAccessLayer.Codegeneration.TargetLanguage;
+import com.example.umlscd.DataAccessLayer.Codegeneration.TemplateCodeGenerator;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark for {@link TemplateCodeGenerator}.
+ * <p>
+ * This class compares the throughput of the template engine with the hard-coded Java generator of
+ * {@link ClassDiagramCodeGenerator} on a large diagram, for Java alone and for all target languages in one pass. It is
+ * a standalone program rather than a test, so it does not slow down the test suite. Run it after
+ * {@code mvn test-compile} with {@code target/test-classes}, {@code target/classes} and the dependencies on the class
+ * path, optionally passing the number of measured rounds.
+ * </p>
+ */
+class TemplateCodeGeneratorBenchmark {
+
+    private static final int WARMUP_ROUNDS = 10;
+
+    private static final int DEFAULT_ROUNDS = 30;
+
+    /**
+     * A generator run measured by the benchmark.
+     */
+    @FunctionalInterface
+    private interface Run {
+        List<Path> generate(Path directory) throws IOException;
+    }
+
+    /**
+     * Runs the benchmark and prints the average time per generated file of each path.
+     *
+     * @param args An optional number of measured rounds.
+     */
+    public static void main(String[] args) throws IOException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        ClassDiagramD diagram = diagram(2000, 100);
+        Path root = Files.createTempDirectory("codegen-benchmark");
+        try {
+            Run hardCoded = directory -> new ClassDiagramCodeGenerator().generateSourceTree(diagram, directory,
+                    "com.example.model");
+            Run templateJava = directory -> new TemplateCodeGenerator().generate(diagram, directory,
+                    "com.example.model", Set.of(TargetLanguage.JAVA));
+            Run templateAll = directory -> new TemplateCodeGenerator().generate(diagram, directory,
+                    "com.example.model", EnumSet.allOf(TargetLanguage.class));
+
+            System.out.printf("Diagram with %d classes and %d interfaces, %d rounds%n",
+                    diagram.getClasses().size(), diagram.getInterfaces().size(), rounds);
+            measure("Hard-coded Java:        ", hardCoded, root.resolve("hard-coded"), rounds);
+            measure("Template Java:          ", templateJava, root.resolve("template-java"), rounds);
+            measure("Template, all languages:", templateAll, root.resolve("template-all"), rounds);
+        } finally {
+            delete(root);
+        }
+    }
+
+    /**
+     * Warms up and measures a generator run, writing into the same directory every round.
+     */
+    private static void measure(String label, Run run, Path directory, int rounds) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run.generate(directory);
+        }
+        long files = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            files += run.generate(directory).size();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%s %8.2f ms per round, %6.2f us per file (%d files per round)%n", label,
+                nanos / 1e6 / rounds, nanos / 1e3 / files, files / rounds);
+    }
+
+    /**
+     * Creates a diagram of classes with members, each extending the previous class, implementing an interface and
+     * associated with a later class.
+     */
+    private static ClassDiagramD diagram(int classCount, int interfaceCount) {
+        List<UMLClassBox> classes = new ArrayList<>();
+        List<UMLInterfaceBox> interfaces = new ArrayList<>();
+        List<UMLRelationship> relationships = new ArrayList<>();
+        for (int i = 0; i < interfaceCount; i++) {
+            UMLInterfaceBox umlInterface = new UMLInterfaceBox();
+            umlInterface.setName("Service" + i);
+            umlInterface.setMethods(new ArrayList<>(List.of("+ run(input: String): boolean")));
+            interfaces.add(umlInterface);
+        }
+        for (int i = 0; i < classCount; i++) {
+            classes.add(new UMLClassBox("Type" + i, 0, 0,
+                    new ArrayList<>(List.of("- id: int", "- name: String", "# total: double")),
+                    new ArrayList<>(List.of("+ getId(): int", "+ rename(name: String): void", "+ total(): double"))));
+            if (i > 0) {
+                relationships.add(relationship("Inheritance", "Type" + i, "Type" + (i - 1)));
+            }
+            relationships.add(relationship("Inheritance", "Type" + i, "Service" + (i % interfaceCount)));
+            relationships.add(relationship("Association", "Type" + i, "Type" + ((i + 7) % classCount)));
+        }
+
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.setClasses(classes);
+        diagram.setInterfaces(interfaces);
+        diagram.setRelationships(relationships);
+        return diagram;
+    }
+
+    /**
+     * Creates a relationship.
+     */
+    private static UMLRelationship relationship(String type, String start, String end) {
+        UMLRelationship relationship = new UMLRelationship();
+        relationship.setType(type);
+        relationship.setStartElementName(start);
+        relationship.setEndElementName(end);
+        return relationship;
+    }
+
+    /**
+     * Deletes a directory tree.
+     */
+    private static void delete(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.umlscd.DataAccessLayer.Codegenerator;
+
+import com.example.umlscd.DataAccessLayer.Codegeneration.TargetLanguage;
+import com.example.umlscd.DataAccessLayer.Codegeneration.TemplateCodeGenerator;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link TemplateCodeGenerator}.
+ * <p>
+ * This class verifies that one pass over a diagram produces the files of every requested language, with the
+ * relationships and members translated into each language, and that incomplete relationships are skipped.
+ * </p>
+ */
+class TemplateCodeGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Creates a diagram with a class extending another class, implementing an interface and associated with a third.
+     *
+     * @return The diagram.
+     */
+    private static ClassDiagramD sampleDiagram() {
+        UMLClassBox person = new UMLClassBox("Person", 0, 0,
+                new ArrayList<>(List.of("- name: String")), new ArrayList<>(List.of("+ getName(): String")));
+        UMLClassBox employee = new UMLClassBox("Employee", 0, 0,
+                new ArrayList<>(List.of("# salary: double")), new ArrayList<>(List.of("+ raise(amount: int): void")));
+        UMLClassBox company = new UMLClassBox("Company", 0, 0, new ArrayList<>(), new ArrayList<>());
+        UMLInterfaceBox payable = new UMLInterfaceBox();
+        payable.setName("Payable");
+        payable.setMethods(new ArrayList<>(List.of("+ pay(): boolean")));
+
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.setClasses(new ArrayList<>(List.of(person, employee, company)));
+        diagram.setInterfaces(new ArrayList<>(List.of(payable)));
+        diagram.setRelationships(new ArrayList<>(List.of(
+                relationship("Inheritance", "Employee", "Person"),
+                relationship("Inheritance", "Employee", "Payable"),
+                relationship("Association", "Employee", "Company"))));
+        return diagram;
+    }
+
+    /**
+     * Creates a relationship.
+     *
+     * @param type  The relationship type.
+     * @param start The name of the source element.
+     * @param end   The name of the target element.
+     * @return The relationship.
+     */
+    private static UMLRelationship relationship(String type, String start, String end) {
+        UMLRelationship relationship = new UMLRelationship();
+        relationship.setType(type);
+        relationship.setStartElementName(start);
+        relationship.setEndElementName(end);
+        return relationship;
+    }
+
+    /**
+     * Tests that every language gets its files, translated into its own syntax.
+     */
+    @Test
+    void testGeneratesEveryLanguageInOnePass() throws IOException {
+        List<Path> files = new TemplateCodeGenerator().generate(sampleDiagram(), tempDir, "com.example.hr",
+                EnumSet.allOf(TargetLanguage.class));
+
+        assertEquals(4 * TargetLanguage.values().length, files.size());
+
+        String java = Files.readString(tempDir.resolve("java/com/example/hr/Employee.java"));
+        assertTrue(java.startsWith("package com.example.hr;\n"));
+        assertTrue(java.contains("public class Employee extends Person implements Payable {"));
+        assertTrue(java.contains("    private Company company;\n"));
+        assertTrue(java.contains("    protected double salary;\n"));
+        assertTrue(java.contains("    public void raise(int amount) {\n"));
+        assertTrue(Files.readString(tempDir.resolve("java/com/example/hr/Payable.java"))
+                .contains("    boolean pay();\n"));
+
+        String kotlin = Files.readString(tempDir.resolve("kotlin/com/example/hr/Employee.kt"));
+        assertTrue(kotlin.contains("open class Employee : Person(), Payable {"));
+        assertTrue(kotlin.contains("    protected var salary: Double? = null\n"));
+        assertTrue(kotlin.contains("    public fun raise(amount: Int): Unit {\n"));
+
+        String typescript = Files.readString(tempDir.resolve("typescript/Employee.ts"));
+        assertTrue(typescript.startsWith("import { Person } from \"./Person\";\n"
+                + "import { Payable } from \"./Payable\";\nimport { Company } from \"./Company\";\n\n"));
+        assertTrue(typescript.contains("export class Employee extends Person implements Payable {"));
+        assertTrue(typescript.contains("    private company?: Company;\n"));
+        assertTrue(typescript.contains("    raise(amount: number): void {\n"));
+        String person = Files.readString(tempDir.resolve("typescript/Person.ts"));
+        assertTrue(person.startsWith("export class Person {"));
+        assertTrue(person.contains("    private name?: string;\n"));
+
+        String header = Files.readString(tempDir.resolve("cpp/Employee.hpp"));
+        assertTrue(header.contains("#include \"Person.hpp\"\n#include \"Payable.hpp\"\n"));
+        assertTrue(header.contains("namespace com::example::hr {"));
+        assertTrue(header.contains("class Employee : public Person, public Payable {"));
+        assertTrue(header.contains("    Company* company = nullptr;\n"));
+        assertTrue(Files.readString(tempDir.resolve("cpp/Payable.hpp")).contains("    virtual bool pay() = 0;\n"));
+    }
+
+    /**
+     * Tests that relationships without a type or a target are skipped for interfaces as they are for classes.
+     */
+    @Test
+    void testSkipsIncompleteInterfaceRelationships() throws IOException {
+        ClassDiagramD diagram = sampleDiagram();
+        diagram.getRelationships().add(relationship(null, "Payable", "Person"));
+        diagram.getRelationships().add(relationship("Inheritance", "Payable", null));
+        diagram.getRelationships().add(relationship("Inheritance", "Payable", ""));
+
+        List<Path> files = new TemplateCodeGenerator().generate(diagram, tempDir, "", Set.of(TargetLanguage.JAVA));
+
+        assertEquals(4, files.size());
+        assertTrue(Files.readString(tempDir.resolve("java/Payable.java")).contains("public interface Payable {"));
+    }
+
+    /**
+     * Tests that only the requested languages are generated, and that a large diagram is generated completely on a
+     * dedicated pool.
+     */
+    @Test
+    void testGeneratesRequestedLanguagesOfLargeDiagram() throws IOException {
+        ClassDiagramD diagram = new ClassDiagramD();
+        List<UMLClassBox> classes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            classes.add(new UMLClassBox("Type" + i, 0, 0,
+                    new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ total(): double"))));
+        }
+        diagram.setClasses(classes);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Path> files = new TemplateCodeGenerator().generate(diagram, tempDir, "",
+                    Set.of(TargetLanguage.KOTLIN, TargetLanguage.TYPESCRIPT), pool);
+            assertEquals(4000, files.size());
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(Files.exists(tempDir.resolve("kotlin/Type1999.kt")));
+        assertTrue(Files.exists(tempDir.resolve("typescript/Type0.ts")));
+        assertFalse(Files.exists(tempDir.resolve("java")));
+    }
+}
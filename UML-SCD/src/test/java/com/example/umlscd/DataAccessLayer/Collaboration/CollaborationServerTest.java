@@ -0,0 +1,177 @@
+package com.example.umlscd.DataAccessLayer.Collaboration;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.DiagramOperation;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CollaborationServer} and {@link CollaborationClient}.
+ * <p>
+ * This class runs the server on a free port of the loopback interface and verifies that batches are relayed to the
+ * other participants only, that late participants receive the compacted operation log, that a participant that does
+ * not read does not hold up the others, and that invalid batches leave the log unchanged.
+ * </p>
+ */
+class CollaborationServerTest {
+
+    private CollaborationServer server;
+    private final List<CollaborationClient> clients = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new CollaborationServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(CollaborationClient::close);
+        server.close();
+    }
+
+    private CollaborationClient connect(BlockingQueue<List<DiagramOperation>> inbox) throws Exception {
+        CollaborationClient client = CollaborationClient.connect(InetAddress.getLoopbackAddress().getHostAddress(),
+                server.getPort(), inbox::add);
+        clients.add(client);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getParticipantCount() < clients.size() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(clients.size(), server.getParticipantCount());
+        return client;
+    }
+
+    private Socket connectRaw() throws Exception {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getParticipantCount() < clients.size() + 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return socket;
+    }
+
+    private static DiagramOperation upsert(String name, double x) {
+        return DiagramOperation.upsertElement(new UMLClassBox(name, x, 0, new ArrayList<>(), new ArrayList<>()));
+    }
+
+    /**
+     * Tests that a batch reaches every other participant unchanged and is not sent back to its sender.
+     */
+    @Test
+    void testBatchesAreRelayedToOtherParticipants() throws Exception {
+        BlockingQueue<List<DiagramOperation>> inboxA = new LinkedBlockingQueue<>();
+        BlockingQueue<List<DiagramOperation>> inboxB = new LinkedBlockingQueue<>();
+        BlockingQueue<List<DiagramOperation>> inboxC = new LinkedBlockingQueue<>();
+        CollaborationClient clientA = connect(inboxA);
+        connect(inboxB);
+        connect(inboxC);
+
+        UMLRelationship relationship = new UMLRelationship("Composition", "Order", "Line", "lines", "1", "*");
+        clientA.send(List.of(upsert("Order", 10).stamp("a", 1),
+                DiagramOperation.upsertRelationship(relationship).stamp("a", 2)));
+
+        for (BlockingQueue<List<DiagramOperation>> inbox : List.of(inboxB, inboxC)) {
+            List<DiagramOperation> batch = inbox.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch);
+            assertEquals(2, batch.size());
+            assertEquals("Order", batch.get(0).getName());
+            assertEquals(10, batch.get(0).getX());
+            assertEquals(relationship.identityKey(), batch.get(1).getRelationship().identityKey());
+            assertEquals("*", batch.get(1).getRelationship().getEndMultiplicity());
+        }
+        assertNull(inboxA.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Tests that a late participant receives only the newest operation of every register.
+     */
+    @Test
+    void testLateParticipantReceivesCompactedLog() throws Exception {
+        BlockingQueue<List<DiagramOperation>> inboxA = new LinkedBlockingQueue<>();
+        BlockingQueue<List<DiagramOperation>> inboxB = new LinkedBlockingQueue<>();
+        CollaborationClient clientA = connect(inboxA);
+        connect(inboxB);
+        clientA.send(List.of(upsert("Order", 0).stamp("a", 1), upsert("Customer", 0).stamp("a", 2)));
+        for (int step = 0; step < 20; step++) {
+            clientA.send(List.of(DiagramOperation.moveElement("Order", step, step).stamp("a", 3 + step)));
+        }
+        clientA.send(List.of(DiagramOperation.removeElement("Customer").stamp("a", 30)));
+        for (int batch = 0; batch < 22; batch++) {
+            assertNotNull(inboxB.poll(5, TimeUnit.SECONDS));
+        }
+
+        BlockingQueue<List<DiagramOperation>> inboxLate = new LinkedBlockingQueue<>();
+        connect(inboxLate);
+        List<DiagramOperation> log = inboxLate.poll(5, TimeUnit.SECONDS);
+
+        assertNotNull(log);
+        assertEquals(3, server.getLogSize());
+        assertEquals(List.of("UPSERT_ELEMENT Order @1/a", "REMOVE_ELEMENT Customer @30/a", "MOVE_ELEMENT Order @22/a"),
+                log.stream().map(DiagramOperation::toString).toList());
+        assertEquals(19, log.get(2).getX());
+    }
+
+    /**
+     * Tests that a participant that never reads does not keep batches from reaching the other participants.
+     */
+    @Test
+    void testStalledParticipantDoesNotBlockOthers() throws Exception {
+        BlockingQueue<List<DiagramOperation>> inboxA = new LinkedBlockingQueue<>();
+        BlockingQueue<List<DiagramOperation>> inboxB = new LinkedBlockingQueue<>();
+        CollaborationClient clientA = connect(inboxA);
+        connect(inboxB);
+        try (Socket stalled = connectRaw()) {
+            List<String> attributes = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                attributes.add("- field" + i + " : String");
+            }
+            int batches = 2_000;
+            for (int step = 0; step < batches; step++) {
+                clientA.send(List.of(DiagramOperation.upsertElement(new UMLClassBox("Order", step, 0,
+                        attributes, new ArrayList<>())).stamp("a", step + 1)));
+            }
+
+            for (int step = 0; step < batches; step++) {
+                assertNotNull(inboxB.poll(10, TimeUnit.SECONDS), "Batch " + step + " was not relayed");
+            }
+            assertFalse(stalled.isClosed());
+        }
+    }
+
+    /**
+     * Tests that a batch with an incomplete operation changes neither the log nor the other participants.
+     */
+    @Test
+    void testInvalidBatchLeavesLogUnchanged() throws Exception {
+        BlockingQueue<List<DiagramOperation>> inbox = new LinkedBlockingQueue<>();
+        connect(inbox);
+        try (Socket sender = connectRaw()) {
+            String valid = JsonMapperRegistry.mapper().writeValueAsString(upsert("Order", 0).stamp("a", 1));
+            OutputStream out = sender.getOutputStream();
+            out.write(("[" + valid + ",{}]\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            assertEquals(-1, sender.getInputStream().read());
+        }
+        assertEquals(0, server.getLogSize());
+        assertNull(inbox.poll(200, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.umlscd.DataAccessLayer.ImageProcessing;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ImageEncoder}.
+ * <p>
+ * This class verifies that images are encoded on the worker pool rather than the calling thread, that PNG images
+ * written strip by strip match the source pixels, and that JPEG images are flattened onto a white background.
+ * </p>
+ */
+class ImageEncoderTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Creates an image with a distinct color per pixel, spanning more than one PNG strip.
+     */
+    private static WritableImage gradient(int width, int height) {
+        WritableImage image = new WritableImage(width, height);
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xFF000000 | (i * 0x9E3779B1) & 0xFFFFFF;
+        }
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return image;
+    }
+
+    /**
+     * Tests that a PNG encoded on the worker pool matches the source image pixel for pixel.
+     */
+    @Test
+    void testPngIsEncodedOnWorker() throws Exception {
+        WritableImage image = gradient(37, 300);
+        File file = tempDir.resolve("diagram.png").toFile();
+        String caller = Thread.currentThread().getName();
+
+        File written = ImageEncoder.encodeAsync(image, file, 0)
+                .thenApply(f -> {
+                    assertNotEquals(caller, Thread.currentThread().getName());
+                    return f;
+                })
+                .get(10, TimeUnit.SECONDS);
+
+        BufferedImage decoded = ImageIO.read(written);
+        assertEquals(37, decoded.getWidth());
+        assertEquals(300, decoded.getHeight());
+        for (int y = 0; y < 300; y += 7) {
+            for (int x = 0; x < 37; x++) {
+                assertEquals(image.getPixelReader().getArgb(x, y), decoded.getRGB(x, y), "pixel " + x + "," + y);
+            }
+        }
+    }
+
+    /**
+     * Tests that JPEG images are written and that transparent pixels become white rather than black.
+     */
+    @Test
+    void testJpegIsFlattenedOnWhite() throws Exception {
+        WritableImage image = new WritableImage(20, 20);
+        File file = tempDir.resolve("diagram.jpg").toFile();
+
+        ImageEncoder.encodeAsync(image, file, 0).get(10, TimeUnit.SECONDS);
+
+        BufferedImage decoded = ImageIO.read(file);
+        int rgb = decoded.getRGB(10, 10);
+        assertTrue((rgb & 0xFF) > 0xF0 && ((rgb >> 8) & 0xFF) > 0xF0 && ((rgb >> 16) & 0xFF) > 0xF0);
+    }
+
+    /**
+     * Tests the compositing of translucent pixels over white.
+     */
+    @Test
+    void testFlattenOnWhite() {
+        int[] pixels = {0xFF123456, 0x00000000, 0x80000000};
+        ImageEncoder.flattenOnWhite(pixels);
+        assertEquals(0xFF123456, pixels[0]);
+        assertEquals(0xFFFFFFFF, pixels[1]);
+        assertEquals(0xFF7F7F7F, pixels[2]);
+    }
+
+    /**
+     * Tests that the format is chosen by the file extension.
+     */
+    @Test
+    void testFormatFollowsExtension() {
+        assertTrue(ImageEncoder.isJpeg(new File("a.JPG")));
+        assertTrue(ImageEncoder.isJpeg(new File("a.jpeg")));
+        assertFalse(ImageEncoder.isJpeg(new File("a.png")));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.umlscd.DataAccessLayer.ImageProcessing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link StreamingPngWriter}.
+ * <p>
+ * This class verifies that images written row by row are decoded by {@code ImageIO} with identical pixels, including
+ * transparency, and that incomplete images are reported.
+ * </p>
+ */
+class StreamingPngWriterTest {
+
+    /**
+     * Tests that every pixel, including its alpha value, survives encoding and decoding.
+     */
+    @Test
+    void testRowsDecodeToSamePixels() throws IOException {
+        int width = 37;
+        int height = 11;
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = i * 0x9E3779B1; // spreads values over all channels, including alpha
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingPngWriter png = new StreamingPngWriter(out, width, height, 192)) {
+            for (int y = 0; y < height; y++) {
+                png.writeRow(pixels, y * width);
+            }
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int expected = pixels[y * width + x];
+                int actual = image.getRGB(x, y);
+                assertEquals(expected >>> 24, actual >>> 24, "alpha at " + x + "," + y);
+                if ((expected >>> 24) != 0) {
+                    assertEquals(expected & 0xFFFFFF, actual & 0xFFFFFF, "color at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that closing the writer before all rows are written fails.
+     */
+    @Test
+    void testIncompleteImageIsReported() throws IOException {
+        StreamingPngWriter png = new StreamingPngWriter(new ByteArrayOutputStream(), 4, 2, 0);
+        png.writeRow(new int[4], 0);
+
+        assertThrows(IOException.class, png::close);
+    }
+
+    /**
+     * Tests that writing more rows than the image height fails.
+     */
+    @Test
+    void testTooManyRowsAreRejected() throws IOException {
+        StreamingPngWriter png = new StreamingPngWriter(new ByteArrayOutputStream(), 4, 1, 0);
+        png.writeRow(new int[4], 0);
+
+        assertThrows(IOException.class, () -> png.writeRow(new int[4], 0));
+    }
+}
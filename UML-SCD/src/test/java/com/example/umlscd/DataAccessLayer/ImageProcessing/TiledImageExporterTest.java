@@ -0,0 +1,113 @@
+package com.example.umlscd.DataAccessLayer.ImageProcessing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link TiledImageExporter}.
+ * <p>
+ * This class drives the exporter with a synthetic tile source, so the tiling and streaming logic is verified without
+ * a JavaFX toolkit: tiles never exceed the configured size, strips respect the pixel budget, oversized images are
+ * rejected, and the assembled image matches the source pixel for pixel.
+ * </p>
+ */
+class TiledImageExporterTest {
+
+    /**
+     * Computes the reference color of a pixel.
+     */
+    private static int colorAt(int x, int y) {
+        return 0xFF000000 | ((x * 5) & 0xFF) << 16 | ((y * 3) & 0xFF) << 8 | ((x ^ y) & 0xFF);
+    }
+
+    /**
+     * Creates a source producing {@link #colorAt(int, int)} and checking the requested tile sizes.
+     */
+    private static TiledImageExporter.TileSource source(int maxWidth, int maxHeight, AtomicInteger tiles) {
+        return (x, y, width, height, pixels, offset, stride) -> {
+            assertTrue(width <= maxWidth && height <= maxHeight, "tile " + width + "x" + height + " is too large");
+            tiles.incrementAndGet();
+            for (int row = 0; row < height; row++) {
+                for (int column = 0; column < width; column++) {
+                    pixels[offset + row * stride + column] = colorAt(x + column, y + row);
+                }
+            }
+        };
+    }
+
+    /**
+     * Tests that a PNG assembled from many tiles and strips matches the source.
+     */
+    @Test
+    void testPngIsAssembledFromTiles() throws IOException {
+        int width = 53;
+        int height = 41;
+        AtomicInteger tiles = new AtomicInteger();
+        TiledImageExporter exporter = new TiledImageExporter(16, 53 * 10);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.writePng(source(16, 10, tiles), width, height, 192, out);
+
+        // Strips of 10 rows (pixel budget) and 4 tile columns of at most 16 pixels
+        assertEquals(5 * 4, tiles.get());
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                assertEquals(colorAt(x, y), image.getRGB(x, y), "pixel " + x + "," + y);
+            }
+        }
+    }
+
+    /**
+     * Tests that the strip height drops to a single row when one row already exhausts the pixel budget.
+     */
+    @Test
+    void testVeryWideImageUsesSingleRowStrips() throws IOException {
+        AtomicInteger tiles = new AtomicInteger();
+        TiledImageExporter exporter = new TiledImageExporter(64, 10);
+
+        exporter.writePng(source(64, 1, tiles), 100, 3, 0, new ByteArrayOutputStream());
+
+        assertEquals(3 * 2, tiles.get());
+    }
+
+    /**
+     * Tests that images beyond the size limits are rejected before any tile is read.
+     */
+    @Test
+    void testOversizedImagesAreRejected() {
+        AtomicInteger tiles = new AtomicInteger();
+        TiledImageExporter exporter = new TiledImageExporter(64, 1024);
+
+        assertThrows(IOException.class, () -> exporter.writePng(source(64, 64, tiles),
+                TiledImageExporter.MAX_IMAGE_DIMENSION + 1, 1, 0, new ByteArrayOutputStream()));
+        assertThrows(IOException.class, () -> exporter.render(source(64, 64, tiles), 10_000, 10_000));
+        assertEquals(0, tiles.get());
+        assertFalse(TiledImageExporter.isWithinBudget(2e8 * 8, 100, TiledImageExporter.MAX_STREAMED_PIXELS));
+        assertFalse(TiledImageExporter.isWithinBudget(Double.NaN, 1, TiledImageExporter.MAX_STREAMED_PIXELS));
+        assertTrue(TiledImageExporter.isWithinBudget(10_000, 10_000, TiledImageExporter.MAX_STREAMED_PIXELS));
+    }
+
+    /**
+     * Tests that tiles are assembled into a complete image for encoders that need one.
+     */
+    @Test
+    void testRenderAssemblesTiles() throws IOException {
+        AtomicInteger tiles = new AtomicInteger();
+        BufferedImage image = new TiledImageExporter(8, 1024).render(source(8, 8, tiles), 20, 12);
+
+        assertEquals(3 * 2, tiles.get());
+        assertEquals(colorAt(19, 11) & 0xFFFFFF, image.getRGB(19, 11) & 0xFFFFFF);
+        assertEquals(colorAt(7, 8) & 0xFFFFFF, image.getRGB(7, 8) & 0xFFFFFF);
+    }
+}
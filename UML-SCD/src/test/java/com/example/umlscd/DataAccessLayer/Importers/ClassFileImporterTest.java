@@ -0,0 +1,140 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ClassFileImporter}.
+ * <p>
+ * This class packs the compiled form of small fixture types into a JAR file and verifies that the importer turns it
+ * into a diagram with boxes and relationships, while skipping damaged entries and the {@code META-INF} directory.
+ * </p>
+ */
+class ClassFileImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * A fixture interface.
+     */
+    interface Vehicle {
+        int wheels();
+    }
+
+    /**
+     * A fixture class implementing the interface.
+     */
+    static class Engine {
+        private int power;
+    }
+
+    /**
+     * A fixture class with associations.
+     */
+    static class Car implements Vehicle {
+        private Engine engine;
+        private List<Engine> spares;
+
+        public int wheels() {
+            return 4;
+        }
+    }
+
+    /**
+     * Adds an entry to a JAR file.
+     *
+     * @param jar     The JAR file being written.
+     * @param name    The name of the entry.
+     * @param content The content of the entry.
+     */
+    private static void add(JarOutputStream jar, String name, byte[] content) throws IOException {
+        jar.putNextEntry(new JarEntry(name));
+        jar.write(content);
+        jar.closeEntry();
+    }
+
+    /**
+     * Reads the compiled form of a fixture type.
+     *
+     * @param type The fixture type.
+     * @return The bytes of its class file.
+     */
+    private static byte[] classFile(Class<?> type) throws IOException {
+        String name = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Tests that the classes of a JAR file become boxes and relationships.
+     */
+    @Test
+    void testImportsJar() throws IOException {
+        Path jarFile = tempDir.resolve("fixture.jar");
+        try (OutputStream out = Files.newOutputStream(jarFile); JarOutputStream jar = new JarOutputStream(out)) {
+            for (Class<?> type : List.of(Vehicle.class, Engine.class, Car.class)) {
+                add(jar, type.getName().replace('.', '/') + ".class", classFile(type));
+            }
+            add(jar, "META-INF/versions/17/fixture/Ignored.class", classFile(Engine.class));
+            add(jar, "fixture/Broken.class", new byte[]{(byte) 0xCA, (byte) 0xFE, 0, 1});
+            add(jar, "fixture/readme.txt", new byte[]{1, 2, 3});
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ClassDiagramD diagram;
+        try {
+            diagram = new ClassFileImporter().importJar(jarFile, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(List.of("ClassFileImporterTest.Car", "ClassFileImporterTest.Engine"),
+                diagram.getClasses().stream().map(UMLClassBox::getName).sorted().toList());
+        assertEquals(List.of("ClassFileImporterTest.Vehicle"),
+                diagram.getInterfaces().stream().map(UMLInterfaceBox::getName).toList());
+        assertEquals(Set.of(
+                "Inheritance:ClassFileImporterTest.Car->ClassFileImporterTest.Vehicle:Inheritance:",
+                "Association:ClassFileImporterTest.Car->ClassFileImporterTest.Engine:engine:1",
+                "Association:ClassFileImporterTest.Car->ClassFileImporterTest.Engine:spares:*"),
+                diagram.getRelationships().stream()
+                        .map(r -> r.getType() + ":" + r.getStartElementName() + "->" + r.getEndElementName() + ":"
+                                + r.getName() + ":" + r.getEndMultiplicity())
+                        .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Tests that a JAR file without classes gives an empty diagram.
+     */
+    @Test
+    void testImportsEmptyJar() throws IOException {
+        Path jarFile = tempDir.resolve("empty.jar");
+        try (OutputStream out = Files.newOutputStream(jarFile); JarOutputStream jar = new JarOutputStream(out)) {
+            add(jar, "META-INF/notes.txt", new byte[]{1});
+        }
+
+        ClassDiagramD diagram = new ClassFileImporter().importJar(jarFile);
+
+        assertTrue(diagram.getClasses().isEmpty());
+        assertTrue(diagram.getInterfaces().isEmpty());
+        assertTrue(diagram.getRelationships().isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ClassFileParser}.
+ * <p>
+ * This class parses the compiled form of small fixture types declared below and verifies their supertypes, their
+ * members with generic signatures, and that anonymous classes and malformed input are handled.
+ * </p>
+ */
+class ClassFileParserTest {
+
+    /**
+     * A fixture interface.
+     */
+    interface Shape extends Serializable {
+        int SIDES = 0;
+
+        double area(double... scales);
+    }
+
+    /**
+     * A fixture class with a superclass, generic fields and methods.
+     */
+    static abstract class Polygon extends Number implements Shape, Comparable<Polygon> {
+        private List<Map<String, ? extends Number>> points;
+        protected static int count;
+
+        public abstract String[] labels(int index, Polygon other);
+
+        public <T extends Comparable<T>> T max(List<T> values) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the compiled form of a fixture type.
+     *
+     * @param type The fixture type.
+     * @return The bytes of its class file.
+     */
+    private static ByteBuffer classFile(Class<?> type) throws IOException {
+        String name = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(name)) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+
+    /**
+     * Tests that a class is read with its superclass, interfaces and generic members.
+     */
+    @Test
+    void testParsesClass() throws IOException {
+        ImportedType type = ClassFileParser.parse(classFile(Polygon.class));
+
+        assertEquals("com.example.umlscd.DataAccessLayer.Importers", type.getPackageName());
+        assertEquals("ClassFileParserTest.Polygon", type.getName());
+        assertFalse(type.isInterface());
+        assertEquals("java.lang.Number", type.getSuperclass());
+        assertEquals(List.of("com.example.umlscd.DataAccessLayer.Importers.ClassFileParserTest.Shape",
+                "java.lang.Comparable"), type.getInterfaces());
+        assertEquals(List.of("-points : List<Map<String, ? extends Number>>", "#count : int"), type.getAttributes());
+        assertEquals(List.of("+labels(arg0: int, arg1: ClassFileParserTest.Polygon): String[]",
+                "+max(arg0: List<T>): T"), type.getMethods());
+        assertEquals("java.util.List<java.util.Map<java.lang.String, ? extends java.lang.Number>>",
+                type.getFieldTypes().get("points"));
+    }
+
+    /**
+     * Tests that interfaces keep their methods, including variable arity, but not their constants.
+     */
+    @Test
+    void testParsesInterface() throws IOException {
+        ImportedType type = ClassFileParser.parse(classFile(Shape.class));
+
+        assertTrue(type.isInterface());
+        assertEquals("", type.getSuperclass());
+        assertEquals(List.of("java.io.Serializable"), type.getInterfaces());
+        assertEquals(List.of(), type.getAttributes());
+        assertEquals(List.of("+area(arg0: double...): double"), type.getMethods());
+    }
+
+    /**
+     * Tests that anonymous classes are left out and that malformed class files are rejected.
+     */
+    @Test
+    void testSkipsAnonymousAndRejectsMalformedClasses() throws IOException {
+        Object anonymous = new Object() {
+        };
+
+        assertNull(ClassFileParser.parse(classFile(anonymous.getClass())));
+        assertThrows(IllegalArgumentException.class,
+                () -> ClassFileParser.parse(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8})));
+        ByteBuffer truncated = classFile(Polygon.class);
+        truncated.limit(truncated.limit() / 2);
+        assertThrows(IllegalArgumentException.class, () -> ClassFileParser.parse(truncated));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JavaSourceImporter}.
+ * <p>
+ * This class verifies that a source tree is turned into a diagram with boxes for its types and relationships for
+ * their supertypes and fields, and that types of the same name in different packages are kept apart.
+ * </p>
+ */
+class JavaSourceImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Writes a source file below the temporary directory.
+     *
+     * @param path   The path of the file, relative to the temporary directory.
+     * @param source The content of the file.
+     */
+    private void write(String path, String source) throws IOException {
+        Path file = tempDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+    }
+
+    /**
+     * Formats the relationships of a diagram for comparison.
+     *
+     * @param diagram The diagram.
+     * @return One {@code type:start->end:name:multiplicity} entry per relationship.
+     */
+    private static Set<String> relationships(ClassDiagramD diagram) {
+        return diagram.getRelationships().stream()
+                .map(r -> r.getType() + ":" + r.getStartElementName() + "->" + r.getEndElementName() + ":"
+                        + r.getName() + ":" + r.getEndMultiplicity())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Tests that types in different files and packages are merged with their relationships.
+     */
+    @Test
+    void testImportsSourceTree() throws IOException {
+        write("shop/model/Entity.java", "package shop.model; public abstract class Entity { protected long id; }");
+        write("shop/model/Priced.java", "package shop.model; public interface Priced { double price(); }");
+        write("shop/model/Item.java", "package shop.model; public class Item extends Entity implements Priced { "
+                + "public double price() { return 1; } }");
+        write("shop/model/Order.java", "package shop.model; import java.util.*; import shop.people.Customer; "
+                + "public class Order extends Entity { private List<Item> items; private Customer customer; "
+                + "private Item[] extras; private String note; }");
+        write("shop/people/Customer.java", "package shop.people; public class Customer { private shop.model.Order last; }");
+        write("shop/people/package-info.java", "package shop.people;");
+        Files.writeString(tempDir.resolve("README.md"), "class NotJava {}");
+
+        ClassDiagramD diagram = new JavaSourceImporter().importSourceTree(tempDir);
+
+        assertEquals(List.of("Customer", "Entity", "Item", "Order"),
+                diagram.getClasses().stream().map(UMLClassBox::getName).sorted().toList());
+        assertEquals(List.of("Priced"), diagram.getInterfaces().stream().map(UMLInterfaceBox::getName).toList());
+        assertEquals(Set.of(
+                "Inheritance:Item->Entity:Inheritance:",
+                "Inheritance:Item->Priced:Inheritance:",
+                "Inheritance:Order->Entity:Inheritance:",
+                "Association:Order->Item:items:*",
+                "Association:Order->Item:extras:*",
+                "Association:Order->Customer:customer:1",
+                "Association:Customer->Order:last:1"), relationships(diagram));
+        UMLClassBox order = diagram.getClasses().stream().filter(c -> c.getName().equals("Order")).findFirst().get();
+        assertTrue(order.getAttributes().contains("-note : String"));
+        assertEquals("shop.model", order.getPackageName());
+    }
+
+    /**
+     * Tests that types sharing a name keep unique box names, that references prefer the referring type's package,
+     * and that files in other encodings are read.
+     */
+    @Test
+    void testKeepsTypesOfTheSameNameApart() throws IOException {
+        write("a/Node.java", "package a; public class Node { Node next; Edge edge; }");
+        write("a/Edge.java", "package a; public class Edge { b.Node target; }");
+        write("b/Node.java", "package b; public class Node { String café; }");
+        Files.write(tempDir.resolve("b/Latin.java"), "package b; class Latin { String naïve; }"
+                .getBytes(StandardCharsets.ISO_8859_1));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ClassDiagramD diagram;
+        try {
+            diagram = new JavaSourceImporter().importSourceTree(tempDir, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(Set.of("Node", "Edge", "b.Node", "Latin"),
+                diagram.getClasses().stream().map(UMLClassBox::getName).collect(Collectors.toSet()));
+        assertEquals(Set.of("Association:Node->Edge:edge:1", "Association:Edge->b.Node:target:1"),
+                relationships(diagram));
+        assertTrue(diagram.getClasses().stream().anyMatch(c -> c.getAttributes().contains("~naïve : String")));
+        assertTrue(diagram.getRelationships().stream().map(UMLRelationship::getStartElementName)
+                .noneMatch("Latin"::equals));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.umlscd.DataAccessLayer.Importers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JavaSourceParser}.
+ * <p>
+ * This class verifies that type declarations, supertypes, fields and method signatures are read from Java source
+ * code, and that bodies, initializers, comments and literals do not confuse the parser.
+ * </p>
+ */
+class JavaSourceParserTest {
+
+    /**
+     * Tests that a class with generics, initializers, constructors and nested types is read completely.
+     */
+    @Test
+    void testReadsClassDeclaration() {
+        String source = """
+                package com.example.shop;
+
+                import java.util.*;
+
+                /** An order { with braces in its comment */
+                @Entity(name = "orders")
+                public final class Order<T extends Comparable<T>> extends BaseEntity<Long>
+                        implements Serializable, Comparable<Order<T>> {
+                    private final List<Item> items = new ArrayList<>();
+                    private Map<String, Integer> counts = new HashMap<String, Integer>(), backup;
+                    protected int total = compute("}", '{'), tax;
+                    String note;
+                    static { System.out.println("loaded"); }
+
+                    public Order(Customer customer) { this.total = 0; }
+
+                    public <R> R map(Function<? super Order<T>, R> mapper, int... extra) throws IOException {
+                        Runnable r = () -> { class Local {} };
+                        return mapper.apply(this);
+                    }
+
+                    @Override
+                    public int compareTo(Order<T> other) { return 0; }
+
+                    static class Line { private double amount; }
+
+                    enum Status {
+                        OPEN("o") { void f() {} }, CLOSED("c");
+                        Status(String code) {}
+                        public boolean isOpen() { return this == OPEN; }
+                    }
+                }
+                """;
+
+        List<ImportedType> types = JavaSourceParser.parse(source);
+
+        assertEquals(List.of("Order", "Order.Line", "Order.Status"),
+                types.stream().map(ImportedType::getName).toList());
+        ImportedType order = types.get(0);
+        assertEquals("com.example.shop", order.getPackageName());
+        assertFalse(order.isInterface());
+        assertEquals("BaseEntity", order.getSuperclass());
+        assertEquals(List.of("Serializable", "Comparable"), order.getInterfaces());
+        assertEquals(List.of("-items : List<Item>", "-counts : Map<String, Integer>", "-backup : Map<String, Integer>",
+                "#total : int", "#tax : int", "~note : String"), order.getAttributes());
+        assertEquals(List.of("+map(mapper: Function<? super Order<T>, R>, extra: int...): R",
+                "+compareTo(other: Order<T>): int"), order.getMethods());
+        assertEquals(Map.of("items", "List<Item>", "counts", "Map<String, Integer>",
+                "backup", "Map<String, Integer>", "total", "int", "tax", "int", "note", "String"),
+                order.getFieldTypes());
+
+        assertEquals(List.of("-amount : double"), types.get(1).getAttributes());
+        assertEquals(List.of("+isOpen(): boolean"), types.get(2).getMethods());
+    }
+
+    /**
+     * Tests that interfaces, records and annotation types are read with their members.
+     */
+    @Test
+    void testReadsInterfacesRecordsAndAnnotations() {
+        String source = """
+                interface Shape extends Comparable<Shape>, Cloneable {
+                    double PI = 3.14;
+                    double area();
+                    default String label() { return "shape"; }
+                }
+                record Point(int x, int y) implements Shape {
+                    public Point { if (x < 0) throw new IllegalArgumentException(); }
+                    public double area() { return 0; }
+                }
+                @interface Marker { String value() default ""; }
+                """;
+
+        List<ImportedType> types = JavaSourceParser.parse(source);
+
+        ImportedType shape = types.get(0);
+        assertTrue(shape.isInterface());
+        assertEquals("", shape.getPackageName());
+        assertEquals(List.of("Comparable", "Cloneable"), shape.getInterfaces());
+        assertEquals(List.of(), shape.getAttributes());
+        assertEquals(List.of("+area(): double", "+label(): String"), shape.getMethods());
+
+        ImportedType point = types.get(1);
+        assertEquals(List.of("-x : int", "-y : int"), point.getAttributes());
+        assertEquals(List.of("+x(): int", "+y(): int", "+area(): double"), point.getMethods());
+        assertEquals(List.of("Shape"), point.getInterfaces());
+
+        assertTrue(types.get(2).isInterface());
+        assertEquals(List.of("+value(): String"), types.get(2).getMethods());
+    }
+
+    /**
+     * Tests that malformed code is skipped without throwing.
+     */
+    @Test
+    void testToleratesMalformedCode() {
+        List<ImportedType> types = JavaSourceParser.parse("class Broken { int ; void ( { } class Ok { int x; }");
+
+        assertEquals("Broken", types.get(0).getName());
+        assertTrue(JavaSourceParser.parse("class").isEmpty());
+        assertTrue(JavaSourceParser.parse("\"unterminated").isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.umlscd.DataAccessLayer.RecentFiles;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link RecentDiagramFiles}.
+ * <p>
+ * This class verifies that recently used files are listed most recent first, without duplicates or missing files,
+ * and that the list is capped and persisted.
+ * </p>
+ */
+class RecentDiagramFilesTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that files are listed most recent first and reused files move to the front.
+     */
+    @Test
+    void testListsMostRecentFirst() throws IOException {
+        RecentDiagramFiles recent = new RecentDiagramFiles(tempDir.resolve("recent.json"));
+        File a = diagram("a.json");
+        File b = diagram("b.json");
+        File c = diagram("c.json");
+
+        recent.record(a);
+        recent.record(b);
+        recent.record(c);
+        recent.record(a);
+
+        assertEquals(List.of(a.getAbsoluteFile(), c.getAbsoluteFile(), b.getAbsoluteFile()), recent.list());
+        assertEquals(recent.list(), new RecentDiagramFiles(tempDir.resolve("recent.json")).list());
+    }
+
+    /**
+     * Tests that the list is capped and skips files that no longer exist.
+     */
+    @Test
+    void testCapsAndSkipsMissingFiles() throws IOException {
+        RecentDiagramFiles recent = new RecentDiagramFiles(tempDir.resolve("recent.json"), 2);
+        File a = diagram("a.json");
+        File b = diagram("b.json");
+        File c = diagram("c.json");
+        recent.record(a);
+        recent.record(b);
+        recent.record(c);
+        assertEquals(List.of(c.getAbsoluteFile(), b.getAbsoluteFile()), recent.list());
+
+        Files.delete(b.toPath());
+        assertEquals(List.of(c.getAbsoluteFile()), recent.list());
+
+        recent.forget(c);
+        assertTrue(recent.list().isEmpty());
+    }
+
+    private File diagram(String name) throws IOException {
+        return Files.writeString(tempDir.resolve(name), "{}").toFile();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.umlscd.DataAccessLayer.RecentFiles;
+
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ThumbnailCache}.
+ * <p>
+ * This class renders thumbnails of diagram files into a temporary cache and verifies their size, that unchanged
+ * files are served from the cache, that changed files are rendered again and that the cache is kept below its size
+ * limit by evicting the least recently used thumbnails.
+ * </p>
+ */
+class ThumbnailCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService workers;
+
+    /**
+     * Creates the worker threads.
+     */
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newFixedThreadPool(4);
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Tests that a thumbnail fits the thumbnail size and is served from the cache until the file changes.
+     */
+    @Test
+    void testRendersAndCachesThumbnails() throws Exception {
+        ThumbnailCache cache = new ThumbnailCache(tempDir.resolve("cache"), 1 << 20, workers);
+        File diagram = diagram("large.json", 40);
+
+        Path thumbnail = cache.thumbnail(diagram).get();
+        BufferedImage image = ImageIO.read(thumbnail.toFile());
+        assertTrue(image.getWidth() <= ThumbnailCache.THUMBNAIL_WIDTH);
+        assertTrue(image.getHeight() <= ThumbnailCache.THUMBNAIL_HEIGHT);
+        assertEquals(thumbnail, cache.thumbnail(diagram).get());
+        assertEquals(1, cache.count());
+
+        // A fresh cache finds the thumbnail on disk
+        ThumbnailCache reopened = new ThumbnailCache(tempDir.resolve("cache"), 1 << 20, workers);
+        assertEquals(thumbnail, reopened.thumbnail(diagram).get());
+
+        assertTrue(diagram.setLastModified(diagram.lastModified() + 10_000));
+        assertNotEquals(thumbnail, cache.thumbnail(diagram).get());
+        assertEquals(2, cache.count());
+    }
+
+    /**
+     * Tests that concurrent requests for the same file share one thumbnail.
+     */
+    @Test
+    void testSharesConcurrentRequests() throws Exception {
+        ThumbnailCache cache = new ThumbnailCache(tempDir.resolve("cache"), 1 << 20, workers);
+        File diagram = diagram("shared.json", 10);
+
+        List<CompletableFuture<Path>> requests = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            requests.add(cache.thumbnail(diagram));
+        }
+        for (CompletableFuture<Path> request : requests) {
+            assertEquals(requests.get(0).get(), request.get());
+        }
+        assertEquals(1, cache.count());
+    }
+
+    /**
+     * Tests that the least recently used thumbnails are evicted beyond the size limit.
+     */
+    @Test
+    void testEvictsLeastRecentlyUsed() throws Exception {
+        Path directory = tempDir.resolve("cache");
+        File first = diagram("first.json", 4);
+        long thumbnailSize = Files.size(new ThumbnailCache(tempDir.resolve("probe"), 1 << 20, workers)
+                .thumbnail(first).get());
+
+        ThumbnailCache cache = new ThumbnailCache(directory, thumbnailSize * 5 / 2, workers);
+        Path firstThumbnail = cache.thumbnail(first).get();
+        Path secondThumbnail = cache.thumbnail(diagram("second.json", 4)).get();
+        cache.thumbnail(first).get();
+        Path thirdThumbnail = cache.thumbnail(diagram("third.json", 4)).get();
+
+        assertTrue(Files.exists(firstThumbnail), "Recently used thumbnails should be kept");
+        assertFalse(Files.exists(secondThumbnail), "The least recently used thumbnail should be evicted");
+        assertTrue(Files.exists(thirdThumbnail));
+        assertTrue(cache.size() <= thumbnailSize * 5 / 2);
+    }
+
+    /**
+     * Tests that unreadable diagram files complete the request exceptionally.
+     */
+    @Test
+    void testReportsUnreadableFiles() throws IOException {
+        ThumbnailCache cache = new ThumbnailCache(tempDir.resolve("cache"), 1 << 20, workers);
+        File broken = Files.writeString(tempDir.resolve("broken.json"), "not json").toFile();
+
+        assertThrows(ExecutionException.class, () -> cache.thumbnail(broken).get());
+        assertThrows(ExecutionException.class, () -> cache.thumbnail(tempDir.resolve("missing.json").toFile()).get());
+    }
+
+    private File diagram(String name, int classes) throws IOException {
+        ClassDiagramD diagram = new ClassDiagramD();
+        for (int i = 0; i < classes; i++) {
+            diagram.getClasses().add(new UMLClassBox(name + i, (i % 8) * 200, (i / 8) * 150,
+                    new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ run(): void"))));
+        }
+        File file = tempDir.resolve(name).toFile();
+        new ClassDiagramSerializer().serialize(diagram, file);
+        return file;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.umlscd.DataAccessLayer.RenderServer;
+
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link DiagramRenderServer}.
+ * <p>
+ * This class runs the server on a free port of the loopback interface and verifies rendering, entity tags, caching,
+ * concurrent requests and the rejection of invalid requests and oversized images over real HTTP connections.
+ * </p>
+ */
+class DiagramRenderServerTest {
+
+    private DiagramRenderServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new DiagramRenderServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                new RenderBatcher(new RenderCache(1 << 20)));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * A received response.
+     *
+     * @param status     The status code.
+     * @param connection The connection, for its headers.
+     * @param body       The body.
+     */
+    private record Response(int status, HttpURLConnection connection, byte[] body) {
+    }
+
+    /**
+     * Sends a request to the server.
+     *
+     * @param method      The request method.
+     * @param pathAndQuery The path and query of the request.
+     * @param body        The request body, or {@code null} for none.
+     * @param ifNoneMatch The entity tag to send in {@code If-None-Match}, or {@code null}.
+     * @return The response.
+     */
+    private Response request(String method, String pathAndQuery, byte[] body, String ifNoneMatch) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(
+                "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort() + pathAndQuery)
+                .toURL().openConnection();
+        connection.setRequestMethod(method);
+        if (ifNoneMatch != null) {
+            connection.setRequestProperty("If-None-Match", ifNoneMatch);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        byte[] content = in == null ? new byte[0] : in.readAllBytes();
+        return new Response(status, connection, content);
+    }
+
+    /**
+     * Tests that diagrams are rendered as SVG and PNG, cached, and revalidated by their entity tag.
+     */
+    @Test
+    void testRendersAndCaches() throws IOException {
+        byte[] diagram = RenderBatcherTest.classDiagram("Invoice");
+
+        Response svg = request("POST", "/render", diagram, null);
+        assertEquals(200, svg.status());
+        assertEquals("image/svg+xml", svg.connection().getHeaderField("Content-Type"));
+        assertEquals("MISS", svg.connection().getHeaderField("X-Render-Cache"));
+        assertTrue(new String(svg.body(), StandardCharsets.UTF_8).contains("Invoice"));
+
+        Response again = request("POST", "/render?format=svg", diagram, null);
+        assertEquals("HIT", again.connection().getHeaderField("X-Render-Cache"));
+        assertArrayEquals(svg.body(), again.body());
+
+        String etag = svg.connection().getHeaderField("ETag");
+        assertEquals(304, request("POST", "/render", diagram, etag).status());
+
+        Response png = request("POST", "/render?format=png&scale=2", diagram, null);
+        assertEquals(200, png.status());
+        assertEquals("image/png", png.connection().getHeaderField("Content-Type"));
+        assertNotEquals(etag, png.connection().getHeaderField("ETag"));
+
+        JsonNode stats = JsonMapperRegistry.mapper().readTree(request("GET", "/stats", null, null).body());
+        assertEquals(2, stats.get("renders").asInt());
+        assertEquals(2, stats.get("cachedResults").asInt());
+    }
+
+    /**
+     * Tests that concurrent requests for the same diagram are all answered from a single rendering.
+     */
+    @Test
+    void testConcurrentRequests() throws Exception {
+        byte[] diagram = RenderBatcherTest.classDiagram("Shipment");
+        List<Future<Response>> responses = new ArrayList<>();
+        try (ExecutorService clients = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                responses.add(clients.submit(() -> request("POST", "/render?format=png", diagram, null)));
+            }
+        }
+        for (Future<Response> response : responses) {
+            assertEquals(200, response.get().status());
+            assertArrayEquals(responses.get(0).get().body(), response.get().body());
+        }
+        JsonNode stats = JsonMapperRegistry.mapper().readTree(request("GET", "/stats", null, null).body());
+        assertEquals(1, stats.get("renders").asInt());
+    }
+
+    /**
+     * Tests that invalid methods, options and bodies are rejected.
+     */
+    @Test
+    void testRejectsInvalidRequests() throws IOException {
+        byte[] diagram = RenderBatcherTest.classDiagram("A");
+        assertEquals(405, request("GET", "/render", null, null).status());
+        assertEquals(400, request("POST", "/render?format=gif", diagram, null).status());
+        assertEquals(400, request("POST", "/render?format=png&scale=100", diagram, null).status());
+        Response broken = request("POST", "/render", "not json".getBytes(StandardCharsets.UTF_8), null);
+        assertEquals(400, broken.status());
+        assertTrue(new String(broken.body(), StandardCharsets.UTF_8).startsWith("Not a diagram"));
+    }
+
+    /**
+     * Tests that a small diagram producing an oversized image is refused without being rendered.
+     */
+    @Test
+    void testRejectsOversizedImages() throws IOException {
+        byte[] diagram = ("{\"classes\":[{\"name\":\"A\",\"x\":0,\"y\":0,\"attributes\":[],\"methods\":[]},"
+                + "{\"name\":\"B\",\"x\":2e8,\"y\":0,\"attributes\":[],\"methods\":[]}],"
+                + "\"interfaces\":[],\"relationships\":[]}").getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(413, request("POST", "/render?format=png&scale=8", diagram, null).status());
+        assertEquals(413, request("POST", "/render?format=png&scale=0.001", diagram, null).status());
+        assertEquals(200, request("POST", "/render?format=svg", diagram, null).status());
+
+        JsonNode stats = JsonMapperRegistry.mapper().readTree(request("GET", "/stats", null, null).body());
+        assertEquals(1, stats.get("renders").asInt(), "only the SVG document should be rendered");
+    }
+
+    /**
+     * Tests that compressed bodies with hostile headers are rejected quickly, and that the service keeps rendering
+     * afterwards.
+     */
+    @Test
+    void testSurvivesHostileCompressedBodies() throws IOException {
+        byte[] hugeCount = ByteBuffer.allocate(13).put("UMLZ".getBytes(StandardCharsets.US_ASCII)).put((byte) 1)
+                .putInt(1 << 20).putInt(Integer.MAX_VALUE).array();
+        byte[] hugeBlock = ByteBuffer.allocate(25).put("UMLZ".getBytes(StandardCharsets.US_ASCII)).put((byte) 1)
+                .putInt(1 << 20).putInt(1).putInt(Integer.MAX_VALUE).putInt(0).putInt(0).array();
+
+        for (byte[] body : List.of(hugeCount, hugeBlock)) {
+            Response rejected = request("POST", "/render", body, null);
+            assertEquals(400, rejected.status());
+            assertTrue(new String(rejected.body(), StandardCharsets.UTF_8).startsWith("Not a diagram"));
+        }
+        assertEquals(200, request("POST", "/render", RenderBatcherTest.classDiagram("Refund"), null).status());
+    }
+}
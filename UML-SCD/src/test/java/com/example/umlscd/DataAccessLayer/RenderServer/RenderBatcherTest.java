@@ -0,0 +1,109 @@
+package com.example.umlscd.DataAccessLayer.RenderServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link RenderBatcher}.
+ * <p>
+ * This class submits diagrams concurrently and verifies that they are rendered in batches, that identical requests
+ * share one rendering and that results are served from the cache afterwards.
+ * </p>
+ */
+class RenderBatcherTest {
+
+    private RenderBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    /**
+     * Builds a class diagram file with one class.
+     *
+     * @param name The name of the class.
+     * @return The JSON content of the file.
+     */
+    static byte[] classDiagram(String name) {
+        return ("{\"classes\":[{\"name\":\"" + name + "\",\"x\":10,\"y\":20,\"attributes\":[\"- id: int\"],"
+                + "\"methods\":[]}],\"interfaces\":[],\"relationships\":[]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tests that requests arriving within the window are rendered as one batch and identical ones only once.
+     */
+    @Test
+    void testBatchesAndCoalescesRequests() {
+        batcher = new RenderBatcher(new RenderCache(1 << 20), new ForkJoinPool(2), 16, Duration.ofMillis(300));
+
+        List<CompletableFuture<RenderBatcher.Result>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(batcher.submit(classDiagram("Type" + i), RenderBatcher.Format.SVG, 1));
+        }
+        for (int i = 0; i < 4; i++) {
+            futures.add(batcher.submit(classDiagram("Type0"), RenderBatcher.Format.SVG, 1));
+        }
+        List<RenderBatcher.Result> results = futures.stream().map(CompletableFuture::join).toList();
+
+        assertEquals(1, batcher.getBatchCount());
+        assertEquals(6, batcher.getRenderCount());
+        assertTrue(new String(results.get(3).content(), StandardCharsets.UTF_8).contains("Type3"));
+        assertSame(results.get(0).content(), results.get(9).content());
+        assertEquals(6, batcher.getCache().size());
+    }
+
+    /**
+     * Tests that a repeated request is served from the cache and different options are rendered separately.
+     */
+    @Test
+    void testServesRepeatedRequestsFromCache() {
+        batcher = new RenderBatcher(new RenderCache(1 << 20));
+        byte[] diagram = classDiagram("Order");
+
+        RenderBatcher.Result first = batcher.submit(diagram, RenderBatcher.Format.PNG, 1).join();
+        RenderBatcher.Result second = batcher.submit(diagram, RenderBatcher.Format.PNG, 1).join();
+        RenderBatcher.Result larger = batcher.submit(diagram, RenderBatcher.Format.PNG, 2).join();
+
+        assertFalse(first.cached());
+        assertTrue(second.cached());
+        assertFalse(larger.cached());
+        assertEquals((byte) 0x89, first.content()[0]);
+        assertTrue(larger.content().length > first.content().length);
+        assertEquals(RenderBatcher.key(diagram, RenderBatcher.Format.SVG, 1),
+                RenderBatcher.key(diagram, RenderBatcher.Format.SVG, 3));
+    }
+
+    /**
+     * Tests that content that is not a diagram fails its request without affecting others.
+     */
+    @Test
+    void testReportsInvalidContent() {
+        batcher = new RenderBatcher(new RenderCache(1 << 20));
+
+        CompletableFuture<RenderBatcher.Result> broken =
+                batcher.submit("{\"unknown\":1}".getBytes(StandardCharsets.UTF_8), RenderBatcher.Format.SVG, 1);
+        CompletableFuture<RenderBatcher.Result> valid = batcher.submit(classDiagram("A"), RenderBatcher.Format.SVG, 1);
+
+        CompletionException e = assertThrows(CompletionException.class, broken::join);
+        assertInstanceOf(IOException.class, e.getCause());
+        assertNotNull(valid.join().content());
+
+        batcher.close();
+        assertThrows(CompletionException.class,
+                () -> batcher.submit(classDiagram("B"), RenderBatcher.Format.SVG, 1).join());
+    }
+}
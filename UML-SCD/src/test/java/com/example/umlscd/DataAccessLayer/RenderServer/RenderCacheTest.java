@@ -0,0 +1,56 @@
+package com.example.umlscd.DataAccessLayer.RenderServer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link RenderCache}.
+ * <p>
+ * This class verifies that results are evicted in least recently used order once the byte budget is exceeded and
+ * that lookups are counted.
+ * </p>
+ */
+class RenderCacheTest {
+
+    /**
+     * Tests that the least recently used results are evicted to make room for new ones.
+     */
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        RenderCache cache = new RenderCache(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        assertNotNull(cache.get("a"));
+
+        cache.put("c", new byte[4]);
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+        assertEquals(8, cache.getBytes());
+
+        cache.put("d", new byte[10]);
+        assertEquals(1, cache.size());
+        assertEquals(10, cache.getBytes());
+    }
+
+    /**
+     * Tests that oversized results are not stored, replaced results are not counted twice and lookups are counted.
+     */
+    @Test
+    void testSizesAndCounters() {
+        RenderCache cache = new RenderCache(10);
+        cache.put("big", new byte[11]);
+        assertFalse(cache.contains("big"));
+
+        cache.put("a", new byte[3]);
+        cache.put("a", new byte[5]);
+        assertEquals(5, cache.getBytes());
+
+        assertNull(cache.get("missing"));
+        assertNotNull(cache.get("a"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertThrows(IllegalArgumentException.class, () -> new RenderCache(-1));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ClassDiagramPainter}.
+ * <p>
+ * This class verifies the layout computed from the model: box sizes grow with their members, the diagram bounds
+ * enclose every box, and relationship lines start and end on the box outlines.
+ * </p>
+ */
+class ClassDiagramPainterTest {
+
+    /**
+     * Tests that boxes grow with the number and length of their members and that the bounds enclose them.
+     */
+    @Test
+    void testLayout() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("A", 100, 100, new ArrayList<>(), new ArrayList<>()));
+        diagram.getClasses().add(new UMLClassBox("B", 400, 300,
+                new ArrayList<>(List.of("- aVeryLongAttributeName: java.util.Map<String, Integer>", "- b: int")),
+                new ArrayList<>(List.of("+ c(): void"))));
+
+        ClassDiagramPainter painter = new ClassDiagramPainter(diagram);
+        Rectangle2D a = painter.getBox("A");
+        Rectangle2D b = painter.getBox("B");
+
+        assertTrue(b.getWidth() > a.getWidth());
+        assertTrue(b.getHeight() > a.getHeight());
+        assertTrue(painter.getBounds().contains(a));
+        assertTrue(painter.getBounds().contains(b));
+        assertEquals(80, painter.getBounds().getX());
+        assertNull(painter.getBox("C"));
+    }
+
+    /**
+     * Tests that edge points lie on the outline of the box, in the direction of the target.
+     */
+    @Test
+    void testEdgePoint() {
+        Rectangle2D box = new Rectangle2D.Double(0, 0, 100, 50);
+
+        assertArrayEquals(new double[]{100, 25}, ClassDiagramPainter.edgePoint(box, 500, 25), 1e-9);
+        assertArrayEquals(new double[]{50, 0}, ClassDiagramPainter.edgePoint(box, 50, -300), 1e-9);
+        assertArrayEquals(new double[]{75, 50}, ClassDiagramPainter.edgePoint(box, 100, 75), 1e-9);
+        assertArrayEquals(new double[]{50, 25}, ClassDiagramPainter.edgePoint(box, 50, 25), 1e-9);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramDeltaSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram.UseCaseDiagramSerializer;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link DiagramFileReader}.
+ * <p>
+ * This class verifies that class and use case diagrams are recognised from their content and loaded from plain,
+ * compressed and incrementally saved files.
+ * </p>
+ */
+class DiagramFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final DiagramFileReader reader = new DiagramFileReader();
+
+    /**
+     * Tests that diagram kinds are recognised from their top-level properties.
+     */
+    @Test
+    void testDetectsDiagramKind() throws IOException {
+        assertEquals(DiagramFileReader.Kind.CLASS,
+                DiagramFileReader.detect("{\"name\": {\"a\": 1}, \"classes\": []}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(DiagramFileReader.Kind.USE_CASE,
+                DiagramFileReader.detect("{\"objects\": []}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IOException.class, () -> DiagramFileReader.detect("[]".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IOException.class, () -> DiagramFileReader.detect("{\"x\": 1}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests that plain, compressed and incremental class diagram files are loaded as class diagrams.
+     */
+    @Test
+    void testReadsClassDiagramFiles() throws IOException {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Order", 10, 20, new ArrayList<>(List.of("- id: int")),
+                new ArrayList<>()));
+        File plain = tempDir.resolve("order.json").toFile();
+        File compressed = tempDir.resolve("order.jsonz").toFile();
+        File delta = tempDir.resolve("order" + ClassDiagramDeltaSerializer.FILE_EXTENSION).toFile();
+        new ClassDiagramSerializer().serialize(diagram, plain);
+        new ClassDiagramSerializer().serializeCompressed(diagram, compressed);
+        new ClassDiagramDeltaSerializer().writeSnapshot(diagram, delta);
+
+        for (File file : List.of(plain, compressed, delta)) {
+            assertEquals(DiagramFileReader.Kind.CLASS, reader.detect(file), file.getName());
+            DiagramPainter painter = reader.read(file);
+            assertInstanceOf(ClassDiagramPainter.class, painter, file.getName());
+            assertNotNull(((ClassDiagramPainter) painter).getBox("Order"), file.getName());
+        }
+    }
+
+    /**
+     * Tests that use case diagram files are loaded as use case diagrams.
+     */
+    @Test
+    void testReadsUseCaseDiagramFiles() throws IOException {
+        UseCaseDiagramManager manager = new UseCaseDiagramManager();
+        manager.addObject(new UseCaseDiagramObject("actor", 150, 200, "Customer"));
+        File file = tempDir.resolve("shop.json").toFile();
+        UseCaseDiagramSerializer.saveDiagram(manager, file.getAbsolutePath());
+
+        assertEquals(DiagramFileReader.Kind.USE_CASE, reader.detect(file));
+        assertInstanceOf(UseCaseDiagramPainter.class, reader.read(Files.readAllBytes(file.toPath())));
+    }
+}
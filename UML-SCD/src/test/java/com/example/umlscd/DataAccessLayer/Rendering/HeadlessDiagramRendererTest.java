@@ -0,0 +1,164 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.DataAccessLayer.ImageProcessing.TiledImageExporter;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link HeadlessDiagramRenderer}.
+ * <p>
+ * This class renders diagrams from their model without the JavaFX toolkit and verifies the rendered pixels, that
+ * tiled PNG output matches a single rendering, that oversized images are rejected, and that rendering on many
+ * threads at once is safe.
+ * </p>
+ */
+class HeadlessDiagramRendererTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ClassDiagramD diagram;
+
+    /**
+     * Creates a diagram with a grid of related classes.
+     */
+    @BeforeEach
+    void setUp() {
+        diagram = new ClassDiagramD();
+        for (int i = 0; i < 12; i++) {
+            diagram.getClasses().add(new UMLClassBox("Class" + i, (i % 4) * 180, (i / 4) * 140,
+                    new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ run(): void"))));
+            if (i > 0) {
+                diagram.getRelationships().add(new UMLRelationship(i % 2 == 0 ? "Composition" : "Inheritance",
+                        "Class" + (i - 1), "Class" + i, "r" + i, "1", "*"));
+            }
+        }
+    }
+
+    /**
+     * Tests that box outlines are drawn in black on a white background.
+     */
+    @Test
+    void testRenderDrawsBoxes() throws Exception {
+        ClassDiagramPainter painter = new ClassDiagramPainter(diagram);
+        BufferedImage image = new HeadlessDiagramRenderer().render(painter, 1);
+
+        Rectangle2D bounds = painter.getBounds();
+        Rectangle2D box = painter.getBox("Class0");
+        int left = (int) Math.round(box.getX() - bounds.getX());
+        int middle = (int) Math.round(box.getCenterY() - bounds.getY());
+
+        assertEquals(0xFFFFFFFF, image.getRGB(2, 2), "margin should be white");
+        // The antialiased one-pixel outline straddles the pixel boundary, covering each side by half
+        assertTrue((image.getRGB(left, middle) & 0xFF) <= 0x80, "box outline should be dark");
+        assertEquals(0xFFFFFFFF, image.getRGB(left + 2, middle), "box interior should be white");
+        assertEquals((int) Math.ceil(bounds.getWidth()), image.getWidth());
+    }
+
+    /**
+     * Tests that a diagram with an element placed far away is rejected before any pixel or file is allocated.
+     */
+    @Test
+    void testOversizedExportIsRejected() {
+        diagram.getClasses().add(new UMLClassBox("FarAway", 2e8, 0, new ArrayList<>(), new ArrayList<>()));
+        ClassDiagramPainter painter = new ClassDiagramPainter(diagram);
+        HeadlessDiagramRenderer renderer = new HeadlessDiagramRenderer();
+        File png = tempDir.resolve("far.png").toFile();
+        File jpeg = tempDir.resolve("far.jpg").toFile();
+
+        assertThrows(IOException.class, () -> renderer.export(painter, 8, png));
+        assertThrows(IOException.class, () -> renderer.export(painter, 8, jpeg));
+        assertThrows(IOException.class, () -> renderer.render(painter, 1));
+        assertFalse(png.exists());
+        assertFalse(jpeg.exists());
+    }
+
+    /**
+     * Tests that a PNG assembled from small tiles equals the image rendered in one piece.
+     */
+    @Test
+    void testTiledPngMatchesSingleRender() throws Exception {
+        ClassDiagramPainter painter = new ClassDiagramPainter(diagram);
+        HeadlessDiagramRenderer renderer = new HeadlessDiagramRenderer(new TiledImageExporter(97, 97 * 800));
+        BufferedImage expected = renderer.render(painter, 1.5);
+
+        File file = tempDir.resolve("diagram.png").toFile();
+        renderer.export(painter, 1.5, file);
+        BufferedImage actual = ImageIO.read(file);
+
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        int differing = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if ((expected.getRGB(x, y) | 0xFF000000) != (actual.getRGB(x, y) | 0xFF000000)) {
+                    differing++;
+                }
+            }
+        }
+        assertEquals(0, differing, "tiles should render exactly like the whole image");
+    }
+
+    /**
+     * Tests that many diagrams can be rendered concurrently with identical results.
+     */
+    @Test
+    void testParallelRendering() throws Exception {
+        HeadlessDiagramRenderer renderer = new HeadlessDiagramRenderer();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BufferedImage>> images = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                images.add(pool.submit(() -> renderer.render(new ClassDiagramPainter(diagram), 1)));
+            }
+            BufferedImage first = images.get(0).get();
+            for (Future<BufferedImage> image : images) {
+                BufferedImage other = image.get();
+                assertArrayEquals(first.getRGB(0, 0, first.getWidth(), first.getHeight(), null, 0, first.getWidth()),
+                        other.getRGB(0, 0, other.getWidth(), other.getHeight(), null, 0, other.getWidth()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that use case diagrams are exported to each supported format by extension.
+     */
+    @Test
+    void testUseCaseFormats() throws Exception {
+        UseCaseDiagramManager useCases = new UseCaseDiagramManager();
+        useCases.addObject(new UseCaseDiagramObject("actor", 150, 200, "Customer"));
+        useCases.addObject(new UseCaseDiagramObject("usecase", 400, 200, "Checkout"));
+        HeadlessDiagramRenderer renderer = new HeadlessDiagramRenderer();
+
+        for (String name : List.of("u.png", "u.jpg", "u.svg")) {
+            File file = tempDir.resolve(name).toFile();
+            renderer.export(useCases, 2, file);
+            assertTrue(file.length() > 0, name + " should be written");
+        }
+        BufferedImage png = ImageIO.read(tempDir.resolve("u.png").toFile());
+        assertEquals(1600, png.getWidth());
+        assertEquals(1200, png.getHeight());
+    }
+}
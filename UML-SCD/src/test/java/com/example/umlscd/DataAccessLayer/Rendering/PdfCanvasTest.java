@@ -0,0 +1,65 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PdfCanvas}.
+ * <p>
+ * This class verifies the PDF operators written for the diagram primitives, that shapes outside the visible region
+ * are skipped and that text is escaped for PDF string literals.
+ * </p>
+ */
+class PdfCanvasTest {
+
+    /**
+     * Tests that primitives are written as path and text operators with minimal state changes.
+     */
+    @Test
+    void testWritesOperators() {
+        StringBuilder content = new StringBuilder();
+        PdfCanvas canvas = new PdfCanvas(content, new Rectangle2D.Double(0, 0, 500, 500));
+
+        canvas.rect(10, 20, 100, 50.5, 1);
+        canvas.rect(10, 80, 100, 50, 1);
+        canvas.line(0, 0, 100, 100, 2, true);
+        canvas.polygon(new double[]{0, 0, 10, 0, 5, 5}, true);
+        canvas.text("Order", 15, 35, DiagramCanvas.TextStyle.BOLD);
+
+        String expected = "1 g\n10 20 100 50.5 re B\n10 80 100 50 re B\n"
+                + "2 w\n[10 10] 0 d\n0 0 m 100 100 l S\n"
+                + "1 w\n[] 0 d\n0 g\n0 0 m 10 0 l 5 5 l b\n"
+                + "BT /F2 12 Tf 1 0 0 -1 15 35 Tm (Order) Tj ET\n";
+        assertEquals(expected, content.toString());
+    }
+
+    /**
+     * Tests that shapes entirely outside the visible region are skipped.
+     */
+    @Test
+    void testSkipsInvisibleShapes() {
+        StringBuilder content = new StringBuilder();
+        PdfCanvas canvas = new PdfCanvas(content, new Rectangle2D.Double(1000, 1000, 200, 200));
+
+        canvas.rect(10, 20, 100, 50, 1);
+        canvas.ellipse(500, 500, 50, 25, 1);
+        canvas.text("Far away", 10, 10, DiagramCanvas.TextStyle.REGULAR);
+        assertEquals("", content.toString());
+
+        canvas.line(0, 0, 2000, 2000, 1, false);
+        assertTrue(content.toString().contains("l S"), "Lines crossing the region should be kept");
+    }
+
+    /**
+     * Tests that special and unsupported characters are escaped.
+     */
+    @Test
+    void testEscapesText() {
+        assertEquals("a\\(b\\)\\\\c", PdfCanvas.escape("a(b)\\c"));
+        assertEquals("café ?", PdfCanvas.escape("café →"));
+        assertEquals("F3", PdfCanvas.fontName(DiagramCanvas.TextStyle.ITALIC));
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Inflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PdfDiagramExporter}.
+ * <p>
+ * This class exports small and large diagrams as PDF and verifies the document structure, that large diagrams are
+ * split across pages whose content only covers their own region, and that the pages carry overlap marks.
+ * </p>
+ */
+class PdfDiagramExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that a small diagram is written as a single, well-formed page.
+     */
+    @Test
+    void testSmallDiagramFitsOnePage() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int pages = new PdfDiagramExporter().export(new ClassDiagramPainter(grid(1, 1)), out);
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+
+        assertEquals(1, pages);
+        assertTrue(pdf.startsWith("%PDF-1.4"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        assertTrue(pdf.contains("/BaseFont /Helvetica-Bold"));
+        assertCrossReferencesValid(pdf);
+
+        List<String> contents = pageContents(out.toByteArray());
+        assertEquals(1, contents.size());
+        assertTrue(contents.get(0).contains("(Class0) Tj"));
+        assertFalse(contents.get(0).contains("Page 1 of"));
+    }
+
+    /**
+     * Tests that a large diagram is split across overlapping pages, each with only its own content and marks.
+     */
+    @Test
+    void testLargeDiagramIsTiled() throws Exception {
+        ClassDiagramD diagram = grid(8, 8);
+        File file = tempDir.resolve("large.pdf").toFile();
+        int pages = new PdfDiagramExporter().export(new ClassDiagramPainter(diagram), file);
+
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        String pdf = new String(bytes, StandardCharsets.ISO_8859_1);
+        assertTrue(pages > 1);
+        assertTrue(pdf.contains("/Count " + pages + " "));
+        assertCrossReferencesValid(pdf);
+
+        List<String> contents = pageContents(bytes);
+        assertEquals(pages, contents.size());
+        assertTrue(contents.get(0).contains("(Class0) Tj"));
+        assertFalse(contents.get(0).contains("(Class63) Tj"), "The first page should not contain the last class");
+        assertTrue(contents.get(pages - 1).contains("(Class63) Tj"));
+        assertTrue(contents.get(0).contains("Page 1 of " + pages));
+        for (String content : contents) {
+            assertTrue(content.contains("0.5 w"), "Every page should have overlap marks");
+        }
+    }
+
+    /**
+     * Tests that the exported page regions cover the whole diagram with overlap.
+     */
+    @Test
+    void testPagesShareOverlap() throws Exception {
+        ClassDiagramD diagram = grid(8, 1);
+        int pages = new PdfDiagramExporter(PdfDiagramExporter.A4_WIDTH, PdfDiagramExporter.A4_HEIGHT, 1)
+                .export(new ClassDiagramPainter(diagram), new ByteArrayOutputStream());
+
+        double tileWidth = PdfDiagramExporter.A4_HEIGHT - 2 * PdfDiagramExporter.MARGIN;
+        double covered = pages * tileWidth - (pages - 1) * PdfDiagramExporter.OVERLAP;
+        double width = new ClassDiagramPainter(diagram).getBounds().getWidth();
+        assertTrue(covered >= width);
+        assertTrue(covered - tileWidth + PdfDiagramExporter.OVERLAP < width, "No page should be empty");
+    }
+
+    /**
+     * Tests that use case diagrams are exported as PDF files.
+     */
+    @Test
+    void testExportsUseCaseDiagram() throws Exception {
+        UseCaseDiagramManager manager = new UseCaseDiagramManager();
+        manager.addObject(new UseCaseDiagramObject("actor", 150, 200, "Customer"));
+        manager.addObject(new UseCaseDiagramObject("usecase", 400, 200, "Pay (card)"));
+        File file = tempDir.resolve("usecases.pdf").toFile();
+
+        new PdfDiagramExporter().export(manager, file);
+
+        List<String> contents = pageContents(Files.readAllBytes(file.toPath()));
+        assertTrue(contents.get(0).contains("(Pay \\(card\\)) Tj"));
+        assertTrue(contents.get(0).contains(" c "), "Use cases should be drawn as curves");
+    }
+
+    private static ClassDiagramD grid(int columns, int rows) {
+        ClassDiagramD diagram = new ClassDiagramD();
+        for (int i = 0; i < columns * rows; i++) {
+            diagram.getClasses().add(new UMLClassBox("Class" + i, (i % columns) * 250, (i / columns) * 200,
+                    new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ run(): void"))));
+        }
+        return diagram;
+    }
+
+    private static void assertCrossReferencesValid(String pdf) {
+        int xref = Integer.parseInt(pdf.substring(pdf.lastIndexOf("startxref\n") + 10, pdf.lastIndexOf("\n%%EOF")));
+        assertTrue(pdf.startsWith("xref\n", xref));
+        Matcher entry = Pattern.compile("(\\d{10}) 00000 n").matcher(pdf.substring(xref));
+        int number = 1;
+        while (entry.find()) {
+            int offset = Integer.parseInt(entry.group(1));
+            assertTrue(pdf.startsWith(number + " 0 obj\n", offset), "Offset of object " + number);
+            number++;
+        }
+        assertTrue(number > 6);
+    }
+
+    private static List<String> pageContents(byte[] pdf) throws Exception {
+        String text = new String(pdf, StandardCharsets.ISO_8859_1);
+        Matcher stream = Pattern.compile("/Length (\\d+) /Filter /FlateDecode >>\nstream\n").matcher(text);
+        List<String> contents = new ArrayList<>();
+        while (stream.find()) {
+            Inflater inflater = new Inflater();
+            inflater.setInput(pdf, stream.end(), Integer.parseInt(stream.group(1)));
+            ByteArrayOutputStream inflated = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                inflated.write(buffer, 0, inflater.inflate(buffer));
+            }
+            inflater.end();
+            contents.add(inflated.toString(StandardCharsets.ISO_8859_1));
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SvgCanvas}.
+ * <p>
+ * This class verifies the compact number format, the escaping of text and the elements written for each drawing
+ * primitive.
+ * </p>
+ */
+class SvgCanvasTest {
+
+    /**
+     * Tests that numbers are rounded to two decimals without trailing zeros.
+     */
+    @Test
+    void testNumberFormat() {
+        assertEquals("12", SvgCanvas.format(12.0));
+        assertEquals("12.5", SvgCanvas.format(12.5));
+        assertEquals("12.05", SvgCanvas.format(12.049));
+        assertEquals("-0.25", SvgCanvas.format(-0.25));
+        assertEquals("0", SvgCanvas.format(0.001));
+    }
+
+    /**
+     * Tests the elements written for each primitive and the completion of the document.
+     */
+    @Test
+    void testPrimitives() throws IOException {
+        StringWriter out = new StringWriter();
+        try (SvgCanvas canvas = new SvgCanvas(out, new Rectangle2D.Double(-10, -10, 200, 100))) {
+            canvas.line(0, 0, 10, 10, 2, true);
+            canvas.rect(1, 2, 3, 4, 1);
+            canvas.ellipse(5, 5, 2, 1, 1);
+            canvas.polygon(new double[]{0, 0, 10, 0, 5, 5}, true);
+            canvas.text("a < b & \"c\"", 1.5, 2, DiagramCanvas.TextStyle.BOLD);
+        }
+        String svg = out.toString();
+
+        assertTrue(svg.contains("viewBox=\"-10 -10 200 100\""));
+        assertTrue(svg.contains("<line class=\"d\" x1=\"0\" y1=\"0\" x2=\"10\" y2=\"10\" stroke-width=\"2\"/>"));
+        assertTrue(svg.contains("<rect x=\"1\" y=\"2\" width=\"3\" height=\"4\"/>"));
+        assertTrue(svg.contains("<ellipse cx=\"5\" cy=\"5\" rx=\"2\" ry=\"1\"/>"));
+        assertTrue(svg.contains("<polygon class=\"f\" points=\"0,0 10,0 5,5\"/>"));
+        assertTrue(svg.contains("<text class=\"b\" x=\"1.5\" y=\"2\">a &lt; b &amp; &quot;c&quot;</text>"));
+        assertTrue(svg.endsWith("</svg>\n"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.umlscd.DataAccessLayer.Rendering;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.example.umlscd.Models.UseCaseDiagram.Association;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SvgDiagramExporter}.
+ * <p>
+ * This class verifies that class and use case diagrams are exported as well-formed SVG documents generated from the
+ * model alone (no JavaFX toolkit is started), and that large diagrams stay small.
+ * </p>
+ */
+class SvgDiagramExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SvgDiagramExporter exporter = new SvgDiagramExporter();
+
+    /**
+     * Parses an SVG document, failing the test if it is not well-formed.
+     */
+    private static Document parse(String svg) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(svg)));
+    }
+
+    /**
+     * Tests that every class, interface and relationship of a class diagram appears in the document.
+     */
+    @Test
+    void testClassDiagramElements() throws Exception {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Order", 50, 40,
+                new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ total(): double"))));
+        diagram.getClasses().add(new UMLClassBox("Line<T>", 300, 40, new ArrayList<>(), new ArrayList<>()));
+        UMLInterfaceBox payable = new UMLInterfaceBox();
+        payable.setName("Payable");
+        payable.setX(50);
+        payable.setY(250);
+        diagram.getInterfaces().add(payable);
+        diagram.getRelationships().add(new UMLRelationship("Composition", "Line<T>", "Order", "has", "1", "*"));
+        diagram.getRelationships().add(new UMLRelationship("Inheritance", "Order", "Payable", "", "", ""));
+        diagram.getRelationships().add(new UMLRelationship("Association", "Order", "Missing", "dangling", "", ""));
+
+        StringWriter out = new StringWriter();
+        exporter.export(diagram, out);
+        Document document = parse(out.toString());
+
+        // Background plus one box per element
+        assertEquals(4, document.getElementsByTagName("rect").getLength());
+        // One diamond and one triangle; the dangling relationship is skipped
+        assertEquals(2, document.getElementsByTagName("polygon").getLength());
+        assertEquals("f", ((Element) document.getElementsByTagName("polygon").item(0)).getAttribute("class"));
+        assertTrue(out.toString().contains("Line&lt;T&gt;"));
+        assertTrue(out.toString().contains("&lt;&lt;Interface&gt;&gt;"));
+        assertFalse(out.toString().contains("dangling"));
+    }
+
+    /**
+     * Tests that a use case diagram is exported without a user interface.
+     */
+    @Test
+    void testUseCaseDiagramIsExportedHeadless() throws Exception {
+        UseCaseDiagramObject actor = new UseCaseDiagramObject("actor", 150, 200, "Customer");
+        UseCaseDiagramObject order = new UseCaseDiagramObject("usecase", 400, 200, "Place Order");
+        UseCaseDiagramObject pay = new UseCaseDiagramObject("usecase", 400, 400, "Pay");
+        UseCaseDiagramManager diagram = new UseCaseDiagramManager();
+        diagram.setObjects(new ArrayList<>(List.of(actor, order, pay)));
+        diagram.setAssociations(new ArrayList<>(List.of(
+                new Association(actor, order, "association"),
+                new Association(order, pay, "include"))));
+        diagram.setSystemBoundaryName("Shop");
+
+        File file = tempDir.resolve("usecase.svg").toFile();
+        exporter.export(diagram, file);
+        String svg = Files.readString(file.toPath());
+        Document document = parse(svg);
+
+        // Head of the actor and two use cases
+        assertEquals(3, document.getElementsByTagName("ellipse").getLength());
+        assertTrue(svg.contains(">Shop<"));
+        assertTrue(svg.contains("&lt;&lt;include&gt;&gt;"));
+        assertTrue(svg.contains("class=\"d\""));
+        assertEquals("800", document.getDocumentElement().getAttribute("width"));
+    }
+
+    /**
+     * Tests that a diagram with thousands of classes is exported compactly.
+     */
+    @Test
+    void testLargeDiagramStaysCompact() throws Exception {
+        ClassDiagramD diagram = new ClassDiagramD();
+        for (int i = 0; i < 5000; i++) {
+            diagram.getClasses().add(new UMLClassBox("Class" + i, (i % 100) * 200, (i / 100) * 150,
+                    new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ run(): void"))));
+            if (i > 0) {
+                diagram.getRelationships().add(new UMLRelationship("Association", "Class" + (i - 1), "Class" + i,
+                        "", "", ""));
+            }
+        }
+
+        File file = tempDir.resolve("large.svg").toFile();
+        exporter.export(diagram, file);
+
+        assertTrue(file.length() < 2_000_000, "SVG should stay below 2 MB, was " + file.length());
+        parse(Files.readString(file.toPath()));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramCrdt;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramCrdtSerializer} class.
+ * <p>
+ * These tests verify that the representation survives a round trip through its sidecar file, including removed
+ * elements, that diagrams without a sidecar start with an empty history, and that site identifiers are stable per
+ * diagram file.
+ * </p>
+ */
+class ClassDiagramCrdtSerializerTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that a saved representation is loaded with the same state, versions and removals.
+     */
+    @Test
+    void testRoundTripKeepsState() throws IOException {
+        File diagramFile = tempDir.resolve("orders.json").toFile();
+        ClassDiagramCrdtSerializer serializer = new ClassDiagramCrdtSerializer();
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Order", 10, 20, new ArrayList<>(List.of("- id : int")),
+                new ArrayList<>()));
+        diagram.getClasses().add(new UMLClassBox("Customer", 30, 40, new ArrayList<>(), new ArrayList<>()));
+        diagram.getRelationships().add(new UMLRelationship("Association", "Order", "Customer", "placedBy", "*", "1"));
+        serializer.update(diagram, diagramFile, "a");
+        diagram.getClasses().remove(1);
+        diagram.getRelationships().clear();
+        ClassDiagramCrdt saved = serializer.update(diagram, diagramFile, "a");
+
+        assertEquals(tempDir.resolve("orders.json" + ClassDiagramCrdtSerializer.SIDECAR_EXTENSION).toFile(),
+                ClassDiagramCrdtSerializer.sidecarOf(diagramFile));
+        ClassDiagramCrdt loaded = serializer.load(diagramFile);
+
+        assertEquals(saved.getVersions(), loaded.getVersions());
+        assertEquals(saved.getClock(), loaded.getClock());
+        assertEquals(3, loaded.size());
+        ClassDiagramD restored = loaded.toDiagram();
+        assertEquals(1, restored.getClasses().size());
+        assertEquals(List.of("- id : int"), restored.getClasses().get(0).getAttributes());
+        assertTrue(restored.getRelationships().isEmpty());
+        assertEquals(0, loaded.update(diagram, "b"));
+        assertTrue(Files.readString(ClassDiagramCrdtSerializer.sidecarOf(diagramFile).toPath()).contains("@a"));
+    }
+
+    /**
+     * Tests that a diagram without a sidecar has an empty representation.
+     */
+    @Test
+    void testMissingSidecarIsEmpty() throws IOException {
+        ClassDiagramCrdt crdt = new ClassDiagramCrdtSerializer().load(tempDir.resolve("none.json").toFile());
+
+        assertEquals(0, crdt.size());
+        assertTrue(crdt.getVersions().isEmpty());
+    }
+
+    /**
+     * Tests that the site of a diagram file is the same across calls and differs between files and installations.
+     */
+    @Test
+    void testSiteIsStablePerFile() throws IOException {
+        Path siteFile = tempDir.resolve("config").resolve("crdt-site");
+        File orders = tempDir.resolve("orders.json").toFile();
+        File copy = tempDir.resolve("copy").resolve("orders.json").toFile();
+
+        String site = ClassDiagramCrdtSerializer.siteOf(orders, siteFile);
+        assertTrue(Files.isRegularFile(siteFile));
+        assertEquals(site, ClassDiagramCrdtSerializer.siteOf(orders, siteFile));
+        assertNotEquals(site, ClassDiagramCrdtSerializer.siteOf(copy, siteFile));
+        assertFalse(site.contains("@"));
+        assertNotEquals(site, ClassDiagramCrdtSerializer.siteOf(orders, tempDir.resolve("other-site")));
+
+        assertFalse(ClassDiagramCrdtSerializer.hasSidecar(orders));
+        new ClassDiagramCrdtSerializer().update(new ClassDiagramD(), orders, site);
+        assertTrue(ClassDiagramCrdtSerializer.hasSidecar(orders));
+    }
+}
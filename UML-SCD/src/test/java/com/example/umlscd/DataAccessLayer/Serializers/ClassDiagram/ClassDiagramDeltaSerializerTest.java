@@ -0,0 +1,210 @@
+package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
+
+import com.example.umlscd.BusinessLayer.ClassDiagram.ClassDiagramChangeTracker;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ClassDiagramDeltaSerializer}.
+ * <p>
+ * This class verifies that snapshots and appended delta segments can be replayed into the original diagram,
+ * that removals are persisted as tombstones, that duplicate relationships are kept apart, that uncommitted and torn segments are ignored and truncated before the
+ * next append, and that the file is compacted once the configured number of segments is reached.
+ * </p>
+ */
+class ClassDiagramDeltaSerializerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ClassDiagramDeltaSerializer serializer;
+    private ClassDiagramD diagram;
+    private ClassDiagramChangeTracker tracker;
+    private File file;
+
+    /**
+     * Creates a small diagram with two classes, an interface and a relationship.
+     */
+    @BeforeEach
+    void setUp() {
+        serializer = new ClassDiagramDeltaSerializer(3, 100);
+        tracker = new ClassDiagramChangeTracker();
+        file = tempDir.resolve("diagram" + ClassDiagramDeltaSerializer.FILE_EXTENSION).toFile();
+
+        diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Person", 10, 20, new ArrayList<>(List.of("+ name: String")), new ArrayList<>()));
+        diagram.getClasses().add(new UMLClassBox("Car", 200, 20, new ArrayList<>(), new ArrayList<>()));
+        UMLInterfaceBox drivable = new UMLInterfaceBox();
+        drivable.setName("Drivable");
+        diagram.getInterfaces().add(drivable);
+        diagram.getRelationships().add(new UMLRelationship("Association", "Person", "Car", "drives", "1", "*"));
+    }
+
+    /**
+     * Tests that a snapshot is detected as a delta file and loads back with all records.
+     */
+    @Test
+    void testSnapshotRoundTrip() throws IOException {
+        serializer.writeSnapshot(diagram, file);
+
+        assertTrue(ClassDiagramDeltaSerializer.isDeltaFile(file));
+        ClassDiagramD loaded = new ClassDiagramDeltaSerializer().load(file);
+        assertEquals(2, loaded.getClasses().size());
+        assertEquals(1, loaded.getInterfaces().size());
+        assertEquals(1, loaded.getRelationships().size());
+        assertEquals("+ name: String", loaded.getClasses().get(0).getAttributes().get(0));
+    }
+
+    /**
+     * Tests that a delta segment only contains the changed records and replays moves and removals.
+     */
+    @Test
+    void testAppendDeltaWritesOnlyChanges() throws IOException {
+        serializer.writeSnapshot(diagram, file);
+        long sizeAfterSnapshot = Files.size(file.toPath());
+
+        UMLClassBox person = diagram.getClasses().get(0);
+        person.setX(99);
+        tracker.markElementChanged(person);
+        UMLRelationship drives = diagram.getRelationships().remove(0);
+        tracker.markRelationshipRemoved(drives.identityKey());
+
+        assertFalse(serializer.appendDelta(diagram, tracker, file));
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(1 + 6 + 4, lines.size(), "Header, compacted segment and a two-record delta segment");
+        assertTrue(Files.size(file.toPath()) > sizeAfterSnapshot);
+
+        ClassDiagramD loaded = new ClassDiagramDeltaSerializer().load(file);
+        assertEquals(99, loaded.getClasses().get(0).getX());
+        assertTrue(loaded.getRelationships().isEmpty());
+    }
+
+    /**
+     * Tests that a segment without a commit line is ignored when loading.
+     */
+    @Test
+    void testUncommittedSegmentIsIgnored() throws IOException {
+        serializer.writeSnapshot(diagram, file);
+        Files.writeString(file.toPath(),
+                "{\"segment\":1,\"records\":1}\n{\"op\":\"del\",\"kind\":\"element\",\"key\":\"Person\"}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        ClassDiagramD loaded = new ClassDiagramDeltaSerializer().load(file);
+        assertEquals(2, loaded.getClasses().size());
+    }
+
+    /**
+     * Tests that unnamed relationships of the same type between the same classes are all kept.
+     */
+    @Test
+    void testDuplicateRelationshipsAreKept() throws IOException {
+        diagram.getRelationships().add(new UMLRelationship("Association", "Person", "Car", "", "1", "1"));
+        diagram.getRelationships().add(new UMLRelationship("Association", "Person", "Car", "", "0..1", "*"));
+        serializer.writeSnapshot(diagram, file);
+
+        assertEquals(3, new ClassDiagramDeltaSerializer().load(file).getRelationships().size());
+
+        UMLRelationship second = diagram.getRelationships().get(2);
+        second.setEndMultiplicity("1..*");
+        tracker.markRelationshipChanged(second);
+        serializer.appendDelta(diagram, tracker, file);
+        tracker.clear();
+        UMLRelationship first = diagram.getRelationships().remove(1);
+        tracker.markRelationshipRemoved(first.identityKey());
+        serializer.appendDelta(diagram, tracker, file);
+
+        List<UMLRelationship> loaded = new ClassDiagramDeltaSerializer().load(file).getRelationships();
+        assertEquals(2, loaded.size());
+        assertEquals("0..1", loaded.get(1).getStartMultiplicity());
+        assertEquals("1..*", loaded.get(1).getEndMultiplicity());
+    }
+
+    /**
+     * Tests that a segment appended after a torn write replaces the torn tail and is replayed on load.
+     */
+    @Test
+    void testAppendAfterTornTailIsLoaded() throws IOException {
+        serializer.writeSnapshot(diagram, file);
+        long sizeAfterSnapshot = Files.size(file.toPath());
+        Files.writeString(file.toPath(), "{\"segment\":1,\"rec", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        ClassDiagramDeltaSerializer reopened = new ClassDiagramDeltaSerializer(3, 100);
+        reopened.load(file);
+        UMLClassBox car = diagram.getClasses().get(1);
+        car.setY(77);
+        tracker.markElementChanged(car);
+
+        assertFalse(reopened.appendDelta(diagram, tracker, file));
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(1 + 6 + 3, lines.size(), "The torn line is truncated before the new segment");
+        assertTrue(Files.size(file.toPath()) > sizeAfterSnapshot);
+        assertEquals(77, new ClassDiagramDeltaSerializer().load(file).getClasses().get(1).getY());
+    }
+
+    /**
+     * Tests that a committed segment following an unreadable line is still replayed.
+     */
+    @Test
+    void testCommittedSegmentAfterTornLineIsLoaded() throws IOException {
+        serializer.writeSnapshot(diagram, file);
+        Files.writeString(file.toPath(),
+                "{\"segment\":1,\"rec\n{\"segment\":2,\"records\":1}\n"
+                        + "{\"op\":\"del\",\"kind\":\"element\",\"key\":\"Person\"}\n{\"commit\":2}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        ClassDiagramD loaded = new ClassDiagramDeltaSerializer().load(file);
+        assertEquals(1, loaded.getClasses().size());
+        assertEquals("Car", loaded.getClasses().get(0).getName());
+    }
+
+    /**
+     * Tests that the file is rewritten as a single segment once the segment limit is reached.
+     */
+    @Test
+    void testCompactionAfterMaxSegments() throws IOException {
+        serializer.writeSnapshot(diagram, file);
+        UMLClassBox car = diagram.getClasses().get(1);
+
+        boolean compacted = false;
+        for (int i = 0; i < 3; i++) {
+            car.setY(i);
+            tracker.markElementChanged(car);
+            compacted = serializer.appendDelta(diagram, tracker, file);
+            tracker.clear();
+        }
+
+        assertTrue(compacted);
+        long segments = Files.readAllLines(file.toPath()).stream().filter(line -> line.startsWith("{\"segment\"")).count();
+        assertEquals(1, segments);
+        assertEquals(2, new ClassDiagramDeltaSerializer().load(file).getClasses().get(1).getY());
+    }
+
+    /**
+     * Tests that a file not written or read by the serializer is compacted instead of appended to.
+     */
+    @Test
+    void testUnknownFileIsCompacted() throws IOException {
+        new ClassDiagramDeltaSerializer().writeSnapshot(diagram, file);
+        tracker.markElementChanged(diagram.getClasses().get(0));
+
+        assertTrue(serializer.appendDelta(diagram, tracker, file));
+    }
+}
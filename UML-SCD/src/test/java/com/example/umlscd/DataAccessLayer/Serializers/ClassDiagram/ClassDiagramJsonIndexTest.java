@@ -0,0 +1,152 @@
+package com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram;
+
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramJsonIndex.Entry;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramJsonIndex.Section;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.Json.JsonMapperRegistry;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramJsonIndex} class.
+ * <p>
+ * These tests index saved class diagrams and verify the identities and hashes of their elements, and that elements
+ * parsed or copied from the index, through a {@link ClassDiagramStreamWriter}, are the saved ones.
+ * </p>
+ */
+class ClassDiagramJsonIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static ClassDiagramD diagram() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Order", 10, 20, new ArrayList<>(List.of("- id : int")),
+                new ArrayList<>(List.of("+ total() : double"))));
+        diagram.getClasses().add(new UMLClassBox("Customer", 30, 40, new ArrayList<>(), new ArrayList<>()));
+        UMLInterfaceBox payable = new UMLInterfaceBox();
+        payable.setName("Payable");
+        payable.setMethods(new ArrayList<>(List.of("+ pay() : void")));
+        diagram.getInterfaces().add(payable);
+        diagram.getRelationships().add(new UMLRelationship("Association", "Order", "Customer", "placedBy", "*", "1"));
+        return diagram;
+    }
+
+    /**
+     * Tests that elements are indexed by identity, that equal elements have equal hashes regardless of the
+     * formatting, and that changed elements have different hashes.
+     */
+    @Test
+    void testIndexesElementsByIdentity() throws IOException {
+        ClassDiagramJsonIndex pretty = ClassDiagramJsonIndex.of(
+                JsonMapperRegistry.prettyWriter(ClassDiagramD.class).writeValueAsBytes(diagram()));
+        ClassDiagramJsonIndex compact = ClassDiagramJsonIndex.of(
+                JsonMapperRegistry.writer(ClassDiagramD.class).writeValueAsBytes(diagram()));
+        ClassDiagramD changed = diagram();
+        changed.getClasses().get(1).setY(41);
+        ClassDiagramJsonIndex edited = ClassDiagramJsonIndex.of(
+                JsonMapperRegistry.writer(ClassDiagramD.class).writeValueAsBytes(changed));
+
+        assertEquals(4, pretty.size());
+        assertEquals(List.of("Order", "Customer"), List.copyOf(pretty.entries(Section.CLASSES).keySet()));
+        Entry relationship = pretty.entries(Section.RELATIONSHIPS).get("Association|Order|Customer|placedBy");
+        assertEquals(List.of("Order", "Customer"), relationship.endpoints());
+        for (Section section : Section.values()) {
+            pretty.entries(section).forEach((key, entry) ->
+                    assertEquals(entry.hash(), compact.entries(section).get(key).hash(), key));
+        }
+        assertEquals(pretty.entries(Section.CLASSES).get("Order").hash(),
+                edited.entries(Section.CLASSES).get("Order").hash());
+        assertNotEquals(pretty.entries(Section.CLASSES).get("Customer").hash(),
+                edited.entries(Section.CLASSES).get("Customer").hash());
+    }
+
+    /**
+     * Tests that single elements are parsed from the index, and that repeated identities are kept apart.
+     */
+    @Test
+    void testParsesSingleElements() throws IOException {
+        ClassDiagramD diagram = diagram();
+        diagram.getClasses().add(new UMLClassBox("Order", 0, 0, new ArrayList<>(), new ArrayList<>()));
+        ClassDiagramJsonIndex index = ClassDiagramJsonIndex.of(
+                JsonMapperRegistry.prettyWriter(ClassDiagramD.class).writeValueAsBytes(diagram));
+
+        UMLClassBox order = index.element(index.entries(Section.CLASSES).get("Order"), UMLClassBox.class);
+        assertEquals(List.of("- id : int"), order.getAttributes());
+        assertEquals(20, order.getY());
+        assertEquals(0, index.element(index.entries(Section.CLASSES).get("Order#2"), UMLClassBox.class).getX());
+        UMLRelationship relationship = index.element(index.entries(Section.RELATIONSHIPS).values().iterator().next(),
+                UMLRelationship.class);
+        assertEquals("1", relationship.getEndMultiplicity());
+    }
+
+    /**
+     * Tests that compressed and empty files are indexed, and that use case diagrams are rejected.
+     */
+    @Test
+    void testReadsCompressedAndEmptyFiles() throws IOException {
+        File compressed = tempDir.resolve("orders" + BlockDeflateCodec.FILE_EXTENSION).toFile();
+        new ClassDiagramSerializer().serializeCompressed(diagram(), compressed);
+        File empty = tempDir.resolve("empty.json").toFile();
+        Files.writeString(empty.toPath(), "");
+        File useCases = tempDir.resolve("shop.json").toFile();
+        Files.writeString(useCases.toPath(), "{\"objects\":[],\"associations\":[]}", StandardCharsets.UTF_8);
+
+        assertEquals(4, ClassDiagramJsonIndex.read(compressed).size());
+        assertEquals(0, ClassDiagramJsonIndex.read(empty).size());
+        assertThrows(IOException.class, () -> ClassDiagramJsonIndex.read(useCases));
+    }
+
+    /**
+     * Tests that copied and written elements make up a diagram equal to the saved one, with skipped sections
+     * written empty.
+     */
+    @Test
+    void testStreamWriterCopiesElements() throws IOException {
+        ClassDiagramJsonIndex index = ClassDiagramJsonIndex.of(
+                JsonMapperRegistry.prettyWriter(ClassDiagramD.class).writeValueAsBytes(diagram()));
+        File output = tempDir.resolve("copy.json").toFile();
+        try (ClassDiagramStreamWriter writer = new ClassDiagramStreamWriter(output)) {
+            writer.startSection(Section.CLASSES);
+            for (Entry entry : index.entries(Section.CLASSES).values()) {
+                writer.copy(index, entry);
+            }
+            writer.write(new UMLClassBox("Invoice", 5, 5, new ArrayList<>(), new ArrayList<>()));
+            writer.startSection(Section.RELATIONSHIPS);
+            writer.copy(index, index.entries(Section.RELATIONSHIPS).values().iterator().next());
+            assertThrows(IllegalStateException.class, () -> writer.startSection(Section.INTERFACES));
+            writer.commit();
+        }
+
+        ClassDiagramD copy = new ClassDiagramSerializer().deserialize(output);
+        assertEquals(List.of("Order", "Customer", "Invoice"), copy.getClasses().stream().map(UMLClassBox::getName)
+                .toList());
+        assertEquals(List.of("+ total() : double"), copy.getClasses().get(0).getMethods());
+        assertTrue(copy.getInterfaces().isEmpty());
+        assertEquals("placedBy", copy.getRelationships().get(0).getName());
+
+        File discarded = tempDir.resolve("discarded.json").toFile();
+        try (ClassDiagramStreamWriter writer = new ClassDiagramStreamWriter(discarded)) {
+            writer.startSection(Section.CLASSES);
+        }
+        assertFalse(discarded.exists());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of("copy.json"), files.map(path -> path.getFileName().toString()).toList());
+        }
+    }
+}
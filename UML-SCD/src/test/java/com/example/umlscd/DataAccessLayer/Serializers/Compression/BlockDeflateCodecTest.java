@@ -0,0 +1,149 @@
+package com.example.umlscd.DataAccessLayer.Serializers.Compression;
+
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BlockDeflateCodec}.
+ * <p>
+ * This class verifies that data spanning several blocks survives a compression round trip, that compressed files are
+ * detected by their content, that damaged blocks are rejected, and that the class diagram serializer reads compressed
+ * files transparently.
+ * </p>
+ */
+class BlockDeflateCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Builds a JSON-like payload of the specified approximate size.
+     */
+    private static byte[] payload(int size) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; json.length() < size; i++) {
+            json.append("{\"name\":\"Class").append(i).append("\",\"x\":").append(i * 7 % 1000).append("},");
+        }
+        return json.append("{}]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tests that multi-block data is restored byte for byte and actually shrinks.
+     */
+    @Test
+    void testRoundTripAcrossBlocks() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BlockDeflateCodec codec = new BlockDeflateCodec(1024, Deflater.DEFAULT_COMPRESSION, executor);
+            byte[] data = payload(10_000);
+
+            byte[] compressed = codec.compress(data);
+
+            assertTrue(BlockDeflateCodec.isCompressed(compressed));
+            assertTrue(compressed.length < data.length / 2);
+            assertArrayEquals(data, codec.decompress(compressed));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests that empty input round-trips.
+     */
+    @Test
+    void testEmptyInput() throws IOException {
+        BlockDeflateCodec codec = new BlockDeflateCodec();
+        assertArrayEquals(new byte[0], codec.decompress(codec.compress(new byte[0])));
+    }
+
+    /**
+     * Tests that files are recognized by content and plain files are read unchanged.
+     */
+    @Test
+    void testTransparentFileDetection() throws IOException {
+        BlockDeflateCodec codec = new BlockDeflateCodec();
+        byte[] data = payload(2_000);
+        File compressed = tempDir.resolve("diagram" + BlockDeflateCodec.FILE_EXTENSION).toFile();
+        File plain = tempDir.resolve("diagram.json").toFile();
+        codec.write(data, compressed);
+        Files.write(plain.toPath(), data);
+
+        assertTrue(BlockDeflateCodec.isCompressed(compressed));
+        assertFalse(BlockDeflateCodec.isCompressed(plain));
+        assertArrayEquals(data, codec.readAllBytes(compressed));
+        assertArrayEquals(data, codec.readAllBytes(plain));
+    }
+
+    /**
+     * Tests that a corrupted block is reported instead of returning wrong data.
+     */
+    @Test
+    void testCorruptedBlockIsRejected() throws IOException {
+        BlockDeflateCodec codec = new BlockDeflateCodec();
+        byte[] compressed = codec.compress(payload(5_000));
+        compressed[compressed.length - 3] ^= 0x5A;
+
+        assertThrows(IOException.class, () -> codec.decompress(compressed));
+    }
+
+    /**
+     * Tests that damaged or hostile headers are rejected before anything is allocated for them, and that content
+     * inflating beyond a limit is refused.
+     */
+    @Test
+    void testUntrustedHeadersAreRejected() throws IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BlockDeflateCodec codec = new BlockDeflateCodec(1024, Deflater.DEFAULT_COMPRESSION, executor);
+            byte[] hugeCount = ByteBuffer.allocate(13).put("UMLZ".getBytes(StandardCharsets.US_ASCII)).put((byte) 1)
+                    .putInt(1024).putInt(Integer.MAX_VALUE).array();
+            assertThrows(IOException.class, () -> codec.decompress(hugeCount));
+
+            byte[] raw = payload(5_000);
+            byte[] compressed = codec.compress(raw);
+            byte[] oversizedBlock = compressed.clone();
+            ByteBuffer.wrap(oversizedBlock).putInt(13, 1_000_000);
+            assertThrows(IOException.class, () -> codec.decompress(oversizedBlock));
+
+            assertArrayEquals(raw, codec.decompress(compressed, raw.length));
+            assertThrows(IOException.class, () -> codec.decompress(compressed, raw.length - 1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests that the class diagram serializer writes and reads back a compressed diagram.
+     */
+    @Test
+    void testClassDiagramSerializerRoundTrip() throws IOException {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Person", 10, 20, new ArrayList<>(List.of("+ name: String")), new ArrayList<>()));
+        File file = tempDir.resolve("classes" + BlockDeflateCodec.FILE_EXTENSION).toFile();
+
+        ClassDiagramSerializer serializer = new ClassDiagramSerializer();
+        serializer.serializeCompressed(diagram, file);
+
+        assertTrue(BlockDeflateCodec.isCompressed(file));
+        ClassDiagramD loaded = serializer.deserialize(file);
+        assertEquals("Person", loaded.getClasses().get(0).getName());
+        assertEquals("+ name: String", loaded.getClasses().get(0).getAttributes().get(0));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.umlscd.DataAccessLayer.Serializers.Json;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark for {@link JsonMapperRegistry}.
+ * <p>
+ * This class compares a save and load round trip of a large class diagram through the previous code paths (a new
+ * mapper per serializer and a new pretty-printing writer per save) with the shared registry instances. It is a
+ * standalone program rather than a test, so it does not slow down the test suite. Run it after
+ * {@code mvn test-compile} with {@code target/test-classes}, {@code target/classes} and the dependencies on the class
+ * path, optionally passing the number of measured rounds.
+ * </p>
+ */
+class JsonMapperRegistryBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+
+    private static final int DEFAULT_ROUNDS = 1000;
+
+    /**
+     * Runs the benchmark and prints the average time of a round trip through each path.
+     *
+     * @param args An optional number of measured rounds.
+     */
+    public static void main(String[] args) throws IOException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        ClassDiagramD diagram = diagram(300);
+
+        if (legacyRoundTrip(diagram) != registryRoundTrip(diagram)) {
+            throw new IllegalStateException("The registry and the legacy mapper disagree");
+        }
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            legacyRoundTrip(diagram);
+            registryRoundTrip(diagram);
+        }
+
+        // Alternate the paths so that neither benefits from running last
+        long legacyNanos = 0;
+        long registryNanos = 0;
+        long checksum = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            checksum += legacyRoundTrip(diagram);
+            long middle = System.nanoTime();
+            checksum += registryRoundTrip(diagram);
+            long end = System.nanoTime();
+            legacyNanos += middle - start;
+            registryNanos += end - middle;
+        }
+
+        System.out.printf("Round trips of a diagram with %d classes, %d rounds (checksum %d)%n",
+                diagram.getClasses().size(), rounds, checksum);
+        System.out.printf("Legacy mappers:  %.3f ms per round trip%n", legacyNanos / 1e6 / rounds);
+        System.out.printf("Shared registry: %.3f ms per round trip%n", registryNanos / 1e6 / rounds);
+    }
+
+    /**
+     * Creates a class diagram with the given number of classes and a relationship between each pair of neighbours.
+     */
+    private static ClassDiagramD diagram(int classes) {
+        ClassDiagramD diagram = new ClassDiagramD();
+        for (int i = 0; i < classes; i++) {
+            diagram.getClasses().add(new UMLClassBox("Class" + i, i * 10, i * 5,
+                    new ArrayList<>(List.of("- id: int", "- name: String")),
+                    new ArrayList<>(List.of("+ getId(): int", "+ setName(name: String): void"))));
+            if (i > 0) {
+                diagram.getRelationships().add(new UMLRelationship("Association", "Class" + (i - 1), "Class" + i,
+                        "uses", "1", "*"));
+            }
+        }
+        return diagram;
+    }
+
+    /**
+     * Performs a round trip the way the serializers did before the registry existed.
+     */
+    private static int legacyRoundTrip(ClassDiagramD diagram) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] json = mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(diagram);
+        return mapper.readValue(json, ClassDiagramD.class).getClasses().size() + json.length;
+    }
+
+    /**
+     * Performs a round trip with the shared registry instances.
+     */
+    private static int registryRoundTrip(ClassDiagramD diagram) throws IOException {
+        byte[] json = JsonMapperRegistry.prettyWriter(ClassDiagramD.class).writeValueAsBytes(diagram);
+        ClassDiagramD loaded = JsonMapperRegistry.reader(ClassDiagramD.class).readValue(json);
+        return loaded.getClasses().size() + json.length;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.umlscd.DataAccessLayer.Serializers.Json;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonMapperRegistry}.
+ * <p>
+ * This class verifies that readers and writers are shared per model type, and that the registry produces exactly the
+ * same JSON as the per-serializer mappers it replaces on a large class diagram.
+ * </p>
+ */
+class JsonMapperRegistryTest {
+
+    private ClassDiagramD diagram;
+
+    /**
+     * Creates a class diagram with 300 classes and a relationship between each pair of neighbours.
+     */
+    @BeforeEach
+    void setUp() {
+        diagram = new ClassDiagramD();
+        for (int i = 0; i < 300; i++) {
+            diagram.getClasses().add(new UMLClassBox("Class" + i, i * 10, i * 5,
+                    new ArrayList<>(List.of("- id: int", "- name: String")),
+                    new ArrayList<>(List.of("+ getId(): int", "+ setName(name: String): void"))));
+            if (i > 0) {
+                diagram.getRelationships().add(new UMLRelationship("Association", "Class" + (i - 1), "Class" + i,
+                        "uses", "1", "*"));
+            }
+        }
+    }
+
+    /**
+     * Tests that readers and writers are built once per model type and reused.
+     */
+    @Test
+    void testReadersAndWritersAreShared() {
+        assertSame(JsonMapperRegistry.reader(ClassDiagramD.class), JsonMapperRegistry.reader(ClassDiagramD.class));
+        assertSame(JsonMapperRegistry.writer(ClassDiagramD.class), JsonMapperRegistry.writer(ClassDiagramD.class));
+        assertSame(JsonMapperRegistry.prettyWriter(UseCaseDiagramManager.class),
+                JsonMapperRegistry.prettyWriter(UseCaseDiagramManager.class));
+    }
+
+    /**
+     * Tests that the registry writes the same pretty-printed JSON as the previous per-instance mapper, so existing
+     * diagram files keep their format.
+     */
+    @Test
+    void testOutputMatchesLegacyMapper() throws IOException {
+        ObjectMapper legacy = new ObjectMapper();
+        legacy.enable(SerializationFeature.INDENT_OUTPUT);
+
+        String expected = legacy.writeValueAsString(diagram);
+        String actual = JsonMapperRegistry.prettyWriter(ClassDiagramD.class).writeValueAsString(diagram);
+
+        assertEquals(expected, actual);
+        ClassDiagramD loaded = JsonMapperRegistry.reader(ClassDiagramD.class).readValue(actual);
+        assertEquals(300, loaded.getClasses().size());
+        assertEquals("Class299", loaded.getRelationships().get(298).getEndElementName());
+    }
+}
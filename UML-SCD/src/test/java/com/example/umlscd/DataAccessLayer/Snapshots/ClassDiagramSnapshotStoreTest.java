@@ -0,0 +1,115 @@
+package com.example.umlscd.DataAccessLayer.Snapshots;
+
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLInterfaceBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ClassDiagramSnapshotStore}.
+ * <p>
+ * This class verifies that versions round-trip through the store, that records shared between versions are stored
+ * only once, that unchanged diagrams reuse the latest version, and that unreferenced records are garbage collected.
+ * </p>
+ */
+class ClassDiagramSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ClassDiagramSnapshotStore store;
+    private ClassDiagramD diagram;
+
+    /**
+     * Creates a store in a temporary directory and a diagram with two classes, an interface and a relationship.
+     */
+    @BeforeEach
+    void setUp() {
+        store = new ClassDiagramSnapshotStore(tempDir);
+
+        diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Person", 10, 20, new ArrayList<>(List.of("+ name: String")), new ArrayList<>()));
+        diagram.getClasses().add(new UMLClassBox("Car", 200, 20, new ArrayList<>(), new ArrayList<>(List.of("+ drive(): void"))));
+        UMLInterfaceBox drivable = new UMLInterfaceBox();
+        drivable.setName("Drivable");
+        diagram.getInterfaces().add(drivable);
+        diagram.getRelationships().add(new UMLRelationship("Association", "Person", "Car", "drives", "1", "*"));
+    }
+
+    /**
+     * Tests that a committed version checks out with the same records.
+     */
+    @Test
+    void testCommitAndCheckout() throws IOException {
+        SnapshotManifest manifest = store.commit(diagram, "vehicles", "first");
+
+        ClassDiagramD restored = store.checkout(manifest.getId());
+        assertEquals(2, restored.getClasses().size());
+        assertEquals("+ name: String", restored.getClasses().get(0).getAttributes().get(0));
+        assertEquals("Drivable", restored.getInterfaces().get(0).getName());
+        assertEquals("drives", restored.getRelationships().get(0).getName());
+        assertEquals(4, store.countObjects());
+    }
+
+    /**
+     * Tests that a second version only stores the record that changed and links to its parent.
+     */
+    @Test
+    void testUnchangedRecordsAreStoredOnce() throws IOException {
+        SnapshotManifest first = store.commit(diagram, "vehicles", "first");
+        diagram.getClasses().get(1).setX(300);
+        SnapshotManifest second = store.commit(diagram, "vehicles", "moved car");
+
+        assertEquals(5, store.countObjects());
+        assertEquals(first.getId(), second.getParentId());
+        assertEquals(first.getClasses().get(0), second.getClasses().get(0));
+        assertEquals(200, store.checkout(first.getId()).getClasses().get(1).getX());
+        assertEquals(300, store.checkout(second.getId()).getClasses().get(1).getX());
+    }
+
+    /**
+     * Tests that committing an unchanged diagram reuses the latest version instead of creating a new one.
+     */
+    @Test
+    void testUnchangedDiagramReusesLatestVersion() throws IOException {
+        SnapshotManifest first = store.commit(diagram, "vehicles", "first");
+        SnapshotManifest again = store.commit(diagram, "vehicles", "again");
+
+        assertEquals(first.getId(), again.getId());
+        assertEquals(1, store.listVersions("vehicles").size());
+        assertTrue(store.listVersions("other").isEmpty());
+    }
+
+    /**
+     * Tests that deleting a version and collecting garbage removes only the records no version uses.
+     */
+    @Test
+    void testCollectGarbage() throws IOException {
+        SnapshotManifest first = store.commit(diagram, "vehicles", "first");
+        diagram.getRelationships().clear();
+        SnapshotManifest second = store.commit(diagram, "vehicles", "no relationships");
+
+        assertTrue(store.deleteVersion(first.getId()));
+        assertEquals(1, store.collectGarbage());
+        assertEquals(3, store.countObjects());
+        assertEquals(2, store.checkout(second.getId()).getClasses().size());
+    }
+
+    /**
+     * Tests that malformed version identifiers are rejected.
+     */
+    @Test
+    void testInvalidVersionIdIsRejected() {
+        assertThrows(IOException.class, () -> store.checkout("../../etc/passwd"));
+    }
+}
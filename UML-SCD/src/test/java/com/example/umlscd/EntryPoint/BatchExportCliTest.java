@@ -0,0 +1,135 @@
+package com.example.umlscd.EntryPoint;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.DataAccessLayer.Rendering.ExportManifest;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram.UseCaseDiagramSerializer;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BatchExportCli}.
+ * <p>
+ * This class exports directories of class and use case diagrams without the JavaFX toolkit and verifies that every
+ * diagram is rendered, that unchanged diagrams are skipped on later runs and that broken files are reported.
+ * </p>
+ */
+class BatchExportCliTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path inputDir;
+
+    private Path outputDir;
+
+    /**
+     * Writes a class diagram, a compressed class diagram and a use case diagram into a nested input directory.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        inputDir = tempDir.resolve("diagrams");
+        outputDir = tempDir.resolve("images");
+        Files.createDirectories(inputDir.resolve("nested"));
+
+        ClassDiagramSerializer serializer = new ClassDiagramSerializer();
+        serializer.serialize(classDiagram("Order"), inputDir.resolve("orders.json").toFile());
+        serializer.serializeCompressed(classDiagram("Invoice"), inputDir.resolve("nested/invoices.jsonz").toFile());
+
+        UseCaseDiagramManager useCases = new UseCaseDiagramManager();
+        useCases.addObject(new UseCaseDiagramObject("actor", 150, 200, "Customer"));
+        useCases.addObject(new UseCaseDiagramObject("usecase", 400, 200, "Checkout"));
+        UseCaseDiagramSerializer.saveDiagram(useCases, inputDir.resolve("nested/shop.json").toString());
+    }
+
+    /**
+     * Tests that every diagram is exported in every format, mirroring the input directory layout.
+     */
+    @Test
+    void testExportsEveryDiagram() throws IOException {
+        BatchExportCli.Summary summary = cli(false).export();
+
+        assertEquals(3, summary.getExported());
+        assertEquals(0, summary.getFailed());
+        for (String name : List.of("orders", "nested/invoices", "nested/shop")) {
+            assertTrue(Files.size(outputDir.resolve(name + ".png")) > 0, name + ".png");
+            assertTrue(Files.readString(outputDir.resolve(name + ".svg")).contains("<svg"), name + ".svg");
+        }
+        assertTrue(Files.exists(outputDir.resolve(ExportManifest.FILE_NAME)));
+    }
+
+    /**
+     * Tests that a second run only exports the diagrams that changed or lost their outputs.
+     */
+    @Test
+    void testSkipsUnchangedDiagrams() throws IOException {
+        cli(false).export();
+        new ClassDiagramSerializer().serialize(classDiagram("Customer"), inputDir.resolve("orders.json").toFile());
+        Files.delete(outputDir.resolve("nested/shop.svg"));
+
+        BatchExportCli.Summary summary = cli(false).export();
+        assertEquals(2, summary.getExported());
+        assertEquals(1, summary.getSkipped());
+
+        BatchExportCli.Summary forced = cli(true).export();
+        assertEquals(3, forced.getExported());
+        assertEquals(0, forced.getSkipped());
+    }
+
+    /**
+     * Tests that unreadable files are reported without stopping the other exports.
+     */
+    @Test
+    void testReportsBrokenFiles() throws IOException {
+        Files.writeString(inputDir.resolve("broken.json"), "{\"unknown\": [1, 2]}");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int status = BatchExportCli.run(new String[]{inputDir.toString(), outputDir.toString(), "--threads", "2"},
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertEquals(1, status);
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("Exported 3 diagrams"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("broken.json"));
+        assertTrue(Files.exists(outputDir.resolve("orders.png")));
+    }
+
+    /**
+     * Tests that invalid arguments print the usage message.
+     */
+    @Test
+    void testRejectsInvalidArguments() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int status = BatchExportCli.run(new String[]{inputDir.toString(), "--format", "gif"},
+                new PrintStream(new ByteArrayOutputStream()), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertEquals(2, status);
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(BatchExportCli.USAGE));
+    }
+
+    private BatchExportCli cli(boolean force) {
+        return new BatchExportCli(inputDir, outputDir, List.of("png", "svg"), 1, 4, force);
+    }
+
+    private static ClassDiagramD classDiagram(String name) {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox(name, 0, 0,
+                new ArrayList<>(List.of("- id: int")), new ArrayList<>(List.of("+ total(): double"))));
+        return diagram;
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.umlscd.EntryPoint;
+
+import com.example.umlscd.BusinessLayer.UseCaseDiagram.UseCaseDiagramManager;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramCrdtSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.ClassDiagram.ClassDiagramSerializer;
+import com.example.umlscd.DataAccessLayer.Serializers.Compression.BlockDeflateCodec;
+import com.example.umlscd.DataAccessLayer.Serializers.UseCaseDiagram.UseCaseDiagramSerializer;
+import com.example.umlscd.Models.ClassDiagram.ClassDiagramD;
+import com.example.umlscd.Models.ClassDiagram.UMLClassBox;
+import com.example.umlscd.Models.ClassDiagram.UMLRelationship;
+import com.example.umlscd.Models.UseCaseDiagram.UseCaseDiagramObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link DiagramCli}.
+ * <p>
+ * This class runs every command on class and use case diagram files without the JavaFX toolkit and verifies the
+ * printed results, the written files and the exit codes.
+ * </p>
+ */
+class DiagramCliTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path classFile;
+
+    private Path useCaseFile;
+
+    private ByteArrayOutputStream out;
+
+    private ByteArrayOutputStream err;
+
+    /**
+     * Writes a class diagram with an inheritance relationship and a use case diagram.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(new UMLClassBox("Shape", 500, 500, new ArrayList<>(), new ArrayList<>()));
+        diagram.getClasses().add(new UMLClassBox("Circle", 500, 500,
+                new ArrayList<>(List.of("- radius: double")), new ArrayList<>(List.of("+ area(): double"))));
+        diagram.getRelationships().add(new UMLRelationship("Inheritance", "Circle", "Shape", "Inheritance", "", ""));
+        classFile = tempDir.resolve("shapes.json");
+        new ClassDiagramSerializer().serialize(diagram, classFile.toFile());
+
+        UseCaseDiagramManager useCases = new UseCaseDiagramManager();
+        useCases.addObject(new UseCaseDiagramObject("actor", 0, 0, "Customer"));
+        useCases.addObject(new UseCaseDiagramObject("usecase", 0, 0, "Checkout"));
+        useCaseFile = tempDir.resolve("shop.json");
+        UseCaseDiagramSerializer.saveDiagram(useCases, useCaseFile.toString());
+
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+    }
+
+    /**
+     * Tests that diagrams of both kinds are recognised and described.
+     */
+    @Test
+    void testLoadDescribesDiagrams() {
+        assertEquals(0, run("load", classFile.toString(), useCaseFile.toString()));
+
+        String output = output();
+        assertTrue(output.contains("class diagram, 2 classes, 0 interfaces, 1 relationships"), output);
+        assertTrue(output.contains("use case diagram, 1 actors, 1 use cases, 0 associations"), output);
+    }
+
+    /**
+     * Tests that valid diagrams pass and inconsistent ones are reported with exit code 1.
+     */
+    @Test
+    void testValidateReportsProblems() throws IOException {
+        assertEquals(0, run("validate", classFile.toString(), useCaseFile.toString()));
+
+        ClassDiagramD broken = new ClassDiagramD();
+        broken.getClasses().add(new UMLClassBox("A", 0, 0, new ArrayList<>(), new ArrayList<>()));
+        broken.getRelationships().add(new UMLRelationship("Association", "A", "Missing", "x", "1", "1"));
+        Path brokenFile = tempDir.resolve("broken.json");
+        new ClassDiagramSerializer().serialize(broken, brokenFile.toFile());
+
+        assertEquals(1, run("validate", brokenFile.toString()));
+        assertTrue(output().contains("Relationship to a missing element"));
+    }
+
+    /**
+     * Tests that converting to the compressed format and back preserves the diagram.
+     */
+    @Test
+    void testConvertRoundTrip() throws IOException {
+        Path compressed = tempDir.resolve("out/shapes" + BlockDeflateCodec.FILE_EXTENSION);
+        Path plain = tempDir.resolve("out/shapes.json");
+
+        assertEquals(0, run("convert", classFile.toString(), compressed.toString()));
+        assertTrue(BlockDeflateCodec.isCompressed(Files.readAllBytes(compressed)));
+        assertEquals(0, run("convert", compressed.toString(), plain.toString()));
+
+        ClassDiagramD restored = new ClassDiagramSerializer().deserialize(Files.readAllBytes(plain));
+        assertEquals(2, restored.getClasses().size());
+        assertEquals(List.of("- radius: double"), restored.getClasses().get(1).getAttributes());
+    }
+
+    /**
+     * Tests that the layout places the supertype above its subtype and separates the use case diagram objects.
+     */
+    @Test
+    void testLayoutArrangesElements() throws IOException {
+        Path laidOut = tempDir.resolve("laid-out.json");
+        assertEquals(0, run("layout", classFile.toString(), laidOut.toString()));
+
+        ClassDiagramD diagram = new ClassDiagramSerializer().deserialize(Files.readAllBytes(laidOut));
+        assertTrue(diagram.getClasses().get(0).getY() < diagram.getClasses().get(1).getY());
+
+        Path useCasesLaidOut = tempDir.resolve("shop-laid-out.json");
+        assertEquals(0, run("layout", useCaseFile.toString(), useCasesLaidOut.toString()));
+        UseCaseDiagramManager useCases = UseCaseDiagramSerializer.loadDiagram(Files.readAllBytes(useCasesLaidOut));
+        assertNotEquals(useCases.getObjects().get(0).getX(), useCases.getObjects().get(1).getX());
+    }
+
+    /**
+     * Tests that diagrams are exported and code is generated in the requested languages.
+     */
+    @Test
+    void testExportAndCodegen() throws IOException {
+        Path svg = tempDir.resolve("shop.svg");
+        assertEquals(0, run("export", useCaseFile.toString(), svg.toString(), "--scale", "2"));
+        assertTrue(Files.readString(svg).contains("<svg"));
+
+        Path sources = tempDir.resolve("generated");
+        assertEquals(0, run("codegen", classFile.toString(), sources.toString(), "--package", "geo"));
+        assertTrue(Files.readString(sources.resolve("geo/Circle.java")).contains("class Circle"));
+
+        assertEquals(0, run("codegen", classFile.toString(), sources.toString(), "--language", "kotlin,cpp"));
+        assertTrue(output().contains("Circle.kt"));
+
+        assertEquals(1, run("codegen", useCaseFile.toString(), sources.toString()));
+    }
+
+    /**
+     * Tests that the structural changes between two versions are listed, with exit code 1 if there are any.
+     */
+    @Test
+    void testDiffListsChanges() throws IOException {
+        assertEquals(0, run("diff", classFile.toString(), classFile.toString()));
+        assertTrue(output().contains("no changes"));
+
+        ClassDiagramSerializer serializer = new ClassDiagramSerializer();
+        ClassDiagramD edited = serializer.deserialize(classFile.toFile());
+        edited.getClasses().get(1).setX(40);
+        Path after = tempDir.resolve("after.json");
+        serializer.serialize(edited, after.toFile());
+
+        assertEquals(1, run("diff", classFile.toString(), after.toString()));
+        assertTrue(output().contains("MOVED Circle: (500, 500) -> (40, 500)"));
+        assertTrue(output().contains("1 MOVED"));
+        assertEquals(1, run("diff", classFile.toString(), useCaseFile.toString()));
+    }
+
+    /**
+     * Tests that two copies edited offline are merged through their sidecars, keeping the changes of both.
+     */
+    @Test
+    void testCrdtMergeCombinesOfflineCopies() throws IOException {
+        ClassDiagramSerializer serializer = new ClassDiagramSerializer();
+        ClassDiagramCrdtSerializer crdtSerializer = new ClassDiagramCrdtSerializer();
+        ClassDiagramD base = serializer.deserialize(classFile.toFile());
+        crdtSerializer.update(base, classFile.toFile(), "base");
+        Path ours = tempDir.resolve("ours.json");
+        Path theirs = tempDir.resolve("theirs.json");
+        for (Path copy : List.of(ours, theirs)) {
+            Files.copy(classFile, copy);
+            Files.copy(ClassDiagramCrdtSerializer.sidecarOf(classFile.toFile()).toPath(),
+                    ClassDiagramCrdtSerializer.sidecarOf(copy.toFile()).toPath());
+        }
+
+        ClassDiagramD ourEdit = serializer.deserialize(ours.toFile());
+        ourEdit.getClasses().get(1).setX(40);
+        serializer.serialize(ourEdit, ours.toFile());
+        ClassDiagramD theirEdit = serializer.deserialize(theirs.toFile());
+        theirEdit.getClasses().get(0).setName("Figure");
+        theirEdit.getRelationships().get(0).setEndElementName("Figure");
+        theirEdit.getClasses().add(new UMLClassBox("Square", 0, 0, new ArrayList<>(), new ArrayList<>()));
+        serializer.serialize(theirEdit, theirs.toFile());
+
+        Path merged = tempDir.resolve("merged.json");
+        assertEquals(0, run("crdt-merge", ours.toString(), theirs.toString(), merged.toString()));
+
+        ClassDiagramD result = serializer.deserialize(merged.toFile());
+        assertEquals(List.of("Circle", "Figure", "Square"),
+                result.getClasses().stream().map(UMLClassBox::getName).sorted().toList());
+        assertEquals(40, result.getClasses().stream().filter(c -> c.getName().equals("Circle")).findFirst()
+                .orElseThrow().getX());
+        assertEquals(1, result.getRelationships().size());
+        assertEquals("Figure", result.getRelationships().get(0).getEndElementName());
+        assertTrue(ClassDiagramCrdtSerializer.sidecarOf(merged.toFile()).isFile());
+        assertEquals(1, run("crdt-merge", ours.toString(), useCaseFile.toString(), merged.toString()));
+    }
+
+    /**
+     * Tests that the merge command merges into "ours" like a git merge driver, with exit code 1 on conflicts.
+     */
+    @Test
+    void testMergeWorksAsMergeDriver() throws IOException {
+        ClassDiagramSerializer serializer = new ClassDiagramSerializer();
+        Path ours = tempDir.resolve("ours.json");
+        Path theirs = tempDir.resolve("theirs.json");
+        ClassDiagramD ourEdit = serializer.deserialize(classFile.toFile());
+        ourEdit.getClasses().get(1).setX(40);
+        serializer.serialize(ourEdit, ours.toFile());
+        ClassDiagramD theirEdit = serializer.deserialize(classFile.toFile());
+        theirEdit.getClasses().add(new UMLClassBox("Square", 0, 0, new ArrayList<>(), new ArrayList<>()));
+        serializer.serialize(theirEdit, theirs.toFile());
+
+        assertEquals(0, run("merge", classFile.toString(), ours.toString(), theirs.toString()));
+        ClassDiagramD merged = serializer.deserialize(ours.toFile());
+        assertEquals(3, merged.getClasses().size());
+        assertEquals(40, merged.getClasses().get(1).getX());
+
+        theirEdit.getClasses().get(1).setX(60);
+        serializer.serialize(theirEdit, theirs.toFile());
+        Path output = tempDir.resolve("merged.json");
+        assertEquals(1, run("merge", classFile.toString(), ours.toString(), theirs.toString(), output.toString()));
+        assertTrue(output().contains("CONFLICT Circle: position changed on both sides: (40, 500) vs (60, 500)"));
+        assertEquals(1, run("merge", classFile.toString(), ours.toString(), useCaseFile.toString()));
+    }
+
+    /**
+     * Tests that invalid arguments print the usage message with exit code 2.
+     */
+    @Test
+    void testRejectsInvalidArguments() {
+        assertEquals(2, run());
+        assertEquals(2, run("convert", classFile.toString()));
+        assertEquals(2, run("export", classFile.toString(), "out.png", "--scale", "big"));
+        assertEquals(2, run("codegen", classFile.toString(), "out", "--language", "cobol"));
+        assertEquals(2, run("render", classFile.toString()));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(DiagramCli.USAGE));
+    }
+
+    private int run(String... args) {
+        return DiagramCli.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ClassDiagramCrdt} class.
+ * <p>
+ * These tests edit two copies of a diagram independently and verify that merging them in either direction produces
+ * the same diagram, that renames keep the identity of elements and their relationships, and that only unseen changes
+ * are exchanged.
+ * </p>
+ */
+class ClassDiagramCrdtTest {
+
+    private ClassDiagramCrdt base;
+
+    @BeforeEach
+    void setUp() {
+        ClassDiagramD diagram = new ClassDiagramD();
+        diagram.getClasses().add(classBox("Order", 0, 0, "- id : int"));
+        diagram.getClasses().add(classBox("Customer", 200, 0, "- name : String"));
+        UMLInterfaceBox payable = new UMLInterfaceBox();
+        payable.setName("Payable");
+        payable.setMethods(new ArrayList<>(List.of("+ pay() : void")));
+        diagram.getInterfaces().add(payable);
+        diagram.getRelationships().add(new UMLRelationship("Association", "Order", "Customer", "placedBy", "*", "1"));
+        base = new ClassDiagramCrdt();
+        base.update(diagram, "base");
+    }
+
+    private static UMLClassBox classBox(String name, double x, double y, String... attributes) {
+        return new UMLClassBox(name, x, y, new ArrayList<>(List.of(attributes)), new ArrayList<>());
+    }
+
+    private static ClassDiagramCrdt copy(ClassDiagramCrdt crdt) {
+        ClassDiagramCrdt copy = new ClassDiagramCrdt();
+        copy.merge(crdt.delta(Map.of()));
+        return copy;
+    }
+
+    private static UMLClassBox find(ClassDiagramD diagram, String name) {
+        return diagram.getClasses().stream().filter(c -> c.getName().equals(name)).findFirst().orElse(null);
+    }
+
+    private static String describe(ClassDiagramD diagram) {
+        StringBuilder text = new StringBuilder();
+        diagram.getClasses().stream().map(c -> c.getName() + "@" + c.getX() + "," + c.getY() + c.getAttributes())
+                .sorted().forEach(line -> text.append(line).append('\n'));
+        diagram.getInterfaces().stream().map(UMLInterfaceBox::getName).sorted()
+                .forEach(line -> text.append(line).append('\n'));
+        diagram.getRelationships().stream().map(UMLRelationship::identityKey).sorted()
+                .forEach(line -> text.append(line).append('\n'));
+        return text.toString();
+    }
+
+    /**
+     * Tests that the representation reproduces the recorded diagram.
+     */
+    @Test
+    void testToDiagramReproducesRecordedDiagram() {
+        ClassDiagramD diagram = base.toDiagram();
+
+        assertEquals(2, diagram.getClasses().size());
+        assertEquals(List.of("- name : String"), find(diagram, "Customer").getAttributes());
+        assertEquals(List.of("+ pay() : void"), diagram.getInterfaces().get(0).getMethods());
+        assertEquals("*", diagram.getRelationships().get(0).getStartMultiplicity());
+        assertEquals(0, base.update(diagram, "base"));
+    }
+
+    /**
+     * Tests that concurrent edits of different registers are all kept and that merging is commutative.
+     */
+    @Test
+    void testConcurrentEditsMergeInEitherOrder() {
+        ClassDiagramCrdt ours = copy(base);
+        ClassDiagramCrdt theirs = copy(base);
+
+        ClassDiagramD ourDiagram = ours.toDiagram();
+        find(ourDiagram, "Order").setX(50);
+        ourDiagram.getClasses().add(classBox("Invoice", 400, 0));
+        ours.update(ourDiagram, "ours");
+
+        ClassDiagramD theirDiagram = theirs.toDiagram();
+        find(theirDiagram, "Order").setAttributes(new ArrayList<>(List.of("- id : long")));
+        theirDiagram.getRelationships().get(0).setEndMultiplicity("0..1");
+        theirs.update(theirDiagram, "theirs");
+
+        ClassDiagramCrdt left = copy(ours);
+        left.merge(theirs.delta(left.getVersions()));
+        ClassDiagramCrdt right = copy(theirs);
+        right.merge(ours.delta(right.getVersions()));
+
+        ClassDiagramD merged = left.toDiagram();
+        assertEquals(describe(merged), describe(right.toDiagram()));
+        assertEquals(50, find(merged, "Order").getX());
+        assertEquals(List.of("- id : long"), find(merged, "Order").getAttributes());
+        assertNotNull(find(merged, "Invoice"));
+        assertEquals("0..1", merged.getRelationships().get(0).getEndMultiplicity());
+    }
+
+    /**
+     * Tests that a renamed element keeps its identity, so a concurrent move and its relationships follow it.
+     */
+    @Test
+    void testRenameKeepsIdentity() {
+        ClassDiagramCrdt ours = copy(base);
+        ClassDiagramCrdt theirs = copy(base);
+
+        ClassDiagramD ourDiagram = ours.toDiagram();
+        find(ourDiagram, "Customer").setName("Client");
+        ourDiagram.getRelationships().get(0).setEndElementName("Client");
+        assertEquals(1, ours.update(ourDiagram, "ours"));
+
+        ClassDiagramD theirDiagram = theirs.toDiagram();
+        find(theirDiagram, "Customer").setY(300);
+        theirs.update(theirDiagram, "theirs");
+
+        ours.merge(theirs.delta(ours.getVersions()));
+        ClassDiagramD merged = ours.toDiagram();
+
+        assertNull(find(merged, "Customer"));
+        assertEquals(300, find(merged, "Client").getY());
+        assertEquals("Client", merged.getRelationships().get(0).getEndElementName());
+    }
+
+    /**
+     * Tests that an element edited in one copy and removed in the other is kept, while an unedited removal wins.
+     */
+    @Test
+    void testConcurrentEditWinsOverRemoval() {
+        ClassDiagramCrdt ours = copy(base);
+        ClassDiagramCrdt theirs = copy(base);
+
+        ClassDiagramD ourDiagram = ours.toDiagram();
+        ourDiagram.getClasses().removeIf(c -> c.getName().equals("Customer") || c.getName().equals("Order"));
+        ourDiagram.getRelationships().clear();
+        ours.update(ourDiagram, "ours");
+
+        ClassDiagramD theirDiagram = theirs.toDiagram();
+        theirDiagram.getClasses().removeIf(c -> c.getName().equals("Customer"));
+        theirDiagram.getRelationships().clear();
+        theirDiagram.getClasses().add(classBox("Customer", 10, 10, "- email : String"));
+        theirs.update(theirDiagram, "theirs");
+
+        ours.merge(theirs.delta(ours.getVersions()));
+        theirs.merge(ours.delta(theirs.getVersions()));
+
+        ClassDiagramD merged = ours.toDiagram();
+        assertEquals(describe(merged), describe(theirs.toDiagram()));
+        assertNull(find(merged, "Order"));
+        assertEquals(List.of("- email : String"), find(merged, "Customer").getAttributes());
+        assertTrue(merged.getRelationships().isEmpty());
+    }
+
+    /**
+     * Tests that a delta contains only the elements changed since the given versions and that applying it twice has
+     * no further effect.
+     */
+    @Test
+    void testDeltaContainsOnlyUnseenChanges() {
+        ClassDiagramD large = base.toDiagram();
+        for (int i = 0; i < 500; i++) {
+            large.getClasses().add(classBox("Type" + i, i, i));
+        }
+        base.update(large, "base");
+        ClassDiagramCrdt ours = copy(base);
+        Map<String, Long> seen = base.getVersions();
+
+        ClassDiagramD edited = ours.toDiagram();
+        find(edited, "Type42").setX(1000);
+        ours.update(edited, "ours");
+        ClassDiagramCrdt delta = ours.delta(seen);
+
+        assertEquals(1, delta.size());
+        assertEquals(1, base.merge(delta));
+        assertEquals(0, base.merge(delta));
+        assertEquals(1000, find(base.toDiagram(), "Type42").getX());
+        assertEquals(0, ours.delta(base.getVersions()).size());
+    }
+
+    /**
+     * Tests that changes recorded or merged after a delta was extracted are found by later extractions, exactly as
+     * by a copy extracting its first delta.
+     */
+    @Test
+    void testDeltaFindsChangesAfterEarlierExtraction() {
+        ClassDiagramCrdt ours = copy(base);
+        assertEquals(4, ours.delta(Map.of()).size());
+        Map<String, Long> seen = ours.getVersions();
+
+        ClassDiagramD edited = ours.toDiagram();
+        find(edited, "Order").setY(300);
+        edited.getClasses().remove(find(edited, "Customer"));
+        edited.getClasses().add(classBox("Invoice", 0, 100));
+        ours.update(edited, "ours");
+        ClassDiagramCrdt theirs = copy(base);
+        ClassDiagramD theirDiagram = theirs.toDiagram();
+        theirDiagram.getInterfaces().get(0).getMethods().add("+ refund() : void");
+        theirs.update(theirDiagram, "theirs");
+        ours.merge(theirs.delta(ours.getVersions()));
+
+        ClassDiagramCrdt delta = ours.delta(seen);
+        assertEquals(5, delta.size(), "Order, Customer, Invoice, Payable and the removed association");
+        assertEquals(copy(ours).delta(seen).size(), delta.size());
+        base.merge(delta);
+        assertEquals(describe(ours.toDiagram()), describe(base.toDiagram()));
+    }
+
+    /**
+     * Tests that elements added under the same name in both copies with different content are merged into one.
+     */
+    @Test
+    void testSameNameAddedInBothCopiesIsOneElement() {
+        ClassDiagramCrdt ours = copy(base);
+        ClassDiagramCrdt theirs = copy(base);
+        ClassDiagramD ourDiagram = ours.toDiagram();
+        ourDiagram.getClasses().add(classBox("Invoice", 0, 100));
+        ours.update(ourDiagram, "ours");
+        ClassDiagramD theirDiagram = theirs.toDiagram();
+        theirDiagram.getClasses().add(classBox("Invoice", 0, 200, "- total : double"));
+        theirs.update(theirDiagram, "theirs");
+
+        ours.merge(theirs.delta(ours.getVersions()));
+
+        assertEquals(1, ours.toDiagram().getClasses().stream().filter(c -> c.getName().equals("Invoice")).count());
+    }
+}
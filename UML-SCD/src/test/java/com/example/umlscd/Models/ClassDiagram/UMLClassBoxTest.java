@@ -173,4 +173,30 @@ class UMLClassBoxTest {
         assertNotNull(newBox.getMethods(), "Methods list should be initialized");
         assertTrue(newBox.getMethods().isEmpty(), "Methods list should be empty initially");
     }
+
+    /**
+     * Verifies that parsed members are cached until the member texts change.
+     * <p>
+     * This test checks that repeated calls return the same parsed list, that edits made directly to the attribute
+     * list are picked up, and that the parsed members are not written to diagram files.
+     * </p>
+     */
+    @Test
+    void testParsedMembersAreCachedAndNotSerialized() throws Exception {
+        UMLClassBox box = new UMLClassBox("Order", 0, 0,
+                new java.util.ArrayList<>(List.of("- id : int")), new java.util.ArrayList<>(List.of("+ total(): double")));
+
+        List<UMLAttribute> attributes = box.getParsedAttributes();
+        assertSame(attributes, box.getParsedAttributes(), "Unchanged attributes should not be parsed again");
+        assertEquals("id", attributes.get(0).getName());
+        assertEquals("double", box.getParsedMethods().get(0).getReturnType());
+
+        box.getAttributes().add("+ customer : Customer");
+        assertEquals(2, box.getParsedAttributes().size(), "Edited attributes should be parsed again");
+        assertEquals("Customer", box.getParsedAttributes().get(1).getType());
+
+        String json = new com.fasterxml.jackson.databind.ObjectMapper().writeValueAsString(box);
+        assertFalse(json.contains("parsed"), "Parsed members should not be serialized");
+        assertTrue(json.contains("\"+ customer : Customer\""), "Members should still be stored as text");
+    }
 }
@@ -0,0 +1,93 @@
+package com.example.umlscd.Models.ClassDiagram;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UMLMemberParser} class.
+ * <p>
+ * This class verifies that attributes and method signatures written by the editors are parsed into their parts, and
+ * that text which does not follow the notation is parsed tolerantly with its problems reported, also for whole member
+ * lists as typed in the editors.
+ * </p>
+ */
+class UMLMemberParserTest {
+
+    /**
+     * Tests parsing attributes in the notations written by the editors and the sample diagrams.
+     */
+    @Test
+    void testParsesAttributes() {
+        UMLAttribute attribute = UMLMemberParser.parseAttribute("-total : double");
+        assertEquals("-", attribute.getVisibility());
+        assertEquals("total", attribute.getName());
+        assertEquals("double", attribute.getType());
+        assertTrue(attribute.isValid());
+
+        UMLAttribute generic = UMLMemberParser.parseAttribute("+ items: Map<String, Integer>");
+        assertEquals("items", generic.getName());
+        assertEquals("Map<String, Integer>", generic.getType());
+
+        UMLAttribute packaged = UMLMemberParser.parseAttribute("count : int");
+        assertEquals("", packaged.getVisibility());
+        assertEquals("count", packaged.getName());
+    }
+
+    /**
+     * Tests parsing method signatures with parameters in either notation and generic types.
+     */
+    @Test
+    void testParsesMethods() {
+        UMLMethod method =
+                UMLMemberParser.parseMethod("+ save(id:int, values: Map<String, List<Integer>>, String note): void");
+        assertEquals("+", method.getVisibility());
+        assertEquals("save", method.getName());
+        assertEquals("void", method.getReturnType());
+        assertEquals(3, method.getParameters().size());
+        assertEquals("Map<String, List<Integer>>", method.getParameters().get(1).getType());
+        assertEquals("note", method.getParameters().get(2).getName());
+        assertEquals("String", method.getParameters().get(2).getType());
+        assertEquals("id:int, values:Map<String, List<Integer>>, note:String", method.getParameterText());
+        assertTrue(method.isValid());
+
+        UMLMethod noReturnType = UMLMemberParser.parseMethod("method1()");
+        assertEquals("method1", noReturnType.getName());
+        assertEquals("void", noReturnType.getReturnType());
+        assertTrue(noReturnType.getParameters().isEmpty());
+        assertTrue(noReturnType.isValid());
+
+        UMLMethod legacy = UMLMemberParser.parseMethod("#reset::boolean");
+        assertEquals("reset", legacy.getName());
+        assertEquals("boolean", legacy.getReturnType());
+    }
+
+    /**
+     * Tests that malformed members are parsed without exceptions and their problems reported.
+     */
+    @Test
+    void testReportsProblems() {
+        assertEquals(List.of("Missing type"), UMLMemberParser.parseAttribute("+ name").getProblems());
+        assertEquals(List.of("Missing attribute name", "Missing type"), UMLMemberParser.parseAttribute("").getProblems());
+        assertEquals(List.of("Missing ')'"), UMLMemberParser.parseMethod("+ open(a: int").getProblems());
+        assertEquals(List.of("Parameter 'a' has no type"), UMLMemberParser.parseMethod("+ open(a): void").getProblems());
+        assertEquals(List.of("Missing method name"), UMLMemberParser.parseMethod("+ (): int").getProblems());
+        assertFalse(UMLMemberParser.parseMethod(null).isValid());
+        assertEquals("protected", UMLMemberParser.visibilityKeyword("#"));
+        assertEquals("", UMLMemberParser.visibilityKeyword("~"));
+    }
+
+    /**
+     * Tests that the problems of member lists are reported per line, prefixed with the line, skipping blank lines.
+     */
+    @Test
+    void testReportsProblemsOfMemberLines() {
+        assertEquals(List.of("+ name: Missing type"),
+                UMLMemberParser.attributeProblems("- id : int\n\n  + name  \n"));
+        assertEquals(List.of("+ open(a): Parameter 'a' has no type", "+ (): int: Missing method name"),
+                UMLMemberParser.methodProblems("+ open(a)\n+ close(): void\n+ (): int"));
+        assertTrue(UMLMemberParser.methodProblems("").isEmpty());
+    }
+}